@@ -1,22 +1,41 @@
 package com.safetyhub.adapter.simulator;
 
+import com.safetyhub.adapter.simulator.engine.ProximityMonitor;
 import com.safetyhub.adapter.simulator.engine.RobotBehaviorEngine;
+import com.safetyhub.adapter.simulator.engine.TickScheduler;
+import com.safetyhub.adapter.simulator.engine.VirtualClock;
 import com.safetyhub.adapter.simulator.event.EventGenerator;
 import com.safetyhub.adapter.simulator.event.SimulationEvent;
+import com.safetyhub.adapter.simulator.event.SimulationEventBus;
+import com.safetyhub.adapter.simulator.event.SimulationEventRecorder;
 import com.safetyhub.adapter.simulator.robot.Position;
 import com.safetyhub.adapter.simulator.robot.RobotState;
+import com.safetyhub.adapter.simulator.robot.RobotStateStore;
 import com.safetyhub.adapter.simulator.robot.RobotWorker;
 import com.safetyhub.adapter.simulator.robot.ZoneType;
 import com.safetyhub.adapter.simulator.scenario.SimulationScenario;
+import com.safetyhub.adapter.simulator.snapshot.SnapshotIO;
 import com.safetyhub.adapter.simulator.world.SimulationZone;
 import com.safetyhub.adapter.simulator.world.VirtualWorld;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.time.Clock;
 import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.ZoneOffset;
 import java.util.*;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -26,6 +45,26 @@ import java.util.function.Consumer;
 /**
  * 로봇 시뮬레이션 서비스
  * 가상 공장 환경에서 로봇 작업자들의 행동을 시뮬레이션
+ *
+ * 틱 처리 (step):
+ * 1. 행동 결정 - 로봇을 ID 해시로 고정 샤드에 나누어 워커 스레드에서 병렬 실행
+ *    평상시 로봇은 상태 저장소(RobotStateStore)에서 직접 갱신, 그 외는 RobotWorker로 결정만 함
+ * 2. 배리어 - 모든 샤드 완료 대기
+ * 3. 조정/반영 - 예약 테이블을 쓰는 이동과 세계 반영을 robotId 순으로 순차 실행
+ * 4. 이벤트 생성/발행 - robotId 순으로 순차 실행
+ *
+ * 틱 단위 버퍼(슬롯 순서, 샤드, 난수 생성기)는 로봇 추가/제거 전까지 재사용하므로
+ * 평상시 틱은 로봇 수에 비례하는 객체 생성이 거의 없음 (틱당 할당량은 SimulationMetrics 참고)
+ *
+ * 난수는 (시드, 로봇 ID, 틱)으로 정해지고 조정/발행 순서도 고정이므로
+ * 같은 시드면 스레드 수와 관계없이 같은 로봇 상태와 이벤트 순서가 나옴
+ *
+ * 실행 방식:
+ * - 실시간 (start) - TickScheduler가 100ms마다 틱 실행, 이벤트 시각은 시스템 시계 기준
+ *   실시간보다 늦어지면 위치 업데이트 비율을 낮추고 하트비트를 미룸 (지연/초과 횟수는 SimulationMetrics)
+ * - 헤드리스 (runHeadless) - 스케줄러 없이 최대 속도로 틱 실행, 가상 시계를 틱마다 100ms씩 진행
+ *
+ * 이벤트 리스너는 SimulationEventBus로 리스너별 큐와 전달 스레드에서 호출되므로 틱은 큐에 넣기만 함
  */
 @Slf4j
 @Service
@@ -34,9 +73,12 @@ public class RobotSimulationService {
     @Getter
     private VirtualWorld world;
     private RobotBehaviorEngine behaviorEngine;
+    private long lastReplanCount;  // 직전 틱까지 기록한 경로 탐색 횟수
     private EventGenerator eventGenerator;
+    private ProximityMonitor proximityMonitor;
 
-    private ScheduledExecutorService scheduler;
+    private TickScheduler scheduler;
+    private boolean heartbeatDue;  // 늦어져서 미룬 하트비트
     private final AtomicBoolean running = new AtomicBoolean(false);
     private final AtomicLong tickCount = new AtomicLong(0);
 
@@ -44,24 +86,94 @@ public class RobotSimulationService {
     private LocalDateTime simulationStartTime;
     private LocalTime simulationTime;
 
-    // 이벤트 리스너
-    private final List<Consumer<SimulationEvent>> eventListeners = new CopyOnWriteArrayList<>();
+    // 이벤트 리스너 (리스너별 큐 + 전달 스레드)
+    private final SimulationEventBus eventBus = new SimulationEventBus();
+    private final AtomicLong listenerIndex = new AtomicLong(0);
+
+    // 이벤트 로그 기록기 (startRecording ~ stopRecording, this로 보호)
+    private SimulationEventRecorder recorder;
 
     // 메트릭
     @Getter
-    private final SimulationMetrics metrics = new SimulationMetrics();
+    private final SimulationMetrics metrics = new SimulationMetrics(eventBus);
 
     // 틱 간격 (ms)
     private static final long DEFAULT_TICK_INTERVAL = 100;
 
+    // 하트비트 간격 (ms)
+    private static final long HEARTBEAT_INTERVAL = 5000;
+    private static final long HEARTBEAT_TICKS = HEARTBEAT_INTERVAL / DEFAULT_TICK_INTERVAL;
+
+    // 이 이상 밀리면 따라잡지 않고 틱을 건너뜀 (틱 수)
+    private static final int MAX_LAG_TICKS = 10;
+
+    // 리스너 큐 기본 크기
+    private static final int DEFAULT_LISTENER_CAPACITY = 10_000;
+
+    // 기록기 큐 크기와 기록 중지 시 남은 이벤트 기록 대기 시간
+    private static final int RECORDER_CAPACITY = 100_000;
+    private static final Duration RECORDER_DRAIN_TIMEOUT = Duration.ofSeconds(30);
+
+    // 헤드리스 실행 종료 시 리스너 전달 완료 대기 시간
+    private static final Duration HEADLESS_DRAIN_TIMEOUT = Duration.ofSeconds(30);
+
+    // 헤드리스 실행의 가상 시계 시작 시각
+    private static final Instant HEADLESS_EPOCH = Instant.parse("2024-01-01T08:00:00Z");
+
+    // 행동 결정 샤드 수 (스레드 수와 무관하게 고정)
+    private static final int SHARD_COUNT = 64;
+
+    // 스냅샷 입출력 버퍼 크기
+    private static final int SNAPSHOT_BUFFER_SIZE = 1 << 16;
+
+    private final long seed;
+    private final int parallelism;
+    private ExecutorService workers;
+
+    // 틱 버퍼 (상태 저장소 슬롯 배치가 바뀔 때만 다시 만듦)
+    private long bufferLayoutVersion = -1;
+    private int[] order = new int[0];                 // robotId 순 슬롯 번호
+    private List<int[]> shards = List.of();           // 샤드별 슬롯 번호
+    private Random[] randoms = new Random[0];         // 슬롯별 난수 생성기 (틱마다 setSeed)
+    private RobotBehaviorEngine.TickDecision[] decisions = new RobotBehaviorEngine.TickDecision[0];
+
+    // 틱 중에 생긴 이벤트 (저장소 잠금을 푼 뒤 발행)
+    private final List<SimulationEvent> tickEvents = new ArrayList<>();
+    private final Consumer<SimulationEvent> collector = tickEvents::add;
+
+    // 시계 (헤드리스 실행 중에는 가상 시계, 이벤트 ID도 (시드, 순번)으로 다시 찍음)
+    private Clock clock = Clock.systemDefaultZone();
+    private boolean headless;
+    private long eventSequence;
+
+    public RobotSimulationService() {
+        this(System.nanoTime(), Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * @param seed        난수 시드 (같은 시드면 같은 결과)
+     * @param parallelism 행동 결정 워커 스레드 수 (1이면 틱 스레드에서 직접 실행)
+     */
+    public RobotSimulationService(long seed, int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("parallelism은 0보다 커야 합니다");
+        }
+        this.seed = seed;
+        this.parallelism = parallelism;
+    }
+
     /**
      * 시뮬레이션 초기화
      */
     public void initialize() {
         this.world = new VirtualWorld("FACTORY-001");
-        this.behaviorEngine = new RobotBehaviorEngine(world);
+        this.behaviorEngine = new RobotBehaviorEngine(world, new Random(seed));
         this.eventGenerator = new EventGenerator(world);
-        log.info("Simulation initialized");
+        this.proximityMonitor = new ProximityMonitor();
+        this.simulationTime = LocalTime.of(8, 0);
+        this.tickCount.set(0);
+        this.lastReplanCount = 0;
+        log.info("Simulation initialized (seed: {}, parallelism: {})", seed, parallelism);
     }
 
     /**
@@ -89,18 +201,22 @@ public class RobotSimulationService {
     /**
      * 로봇 생성
      */
-    private void createRobots(int count) {
-        List<SimulationZone> workZones = world.getZonesByType(ZoneType.WORK_AREA);
+    void createRobots(int count) {
+        List<SimulationZone> workZones = world.getZonesByType(ZoneType.WORK_AREA).stream()
+                .sorted(Comparator.comparing(SimulationZone::getZoneId))
+                .toList();
+        Random random = new Random(seed);
 
         for (int i = 0; i < count; i++) {
             // 작업 구역에 균등 배치
             SimulationZone zone = workZones.get(i % workZones.size());
-            Position position = zone.getRandomPosition();
+            Position position = zone.getRandomPosition(random);
 
             RobotWorker robot = RobotWorker.create(
                     "Worker-" + (i + 1),
                     zone.getZoneId(),
-                    position
+                    position,
+                    random
             );
 
             // 초기 상태를 WORKING으로 설정
@@ -115,27 +231,35 @@ public class RobotSimulationService {
      * 시뮬레이션 시작
      */
     public void start() {
+        start(true);
+    }
+
+    /**
+     * 스냅샷 상태에서 실시간 시뮬레이션 이어서 시작
+     */
+    public void startFromSnapshot(InputStream snapshot) throws IOException {
+        readSnapshot(snapshot);
+        start(false);
+    }
+
+    private void start(boolean resetClock) {
         if (running.compareAndSet(false, true)) {
-            simulationStartTime = LocalDateTime.now();
-            simulationTime = LocalTime.of(8, 0);  // 오전 8시 시작
-            tickCount.set(0);
+            simulationStartTime = LocalDateTime.now(clock);
+            if (resetClock) {
+                simulationTime = LocalTime.of(8, 0);  // 오전 8시 시작
+                tickCount.set(0);
+            }
+            heartbeatDue = false;
             metrics.reset();
 
-            scheduler = Executors.newScheduledThreadPool(2);
-            scheduler.scheduleAtFixedRate(
+            scheduler = new TickScheduler(
+                    "simulation-tick",
+                    Duration.ofMillis(DEFAULT_TICK_INTERVAL),
+                    MAX_LAG_TICKS,
                     this::tick,
-                    0,
-                    DEFAULT_TICK_INTERVAL,
-                    TimeUnit.MILLISECONDS
-            );
-
-            // 하트비트 (5초마다)
-            scheduler.scheduleAtFixedRate(
-                    this::sendHeartbeats,
-                    0,
-                    5000,
-                    TimeUnit.MILLISECONDS
+                    metrics::recordScheduling
             );
+            scheduler.start();
 
             log.info("Simulation started");
         }
@@ -147,16 +271,10 @@ public class RobotSimulationService {
     public void stop() {
         if (running.compareAndSet(true, false)) {
             if (scheduler != null) {
-                scheduler.shutdown();
-                try {
-                    if (!scheduler.awaitTermination(5, TimeUnit.SECONDS)) {
-                        scheduler.shutdownNow();
-                    }
-                } catch (InterruptedException e) {
-                    scheduler.shutdownNow();
-                    Thread.currentThread().interrupt();
-                }
+                scheduler.stop(5, TimeUnit.SECONDS);
+                scheduler = null;
             }
+            shutdownWorkers();
 
             log.info("Simulation stopped. Total ticks: {}, Events: {}",
                     tickCount.get(), metrics.getTotalEvents());
@@ -164,44 +282,327 @@ public class RobotSimulationService {
     }
 
     /**
-     * 시뮬레이션 틱
+     * 헤드리스 실행 (시나리오 기간만큼의 틱을 실시간 대기 없이 실행)
+     */
+    public HeadlessReport runHeadless(SimulationScenario scenario) {
+        return runHeadless(scenario, scenario.getDuration().toMillis() / DEFAULT_TICK_INTERVAL);
+    }
+
+    /**
+     * 헤드리스 실행 (지정한 틱 수만큼 실행)
+     * 가상 시계를 틱마다 틱 간격만큼 진행하고 하트비트도 같은 간격(틱 수)으로 보내므로
+     * 실시간 실행과 같은 흐름을 CPU가 허용하는 속도로 재현함
+     * 같은 시드면 이벤트 ID, 시각, 순서까지 같은 이벤트 스트림이 나옴
+     */
+    public HeadlessReport runHeadless(SimulationScenario scenario, long ticks) {
+        return runHeadless(scenario, ticks, null);
+    }
+
+    /**
+     * 스냅샷에서 이어서 헤드리스 실행 (워밍업된 상태에서 벤치마크를 분기)
+     * 가상 시계도 스냅샷의 틱에 해당하는 시각부터 진행하므로, 같은 시드면 원래 헤드리스 실행을 이어 간 것과 같은 이벤트 스트림이 나옴
+     */
+    public HeadlessReport runHeadless(SimulationScenario scenario, byte[] snapshot, long ticks) {
+        return runHeadless(scenario, ticks, Objects.requireNonNull(snapshot, "snapshot"));
+    }
+
+    private HeadlessReport runHeadless(SimulationScenario scenario, long ticks, byte[] snapshot) {
+        if (ticks <= 0) {
+            throw new IllegalArgumentException("ticks는 0보다 커야 합니다");
+        }
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("Simulation already running");
+        }
+
+        VirtualClock virtualClock = new VirtualClock(HEADLESS_EPOCH, ZoneOffset.UTC);
+        Duration tickInterval = Duration.ofMillis(DEFAULT_TICK_INTERVAL);
+        long startNanos;
+        try {
+            clock = virtualClock;
+            headless = true;
+            eventSequence = 0;
+
+            if (snapshot != null) {
+                // 헤드리스 가상 시계는 틱마다 틱 간격만큼 가므로 스냅샷의 틱 수로 시각을 맞춤
+                restoreState(snapshot);
+                virtualClock = new VirtualClock(
+                        HEADLESS_EPOCH.plus(tickInterval.multipliedBy(tickCount.get())), ZoneOffset.UTC);
+                clock = virtualClock;
+            } else {
+                initialize();
+                createRobots(scenario.getRobotCount());
+            }
+            currentScenario = scenario;
+            simulationStartTime = LocalDateTime.now(clock);
+            metrics.reset();
+            log.info("Headless run started: {} ({} robots, {} ticks)",
+                    scenario.getName(), world.getTotalRobotCount(), ticks);
+
+            startNanos = System.nanoTime();
+            for (long i = 0; i < ticks; i++) {
+                if (tickCount.get() % HEARTBEAT_TICKS == 0) {
+                    sendHeartbeats();
+                }
+                step();
+                eventGenerator.discardPending();  // 내부 큐는 소비자가 없으므로 누적되지 않게 비움
+                virtualClock.advance(tickInterval);
+            }
+            if (!flushEvents(HEADLESS_DRAIN_TIMEOUT)) {
+                log.warn("Event listeners did not drain within {}", HEADLESS_DRAIN_TIMEOUT);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("스냅샷을 읽을 수 없습니다", e);
+        } finally {
+            running.set(false);
+            shutdownWorkers();
+            clock = Clock.systemDefaultZone();
+            headless = false;
+        }
+
+        long elapsedNanos = Math.max(1, System.nanoTime() - startNanos);
+        double elapsedSeconds = elapsedNanos / 1_000_000_000.0;
+        HeadlessReport report = HeadlessReport.builder()
+                .scenarioName(scenario.getName())
+                .seed(seed)
+                .ticks(ticks)
+                .totalEvents(metrics.getTotalEvents())
+                .simulatedDuration(tickInterval.multipliedBy(ticks))
+                .elapsedMillis(elapsedNanos / 1_000_000)
+                .ticksPerSecond(ticks / elapsedSeconds)
+                .eventsPerSecond(metrics.getTotalEvents() / elapsedSeconds)
+                .build();
+        log.info("Headless run finished: {} ticks, {} events in {}ms ({} ticks/s, {} events/s)",
+                report.getTicks(), report.getTotalEvents(), report.getElapsedMillis(),
+                Math.round(report.getTicksPerSecond()), Math.round(report.getEventsPerSecond()));
+        return report;
+    }
+
+    /**
+     * 실시간 틱 (TickScheduler에서 호출)
+     * 늦어진 틱에서는 위치 업데이트 비율을 낮추고 하트비트는 늦지 않은 틱까지 미룸
      */
-    private void tick() {
+    private void tick(boolean behind) {
         if (!running.get()) return;
 
+        if (tickCount.get() % HEARTBEAT_TICKS == 0) {
+            heartbeatDue = true;
+        }
+        if (heartbeatDue && !behind) {
+            sendHeartbeats();
+            heartbeatDue = false;
+        }
+
+        eventGenerator.setReducedEmission(behind);
+        step();
+    }
+
+    /**
+     * 한 틱 실행 (스케줄러 없이 직접 호출 가능)
+     */
+    void step() {
         long startTime = System.nanoTime();
-        tickCount.incrementAndGet();
+        long allocatedBefore = threadAllocatedBytes();
+        RobotStateStore store = world.getRobotStates();
+        long behaviorTime;
+        synchronized (store) {
+            // 틱 카운터와 시간도 저장소 잠금 안에서 진행 (스냅샷이 틱 사이 시점만 보도록)
+            long tick = tickCount.incrementAndGet();
+
+            // 시뮬레이션 시간 진행 (1틱 = 1분)
+            simulationTime = simulationTime.plusMinutes(1);
+            if (simulationTime.getHour() >= 17) {
+                simulationTime = LocalTime.of(8, 0);  // 다음 날 시작
+            }
+            LocalTime time = simulationTime;
+
+            // 협력 경로 예약 만료
+            behaviorEngine.beginTick(tick);
+            prepareBuffers(store);
+
+            // 1단계: 샤드별 병렬 행동 결정 (모든 샤드가 끝날 때까지 대기)
+            decideInShards(store, tick, time);
+            behaviorTime = System.nanoTime();
+
+            // 멈춰 있는 로봇의 제자리 대기 예약 (이동 로봇이 계획하기 전에)
+            for (int index : order) {
+                RobotBehaviorEngine.TickDecision decision = decisions[index];
+                if (decision == null) {
+                    if (store.hasPosition(index)) {
+                        behaviorEngine.reserveWait(store.getRobotId(index), store.getX(index), store.getY(index));
+                    }
+                } else if (!decision.needsCoordination()) {
+                    behaviorEngine.reserveWait(decision.robot());
+                }
+            }
+
+            // 2단계: 예약이 필요한 이동 처리 및 세계 반영 (robotId 순)
+            for (int index : order) {
+                RobotBehaviorEngine.TickDecision decision = decisions[index];
+                if (decision == null) {
+                    world.commitInPlaceMove(index);
+                    continue;
+                }
+                try {
+                    RobotWorker robot = decision.needsCoordination()
+                            ? behaviorEngine.coordinate(decision.robot(), time)
+                            : decision.robot();
+                    world.applyRobotUpdate(robot);
+                } catch (Exception e) {
+                    log.error("Error processing robot {}: {}", store.getRobotId(index), e.getMessage());
+                }
+            }
+
+            // 3단계: 이벤트 생성 (robotId 순)
+            for (int index : order) {
+                eventGenerator.generateEvents(store, index, randoms[index], collector);
+            }
 
-        // 시뮬레이션 시간 진행 (1틱 = 1분)
-        simulationTime = simulationTime.plusMinutes(1);
-        if (simulationTime.getHour() >= 17) {
-            simulationTime = LocalTime.of(8, 0);  // 다음 날 시작
+            // 충돌/니어미스 감지 (모든 로봇 이동 후)
+            tickEvents.addAll(proximityMonitor.detect(store, world.getWorkerPositions()));
         }
 
-        // 모든 로봇 업데이트
-        List<RobotWorker> robots = new ArrayList<>(world.getRobots().values());
-        for (RobotWorker robot : robots) {
-            try {
-                // 행동 실행
-                RobotWorker updated = behaviorEngine.tick(robot, simulationTime);
-                world.getRobots().put(robot.getRobotId(), updated);
+        // 발행은 잠금 밖에서 (BLOCK 리스너가 기다리는 동안 스냅샷, 조회가 막히지 않도록)
+        for (SimulationEvent event : tickEvents) {
+            publishEvent(event);
+        }
+        tickEvents.clear();
 
-                // 이벤트 생성
-                List<SimulationEvent> events = eventGenerator.generateEvents(updated);
+        // 메트릭 업데이트
+        long endTime = System.nanoTime();
+        metrics.recordTick((endTime - startTime) / 1_000_000);
+        metrics.recordPhases(behaviorTime - startTime, endTime - behaviorTime);
+        if (allocatedBefore >= 0) {
+            metrics.recordAllocation(threadAllocatedBytes() - allocatedBefore);
+        }
+        long replans = behaviorEngine.getReplanCount();
+        metrics.recordReplans(replans - lastReplanCount);
+        lastReplanCount = replans;
+    }
 
-                // 이벤트 발행
-                for (SimulationEvent event : events) {
-                    publishEvent(event);
+    /**
+     * 행동 결정 단계 (샤드 단위 병렬 실행, 결과는 슬롯별 배열에 기록)
+     * 각 샤드는 서로 다른 슬롯만 쓰므로 잠금이 필요 없고, invokeAll이 배리어 역할을 함
+     */
+    private void decideInShards(RobotStateStore store, long tick, LocalTime time) {
+        List<Callable<Void>> tasks = new ArrayList<>(shards.size());
+        for (int[] shard : shards) {
+            tasks.add(() -> {
+                for (int index : shard) {
+                    Random random = randoms[index];
+                    random.setSeed(RobotBehaviorEngine.tickSeed(seed, store.getRobotId(index), tick));
+                    decisions[index] = null;
+                    try {
+                        if (!behaviorEngine.tickInPlace(store, index, time, random)) {
+                            decisions[index] = behaviorEngine.decide(store.materialize(index), time, random);
+                        }
+                    } catch (Exception e) {
+                        log.error("Error processing robot {}: {}", store.getRobotId(index), e.getMessage());
+                    }
                 }
+                return null;
+            });
+        }
 
-            } catch (Exception e) {
-                log.error("Error processing robot {}: {}", robot.getRobotId(), e.getMessage());
+        if (parallelism == 1 || tasks.size() <= 1) {
+            for (Callable<Void> task : tasks) {
+                try {
+                    task.call();
+                } catch (Exception e) {
+                    log.error("Error in behavior shard: {}", e.getMessage());
+                }
             }
+            return;
         }
 
-        // 메트릭 업데이트
-        long tickDuration = (System.nanoTime() - startTime) / 1_000_000;
-        metrics.recordTick(tickDuration);
+        try {
+            for (Future<Void> future : workers().invokeAll(tasks)) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            log.error("Error in behavior shard: {}", e.getCause().getMessage());
+        }
+    }
+
+    /**
+     * 슬롯 배치가 바뀌었으면 틱 버퍼 재구성 (robotId 순서, ID 해시 기준 고정 샤드)
+     */
+    private void prepareBuffers(RobotStateStore store) {
+        if (store.getLayoutVersion() == bufferLayoutVersion) {
+            return;
+        }
+        int size = store.size();
+
+        order = new int[size];
+        Integer[] sorted = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            sorted[i] = i;
+        }
+        Arrays.sort(sorted, Comparator.comparing(store::getRobotId));
+        for (int i = 0; i < size; i++) {
+            order[i] = sorted[i];
+        }
+
+        int[] shardOf = new int[size];
+        int[] sizes = new int[SHARD_COUNT];
+        for (int i = 0; i < size; i++) {
+            shardOf[i] = Math.floorMod(store.getRobotId(i).hashCode(), SHARD_COUNT);
+            sizes[shardOf[i]]++;
+        }
+        int[][] byShard = new int[SHARD_COUNT][];
+        for (int s = 0; s < SHARD_COUNT; s++) {
+            byShard[s] = new int[sizes[s]];
+        }
+        int[] filled = new int[SHARD_COUNT];
+        for (int i = 0; i < size; i++) {
+            byShard[shardOf[i]][filled[shardOf[i]]++] = i;
+        }
+        List<int[]> nonEmpty = new ArrayList<>();
+        for (int[] shard : byShard) {
+            if (shard.length > 0) {
+                nonEmpty.add(shard);
+            }
+        }
+        shards = nonEmpty;
+
+        randoms = new Random[size];
+        for (int i = 0; i < size; i++) {
+            randoms[i] = new Random();
+        }
+        decisions = new RobotBehaviorEngine.TickDecision[size];
+        bufferLayoutVersion = store.getLayoutVersion();
+    }
+
+    /**
+     * 현재 스레드의 누적 할당 바이트 (지원하지 않는 JVM이면 -1)
+     * 워커 스레드의 할당은 포함되지 않으므로 parallelism=1에서 틱 전체 할당량과 같음
+     */
+    private static long threadAllocatedBytes() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threadBean
+                && threadBean.isThreadAllocatedMemoryEnabled()) {
+            return threadBean.getCurrentThreadAllocatedBytes();
+        }
+        return -1;
+    }
+
+    private ExecutorService workers() {
+        if (workers == null || workers.isShutdown()) {
+            AtomicLong threadIndex = new AtomicLong(0);
+            workers = Executors.newFixedThreadPool(parallelism, runnable -> {
+                Thread thread = new Thread(runnable, "simulation-worker-" + threadIndex.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return workers;
+    }
+
+    private void shutdownWorkers() {
+        if (workers != null) {
+            workers.shutdown();
+            workers = null;
+        }
     }
 
     /**
@@ -222,29 +623,176 @@ public class RobotSimulationService {
      * 이벤트 발행
      */
     private void publishEvent(SimulationEvent event) {
+        if (headless) {
+            event = event.withIdentity(new UUID(seed, ++eventSequence).toString(), LocalDateTime.now(clock));
+        }
         metrics.recordEvent(event.getType());
+        eventBus.publish(event);
+    }
 
-        for (Consumer<SimulationEvent> listener : eventListeners) {
-            try {
-                listener.accept(event);
-            } catch (Exception e) {
-                log.error("Error in event listener: {}", e.getMessage());
-            }
-        }
+    /**
+     * 이벤트 리스너 등록 (기본 큐 크기, 가득 차면 가장 오래된 텔레메트리를 버림 - 틱을 기다리게 하지 않음)
+     * HIGH/CRITICAL 이벤트(긴급, 충돌)는 리스너의 우선 큐로 들어가 버려지지 않음
+     * 모든 이벤트를 순서대로 잃지 않아야 하는 리스너는 BLOCK 정책으로 직접 등록
+     */
+    public void addEventListener(Consumer<SimulationEvent> listener) {
+        addEventListener("listener-" + listenerIndex.incrementAndGet(), listener,
+                DEFAULT_LISTENER_CAPACITY, SimulationEventBus.OverflowPolicy.DROP_OLDEST);
     }
 
     /**
      * 이벤트 리스너 등록
+     *
+     * @param name     리스너 이름 (메트릭 키)
+     * @param capacity 리스너 큐 크기
+     * @param policy   큐가 가득 찼을 때 정책 (텔레메트리는 DROP_OLDEST, 긴급 처리는 BLOCK)
      */
-    public void addEventListener(Consumer<SimulationEvent> listener) {
-        eventListeners.add(listener);
+    public void addEventListener(String name, Consumer<SimulationEvent> listener,
+                                 int capacity, SimulationEventBus.OverflowPolicy policy) {
+        eventBus.subscribe(name, listener, capacity, policy);
     }
 
     /**
      * 이벤트 리스너 제거
      */
     public void removeEventListener(Consumer<SimulationEvent> listener) {
-        eventListeners.remove(listener);
+        eventBus.unsubscribe(listener);
+    }
+
+    /**
+     * 지금까지 발행한 이벤트가 모든 리스너에 전달될 때까지 대기
+     *
+     * @return 시간 안에 모두 전달되었으면 true
+     */
+    public boolean flushEvents(Duration timeout) {
+        try {
+            return eventBus.awaitDrained(timeout);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * 이벤트 로그 기록 시작 (SimulationEventReplayer로 재생)
+     * 기록기는 항상 BLOCK 정책과 큰 큐로 등록 - DROP_OLDEST면 밀릴 때 이벤트가 빠진 로그가 되어 재생 결과가 달라짐
+     */
+    public synchronized Path startRecording(Path path) throws IOException {
+        if (recorder != null) {
+            throw new IllegalStateException("이미 이벤트를 기록하고 있습니다: " + recorder.getPath());
+        }
+        SimulationEventRecorder newRecorder = new SimulationEventRecorder(path);
+        eventBus.subscribe("recorder", newRecorder, RECORDER_CAPACITY, SimulationEventBus.OverflowPolicy.BLOCK);
+        recorder = newRecorder;
+        return path;
+    }
+
+    /**
+     * 이벤트 로그 기록 중지 (큐에 남은 이벤트까지 기록한 뒤 파일을 닫음)
+     */
+    public synchronized RecordingReport stopRecording() throws IOException {
+        if (recorder == null) {
+            throw new IllegalStateException("기록 중인 이벤트 로그가 없습니다");
+        }
+        SimulationEventRecorder stopped = recorder;
+        recorder = null;
+        boolean complete;
+        try {
+            complete = eventBus.unsubscribe(stopped, RECORDER_DRAIN_TIMEOUT);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            complete = false;
+        } finally {
+            stopped.close();
+        }
+        if (!complete) {
+            log.warn("Event recording stopped before the queue was drained: {}", stopped.getPath());
+        }
+        return RecordingReport.builder()
+                .path(stopped.getPath())
+                .events(stopped.getRecordedEvents())
+                .bytes(stopped.getRecordedBytes())
+                .complete(complete)
+                .build();
+    }
+
+    public synchronized boolean isRecording() {
+        return recorder != null;
+    }
+
+    /**
+     * 스냅샷 저장 (실행 중이면 틱과 틱 사이 시점의 상태)
+     * 로봇, 경로, 배터리, 구역 소속, 예약, 변화 감지 상태, 틱 카운터를 바이너리로 기록
+     * 로봇별 난수는 (시드, robotId, 틱)으로 매 틱 다시 만들므로 시드와 틱 카운터가 곧 난수 상태
+     */
+    public void writeSnapshot(OutputStream output) throws IOException {
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(output, SNAPSHOT_BUFFER_SIZE));
+        writeSnapshot(out);
+        out.flush();
+    }
+
+    public byte[] snapshot() {
+        SnapshotIO.ByteArrayOutput bytes = new SnapshotIO.ByteArrayOutput(SNAPSHOT_BUFFER_SIZE);
+        try {
+            writeSnapshot(new DataOutputStream(bytes));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private void writeSnapshot(DataOutputStream out) throws IOException {
+        if (world == null) {
+            throw new IllegalStateException("Simulation not initialized");
+        }
+        synchronized (world.getRobotStates()) {
+            SnapshotIO.writeHeader(out);
+            out.writeLong(seed);
+            out.writeLong(tickCount.get());
+            out.writeInt(simulationTime.toSecondOfDay());
+            out.writeLong(eventSequence);
+
+            world.writeSnapshot(out);
+            behaviorEngine.writeSnapshot(out);
+            eventGenerator.writeSnapshot(out);
+            proximityMonitor.writeSnapshot(out, world.getRobotStates());
+        }
+    }
+
+    /**
+     * 스냅샷으로 복원 (중지 상태에서만, 세계를 새로 만든 뒤 상태를 채움)
+     * 같은 시드로 복원하면 이후 틱은 원래 실행을 이어 간 것과 같음
+     */
+    public void readSnapshot(InputStream input) throws IOException {
+        if (running.get()) {
+            throw new IllegalStateException("Simulation already running");
+        }
+        restoreState(input.readAllBytes());
+    }
+
+    private void restoreState(byte[] snapshot) throws IOException {
+        // 값 단위로 읽으므로 락을 잡지 않는 바이트 배열 입력을 사용
+        DataInputStream in = new DataInputStream(new SnapshotIO.ByteArrayInput(snapshot));
+        SnapshotIO.readHeader(in);
+        long snapshotSeed = in.readLong();
+        if (snapshotSeed != seed) {
+            log.info("Restoring snapshot taken with seed {} (current seed: {})", snapshotSeed, seed);
+        }
+
+        initialize();
+        tickCount.set(in.readLong());
+        simulationTime = LocalTime.ofSecondOfDay(in.readInt());
+        eventSequence = in.readLong();
+
+        world.readSnapshot(in);
+        behaviorEngine.readSnapshot(in);
+        eventGenerator.readSnapshot(in);
+        proximityMonitor.readSnapshot(in, world.getRobotStates());
+        lastReplanCount = behaviorEngine.getReplanCount();
+        bufferLayoutVersion = -1;  // 새 저장소이므로 틱 버퍼 재구성
+
+        log.info("Snapshot restored: {} robots at tick {} ({})",
+                world.getTotalRobotCount(), tickCount.get(), simulationTime);
     }
 
     /**
@@ -264,7 +812,7 @@ public class RobotSimulationService {
         RobotWorker robot = world.getRobots().get(robotId);
         if (robot != null) {
             RobotWorker emergency = robot.triggerEmergency();
-            world.getRobots().put(robotId, emergency);
+            world.applyRobotUpdate(emergency);
             List<SimulationEvent> events = eventGenerator.generateEvents(emergency);
             events.forEach(this::publishEvent);
             log.warn("Emergency triggered for robot: {}", robotId);
@@ -301,19 +849,74 @@ public class RobotSimulationService {
         private final Map<String, Object> metrics;
     }
 
+    /**
+     * 헤드리스 실행 결과
+     */
+    @Getter
+    @lombok.Builder
+    public static class HeadlessReport {
+        private final String scenarioName;
+        private final long seed;
+        private final long ticks;
+        private final long totalEvents;
+        private final Duration simulatedDuration;
+        private final long elapsedMillis;
+        private final double ticksPerSecond;
+        private final double eventsPerSecond;
+    }
+
+    /**
+     * 이벤트 로그 기록 결과 (complete가 false면 중지 시 큐에 남은 이벤트를 다 쓰지 못함)
+     */
+    @Getter
+    @lombok.Builder
+    public static class RecordingReport {
+        private final Path path;
+        private final long events;
+        private final long bytes;
+        private final boolean complete;
+    }
+
     /**
      * 시뮬레이션 메트릭
      */
     public static class SimulationMetrics {
+        private final SimulationEventBus eventBus;
         private final AtomicLong totalEvents = new AtomicLong(0);
         private final AtomicLong totalTicks = new AtomicLong(0);
         private final AtomicLong totalTickTime = new AtomicLong(0);
+        private final AtomicLong totalBehaviorNanos = new AtomicLong(0);
+        private final AtomicLong totalPublishNanos = new AtomicLong(0);
+        private final AtomicLong totalAllocatedBytes = new AtomicLong(0);
+        private final AtomicLong allocationSamples = new AtomicLong(0);
+        private final AtomicLong totalReplans = new AtomicLong(0);
+        private final AtomicLong overrunTicks = new AtomicLong(0);
+        private final AtomicLong behindTicks = new AtomicLong(0);
+        private final AtomicLong skippedTicks = new AtomicLong(0);
+        private final AtomicLong lastLagNanos = new AtomicLong(0);
+        private final AtomicLong maxLagNanos = new AtomicLong(0);
+        private volatile long startNanos = System.nanoTime();
         private final Map<SimulationEvent.EventType, AtomicLong> eventCounts = new ConcurrentHashMap<>();
 
+        public SimulationMetrics(SimulationEventBus eventBus) {
+            this.eventBus = eventBus;
+        }
+
         public void reset() {
             totalEvents.set(0);
             totalTicks.set(0);
             totalTickTime.set(0);
+            totalBehaviorNanos.set(0);
+            totalPublishNanos.set(0);
+            totalAllocatedBytes.set(0);
+            allocationSamples.set(0);
+            totalReplans.set(0);
+            overrunTicks.set(0);
+            behindTicks.set(0);
+            skippedTicks.set(0);
+            lastLagNanos.set(0);
+            maxLagNanos.set(0);
+            startNanos = System.nanoTime();
             eventCounts.clear();
         }
 
@@ -322,6 +925,62 @@ public class RobotSimulationService {
             totalTickTime.addAndGet(durationMs);
         }
 
+        /**
+         * 단계별 소요 시간 (행동 결정 병렬 단계 / 조정·발행 순차 단계)
+         */
+        public void recordPhases(long behaviorNanos, long publishNanos) {
+            totalBehaviorNanos.addAndGet(behaviorNanos);
+            totalPublishNanos.addAndGet(publishNanos);
+        }
+
+        /**
+         * 틱 스레드 할당량 (바이트)
+         */
+        public void recordAllocation(long bytes) {
+            totalAllocatedBytes.addAndGet(bytes);
+            allocationSamples.incrementAndGet();
+        }
+
+        /**
+         * 실시간 스케줄링 결과 (TickScheduler.TimingListener)
+         */
+        public void recordScheduling(long durationNanos, long lagNanos, boolean overrun,
+                                     boolean behind, long skipped) {
+            if (overrun) {
+                overrunTicks.incrementAndGet();
+            }
+            if (behind) {
+                behindTicks.incrementAndGet();
+            }
+            skippedTicks.addAndGet(skipped);
+            lastLagNanos.set(lagNanos);
+            maxLagNanos.accumulateAndGet(lagNanos, Math::max);
+        }
+
+        public long getOverrunTicks() {
+            return overrunTicks.get();
+        }
+
+        /**
+         * 틱 동안 발생한 경로 탐색 횟수
+         */
+        public void recordReplans(long count) {
+            totalReplans.addAndGet(count);
+        }
+
+        /**
+         * 초당 경로 탐색 횟수 (메트릭 초기화 이후 실제 경과 시간 기준)
+         */
+        public double getReplansPerSecond() {
+            double elapsedSeconds = (System.nanoTime() - startNanos) / 1_000_000_000.0;
+            return elapsedSeconds > 0 ? totalReplans.get() / elapsedSeconds : 0;
+        }
+
+        public long getAvgAllocatedBytesPerTick() {
+            long samples = allocationSamples.get();
+            return samples > 0 ? totalAllocatedBytes.get() / samples : 0;
+        }
+
         public void recordEvent(SimulationEvent.EventType type) {
             totalEvents.incrementAndGet();
             eventCounts.computeIfAbsent(type, k -> new AtomicLong(0)).incrementAndGet();
@@ -337,10 +996,23 @@ public class RobotSimulationService {
             snapshot.put("totalTicks", totalTicks.get());
             snapshot.put("avgTickTimeMs", totalTicks.get() > 0
                     ? totalTickTime.get() / totalTicks.get() : 0);
+            snapshot.put("avgBehaviorPhaseUs", totalTicks.get() > 0
+                    ? totalBehaviorNanos.get() / totalTicks.get() / 1000 : 0);
+            snapshot.put("avgPublishPhaseUs", totalTicks.get() > 0
+                    ? totalPublishNanos.get() / totalTicks.get() / 1000 : 0);
+            snapshot.put("avgAllocatedBytesPerTick", getAvgAllocatedBytesPerTick());
+            snapshot.put("totalReplans", totalReplans.get());
+            snapshot.put("replansPerSecond", getReplansPerSecond());
+            snapshot.put("overrunTicks", overrunTicks.get());
+            snapshot.put("behindTicks", behindTicks.get());
+            snapshot.put("skippedTicks", skippedTicks.get());
+            snapshot.put("lagMs", lastLagNanos.get() / 1_000_000);
+            snapshot.put("maxLagMs", maxLagNanos.get() / 1_000_000);
 
             Map<String, Long> eventsByType = new HashMap<>();
             eventCounts.forEach((type, count) -> eventsByType.put(type.name(), count.get()));
             snapshot.put("eventsByType", eventsByType);
+            snapshot.put("listeners", eventBus.getListenerMetrics());
 
             return snapshot;
         }
@@ -3,10 +3,15 @@ package com.safetyhub.adapter.simulator;
 import com.safetyhub.adapter.simulator.scenario.SimulationScenario;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Map;
+import java.util.regex.Pattern;
 
 /**
  * 시뮬레이션 REST API 컨트롤러
@@ -17,8 +22,15 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class SimulationController {
 
+    // 기록 파일은 설정된 디렉터리 안에 이름으로만 지정 (경로를 받지 않음)
+    private static final Pattern RECORDING_NAME = Pattern.compile("[A-Za-z0-9_-]{1,64}");
+    private static final String RECORDING_EXTENSION = ".evlog";
+
     private final RobotSimulationService simulationService;
 
+    @Value("${simulation.recording.directory:recordings}")
+    private String recordingDirectory;
+
     /**
      * 시뮬레이션 시작
      */
@@ -26,14 +38,7 @@ public class SimulationController {
     public ResponseEntity<Map<String, Object>> startSimulation(
             @RequestBody StartRequest request) {
 
-        SimulationScenario scenario = switch (request.scenario()) {
-            case "daily_operation" -> SimulationScenario.dailyOperation(request.robots());
-            case "fire_emergency" -> SimulationScenario.fireEmergency(request.robots());
-            case "worker_fall" -> SimulationScenario.workerFall(request.robots());
-            case "gas_leak" -> SimulationScenario.gasLeak(request.robots());
-            case "load_test" -> SimulationScenario.loadTest(request.robots());
-            default -> SimulationScenario.dailyOperation(request.robots());
-        };
+        SimulationScenario scenario = createScenario(request.scenario(), request.robots());
 
         simulationService.startScenario(scenario);
 
@@ -44,6 +49,20 @@ public class SimulationController {
         ));
     }
 
+    /**
+     * 헤드리스 실행 (별도 인스턴스에서 가상 시계로 최대 속도 실행, 실시간 시뮬레이션에는 영향 없음)
+     */
+    @PostMapping("/headless")
+    public ResponseEntity<RobotSimulationService.HeadlessReport> runHeadless(
+            @RequestBody HeadlessRequest request) {
+
+        SimulationScenario scenario = createScenario(request.scenario(), request.robots());
+        RobotSimulationService headlessService = new RobotSimulationService(
+                request.seed(), Runtime.getRuntime().availableProcessors());
+
+        return ResponseEntity.ok(headlessService.runHeadless(scenario));
+    }
+
     /**
      * 시뮬레이션 중지
      */
@@ -109,6 +128,57 @@ public class SimulationController {
         return ResponseEntity.ok(simulationService.getWorld().getZoneOccupancy());
     }
 
+    /**
+     * 이벤트 로그 기록 시작 (큐가 넘쳐도 이벤트를 버리지 않는 BLOCK 정책으로 등록됨)
+     */
+    @PostMapping("/recording/start/{name}")
+    public ResponseEntity<Map<String, Object>> startRecording(@PathVariable String name) {
+        if (!RECORDING_NAME.matcher(name).matches()) {
+            return ResponseEntity.badRequest().body(Map.of("error", "잘못된 기록 이름입니다: " + name));
+        }
+        try {
+            Path directory = Path.of(recordingDirectory);
+            Files.createDirectories(directory);
+            Path path = simulationService.startRecording(directory.resolve(name + RECORDING_EXTENSION));
+            return ResponseEntity.ok(Map.of(
+                    "status", "recording",
+                    "file", path.getFileName().toString()
+            ));
+        } catch (IOException | IllegalStateException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", String.valueOf(e.getMessage())));
+        }
+    }
+
+    /**
+     * 이벤트 로그 기록 중지
+     */
+    @PostMapping("/recording/stop")
+    public ResponseEntity<Map<String, Object>> stopRecording() {
+        try {
+            RobotSimulationService.RecordingReport report = simulationService.stopRecording();
+            return ResponseEntity.ok(Map.of(
+                    "status", "stopped",
+                    "file", report.getPath().getFileName().toString(),
+                    "events", report.getEvents(),
+                    "bytes", report.getBytes(),
+                    "complete", report.isComplete()
+            ));
+        } catch (IOException | IllegalStateException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", String.valueOf(e.getMessage())));
+        }
+    }
+
+    private SimulationScenario createScenario(String scenario, int robots) {
+        return switch (scenario) {
+            case "daily_operation" -> SimulationScenario.dailyOperation(robots);
+            case "fire_emergency" -> SimulationScenario.fireEmergency(robots);
+            case "worker_fall" -> SimulationScenario.workerFall(robots);
+            case "gas_leak" -> SimulationScenario.gasLeak(robots);
+            case "load_test" -> SimulationScenario.loadTest(robots);
+            default -> SimulationScenario.dailyOperation(robots);
+        };
+    }
+
     /**
      * 시작 요청 DTO
      */
@@ -121,4 +191,18 @@ public class SimulationController {
             if (scenario == null) scenario = "daily_operation";
         }
     }
+
+    /**
+     * 헤드리스 실행 요청 DTO
+     */
+    public record HeadlessRequest(
+            String scenario,
+            int robots,
+            long seed
+    ) {
+        public HeadlessRequest {
+            if (robots <= 0) robots = 100;
+            if (scenario == null) scenario = "daily_operation";
+        }
+    }
 }
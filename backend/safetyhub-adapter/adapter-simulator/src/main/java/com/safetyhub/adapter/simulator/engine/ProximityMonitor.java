@@ -0,0 +1,385 @@
+package com.safetyhub.adapter.simulator.engine;
+
+import com.safetyhub.adapter.simulator.event.SimulationEvent;
+import com.safetyhub.adapter.simulator.robot.Position;
+import com.safetyhub.adapter.simulator.robot.RobotState;
+import com.safetyhub.adapter.simulator.robot.RobotStateStore;
+import com.safetyhub.adapter.simulator.robot.RobotWorker;
+import com.safetyhub.core.domain.BroadPhaseDetector;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 근접 감시기
+ * 매 틱마다 같은 셀 점유(충돌)와 니어미스를 감지하여 이벤트로 변환
+ *
+ * - 광역 감지는 BroadPhaseDetector (O(n + k))
+ * - 작업자(LifeGuard Band) 위치를 함께 넣어 로봇-작업자 근접도 감지 (작업자끼리는 무시)
+ * - 이전 틱에 이미 근접 상태였던 쌍은 다시 보고하지 않음 (이벤트 폭주 방지)
+ */
+public class ProximityMonitor {
+
+    // 니어미스 판정 거리 (셀 단위, 대각선 인접 포함)
+    private static final double NEAR_MISS_DISTANCE = 1.5;
+
+    private final BroadPhaseDetector detector = new BroadPhaseDetector();
+    private final double nearMissDistance;
+
+    private String[] robotIds = new String[0];
+    private String[] zoneIds = new String[0];
+    private double[] xs = new double[0];
+    private double[] ys = new double[0];
+    private int[] slots = new int[0];
+    private int robotCount;  // 좌표 배열의 앞쪽 robotCount개가 로봇, 나머지는 작업자
+
+    // 직전 틱의 근접 쌍 (robotIdA|robotIdB)
+    private Set<String> activePairs = new HashSet<>();
+
+    // 직전 틱의 로봇-작업자 근접 쌍 (robotId|workerId)
+    private Set<String> activeWorkerPairs = new HashSet<>();
+
+    // 직전 틱의 근접 쌍을 저장소 슬롯으로 (저장소 기준 감지이고 슬롯 배치가 그대로일 때만 유효, 스냅샷용)
+    private int[] pairSlots = new int[0];
+    private int pairSlotCount;
+    private RobotStateStore pairStore;
+    private long pairLayoutVersion;
+
+    // 스냅샷에서 복원한 뒤 아직 문자열 키로 만들지 않은 쌍의 슬롯별 로봇 ID (다음 감지 전에 activePairs에 합침)
+    private String[] pendingPairIds;
+
+    // 스냅샷에서 좌표만 복원해 둔 상태 (다음 감지 전에 좌표 배열로 광역 감지를 다시 돌려 activePairs를 만듦)
+    private boolean pendingRecompute;
+
+    // 좌표 배열의 로봇 부분이 pairStore에서 읽은 것인지 (스냅샷 때 좌표 비교용)
+    private boolean storePositionsLoaded;
+
+    public ProximityMonitor() {
+        this(NEAR_MISS_DISTANCE);
+    }
+
+    public ProximityMonitor(double nearMissDistance) {
+        this.nearMissDistance = nearMissDistance;
+    }
+
+    /**
+     * 근접 쌍 감지 후 새로 발생한 쌍에 대한 이벤트 반환
+     */
+    public List<SimulationEvent> detect(Collection<RobotWorker> currentRobots) {
+        return detect(currentRobots, Map.of());
+    }
+
+    /**
+     * 로봇끼리와 로봇-작업자 근접 쌍 감지
+     *
+     * @param workerPositions workerId -> 밴드가 보고한 위치
+     */
+    public List<SimulationEvent> detect(Collection<RobotWorker> currentRobots, Map<String, Position> workerPositions) {
+        resolvePendingPairs();
+        pairStore = null;
+        storePositionsLoaded = false;
+        robotCount = load(currentRobots, workerPositions.size());
+        return detect(loadWorkers(robotCount, workerPositions));
+    }
+
+    /**
+     * 상태 저장소 기준 근접 쌍 감지 (RobotWorker 뷰 생성 없음)
+     */
+    public List<SimulationEvent> detect(RobotStateStore store) {
+        return detect(store, Map.of());
+    }
+
+    /**
+     * 상태 저장소 기준 로봇끼리와 로봇-작업자 근접 쌍 감지
+     */
+    public List<SimulationEvent> detect(RobotStateStore store, Map<String, Position> workerPositions) {
+        resolvePendingPairs();
+        pairStore = store;
+        pairLayoutVersion = store.getLayoutVersion();
+        storePositionsLoaded = true;
+        robotCount = load(store, workerPositions.size());
+        return detect(loadWorkers(robotCount, workerPositions));
+    }
+
+    private List<SimulationEvent> detect(int count) {
+        Set<String> currentPairs = new HashSet<>();
+        Set<String> currentWorkerPairs = new HashSet<>();
+        List<SimulationEvent> events = new ArrayList<>();
+        pairSlotCount = 0;
+
+        detector.detect(xs, ys, count, nearMissDistance, (i, j, distanceSquared) -> {
+            if (i >= robotCount || j >= robotCount) {
+                if (i < robotCount || j < robotCount) {
+                    detectWorker(Math.min(i, j), Math.max(i, j), distanceSquared, currentWorkerPairs, events);
+                }
+                return;
+            }
+
+            String key = addPair(i, j, currentPairs);
+            if (!activePairs.contains(key)) {
+                boolean collision = distanceSquared == 0;
+                events.add(SimulationEvent.proximity(
+                        robotIds[i], robotIds[j], zoneIds[i],
+                        Position.of((int) xs[i], (int) ys[i]), Math.sqrt(distanceSquared), collision));
+            }
+        });
+
+        activePairs = currentPairs;
+        activeWorkerPairs = currentWorkerPairs;
+        return events;
+    }
+
+    private void detectWorker(int robot, int worker, double distanceSquared,
+                              Set<String> currentWorkerPairs, List<SimulationEvent> events) {
+        String key = robotIds[robot] + "|" + robotIds[worker];
+        currentWorkerPairs.add(key);
+        if (!activeWorkerPairs.contains(key)) {
+            events.add(SimulationEvent.workerProximity(
+                    robotIds[robot], robotIds[worker], zoneIds[robot],
+                    Position.of((int) xs[robot], (int) ys[robot]), Math.sqrt(distanceSquared), distanceSquared == 0));
+        }
+    }
+
+    private String addPair(int i, int j, Set<String> pairs) {
+        String key = pairKey(robotIds[i], robotIds[j]);
+        pairs.add(key);
+        if (pairStore != null) {
+            boolean ordered = robotIds[i].compareTo(robotIds[j]) < 0;
+            recordSlots(ordered ? i : j, ordered ? j : i);
+        }
+        return key;
+    }
+
+    private void recordSlots(int first, int second) {
+        if (pairSlotCount + 2 > pairSlots.length) {
+            pairSlots = Arrays.copyOf(pairSlots, Math.max(64, pairSlots.length * 2));
+        }
+        pairSlots[pairSlotCount++] = slots[first];
+        pairSlots[pairSlotCount++] = slots[second];
+    }
+
+    /**
+     * 현재 근접 상태인 쌍 수
+     */
+    public int getActivePairCount() {
+        resolvePendingPairs();
+        return activePairs.size();
+    }
+
+    /**
+     * 현재 근접 상태인 로봇-작업자 쌍 수
+     */
+    public int getActiveWorkerPairCount() {
+        return activeWorkerPairs.size();
+    }
+
+    /**
+     * 직전 틱의 근접 쌍 기록 (복원 후 이미 보고한 쌍을 다시 보고하지 않도록)
+     * 감지 이후 저장소의 로봇 좌표가 그대로면 표시만 남기고 쌍은 복원 쪽에서 같은 좌표로 다시 계산
+     * 아니면 쌍을 저장소 슬롯 번호 두 개로 기록 (저장소는 슬롯 순서 그대로 복원됨)
+     * 감지 이후 로봇이 추가/제거되었으면 ID로 슬롯을 다시 찾고, 이미 제거된 로봇이 있으면 -1과 키 문자열
+     * 로봇-작업자 쌍은 그 뒤에 키 문자열로 기록
+     */
+    public void writeSnapshot(DataOutput out, RobotStateStore store) throws IOException {
+        boolean recompute = matchesDetectedPositions(store);
+        out.writeBoolean(recompute);
+        if (!recompute) {
+            writeRobotPairs(out, store);
+        }
+        out.writeInt(activeWorkerPairs.size());
+        for (String pair : activeWorkerPairs) {
+            out.writeUTF(pair);
+        }
+    }
+
+    /**
+     * 저장소의 감지 대상 로봇과 좌표가 마지막 감지 때와 같은지 (같으면 근접 쌍도 같음)
+     */
+    private boolean matchesDetectedPositions(RobotStateStore store) {
+        if (!storePositionsLoaded || pairStore != store || pairLayoutVersion != store.getLayoutVersion()) {
+            return false;
+        }
+        int count = 0;
+        for (int i = 0; i < store.size(); i++) {
+            if (!store.hasPosition(i) || store.getState(i) == RobotState.OFFLINE) continue;
+            if (count == robotCount || slots[count] != i
+                    || xs[count] != store.getX(i) || ys[count] != store.getY(i)) {
+                return false;
+            }
+            count++;
+        }
+        return count == robotCount;
+    }
+
+    private void writeRobotPairs(DataOutput out, RobotStateStore store) throws IOException {
+        resolvePendingPairs();
+        if (pairStore == store && pairLayoutVersion == store.getLayoutVersion()) {
+            out.writeInt(pairSlotCount / 2);
+            for (int i = 0; i < pairSlotCount; i++) {
+                out.writeInt(pairSlots[i]);
+            }
+            return;
+        }
+        out.writeInt(activePairs.size());
+        for (String pair : activePairs) {
+            int separator = pair.indexOf('|');
+            int first = store.indexOf(pair.substring(0, separator));
+            int second = store.indexOf(pair.substring(separator + 1));
+            if (first >= 0 && second >= 0) {
+                out.writeInt(first);
+                out.writeInt(second);
+            } else {
+                out.writeInt(-1);
+                out.writeUTF(pair);
+            }
+        }
+    }
+
+    /**
+     * 근접 쌍 복원 (저장소를 먼저 복원한 뒤 호출)
+     * 좌표만 저장소에서 읽어 두거나 슬롯 번호만 읽어 두고, 키 문자열은 다음 감지 때 만듦 (복원 시간을 쌍 수와 무관하게)
+     */
+    public void readSnapshot(DataInput in, RobotStateStore store) throws IOException {
+        if (in.readBoolean()) {
+            activePairs = new HashSet<>();
+            pairSlotCount = 0;
+            pendingPairIds = null;
+            pairStore = store;
+            pairLayoutVersion = store.getLayoutVersion();
+            robotCount = load(store, 0);
+            storePositionsLoaded = true;
+            pendingRecompute = true;
+        } else {
+            readRobotPairs(in, store);
+        }
+
+        int workerPairCount = in.readInt();
+        Set<String> workerPairs = new HashSet<>();
+        for (int i = 0; i < workerPairCount; i++) {
+            workerPairs.add(in.readUTF());
+        }
+        activeWorkerPairs = workerPairs;
+    }
+
+    private void readRobotPairs(DataInput in, RobotStateStore store) throws IOException {
+        int count = in.readInt();
+        Set<String> pairs = new HashSet<>();
+        int[] slotPairs = new int[count * 2];
+        int slotCount = 0;
+        for (int i = 0; i < count; i++) {
+            int first = in.readInt();
+            if (first < 0) {
+                pairs.add(in.readUTF());
+                continue;
+            }
+            int second = in.readInt();
+            if (first >= store.size() || second < 0 || second >= store.size()) {
+                throw new IOException("잘못된 근접 쌍 슬롯: " + first + ", " + second);
+            }
+            slotPairs[slotCount++] = first;
+            slotPairs[slotCount++] = second;
+        }
+
+        String[] ids = new String[store.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = store.getRobotId(i);
+        }
+        activePairs = pairs;
+        pairSlots = slotPairs;
+        pairSlotCount = slotCount;
+        pendingPairIds = ids;
+        pendingRecompute = false;
+        // 제거된 로봇의 쌍이 없으면 다시 스냅샷할 때 슬롯을 그대로 사용
+        pairStore = pairs.isEmpty() ? store : null;
+        pairLayoutVersion = store.getLayoutVersion();
+        storePositionsLoaded = false;
+    }
+
+    private void resolvePendingPairs() {
+        if (pendingRecompute) {
+            // 좌표 배열은 복원 이후 감지 전까지 그대로이므로 스냅샷 시점의 쌍이 그대로 나옴
+            pendingRecompute = false;
+            detector.detect(xs, ys, robotCount, nearMissDistance, (i, j, distanceSquared) -> addPair(i, j, activePairs));
+            return;
+        }
+        if (pendingPairIds == null) {
+            return;
+        }
+        for (int i = 0; i < pairSlotCount; i += 2) {
+            activePairs.add(pendingPairIds[pairSlots[i]] + "|" + pendingPairIds[pairSlots[i + 1]]);
+        }
+        pendingPairIds = null;
+    }
+
+    /**
+     * 로봇 위치를 좌표 배열로 복사 (버퍼 재사용)
+     */
+    private int load(Collection<RobotWorker> currentRobots, int workerCount) {
+        ensureCapacity(currentRobots.size() + workerCount);
+
+        int count = 0;
+        for (RobotWorker robot : currentRobots) {
+            Position position = robot.getCurrentPosition();
+            if (position == null || !robot.isOnline()) continue;
+            // 컬렉션이 순회 중 늘어난 경우 대비
+            if (count == robotIds.length) break;
+
+            put(count++, robot.getRobotId(), robot.getCurrentZoneId(), position.getX(), position.getY());
+        }
+        return count;
+    }
+
+    private int load(RobotStateStore store, int workerCount) {
+        ensureCapacity(store.size() + workerCount);
+
+        int count = 0;
+        for (int i = 0; i < store.size(); i++) {
+            if (!store.hasPosition(i) || store.getState(i) == RobotState.OFFLINE) continue;
+            slots[count] = i;
+            put(count++, store.getRobotId(i), store.getZoneId(i), store.getX(i), store.getY(i));
+        }
+        return count;
+    }
+
+    /**
+     * 작업자 위치를 로봇 뒤에 이어 붙임 (작업자 쌍 이벤트의 구역은 로봇 쪽 구역 사용)
+     */
+    private int loadWorkers(int count, Map<String, Position> workerPositions) {
+        for (Map.Entry<String, Position> worker : workerPositions.entrySet()) {
+            // 맵이 순회 중 늘어난 경우 대비
+            if (count == robotIds.length) break;
+
+            put(count++, worker.getKey(), null, worker.getValue().getX(), worker.getValue().getY());
+        }
+        return count;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (robotIds.length < capacity) {
+            robotIds = new String[capacity];
+            slots = new int[capacity];
+            zoneIds = new String[capacity];
+            xs = new double[capacity];
+            ys = new double[capacity];
+        }
+    }
+
+    private void put(int index, String robotId, String zoneId, int x, int y) {
+        robotIds[index] = robotId;
+        zoneIds[index] = zoneId;
+        xs[index] = x;
+        ys[index] = y;
+    }
+
+    private static String pairKey(String a, String b) {
+        return a.compareTo(b) < 0 ? a + "|" + b : b + "|" + a;
+    }
+}
@@ -1,25 +1,53 @@
 package com.safetyhub.adapter.simulator.engine;
 
 import com.safetyhub.adapter.simulator.robot.*;
+import com.safetyhub.adapter.simulator.snapshot.SnapshotIO;
+import com.safetyhub.adapter.simulator.world.CooperativePathFinder;
+import com.safetyhub.adapter.simulator.world.GridMap;
+import com.safetyhub.adapter.simulator.world.ReservationTable;
 import com.safetyhub.adapter.simulator.world.SimulationZone;
 import com.safetyhub.adapter.simulator.world.VirtualWorld;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.time.LocalTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * 로봇 행동 엔진
  * 스케줄에 따라 로봇의 행동을 결정하고 실행
  */
 @Slf4j
-@RequiredArgsConstructor
 public class RobotBehaviorEngine {
 
     private final VirtualWorld world;
-    private final Random random = new Random();
+    private final Random random;
+
+    // 협력 경로 계획 상태 (robotId -> 예약된 경로)
+    private final Map<String, CooperativePlan> cooperativePlans = new HashMap<>();
+    private long currentTick;
+
+    // 정적 경로 + 커서 (robotId -> 저장된 경로, 대피 이동과 경로 존재 확인에 사용)
+    private final Map<String, RouteCursor> routes = new HashMap<>();
+
+    // 경로 탐색 횟수 (협력 A* 계획 + 정적 경로 계산)
+    private final AtomicLong replanCount = new AtomicLong(0);
+
+    // 협력 A* 탐색 범위 (틱)
+    private static final int PLANNING_WINDOW = 16;
+
+    // 재계획 주기 (틱) - 윈도우 절반을 소비하면 다시 계획
+    private static final int REPLAN_INTERVAL = PLANNING_WINDOW / 2;
 
     // 긴급 상황 발생 확률 (틱당)
     private static final double EMERGENCY_PROBABILITY = 0.0001;
@@ -27,69 +55,216 @@ public class RobotBehaviorEngine {
     // 건강 이상 발생 확률 (틱당)
     private static final double HEALTH_ISSUE_PROBABILITY = 0.0005;
 
+    // 스냅샷 경로 기록에서 이웃 이동(0~8)이 아닌 좌표 기록 표시
+    private static final int PATH_ABSOLUTE = 9;
+
+    public RobotBehaviorEngine(VirtualWorld world) {
+        this(world, new Random());
+    }
+
+    public RobotBehaviorEngine(VirtualWorld world, Random random) {
+        this.world = world;
+        this.random = random;
+    }
+
+    /**
+     * 새 틱 시작 (모든 로봇의 tick 호출 전에 한 번 호출)
+     * 지난 틱의 예약을 만료시킴
+     */
+    public void beginTick(long tick) {
+        this.currentTick = tick;
+        world.getReservationTable().advanceTo(tick);
+    }
+
     /**
-     * 로봇의 다음 행동 결정 및 실행
+     * 로봇의 다음 행동 결정 및 실행 (단일 스레드용)
      *
      * @param robot       대상 로봇
      * @param currentTime 현재 시뮬레이션 시간
      * @return 업데이트된 로봇
      */
     public RobotWorker tick(RobotWorker robot, LocalTime currentTime) {
+        TickDecision decision = decide(robot, currentTime, random);
+        if (decision.needsCoordination()) {
+            return coordinate(decision.robot(), currentTime);
+        }
+
+        RobotWorker updated = decision.robot();
+        if (!updated.getCurrentPosition().equals(robot.getCurrentPosition())) {
+            world.updateRobotPosition(robot.getRobotId(), updated.getCurrentPosition());
+        }
+        reserveWait(updated);
+        return updated;
+    }
+
+    /**
+     * 멈춰 있는 로봇의 제자리 대기 예약 (다음 틱에 현재 셀 점유)
+     * 이동 로봇이 그 셀로 계획하지 않도록 coordinate() 호출 전에 예약
+     * 이미 그 셀을 예약한 이동 로봇은 밀려나고 이동 전에 다시 계획함
+     */
+    public void reserveWait(RobotWorker robot) {
+        if (robot.getState() == RobotState.OFFLINE || robot.getCurrentPosition() == null) {
+            return;
+        }
+        reserveWait(robot.getRobotId(), robot.getCurrentPosition().getX(), robot.getCurrentPosition().getY());
+    }
+
+    public void reserveWait(String robotId, int x, int y) {
+        world.getReservationTable().hold(x, y, currentTick + 1, robotId);
+    }
+
+    /**
+     * 1단계: 로봇별 독립 행동 결정
+     * 세계 상태(로봇 맵, 구역 소속, 예약 테이블)를 변경하지 않으므로 여러 스레드에서 동시에 호출 가능
+     * 예약 테이블을 사용하는 이동(협력 이동, 대피)은 needsCoordination으로 표시만 하고 coordinate()에서 처리
+     *
+     * @param random 이 로봇의 이번 틱 전용 난수 생성기 (tickRandom 참고)
+     */
+    public TickDecision decide(RobotWorker robot, LocalTime currentTime, Random random) {
         // 오프라인 상태면 무시
         if (robot.getState() == RobotState.OFFLINE) {
-            return robot;
+            return TickDecision.done(robot);
         }
 
         // 긴급 상황 중이면 유지
         if (robot.getState() == RobotState.EMERGENCY) {
-            return robot;
+            return TickDecision.done(robot);
         }
 
         // 대피 중이면 대피 로직 수행
         if (robot.getState() == RobotState.EVACUATING) {
-            return handleEvacuation(robot);
+            return TickDecision.coordinate(robot);
         }
 
         // 랜덤 긴급 상황 발생 체크
         if (random.nextDouble() < EMERGENCY_PROBABILITY) {
-            log.warn("Random emergency triggered for robot: {}", robot.getRobotId());
-            return robot.triggerEmergency();
+            return TickDecision.done(triggerRandomEmergency(robot, random));
         }
 
         // 랜덤 건강 이상 발생 체크
         if (random.nextDouble() < HEALTH_ISSUE_PROBABILITY) {
-            RobotWorker updated = robot.updateHealth(HealthStatus.createDanger());
-            if (updated.getHealthStatus().getLevel() == HealthStatus.HealthLevel.CRITICAL) {
-                log.warn("Critical health issue for robot: {}", robot.getRobotId());
-                return updated.triggerEmergency();
-            }
-            return updated;
+            return TickDecision.done(applyHealthIssue(robot, random));
         }
 
         // 이동 중이면 이동 처리
         if (robot.getState() == RobotState.MOVING && robot.needsToMove()) {
-            return handleMovement(robot);
+            return TickDecision.coordinate(robot);
         }
 
         // 스케줄에 따른 상태 결정
         RobotState scheduledState = robot.getScheduledState(currentTime);
         if (scheduledState == null || scheduledState == RobotState.OFFLINE) {
-            return robot.updateState(RobotState.OFFLINE);
+            return TickDecision.done(robot.updateState(RobotState.OFFLINE));
         }
 
         // 현재 상태와 스케줄 상태가 다르면 상태 변경
         if (robot.getState() != scheduledState && robot.getState() != RobotState.MOVING) {
-            return handleStateChange(robot, scheduledState);
+            return TickDecision.done(handleStateChange(robot, scheduledState, random));
         }
 
         // 상태별 행동 수행
-        return performStateAction(robot, scheduledState);
+        return TickDecision.done(performStateAction(robot, scheduledState, random));
+    }
+
+    /**
+     * 1단계 빠른 경로: 평상시 로봇을 상태 저장소에서 직접 처리 (RobotWorker 재생성 없음)
+     * 작업/휴식/식사 중이고 스케줄 상태와 같은 로봇만 처리하며, 그 외에는 아무것도 바꾸지 않고 false 반환
+     * (decide와 같은 순서로 난수를 사용하므로 어느 경로로 처리해도 결과가 같음)
+     *
+     * 드문 긴급 상황/건강 이상은 RobotWorker로 처리한 뒤 같은 슬롯에 되돌려 씀
+     * 구역 내 랜덤 이동은 저장소 위치만 바꾸므로 호출자가 VirtualWorld.commitInPlaceMove로 공간 색인 갱신
+     *
+     * @return 처리했으면 true
+     */
+    public boolean tickInPlace(RobotStateStore store, int index, LocalTime currentTime, Random random) {
+        RobotState state = store.getState(index);
+        if (state != RobotState.WORKING && state != RobotState.RESTING && state != RobotState.EATING) {
+            return false;
+        }
+        if (store.getScheduledState(index, currentTime) != state || !store.hasBattery(index)) {
+            return false;
+        }
+
+        if (random.nextDouble() < EMERGENCY_PROBABILITY) {
+            store.load(index, triggerRandomEmergency(store.materialize(index), random));
+            return true;
+        }
+        if (random.nextDouble() < HEALTH_ISSUE_PROBABILITY) {
+            store.load(index, applyHealthIssue(store.materialize(index), random));
+            return true;
+        }
+
+        if (state == RobotState.WORKING) {
+            HealthStatus.writeWorking(store, index, random);
+            store.setBattery(index, BatteryStatus.levelAfterWorking(store.getBatteryLevel(index), 1), false);
+
+            // 구역 내 랜덤 이동 (가끔, handleWorking과 같은 규칙)
+            if (random.nextDouble() < 0.1) {
+                SimulationZone currentZone = store.getZoneId(index) != null
+                        ? world.getZones().get(store.getZoneId(index)) : null;
+                if (currentZone != null) {
+                    int newX = currentZone.randomX(random);
+                    int newY = currentZone.randomY(random);
+                    if (world.getGridMap().isWalkable(newX, newY)) {
+                        store.setPosition(index, newX, newY);
+                    }
+                }
+            }
+        } else {
+            HealthStatus.writeNormal(store, index, random);
+            store.setBattery(index, BatteryStatus.levelAfterIdle(store.getBatteryLevel(index), 1), false);
+        }
+        return true;
+    }
+
+    /**
+     * 2단계: 예약 테이블을 사용하는 이동 처리
+     * 먼저 호출한 로봇의 예약이 우선하므로 결과가 호출 순서에 따라 달라짐 - 한 스레드에서 고정된 순서로 호출
+     */
+    public RobotWorker coordinate(RobotWorker robot, LocalTime currentTime) {
+        if (robot.getState() == RobotState.EVACUATING) {
+            return handleEvacuation(robot);
+        }
+        return handleMovement(robot, currentTime);
+    }
+
+    /**
+     * 로봇별, 틱별 난수 생성기
+     * 시드, 로봇 ID, 틱 번호만으로 정해지므로 로봇을 어떤 스레드가 어떤 순서로 처리해도 같은 값이 나옴
+     */
+    public static Random tickRandom(long seed, String robotId, long tick) {
+        return new Random(tickSeed(seed, robotId, tick));
+    }
+
+    /**
+     * tickRandom의 시드 (재사용하는 Random에 setSeed로 넣을 때 사용)
+     */
+    public static long tickSeed(long seed, String robotId, long tick) {
+        long mixed = seed ^ ((long) robotId.hashCode() << 32) ^ (tick * 0x9E3779B97F4A7C15L);
+        // SplitMix64 finalizer
+        mixed = (mixed ^ (mixed >>> 30)) * 0xBF58476D1CE4E5B9L;
+        mixed = (mixed ^ (mixed >>> 27)) * 0x94D049BB133111EBL;
+        return mixed ^ (mixed >>> 31);
+    }
+
+    private RobotWorker triggerRandomEmergency(RobotWorker robot, Random random) {
+        log.warn("Random emergency triggered for robot: {}", robot.getRobotId());
+        return robot.triggerEmergency(HealthStatus.createDanger(random));
+    }
+
+    private RobotWorker applyHealthIssue(RobotWorker robot, Random random) {
+        RobotWorker updated = robot.updateHealth(HealthStatus.createDanger(random));
+        if (updated.getHealthStatus().getLevel() == HealthStatus.HealthLevel.CRITICAL) {
+            log.warn("Critical health issue for robot: {}", robot.getRobotId());
+            return updated.triggerEmergency(HealthStatus.createDanger(random));
+        }
+        return updated;
     }
 
     /**
      * 상태 변경 처리
      */
-    private RobotWorker handleStateChange(RobotWorker robot, RobotState newState) {
+    private RobotWorker handleStateChange(RobotWorker robot, RobotState newState, Random random) {
         ZoneType targetZoneType = getTargetZoneType(newState);
         if (targetZoneType == null) {
             return robot.updateState(newState);
@@ -110,35 +285,42 @@ public class RobotBehaviorEngine {
         }
 
         // 이동 시작
-        Position target = targetZone.getRandomPosition();
+        Position target = targetZone.getRandomPosition(random);
         log.debug("Robot {} moving to {} for state {}", robot.getRobotId(), target, newState);
         return robot.setTarget(target);
     }
 
     /**
-     * 이동 처리
+     * 이동 처리 (협력 A* - 다른 로봇의 예약을 피해 한 칸 이동 또는 대기)
      */
-    private RobotWorker handleMovement(RobotWorker robot) {
+    private RobotWorker handleMovement(RobotWorker robot, LocalTime currentTime) {
         if (robot.getTargetPosition() == null) {
             return robot;
         }
 
-        // 경로 계산
-        List<Position> path = world.findPath(
-                robot.getCurrentPosition(), robot.getTargetPosition());
-
-        if (path.isEmpty()) {
-            // 목표에 도달했거나 경로 없음
-            if (robot.hasReachedTarget()) {
-                RobotState scheduledState = robot.getScheduledState(LocalTime.now());
-                return robot.updateState(scheduledState != null ? scheduledState : RobotState.WORKING);
+        long mapVersion = world.getGridMap().getVersion();
+        CooperativePlan plan = cooperativePlans.get(robot.getRobotId());
+        if (plan == null || plan.needsReplan(robot.getTargetPosition(), currentTick, mapVersion)
+                || !world.getGridMap().isWalkable(plan.peek())
+                || isReservedByOther(plan.peek(), robot.getRobotId())) {
+            plan = planCooperativePath(robot);
+            if (plan == null) {
+                // 목표에 도달했거나 경로 없음
+                if (robot.hasReachedTarget()) {
+                    RobotState scheduledState = robot.getScheduledState(currentTime);
+                    return robot.updateState(scheduledState != null ? scheduledState : RobotState.WORKING);
+                }
+                log.warn("No path found for robot: {} to {}", robot.getRobotId(), robot.getTargetPosition());
+                return robot.updateState(RobotState.WORKING);
             }
-            log.warn("No path found for robot: {} to {}", robot.getRobotId(), robot.getTargetPosition());
-            return robot.updateState(RobotState.WORKING);
         }
 
-        // 한 칸 이동
-        Position nextPosition = path.get(0);
+        // 이번 틱에 예약된 위치로 한 칸 이동 (같은 위치면 대기)
+        Position nextPosition = plan.next();
+        if (nextPosition.equals(robot.getCurrentPosition())) {
+            return robot;
+        }
+
         String newZoneId = world.findZoneAtPosition(nextPosition);
 
         RobotWorker moved = robot.updatePosition(nextPosition, newZoneId);
@@ -146,13 +328,53 @@ public class RobotBehaviorEngine {
 
         // 목표 도달 확인
         if (moved.hasReachedTarget()) {
-            RobotState scheduledState = moved.getScheduledState(LocalTime.now());
+            cooperativePlans.remove(robot.getRobotId());
+            routes.remove(robot.getRobotId());
+            RobotState scheduledState = moved.getScheduledState(currentTime);
             return moved.updateState(scheduledState != null ? scheduledState : RobotState.WORKING);
         }
 
         return moved;
     }
 
+    /**
+     * 협력 경로 계획 및 예약
+     * 기존 예약을 취소한 뒤 window 범위 내 충돌 없는 경로를 예약
+     *
+     * @return 계획 (목표 도달 또는 경로 없음이면 null)
+     */
+    private CooperativePlan planCooperativePath(RobotWorker robot) {
+        String robotId = robot.getRobotId();
+        ReservationTable reservations = world.getReservationTable();
+        CooperativePathFinder finder = world.getCooperativePathFinder();
+
+        reservations.release(robotId);
+        cooperativePlans.remove(robotId);
+
+        if (robot.hasReachedTarget()) {
+            return null;
+        }
+
+        List<Position> path = finder.findPath(robotId, robot.getCurrentPosition(),
+                robot.getTargetPosition(), currentTick, PLANNING_WINDOW);
+        replanCount.incrementAndGet();
+
+        if (path.isEmpty()) {
+            // 정적 경로 자체가 없으면 실패, 일시적으로 막힌 경우 제자리 대기 (정적 경로는 저장된 것 사용)
+            if (route(robot) == null) {
+                return null;
+            }
+            path = List.of(robot.getCurrentPosition());
+        }
+
+        finder.reservePath(robotId, robot.getCurrentPosition(), path, currentTick, PLANNING_WINDOW);
+
+        CooperativePlan plan = new CooperativePlan(robot.getTargetPosition(), currentTick,
+                world.getGridMap().getVersion(), path);
+        cooperativePlans.put(robotId, plan);
+        return plan;
+    }
+
     /**
      * 대피 처리
      */
@@ -166,19 +388,35 @@ public class RobotBehaviorEngine {
             return robot;
         }
 
-        // 대피소로 이동
-        List<Position> path = world.findPath(
-                robot.getCurrentPosition(), robot.getTargetPosition());
+        // 대피소로 이동 (경로는 저장해 두고 커서로 따라감)
+        RouteCursor route = robot.hasReachedTarget() ? null : route(robot);
 
-        if (path.isEmpty() || robot.hasReachedTarget()) {
+        if (route == null || route.remaining() == 0) {
             // 대피 완료
+            routes.remove(robot.getRobotId());
             log.info("Robot {} reached assembly point", robot.getRobotId());
             return robot.updateState(RobotState.RESTING);
         }
 
-        // 한 칸 이동 (대피 시 빠르게 2칸씩)
-        int steps = Math.min(2, path.size());
-        Position nextPosition = path.get(steps - 1);
+        // 대피 시 빠르게 2칸씩 이동, 지나가는 셀을 모두 확인해 다른 로봇이 예약한 셀 앞에서 멈춤
+        String robotId = robot.getRobotId();
+        int maxSteps = Math.min(2, route.remaining());
+        int steps = 0;
+        while (steps < maxSteps && !isReservedByOther(route.peek(steps + 1), robotId)) {
+            steps++;
+        }
+        if (steps == 0) {
+            reserveWait(robot);  // 이번 틱은 대기
+            return robot;
+        }
+
+        // 지나가는 셀도 다음 틱까지 예약 (중간 셀로 들어오는 로봇과 겹치지 않도록)
+        ReservationTable reservations = world.getReservationTable();
+        for (int step = 1; step <= steps; step++) {
+            reservations.reserve(route.peek(step), currentTick + 1, robotId);
+        }
+        Position nextPosition = route.peek(steps);
+        route.advanceTo(nextPosition);
         String newZoneId = world.findZoneAtPosition(nextPosition);
 
         RobotWorker moved = robot.updatePosition(nextPosition, newZoneId);
@@ -187,14 +425,45 @@ public class RobotBehaviorEngine {
         return moved;
     }
 
+    /**
+     * 저장된 정적 경로 (없거나 무효하면 다시 계산, 경로가 없으면 null)
+     * 재계산 조건: 목표 변경, 맵 버전 변경, 로봇이 경로를 벗어남, 다음 셀이 막힘
+     */
+    private RouteCursor route(RobotWorker robot) {
+        GridMap gridMap = world.getGridMap();
+        RouteCursor route = routes.get(robot.getRobotId());
+        if (route != null && route.isValidFor(robot.getCurrentPosition(), robot.getTargetPosition(), gridMap.getVersion())
+                && (route.remaining() == 0 || gridMap.isWalkable(route.peek(1)))) {
+            return route;
+        }
+
+        List<Position> path = world.findPath(robot.getCurrentPosition(), robot.getTargetPosition());
+        replanCount.incrementAndGet();
+        if (path.isEmpty()) {
+            routes.remove(robot.getRobotId());
+            return null;
+        }
+
+        route = new RouteCursor(robot.getTargetPosition(), gridMap.getVersion(), robot.getCurrentPosition(), path);
+        routes.put(robot.getRobotId(), route);
+        return route;
+    }
+
+    /**
+     * 누적 경로 탐색 횟수 (협력 A* 계획 + 정적 경로 계산)
+     */
+    public long getReplanCount() {
+        return replanCount.get();
+    }
+
     /**
      * 상태별 행동 수행
      */
-    private RobotWorker performStateAction(RobotWorker robot, RobotState state) {
+    private RobotWorker performStateAction(RobotWorker robot, RobotState state, Random random) {
         return switch (state) {
-            case WORKING -> handleWorking(robot);
-            case RESTING -> handleResting(robot);
-            case EATING -> handleEating(robot);
+            case WORKING -> handleWorking(robot, random);
+            case RESTING -> handleResting(robot, random);
+            case EATING -> handleEating(robot, random);
             default -> robot;
         };
     }
@@ -202,21 +471,20 @@ public class RobotBehaviorEngine {
     /**
      * 작업 중 행동
      */
-    private RobotWorker handleWorking(RobotWorker robot) {
+    private RobotWorker handleWorking(RobotWorker robot, Random random) {
         // 건강 상태 업데이트 (작업 중)
-        HealthStatus newHealth = HealthStatus.createWorking();
+        HealthStatus newHealth = HealthStatus.createWorking(random);
 
         // 배터리 소모
         BatteryStatus newBattery = robot.getBatteryStatus().drainWorking(1);
 
-        // 구역 내 랜덤 이동 (가끔)
+        // 구역 내 랜덤 이동 (가끔, 세계 반영은 호출자가 처리)
         if (random.nextDouble() < 0.1) {
             SimulationZone currentZone = world.getZones().get(robot.getCurrentZoneId());
             if (currentZone != null) {
-                Position newPos = currentZone.getRandomPosition();
+                Position newPos = currentZone.getRandomPosition(random);
                 if (world.getGridMap().isWalkable(newPos)) {
                     robot = robot.updatePosition(newPos, robot.getCurrentZoneId());
-                    world.updateRobotPosition(robot.getRobotId(), newPos);
                 }
             }
         }
@@ -227,9 +495,9 @@ public class RobotBehaviorEngine {
     /**
      * 휴식 중 행동
      */
-    private RobotWorker handleResting(RobotWorker robot) {
+    private RobotWorker handleResting(RobotWorker robot, Random random) {
         // 건강 상태 회복
-        HealthStatus newHealth = HealthStatus.createNormal();
+        HealthStatus newHealth = HealthStatus.createNormal(random);
 
         // 배터리 소모 (대기)
         BatteryStatus newBattery = robot.getBatteryStatus().drainIdle(1);
@@ -240,9 +508,9 @@ public class RobotBehaviorEngine {
     /**
      * 식사 중 행동
      */
-    private RobotWorker handleEating(RobotWorker robot) {
+    private RobotWorker handleEating(RobotWorker robot, Random random) {
         // 건강 상태 유지
-        HealthStatus newHealth = HealthStatus.createNormal();
+        HealthStatus newHealth = HealthStatus.createNormal(random);
 
         // 배터리 소모 (대기)
         BatteryStatus newBattery = robot.getBatteryStatus().drainIdle(1);
@@ -278,9 +546,233 @@ public class RobotBehaviorEngine {
 
         for (RobotWorker robot : world.getRobots().values()) {
             if (robot.isOnline() && robot.getState() != RobotState.EMERGENCY) {
-                RobotWorker evacuating = robot.startEvacuation(evacuationPoint);
-                world.getRobots().put(robot.getRobotId(), evacuating);
+                world.applyRobotUpdate(robot.startEvacuation(evacuationPoint));
+            }
+        }
+    }
+
+    /**
+     * 경로 상태 기록 (현재 틱, 협력 계획, 정적 경로)
+     * 맵 버전은 기록 시점의 맵과 같았는지만 남기고, 복원할 때 복원된 맵의 버전으로 맞춤
+     * 정적 경로는 커서 위치부터만 기록 (지나간 칸은 다시 쓰지 않음, 무효화된 경로는 다시 계산되므로 생략)
+     */
+    public void writeSnapshot(DataOutput out) throws IOException {
+        long mapVersion = world.getGridMap().getVersion();
+        out.writeLong(currentTick);
+        out.writeLong(replanCount.get());
+
+        out.writeInt(cooperativePlans.size());
+        for (Map.Entry<String, CooperativePlan> entry : cooperativePlans.entrySet()) {
+            CooperativePlan plan = entry.getValue();
+            out.writeUTF(entry.getKey());
+            SnapshotIO.writePosition(out, plan.target);
+            out.writeLong(plan.plannedAt);
+            out.writeBoolean(plan.mapVersion == mapVersion);
+            out.writeInt(plan.consumed);
+            writePath(out, plan.steps);
+        }
+
+        int validRoutes = 0;
+        for (RouteCursor route : routes.values()) {
+            if (route.cursor >= 0) {
+                validRoutes++;
+            }
+        }
+        out.writeInt(validRoutes);
+        for (Map.Entry<String, RouteCursor> entry : routes.entrySet()) {
+            RouteCursor route = entry.getValue();
+            if (route.cursor < 0) {
+                continue;
+            }
+            out.writeUTF(entry.getKey());
+            SnapshotIO.writePosition(out, route.target);
+            out.writeBoolean(route.mapVersion == mapVersion);
+            writePath(out, route.cells.subList(route.cursor, route.cells.size()));
+        }
+    }
+
+    /**
+     * 경로 상태 복원 (세계의 맵을 먼저 복원한 뒤 호출)
+     */
+    public void readSnapshot(DataInput in) throws IOException {
+        long mapVersion = world.getGridMap().getVersion();
+        currentTick = in.readLong();
+        replanCount.set(in.readLong());
+
+        cooperativePlans.clear();
+        int planCount = in.readInt();
+        for (int i = 0; i < planCount; i++) {
+            String robotId = in.readUTF();
+            Position target = SnapshotIO.readPosition(in);
+            long plannedAt = in.readLong();
+            long planMapVersion = in.readBoolean() ? mapVersion : -1;
+            int consumed = in.readInt();
+            CooperativePlan plan = new CooperativePlan(target, plannedAt, planMapVersion, readPath(in));
+            plan.consumed = consumed;
+            cooperativePlans.put(robotId, plan);
+        }
+
+        routes.clear();
+        int routeCount = in.readInt();
+        for (int i = 0; i < routeCount; i++) {
+            String robotId = in.readUTF();
+            Position target = SnapshotIO.readPosition(in);
+            long routeMapVersion = in.readBoolean() ? mapVersion : -1;
+            List<Position> cells = readPath(in);
+            if (cells.isEmpty()) {
+                throw new IOException("빈 경로입니다: " + robotId);
+            }
+            routes.put(robotId, new RouteCursor(target, routeMapVersion, cells.get(0), cells.subList(1, cells.size())));
+        }
+    }
+
+    /**
+     * 경로 기록: 첫 칸은 좌표, 이후는 이웃 칸 이동을 1바이트로 (대기 포함, 이웃이 아니면 좌표로 기록)
+     */
+    private static void writePath(DataOutput out, Collection<Position> path) throws IOException {
+        out.writeInt(path.size());
+        Position previous = null;
+        for (Position position : path) {
+            int dx = previous != null ? position.getX() - previous.getX() : Integer.MAX_VALUE;
+            int dy = previous != null ? position.getY() - previous.getY() : Integer.MAX_VALUE;
+            if (Math.abs(dx) <= 1 && Math.abs(dy) <= 1) {
+                out.writeByte((dx + 1) * 3 + (dy + 1));
+            } else {
+                out.writeByte(PATH_ABSOLUTE);
+                out.writeInt(position.getX());
+                out.writeInt(position.getY());
+            }
+            previous = position;
+        }
+    }
+
+    private static List<Position> readPath(DataInput in) throws IOException {
+        int count = in.readInt();
+        List<Position> path = new ArrayList<>(count);
+        Position previous = null;
+        for (int i = 0; i < count; i++) {
+            int code = in.readByte();
+            Position position;
+            if (code == PATH_ABSOLUTE) {
+                position = Position.of(in.readInt(), in.readInt());
+            } else if (previous != null && code >= 0 && code < PATH_ABSOLUTE) {
+                position = Position.of(previous.getX() + code / 3 - 1, previous.getY() + code % 3 - 1);
+            } else {
+                throw new IOException("잘못된 경로 데이터: " + code);
+            }
+            path.add(position);
+            previous = position;
+        }
+        return path;
+    }
+
+    private boolean isReservedByOther(Position position, String robotId) {
+        return world.getReservationTable()
+                .isReservedByOther(position.getX(), position.getY(), currentTick + 1, robotId);
+    }
+
+    /**
+     * 행동 결정 결과
+     *
+     * @param robot             결정된 로봇 상태
+     * @param needsCoordination 예약 테이블을 쓰는 이동이 남아 있으면 true (coordinate() 호출 필요)
+     */
+    public record TickDecision(RobotWorker robot, boolean needsCoordination) {
+
+        static TickDecision done(RobotWorker robot) {
+            return new TickDecision(robot, false);
+        }
+
+        static TickDecision coordinate(RobotWorker robot) {
+            return new TickDecision(robot, true);
+        }
+    }
+
+    /**
+     * 협력 경로 계획 (틱별 예약 위치)
+     */
+    private static class CooperativePlan {
+        private final Position target;
+        private final long plannedAt;
+        private final long mapVersion;
+        private final Deque<Position> steps;
+        private int consumed;
+
+        CooperativePlan(Position target, long plannedAt, long mapVersion, List<Position> steps) {
+            this.target = target;
+            this.plannedAt = plannedAt;
+            this.mapVersion = mapVersion;
+            this.steps = new ArrayDeque<>(steps);
+        }
+
+        /**
+         * 목표 변경, 맵 변경, 경로 소진, 재계획 주기 도달, 틱 누락(예약과 어긋남) 시 재계획
+         */
+        boolean needsReplan(Position currentTarget, long tick, long currentMapVersion) {
+            return !target.equals(currentTarget)
+                    || mapVersion != currentMapVersion
+                    || steps.isEmpty()
+                    || consumed >= REPLAN_INTERVAL
+                    || plannedAt + consumed != tick;
+        }
+
+        Position peek() {
+            return steps.peekFirst();
+        }
+
+        Position next() {
+            consumed++;
+            return steps.pollFirst();
+        }
+    }
+
+    /**
+     * 정적 경로와 현재 위치 커서
+     * cells[0]은 계산 시작 위치, cursor는 로봇이 있는 칸의 인덱스
+     */
+    private static class RouteCursor {
+        private final Position target;
+        private final long mapVersion;
+        private final List<Position> cells;
+        private int cursor;
+
+        RouteCursor(Position target, long mapVersion, Position start, List<Position> path) {
+            this.target = target;
+            this.mapVersion = mapVersion;
+            this.cells = new ArrayList<>(path.size() + 1);
+            this.cells.add(start);
+            this.cells.addAll(path);
+        }
+
+        boolean isValidFor(Position current, Position currentTarget, long currentMapVersion) {
+            return target.equals(currentTarget)
+                    && mapVersion == currentMapVersion
+                    && cursor >= 0
+                    && cells.get(cursor).equals(current);
+        }
+
+        int remaining() {
+            return cells.size() - 1 - cursor;
+        }
+
+        /**
+         * 커서에서 n칸 앞 위치
+         */
+        Position peek(int n) {
+            return cells.get(cursor + n);
+        }
+
+        /**
+         * 이동한 위치로 커서 이동 (경로상 가까운 앞쪽에 없으면 무효화)
+         */
+        void advanceTo(Position position) {
+            for (int i = cursor + 1; i <= Math.min(cursor + 2, cells.size() - 1); i++) {
+                if (cells.get(i).equals(position)) {
+                    cursor = i;
+                    return;
+                }
             }
+            cursor = -1;
         }
     }
 }
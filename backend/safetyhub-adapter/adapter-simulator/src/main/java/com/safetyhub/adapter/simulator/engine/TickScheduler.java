@@ -0,0 +1,136 @@
+package com.safetyhub.adapter.simulator.engine;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 실시간 틱 스케줄러
+ * scheduleAtFixedRate와 달리 틱마다 소요 시간과 지연(예정 시각 대비 늦게 시작한 시간)을 측정함
+ *
+ * - 지연이 틱 간격을 넘으면 behind=true로 틱을 실행 (틱 쪽에서 비핵심 작업을 줄임)
+ * - 지연이 최대 허용치를 넘으면 밀린 틱을 몰아서 실행하지 않고 건너뜀
+ * - 틱에서 예외가 나도 다음 틱은 계속 실행
+ */
+@Slf4j
+public class TickScheduler {
+
+    /**
+     * 틱 작업
+     */
+    @FunctionalInterface
+    public interface TickTask {
+        /**
+         * @param behind 실시간보다 늦어지고 있는지 (늦으면 비핵심 작업을 줄임)
+         */
+        void run(boolean behind);
+    }
+
+    /**
+     * 틱 타이밍 수신자
+     */
+    @FunctionalInterface
+    public interface TimingListener {
+        /**
+         * @param durationNanos 틱 실행 시간
+         * @param lagNanos      예정 시각보다 늦게 시작한 시간
+         * @param overrun       실행 시간이 틱 간격을 넘었는지
+         * @param behind        늦어진 상태로 실행했는지
+         * @param skippedTicks  지연이 너무 커서 건너뛴 틱 수
+         */
+        void onTick(long durationNanos, long lagNanos, boolean overrun, boolean behind, long skippedTicks);
+    }
+
+    private final String name;
+    private final long intervalNanos;
+    private final long maxLagNanos;
+    private final TickTask task;
+    private final TimingListener listener;
+
+    private volatile boolean running;
+    private Thread thread;
+
+    /**
+     * @param interval     틱 간격
+     * @param maxLagTicks  따라잡기를 포기하고 밀린 틱을 건너뛰는 지연 (틱 수)
+     */
+    public TickScheduler(String name, Duration interval, int maxLagTicks, TickTask task, TimingListener listener) {
+        if (interval.isZero() || interval.isNegative()) {
+            throw new IllegalArgumentException("틱 간격은 0보다 커야 합니다: " + interval);
+        }
+        if (maxLagTicks <= 0) {
+            throw new IllegalArgumentException("maxLagTicks는 0보다 커야 합니다");
+        }
+        this.name = name;
+        this.intervalNanos = interval.toNanos();
+        this.maxLagNanos = intervalNanos * maxLagTicks;
+        this.task = task;
+        this.listener = listener;
+    }
+
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        thread = new Thread(this::loop, name);
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * 중지 (실행 중인 틱이 끝날 때까지 최대 timeout 대기)
+     */
+    public synchronized void stop(long timeout, TimeUnit unit) {
+        running = false;
+        if (thread == null) {
+            return;
+        }
+        LockSupport.unpark(thread);
+        if (thread != Thread.currentThread()) {
+            try {
+                thread.join(unit.toMillis(timeout));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        thread = null;
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void loop() {
+        long next = System.nanoTime();
+        while (running) {
+            long now = System.nanoTime();
+            if (next - now > 0) {
+                LockSupport.parkNanos(next - now);
+                continue;
+            }
+
+            long lag = now - next;
+            boolean behind = lag > intervalNanos;
+            try {
+                task.run(behind);
+            } catch (Exception e) {
+                log.error("Error in tick {}: {}", name, e.getMessage());
+            }
+            long duration = System.nanoTime() - now;
+
+            // 다음 예정 시각 (너무 밀렸으면 몰아서 실행하지 않고 건너뜀)
+            next += intervalNanos;
+            long skipped = 0;
+            long late = System.nanoTime() - next;
+            if (late > maxLagNanos) {
+                skipped = late / intervalNanos;
+                next += skipped * intervalNanos;
+            }
+
+            listener.onTick(duration, lag, duration > intervalNanos, behind, skipped);
+        }
+    }
+}
@@ -1,14 +1,23 @@
 package com.safetyhub.adapter.simulator.event;
 
 import com.safetyhub.adapter.simulator.robot.HealthStatus;
+import com.safetyhub.adapter.simulator.robot.Position;
 import com.safetyhub.adapter.simulator.robot.RobotState;
+import com.safetyhub.adapter.simulator.robot.RobotStateStore;
 import com.safetyhub.adapter.simulator.robot.RobotWorker;
+import com.safetyhub.adapter.simulator.snapshot.SnapshotIO;
 import com.safetyhub.adapter.simulator.world.VirtualWorld;
+import com.safetyhub.core.support.CoarseClock;
+import com.safetyhub.core.support.IdGenerator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.util.*;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
 
 /**
  * 이벤트 생성기
@@ -27,10 +36,35 @@ public class EventGenerator {
 
     private final Random random = new Random();
 
+    // 위치 업데이트 전송 확률 (실시간보다 늦어지면 낮춤)
+    private static final double LOCATION_UPDATE_RATE = 0.1;
+    private static final double REDUCED_LOCATION_UPDATE_RATE = 0.02;
+    private volatile boolean reducedEmission;
+
+    /**
+     * 이벤트 감축 모드 설정 (위치 업데이트 비율을 낮춤, 상태/구역/긴급 이벤트는 그대로)
+     * 난수는 같은 횟수만큼 뽑으므로 로봇별 난수 흐름은 바뀌지 않음
+     */
+    public void setReducedEmission(boolean reducedEmission) {
+        this.reducedEmission = reducedEmission;
+    }
+
+    private double locationUpdateRate() {
+        return reducedEmission ? REDUCED_LOCATION_UPDATE_RATE : LOCATION_UPDATE_RATE;
+    }
+
     /**
      * 로봇 상태 변화 감지 및 이벤트 생성
      */
     public List<SimulationEvent> generateEvents(RobotWorker robot) {
+        return generateEvents(robot, random);
+    }
+
+    /**
+     * 로봇 상태 변화 감지 및 이벤트 생성 (주어진 난수 생성기 사용, 시드 고정 시뮬레이션용)
+     * 이전 상태 맵을 갱신하므로 한 스레드에서 호출
+     */
+    public List<SimulationEvent> generateEvents(RobotWorker robot, Random random) {
         List<SimulationEvent> events = new ArrayList<>();
         String robotId = robot.getRobotId();
 
@@ -62,37 +96,20 @@ public class EventGenerator {
         }
         previousZones.put(robotId, currentZone);
 
-        // 위치 업데이트 이벤트 (10% 확률로 전송)
-        if (random.nextDouble() < 0.1) {
+        // 위치 업데이트 이벤트 (10% 확률로 전송, 감축 모드에서는 2%)
+        if (random.nextDouble() < locationUpdateRate()) {
             events.add(SimulationEvent.locationUpdate(
                     robotId, robot.getCurrentPosition(), robot.getCurrentZoneId()));
         }
 
         // 건강 위험 감지
         if (robot.getHealthStatus() != null && robot.getHealthStatus().isDangerous()) {
-            if (robot.getHealthStatus().isFallen()) {
-                events.add(SimulationEvent.fallDetected(
-                        robotId, robot.getCurrentZoneId(), robot.getCurrentPosition()));
-            } else if (robot.getHealthStatus().getLevel() == HealthStatus.HealthLevel.CRITICAL) {
-                events.add(SimulationEvent.healthCritical(
-                        robotId, robot.getCurrentZoneId(), robot.getCurrentPosition(),
-                        Map.of(
-                                "heartRate", robot.getHealthStatus().getHeartRate(),
-                                "temperature", robot.getHealthStatus().getTemperature(),
-                                "oxygenLevel", robot.getHealthStatus().getOxygenLevel()
-                        )));
-            }
+            addHealthEvent(robot, events::add);
         }
 
         // 배터리 부족 경고
         if (robot.getBatteryStatus() != null && robot.getBatteryStatus().isCritical()) {
-            events.add(SimulationEvent.builder()
-                    .eventId(UUID.randomUUID().toString())
-                    .type(SimulationEvent.EventType.BATTERY_LOW)
-                    .robotId(robotId)
-                    .priority(SimulationEvent.EventPriority.HIGH)
-                    .data(Map.of("batteryLevel", robot.getBatteryStatus().getLevel()))
-                    .build());
+            events.add(batteryLow(robotId, robot.getBatteryStatus().getLevel()));
         }
 
         // 이벤트 큐에 추가
@@ -101,6 +118,94 @@ public class EventGenerator {
         return events;
     }
 
+    /**
+     * 상태 저장소 슬롯의 변화 감지 및 이벤트 생성 (generateEvents와 같은 규칙)
+     * 이벤트가 없으면 객체를 만들지 않고, RobotWorker는 긴급/건강 이벤트가 필요할 때만 생성
+     *
+     * @param sink 생성된 이벤트 수신자
+     */
+    public void generateEvents(RobotStateStore store, int index, Random random, Consumer<SimulationEvent> sink) {
+        String robotId = store.getRobotId(index);
+        RobotState state = store.getState(index);
+
+        // 상태 변경 감지
+        RobotState previousState = previousStates.put(robotId, state);
+        if (previousState != null && previousState != state) {
+            emit(sink, SimulationEvent.stateChanged(robotId, previousState.name(), state.name()));
+
+            // 긴급 상황 이벤트
+            if (state == RobotState.EMERGENCY) {
+                emit(sink, generateEmergencyEvent(store.materialize(index)));
+            }
+        }
+
+        // 구역 변경 감지
+        String currentZone = store.getZoneId(index);
+        String previousZone = previousZones.put(robotId, currentZone);
+        if (!Objects.equals(previousZone, currentZone)) {
+            if (previousZone != null) {
+                emit(sink, SimulationEvent.zoneExited(robotId, previousZone, positionOf(store, index)));
+            }
+            if (currentZone != null) {
+                emit(sink, SimulationEvent.zoneEntered(robotId, currentZone, positionOf(store, index)));
+            }
+        }
+
+        // 위치 업데이트 이벤트 (10% 확률로 전송, 감축 모드에서는 2%)
+        if (random.nextDouble() < locationUpdateRate()) {
+            emit(sink, SimulationEvent.locationUpdate(robotId, positionOf(store, index), currentZone));
+        }
+
+        // 건강 위험 감지
+        if (store.isHealthDangerous(index)) {
+            addHealthEvent(store.materialize(index), event -> emit(sink, event));
+        }
+
+        // 배터리 부족 경고
+        if (store.isBatteryCritical(index)) {
+            emit(sink, batteryLow(robotId, store.getBatteryLevel(index)));
+        }
+    }
+
+    private void emit(Consumer<SimulationEvent> sink, SimulationEvent event) {
+        eventQueue.add(event);
+        sink.accept(event);
+    }
+
+    private static Position positionOf(RobotStateStore store, int index) {
+        return store.hasPosition(index) ? Position.of(store.getX(index), store.getY(index)) : null;
+    }
+
+    /**
+     * 건강 위험 이벤트 (낙상 또는 위급)
+     */
+    private void addHealthEvent(RobotWorker robot, Consumer<SimulationEvent> sink) {
+        HealthStatus health = robot.getHealthStatus();
+        if (health.isFallen()) {
+            sink.accept(SimulationEvent.fallDetected(
+                    robot.getRobotId(), robot.getCurrentZoneId(), robot.getCurrentPosition()));
+        } else if (health.getLevel() == HealthStatus.HealthLevel.CRITICAL) {
+            sink.accept(SimulationEvent.healthCritical(
+                    robot.getRobotId(), robot.getCurrentZoneId(), robot.getCurrentPosition(),
+                    Map.of(
+                            "heartRate", health.getHeartRate(),
+                            "temperature", health.getTemperature(),
+                            "oxygenLevel", health.getOxygenLevel()
+                    )));
+        }
+    }
+
+    private static SimulationEvent batteryLow(String robotId, int batteryLevel) {
+        return SimulationEvent.builder()
+                .eventId(IdGenerator.nextId())
+                .type(SimulationEvent.EventType.BATTERY_LOW)
+                .robotId(robotId)
+                .priority(SimulationEvent.EventPriority.HIGH)
+                .data(Map.of("batteryLevel", batteryLevel))
+                .timestamp(CoarseClock.localDateTime())
+                .build();
+    }
+
     /**
      * 센서 데이터 이벤트 생성
      */
@@ -194,6 +299,70 @@ public class EventGenerator {
         return events;
     }
 
+    /**
+     * 대기 이벤트만 버림 (변화 감지 상태는 유지)
+     */
+    public void discardPending() {
+        eventQueue.clear();
+    }
+
+    /**
+     * 변화 감지 상태 기록 (로봇별 직전 상태와 구역, 대기 이벤트는 제외)
+     */
+    public void writeSnapshot(DataOutput out) throws IOException {
+        RobotStateStore store = world.getRobotStates();
+        out.writeInt(previousStates.size());
+        for (Map.Entry<String, RobotState> entry : previousStates.entrySet()) {
+            writeRobotId(out, store, entry.getKey());
+            out.writeByte(entry.getValue().ordinal());
+        }
+        SnapshotIO.StringTable zoneTable = new SnapshotIO.StringTable();
+        previousZones.values().forEach(zoneTable::add);
+        zoneTable.writeTo(out);
+        out.writeInt(previousZones.size());
+        for (Map.Entry<String, String> entry : previousZones.entrySet()) {
+            writeRobotId(out, store, entry.getKey());
+            zoneTable.writeIndex(out, entry.getValue());
+        }
+    }
+
+    /**
+     * 저장소에 있는 로봇은 슬롯 번호로, 없는 로봇은 -1과 ID (세계를 먼저 복원하므로 슬롯으로 ID를 찾을 수 있음)
+     */
+    private static void writeRobotId(DataOutput out, RobotStateStore store, String robotId) throws IOException {
+        int index = store.indexOf(robotId);
+        out.writeInt(index);
+        if (index < 0) {
+            out.writeUTF(robotId);
+        }
+    }
+
+    private static String readRobotId(DataInput in, RobotStateStore store) throws IOException {
+        int index = in.readInt();
+        if (index >= store.size()) {
+            throw new IOException("잘못된 로봇 슬롯: " + index);
+        }
+        return index >= 0 ? store.getRobotId(index) : in.readUTF();
+    }
+
+    /**
+     * 변화 감지 상태 복원 (대기 이벤트는 비움)
+     */
+    public void readSnapshot(DataInput in) throws IOException {
+        clear();
+        RobotStateStore store = world.getRobotStates();
+        RobotState[] states = RobotState.values();
+        int stateCount = in.readInt();
+        for (int i = 0; i < stateCount; i++) {
+            previousStates.put(readRobotId(in, store), states[in.readByte()]);
+        }
+        String[] zoneTable = SnapshotIO.StringTable.read(in);
+        int zoneCount = in.readInt();
+        for (int i = 0; i < zoneCount; i++) {
+            previousZones.put(readRobotId(in, store), SnapshotIO.StringTable.readIndex(in, zoneTable));
+        }
+    }
+
     /**
      * 이벤트 큐 초기화
      */
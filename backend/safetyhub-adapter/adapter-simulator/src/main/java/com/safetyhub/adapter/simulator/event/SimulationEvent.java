@@ -1,18 +1,19 @@
 package com.safetyhub.adapter.simulator.event;
 
 import com.safetyhub.adapter.simulator.robot.Position;
+import com.safetyhub.core.support.CoarseClock;
+import com.safetyhub.core.support.IdGenerator;
 import lombok.Builder;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
 import java.util.Map;
-import java.util.UUID;
 
 /**
  * 시뮬레이션 이벤트
  */
 @Getter
-@Builder
+@Builder(toBuilder = true)
 public class SimulationEvent {
 
     private final String eventId;
@@ -45,6 +46,10 @@ public class SimulationEvent {
         SOS_TRIGGERED,
         HEALTH_CRITICAL,
 
+        // 근접 이벤트
+        COLLISION_DETECTED,
+        NEAR_MISS,
+
         // 시스템 이벤트
         EVACUATION_STARTED,
         EVACUATION_COMPLETED,
@@ -59,12 +64,22 @@ public class SimulationEvent {
         CRITICAL
     }
 
+    /**
+     * 이벤트 ID와 발생 시각만 바꾼 사본 (헤드리스 실행에서 가상 시계 기준으로 다시 찍을 때 사용)
+     */
+    public SimulationEvent withIdentity(String eventId, LocalDateTime timestamp) {
+        return toBuilder()
+                .eventId(eventId)
+                .timestamp(timestamp)
+                .build();
+    }
+
     /**
      * 위치 업데이트 이벤트 생성
      */
     public static SimulationEvent locationUpdate(String robotId, Position position, String zoneId) {
         return SimulationEvent.builder()
-                .eventId(UUID.randomUUID().toString())
+                .eventId(IdGenerator.nextId())
                 .type(EventType.LOCATION_UPDATE)
                 .robotId(robotId)
                 .zoneId(zoneId)
@@ -74,7 +89,7 @@ public class SimulationEvent {
                         "latitude", position.toLatitude(),
                         "longitude", position.toLongitude()
                 ))
-                .timestamp(LocalDateTime.now())
+                .timestamp(CoarseClock.localDateTime())
                 .build();
     }
 
@@ -83,14 +98,14 @@ public class SimulationEvent {
      */
     public static SimulationEvent zoneEntered(String robotId, String zoneId, Position position) {
         return SimulationEvent.builder()
-                .eventId(UUID.randomUUID().toString())
+                .eventId(IdGenerator.nextId())
                 .type(EventType.ZONE_ENTERED)
                 .robotId(robotId)
                 .zoneId(zoneId)
                 .position(position)
                 .priority(EventPriority.NORMAL)
                 .data(Map.of("action", "entered"))
-                .timestamp(LocalDateTime.now())
+                .timestamp(CoarseClock.localDateTime())
                 .build();
     }
 
@@ -99,14 +114,14 @@ public class SimulationEvent {
      */
     public static SimulationEvent zoneExited(String robotId, String zoneId, Position position) {
         return SimulationEvent.builder()
-                .eventId(UUID.randomUUID().toString())
+                .eventId(IdGenerator.nextId())
                 .type(EventType.ZONE_EXITED)
                 .robotId(robotId)
                 .zoneId(zoneId)
                 .position(position)
                 .priority(EventPriority.NORMAL)
                 .data(Map.of("action", "exited"))
-                .timestamp(LocalDateTime.now())
+                .timestamp(CoarseClock.localDateTime())
                 .build();
     }
 
@@ -115,7 +130,7 @@ public class SimulationEvent {
      */
     public static SimulationEvent stateChanged(String robotId, String oldState, String newState) {
         return SimulationEvent.builder()
-                .eventId(UUID.randomUUID().toString())
+                .eventId(IdGenerator.nextId())
                 .type(EventType.STATE_CHANGED)
                 .robotId(robotId)
                 .priority(EventPriority.NORMAL)
@@ -123,7 +138,7 @@ public class SimulationEvent {
                         "previousState", oldState,
                         "currentState", newState
                 ))
-                .timestamp(LocalDateTime.now())
+                .timestamp(CoarseClock.localDateTime())
                 .build();
     }
 
@@ -132,12 +147,12 @@ public class SimulationEvent {
      */
     public static SimulationEvent sensorData(String robotId, Map<String, Object> sensorValues) {
         return SimulationEvent.builder()
-                .eventId(UUID.randomUUID().toString())
+                .eventId(IdGenerator.nextId())
                 .type(EventType.SENSOR_DATA)
                 .robotId(robotId)
                 .priority(EventPriority.LOW)
                 .data(sensorValues)
-                .timestamp(LocalDateTime.now())
+                .timestamp(CoarseClock.localDateTime())
                 .build();
     }
 
@@ -146,12 +161,12 @@ public class SimulationEvent {
      */
     public static SimulationEvent heartbeat(String robotId) {
         return SimulationEvent.builder()
-                .eventId(UUID.randomUUID().toString())
+                .eventId(IdGenerator.nextId())
                 .type(EventType.HEARTBEAT)
                 .robotId(robotId)
                 .priority(EventPriority.LOW)
                 .data(Map.of("status", "alive"))
-                .timestamp(LocalDateTime.now())
+                .timestamp(CoarseClock.localDateTime())
                 .build();
     }
 
@@ -161,7 +176,7 @@ public class SimulationEvent {
     public static SimulationEvent emergency(String robotId, String zoneId, Position position,
                                             String emergencyType, String description) {
         return SimulationEvent.builder()
-                .eventId(UUID.randomUUID().toString())
+                .eventId(IdGenerator.nextId())
                 .type(EventType.EMERGENCY_DETECTED)
                 .robotId(robotId)
                 .zoneId(zoneId)
@@ -173,7 +188,7 @@ public class SimulationEvent {
                         "latitude", position.toLatitude(),
                         "longitude", position.toLongitude()
                 ))
-                .timestamp(LocalDateTime.now())
+                .timestamp(CoarseClock.localDateTime())
                 .build();
     }
 
@@ -182,7 +197,7 @@ public class SimulationEvent {
      */
     public static SimulationEvent fallDetected(String robotId, String zoneId, Position position) {
         return SimulationEvent.builder()
-                .eventId(UUID.randomUUID().toString())
+                .eventId(IdGenerator.nextId())
                 .type(EventType.FALL_DETECTED)
                 .robotId(robotId)
                 .zoneId(zoneId)
@@ -194,7 +209,7 @@ public class SimulationEvent {
                         "latitude", position.toLatitude(),
                         "longitude", position.toLongitude()
                 ))
-                .timestamp(LocalDateTime.now())
+                .timestamp(CoarseClock.localDateTime())
                 .build();
     }
 
@@ -204,14 +219,58 @@ public class SimulationEvent {
     public static SimulationEvent healthCritical(String robotId, String zoneId, Position position,
                                                  Map<String, Object> healthData) {
         return SimulationEvent.builder()
-                .eventId(UUID.randomUUID().toString())
+                .eventId(IdGenerator.nextId())
                 .type(EventType.HEALTH_CRITICAL)
                 .robotId(robotId)
                 .zoneId(zoneId)
                 .position(position)
                 .priority(EventPriority.CRITICAL)
                 .data(healthData)
-                .timestamp(LocalDateTime.now())
+                .timestamp(CoarseClock.localDateTime())
+                .build();
+    }
+
+    /**
+     * 근접(충돌/니어미스) 이벤트 생성
+     */
+    public static SimulationEvent proximity(String robotId, String otherRobotId, String zoneId,
+                                            Position position, double distance, boolean collision) {
+        return SimulationEvent.builder()
+                .eventId(IdGenerator.nextId())
+                .type(collision ? EventType.COLLISION_DETECTED : EventType.NEAR_MISS)
+                .robotId(robotId)
+                .zoneId(zoneId)
+                .position(position)
+                .priority(collision ? EventPriority.HIGH : EventPriority.NORMAL)
+                .data(Map.of(
+                        "otherRobotId", otherRobotId,
+                        "distance", distance,
+                        "latitude", position.toLatitude(),
+                        "longitude", position.toLongitude()
+                ))
+                .timestamp(CoarseClock.localDateTime())
+                .build();
+    }
+
+    /**
+     * 로봇-작업자 근접 이벤트 (같은 셀이면 충돌, 작업자가 관련되어 로봇끼리보다 한 단계 높은 우선순위)
+     */
+    public static SimulationEvent workerProximity(String robotId, String workerId, String zoneId,
+                                                  Position position, double distance, boolean collision) {
+        return SimulationEvent.builder()
+                .eventId(IdGenerator.nextId())
+                .type(collision ? EventType.COLLISION_DETECTED : EventType.NEAR_MISS)
+                .robotId(robotId)
+                .zoneId(zoneId)
+                .position(position)
+                .priority(collision ? EventPriority.CRITICAL : EventPriority.HIGH)
+                .data(Map.of(
+                        "workerId", workerId,
+                        "distance", distance,
+                        "latitude", position.toLatitude(),
+                        "longitude", position.toLongitude()
+                ))
+                .timestamp(CoarseClock.localDateTime())
                 .build();
     }
 }
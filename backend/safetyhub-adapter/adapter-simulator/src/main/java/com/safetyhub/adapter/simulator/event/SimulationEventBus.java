@@ -0,0 +1,391 @@
+package com.safetyhub.adapter.simulator.event;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * 시뮬레이션 이벤트 버스
+ *
+ * 리스너마다 고정 크기 큐와 전달 스레드를 두어 발행 쪽(틱 스레드)은 큐에 넣기만 함
+ * 느린 리스너는 자기 큐만 밀리고 다른 리스너나 틱은 기다리지 않음
+ *
+ * 큐가 가득 찼을 때 정책 (리스너별 지정):
+ * - DROP_OLDEST - 가장 오래된 이벤트를 버리고 넣음 (위치/텔레메트리용)
+ * - BLOCK - 자리가 날 때까지 발행 쪽이 대기 (긴급 이벤트용)
+ *   리스너가 틱이 잡은 잠금을 기다리는 경우의 교착을 막기 위해 최대 대기 시간이 지나면 버리고 기록
+ *
+ * DROP_OLDEST 리스너에는 HIGH/CRITICAL 이벤트(긴급, 충돌 등)용 우선 큐를 따로 두고 BLOCK으로 넣음
+ * 텔레메트리가 밀려 일반 큐가 넘쳐도 긴급 이벤트는 버려지지 않고, 전달 스레드는 우선 큐를 먼저 비움
+ * (BLOCK 리스너는 이미 잃지 않으므로 한 큐로 받아 발행 순서를 그대로 유지)
+ *
+ * 큐는 이벤트와 넣은 시각을 병렬 배열로 담는 링 버퍼이므로 발행 시 객체 생성이 없음
+ */
+@Slf4j
+public class SimulationEventBus {
+
+    public enum OverflowPolicy {
+        DROP_OLDEST,
+        BLOCK
+    }
+
+    // BLOCK 정책 최대 대기 시간
+    private static final long BLOCK_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(5);
+
+    // 전달 스레드가 한 번에 꺼내는 최대 이벤트 수
+    private static final int DRAIN_BATCH = 64;
+
+    // DROP_OLDEST 리스너의 우선 큐 크기
+    private static final int PRIORITY_LANE_CAPACITY = 1024;
+
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+    private final AtomicLong threadIndex = new AtomicLong(0);
+
+    /**
+     * 리스너 등록
+     *
+     * @param name     리스너 이름 (메트릭 키, 스레드 이름에 사용)
+     * @param capacity 큐 크기
+     * @param policy   큐가 가득 찼을 때 정책
+     */
+    public void subscribe(String name, Consumer<SimulationEvent> listener, int capacity, OverflowPolicy policy) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity는 0보다 커야 합니다");
+        }
+        Subscriber subscriber = new Subscriber(name, listener, capacity, policy);
+        subscribers.add(subscriber);
+        subscriber.start("simulation-event-" + threadIndex.incrementAndGet() + "-" + name);
+        log.info("Event listener subscribed: {} (capacity: {}, policy: {})", name, capacity, policy);
+    }
+
+    /**
+     * 리스너 해제 (큐에 남은 이벤트는 전달하지 않음)
+     */
+    public boolean unsubscribe(Consumer<SimulationEvent> listener) {
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.listener == listener && subscribers.remove(subscriber)) {
+                subscriber.stop();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 리스너 해제 (더 받지 않고 큐에 남은 이벤트를 전달할 때까지 대기한 뒤 해제)
+     *
+     * @return 시간 안에 남은 이벤트를 모두 전달했으면 true (등록되지 않은 리스너면 false)
+     */
+    public boolean unsubscribe(Consumer<SimulationEvent> listener, Duration drainTimeout) throws InterruptedException {
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.listener == listener && subscribers.remove(subscriber)) {
+                try {
+                    return subscriber.awaitDrained(System.nanoTime() + drainTimeout.toNanos());
+                } finally {
+                    subscriber.stop();
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 모든 리스너 큐에 이벤트 넣기
+     */
+    public void publish(SimulationEvent event) {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.offer(event);
+        }
+    }
+
+    /**
+     * 지금까지 넣은 이벤트가 모두 처리될 때까지 대기
+     *
+     * @return 시간 안에 모두 처리되었으면 true
+     */
+    public boolean awaitDrained(Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        for (Subscriber subscriber : subscribers) {
+            if (!subscriber.awaitDrained(deadline)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 모든 리스너 해제
+     */
+    public void shutdown() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.stop();
+        }
+        subscribers.clear();
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    /**
+     * 리스너별 메트릭 (대기 수, 전달/버림/오류 수, 지연)
+     * 지연은 큐에 넣은 시각부터 리스너 호출 시작까지의 시간
+     */
+    public Map<String, Object> getListenerMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        for (Subscriber subscriber : subscribers) {
+            metrics.put(subscriber.name, subscriber.getMetrics());
+        }
+        return metrics;
+    }
+
+    /**
+     * 리스너 하나의 큐(일반 + 우선)와 전달 스레드
+     */
+    private static class Subscriber implements Runnable {
+        private final String name;
+        private final Consumer<SimulationEvent> listener;
+        private final OverflowPolicy policy;
+
+        // 링 버퍼 (lock으로 보호)
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition notEmpty = lock.newCondition();
+        private final Condition notFull = lock.newCondition();
+        private final Condition drained = lock.newCondition();
+        private final Lane lane;
+        private final Lane priorityLane;  // DROP_OLDEST 리스너만 (BLOCK이면 null)
+        private long enqueued;   // 넣은 수
+        private long completed;  // 처리 완료 수 (전달 + 버림 + 오류)
+
+        private final AtomicLong delivered = new AtomicLong(0);
+        private final AtomicLong dropped = new AtomicLong(0);
+        private final AtomicLong errors = new AtomicLong(0);
+        private final AtomicLong lastLagNanos = new AtomicLong(0);
+        private final AtomicLong maxLagNanos = new AtomicLong(0);
+
+        private volatile boolean running = true;
+        private Thread thread;
+
+        Subscriber(String name, Consumer<SimulationEvent> listener, int capacity, OverflowPolicy policy) {
+            this.name = name;
+            this.listener = listener;
+            this.policy = policy;
+            this.lane = new Lane(capacity, policy);
+            this.priorityLane = policy == OverflowPolicy.DROP_OLDEST
+                    ? new Lane(PRIORITY_LANE_CAPACITY, OverflowPolicy.BLOCK)
+                    : null;
+        }
+
+        void start(String threadName) {
+            thread = new Thread(this, threadName);
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        void stop() {
+            running = false;
+            thread.interrupt();
+        }
+
+        void offer(SimulationEvent event) {
+            Lane target = priorityLane != null && isUrgent(event) ? priorityLane : lane;
+            lock.lock();
+            try {
+                if (target.isFull() && !makeRoom(target)) {
+                    return;
+                }
+                target.add(event, System.nanoTime());
+                enqueued++;
+                notEmpty.signal();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private static boolean isUrgent(SimulationEvent event) {
+            return event.getPriority() == SimulationEvent.EventPriority.CRITICAL
+                    || event.getPriority() == SimulationEvent.EventPriority.HIGH;
+        }
+
+        /**
+         * 가득 찬 큐에 자리 만들기 (lock 보유 상태에서 호출)
+         *
+         * @return 넣을 수 있으면 true, 이벤트를 버려야 하면 false
+         */
+        private boolean makeRoom(Lane target) {
+            if (target.policy == OverflowPolicy.DROP_OLDEST) {
+                target.dropOldest();
+                enqueued--;  // 버린 이벤트는 처리 대기에서 제외
+                dropped.incrementAndGet();
+                return true;
+            }
+
+            long remaining = BLOCK_TIMEOUT_NANOS;
+            try {
+                while (target.isFull() && running) {
+                    if (remaining <= 0) {
+                        dropped.incrementAndGet();
+                        log.error("Event listener {} blocked for {}ms, dropping event",
+                                name, TimeUnit.NANOSECONDS.toMillis(BLOCK_TIMEOUT_NANOS));
+                        return false;
+                    }
+                    remaining = notFull.awaitNanos(remaining);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                dropped.incrementAndGet();
+                return false;
+            }
+            return running;
+        }
+
+        @Override
+        public void run() {
+            SimulationEvent[] batch = new SimulationEvent[DRAIN_BATCH];
+            long[] batchEnqueuedAt = new long[batch.length];
+
+            while (running) {
+                int count;
+                lock.lock();
+                try {
+                    while (lane.size == 0 && (priorityLane == null || priorityLane.size == 0)) {
+                        notEmpty.await();
+                    }
+                    // 우선 큐를 먼저 비우고 남은 자리만큼 일반 큐에서 꺼냄
+                    count = priorityLane != null ? priorityLane.drainTo(batch, batchEnqueuedAt, 0) : 0;
+                    count = lane.drainTo(batch, batchEnqueuedAt, count);
+                    notFull.signalAll();
+                } catch (InterruptedException e) {
+                    break;
+                } finally {
+                    lock.unlock();
+                }
+
+                for (int i = 0; i < count; i++) {
+                    deliver(batch[i], batchEnqueuedAt[i]);
+                    batch[i] = null;
+                }
+
+                lock.lock();
+                try {
+                    completed += count;
+                    drained.signalAll();
+                } finally {
+                    lock.unlock();
+                }
+            }
+        }
+
+        private void deliver(SimulationEvent event, long enqueuedNanos) {
+            long lag = System.nanoTime() - enqueuedNanos;
+            lastLagNanos.set(lag);
+            maxLagNanos.accumulateAndGet(lag, Math::max);
+            try {
+                listener.accept(event);
+                delivered.incrementAndGet();
+            } catch (Exception e) {
+                errors.incrementAndGet();
+                log.error("Error in event listener {}: {}", name, e.getMessage());
+            }
+        }
+
+        boolean awaitDrained(long deadlineNanos) throws InterruptedException {
+            lock.lock();
+            try {
+                while (completed < enqueued) {
+                    long remaining = deadlineNanos - System.nanoTime();
+                    if (remaining <= 0 || !running) {
+                        return false;
+                    }
+                    drained.awaitNanos(remaining);
+                }
+                return true;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        Map<String, Object> getMetrics() {
+            int pending;
+            int priorityPending;
+            lock.lock();
+            try {
+                pending = lane.size;
+                priorityPending = priorityLane != null ? priorityLane.size : 0;
+            } finally {
+                lock.unlock();
+            }
+            Map<String, Object> metrics = new LinkedHashMap<>();
+            metrics.put("policy", policy.name());
+            metrics.put("capacity", lane.events.length);
+            metrics.put("pending", pending);
+            metrics.put("priorityPending", priorityPending);
+            metrics.put("delivered", delivered.get());
+            metrics.put("dropped", dropped.get());
+            metrics.put("errors", errors.get());
+            metrics.put("lagMs", lastLagNanos.get() / 1_000_000);
+            metrics.put("maxLagMs", maxLagNanos.get() / 1_000_000);
+            return metrics;
+        }
+    }
+
+    /**
+     * 링 버퍼 하나 (Subscriber의 lock 보유 상태에서만 접근)
+     */
+    private static class Lane {
+        private final OverflowPolicy policy;
+        private final SimulationEvent[] events;
+        private final long[] enqueuedAt;
+        private int head;
+        private int size;
+
+        Lane(int capacity, OverflowPolicy policy) {
+            this.policy = policy;
+            this.events = new SimulationEvent[capacity];
+            this.enqueuedAt = new long[capacity];
+        }
+
+        boolean isFull() {
+            return size == events.length;
+        }
+
+        void add(SimulationEvent event, long nanos) {
+            int tail = (head + size) % events.length;
+            events[tail] = event;
+            enqueuedAt[tail] = nanos;
+            size++;
+        }
+
+        void dropOldest() {
+            events[head] = null;
+            head = (head + 1) % events.length;
+            size--;
+        }
+
+        /**
+         * batch[offset]부터 남은 자리만큼 꺼내 담음
+         *
+         * @return 담은 뒤 batch에 찬 개수
+         */
+        int drainTo(SimulationEvent[] batch, long[] batchEnqueuedAt, int offset) {
+            int count = Math.min(size, batch.length - offset);
+            for (int i = 0; i < count; i++) {
+                batch[offset + i] = events[head];
+                batchEnqueuedAt[offset + i] = enqueuedAt[head];
+                events[head] = null;
+                head = (head + 1) % events.length;
+            }
+            size -= count;
+            return offset + count;
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.safetyhub.adapter.simulator.event;
+
+import com.safetyhub.adapter.simulator.robot.Position;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * SimulationEventRecorder가 남긴 로그를 순서대로 읽음
+ * 기록 중 프로세스가 죽어 마지막 레코드가 잘려 있으면 그 레코드만 버리고 끝으로 처리
+ */
+@Slf4j
+public class SimulationEventLogReader implements Closeable {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private static final SimulationEvent.EventType[] TYPES = SimulationEvent.EventType.values();
+    private static final SimulationEvent.EventPriority[] PRIORITIES = SimulationEvent.EventPriority.values();
+
+    /**
+     * 기록된 이벤트
+     *
+     * @param offsetNanos 기록 시작 후 수신 시각 (ns)
+     * @param event       이벤트 (ID, 발생 시각 포함 원본 그대로)
+     */
+    public record Entry(long offsetNanos, SimulationEvent event) {
+    }
+
+    private final DataInputStream in;
+    private final SimulationEventLogFormat.StringTableReader strings = new SimulationEventLogFormat.StringTableReader();
+
+    @Getter
+    private final Instant recordingStart;
+    @Getter
+    private long readEvents;
+    @Getter
+    private boolean truncated;
+
+    private byte[] body = new byte[256];
+    private long offsetNanos;
+    private long timestampNanos;
+
+    public SimulationEventLogReader(Path path) throws IOException {
+        this(Files.newInputStream(path));
+    }
+
+    public SimulationEventLogReader(InputStream input) throws IOException {
+        this.in = new DataInputStream(new BufferedInputStream(input, BUFFER_SIZE));
+        try {
+            int magic = in.readInt();
+            if (magic != SimulationEventLogFormat.MAGIC) {
+                throw new IOException("이벤트 로그 형식이 아닙니다: " + Integer.toHexString(magic));
+            }
+            int version = in.readShort();
+            if (version != SimulationEventLogFormat.VERSION) {
+                throw new IOException("지원하지 않는 이벤트 로그 버전: " + version);
+            }
+            this.recordingStart = Instant.ofEpochMilli(in.readLong());
+        } catch (IOException e) {
+            in.close();
+            throw e;
+        }
+    }
+
+    /**
+     * 다음 이벤트 (끝이면 null)
+     */
+    public Entry next() throws IOException {
+        int length;
+        try {
+            length = (int) SimulationEventLogFormat.readVarLong(in);
+        } catch (EOFException e) {
+            return null;
+        }
+        if (body.length < length) {
+            body = new byte[Math.max(length, body.length * 2)];
+        }
+        try {
+            in.readFully(body, 0, length);
+        } catch (EOFException e) {
+            truncated = true;
+            log.warn("Event log ends with a truncated record after {} events", readEvents);
+            return null;
+        }
+
+        DataInputStream record = new DataInputStream(new ByteArrayInputStream(body, 0, length));
+        offsetNanos += SimulationEventLogFormat.readVarLong(record);
+        String eventId = readId(record);
+        int type = record.readUnsignedByte();
+        String robotId = strings.read(record);
+        String zoneId = strings.read(record);
+        Position position = record.readBoolean()
+                ? Position.of(readInt(record), readInt(record))
+                : null;
+        int priority = record.readUnsignedByte();
+        LocalDateTime timestamp = null;
+        if (record.readBoolean()) {
+            timestampNanos += SimulationEventLogFormat.readSignedVarLong(record);
+            timestamp = SimulationEventLogFormat.fromNanos(timestampNanos);
+        }
+        Map<String, Object> data = readData(record);
+
+        readEvents++;
+        SimulationEvent event = SimulationEvent.builder()
+                .eventId(eventId)
+                .type(type > 0 ? TYPES[type - 1] : null)
+                .robotId(robotId)
+                .zoneId(zoneId)
+                .position(position)
+                .priority(priority > 0 ? PRIORITIES[priority - 1] : null)
+                .data(data)
+                .timestamp(timestamp)
+                .build();
+        return new Entry(offsetNanos, event);
+    }
+
+    private String readId(DataInputStream record) throws IOException {
+        int tag = record.readByte();
+        return switch (tag) {
+            case SimulationEventRecorder.ID_UUID -> new UUID(record.readLong(), record.readLong()).toString();
+            case SimulationEventRecorder.ID_TEXT -> strings.read(record);
+            default -> throw new IOException("알 수 없는 ID 태그: " + tag);
+        };
+    }
+
+    private Map<String, Object> readData(DataInputStream record) throws IOException {
+        long size = SimulationEventLogFormat.readVarLong(record) - 1;
+        if (size < 0) {
+            return null;
+        }
+        Map<String, Object> data = new LinkedHashMap<>((int) (size * 4 / 3) + 1);
+        for (long i = 0; i < size; i++) {
+            String key = strings.read(record);
+            data.put(key, readValue(record));
+        }
+        return data;
+    }
+
+    private Object readValue(DataInputStream record) throws IOException {
+        int tag = record.readByte();
+        return switch (tag) {
+            case SimulationEventRecorder.VALUE_NULL -> null;
+            case SimulationEventRecorder.VALUE_STRING -> strings.read(record);
+            case SimulationEventRecorder.VALUE_INT -> readInt(record);
+            case SimulationEventRecorder.VALUE_LONG -> SimulationEventLogFormat.readSignedVarLong(record);
+            case SimulationEventRecorder.VALUE_DOUBLE -> record.readDouble();
+            case SimulationEventRecorder.VALUE_BOOLEAN -> record.readBoolean();
+            default -> throw new IOException("알 수 없는 데이터 값 태그: " + tag);
+        };
+    }
+
+    private static int readInt(DataInputStream record) throws IOException {
+        return (int) SimulationEventLogFormat.readSignedVarLong(record);
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+}
@@ -0,0 +1,226 @@
+package com.safetyhub.adapter.simulator.event;
+
+import com.safetyhub.adapter.simulator.robot.Position;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * 시뮬레이션 이벤트 기록기
+ * 이벤트 리스너로 등록하면 받은 이벤트를 수신 시각과 함께 추가 전용 바이너리 로그로 기록
+ * (SimulationEventReplayer로 재생)
+ *
+ * 레코드 본문: 이전 레코드와의 수신 시각 차이(ns), ID, 타입, 로봇/구역 ID, 위치, 우선순위,
+ * 이벤트 시각 차이(ns), 데이터 맵
+ * 여러 스레드에서 호출해도 되며 레코드 단위로 직렬화됨
+ */
+@Slf4j
+public class SimulationEventRecorder implements Consumer<SimulationEvent>, Closeable {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    // ID 태그 (UUID 문자열은 16바이트로)
+    static final int ID_UUID = 0;
+    static final int ID_TEXT = 1;
+
+    // 데이터 값 태그
+    static final int VALUE_NULL = 0;
+    static final int VALUE_STRING = 1;
+    static final int VALUE_INT = 2;
+    static final int VALUE_LONG = 3;
+    static final int VALUE_DOUBLE = 4;
+    static final int VALUE_BOOLEAN = 5;
+
+    @Getter
+    private final Path path;
+    private final DataOutputStream out;
+    private final ByteArrayOutputStream body = new ByteArrayOutputStream(256);
+    private final DataOutputStream bodyOut = new DataOutputStream(body);
+    private final SimulationEventLogFormat.StringTableWriter strings = new SimulationEventLogFormat.StringTableWriter();
+    private final long startNanos;
+
+    private long lastOffsetNanos;
+    private long lastTimestampNanos;
+    private long recordedEvents;
+    private long recordedBytes;
+    private boolean closed;
+
+    /**
+     * 로그 파일 생성 (이미 있으면 덮어씀)
+     */
+    public SimulationEventRecorder(Path path) throws IOException {
+        this.path = path;
+        this.out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path), BUFFER_SIZE));
+        out.writeInt(SimulationEventLogFormat.MAGIC);
+        out.writeShort(SimulationEventLogFormat.VERSION);
+        out.writeLong(System.currentTimeMillis());
+        this.startNanos = System.nanoTime();
+        log.info("Recording simulation events to {}", path);
+    }
+
+    @Override
+    public synchronized void accept(SimulationEvent event) {
+        if (closed) {
+            return;
+        }
+        long offsetNanos = Math.max(lastOffsetNanos, System.nanoTime() - startNanos);
+        int tableSize = strings.size();
+        body.reset();
+        try {
+            encode(event, offsetNanos - lastOffsetNanos);
+        } catch (IOException | IllegalArgumentException e) {
+            strings.truncate(tableSize);
+            throw new IllegalArgumentException("이벤트를 기록할 수 없습니다: " + event.getType() + " - " + e.getMessage(), e);
+        }
+        try {
+            SimulationEventLogFormat.writeVarLong(out, body.size());
+            body.writeTo(out);
+        } catch (IOException e) {
+            log.error("Failed to write event log, recording stopped: {}", path, e);
+            closeQuietly();
+            throw new UncheckedIOException(e);
+        }
+        lastOffsetNanos = offsetNanos;
+        if (event.getTimestamp() != null) {
+            lastTimestampNanos = SimulationEventLogFormat.toNanos(event.getTimestamp());
+        }
+        recordedEvents++;
+        recordedBytes += body.size();
+    }
+
+    private void encode(SimulationEvent event, long offsetDeltaNanos) throws IOException {
+        SimulationEventLogFormat.writeVarLong(bodyOut, offsetDeltaNanos);
+        writeId(event.getEventId());
+        bodyOut.writeByte(event.getType() != null ? event.getType().ordinal() + 1 : 0);
+        strings.write(bodyOut, event.getRobotId());
+        strings.write(bodyOut, event.getZoneId());
+        writePosition(event.getPosition());
+        bodyOut.writeByte(event.getPriority() != null ? event.getPriority().ordinal() + 1 : 0);
+        if (event.getTimestamp() != null) {
+            bodyOut.writeBoolean(true);
+            SimulationEventLogFormat.writeSignedVarLong(bodyOut,
+                    SimulationEventLogFormat.toNanos(event.getTimestamp()) - lastTimestampNanos);
+        } else {
+            bodyOut.writeBoolean(false);
+        }
+        writeData(event.getData());
+    }
+
+    private void writeId(String id) throws IOException {
+        UUID uuid = parseUuid(id);
+        if (uuid != null) {
+            bodyOut.writeByte(ID_UUID);
+            bodyOut.writeLong(uuid.getMostSignificantBits());
+            bodyOut.writeLong(uuid.getLeastSignificantBits());
+        } else {
+            bodyOut.writeByte(ID_TEXT);
+            strings.write(bodyOut, id);
+        }
+    }
+
+    private static UUID parseUuid(String id) {
+        if (id == null || id.length() != 36) {
+            return null;
+        }
+        try {
+            UUID uuid = UUID.fromString(id);
+            // 소문자 표준 표기만 (다시 문자열로 만들었을 때 같아야 함)
+            return uuid.toString().equals(id) ? uuid : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private void writePosition(Position position) throws IOException {
+        bodyOut.writeBoolean(position != null);
+        if (position != null) {
+            SimulationEventLogFormat.writeSignedVarLong(bodyOut, position.getX());
+            SimulationEventLogFormat.writeSignedVarLong(bodyOut, position.getY());
+        }
+    }
+
+    /**
+     * 데이터 맵 (항목 수 + 1, null이면 0)
+     */
+    private void writeData(Map<String, Object> data) throws IOException {
+        if (data == null) {
+            SimulationEventLogFormat.writeVarLong(bodyOut, 0);
+            return;
+        }
+        SimulationEventLogFormat.writeVarLong(bodyOut, data.size() + 1L);
+        for (Map.Entry<String, Object> entry : data.entrySet()) {
+            strings.write(bodyOut, entry.getKey());
+            writeValue(entry.getValue());
+        }
+    }
+
+    private void writeValue(Object value) throws IOException {
+        if (value == null) {
+            bodyOut.writeByte(VALUE_NULL);
+        } else if (value instanceof String text) {
+            bodyOut.writeByte(VALUE_STRING);
+            strings.write(bodyOut, text);
+        } else if (value instanceof Integer number) {
+            bodyOut.writeByte(VALUE_INT);
+            SimulationEventLogFormat.writeSignedVarLong(bodyOut, number);
+        } else if (value instanceof Long number) {
+            bodyOut.writeByte(VALUE_LONG);
+            SimulationEventLogFormat.writeSignedVarLong(bodyOut, number);
+        } else if (value instanceof Double number) {
+            bodyOut.writeByte(VALUE_DOUBLE);
+            bodyOut.writeDouble(number);
+        } else if (value instanceof Boolean flag) {
+            bodyOut.writeByte(VALUE_BOOLEAN);
+            bodyOut.writeBoolean(flag);
+        } else {
+            throw new IllegalArgumentException("지원하지 않는 데이터 값 타입: " + value.getClass().getName());
+        }
+    }
+
+    /**
+     * 버퍼에 모인 레코드를 파일에 씀
+     */
+    public synchronized void flush() throws IOException {
+        if (!closed) {
+            out.flush();
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        out.close();
+        log.info("Recorded {} simulation events ({} bytes) to {}", recordedEvents, recordedBytes, path);
+    }
+
+    private void closeQuietly() {
+        closed = true;
+        try {
+            out.close();
+        } catch (IOException ignored) {
+            // 이미 쓰기에 실패한 상태
+        }
+    }
+
+    public synchronized long getRecordedEvents() {
+        return recordedEvents;
+    }
+
+    public synchronized long getRecordedBytes() {
+        return recordedBytes;
+    }
+}
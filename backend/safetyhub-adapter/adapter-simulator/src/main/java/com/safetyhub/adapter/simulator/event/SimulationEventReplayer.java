@@ -0,0 +1,204 @@
+package com.safetyhub.adapter.simulator.event;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * 기록된 시뮬레이션 이벤트 로그 재생기
+ * 로그의 이벤트를 기록된 간격대로(1배속), N배속으로, 또는 최대 속도로 대상(게이트웨이 수신부 등)에 다시 전달
+ * 같은 트래픽을 반복해서 넣는 회귀 부하로 사용 (이벤트 ID와 발생 시각은 원본 그대로)
+ * robot-simulator의 EventLogReplayer와 같은 동작 (한쪽을 고치면 다른 쪽도 맞출 것)
+ *
+ * 순서 보장: 같은 발생원(robotId)의 이벤트는 기록된 순서대로 전달
+ * - parallelism이 1이면 호출 스레드에서 전체 순서대로 전달
+ * - 1보다 크면 robotId 해시로 나눈 파티션마다 전달 스레드 하나 (느린 전달이 다른 발생원을 막지 않음)
+ */
+@Slf4j
+public class SimulationEventReplayer {
+
+    /** 기록 간격을 무시하고 최대 속도로 재생 */
+    public static final double AS_FAST_AS_POSSIBLE = 0;
+
+    private static final int PARTITION_QUEUE_CAPACITY = 4096;
+    private static final SimulationEvent END = SimulationEvent.builder().eventId("END").build();
+
+    private final double speed;
+    private final int parallelism;
+
+    /**
+     * @param speed       재생 배속 (1 = 기록 속도, 10 = 10배속, AS_FAST_AS_POSSIBLE = 간격 무시)
+     * @param parallelism 전달 파티션 수 (1이면 호출 스레드에서 전달)
+     */
+    public SimulationEventReplayer(double speed, int parallelism) {
+        if (speed < 0 || Double.isNaN(speed)) {
+            throw new IllegalArgumentException("speed는 0 이상이어야 합니다");
+        }
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism은 1 이상이어야 합니다");
+        }
+        this.speed = speed;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * 재생 결과
+     */
+    @Getter
+    @Builder
+    public static class ReplayReport {
+        private final long events;
+        private final long failed;          // 대상이 예외를 던진 이벤트 수
+        private final long elapsedMillis;
+        private final long maxLagMillis;    // 예정 시각보다 늦게 꺼낸 최대 지연 (대상이 배속을 따라가지 못한 정도)
+        private final boolean truncated;    // 로그 끝 레코드가 잘려 있었는지
+
+        public double getEventsPerSecond() {
+            return elapsedMillis > 0 ? events * 1000.0 / elapsedMillis : events;
+        }
+    }
+
+    public ReplayReport replay(SimulationEventLogReader reader, Consumer<SimulationEvent> target) throws IOException {
+        AtomicLong failed = new AtomicLong();
+        List<Partition> partitions = new ArrayList<>();
+        if (parallelism > 1) {
+            for (int i = 0; i < parallelism; i++) {
+                Partition partition = new Partition(target, failed);
+                partition.thread = new Thread(partition, "simulation-replay-" + i);
+                partition.thread.setDaemon(true);
+                partition.thread.start();
+                partitions.add(partition);
+            }
+        }
+
+        long start = System.nanoTime();
+        long events = 0;
+        long maxLagNanos = 0;
+        try {
+            SimulationEventLogReader.Entry entry;
+            while ((entry = reader.next()) != null) {
+                if (Thread.currentThread().isInterrupted()) {
+                    throw new InterruptedIOException("재생이 중단되었습니다 (" + events + "건 전달)");
+                }
+                if (speed > 0) {
+                    long due = start + (long) (entry.offsetNanos() / speed);
+                    long wait = due - System.nanoTime();
+                    while (wait > 0) {
+                        LockSupport.parkNanos(wait);
+                        wait = due - System.nanoTime();
+                    }
+                    maxLagNanos = Math.max(maxLagNanos, -wait);
+                }
+
+                SimulationEvent event = entry.event();
+                if (partitions.isEmpty()) {
+                    deliver(target, event, failed);
+                } else {
+                    partitions.get(partitionOf(event)).enqueue(event);
+                }
+                events++;
+            }
+        } finally {
+            for (Partition partition : partitions) {
+                partition.finish();
+            }
+        }
+
+        ReplayReport report = ReplayReport.builder()
+                .events(events)
+                .failed(failed.get())
+                .elapsedMillis((System.nanoTime() - start) / 1_000_000)
+                .maxLagMillis(maxLagNanos / 1_000_000)
+                .truncated(reader.isTruncated())
+                .build();
+        log.info("Replayed {} events in {} ms ({} events/s, speed {}, max lag {} ms, {} failed)",
+                events, report.getElapsedMillis(), Math.round(report.getEventsPerSecond()),
+                speed > 0 ? speed + "x" : "max", report.getMaxLagMillis(), report.getFailed());
+        return report;
+    }
+
+    private int partitionOf(SimulationEvent event) {
+        String source = event.getRobotId();
+        return source != null ? Math.floorMod(source.hashCode(), parallelism) : 0;
+    }
+
+    private static void deliver(Consumer<SimulationEvent> target, SimulationEvent event, AtomicLong failed) {
+        try {
+            target.accept(event);
+        } catch (Exception e) {
+            if (failed.getAndIncrement() == 0) {
+                log.warn("Replay target failed: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 발생원 파티션 (큐가 가득 차면 읽기를 멈춤 - 이벤트를 버리지 않음)
+     */
+    private static class Partition implements Runnable {
+        private final BlockingQueue<SimulationEvent> queue = new ArrayBlockingQueue<>(PARTITION_QUEUE_CAPACITY);
+        private final Consumer<SimulationEvent> target;
+        private final AtomicLong failed;
+        private Thread thread;
+
+        Partition(Consumer<SimulationEvent> target, AtomicLong failed) {
+            this.target = target;
+            this.failed = failed;
+        }
+
+        void enqueue(SimulationEvent event) throws InterruptedIOException {
+            try {
+                queue.put(event);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("재생이 중단되었습니다");
+            }
+        }
+
+        void finish() {
+            // 남은 이벤트를 모두 전달할 때까지 기다림 (중단 요청은 끝난 뒤 다시 설정)
+            boolean interrupted = Thread.interrupted();
+            boolean ended = false;
+            while (!ended) {
+                try {
+                    queue.put(END);
+                    ended = true;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            while (thread.isAlive()) {
+                try {
+                    thread.join();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public void run() {
+            try {
+                SimulationEvent event;
+                while ((event = queue.take()) != END) {
+                    deliver(target, event, failed);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -3,6 +3,8 @@ package com.safetyhub.adapter.simulator.robot;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.util.Random;
+
 /**
  * 웨어러블 기기 배터리 상태 시뮬레이션
  */
@@ -37,13 +39,22 @@ public class BatteryStatus {
                 .build();
     }
 
+    /**
+     * 랜덤 배터리 상태 생성 (50-100%, 시드 고정용)
+     */
+    public static BatteryStatus createRandom(Random random) {
+        return BatteryStatus.builder()
+                .level(50 + random.nextInt(50))
+                .charging(false)
+                .build();
+    }
+
     /**
      * 배터리 소모 (작업 중)
      */
     public BatteryStatus drainWorking(int minutes) {
-        int drain = (DRAIN_RATE_WORKING * minutes) / 60;
         return BatteryStatus.builder()
-                .level(Math.max(0, level - drain))
+                .level(levelAfterWorking(level, minutes))
                 .charging(false)
                 .build();
     }
@@ -52,13 +63,26 @@ public class BatteryStatus {
      * 배터리 소모 (대기 중)
      */
     public BatteryStatus drainIdle(int minutes) {
-        int drain = (DRAIN_RATE_IDLE * minutes) / 60;
         return BatteryStatus.builder()
-                .level(Math.max(0, level - drain))
+                .level(levelAfterIdle(level, minutes))
                 .charging(false)
                 .build();
     }
 
+    /**
+     * 작업 중 소모 후 잔량 (객체 생성 없이 계산)
+     */
+    public static int levelAfterWorking(int level, int minutes) {
+        return Math.max(0, level - (DRAIN_RATE_WORKING * minutes) / 60);
+    }
+
+    /**
+     * 대기 중 소모 후 잔량 (객체 생성 없이 계산)
+     */
+    public static int levelAfterIdle(int level, int minutes) {
+        return Math.max(0, level - (DRAIN_RATE_IDLE * minutes) / 60);
+    }
+
     /**
      * 배터리 충전
      */
@@ -81,6 +105,10 @@ public class BatteryStatus {
      * 배터리 위험 여부 (10% 이하)
      */
     public boolean isCritical() {
+        return isCriticalLevel(level);
+    }
+
+    public static boolean isCriticalLevel(int level) {
         return level <= 10;
     }
 }
@@ -22,8 +22,13 @@ public class HealthStatus {
 
     /**
      * 정상 건강 상태 생성
+     * Random을 받는 버전은 시드 고정 시뮬레이션용 (같은 시드면 같은 값)
      */
     public static HealthStatus createNormal() {
+        return createNormal(random);
+    }
+
+    public static HealthStatus createNormal(Random random) {
         return HealthStatus.builder()
                 .heartRate(70 + random.nextInt(20))      // 70-90 bpm
                 .temperature(36.5 + random.nextDouble() * 0.5)  // 36.5-37.0°C
@@ -33,10 +38,26 @@ public class HealthStatus {
                 .build();
     }
 
+    /**
+     * 정상 건강 값을 상태 저장소 슬롯에 직접 기록 (createNormal과 같은 분포, 객체 생성 없음)
+     */
+    public static void writeNormal(RobotStateStore store, int index, Random random) {
+        store.setHealth(index,
+                70 + random.nextInt(20),
+                36.5 + random.nextDouble() * 0.5,
+                96 + random.nextInt(4),
+                random.nextInt(30),
+                false);
+    }
+
     /**
      * 작업 중 건강 상태 (약간 상승)
      */
     public static HealthStatus createWorking() {
+        return createWorking(random);
+    }
+
+    public static HealthStatus createWorking(Random random) {
         return HealthStatus.builder()
                 .heartRate(80 + random.nextInt(30))      // 80-110 bpm
                 .temperature(36.8 + random.nextDouble() * 0.7)  // 36.8-37.5°C
@@ -46,10 +67,26 @@ public class HealthStatus {
                 .build();
     }
 
+    /**
+     * 작업 중 건강 값을 상태 저장소 슬롯에 직접 기록 (createWorking과 같은 분포, 객체 생성 없음)
+     */
+    public static void writeWorking(RobotStateStore store, int index, Random random) {
+        store.setHealth(index,
+                80 + random.nextInt(30),
+                36.8 + random.nextDouble() * 0.7,
+                95 + random.nextInt(4),
+                20 + random.nextInt(40),
+                false);
+    }
+
     /**
      * 위험 건강 상태 생성 (긴급 상황)
      */
     public static HealthStatus createDanger() {
+        return createDanger(random);
+    }
+
+    public static HealthStatus createDanger(Random random) {
         int type = random.nextInt(3);
         return switch (type) {
             case 0 -> // 심박 이상
@@ -83,6 +120,14 @@ public class HealthStatus {
      * 건강 상태가 위험한지 확인
      */
     public boolean isDangerous() {
+        return isDangerous(heartRate, temperature, oxygenLevel, stressLevel, fallen);
+    }
+
+    /**
+     * 건강 값이 위험한지 확인 (상태 저장소용)
+     */
+    public static boolean isDangerous(int heartRate, double temperature, int oxygenLevel,
+                                      int stressLevel, boolean fallen) {
         return heartRate > 120 || heartRate < 50
                 || temperature > 38.0 || temperature < 35.5
                 || oxygenLevel < 92
@@ -19,17 +19,27 @@ public class RobotSchedule {
      * 현재 시간에 해당하는 스케줄 항목 반환
      */
     public ScheduleEntry getCurrentEntry(LocalTime currentTime) {
-        return entries.stream()
-                .filter(entry -> !currentTime.isBefore(entry.getStartTime())
-                        && currentTime.isBefore(entry.getEndTime()))
-                .findFirst()
-                .orElse(null);
+        // 틱마다 모든 로봇이 호출하므로 스트림 대신 인덱스 순회
+        for (int i = 0; i < entries.size(); i++) {
+            ScheduleEntry entry = entries.get(i);
+            if (!currentTime.isBefore(entry.getStartTime()) && currentTime.isBefore(entry.getEndTime())) {
+                return entry;
+            }
+        }
+        return null;
     }
 
+    // 스케줄은 불변이므로 기본 스케줄은 모든 로봇이 한 인스턴스를 공유 (스냅샷도 인스턴스당 한 번만 인코딩)
+    private static final RobotSchedule DEFAULT_SCHEDULE = buildDefaultSchedule();
+
     /**
-     * 기본 8시간 근무 스케줄 생성
+     * 기본 8시간 근무 스케줄
      */
     public static RobotSchedule createDefaultSchedule() {
+        return DEFAULT_SCHEDULE;
+    }
+
+    private static RobotSchedule buildDefaultSchedule() {
         return RobotSchedule.builder()
                 .entries(List.of(
                         // 08:00-10:00 작업
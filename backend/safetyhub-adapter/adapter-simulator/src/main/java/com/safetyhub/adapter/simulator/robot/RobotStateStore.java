@@ -0,0 +1,543 @@
+package com.safetyhub.adapter.simulator.robot;
+
+import com.safetyhub.adapter.simulator.snapshot.SnapshotIO;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 로봇 상태 저장소 (Structure of Arrays)
+ * 시뮬레이션 핫 루프용 가변 저장소 - 로봇마다 슬롯 번호를 부여하고 필드별 배열에 상태를 보관
+ *
+ * - 틱마다 바뀌는 값(위치, 건강, 배터리)은 배열에 직접 기록하여 RobotWorker를 다시 만들지 않음
+ * - 바뀐 슬롯은 stale로 표시되고, 불변 RobotWorker 뷰는 REST/발행 등 외부로 넘길 때만 materialize()로 생성
+ * - 드문 전환(상태 변경, 이동 시작, 긴급 상황)은 기존처럼 RobotWorker로 처리한 뒤 load()로 되돌려 씀
+ *
+ * 동시성:
+ * - 서로 다른 슬롯에 대한 쓰기는 여러 스레드에서 동시에 해도 됨 (같은 슬롯은 한 스레드만)
+ * - 추가/제거, 그리고 다른 스레드와 공유하는 읽기는 이 객체로 동기화 (VirtualWorld, RobotSimulationService 참고)
+ */
+public class RobotStateStore {
+
+    private static final RobotState[] STATES = RobotState.values();
+    private static final int NO_VALUE = Integer.MIN_VALUE;
+    private static final int INITIAL_CAPACITY = 64;
+
+    private Map<String, Integer> indexById = new HashMap<>();
+    private int size;
+    private long layoutVersion;
+
+    // 식별/고정 값
+    private String[] robotIds;
+    private String[] names;
+    private String[] assignedZoneIds;
+    private RobotSchedule[] schedules;
+    private LocalDateTime[] createdAt;
+
+    // 위치 (없으면 NO_VALUE)
+    private int[] x;
+    private int[] y;
+    private int[] targetX;
+    private int[] targetY;
+    private String[] zoneIds;
+    private byte[] state;
+
+    // 건강 (heartRate가 NO_VALUE면 건강 정보 없음)
+    private int[] heartRate;
+    private double[] temperature;
+    private int[] oxygenLevel;
+    private int[] stressLevel;
+    private boolean[] fallen;
+
+    // 배터리 (NO_VALUE면 배터리 정보 없음)
+    private int[] batteryLevel;
+    private boolean[] charging;
+
+    private long[] lastUpdateMillis;
+    private boolean[] stale;
+    private boolean[] moved;
+
+    public RobotStateStore() {
+        allocate(INITIAL_CAPACITY);
+    }
+
+    /**
+     * 로봇 추가 (이미 있으면 덮어씀)
+     *
+     * @return 슬롯 번호
+     */
+    public int add(RobotWorker robot) {
+        Integer existing = indexById.get(robot.getRobotId());
+        if (existing != null) {
+            load(existing, robot);
+            return existing;
+        }
+        if (size == robotIds.length) {
+            allocate(size * 2);
+        }
+
+        int index = size++;
+        indexById.put(robot.getRobotId(), index);
+        layoutVersion++;
+        load(index, robot);
+        return index;
+    }
+
+    /**
+     * 로봇 제거 (마지막 슬롯을 빈 자리로 옮김)
+     *
+     * @return 제거되었으면 true
+     */
+    public boolean remove(String robotId) {
+        Integer removed = indexById.remove(robotId);
+        if (removed == null) {
+            return false;
+        }
+
+        int last = --size;
+        if (removed != last) {
+            copySlot(last, removed);
+            indexById.put(robotIds[removed], removed);
+        }
+        clearSlot(last);
+        layoutVersion++;
+        return true;
+    }
+
+    /**
+     * RobotWorker 전체 값을 슬롯에 기록
+     */
+    public void load(int index, RobotWorker robot) {
+        robotIds[index] = robot.getRobotId();
+        names[index] = robot.getName();
+        assignedZoneIds[index] = robot.getAssignedZoneId();
+        schedules[index] = robot.getSchedule();
+        createdAt[index] = robot.getCreatedAt();
+
+        Position position = robot.getCurrentPosition();
+        x[index] = position != null ? position.getX() : NO_VALUE;
+        y[index] = position != null ? position.getY() : NO_VALUE;
+        Position target = robot.getTargetPosition();
+        targetX[index] = target != null ? target.getX() : NO_VALUE;
+        targetY[index] = target != null ? target.getY() : NO_VALUE;
+        zoneIds[index] = robot.getCurrentZoneId();
+        state[index] = (byte) (robot.getState() != null ? robot.getState().ordinal() : RobotState.OFFLINE.ordinal());
+
+        HealthStatus health = robot.getHealthStatus();
+        if (health != null) {
+            setHealth(index, health.getHeartRate(), health.getTemperature(),
+                    health.getOxygenLevel(), health.getStressLevel(), health.isFallen());
+        } else {
+            heartRate[index] = NO_VALUE;
+        }
+
+        BatteryStatus battery = robot.getBatteryStatus();
+        batteryLevel[index] = battery != null ? battery.getLevel() : NO_VALUE;
+        charging[index] = battery != null && battery.isCharging();
+
+        lastUpdateMillis[index] = toMillis(robot.getLastUpdate());
+        stale[index] = true;
+    }
+
+    /**
+     * 슬롯 값으로 불변 RobotWorker 뷰 생성
+     */
+    public RobotWorker materialize(int index) {
+        return RobotWorker.builder()
+                .robotId(robotIds[index])
+                .name(names[index])
+                .assignedZoneId(assignedZoneIds[index])
+                .state(STATES[state[index]])
+                .currentPosition(x[index] != NO_VALUE ? Position.of(x[index], y[index]) : null)
+                .targetPosition(targetX[index] != NO_VALUE ? Position.of(targetX[index], targetY[index]) : null)
+                .currentZoneId(zoneIds[index])
+                .schedule(schedules[index])
+                .healthStatus(heartRate[index] != NO_VALUE ? HealthStatus.builder()
+                        .heartRate(heartRate[index])
+                        .temperature(temperature[index])
+                        .oxygenLevel(oxygenLevel[index])
+                        .stressLevel(stressLevel[index])
+                        .fallen(fallen[index])
+                        .build() : null)
+                .batteryStatus(batteryLevel[index] != NO_VALUE ? BatteryStatus.builder()
+                        .level(batteryLevel[index])
+                        .charging(charging[index])
+                        .build() : null)
+                .lastUpdate(LocalDateTime.ofInstant(Instant.ofEpochMilli(lastUpdateMillis[index]), ZoneId.systemDefault()))
+                .createdAt(createdAt[index])
+                .build();
+    }
+
+    // ===== 조회 =====
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 슬롯 배치 버전 (추가/제거 시 증가, 슬롯 기반 캐시 무효화용)
+     */
+    public long getLayoutVersion() {
+        return layoutVersion;
+    }
+
+    /**
+     * 로봇 ID의 슬롯 번호 (없으면 -1)
+     */
+    public int indexOf(String robotId) {
+        Integer index = indexById.get(robotId);
+        return index != null ? index : -1;
+    }
+
+    public String getRobotId(int index) {
+        return robotIds[index];
+    }
+
+    public RobotState getState(int index) {
+        return STATES[state[index]];
+    }
+
+    public boolean hasPosition(int index) {
+        return x[index] != NO_VALUE;
+    }
+
+    public int getX(int index) {
+        return x[index];
+    }
+
+    public int getY(int index) {
+        return y[index];
+    }
+
+    public String getZoneId(int index) {
+        return zoneIds[index];
+    }
+
+    /**
+     * 스케줄상 현재 상태 (RobotWorker.getScheduledState와 동일)
+     */
+    public RobotState getScheduledState(int index, LocalTime currentTime) {
+        RobotSchedule.ScheduleEntry entry = schedules[index].getCurrentEntry(currentTime);
+        return entry != null ? entry.getActivity() : RobotState.OFFLINE;
+    }
+
+    public boolean hasBattery(int index) {
+        return batteryLevel[index] != NO_VALUE;
+    }
+
+    public int getBatteryLevel(int index) {
+        return batteryLevel[index];
+    }
+
+    public boolean isBatteryCritical(int index) {
+        return hasBattery(index) && BatteryStatus.isCriticalLevel(batteryLevel[index]);
+    }
+
+    public boolean hasHealth(int index) {
+        return heartRate[index] != NO_VALUE;
+    }
+
+    public boolean isHealthDangerous(int index) {
+        return hasHealth(index) && HealthStatus.isDangerous(heartRate[index], temperature[index],
+                oxygenLevel[index], stressLevel[index], fallen[index]);
+    }
+
+    /**
+     * 뷰 갱신이 필요한지 (materialize 이후 값이 바뀌었는지)
+     */
+    public boolean isStale(int index) {
+        return stale[index];
+    }
+
+    public void clearStale(int index) {
+        stale[index] = false;
+    }
+
+    /**
+     * 마지막 확인 이후 제자리 이동이 있었는지 확인하고 표시를 지움 (공간 색인 갱신용)
+     */
+    public boolean consumeMoved(int index) {
+        boolean result = moved[index];
+        moved[index] = false;
+        return result;
+    }
+
+    // ===== 제자리 갱신 =====
+
+    public void setPosition(int index, int newX, int newY) {
+        x[index] = newX;
+        y[index] = newY;
+        moved[index] = true;
+        touch(index);
+    }
+
+    public void setZoneId(int index, String zoneId) {
+        zoneIds[index] = zoneId;
+        touch(index);
+    }
+
+    public void setHealth(int index, int newHeartRate, double newTemperature,
+                          int newOxygenLevel, int newStressLevel, boolean newFallen) {
+        heartRate[index] = newHeartRate;
+        temperature[index] = newTemperature;
+        oxygenLevel[index] = newOxygenLevel;
+        stressLevel[index] = newStressLevel;
+        fallen[index] = newFallen;
+        touch(index);
+    }
+
+    public void setBattery(int index, int level, boolean isCharging) {
+        batteryLevel[index] = level;
+        charging[index] = isCharging;
+        touch(index);
+    }
+
+    private void touch(int index) {
+        lastUpdateMillis[index] = System.currentTimeMillis();
+        stale[index] = true;
+    }
+
+    // ===== 스냅샷 =====
+
+    /**
+     * 모든 슬롯을 슬롯 순서대로 기록
+     * 스케줄은 내용이 같으면 표에 한 번만 기록하고 슬롯에는 표 번호만 남김
+     * 구역 ID도 문자열 표에 한 번만 기록
+     */
+    public void writeSnapshot(DataOutput out) throws IOException {
+        Map<RobotSchedule, Integer> byInstance = new IdentityHashMap<>();
+        Map<ByteBuffer, Integer> byContent = new HashMap<>();
+        List<byte[]> table = new ArrayList<>();
+        int[] scheduleIds = new int[size];
+        for (int i = 0; i < size; i++) {
+            RobotSchedule schedule = schedules[i];
+            if (schedule == null) {
+                scheduleIds[i] = -1;
+                continue;
+            }
+            Integer id = byInstance.get(schedule);
+            if (id == null) {
+                byte[] encoded = encodeSchedule(schedule);
+                id = byContent.computeIfAbsent(ByteBuffer.wrap(encoded), key -> {
+                    table.add(encoded);
+                    return table.size() - 1;
+                });
+                byInstance.put(schedule, id);
+            }
+            scheduleIds[i] = id;
+        }
+
+        out.writeInt(table.size());
+        for (byte[] encoded : table) {
+            out.write(encoded);
+        }
+
+        SnapshotIO.StringTable zoneTable = new SnapshotIO.StringTable();
+        for (int i = 0; i < size; i++) {
+            zoneTable.add(assignedZoneIds[i]);
+            zoneTable.add(zoneIds[i]);
+        }
+        zoneTable.writeTo(out);
+
+        out.writeInt(size);
+        for (int i = 0; i < size; i++) {
+            out.writeUTF(robotIds[i]);
+            out.writeUTF(names[i]);
+            zoneTable.writeIndex(out, assignedZoneIds[i]);
+            out.writeInt(scheduleIds[i]);
+            SnapshotIO.writeDateTime(out, createdAt[i]);
+            out.writeInt(x[i]);
+            out.writeInt(y[i]);
+            out.writeInt(targetX[i]);
+            out.writeInt(targetY[i]);
+            zoneTable.writeIndex(out, zoneIds[i]);
+            out.writeByte(state[i]);
+            out.writeInt(heartRate[i]);
+            out.writeDouble(temperature[i]);
+            out.writeInt(oxygenLevel[i]);
+            out.writeInt(stressLevel[i]);
+            out.writeBoolean(fallen[i]);
+            out.writeInt(batteryLevel[i]);
+            out.writeBoolean(charging[i]);
+            out.writeLong(lastUpdateMillis[i]);
+        }
+    }
+
+    /**
+     * 기존 슬롯을 모두 지우고 스냅샷의 슬롯 순서 그대로 복원 (모든 슬롯은 stale)
+     */
+    public void readSnapshot(DataInput in) throws IOException {
+        int scheduleCount = in.readInt();
+        RobotSchedule[] table = new RobotSchedule[scheduleCount];
+        for (int i = 0; i < scheduleCount; i++) {
+            table[i] = readSchedule(in);
+        }
+        String[] zoneTable = SnapshotIO.StringTable.read(in);
+
+        for (int i = 0; i < size; i++) {
+            clearSlot(i);
+        }
+        size = 0;
+
+        int count = in.readInt();
+        if (count > robotIds.length) {
+            allocate(Math.max(count, robotIds.length * 2));
+        }
+        // 복원 중 색인 재해시가 없도록 로봇 수에 맞춰 새로 만듦
+        indexById = HashMap.newHashMap(count);
+        for (int i = 0; i < count; i++) {
+            robotIds[i] = in.readUTF();
+            names[i] = in.readUTF();
+            assignedZoneIds[i] = SnapshotIO.StringTable.readIndex(in, zoneTable);
+            int scheduleId = in.readInt();
+            schedules[i] = scheduleId >= 0 ? table[scheduleId] : null;
+            createdAt[i] = SnapshotIO.readDateTime(in);
+            x[i] = in.readInt();
+            y[i] = in.readInt();
+            targetX[i] = in.readInt();
+            targetY[i] = in.readInt();
+            zoneIds[i] = SnapshotIO.StringTable.readIndex(in, zoneTable);
+            state[i] = in.readByte();
+            heartRate[i] = in.readInt();
+            temperature[i] = in.readDouble();
+            oxygenLevel[i] = in.readInt();
+            stressLevel[i] = in.readInt();
+            fallen[i] = in.readBoolean();
+            batteryLevel[i] = in.readInt();
+            charging[i] = in.readBoolean();
+            lastUpdateMillis[i] = in.readLong();
+            stale[i] = true;
+            moved[i] = false;
+            indexById.put(robotIds[i], i);
+        }
+        size = count;
+        layoutVersion++;
+    }
+
+    private static byte[] encodeSchedule(RobotSchedule schedule) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        DataOutputStream out = new DataOutputStream(bytes);
+        List<RobotSchedule.ScheduleEntry> entries = schedule.getEntries();
+        out.writeShort(entries.size());
+        for (RobotSchedule.ScheduleEntry entry : entries) {
+            out.writeInt(entry.getStartTime().toSecondOfDay());
+            out.writeInt(entry.getEndTime().toSecondOfDay());
+            out.writeByte(entry.getActivity().ordinal());
+            out.writeByte(entry.getTargetZoneType() != null ? entry.getTargetZoneType().ordinal() : -1);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static RobotSchedule readSchedule(DataInput in) throws IOException {
+        int count = in.readShort();
+        List<RobotSchedule.ScheduleEntry> entries = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            LocalTime start = LocalTime.ofSecondOfDay(in.readInt());
+            LocalTime end = LocalTime.ofSecondOfDay(in.readInt());
+            RobotState activity = STATES[in.readByte()];
+            int zoneType = in.readByte();
+            entries.add(RobotSchedule.ScheduleEntry.builder()
+                    .startTime(start)
+                    .endTime(end)
+                    .activity(activity)
+                    .targetZoneType(zoneType >= 0 ? ZoneType.values()[zoneType] : null)
+                    .build());
+        }
+        return RobotSchedule.builder().entries(List.copyOf(entries)).build();
+    }
+
+    // ===== 내부 =====
+
+    private void allocate(int capacity) {
+        robotIds = grow(robotIds, new String[capacity]);
+        names = grow(names, new String[capacity]);
+        assignedZoneIds = grow(assignedZoneIds, new String[capacity]);
+        schedules = grow(schedules, new RobotSchedule[capacity]);
+        createdAt = grow(createdAt, new LocalDateTime[capacity]);
+        zoneIds = grow(zoneIds, new String[capacity]);
+
+        x = grow(x, capacity);
+        y = grow(y, capacity);
+        targetX = grow(targetX, capacity);
+        targetY = grow(targetY, capacity);
+        heartRate = grow(heartRate, capacity);
+        oxygenLevel = grow(oxygenLevel, capacity);
+        stressLevel = grow(stressLevel, capacity);
+        batteryLevel = grow(batteryLevel, capacity);
+
+        state = state == null ? new byte[capacity] : Arrays.copyOf(state, capacity);
+        temperature = temperature == null ? new double[capacity] : Arrays.copyOf(temperature, capacity);
+        lastUpdateMillis = lastUpdateMillis == null ? new long[capacity] : Arrays.copyOf(lastUpdateMillis, capacity);
+        fallen = grow(fallen, capacity);
+        charging = grow(charging, capacity);
+        stale = grow(stale, capacity);
+        moved = grow(moved, capacity);
+    }
+
+    private static <T> T[] grow(T[] current, T[] empty) {
+        return current == null ? empty : Arrays.copyOf(current, empty.length);
+    }
+
+    private static int[] grow(int[] current, int capacity) {
+        return current == null ? new int[capacity] : Arrays.copyOf(current, capacity);
+    }
+
+    private static boolean[] grow(boolean[] current, int capacity) {
+        return current == null ? new boolean[capacity] : Arrays.copyOf(current, capacity);
+    }
+
+    private void copySlot(int from, int to) {
+        robotIds[to] = robotIds[from];
+        names[to] = names[from];
+        assignedZoneIds[to] = assignedZoneIds[from];
+        schedules[to] = schedules[from];
+        createdAt[to] = createdAt[from];
+        x[to] = x[from];
+        y[to] = y[from];
+        targetX[to] = targetX[from];
+        targetY[to] = targetY[from];
+        zoneIds[to] = zoneIds[from];
+        state[to] = state[from];
+        heartRate[to] = heartRate[from];
+        temperature[to] = temperature[from];
+        oxygenLevel[to] = oxygenLevel[from];
+        stressLevel[to] = stressLevel[from];
+        fallen[to] = fallen[from];
+        batteryLevel[to] = batteryLevel[from];
+        charging[to] = charging[from];
+        lastUpdateMillis[to] = lastUpdateMillis[from];
+        stale[to] = stale[from];
+        moved[to] = moved[from];
+    }
+
+    private void clearSlot(int index) {
+        robotIds[index] = null;
+        names[index] = null;
+        assignedZoneIds[index] = null;
+        schedules[index] = null;
+        createdAt[index] = null;
+        zoneIds[index] = null;
+        stale[index] = false;
+        moved[index] = false;
+    }
+
+    private static long toMillis(LocalDateTime time) {
+        return time != null
+                ? time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+                : System.currentTimeMillis();
+    }
+}
@@ -6,6 +6,7 @@ import lombok.extern.slf4j.Slf4j;
 
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.Random;
 import java.util.UUID;
 
 /**
@@ -37,8 +38,22 @@ public class RobotWorker {
      * 새 로봇 작업자 생성
      */
     public static RobotWorker create(String name, String assignedZoneId, Position initialPosition) {
+        return create("ROBOT-" + UUID.randomUUID().toString().substring(0, 8).toUpperCase(),
+                name, assignedZoneId, initialPosition, HealthStatus.createNormal(), BatteryStatus.createRandom());
+    }
+
+    /**
+     * 새 로봇 작업자 생성 (시드 고정 시뮬레이션용 - ID와 초기 상태를 난수 생성기에서 결정)
+     */
+    public static RobotWorker create(String name, String assignedZoneId, Position initialPosition, Random random) {
+        return create(String.format("ROBOT-%08X", random.nextInt()),
+                name, assignedZoneId, initialPosition, HealthStatus.createNormal(random), BatteryStatus.createRandom(random));
+    }
+
+    private static RobotWorker create(String robotId, String name, String assignedZoneId, Position initialPosition,
+                                      HealthStatus healthStatus, BatteryStatus batteryStatus) {
         return RobotWorker.builder()
-                .robotId("ROBOT-" + UUID.randomUUID().toString().substring(0, 8).toUpperCase())
+                .robotId(robotId)
                 .name(name)
                 .assignedZoneId(assignedZoneId)
                 .state(RobotState.OFFLINE)
@@ -46,8 +61,8 @@ public class RobotWorker {
                 .targetPosition(null)
                 .currentZoneId(assignedZoneId)
                 .schedule(RobotSchedule.createDefaultSchedule())
-                .healthStatus(HealthStatus.createNormal())
-                .batteryStatus(BatteryStatus.createRandom())
+                .healthStatus(healthStatus)
+                .batteryStatus(batteryStatus)
                 .lastUpdate(LocalDateTime.now())
                 .createdAt(LocalDateTime.now())
                 .build();
@@ -159,6 +174,13 @@ public class RobotWorker {
      * 긴급 상황 발생
      */
     public RobotWorker triggerEmergency() {
+        return triggerEmergency(HealthStatus.createDanger());
+    }
+
+    /**
+     * 긴급 상황 발생 (위험 건강 상태 지정)
+     */
+    public RobotWorker triggerEmergency(HealthStatus dangerHealth) {
         log.warn("EMERGENCY triggered for Robot {}", robotId);
         return RobotWorker.builder()
                 .robotId(robotId)
@@ -169,7 +191,7 @@ public class RobotWorker {
                 .targetPosition(null)
                 .currentZoneId(currentZoneId)
                 .schedule(schedule)
-                .healthStatus(HealthStatus.createDanger())
+                .healthStatus(dangerHealth)
                 .batteryStatus(batteryStatus)
                 .lastUpdate(LocalDateTime.now())
                 .createdAt(createdAt)
@@ -0,0 +1,210 @@
+package com.safetyhub.adapter.simulator.snapshot;
+
+import com.safetyhub.adapter.simulator.robot.Position;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 시뮬레이션 스냅샷 바이너리 형식 공통 도구
+ * 각 구성 요소(저장소, 세계, 행동 엔진 등)가 writeSnapshot/readSnapshot에서 같은 규칙으로 값을 기록
+ *
+ * - null 가능한 값은 앞에 boolean
+ * - 문자열은 modified UTF-8 (DataOutput.writeUTF)
+ * - 로봇마다 반복되는 문자열(구역 ID 등)은 StringTable로 한 번만 기록하고 번호로 참조
+ */
+public final class SnapshotIO {
+
+    /** 파일 시작 표시 ("SHSS") */
+    public static final int MAGIC = 0x53485353;
+
+    /** 형식 버전 (필드를 바꾸면 올림) */
+    public static final int VERSION = 4;
+
+    private SnapshotIO() {
+    }
+
+    public static void writeHeader(DataOutput out) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeShort(VERSION);
+    }
+
+    public static void readHeader(DataInput in) throws IOException {
+        int magic = in.readInt();
+        if (magic != MAGIC) {
+            throw new IOException("스냅샷 형식이 아닙니다: " + Integer.toHexString(magic));
+        }
+        int version = in.readShort();
+        if (version != VERSION) {
+            throw new IOException("지원하지 않는 스냅샷 버전: " + version);
+        }
+    }
+
+    public static void writeNullableString(DataOutput out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    public static String readNullableString(DataInput in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    public static void writePosition(DataOutput out, Position position) throws IOException {
+        out.writeBoolean(position != null);
+        if (position != null) {
+            out.writeInt(position.getX());
+            out.writeInt(position.getY());
+        }
+    }
+
+    public static Position readPosition(DataInput in) throws IOException {
+        return in.readBoolean() ? Position.of(in.readInt(), in.readInt()) : null;
+    }
+
+    /**
+     * 날짜 시각 (epoch day + 하루 중 나노초, 시간대 변환 없음)
+     */
+    public static void writeDateTime(DataOutput out, LocalDateTime time) throws IOException {
+        out.writeBoolean(time != null);
+        if (time != null) {
+            out.writeLong(time.toLocalDate().toEpochDay());
+            out.writeLong(time.toLocalTime().toNanoOfDay());
+        }
+    }
+
+    public static LocalDateTime readDateTime(DataInput in) throws IOException {
+        if (!in.readBoolean()) {
+            return null;
+        }
+        LocalDate date = LocalDate.ofEpochDay(in.readLong());
+        return LocalDateTime.of(date, LocalTime.ofNanoOfDay(in.readLong()));
+    }
+
+    /**
+     * 반복되는 문자열 표 (값을 모두 add한 뒤 표를 먼저 기록하고, 각 값은 표 번호로 기록, null은 -1)
+     */
+    public static final class StringTable {
+        private final Map<String, Integer> indexes = new HashMap<>();
+        private final List<String> values = new ArrayList<>();
+
+        public void add(String value) {
+            if (value != null && !indexes.containsKey(value)) {
+                indexes.put(value, values.size());
+                values.add(value);
+            }
+        }
+
+        public void writeTo(DataOutput out) throws IOException {
+            out.writeInt(values.size());
+            for (String value : values) {
+                out.writeUTF(value);
+            }
+        }
+
+        public void writeIndex(DataOutput out, String value) throws IOException {
+            out.writeInt(value != null ? indexes.get(value) : -1);
+        }
+
+        public static String[] read(DataInput in) throws IOException {
+            String[] table = new String[in.readInt()];
+            for (int i = 0; i < table.length; i++) {
+                table[i] = in.readUTF();
+            }
+            return table;
+        }
+
+        public static String readIndex(DataInput in, String[] table) throws IOException {
+            int index = in.readInt();
+            if (index >= table.length) {
+                throw new IOException("잘못된 문자열 표 번호: " + index);
+            }
+            return index >= 0 ? table[index] : null;
+        }
+    }
+
+    /**
+     * 동기화 없는 바이트 배열 출력
+     * ByteArrayOutputStream/BufferedOutputStream은 write마다 락을 잡으므로 값 단위로 쓰는 스냅샷에서는 락 비용이 큼
+     */
+    public static final class ByteArrayOutput extends OutputStream {
+        private byte[] buffer;
+        private int count;
+
+        public ByteArrayOutput(int initialCapacity) {
+            this.buffer = new byte[Math.max(initialCapacity, 16)];
+        }
+
+        @Override
+        public void write(int b) {
+            ensureCapacity(count + 1);
+            buffer[count++] = (byte) b;
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) {
+            ensureCapacity(count + length);
+            System.arraycopy(bytes, offset, buffer, count, length);
+            count += length;
+        }
+
+        public byte[] toByteArray() {
+            return Arrays.copyOf(buffer, count);
+        }
+
+        private void ensureCapacity(int required) {
+            if (required > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(required, buffer.length * 2));
+            }
+        }
+    }
+
+    /**
+     * 동기화 없는 바이트 배열 입력 (ByteArrayOutput과 같은 이유)
+     */
+    public static final class ByteArrayInput extends InputStream {
+        private final byte[] buffer;
+        private int position;
+
+        public ByteArrayInput(byte[] buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return position < buffer.length ? buffer[position++] & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            int available = buffer.length - position;
+            if (available <= 0) {
+                return -1;
+            }
+            int read = Math.min(length, available);
+            System.arraycopy(buffer, position, bytes, offset, read);
+            position += read;
+            return read;
+        }
+
+        @Override
+        public int available() {
+            return buffer.length - position;
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.safetyhub.adapter.simulator.world;
+
+import com.safetyhub.adapter.simulator.robot.Position;
+import lombok.RequiredArgsConstructor;
+
+import java.util.*;
+
+/**
+ * 협력 A* 경로 탐색 (Windowed Cooperative A*)
+ * 시공간 (x, y, t) 상에서 탐색하여 다른 로봇의 예약과 겹치지 않는 경로를 계획
+ *
+ * - 이동: 상하좌우 + 제자리 대기
+ * - 충돌 검사: 같은 셀 동시 점유(vertex), 자리 바꿈(swap)
+ * - 탐색 범위는 window 틱으로 제한 (목표에 못 미치면 목표에 가장 가까운 부분 경로 반환)
+ */
+@RequiredArgsConstructor
+public class CooperativePathFinder {
+
+    private final GridMap gridMap;
+    private final ReservationTable reservationTable;
+
+    // 이동 방향 (상하좌우 + 대기)
+    private static final int[][] MOVES = {
+            {0, -1},  // 상
+            {0, 1},   // 하
+            {-1, 0},  // 좌
+            {1, 0},   // 우
+            {0, 0}    // 대기
+    };
+
+    /**
+     * 협력 경로 계획 (예약은 하지 않음)
+     *
+     * @param robotId   계획하는 로봇
+     * @param start     현재 위치 (startTick 시점)
+     * @param goal      목표 위치
+     * @param startTick 현재 틱
+     * @param window    탐색 틱 수 (lookahead)
+     * @return startTick+1 부터 틱마다의 위치 (대기 시 같은 위치 반복), 이동 불가 시 빈 리스트
+     */
+    public List<Position> findPath(String robotId, Position start, Position goal, long startTick, int window) {
+        if (window <= 0 || start.equals(goal) || !gridMap.isWalkable(goal)) {
+            return Collections.emptyList();
+        }
+
+        PriorityQueue<Node> openSet = new PriorityQueue<>(
+                Comparator.comparingInt((Node n) -> n.f).thenComparingInt(n -> -n.t));
+        Set<Long> closedSet = new HashSet<>();
+
+        openSet.add(new Node(start.getX(), start.getY(), 0, 0, heuristic(start.getX(), start.getY(), goal), null));
+
+        while (!openSet.isEmpty()) {
+            Node current = openSet.poll();
+
+            boolean atGoal = current.x == goal.getX() && current.y == goal.getY();
+            if (atGoal || current.t == window) {
+                return reconstructPath(current);
+            }
+
+            if (!closedSet.add(stateKey(current.x, current.y, current.t))) {
+                continue;
+            }
+
+            long tick = startTick + current.t;
+            for (int[] move : MOVES) {
+                int nx = current.x + move[0];
+                int ny = current.y + move[1];
+                int nt = current.t + 1;
+
+                if (!gridMap.isWalkable(nx, ny)
+                        || closedSet.contains(stateKey(nx, ny, nt))
+                        || reservationTable.isReservedByOther(nx, ny, tick + 1, robotId)
+                        || reservationTable.isSwapConflict(current.x, current.y, nx, ny, tick, robotId)) {
+                    continue;
+                }
+
+                int g = current.g + 1;
+                openSet.add(new Node(nx, ny, nt, g, g + heuristic(nx, ny, goal), current));
+            }
+        }
+
+        // 모든 방향이 막힘
+        return Collections.emptyList();
+    }
+
+    /**
+     * 경로를 예약 테이블에 등록
+     * 마지막 위치는 window 끝까지 점유하는 것으로 예약 (도착 후 대기)
+     */
+    public void reservePath(String robotId, Position start, List<Position> path, long startTick, int window) {
+        reservationTable.reserve(start, startTick, robotId);
+        for (int i = 0; i < path.size(); i++) {
+            reservationTable.reserve(path.get(i), startTick + i + 1, robotId);
+        }
+
+        Position last = path.isEmpty() ? start : path.get(path.size() - 1);
+        for (int t = path.size() + 1; t <= window; t++) {
+            if (!reservationTable.reserve(last, startTick + t, robotId)) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * 휴리스틱 함수 (맨해튼 거리)
+     */
+    private int heuristic(int x, int y, Position goal) {
+        return Math.abs(x - goal.getX()) + Math.abs(y - goal.getY());
+    }
+
+    /**
+     * 경로 재구성 (시작점 제외)
+     */
+    private List<Position> reconstructPath(Node node) {
+        LinkedList<Position> path = new LinkedList<>();
+        while (node.parent != null) {
+            path.addFirst(Position.of(node.x, node.y));
+            node = node.parent;
+        }
+        return new ArrayList<>(path);
+    }
+
+    private static long stateKey(int x, int y, int t) {
+        return ((long) t << 32) | ((long) (x & 0xFFFF) << 16) | (y & 0xFFFF);
+    }
+
+    /**
+     * 시공간 A* 노드
+     */
+    private static class Node {
+        final int x;
+        final int y;
+        final int t;  // startTick 기준 상대 틱
+        final int g;  // 시작점에서 현재까지의 비용
+        final int f;  // g + h (총 예상 비용)
+        final Node parent;
+
+        Node(int x, int y, int t, int g, int f, Node parent) {
+            this.x = x;
+            this.y = y;
+            this.t = t;
+            this.g = g;
+            this.f = f;
+            this.parent = parent;
+        }
+    }
+}
@@ -14,6 +14,9 @@ public class GridMap {
     private final int height;
     private final CellType[][] cells;
 
+    // 셀이 바뀔 때마다 증가 (저장된 경로의 유효성 확인용)
+    private volatile long version;
+
     public enum CellType {
         FLOOR,      // 이동 가능
         WALL,       // 이동 불가 (벽)
@@ -39,8 +42,9 @@ public class GridMap {
      * 특정 위치의 셀 타입 설정
      */
     public void setCell(int x, int y, CellType type) {
-        if (isValidPosition(x, y)) {
+        if (isValidPosition(x, y) && cells[x][y] != type) {
             cells[x][y] = type;
+            version++;
         }
     }
 
@@ -0,0 +1,288 @@
+package com.safetyhub.adapter.simulator.world;
+
+import com.safetyhub.adapter.simulator.robot.Position;
+import lombok.Getter;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 시공간 예약 테이블
+ * (셀, 틱) -> robotId 해시로 로봇들이 언제 어느 셀을 점유할지 기록
+ *
+ * 협력 A* (Cooperative A*)에서 사용:
+ * - 먼저 계획한 로봇의 경로를 예약하고, 이후 로봇은 예약을 피해서 계획
+ * - 현재 틱 이전의 예약은 슬라이딩 윈도우 방식으로 만료
+ *   예약 키를 틱 % 윈도우 칸의 링 버킷에 모아 두고 지난 틱의 칸만 비움 (만료되는 예약 수에 비례)
+ *   윈도우보다 먼 틱을 예약하면 링을 두 배씩 늘림
+ *
+ * 시뮬레이션 틱 스레드에서만 사용 (스레드 안전하지 않음)
+ */
+public class ReservationTable {
+
+    // (셀, 틱) -> robotId
+    private final Map<Long, String> reservations = new HashMap<>();
+
+    // robotId -> 예약한 키 목록 (경로 취소용)
+    private final Map<String, List<Long>> robotReservations = new HashMap<>();
+
+    // 만료용 링 버킷 - 칸 (틱 & mask)에 그 틱의 예약 키 (틱 expireFrom부터 링 크기만큼만 담음)
+    private static final int INITIAL_WINDOW = 32;
+    private static final int INITIAL_BUCKET_CAPACITY = 8;
+    private long[][] buckets = new long[INITIAL_WINDOW][];
+    private int[] bucketSizes = new int[INITIAL_WINDOW];
+    private int mask = INITIAL_WINDOW - 1;
+    private long expireFrom;  // 아직 만료하지 않은 가장 이른 틱
+    private int scheduled;    // 버킷에 담긴 키 수
+
+    @Getter
+    private long currentTick;
+
+    /**
+     * 현재 틱 진행 및 지난 예약 만료
+     */
+    public void advanceTo(long tick) {
+        this.currentTick = tick;
+        if (tick <= expireFrom) {
+            return;
+        }
+        // 링 한 바퀴를 넘게 건너뛰어도 각 칸은 한 번씩만 비우면 됨
+        long end = Math.min(tick, expireFrom + buckets.length);
+        for (long t = expireFrom; t < end && scheduled > 0; t++) {
+            expireBucket((int) (t & mask));
+        }
+        expireFrom = tick;
+    }
+
+    private void expireBucket(int slot) {
+        long[] keys = buckets[slot];
+        int count = bucketSizes[slot];
+        for (int i = 0; i < count; i++) {
+            long key = keys[i];
+            String robotId = reservations.remove(key);
+            if (robotId != null) {
+                removeRobotKey(robotId, key);
+            }
+        }
+        bucketSizes[slot] = 0;
+        scheduled -= count;
+    }
+
+    private void removeRobotKey(String robotId, long key) {
+        List<Long> keys = robotReservations.get(robotId);
+        if (keys != null) {
+            keys.remove(Long.valueOf(key));
+            if (keys.isEmpty()) {
+                robotReservations.remove(robotId);
+            }
+        }
+    }
+
+    /**
+     * 예약 키를 틱 칸에 넣음 (이미 지난 틱이면 다음 만료 때 지워지도록 가장 이른 칸에)
+     */
+    private void scheduleExpiry(long key, long tick) {
+        long bucketTick = Math.max(tick, expireFrom);
+        if (bucketTick - expireFrom >= buckets.length) {
+            growRing(bucketTick - expireFrom + 1);
+        }
+        int slot = (int) (bucketTick & mask);
+        long[] keys = buckets[slot];
+        int count = bucketSizes[slot];
+        if (keys == null) {
+            keys = buckets[slot] = new long[INITIAL_BUCKET_CAPACITY];
+        } else if (count == keys.length) {
+            keys = buckets[slot] = Arrays.copyOf(keys, count * 2);
+        }
+        keys[count] = key;
+        bucketSizes[slot] = count + 1;
+        scheduled++;
+    }
+
+    /**
+     * 링 크기를 span 이상의 2의 거듭제곱으로 늘리고 칸을 새 위치로 옮김
+     */
+    private void growRing(long span) {
+        if (span > 1 << 30) {
+            throw new IllegalArgumentException("예약 틱이 현재 틱에서 너무 멉니다: " + span);
+        }
+        int window = Integer.highestOneBit((int) span - 1) << 1;
+        long[][] grownBuckets = new long[window][];
+        int[] grownSizes = new int[window];
+        for (long t = expireFrom; t < expireFrom + buckets.length; t++) {
+            int from = (int) (t & mask);
+            int to = (int) (t & (window - 1));
+            grownBuckets[to] = buckets[from];
+            grownSizes[to] = bucketSizes[from];
+        }
+        buckets = grownBuckets;
+        bucketSizes = grownSizes;
+        mask = window - 1;
+    }
+
+    /**
+     * 셀 예약 (이미 다른 로봇이 예약했으면 실패)
+     */
+    public boolean reserve(int x, int y, long tick, String robotId) {
+        long key = key(x, y, tick);
+        String owner = reservations.putIfAbsent(key, robotId);
+        if (owner != null) {
+            return owner.equals(robotId);
+        }
+        robotReservations.computeIfAbsent(robotId, k -> new ArrayList<>()).add(key);
+        scheduleExpiry(key, tick);
+        return true;
+    }
+
+    public boolean reserve(Position position, long tick, String robotId) {
+        return reserve(position.getX(), position.getY(), tick, robotId);
+    }
+
+    /**
+     * 제자리 대기 예약 (멈춰 있는 로봇은 비켜날 수 없으므로 다른 로봇의 예약을 밀어냄)
+     * 밀려난 로봇은 다음 셀이 다른 로봇의 예약이 되므로 이동 전에 다시 계획해야 함
+     *
+     * @return 밀려난 로봇 ID (없으면 null)
+     */
+    public String hold(int x, int y, long tick, String robotId) {
+        long key = key(x, y, tick);
+        String owner = reservations.put(key, robotId);
+        if (robotId.equals(owner)) {
+            return null;
+        }
+        if (owner == null) {
+            scheduleExpiry(key, tick);
+        } else {
+            removeRobotKey(owner, key);
+        }
+        robotReservations.computeIfAbsent(robotId, k -> new ArrayList<>()).add(key);
+        return owner;
+    }
+
+    /**
+     * 다른 로봇이 해당 (셀, 틱)을 예약했는지 확인
+     */
+    public boolean isReservedByOther(int x, int y, long tick, String robotId) {
+        String owner = reservations.get(key(x, y, tick));
+        return owner != null && !owner.equals(robotId);
+    }
+
+    /**
+     * 예약한 로봇 ID 조회
+     */
+    public String getOwner(int x, int y, long tick) {
+        return reservations.get(key(x, y, tick));
+    }
+
+    /**
+     * (from -> to) 이동이 다른 로봇과 자리 바꿈(교차 충돌)인지 확인
+     * tick에 to에 있던 로봇이 tick+1에 from으로 오는 경우
+     */
+    public boolean isSwapConflict(int fromX, int fromY, int toX, int toY, long tick, String robotId) {
+        String other = reservations.get(key(toX, toY, tick));
+        if (other == null || other.equals(robotId)) {
+            return false;
+        }
+        return other.equals(reservations.get(key(fromX, fromY, tick + 1)));
+    }
+
+    /**
+     * 로봇의 모든 예약 취소 (재계획 전 호출)
+     */
+    public void release(String robotId) {
+        List<Long> keys = robotReservations.remove(robotId);
+        if (keys == null) return;
+        for (Long key : keys) {
+            reservations.remove(key, robotId);
+        }
+    }
+
+    /**
+     * 현재 예약 수
+     */
+    public int size() {
+        return reservations.size();
+    }
+
+    /**
+     * 전체 초기화
+     */
+    public void clear() {
+        reservations.clear();
+        robotReservations.clear();
+        buckets = new long[INITIAL_WINDOW][];
+        bucketSizes = new int[INITIAL_WINDOW];
+        mask = INITIAL_WINDOW - 1;
+        expireFrom = 0;
+        scheduled = 0;
+    }
+
+    /**
+     * 예약, 로봇별 예약 목록, 만료 대기 (키, 틱)을 그대로 기록 (만료 대기는 틱 순서)
+     */
+    public void writeSnapshot(DataOutput out) throws IOException {
+        out.writeLong(currentTick);
+        out.writeInt(reservations.size());
+        for (Map.Entry<Long, String> entry : reservations.entrySet()) {
+            out.writeLong(entry.getKey());
+            out.writeUTF(entry.getValue());
+        }
+        out.writeInt(robotReservations.size());
+        for (Map.Entry<String, List<Long>> entry : robotReservations.entrySet()) {
+            out.writeUTF(entry.getKey());
+            out.writeInt(entry.getValue().size());
+            for (long key : entry.getValue()) {
+                out.writeLong(key);
+            }
+        }
+        out.writeLong(expireFrom);
+        out.writeInt(scheduled);
+        for (long t = expireFrom; t < expireFrom + buckets.length; t++) {
+            int slot = (int) (t & mask);
+            for (int i = 0; i < bucketSizes[slot]; i++) {
+                out.writeLong(buckets[slot][i]);
+                out.writeLong(t);
+            }
+        }
+    }
+
+    /**
+     * 기존 예약을 지우고 스냅샷 상태로 복원
+     */
+    public void readSnapshot(DataInput in) throws IOException {
+        clear();
+        currentTick = in.readLong();
+        int reservationCount = in.readInt();
+        for (int i = 0; i < reservationCount; i++) {
+            reservations.put(in.readLong(), in.readUTF());
+        }
+        int robotCount = in.readInt();
+        for (int i = 0; i < robotCount; i++) {
+            String robotId = in.readUTF();
+            int keyCount = in.readInt();
+            List<Long> keys = new ArrayList<>(keyCount);
+            for (int k = 0; k < keyCount; k++) {
+                keys.add(in.readLong());
+            }
+            robotReservations.put(robotId, keys);
+        }
+        expireFrom = in.readLong();
+        int expiryCount = in.readInt();
+        for (int i = 0; i < expiryCount; i++) {
+            scheduleExpiry(in.readLong(), in.readLong());
+        }
+    }
+
+    /**
+     * (x, y, tick)을 하나의 long 키로 압축 (x, y 각 16비트, tick 32비트)
+     */
+    private static long key(int x, int y, long tick) {
+        return ((tick & 0xFFFFFFFFL) << 32) | ((long) (x & 0xFFFF) << 16) | (y & 0xFFFF);
+    }
+}
@@ -40,11 +40,29 @@ public class SimulationZone {
      * 구역 내 랜덤 위치 반환
      */
     public Position getRandomPosition() {
-        int x = topLeft.getX() + random.nextInt(getWidth());
-        int y = topLeft.getY() + random.nextInt(getHeight());
+        return getRandomPosition(random);
+    }
+
+    /**
+     * 구역 내 랜덤 위치 반환 (주어진 난수 생성기 사용)
+     */
+    public Position getRandomPosition(Random random) {
+        int x = randomX(random);
+        int y = randomY(random);
         return Position.of(x, y);
     }
 
+    /**
+     * 구역 내 랜덤 좌표 (Position 생성 없이 사용할 때, x 다음 y 순서로 호출)
+     */
+    public int randomX(Random random) {
+        return topLeft.getX() + random.nextInt(getWidth());
+    }
+
+    public int randomY(Random random) {
+        return topLeft.getY() + random.nextInt(getHeight());
+    }
+
     /**
      * 구역 중심 위치 반환
      */
@@ -106,6 +124,13 @@ public class SimulationZone {
         robotIds.remove(robotId);
     }
 
+    /**
+     * 모든 로봇 퇴장 (스냅샷 복원용)
+     */
+    public void clearRobots() {
+        robotIds.clear();
+    }
+
     @Override
     public String toString() {
         return String.format("Zone[%s, type=%s, occupancy=%d/%d]",
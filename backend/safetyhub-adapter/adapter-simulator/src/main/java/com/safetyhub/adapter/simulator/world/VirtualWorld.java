@@ -1,17 +1,26 @@
 package com.safetyhub.adapter.simulator.world;
 
 import com.safetyhub.adapter.simulator.robot.Position;
+import com.safetyhub.adapter.simulator.robot.RobotStateStore;
 import com.safetyhub.adapter.simulator.robot.RobotWorker;
 import com.safetyhub.adapter.simulator.robot.ZoneType;
+import com.safetyhub.core.domain.SpatialHashIndex;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * 가상 세계 (Virtual Factory)
  * 시뮬레이션 환경의 전체 공간 관리
+ *
+ * 로봇 상태의 원본은 RobotStateStore(배열 저장소)이고, robots 맵은 불변 RobotWorker 뷰 캐시
+ * getRobots() 호출 시 바뀐 슬롯만 다시 만들어 반영 (로봇 변경은 addRobot/applyRobotUpdate 등으로)
  */
 @Slf4j
 @Getter
@@ -20,21 +29,45 @@ public class VirtualWorld {
     private final String worldId;
     private final GridMap gridMap;
     private final PathFinder pathFinder;
+    private final ReservationTable reservationTable;
+    private final CooperativePathFinder cooperativePathFinder;
     private final Map<String, SimulationZone> zones;
+    private final RobotStateStore robotStates;
+    @Getter(AccessLevel.NONE)
     private final Map<String, RobotWorker> robots;
+    private final SpatialHashIndex robotIndex;
+    // 작업자(LifeGuard Band) 위치 (밴드가 계속 보고하므로 스냅샷에는 담지 않음)
+    @Getter(AccessLevel.NONE)
+    private final Map<String, Position> workerPositions;
+    private final SpatialHashIndex workerIndex;
 
     // 기본 맵 크기
     private static final int DEFAULT_WIDTH = 100;
     private static final int DEFAULT_HEIGHT = 50;
 
+    // 공간 색인 버킷 크기 (셀 단위)
+    private static final int INDEX_BUCKET_SIZE = 8;
+
     public VirtualWorld(String worldId) {
+        this(worldId, new GridMap(DEFAULT_WIDTH, DEFAULT_HEIGHT));
+        initializeDefaultFactory();
+    }
+
+    /**
+     * 임의 맵으로 가상 세계 생성 (구역 없음, 테스트/시나리오용)
+     */
+    public VirtualWorld(String worldId, GridMap gridMap) {
         this.worldId = worldId;
-        this.gridMap = new GridMap(DEFAULT_WIDTH, DEFAULT_HEIGHT);
+        this.gridMap = gridMap;
         this.pathFinder = new PathFinder(gridMap);
+        this.reservationTable = new ReservationTable();
+        this.cooperativePathFinder = new CooperativePathFinder(gridMap, reservationTable);
         this.zones = new ConcurrentHashMap<>();
+        this.robotStates = new RobotStateStore();
         this.robots = new ConcurrentHashMap<>();
-
-        initializeDefaultFactory();
+        this.robotIndex = new SpatialHashIndex(INDEX_BUCKET_SIZE);
+        this.workerPositions = new ConcurrentHashMap<>();
+        this.workerIndex = new SpatialHashIndex(INDEX_BUCKET_SIZE);
     }
 
     /**
@@ -118,7 +151,12 @@ public class VirtualWorld {
      * 로봇 추가
      */
     public void addRobot(RobotWorker robot) {
-        robots.put(robot.getRobotId(), robot);
+        synchronized (robotStates) {
+            int index = robotStates.add(robot);
+            robotStates.clearStale(index);
+            robots.put(robot.getRobotId(), robot);
+        }
+        indexRobot(robot.getRobotId(), robot.getCurrentPosition());
 
         // 현재 위치의 구역에 로봇 등록
         String zoneId = findZoneAtPosition(robot.getCurrentPosition());
@@ -133,44 +171,215 @@ public class VirtualWorld {
      * 로봇 제거
      */
     public void removeRobot(String robotId) {
-        RobotWorker robot = robots.remove(robotId);
-        if (robot != null && robot.getCurrentZoneId() != null) {
-            SimulationZone zone = zones.get(robot.getCurrentZoneId());
+        String zoneId;
+        synchronized (robotStates) {
+            int index = robotStates.indexOf(robotId);
+            zoneId = index >= 0 ? robotStates.getZoneId(index) : null;
+            robotStates.remove(robotId);
+            robots.remove(robotId);
+        }
+        robotIndex.remove(robotId);
+        reservationTable.release(robotId);
+        if (zoneId != null) {
+            SimulationZone zone = zones.get(zoneId);
             if (zone != null) {
                 zone.removeRobot(robotId);
             }
         }
     }
 
+    /**
+     * 로봇 뷰 (robotId -> RobotWorker, 읽기 전용)
+     * 저장소에서 바뀐 슬롯만 다시 만들어 반영한 뒤 반환
+     */
+    public Map<String, RobotWorker> getRobots() {
+        synchronized (robotStates) {
+            for (int i = 0; i < robotStates.size(); i++) {
+                if (robotStates.isStale(i)) {
+                    robots.put(robotStates.getRobotId(i), robotStates.materialize(i));
+                    robotStates.clearStale(i);
+                }
+            }
+        }
+        return Collections.unmodifiableMap(robots);
+    }
+
     /**
      * 로봇 위치 업데이트
      */
     public void updateRobotPosition(String robotId, Position newPosition) {
-        RobotWorker robot = robots.get(robotId);
-        if (robot == null) return;
+        synchronized (robotStates) {
+            int index = robotStates.indexOf(robotId);
+            if (index < 0) return;
+
+            String oldZoneId = robotStates.getZoneId(index);
+            String newZoneId = findZoneAtPosition(newPosition);
 
-        String oldZoneId = robot.getCurrentZoneId();
-        String newZoneId = findZoneAtPosition(newPosition);
+            // 구역 변경 처리
+            moveBetweenZones(robotId, oldZoneId, newZoneId);
 
-        // 구역 변경 처리
-        if (!Objects.equals(oldZoneId, newZoneId)) {
-            if (oldZoneId != null && zones.containsKey(oldZoneId)) {
-                zones.get(oldZoneId).removeRobot(robotId);
+            // 로봇 상태 업데이트
+            robotStates.setPosition(index, newPosition.getX(), newPosition.getY());
+            robotStates.setZoneId(index, newZoneId);
+            robotStates.consumeMoved(index);
+        }
+        indexRobot(robotId, newPosition);
+    }
+
+    /**
+     * 틱 결과 반영 (로봇 교체, 위치가 바뀌었으면 구역 소속과 공간 색인 갱신)
+     * 병렬 틱에서는 행동 결정이 끝난 뒤 한 스레드에서 순서대로 호출
+     */
+    public void applyRobotUpdate(RobotWorker updated) {
+        String robotId = updated.getRobotId();
+        Position newPosition = updated.getCurrentPosition();
+        boolean positionChanged;
+
+        synchronized (robotStates) {
+            int index = robotStates.indexOf(robotId);
+            if (index < 0) {
+                return;
             }
-            if (newZoneId != null && zones.containsKey(newZoneId)) {
-                zones.get(newZoneId).addRobot(robotId);
+            positionChanged = newPosition == null
+                    ? robotStates.hasPosition(index)
+                    : !robotStates.hasPosition(index)
+                    || robotStates.getX(index) != newPosition.getX()
+                    || robotStates.getY(index) != newPosition.getY();
+            String oldZoneId = robotStates.getZoneId(index);
+
+            robotStates.load(index, updated);
+            robotStates.clearStale(index);
+            robotStates.consumeMoved(index);
+            robots.put(robotId, updated);
+
+            if (positionChanged) {
+                moveBetweenZones(robotId, oldZoneId, findZoneAtPosition(newPosition));
             }
         }
+        if (positionChanged) {
+            indexRobot(robotId, newPosition);
+        }
+    }
 
-        // 로봇 상태 업데이트
-        RobotWorker updatedRobot = robot.updatePosition(newPosition, newZoneId);
-        robots.put(robotId, updatedRobot);
+    /**
+     * 저장소에서 제자리 이동한 슬롯의 공간 색인 갱신 (구역 내 이동이므로 구역 소속은 그대로)
+     */
+    public void commitInPlaceMove(int index) {
+        if (robotStates.consumeMoved(index)) {
+            robotIndex.update(robotStates.getRobotId(index), robotStates.getX(index), robotStates.getY(index));
+        }
+    }
+
+    private void moveBetweenZones(String robotId, String oldZoneId, String newZoneId) {
+        if (Objects.equals(oldZoneId, newZoneId)) {
+            return;
+        }
+        if (oldZoneId != null && zones.containsKey(oldZoneId)) {
+            zones.get(oldZoneId).removeRobot(robotId);
+        }
+        if (newZoneId != null && zones.containsKey(newZoneId)) {
+            zones.get(newZoneId).addRobot(robotId);
+        }
+    }
+
+    private void indexRobot(String robotId, Position position) {
+        if (position == null) {
+            robotIndex.remove(robotId);
+        } else {
+            robotIndex.update(robotId, position.getX(), position.getY());
+        }
+    }
+
+    /**
+     * 반경 내 로봇 찾기 (셀 단위 유클리드 거리)
+     */
+    public List<RobotWorker> findRobotsWithinRadius(Position center, double radius) {
+        return toRobots(robotIndex.findWithinRadius(center.getX(), center.getY(), radius));
+    }
+
+    /**
+     * 사각형 영역 내 로봇 찾기
+     */
+    public List<RobotWorker> findRobotsInRect(Position topLeft, Position bottomRight) {
+        return toRobots(robotIndex.findInRect(
+                topLeft.getX(), topLeft.getY(), bottomRight.getX(), bottomRight.getY()));
+    }
+
+    /**
+     * 가장 가까운 로봇 k개 찾기
+     */
+    public List<RobotWorker> findNearestRobots(Position center, int k) {
+        return toRobots(robotIndex.findNearest(center.getX(), center.getY(), k));
+    }
+
+    /**
+     * 로봇 뷰 (아직 만들지 않은 슬롯이면 저장소에서 만듦, 스냅샷 복원 직후에는 모든 슬롯이 이 경우)
+     */
+    private RobotWorker robotView(String robotId) {
+        RobotWorker robot = robots.get(robotId);
+        if (robot != null) {
+            return robot;
+        }
+        synchronized (robotStates) {
+            int index = robotStates.indexOf(robotId);
+            if (index < 0) {
+                return null;
+            }
+            robot = robotStates.materialize(index);
+            robotStates.clearStale(index);
+            robots.put(robotId, robot);
+            return robot;
+        }
+    }
+
+    private List<RobotWorker> toRobots(List<String> robotIds) {
+        return robotIds.stream()
+                .map(this::robotView)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * 작업자 위치 갱신 (밴드 위치 보고, 위치가 없으면 제거)
+     */
+    public void updateWorkerPosition(String workerId, Position position) {
+        if (position == null) {
+            removeWorker(workerId);
+            return;
+        }
+        workerPositions.put(workerId, position);
+        workerIndex.update(workerId, position.getX(), position.getY());
+    }
+
+    /**
+     * 작업자 제거 (퇴근, 밴드 연결 해제)
+     */
+    public void removeWorker(String workerId) {
+        workerPositions.remove(workerId);
+        workerIndex.remove(workerId);
+    }
+
+    /**
+     * 작업자 위치 (workerId -> Position, 읽기 전용)
+     */
+    public Map<String, Position> getWorkerPositions() {
+        return Collections.unmodifiableMap(workerPositions);
+    }
+
+    /**
+     * 반경 내 작업자 ID 찾기 (예: 가스 누출 지점 5칸 이내 작업자)
+     */
+    public List<String> findWorkersWithinRadius(Position center, double radius) {
+        return workerIndex.findWithinRadius(center.getX(), center.getY(), radius);
     }
 
     /**
      * 특정 위치가 속한 구역 ID 찾기
      */
     public String findZoneAtPosition(Position position) {
+        if (position == null) {
+            return null;
+        }
         return zones.values().stream()
                 .filter(zone -> zone.contains(position))
                 .map(SimulationZone::getZoneId)
@@ -221,7 +430,7 @@ public class VirtualWorld {
         if (zone == null) return Collections.emptyList();
 
         return zone.getRobotIds().stream()
-                .map(robots::get)
+                .map(this::robotView)
                 .filter(Objects::nonNull)
                 .toList();
     }
@@ -230,7 +439,9 @@ public class VirtualWorld {
      * 전체 로봇 수
      */
     public int getTotalRobotCount() {
-        return robots.size();
+        synchronized (robotStates) {
+            return robotStates.size();
+        }
     }
 
     /**
@@ -244,6 +455,89 @@ public class VirtualWorld {
         return occupancy;
     }
 
+    /**
+     * 세계 상태 기록 (맵 셀, 로봇 저장소, 구역 소속, 예약 테이블)
+     * 틱과 같은 저장소 잠금 안에서 기록하므로 틱 중간 상태는 담기지 않음
+     */
+    public void writeSnapshot(DataOutput out) throws IOException {
+        synchronized (robotStates) {
+            out.writeInt(gridMap.getWidth());
+            out.writeInt(gridMap.getHeight());
+            for (int x = 0; x < gridMap.getWidth(); x++) {
+                for (int y = 0; y < gridMap.getHeight(); y++) {
+                    out.writeByte(gridMap.getCell(x, y).ordinal());
+                }
+            }
+
+            robotStates.writeSnapshot(out);
+
+            out.writeInt(zones.size());
+            for (SimulationZone zone : zones.values()) {
+                out.writeUTF(zone.getZoneId());
+                out.writeInt(zone.getRobotIds().size());
+                for (String robotId : zone.getRobotIds()) {
+                    // 저장소에 있는 로봇은 슬롯 번호로, 없는 로봇은 -1과 ID
+                    int index = robotStates.indexOf(robotId);
+                    out.writeInt(index);
+                    if (index < 0) {
+                        out.writeUTF(robotId);
+                    }
+                }
+            }
+
+            reservationTable.writeSnapshot(out);
+        }
+    }
+
+    /**
+     * 스냅샷으로 세계 상태 복원 (구역 정의는 그대로 두고 소속만 복원, 공간 색인은 다시 만듦)
+     * 로봇 뷰는 비워 두고 getRobots()나 조회에서 처음 필요할 때 저장소에서 만듦
+     */
+    public void readSnapshot(DataInput in) throws IOException {
+        synchronized (robotStates) {
+            int width = in.readInt();
+            int height = in.readInt();
+            if (width != gridMap.getWidth() || height != gridMap.getHeight()) {
+                throw new IOException("맵 크기가 다릅니다: " + width + "x" + height);
+            }
+            GridMap.CellType[] cellTypes = GridMap.CellType.values();
+            for (int x = 0; x < width; x++) {
+                for (int y = 0; y < height; y++) {
+                    gridMap.setCell(x, y, cellTypes[in.readByte()]);
+                }
+            }
+
+            robotStates.readSnapshot(in);
+            robots.clear();
+            robotIndex.clear();
+            for (int i = 0; i < robotStates.size(); i++) {
+                if (robotStates.hasPosition(i)) {
+                    robotIndex.update(robotStates.getRobotId(i), robotStates.getX(i), robotStates.getY(i));
+                }
+            }
+
+            zones.values().forEach(SimulationZone::clearRobots);
+            int zoneCount = in.readInt();
+            for (int i = 0; i < zoneCount; i++) {
+                String zoneId = in.readUTF();
+                SimulationZone zone = zones.get(zoneId);
+                if (zone == null) {
+                    throw new IOException("알 수 없는 구역: " + zoneId);
+                }
+                int occupants = in.readInt();
+                for (int k = 0; k < occupants; k++) {
+                    int index = in.readInt();
+                    if (index >= robotStates.size()) {
+                        throw new IOException("잘못된 로봇 슬롯: " + index);
+                    }
+                    zone.addRobot(index >= 0 ? robotStates.getRobotId(index) : in.readUTF());
+                }
+            }
+
+            reservationTable.readSnapshot(in);
+        }
+    }
+
     /**
      * 맵 정보 출력 (디버깅용)
      */
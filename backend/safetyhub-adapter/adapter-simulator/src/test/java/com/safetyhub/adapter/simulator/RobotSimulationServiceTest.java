@@ -0,0 +1,352 @@
+package com.safetyhub.adapter.simulator;
+
+import com.safetyhub.adapter.simulator.event.SimulationEvent;
+import com.safetyhub.adapter.simulator.event.SimulationEventBus;
+import com.safetyhub.adapter.simulator.robot.Position;
+import com.safetyhub.adapter.simulator.robot.RobotStateStore;
+import com.safetyhub.adapter.simulator.robot.RobotWorker;
+import com.safetyhub.adapter.simulator.scenario.SimulationScenario;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * RobotSimulationService 병렬 틱 테스트
+ */
+class RobotSimulationServiceTest {
+
+    private static final long SEED = 20240115L;
+    private static final int ROBOT_COUNT = 150;
+    private static final int TICKS = 150;  // 08:00 -> 10:30 (10:00 휴식 이동 포함)
+
+    @Test
+    @DisplayName("같은 시드면 스레드 수와 관계없이 로봇 상태와 이벤트 순서가 같음")
+    void testDeterministicAcrossThreadCounts() {
+        RunResult single = run(1);
+        RunResult parallel = run(4);
+
+        assertFalse(single.events().isEmpty());
+        assertTrue(single.events().stream().anyMatch(event -> event.startsWith("ZONE_ENTERED")),
+                "휴식 시간 구역 이동이 일어나야 함");
+        assertEquals(single.robots(), parallel.robots());
+        assertEquals(single.events(), parallel.events());
+    }
+
+    @Test
+    @DisplayName("시드가 다르면 결과가 달라짐")
+    void testDifferentSeed() {
+        RobotSimulationService other = new RobotSimulationService(SEED + 1, 1);
+        other.initialize();
+        other.createRobots(ROBOT_COUNT);
+
+        assertNotEquals(run(1).robots().get(0), describeAll(other).get(0));
+    }
+
+    @Test
+    @DisplayName("병렬 틱 메트릭 기록")
+    void testPhaseMetrics() {
+        RobotSimulationService service = new RobotSimulationService(SEED, 2);
+        service.initialize();
+        service.createRobots(20);
+
+        service.step();
+        service.step();
+        service.stop();
+
+        assertEquals(2L, service.getMetrics().getSnapshot().get("totalTicks"));
+        assertTrue(service.getMetrics().getSnapshot().containsKey("avgBehaviorPhaseUs"));
+        assertTrue(service.getMetrics().getSnapshot().containsKey("avgAllocatedBytesPerTick"));
+        assertTrue(service.getMetrics().getSnapshot().containsKey("replansPerSecond"));
+        assertTrue(service.getMetrics().getSnapshot().containsKey("overrunTicks"));
+        assertTrue(service.getMetrics().getSnapshot().containsKey("maxLagMs"));
+    }
+
+    @Test
+    @DisplayName("헤드리스 실행은 같은 시드면 이벤트 ID와 시각까지 같은 스트림을 만듦")
+    void testHeadlessRunIsReproducible() {
+        List<String> first = new ArrayList<>();
+        List<String> second = new ArrayList<>();
+
+        RobotSimulationService.HeadlessReport report = runHeadless(first);
+        runHeadless(second);
+
+        assertFalse(first.isEmpty());
+        assertEquals(first, second);
+        assertEquals(TICKS, report.getTicks());
+        assertEquals(first.size(), report.getTotalEvents());
+        assertEquals(Duration.ofMillis(100 * TICKS), report.getSimulatedDuration());
+        assertTrue(report.getTicksPerSecond() > 0);
+        assertTrue(report.getEventsPerSecond() > 0);
+    }
+
+    @Test
+    @DisplayName("헤드리스 실행의 이벤트 시각은 가상 시계 기준")
+    void testHeadlessTimestampsFollowVirtualClock() {
+        RobotSimulationService service = new RobotSimulationService(SEED, 1);
+        List<LocalDateTime> timestamps = new ArrayList<>();
+        listenAll(service, event -> timestamps.add(event.getTimestamp()));
+
+        service.runHeadless(SimulationScenario.workerFall(20), 10);
+
+        LocalDateTime start = LocalDateTime.of(2024, 1, 1, 8, 0);
+        assertEquals(start, timestamps.get(0));  // 첫 하트비트
+        assertTrue(timestamps.stream().allMatch(time -> !time.isBefore(start)
+                && time.isBefore(start.plusSeconds(1))));
+        assertFalse(service.getStatus().isRunning());
+    }
+
+    @Test
+    @DisplayName("이동 중에 저장한 스냅샷에서 이어 실행하면 중단 없이 실행한 것과 같음")
+    void testSnapshotResumeMatchesUninterruptedRun() throws IOException {
+        int forkTick = 125;  // 10:00 휴식 구역 이동 중 (협력 경로와 예약이 남아 있음)
+
+        RobotSimulationService straight = new RobotSimulationService(SEED, 2);
+        straight.initialize();
+        straight.createRobots(ROBOT_COUNT);
+        for (int i = 0; i < forkTick; i++) {
+            straight.step();
+        }
+        byte[] snapshot = straight.snapshot();
+        List<String> straightEvents = new ArrayList<>();
+        listenAll(straight, event -> straightEvents.add(describe(event)));
+        for (int i = forkTick; i < TICKS; i++) {
+            straight.step();
+        }
+        assertTrue(straight.flushEvents(Duration.ofSeconds(10)));
+
+        RobotSimulationService resumed = new RobotSimulationService(SEED, 4);
+        resumed.readSnapshot(new ByteArrayInputStream(snapshot));
+        assertEquals(forkTick, resumed.getStatus().getTickCount());
+        // 로봇 뷰는 비워 둔 채 복원하고 공간 조회에서 처음 필요할 때 저장소에서 만듦
+        RobotStateStore states = resumed.getWorld().getRobotStates();
+        Position first = Position.of(states.getX(0), states.getY(0));
+        assertTrue(resumed.getWorld().findRobotsWithinRadius(first, 0).stream()
+                .anyMatch(robot -> robot.getRobotId().equals(states.getRobotId(0))));
+        List<String> resumedEvents = new ArrayList<>();
+        listenAll(resumed, event -> resumedEvents.add(describe(event)));
+        for (int i = forkTick; i < TICKS; i++) {
+            resumed.step();
+        }
+        assertTrue(resumed.flushEvents(Duration.ofSeconds(10)));
+
+        assertTrue(resumedEvents.stream().anyMatch(event -> event.startsWith("ZONE_ENTERED")),
+                "복원 후에도 구역 이동이 이어져야 함");
+        assertEquals(describeAll(straight), describeAll(resumed));
+        assertEquals(straightEvents, resumedEvents);
+        assertEquals(straight.getWorld().getZoneOccupancy(), resumed.getWorld().getZoneOccupancy());
+    }
+
+    @Test
+    @DisplayName("헤드리스 스냅샷에서 분기한 실행은 원래 실행의 나머지 이벤트 스트림과 같음")
+    void testHeadlessForkFromSnapshot() {
+        int forkTick = 100;
+        SimulationScenario scenario = SimulationScenario.dailyOperation(ROBOT_COUNT);
+
+        List<String> full = new ArrayList<>();
+        RobotSimulationService fullRun = new RobotSimulationService(SEED, 2);
+        listenAll(fullRun, event -> full.add(event.getEventId() + ":" + event.getTimestamp() + ":" + describe(event)));
+        fullRun.runHeadless(scenario, TICKS);
+
+        List<String> forked = new ArrayList<>();
+        RobotSimulationService warmup = new RobotSimulationService(SEED, 2);
+        listenAll(warmup, event -> forked.add(event.getEventId() + ":" + event.getTimestamp() + ":" + describe(event)));
+        warmup.runHeadless(scenario, forkTick);
+        byte[] snapshot = warmup.snapshot();
+
+        RobotSimulationService fork = new RobotSimulationService(SEED, 2);
+        listenAll(fork, event -> forked.add(event.getEventId() + ":" + event.getTimestamp() + ":" + describe(event)));
+        RobotSimulationService.HeadlessReport report = fork.runHeadless(scenario, snapshot, TICKS - forkTick);
+
+        assertEquals(TICKS - forkTick, report.getTicks());
+        assertEquals(full, forked);
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("로봇 10,000대 스냅샷 저장+복원이 100ms 이내")
+    void testSnapshotTenThousandRobots() throws IOException {
+        RobotSimulationService service = new RobotSimulationService(SEED, 4);
+        service.initialize();
+        service.createRobots(10_000);
+        for (int i = 0; i < 5; i++) {
+            service.step();
+        }
+        RobotSimulationService restored = new RobotSimulationService(SEED, 4);
+        // 워밍업 (CPU가 하나뿐이면 JIT 컴파일 스레드와 CPU를 나눠 쓰므로 C2 컴파일이 끝날 만큼 충분히)
+        for (int i = 0; i < 100; i++) {
+            restored.readSnapshot(new ByteArrayInputStream(service.snapshot()));
+        }
+
+        // 앞선 테스트가 남긴 객체의 GC가 섞이지 않도록 정리하고 여러 번 중 가장 빠른 시간으로 판정
+        System.gc();
+        long bestNanos = Long.MAX_VALUE;
+        for (int i = 0; i < 10; i++) {
+            long start = System.nanoTime();
+            restored.readSnapshot(new ByteArrayInputStream(service.snapshot()));
+            bestNanos = Math.min(bestNanos, System.nanoTime() - start);
+        }
+
+        assertEquals(10_000, restored.getWorld().getTotalRobotCount());
+        assertEquals(describeAll(service), describeAll(restored));
+        assertTrue(bestNanos / 1_000_000 < 100, "저장+복원 시간(ms): " + bestNanos / 1_000_000);
+    }
+
+    @Test
+    @DisplayName("실행 중에는 스냅샷으로 복원할 수 없음")
+    void testReadSnapshotWhileRunning() {
+        RobotSimulationService service = new RobotSimulationService(SEED, 1);
+        service.initialize();
+        service.createRobots(10);
+        byte[] snapshot = service.snapshot();
+
+        service.start();
+        try {
+            assertThrows(IllegalStateException.class,
+                    () -> service.readSnapshot(new ByteArrayInputStream(snapshot)));
+        } finally {
+            service.stop();
+        }
+        assertThrows(IOException.class, () -> service.readSnapshot(new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 5, 6})));
+    }
+
+    @Test
+    @DisplayName("BLOCK 리스너가 밀려 발행이 기다리는 동안에도 저장소 잠금은 풀려 있음")
+    void testPublishesOutsideStoreLock() throws Exception {
+        RobotSimulationService service = new RobotSimulationService(SEED, 1);
+        service.initialize();
+        service.createRobots(50);
+
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        service.addEventListener("stalled", event -> {
+            entered.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, 1, SimulationEventBus.OverflowPolicy.BLOCK);
+
+        Thread ticker = new Thread(service::step, "blocked-step");
+        ticker.start();
+        try {
+            assertTrue(entered.await(10, TimeUnit.SECONDS));
+            awaitCondition(() -> Integer.valueOf(1).equals(listenerMetrics(service, "stalled").get("pending")));
+
+            long start = System.nanoTime();
+            byte[] snapshot = service.snapshot();
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+            assertTrue(elapsedMillis < 2000, "스냅샷 대기 시간(ms): " + elapsedMillis);
+            assertTrue(ticker.isAlive(), "틱이 발행 대기 중이어야 함");
+            assertTrue(snapshot.length > 0);
+        } finally {
+            release.countDown();
+            ticker.join(10_000);
+        }
+        assertEquals(1, service.getStatus().getTickCount());
+    }
+
+    @Test
+    @DisplayName("기본 리스너는 큐가 차면 오래된 텔레메트리를 버리고 긴급 이벤트용 우선 큐를 둠")
+    void testDefaultListenerDropsOldest() {
+        RobotSimulationService service = new RobotSimulationService(SEED, 1);
+        service.addEventListener(event -> { });
+
+        Map<String, Object> listeners = listenerMetricsAll(service);
+        assertEquals(1, listeners.size());
+        @SuppressWarnings("unchecked")
+        Map<String, Object> listener = (Map<String, Object>) listeners.values().iterator().next();
+        assertEquals("DROP_OLDEST", listener.get("policy"));
+        assertEquals(0, listener.get("priorityPending"));
+    }
+
+    @Test
+    @DisplayName("병렬 수는 1 이상이어야 함")
+    void testInvalidParallelism() {
+        assertThrows(IllegalArgumentException.class, () -> new RobotSimulationService(SEED, 0));
+    }
+
+    private RunResult run(int parallelism) {
+        RobotSimulationService service = new RobotSimulationService(SEED, parallelism);
+        service.initialize();
+        service.createRobots(ROBOT_COUNT);
+
+        List<String> events = new ArrayList<>();
+        listenAll(service, event -> events.add(event.getType() + ":" + event.getRobotId()
+                + ":" + event.getZoneId() + ":" + event.getPosition()));
+
+        for (int i = 0; i < TICKS; i++) {
+            service.step();
+        }
+        service.stop();
+        assertTrue(service.flushEvents(Duration.ofSeconds(10)));
+
+        return new RunResult(describeAll(service), events);
+    }
+
+    private RobotSimulationService.HeadlessReport runHeadless(List<String> events) {
+        RobotSimulationService service = new RobotSimulationService(SEED, 4);
+        listenAll(service, event -> events.add(event.getEventId() + ":" + event.getTimestamp()
+                + ":" + event.getType() + ":" + event.getRobotId() + ":" + event.getPosition()));
+        return service.runHeadless(SimulationScenario.dailyOperation(ROBOT_COUNT), TICKS);
+    }
+
+    /**
+     * 이벤트 스트림 전체를 비교하므로 잃지 않도록 BLOCK으로 등록
+     */
+    private static void listenAll(RobotSimulationService service, Consumer<SimulationEvent> listener) {
+        service.addEventListener("test", listener, 100_000, SimulationEventBus.OverflowPolicy.BLOCK);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> listenerMetricsAll(RobotSimulationService service) {
+        return (Map<String, Object>) service.getMetrics().getSnapshot().get("listeners");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> listenerMetrics(RobotSimulationService service, String name) {
+        return (Map<String, Object>) listenerMetricsAll(service).get(name);
+    }
+
+    private static void awaitCondition(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "조건을 기다리다 시간 초과");
+            Thread.sleep(5);
+        }
+    }
+
+    private static String describe(SimulationEvent event) {
+        return event.getType() + ":" + event.getRobotId() + ":" + event.getZoneId() + ":" + event.getPosition();
+    }
+
+    private List<String> describeAll(RobotSimulationService service) {
+        return service.getWorld().getRobots().values().stream()
+                .sorted(Comparator.comparing(RobotWorker::getRobotId))
+                .map(robot -> robot.getRobotId() + ":" + robot.getState()
+                        + ":" + robot.getCurrentPosition() + ":" + robot.getTargetPosition()
+                        + ":" + robot.getCurrentZoneId()
+                        + ":" + robot.getBatteryStatus().getLevel()
+                        + ":" + robot.getHealthStatus().getHeartRate())
+                .toList();
+    }
+
+    private record RunResult(List<String> robots, List<String> events) {
+    }
+}
@@ -0,0 +1,181 @@
+package com.safetyhub.adapter.simulator.engine;
+
+import com.safetyhub.adapter.simulator.event.SimulationEvent;
+import com.safetyhub.adapter.simulator.robot.Position;
+import com.safetyhub.adapter.simulator.robot.RobotState;
+import com.safetyhub.adapter.simulator.robot.RobotStateStore;
+import com.safetyhub.adapter.simulator.robot.RobotWorker;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ProximityMonitor 테스트
+ */
+class ProximityMonitorTest {
+
+    private final Random random = new Random(7);
+
+    @Test
+    @DisplayName("새로 가까워진 쌍만 보고하고 근접 상태가 이어지는 동안은 다시 보고하지 않음")
+    void testReportsNewPairsOnce() {
+        ProximityMonitor monitor = new ProximityMonitor();
+        RobotWorker a = robot(Position.of(10, 10));
+        RobotWorker b = robot(Position.of(11, 10));
+        RobotWorker far = robot(Position.of(40, 40));
+
+        List<SimulationEvent> first = monitor.detect(List.of(a, b, far));
+        assertEquals(1, first.size());
+        SimulationEvent event = first.get(0);
+        assertEquals(SimulationEvent.EventType.NEAR_MISS, event.getType());
+        assertEquals(1.0, (Double) event.getData().get("distance"), 1e-9);
+        assertTrue(List.of(a.getRobotId(), b.getRobotId()).contains(event.getRobotId()));
+        assertEquals(1, monitor.getActivePairCount());
+
+        assertTrue(monitor.detect(List.of(a, b, far)).isEmpty());
+
+        // 멀어졌다가 다시 가까워지면 다시 보고
+        RobotWorker away = b.updatePosition(Position.of(20, 10), b.getCurrentZoneId());
+        assertTrue(monitor.detect(List.of(a, away, far)).isEmpty());
+        assertEquals(0, monitor.getActivePairCount());
+        assertEquals(1, monitor.detect(List.of(a, b, far)).size());
+    }
+
+    @Test
+    @DisplayName("같은 셀 점유는 충돌, 대각선 인접은 니어미스, 오프라인 로봇은 제외")
+    void testCollisionAndOfflineRobots() {
+        ProximityMonitor monitor = new ProximityMonitor();
+        RobotWorker a = robot(Position.of(5, 5));
+        RobotWorker sameCell = robot(Position.of(5, 5));
+        RobotWorker diagonal = robot(Position.of(30, 30));
+        RobotWorker diagonalOther = robot(Position.of(31, 31));
+        RobotWorker offline = robot(Position.of(30, 31)).updateState(RobotState.OFFLINE);
+
+        List<SimulationEvent> events = monitor.detect(List.of(a, sameCell, diagonal, diagonalOther, offline));
+
+        assertEquals(2, events.size());
+        SimulationEvent collision = events.stream()
+                .filter(event -> event.getType() == SimulationEvent.EventType.COLLISION_DETECTED)
+                .findFirst().orElseThrow();
+        assertEquals(SimulationEvent.EventPriority.HIGH, collision.getPriority());
+        assertEquals(0.0, (Double) collision.getData().get("distance"));
+        SimulationEvent nearMiss = events.stream()
+                .filter(event -> event.getType() == SimulationEvent.EventType.NEAR_MISS)
+                .findFirst().orElseThrow();
+        assertEquals(Math.sqrt(2), (Double) nearMiss.getData().get("distance"), 1e-9);
+        assertNotEquals(offline.getRobotId(), nearMiss.getData().get("otherRobotId"));
+    }
+
+    @Test
+    @DisplayName("스냅샷으로 복원한 감시기는 이미 보고한 쌍을 다시 보고하지 않음")
+    void testSnapshotKeepsActivePairs() throws IOException {
+        RobotStateStore store = new RobotStateStore();
+        store.add(robot(Position.of(10, 10)));
+        store.add(robot(Position.of(11, 10)));
+        store.add(robot(Position.of(20, 20)));
+        store.add(robot(Position.of(20, 21)));
+
+        ProximityMonitor monitor = new ProximityMonitor();
+        assertEquals(2, monitor.detect(store).size());
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        monitor.writeSnapshot(new DataOutputStream(bytes), store);
+
+        ProximityMonitor restored = new ProximityMonitor();
+        restored.readSnapshot(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())), store);
+
+        assertEquals(2, restored.getActivePairCount());
+        assertTrue(restored.detect(store).isEmpty());
+    }
+
+    @Test
+    @DisplayName("감지 이후 로봇이 움직였으면 쌍 목록을 그대로 기록하고, 아니면 복원 쪽에서 다시 계산")
+    void testSnapshotRecomputesPairsOnlyWhenPositionsUnchanged() throws IOException {
+        RobotStateStore store = new RobotStateStore();
+        store.add(robot(Position.of(10, 10)));
+        store.add(robot(Position.of(11, 10)));
+        store.add(robot(Position.of(20, 20)));
+        store.add(robot(Position.of(20, 21)));
+
+        ProximityMonitor monitor = new ProximityMonitor();
+        assertEquals(2, monitor.detect(store).size());
+
+        ByteArrayOutputStream unchanged = new ByteArrayOutputStream();
+        monitor.writeSnapshot(new DataOutputStream(unchanged), store);
+
+        // 감지 뒤 멀어진 쌍도 직전 틱 기준으로는 근접 상태로 남아야 함
+        store.setPosition(3, 40, 40);
+        ByteArrayOutputStream moved = new ByteArrayOutputStream();
+        monitor.writeSnapshot(new DataOutputStream(moved), store);
+        assertTrue(moved.size() > unchanged.size());
+
+        ProximityMonitor restored = new ProximityMonitor();
+        restored.readSnapshot(new DataInputStream(new ByteArrayInputStream(moved.toByteArray())), store);
+        assertEquals(2, restored.getActivePairCount());
+
+        // 좌표만 복원한 감시기를 다시 스냅샷해도 같은 쌍이 나옴
+        store.setPosition(3, 20, 21);
+        ProximityMonitor recomputed = new ProximityMonitor();
+        recomputed.readSnapshot(new DataInputStream(new ByteArrayInputStream(unchanged.toByteArray())), store);
+        ByteArrayOutputStream again = new ByteArrayOutputStream();
+        recomputed.writeSnapshot(new DataOutputStream(again), store);
+        assertEquals(unchanged.size(), again.size());
+
+        store.setPosition(3, 40, 40);
+        assertTrue(recomputed.detect(store).isEmpty());
+        assertEquals(1, recomputed.getActivePairCount());
+    }
+
+    @Test
+    @DisplayName("로봇과 작업자 밴드 위치가 가까우면 작업자 근접으로 보고, 작업자끼리는 무시")
+    void testRobotWorkerNearMiss() throws IOException {
+        RobotStateStore store = new RobotStateStore();
+        store.add(robot(Position.of(10, 10)));
+        store.add(robot(Position.of(40, 40)));
+        Map<String, Position> workers = Map.of(
+                "WORKER_001", Position.of(11, 10),
+                "WORKER_002", Position.of(12, 10),   // 작업자끼리만 가까움
+                "WORKER_003", Position.of(40, 40));  // 로봇과 같은 셀
+
+        ProximityMonitor monitor = new ProximityMonitor();
+        List<SimulationEvent> events = monitor.detect(store, workers);
+
+        assertEquals(2, events.size());
+        assertEquals(0, monitor.getActivePairCount());
+        assertEquals(2, monitor.getActiveWorkerPairCount());
+        SimulationEvent nearMiss = events.stream()
+                .filter(event -> "WORKER_001".equals(event.getData().get("workerId")))
+                .findFirst().orElseThrow();
+        assertEquals(SimulationEvent.EventType.NEAR_MISS, nearMiss.getType());
+        assertEquals(SimulationEvent.EventPriority.HIGH, nearMiss.getPriority());
+        assertEquals(store.getRobotId(0), nearMiss.getRobotId());
+        SimulationEvent collision = events.stream()
+                .filter(event -> "WORKER_003".equals(event.getData().get("workerId")))
+                .findFirst().orElseThrow();
+        assertEquals(SimulationEvent.EventType.COLLISION_DETECTED, collision.getType());
+        assertEquals(SimulationEvent.EventPriority.CRITICAL, collision.getPriority());
+
+        // 스냅샷 복원 후에도 이미 보고한 작업자 쌍은 다시 보고하지 않음
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        monitor.writeSnapshot(new DataOutputStream(bytes), store);
+        ProximityMonitor restored = new ProximityMonitor();
+        restored.readSnapshot(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())), store);
+
+        assertEquals(2, restored.getActiveWorkerPairCount());
+        assertTrue(restored.detect(store, workers).isEmpty());
+    }
+
+    private RobotWorker robot(Position position) {
+        return RobotWorker.create("Robot", "ZONE_A", position, random).updateState(RobotState.WORKING);
+    }
+}
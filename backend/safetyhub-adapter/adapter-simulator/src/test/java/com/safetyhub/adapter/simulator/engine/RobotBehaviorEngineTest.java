@@ -0,0 +1,179 @@
+package com.safetyhub.adapter.simulator.engine;
+
+import com.safetyhub.adapter.simulator.robot.*;
+import com.safetyhub.adapter.simulator.world.GridMap;
+import com.safetyhub.adapter.simulator.world.VirtualWorld;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * RobotBehaviorEngine 협력 경로 테스트
+ */
+class RobotBehaviorEngineTest {
+
+    private static final LocalTime WORK_TIME = LocalTime.of(10, 0);
+
+    private VirtualWorld world;
+    private RobotBehaviorEngine engine;
+
+    /**
+     * 폭 1칸 복도 (y=2, x=1..10) + 대피 공간 한 칸 (7, 1)
+     *
+     *   ############
+     *   #######.####
+     *   #..........#
+     *   ############
+     */
+    @BeforeEach
+    void setUp() {
+        GridMap corridor = new GridMap(12, 4);
+        corridor.fillRect(0, 0, 11, 3, GridMap.CellType.WALL);
+        corridor.fillRect(1, 2, 10, 2, GridMap.CellType.FLOOR);
+        corridor.setCell(7, 1, GridMap.CellType.FLOOR);
+
+        world = new VirtualWorld("CORRIDOR", corridor);
+        engine = new RobotBehaviorEngine(world, new Random(42));
+    }
+
+    @Test
+    @DisplayName("좁은 복도에서 마주 오는 로봇이 충돌/교차 없이 통과")
+    void testHeadOnCorridorWithoutConflicts() {
+        RobotWorker a = movingRobot("ROBOT-A", Position.of(1, 2), Position.of(10, 2));
+        RobotWorker b = movingRobot("ROBOT-B", Position.of(10, 2), Position.of(1, 2));
+        world.addRobot(a);
+        world.addRobot(b);
+
+        List<RobotWorker> robots = new ArrayList<>(List.of(a, b));
+
+        for (long tick = 1; tick <= 40; tick++) {
+            Position prevA = robots.get(0).getCurrentPosition();
+            Position prevB = robots.get(1).getCurrentPosition();
+
+            engine.beginTick(tick);
+            for (int i = 0; i < robots.size(); i++) {
+                RobotWorker updated = engine.tick(robots.get(i), WORK_TIME);
+                robots.set(i, updated);
+                world.applyRobotUpdate(updated);
+            }
+
+            Position nextA = robots.get(0).getCurrentPosition();
+            Position nextB = robots.get(1).getCurrentPosition();
+
+            assertNotEquals(nextA, nextB, "같은 셀 점유 발생 (tick " + tick + ")");
+            assertFalse(nextA.equals(prevB) && nextB.equals(prevA), "자리 바꿈 발생 (tick " + tick + ")");
+            assertTrue(world.getGridMap().isWalkable(nextA));
+            assertTrue(world.getGridMap().isWalkable(nextB));
+        }
+
+        assertEquals(Position.of(10, 2), robots.get(0).getCurrentPosition());
+        assertEquals(Position.of(1, 2), robots.get(1).getCurrentPosition());
+    }
+
+    @Test
+    @DisplayName("지난 틱의 예약은 만료됨")
+    void testReservationsExpire() {
+        RobotWorker a = movingRobot("ROBOT-A", Position.of(1, 2), Position.of(10, 2));
+        world.addRobot(a);
+
+        engine.beginTick(1);
+        engine.tick(a, WORK_TIME);
+        assertTrue(world.getReservationTable().size() > 0);
+
+        engine.beginTick(1000);
+        assertEquals(0, world.getReservationTable().size());
+    }
+
+    @Test
+    @DisplayName("대피 경로는 한 번 계산 후 커서로 따라가고 맵이 바뀌면 다시 계산")
+    void testEvacuationRouteCachedUntilMapChanges() {
+        RobotWorker robot = movingRobot("ROBOT-A", Position.of(1, 2), Position.of(10, 2))
+                .updateState(RobotState.EVACUATING);
+        world.addRobot(robot);
+
+        for (long tick = 1; tick <= 2; tick++) {
+            engine.beginTick(tick);
+            robot = engine.tick(robot, WORK_TIME);
+            world.applyRobotUpdate(robot);
+        }
+        assertEquals(Position.of(5, 2), robot.getCurrentPosition());
+        assertEquals(1, engine.getReplanCount());
+
+        world.getGridMap().setCell(7, 1, GridMap.CellType.OBSTACLE);  // 경로와 무관한 셀도 맵 버전은 바뀜
+        engine.beginTick(3);
+        robot = engine.tick(robot, WORK_TIME);
+        world.applyRobotUpdate(robot);
+
+        assertEquals(Position.of(7, 2), robot.getCurrentPosition());
+        assertEquals(2, engine.getReplanCount());
+    }
+
+    @Test
+    @DisplayName("대피 로봇은 2칸 이동 시 중간 셀도 확인하고 예약")
+    void testEvacuationChecksIntermediateCell() {
+        RobotWorker evacuating = movingRobot("ROBOT-A", Position.of(1, 2), Position.of(10, 2))
+                .updateState(RobotState.EVACUATING);
+        world.addRobot(evacuating);
+
+        // 다른 로봇이 중간 셀 (2, 2)을 다음 틱에 예약
+        engine.beginTick(1);
+        world.getReservationTable().reserve(Position.of(2, 2), 2, "ROBOT-B");
+        evacuating = engine.tick(evacuating, WORK_TIME);
+        world.applyRobotUpdate(evacuating);
+
+        assertEquals(Position.of(1, 2), evacuating.getCurrentPosition());
+        assertEquals("ROBOT-A", world.getReservationTable().getOwner(1, 2, 2));
+
+        // 막히지 않으면 지나가는 두 셀을 모두 예약
+        engine.beginTick(2);
+        evacuating = engine.tick(evacuating, WORK_TIME);
+
+        assertEquals(Position.of(3, 2), evacuating.getCurrentPosition());
+        assertEquals("ROBOT-A", world.getReservationTable().getOwner(2, 2, 3));
+        assertEquals("ROBOT-A", world.getReservationTable().getOwner(3, 2, 3));
+    }
+
+    @Test
+    @DisplayName("멈춰 있는 로봇의 셀로는 이동 로봇이 들어가지 않음")
+    void testMovingRobotAvoidsStationaryRobot() {
+        RobotWorker idle = movingRobot("ROBOT-B", Position.of(5, 2), null).updateState(RobotState.EMERGENCY);
+        RobotWorker moving = movingRobot("ROBOT-A", Position.of(1, 2), Position.of(10, 2));
+        world.addRobot(idle);
+        world.addRobot(moving);
+
+        for (long tick = 1; tick <= 30; tick++) {
+            engine.beginTick(tick);
+            idle = engine.tick(idle, WORK_TIME);
+            moving = engine.tick(moving, WORK_TIME);
+            world.applyRobotUpdate(moving);
+
+            assertEquals(Position.of(5, 2), idle.getCurrentPosition());
+            assertNotEquals(idle.getCurrentPosition(), moving.getCurrentPosition(), "같은 셀 점유 발생 (tick " + tick + ")");
+            assertTrue(moving.getCurrentPosition().getX() < 5, "멈춘 로봇을 통과함 (tick " + tick + ")");
+        }
+        assertEquals(Position.of(4, 2), moving.getCurrentPosition());
+    }
+
+    private RobotWorker movingRobot(String robotId, Position start, Position target) {
+        return RobotWorker.builder()
+                .robotId(robotId)
+                .name(robotId)
+                .state(RobotState.MOVING)
+                .currentPosition(start)
+                .targetPosition(target)
+                .schedule(RobotSchedule.createDefaultSchedule())
+                .healthStatus(HealthStatus.createNormal())
+                .batteryStatus(BatteryStatus.createRandom())
+                .lastUpdate(LocalDateTime.now())
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
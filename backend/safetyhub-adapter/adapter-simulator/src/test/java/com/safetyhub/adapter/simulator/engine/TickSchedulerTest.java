@@ -0,0 +1,83 @@
+package com.safetyhub.adapter.simulator.engine;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * TickScheduler 지연/초과 측정 테스트
+ */
+class TickSchedulerTest {
+
+    @Test
+    @DisplayName("느린 틱은 초과로 기록되고 너무 밀린 틱은 몰아서 실행하지 않고 건너뜀")
+    void testSlowTicksAreCountedAndSkipped() throws InterruptedException {
+        AtomicInteger ticks = new AtomicInteger();
+        AtomicInteger overruns = new AtomicInteger();
+        AtomicInteger behindTicks = new AtomicInteger();
+        AtomicLong skipped = new AtomicLong();
+        CountDownLatch done = new CountDownLatch(20);
+
+        TickScheduler scheduler = new TickScheduler("test-tick", Duration.ofMillis(10), 2,
+                behind -> {
+                    if (ticks.incrementAndGet() <= 3) {
+                        sleep(50);  // 처음 3틱은 간격의 5배
+                    }
+                },
+                (durationNanos, lagNanos, overrun, behind, skippedTicks) -> {
+                    if (overrun) overruns.incrementAndGet();
+                    if (behind) behindTicks.incrementAndGet();
+                    skipped.addAndGet(skippedTicks);
+                    done.countDown();
+                });
+
+        scheduler.start();
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        scheduler.stop(1, TimeUnit.SECONDS);
+
+        assertTrue(overruns.get() >= 3);
+        assertTrue(skipped.get() > 0);
+        assertTrue(behindTicks.get() < 20, "따라잡은 뒤에는 정상 틱으로 돌아와야 함");
+        assertFalse(scheduler.isRunning());
+    }
+
+    @Test
+    @DisplayName("틱에서 예외가 나도 다음 틱은 계속 실행")
+    void testExceptionDoesNotStopScheduler() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(3);
+
+        TickScheduler scheduler = new TickScheduler("test-tick", Duration.ofMillis(5), 10,
+                behind -> {
+                    done.countDown();
+                    throw new IllegalStateException("boom");
+                },
+                (durationNanos, lagNanos, overrun, behind, skippedTicks) -> {
+                });
+
+        scheduler.start();
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        scheduler.stop(1, TimeUnit.SECONDS);
+    }
+
+    @Test
+    @DisplayName("틱 간격은 0보다 커야 함")
+    void testInvalidInterval() {
+        assertThrows(IllegalArgumentException.class, () -> new TickScheduler("test-tick", Duration.ZERO, 1,
+                behind -> { }, (durationNanos, lagNanos, overrun, behind, skippedTicks) -> { }));
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.safetyhub.adapter.simulator.event;
+
+import com.safetyhub.adapter.simulator.robot.Position;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * SimulationEventBus (리스너별 큐) 테스트
+ */
+class SimulationEventBusTest {
+
+    private final SimulationEventBus bus = new SimulationEventBus();
+
+    @AfterEach
+    void tearDown() {
+        bus.shutdown();
+    }
+
+    @Test
+    @DisplayName("느린 리스너가 있어도 발행은 기다리지 않고 다른 리스너는 모두 순서대로 받음")
+    void testSlowListenerDoesNotStallPublisher() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> fast = new CopyOnWriteArrayList<>();
+
+        bus.subscribe("slow", event -> await(release), 4, SimulationEventBus.OverflowPolicy.DROP_OLDEST);
+        bus.subscribe("fast", event -> fast.add(event.getRobotId()), 1000, SimulationEventBus.OverflowPolicy.BLOCK);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < 100; i++) {
+            bus.publish(event("ROBOT-" + i));
+        }
+        long publishMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        release.countDown();
+        assertTrue(bus.awaitDrained(Duration.ofSeconds(5)));
+
+        assertTrue(publishMillis < 1000, "발행 시간: " + publishMillis + "ms");
+        assertEquals(100, fast.size());
+        assertEquals("ROBOT-0", fast.get(0));
+        assertEquals("ROBOT-99", fast.get(99));
+
+        Map<String, Object> slow = metricsOf("slow");
+        assertTrue((Long) slow.get("dropped") > 0);
+        assertEquals(100L, (Long) slow.get("dropped") + (Long) slow.get("delivered"));
+        assertEquals(0L, metricsOf("fast").get("dropped"));
+    }
+
+    @Test
+    @DisplayName("BLOCK 정책은 큐가 작아도 이벤트를 잃지 않음")
+    void testBlockPolicyIsLossless() throws InterruptedException {
+        List<String> received = new CopyOnWriteArrayList<>();
+        bus.subscribe("emergency", event -> {
+            sleep(1);
+            received.add(event.getRobotId());
+        }, 2, SimulationEventBus.OverflowPolicy.BLOCK);
+
+        for (int i = 0; i < 50; i++) {
+            bus.publish(event("ROBOT-" + i));
+        }
+
+        assertTrue(bus.awaitDrained(Duration.ofSeconds(5)));
+        assertEquals(50, received.size());
+        assertEquals("ROBOT-49", received.get(49));
+    }
+
+    @Test
+    @DisplayName("DROP_OLDEST 리스너 큐가 넘쳐도 긴급/충돌 이벤트는 우선 큐로 전달됨")
+    void testCriticalEventsSurviveOverflowingListener() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        List<SimulationEvent> received = new CopyOnWriteArrayList<>();
+        bus.subscribe("websocket", event -> {
+            await(release);
+            received.add(event);
+        }, 4, SimulationEventBus.OverflowPolicy.DROP_OLDEST);
+
+        for (int i = 0; i < 100; i++) {
+            bus.publish(event("ROBOT-" + i));
+            if (i == 10) {
+                bus.publish(SimulationEvent.emergency("ROBOT-E", "ZONE-A", Position.of(1, 1), "FIRE", "화재"));
+            }
+            if (i == 50) {
+                bus.publish(SimulationEvent.proximity("ROBOT-A", "ROBOT-B", "ZONE-A", Position.of(2, 2), 0.0, true));
+            }
+        }
+
+        release.countDown();
+        assertTrue(bus.awaitDrained(Duration.ofSeconds(5)));
+
+        assertTrue(received.stream().anyMatch(e -> e.getType() == SimulationEvent.EventType.EMERGENCY_DETECTED));
+        assertTrue(received.stream().anyMatch(e -> e.getType() == SimulationEvent.EventType.COLLISION_DETECTED));
+        Map<String, Object> metrics = metricsOf("websocket");
+        assertTrue((Long) metrics.get("dropped") > 0);
+        assertEquals(102L, (Long) metrics.get("dropped") + (Long) metrics.get("delivered"));
+    }
+
+    @Test
+    @DisplayName("리스너 예외는 오류로 기록되고 전달은 계속됨")
+    void testListenerErrorIsIsolated() throws InterruptedException {
+        bus.subscribe("failing", event -> {
+            throw new IllegalStateException("boom");
+        }, 10, SimulationEventBus.OverflowPolicy.BLOCK);
+
+        bus.publish(event("ROBOT-1"));
+        bus.publish(event("ROBOT-2"));
+
+        assertTrue(bus.awaitDrained(Duration.ofSeconds(5)));
+        assertEquals(2L, metricsOf("failing").get("errors"));
+    }
+
+    @Test
+    @DisplayName("해제한 리스너는 더 이상 받지 않음")
+    void testUnsubscribe() {
+        List<String> received = new CopyOnWriteArrayList<>();
+        Consumer<SimulationEvent> listener = event -> received.add(event.getRobotId());
+        bus.subscribe("temp", listener, 10, SimulationEventBus.OverflowPolicy.BLOCK);
+
+        assertTrue(bus.unsubscribe(listener));
+        bus.publish(event("ROBOT-1"));
+
+        assertEquals(0, bus.getSubscriberCount());
+        assertFalse(bus.unsubscribe(listener));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> metricsOf(String name) {
+        return (Map<String, Object>) bus.getListenerMetrics().get(name);
+    }
+
+    private SimulationEvent event(String robotId) {
+        return SimulationEvent.locationUpdate(robotId, Position.of(1, 1), "ZONE-A");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,264 @@
+package com.safetyhub.adapter.simulator.event;
+
+import com.safetyhub.adapter.simulator.RobotSimulationService;
+import com.safetyhub.adapter.simulator.robot.Position;
+import com.safetyhub.adapter.simulator.scenario.SimulationScenario;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 시뮬레이션 이벤트 기록/재생 테스트
+ */
+class SimulationEventReplayerTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("시뮬레이션에서 기록한 이벤트를 읽으면 ID, 시각, 데이터까지 원본과 같음")
+    void testRoundTrip() throws IOException {
+        Path log = directory.resolve("round-trip.evlog");
+        List<SimulationEvent> published = new CopyOnWriteArrayList<>();
+
+        RobotSimulationService service = new RobotSimulationService(42L, 1);
+        try (SimulationEventRecorder recorder = new SimulationEventRecorder(log)) {
+            service.addEventListener("recorder", event -> {
+                published.add(event);
+                recorder.accept(event);
+            }, 100_000, SimulationEventBus.OverflowPolicy.BLOCK);
+            service.runHeadless(SimulationScenario.workerFall(50), 200);
+            assertTrue(service.flushEvents(Duration.ofSeconds(10)));
+
+            Map<String, Object> mixed = new HashMap<>();
+            mixed.put("count", 3L);
+            mixed.put("active", true);
+            mixed.put("note", null);
+            SimulationEvent custom = SimulationEvent.builder()
+                    .eventId("custom-1")
+                    .type(SimulationEvent.EventType.SENSOR_DATA)
+                    .robotId("ROBOT-X")
+                    .priority(SimulationEvent.EventPriority.LOW)
+                    .data(mixed)
+                    .timestamp(LocalDateTime.of(1999, 12, 31, 23, 59, 59, 123_456_789))
+                    .build();
+            SimulationEvent proximity = SimulationEvent.proximity("ROBOT-X", "ROBOT-Y", "ZONE-1",
+                    Position.of(-3, 7), 0.5, true);
+            for (SimulationEvent event : List.of(custom, proximity, SimulationEvent.builder().build())) {
+                recorder.accept(event);
+                published.add(event);
+            }
+        }
+
+        List<SimulationEvent> read = readAll(log);
+        assertTrue(published.size() > 100, "기록 이벤트 수: " + published.size());
+        assertEquals(published.size(), read.size());
+        for (int i = 0; i < published.size(); i++) {
+            assertEquals(describe(published.get(i)), describe(read.get(i)), "event " + i);
+        }
+        double bytesPerEvent = (double) Files.size(log) / published.size();
+        assertTrue(bytesPerEvent < 60, "이벤트당 " + bytesPerEvent + " bytes");
+    }
+
+    @Test
+    @DisplayName("서비스로 기록하면 기록기는 BLOCK으로 등록되고 중지할 때 남은 이벤트까지 기록됨")
+    void testServiceRecording() throws IOException {
+        Path log = directory.resolve("service.evlog");
+        List<SimulationEvent> published = new CopyOnWriteArrayList<>();
+
+        RobotSimulationService service = new RobotSimulationService(42L, 1);
+        service.addEventListener("test", published::add, 100_000, SimulationEventBus.OverflowPolicy.BLOCK);
+        assertEquals(log, service.startRecording(log));
+        assertThrows(IllegalStateException.class, () -> service.startRecording(directory.resolve("other.evlog")));
+
+        @SuppressWarnings("unchecked")
+        Map<String, Object> recorder = (Map<String, Object>) ((Map<String, Object>)
+                service.getMetrics().getSnapshot().get("listeners")).get("recorder");
+        assertEquals("BLOCK", recorder.get("policy"));
+        assertEquals(100_000, recorder.get("capacity"));
+
+        service.runHeadless(SimulationScenario.workerFall(50), 200);
+        RobotSimulationService.RecordingReport report = service.stopRecording();
+
+        assertTrue(report.isComplete());
+        assertFalse(service.isRecording());
+        assertThrows(IllegalStateException.class, service::stopRecording);
+        assertEquals(published.size(), report.getEvents());
+        List<SimulationEvent> read = readAll(log);
+        assertEquals(published.size(), read.size());
+        for (int i = 0; i < published.size(); i++) {
+            assertEquals(describe(published.get(i)), describe(read.get(i)), "event " + i);
+        }
+    }
+
+    @Test
+    @DisplayName("여러 파티션으로 재생해도 발생원별 순서는 기록 순서와 같음")
+    void testPerSourceOrdering() throws IOException {
+        Path log = directory.resolve("ordering.evlog");
+        Map<String, List<String>> expected = new LinkedHashMap<>();
+        try (SimulationEventRecorder recorder = new SimulationEventRecorder(log)) {
+            for (int i = 0; i < 5_000; i++) {
+                String robotId = "ROBOT-" + (i % 37);
+                SimulationEvent event = SimulationEvent.heartbeat(robotId);
+                recorder.accept(event);
+                expected.computeIfAbsent(robotId, k -> new ArrayList<>()).add(event.getEventId());
+            }
+        }
+
+        Map<String, List<String>> replayed = new LinkedHashMap<>();
+        SimulationEventReplayer.ReplayReport report;
+        try (SimulationEventLogReader reader = new SimulationEventLogReader(log)) {
+            report = new SimulationEventReplayer(SimulationEventReplayer.AS_FAST_AS_POSSIBLE, 4).replay(reader, event -> {
+                if (ThreadLocalRandom.current().nextInt(200) == 0) {
+                    LockSupport.parkNanos(100_000);  // 느린 게이트웨이 흉내
+                }
+                synchronized (replayed) {
+                    replayed.computeIfAbsent(event.getRobotId(), k -> new ArrayList<>()).add(event.getEventId());
+                }
+            });
+        }
+
+        assertEquals(5_000, report.getEvents());
+        assertEquals(0, report.getFailed());
+        assertEquals(expected, replayed);
+    }
+
+    @Test
+    @DisplayName("재생을 중단하면 파티션에 넘긴 이벤트까지 전달하고 중단 상태를 남긴 채 끝남")
+    void testInterruptDrainsPartitions() throws IOException {
+        Path log = directory.resolve("interrupt.evlog");
+        Map<String, List<String>> expected = new LinkedHashMap<>();
+        try (SimulationEventRecorder recorder = new SimulationEventRecorder(log)) {
+            for (int i = 0; i < 20_000; i++) {
+                String robotId = "ROBOT-" + (i % 7);
+                SimulationEvent event = SimulationEvent.heartbeat(robotId);
+                recorder.accept(event);
+                expected.computeIfAbsent(robotId, k -> new ArrayList<>()).add(event.getEventId());
+            }
+        }
+
+        // 파티션 큐(2 x 4096)보다 많이 기록했으므로 첫 전달에서 건 중단은 읽기가 끝나기 전에 보임
+        Thread caller = Thread.currentThread();
+        AtomicInteger delivered = new AtomicInteger();
+        Map<String, List<String>> replayed = new LinkedHashMap<>();
+        Consumer<SimulationEvent> target = event -> {
+            if (delivered.incrementAndGet() == 1) {
+                caller.interrupt();
+            }
+            synchronized (replayed) {
+                replayed.computeIfAbsent(event.getRobotId(), k -> new ArrayList<>()).add(event.getEventId());
+            }
+        };
+        try (SimulationEventLogReader reader = new SimulationEventLogReader(log)) {
+            assertThrows(InterruptedIOException.class, () -> new SimulationEventReplayer(
+                    SimulationEventReplayer.AS_FAST_AS_POSSIBLE, 2).replay(reader, target));
+            assertTrue(Thread.interrupted());
+        }
+
+        assertTrue(delivered.get() < 20_000);
+        replayed.forEach((robotId, ids) -> assertEquals(expected.get(robotId).subList(0, ids.size()), ids));
+    }
+
+    @Test
+    @DisplayName("배속 재생은 기록된 간격을 배속만큼 줄여 따름")
+    void testSpeed() throws IOException {
+        Path log = directory.resolve("speed.evlog");
+        try (SimulationEventRecorder recorder = new SimulationEventRecorder(log)) {
+            for (int i = 0; i < 5; i++) {
+                recorder.accept(SimulationEvent.heartbeat("ROBOT-1"));
+                LockSupport.parkNanos(50_000_000);  // 50ms 간격
+            }
+        }
+
+        long recordedMs;
+        try (SimulationEventLogReader reader = new SimulationEventLogReader(log)) {
+            long last = 0;
+            SimulationEventLogReader.Entry entry;
+            while ((entry = reader.next()) != null) {
+                last = entry.offsetNanos();
+            }
+            recordedMs = last / 1_000_000;
+        }
+        assertTrue(recordedMs >= 190, "기록된 마지막 오프셋: " + recordedMs);
+
+        long realTime = replay(log, 1).getElapsedMillis();
+        long fast = replay(log, 4).getElapsedMillis();
+        long max = replay(log, SimulationEventReplayer.AS_FAST_AS_POSSIBLE).getElapsedMillis();
+
+        assertTrue(realTime >= recordedMs - 5, "1배속: " + realTime);
+        assertTrue(fast >= recordedMs / 4 - 5, "4배속: " + fast);
+        assertTrue(fast < realTime, "4배속이 1배속보다 빨라야 함");
+        assertTrue(max < fast, "최대 속도: " + max);
+    }
+
+    @Test
+    @DisplayName("마지막 레코드가 잘린 로그는 완전한 레코드까지만 재생")
+    void testTruncatedTail() throws IOException {
+        Path log = directory.resolve("truncated.evlog");
+        try (SimulationEventRecorder recorder = new SimulationEventRecorder(log)) {
+            for (int i = 0; i < 10; i++) {
+                recorder.accept(SimulationEvent.heartbeat("ROBOT-" + i));
+            }
+        }
+        byte[] bytes = Files.readAllBytes(log);
+        Files.write(log, Arrays.copyOf(bytes, bytes.length - 3));
+
+        List<String> received = new ArrayList<>();
+        SimulationEventReplayer.ReplayReport report;
+        try (SimulationEventLogReader reader = new SimulationEventLogReader(log)) {
+            report = new SimulationEventReplayer(SimulationEventReplayer.AS_FAST_AS_POSSIBLE, 1)
+                    .replay(reader, event -> received.add(event.getRobotId()));
+        }
+
+        assertEquals(9, report.getEvents());
+        assertTrue(report.isTruncated());
+        assertEquals("ROBOT-8", received.get(8));
+    }
+
+    private static SimulationEventReplayer.ReplayReport replay(Path log, double speed) throws IOException {
+        try (SimulationEventLogReader reader = new SimulationEventLogReader(log)) {
+            return new SimulationEventReplayer(speed, 1).replay(reader, event -> { });
+        }
+    }
+
+    private static List<SimulationEvent> readAll(Path log) throws IOException {
+        List<SimulationEvent> events = new ArrayList<>();
+        try (SimulationEventLogReader reader = new SimulationEventLogReader(log)) {
+            SimulationEventLogReader.Entry entry;
+            while ((entry = reader.next()) != null) {
+                events.add(entry.event());
+            }
+            assertFalse(reader.isTruncated());
+        }
+        return events;
+    }
+
+    private static String describe(SimulationEvent event) {
+        Position position = event.getPosition();
+        return event.getEventId() + " " + event.getType() + " " + event.getRobotId() + " " + event.getZoneId()
+                + " " + (position != null ? position.getX() + "," + position.getY() : null)
+                + " " + event.getPriority() + " " + event.getTimestamp()
+                + " " + (event.getData() != null ? new TreeMap<>(event.getData()) : null);
+    }
+}
@@ -0,0 +1,149 @@
+package com.safetyhub.adapter.simulator.robot;
+
+import com.safetyhub.adapter.simulator.world.VirtualWorld;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * RobotStateStore (배열 기반 로봇 상태 저장소) 테스트
+ */
+class RobotStateStoreTest {
+
+    @Test
+    @DisplayName("RobotWorker를 저장했다가 같은 값으로 다시 생성")
+    void testLoadAndMaterialize() {
+        RobotStateStore store = new RobotStateStore();
+        RobotWorker robot = robot("ROBOT-1", Position.of(3, 4)).setTarget(Position.of(9, 9));
+
+        int index = store.add(robot);
+        RobotWorker view = store.materialize(index);
+
+        assertEquals("ROBOT-1", view.getRobotId());
+        assertEquals(RobotState.MOVING, view.getState());
+        assertEquals(Position.of(3, 4), view.getCurrentPosition());
+        assertEquals(Position.of(9, 9), view.getTargetPosition());
+        assertEquals("ZONE-A", view.getCurrentZoneId());
+        assertEquals(robot.getHealthStatus().getHeartRate(), view.getHealthStatus().getHeartRate());
+        assertEquals(robot.getBatteryStatus().getLevel(), view.getBatteryStatus().getLevel());
+        assertSame(robot.getSchedule(), view.getSchedule());
+    }
+
+    @Test
+    @DisplayName("제자리 갱신은 stale 표시 후 다음 뷰에 반영")
+    void testInPlaceUpdate() {
+        RobotStateStore store = new RobotStateStore();
+        int index = store.add(robot("ROBOT-1", Position.of(3, 4)));
+        store.clearStale(index);
+
+        store.setPosition(index, 5, 6);
+        store.setBattery(index, 8, false);
+
+        assertTrue(store.isStale(index));
+        assertTrue(store.consumeMoved(index));
+        assertFalse(store.consumeMoved(index));
+        assertTrue(store.isBatteryCritical(index));
+        assertEquals(Position.of(5, 6), store.materialize(index).getCurrentPosition());
+        assertEquals(8, store.materialize(index).getBatteryStatus().getLevel());
+    }
+
+    @Test
+    @DisplayName("제거 시 마지막 슬롯이 빈 자리로 이동")
+    void testRemoveCompactsSlots() {
+        RobotStateStore store = new RobotStateStore();
+        for (int i = 0; i < 100; i++) {  // 초기 용량 초과
+            store.add(robot("ROBOT-" + i, Position.of(i % 10, i / 10)));
+        }
+        long layoutVersion = store.getLayoutVersion();
+
+        assertTrue(store.remove("ROBOT-10"));
+        assertFalse(store.remove("ROBOT-10"));
+
+        assertEquals(99, store.size());
+        assertEquals(-1, store.indexOf("ROBOT-10"));
+        int moved = store.indexOf("ROBOT-99");
+        assertEquals(10, moved);
+        assertEquals(Position.of(9, 9), store.materialize(moved).getCurrentPosition());
+        assertTrue(store.getLayoutVersion() > layoutVersion);
+    }
+
+    @Test
+    @DisplayName("평상시 틱은 저장소에서 처리되고 월드 뷰에는 조회 시 반영")
+    void testWorldViewsFollowStore() {
+        VirtualWorld world = new VirtualWorld("TEST");
+        RobotWorker robot = robot("ROBOT-1", Position.of(10, 10)).updateState(RobotState.WORKING);
+        world.addRobot(robot);
+        RobotStateStore store = world.getRobotStates();
+        int index = store.indexOf("ROBOT-1");
+
+        store.setBattery(index, 42, false);
+
+        assertEquals(42, world.getRobots().get("ROBOT-1").getBatteryStatus().getLevel());
+        assertFalse(store.isStale(index));
+        assertEquals(RobotState.WORKING, store.getScheduledState(index, LocalTime.of(9, 0)));
+    }
+
+    @Test
+    @DisplayName("스냅샷은 슬롯 순서와 값을 그대로 복원하고 같은 내용의 스케줄은 한 번만 기록")
+    void testSnapshotRoundTrip() throws IOException {
+        RobotStateStore store = new RobotStateStore();
+        for (int i = 0; i < 100; i++) {
+            store.add(robot("ROBOT-" + i, Position.of(i % 10, i / 10)));
+        }
+        store.setBattery(7, 13, true);
+        store.add(robot("ROBOT-NOPOS", null));
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        store.writeSnapshot(new DataOutputStream(bytes));
+
+        RobotStateStore restored = new RobotStateStore();
+        restored.add(robot("ROBOT-OLD", Position.of(1, 1)));
+        restored.readSnapshot(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+        assertEquals(store.size(), restored.size());
+        assertEquals(-1, restored.indexOf("ROBOT-OLD"));
+        for (int i = 0; i < store.size(); i++) {
+            assertEquals(store.getRobotId(i), restored.getRobotId(i));
+            assertEquals(i, restored.indexOf(store.getRobotId(i)));
+            assertTrue(restored.isStale(i));
+            RobotWorker expected = store.materialize(i);
+            RobotWorker actual = restored.materialize(i);
+            assertEquals(expected.getCurrentPosition(), actual.getCurrentPosition());
+            assertEquals(expected.getAssignedZoneId(), actual.getAssignedZoneId());
+            assertEquals(expected.getCurrentZoneId(), actual.getCurrentZoneId());
+            assertEquals(expected.getBatteryStatus().getLevel(), actual.getBatteryStatus().getLevel());
+            assertEquals(expected.getBatteryStatus().isCharging(), actual.getBatteryStatus().isCharging());
+            assertEquals(expected.getHealthStatus().getTemperature(), actual.getHealthStatus().getTemperature());
+            assertEquals(expected.getCreatedAt(), actual.getCreatedAt());
+            assertEquals(LocalTime.of(10, 0),
+                    actual.getSchedule().getCurrentEntry(LocalTime.of(10, 5)).getStartTime());
+        }
+        // 스케줄 101개가 내용이 같으므로 복원 후에는 하나의 인스턴스를 공유
+        assertSame(restored.materialize(0).getSchedule(), restored.materialize(99).getSchedule());
+    }
+
+    private RobotWorker robot(String robotId, Position position) {
+        return RobotWorker.builder()
+                .robotId(robotId)
+                .name(robotId)
+                .assignedZoneId("ZONE-A")
+                .state(RobotState.WORKING)
+                .currentPosition(position)
+                .currentZoneId("ZONE-A")
+                .schedule(RobotSchedule.createDefaultSchedule())
+                .healthStatus(HealthStatus.createNormal())
+                .batteryStatus(BatteryStatus.createFull())
+                .lastUpdate(LocalDateTime.now())
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,101 @@
+package com.safetyhub.adapter.simulator.world;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ReservationTable 만료 테스트
+ */
+class ReservationTableTest {
+
+    @Test
+    @DisplayName("예약한 순서와 관계없이 지난 틱의 예약만 정확히 만료")
+    void testExpiresByTickRegardlessOfInsertionOrder() {
+        ReservationTable table = new ReservationTable();
+        // 먼 틱을 먼저 예약해도 가까운 틱의 만료를 막지 않음
+        assertTrue(table.reserve(1, 1, 10, "ROBOT-A"));
+        assertTrue(table.reserve(2, 2, 1, "ROBOT-B"));
+        assertTrue(table.reserve(3, 3, 2, "ROBOT-B"));
+
+        table.advanceTo(2);
+        assertNull(table.getOwner(2, 2, 1));
+        assertEquals("ROBOT-B", table.getOwner(3, 3, 2));
+        assertEquals("ROBOT-A", table.getOwner(1, 1, 10));
+        assertEquals(2, table.size());
+
+        table.advanceTo(11);
+        assertEquals(0, table.size());
+        // 만료된 예약의 로봇별 목록도 비워져 취소할 것이 없음
+        table.release("ROBOT-A");
+        assertTrue(table.reserve(1, 1, 12, "ROBOT-B"));
+    }
+
+    @Test
+    @DisplayName("링보다 먼 틱 예약과 한 바퀴 넘게 건너뛴 진행도 처리")
+    void testFarTicksAndLargeJumps() {
+        ReservationTable table = new ReservationTable();
+        table.advanceTo(5);
+        table.reserve(0, 0, 6, "ROBOT-A");
+        table.reserve(0, 1, 5 + 100, "ROBOT-A");   // 처음 링 크기보다 멂
+        table.reserve(0, 2, 5 + 1000, "ROBOT-B");
+
+        table.advanceTo(7);
+        assertEquals(2, table.size());
+        assertEquals("ROBOT-A", table.getOwner(0, 1, 105));
+
+        table.advanceTo(500);
+        assertEquals(1, table.size());
+        assertEquals("ROBOT-B", table.getOwner(0, 2, 1005));
+
+        table.advanceTo(100_000);
+        assertEquals(0, table.size());
+    }
+
+    @Test
+    @DisplayName("밀어낸 예약과 이미 지난 틱 예약도 만료됨")
+    void testHoldAndPastReservations() {
+        ReservationTable table = new ReservationTable();
+        table.advanceTo(3);
+        table.reserve(4, 4, 4, "ROBOT-A");
+        assertEquals("ROBOT-A", table.hold(4, 4, 4, "ROBOT-B"));
+        table.reserve(5, 5, 1, "ROBOT-C");   // 이미 지난 틱
+
+        table.advanceTo(4);
+        assertNull(table.getOwner(5, 5, 1));
+        assertEquals("ROBOT-B", table.getOwner(4, 4, 4));
+
+        table.advanceTo(5);
+        assertEquals(0, table.size());
+    }
+
+    @Test
+    @DisplayName("스냅샷으로 복원한 테이블은 같은 틱에 같은 예약을 만료")
+    void testSnapshotKeepsExpirySchedule() throws IOException {
+        ReservationTable table = new ReservationTable();
+        table.advanceTo(10);
+        for (int i = 0; i < 50; i++) {
+            table.reserve(i, i, 10 + i, "ROBOT-" + (i % 3));
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        table.writeSnapshot(new DataOutputStream(bytes));
+
+        ReservationTable restored = new ReservationTable();
+        restored.readSnapshot(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+        assertEquals(50, restored.size());
+        for (long tick = 11; tick <= 61; tick += 10) {
+            table.advanceTo(tick);
+            restored.advanceTo(tick);
+            assertEquals(table.size(), restored.size(), "tick " + tick);
+        }
+        assertEquals(0, restored.size());
+    }
+}
@@ -0,0 +1,186 @@
+package com.safetyhub.application.dispatch;
+
+import com.safetyhub.application.path.PathService;
+import com.safetyhub.core.domain.Location;
+import com.safetyhub.core.domain.Task;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 최근접 로봇 분배 전략
+ * 작업 위치까지 실제 이동 시간이 가장 짧은 로봇에 작업을 할당
+ *
+ * 특징:
+ * - ALT 하한(estimateMinTravelTime)으로 후보를 정렬한 뒤 가까운 순으로 실제 경로 계산
+ * - 다음 후보의 하한이 현재 최선의 실제 이동 시간보다 크면 탐색 종료 (가지치기)
+ * - 이동 시간이 같으면 할당된 작업이 적은 로봇, 그다음 robotId 순으로 선택 (입력 순서와 무관)
+ * - 하한이 정확할수록 실제 경로 계산 횟수가 1~2회로 줄어듦
+ * - 스레드 안전성 보장 (통계는 AtomicLong 사용)
+ *
+ * 적합한 상황:
+ * - 로봇이 넓게 분산되어 있을 때
+ * - 긴급 작업처럼 응답 시간이 중요할 때
+ */
+@Slf4j
+public class NearestRobotStrategy implements DispatchStrategy {
+
+    /**
+     * 이동 시간이 같은 로봇 사이의 선택 순서 (할당된 작업 수, robotId)
+     */
+    private static final Comparator<RobotInfo> TIE_BREAK = Comparator
+            .comparingInt(RobotInfo::getAssignedTaskCount)
+            .thenComparing(RobotInfo::getRobotId);
+
+    private final PathService pathService;
+    private final double speedMeterPerSecond;
+    private final double cellSize;
+
+    /**
+     * 실제 경로 계산 횟수
+     */
+    private final AtomicLong exactEvaluations = new AtomicLong(0);
+
+    /**
+     * 하한으로 가지치기된 후보 수
+     */
+    private final AtomicLong prunedCandidates = new AtomicLong(0);
+
+    /**
+     * 생성자
+     * @param pathService 경로 서비스
+     * @param speedMeterPerSecond 로봇 이동 속도 (미터/초)
+     * @param cellSize 그리드 셀 크기 (미터) - 실제 격자 경로 길이 계산용
+     */
+    public NearestRobotStrategy(PathService pathService, double speedMeterPerSecond, double cellSize) {
+        if (pathService == null) {
+            throw new IllegalArgumentException("pathService는 null일 수 없습니다");
+        }
+        if (speedMeterPerSecond <= 0) {
+            throw new IllegalArgumentException("speedMeterPerSecond는 0보다 커야 합니다");
+        }
+        if (cellSize <= 0) {
+            throw new IllegalArgumentException("cellSize는 0보다 커야 합니다");
+        }
+
+        this.pathService = pathService;
+        this.speedMeterPerSecond = speedMeterPerSecond;
+        this.cellSize = cellSize;
+    }
+
+    @Override
+    public String getName() {
+        return "Nearest-Robot";
+    }
+
+    @Override
+    public String getDescription() {
+        return "작업 위치까지 이동 시간이 가장 짧은 로봇에 할당합니다. 랜드마크 하한으로 후보를 가지치기합니다.";
+    }
+
+    @Override
+    public Optional<String> assignTask(Task task, List<RobotInfo> availableRobots) {
+        // 입력 검증
+        if (task == null) {
+            log.warn("작업이 null입니다");
+            return Optional.empty();
+        }
+
+        if (availableRobots == null || availableRobots.isEmpty()) {
+            log.warn("사용 가능한 로봇이 없습니다. Task ID: {}", task.getId());
+            return Optional.empty();
+        }
+
+        Location target = task.getTargetLocation();
+        if (target == null) {
+            log.warn("작업 위치가 없습니다. Task ID: {}", task.getId());
+            return Optional.empty();
+        }
+
+        // 1. 하한 계산 (탐색 없음)
+        List<Candidate> candidates = new ArrayList<>();
+        for (RobotInfo robot : availableRobots) {
+            if (!robot.isAvailable() || robot.getCurrentLocation() == null) {
+                continue;
+            }
+            double lowerBound = pathService
+                    .estimateMinTravelTime(robot.getCurrentLocation(), target, speedMeterPerSecond)
+                    .orElse(0.0);
+            candidates.add(new Candidate(robot, lowerBound));
+        }
+
+        if (candidates.isEmpty()) {
+            log.warn("활성 상태의 로봇이 없습니다. Task ID: {}, Total Robots: {}",
+                    task.getId(), availableRobots.size());
+            return Optional.empty();
+        }
+
+        candidates.sort(Comparator.comparingDouble(Candidate::lowerBound)
+                .thenComparing(Candidate::robot, TIE_BREAK));
+
+        // 2. 하한이 작은 순서로 실제 이동 시간 계산, 하한이 최선보다 크면 중단 (같으면 동점 후보라 계속)
+        RobotInfo best = null;
+        double bestTravelTime = Double.POSITIVE_INFINITY;
+        int evaluated = 0;
+
+        for (Candidate candidate : candidates) {
+            if (candidate.lowerBound() > bestTravelTime) {
+                break;
+            }
+
+            evaluated++;
+            double travelTime = exactTravelTime(candidate.robot().getCurrentLocation(), target);
+            if (travelTime < bestTravelTime
+                    || (travelTime == bestTravelTime && best != null && TIE_BREAK.compare(candidate.robot(), best) < 0)) {
+                bestTravelTime = travelTime;
+                best = candidate.robot();
+            }
+        }
+
+        exactEvaluations.addAndGet(evaluated);
+        prunedCandidates.addAndGet(candidates.size() - evaluated);
+
+        if (best == null) {
+            log.warn("작업 위치에 도달 가능한 로봇이 없습니다. Task ID: {}", task.getId());
+            return Optional.empty();
+        }
+
+        log.debug("최근접 할당 - Task ID: {}, Robot: {}, 이동 시간: {}s, 평가: {}/{}",
+                task.getId(), best.getRobotId(), bestTravelTime, evaluated, candidates.size());
+
+        return Optional.of(best.getRobotId());
+    }
+
+    /**
+     * 실제 격자 경로 기준 이동 시간 (초), 경로가 없으면 무한대
+     */
+    private double exactTravelTime(Location start, Location goal) {
+        return pathService.findPath(start, goal)
+                .map(result -> Math.max(0, result.getSteps() - 1) * cellSize / speedMeterPerSecond)
+                .orElse(Double.POSITIVE_INFINITY);
+    }
+
+    /**
+     * 실제 경로 계산 횟수 조회
+     */
+    public long getExactEvaluations() {
+        return exactEvaluations.get();
+    }
+
+    /**
+     * 가지치기된 후보 수 조회
+     */
+    public long getPrunedCandidates() {
+        return prunedCandidates.get();
+    }
+
+    /**
+     * 하한 추정이 붙은 후보
+     */
+    private record Candidate(RobotInfo robot, double lowerBound) {
+    }
+}
@@ -165,6 +165,7 @@ public class PriorityTaskQueue implements TaskQueue {
      * 작업 비교자
      * 1순위: 승격된 우선순위 (낮은 숫자가 높은 우선순위)
      * 2순위: 생성 시간 (오래된 작업 우선 - FIFO)
+     * 3순위: 작업 ID (생성 시각은 1ms 단위이므로 같은 밀리초 안에서는 시간 순 ID로 구분)
      */
     private static class TaskComparator implements Comparator<Task> {
         @Override
@@ -179,7 +180,13 @@ public class PriorityTaskQueue implements TaskQueue {
             }
 
             // 2순위: 생성 시간으로 비교 (오래된 작업 우선 - FIFO)
-            return t1.getCreatedAt().compareTo(t2.getCreatedAt());
+            int timeComparison = t1.getCreatedAt().compareTo(t2.getCreatedAt());
+            if (timeComparison != 0) {
+                return timeComparison;
+            }
+
+            // 3순위: 작업 ID로 비교
+            return t1.getId().compareTo(t2.getId());
         }
     }
 }
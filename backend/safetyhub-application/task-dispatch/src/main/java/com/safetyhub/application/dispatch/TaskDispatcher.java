@@ -6,6 +6,7 @@ import com.safetyhub.core.domain.TaskStatus;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -18,7 +19,7 @@ import java.util.concurrent.atomic.AtomicLong;
  *
  * 주요 기능:
  * - 작업 제출 및 큐 관리
- * - 분배 전략에 따른 작업 할당
+ * - 분배 전략에 따른 작업 할당 (우선순위별로 다른 전략 지정 가능)
  * - 작업 상태 추적
  * - 통계 수집
  */
@@ -35,6 +36,11 @@ public class TaskDispatcher {
      */
     private final DispatchStrategy dispatchStrategy;
 
+    /**
+     * 우선순위별 분배 전략 (지정하지 않은 우선순위는 기본 전략 사용)
+     */
+    private final Map<TaskPriority, DispatchStrategy> priorityStrategies;
+
     /**
      * 할당된 작업 추적 (Task ID -> Task)
      */
@@ -56,20 +62,39 @@ public class TaskDispatcher {
      * @param dispatchStrategy 분배 전략
      */
     public TaskDispatcher(TaskQueue taskQueue, DispatchStrategy dispatchStrategy) {
+        this(taskQueue, dispatchStrategy, Map.of());
+    }
+
+    /**
+     * 생성자 (우선순위별 전략 지정)
+     * 예: CRITICAL/HIGH 작업은 NearestRobotStrategy로 가장 빨리 도착하는 로봇에, 나머지는 Round-Robin으로 분배
+     *
+     * @param taskQueue 작업 대기열
+     * @param dispatchStrategy 기본 분배 전략
+     * @param priorityStrategies 우선순위별 분배 전략
+     */
+    public TaskDispatcher(TaskQueue taskQueue, DispatchStrategy dispatchStrategy,
+                          Map<TaskPriority, DispatchStrategy> priorityStrategies) {
         if (taskQueue == null) {
             throw new IllegalArgumentException("taskQueue는 null일 수 없습니다");
         }
         if (dispatchStrategy == null) {
             throw new IllegalArgumentException("dispatchStrategy는 null일 수 없습니다");
         }
+        if (priorityStrategies == null) {
+            throw new IllegalArgumentException("priorityStrategies는 null일 수 없습니다");
+        }
 
         this.taskQueue = taskQueue;
         this.dispatchStrategy = dispatchStrategy;
+        this.priorityStrategies = priorityStrategies.isEmpty()
+                ? Map.of() : new EnumMap<>(priorityStrategies);
         this.assignedTasks = new ConcurrentHashMap<>();
         this.completedTasks = new ConcurrentHashMap<>();
         this.statistics = new Statistics();
 
-        log.info("TaskDispatcher 초기화 완료. 전략: {}", dispatchStrategy.getName());
+        log.info("TaskDispatcher 초기화 완료. 전략: {}, 우선순위별 전략: {}",
+                dispatchStrategy.getName(), this.priorityStrategies.keySet());
     }
 
     /**
@@ -112,7 +137,8 @@ public class TaskDispatcher {
         Task task = taskOpt.get();
 
         // 분배 전략에 따라 로봇 선택
-        Optional<String> robotIdOpt = dispatchStrategy.assignTask(task, availableRobots);
+        DispatchStrategy strategy = strategyFor(task);
+        Optional<String> robotIdOpt = strategy.assignTask(task, availableRobots);
         if (robotIdOpt.isEmpty()) {
             log.warn("작업을 할당할 로봇을 찾을 수 없습니다. Task ID: {}, 큐에 다시 추가", task.getId());
             taskQueue.enqueue(task); // 다시 큐에 넣기
@@ -127,11 +153,18 @@ public class TaskDispatcher {
         statistics.incrementAssigned();
 
         log.info("작업 할당됨. Task ID: {}, Robot: {}, Priority: {}, Strategy: {}",
-                assignedTask.getId(), robotId, assignedTask.getPriority(), dispatchStrategy.getName());
+                assignedTask.getId(), robotId, assignedTask.getPriority(), strategy.getName());
 
         return Optional.of(assignedTask);
     }
 
+    /**
+     * 작업에 적용할 분배 전략 (우선순위별 전략이 없으면 기본 전략)
+     */
+    DispatchStrategy strategyFor(Task task) {
+        return priorityStrategies.getOrDefault(task.getPriority(), dispatchStrategy);
+    }
+
     /**
      * 작업 시작
      * @param taskId 시작할 작업 ID
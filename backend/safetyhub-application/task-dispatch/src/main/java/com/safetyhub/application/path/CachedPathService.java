@@ -1,6 +1,7 @@
 package com.safetyhub.application.path;
 
 import com.safetyhub.core.domain.Location;
+import com.safetyhub.core.domain.MapSnapshotManager;
 import com.safetyhub.infrastructure.cache.CacheService;
 import lombok.extern.slf4j.Slf4j;
 
@@ -10,6 +11,9 @@ import java.util.Optional;
 /**
  * 캐싱 기능이 추가된 경로 계획 서비스
  * 데코레이터 패턴을 사용하여 PathService에 캐싱 레이어 추가
+ *
+ * 맵 스냅샷과 연동하면(invalidateOnMapChange) 캐시 키에 계산 시작 시점의 스냅샷 버전을 넣음
+ * 교체 직전 버전으로 계산한 경로가 무효화 이후에 저장되더라도 새 버전에서는 조회되지 않음
  */
 @Slf4j
 public class CachedPathService implements PathService {
@@ -17,6 +21,11 @@ public class CachedPathService implements PathService {
     private final PathService delegate;
     private final CacheService cacheService;
 
+    /**
+     * 연동된 맵 스냅샷 관리자 (없으면 버전 없는 키 사용)
+     */
+    private volatile MapSnapshotManager snapshots;
+
     /**
      * 캐시 TTL (5분)
      * 맵이 자주 변경되지 않는다고 가정
@@ -55,7 +64,7 @@ public class CachedPathService implements PathService {
             return Optional.empty();
         }
 
-        // 캐시 키 생성
+        // 캐시 키 생성 (계산 전에 버전을 읽으므로 계산 중 교체되면 이전 버전 키로 저장됨)
         String cacheKey = buildCacheKey(startZoneId, goalZoneId);
 
         try {
@@ -98,6 +107,12 @@ public class CachedPathService implements PathService {
         return delegate.estimateTravelTime(start, goal, speedMeterPerSecond);
     }
 
+    @Override
+    public Optional<Double> estimateMinTravelTime(Location start, Location goal, double speedMeterPerSecond) {
+        // 하한 추정은 탐색 없이 계산되므로 캐싱하지 않음
+        return delegate.estimateMinTravelTime(start, goal, speedMeterPerSecond);
+    }
+
     @Override
     public void invalidateCache(String startZoneId, String goalZoneId) {
         if (startZoneId == null || startZoneId.isEmpty() ||
@@ -133,11 +148,28 @@ public class CachedPathService implements PathService {
         delegate.invalidateAllCache();
     }
 
+    /**
+     * 맵 스냅샷 연동
+     * 캐시 키에 스냅샷 버전을 넣어 이전 버전 맵으로 계산된 경로가 새 버전에서 반환되지 않도록 하고,
+     * 교체될 때마다 이전 버전 경로를 정리하기 위해 전체 경로 캐시 무효화
+     */
+    public void invalidateOnMapChange(MapSnapshotManager snapshots) {
+        this.snapshots = snapshots;
+        snapshots.addListener(snapshot -> {
+            log.info("맵 스냅샷 v{} 배포 - 경로 캐시 무효화", snapshot.getVersion());
+            invalidateAllCache();
+        });
+    }
+
     /**
      * 캐시 키 생성
-     * 형식: path:{startZoneId}:{goalZoneId}
+     * 형식: path:{startZoneId}:{goalZoneId}, 스냅샷 연동 시 path:v{version}:{startZoneId}:{goalZoneId}
      */
     private String buildCacheKey(String startZoneId, String goalZoneId) {
+        MapSnapshotManager current = snapshots;
+        if (current != null) {
+            return String.format("%s:v%d:%s:%s", CACHE_KEY_PREFIX, current.getVersion(), startZoneId, goalZoneId);
+        }
         return String.format("%s:%s:%s", CACHE_KEY_PREFIX, startZoneId, goalZoneId);
     }
 
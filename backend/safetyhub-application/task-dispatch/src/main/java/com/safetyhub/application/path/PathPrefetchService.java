@@ -0,0 +1,273 @@
+package com.safetyhub.application.path;
+
+import com.safetyhub.core.domain.MapSnapshotManager;
+import com.safetyhub.core.domain.RobotBehaviorSimulator;
+import com.safetyhub.core.domain.RobotWorker;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 스케줄 기반 경로 미리 계산 서비스
+ * 점심(12:00), 휴식 시작 등 많은 로봇이 동시에 이동하는 시점 전에
+ * 유휴 틱을 이용해 구역 간 경로를 미리 계산하여 경로 캐시를 채움
+ *
+ * 동작:
+ * - prefetch(): 다가오는 스케줄 전환(lookahead 이내)과 배터리 부족 예정 로봇을 찾아
+ *   (현재 구역 -> 목표 구역) 쌍을 중복 없이 모은 뒤, 전환이 빠른 순으로 틱당 최대 maxPerTick개 계산
+ * - findPath(): 실제 이동 시점의 경로 요청, 미리 계산된 쌍이 캐시에서 제공되면 히트로 집계
+ * - attachTo(): RobotBehaviorSimulator의 틱이 끝날 때마다 prefetch() 실행
+ * - resetOnMapChange(): 맵 스냅샷이 교체되면(경로 캐시가 비워짐) 미리 계산 기록도 초기화
+ *
+ * pathService는 캐시가 있는 구현(CachedPathService)을 사용해야 효과가 있음
+ * 시각은 주입된 Clock 기준 (시뮬레이션 시계 사용 가능)
+ */
+@Slf4j
+public class PathPrefetchService {
+
+    /**
+     * 배터리 부족(50% 미만) 전환을 미리 준비하는 여유 (%)
+     */
+    private static final int CHARGE_PREFETCH_MARGIN = 5;
+
+    private static final int LOW_BATTERY_LEVEL = 50;
+
+    private final PathService pathService;
+    private final Clock clock;
+    private final Duration lookahead;
+    private final Duration cacheTtl;
+    private final int maxPerTick;
+
+    /**
+     * 미리 계산한 구역 쌍 키 -> 계산 시각 (캐시 TTL 동안 유효)
+     */
+    private final Map<String, Instant> prefetched = new ConcurrentHashMap<>();
+
+    /**
+     * 맵 스냅샷 연동 시 키에 버전을 넣음 (교체 중 계산한 경로가 새 버전에서 미리 계산된 것으로 보이지 않도록)
+     */
+    private volatile MapSnapshotManager snapshots;
+
+    private final AtomicLong prefetchCount = new AtomicLong(0);
+    private final AtomicLong demandCount = new AtomicLong(0);
+    private final AtomicLong hitCount = new AtomicLong(0);
+
+    /**
+     * 생성자
+     * @param pathService 경로 서비스 (캐시 포함)
+     * @param clock 시뮬레이션 시계
+     * @param lookahead 미리 계산할 시간 범위 (예: 전환 5분 전부터)
+     * @param cacheTtl 경로 캐시 TTL (이보다 오래된 미리 계산은 다시 계산)
+     * @param maxPerTick 틱당 최대 경로 계산 수
+     */
+    public PathPrefetchService(PathService pathService, Clock clock,
+                               Duration lookahead, Duration cacheTtl, int maxPerTick) {
+        if (pathService == null) {
+            throw new IllegalArgumentException("pathService는 null일 수 없습니다");
+        }
+        if (clock == null) {
+            throw new IllegalArgumentException("clock은 null일 수 없습니다");
+        }
+        if (lookahead == null || lookahead.isNegative() || lookahead.isZero()) {
+            throw new IllegalArgumentException("lookahead는 0보다 커야 합니다");
+        }
+        if (cacheTtl == null || cacheTtl.compareTo(lookahead) < 0) {
+            throw new IllegalArgumentException("cacheTtl은 lookahead 이상이어야 합니다");
+        }
+        if (maxPerTick <= 0) {
+            throw new IllegalArgumentException("maxPerTick은 0보다 커야 합니다");
+        }
+
+        this.pathService = pathService;
+        this.clock = clock;
+        this.lookahead = lookahead;
+        this.cacheTtl = cacheTtl;
+        this.maxPerTick = maxPerTick;
+    }
+
+    /**
+     * 시뮬레이터 틱 종료 시마다 미리 계산 (틱당 계산 수는 maxPerTick으로 제한)
+     */
+    public void attachTo(RobotBehaviorSimulator simulator) {
+        simulator.addTickListener((currentTime, robots) -> prefetch(robots));
+    }
+
+    /**
+     * 유휴 틱에 호출: 다가오는 전환에 필요한 경로를 미리 계산
+     *
+     * @param robots 현재 로봇 목록 (현재 구역, 스케줄, 배터리 사용)
+     * @return 이번 틱에 계산한 경로 수
+     */
+    public int prefetch(Collection<RobotWorker> robots) {
+        LocalTime now = LocalTime.now(clock);
+        LocalTime horizon = now.plus(lookahead);
+        Instant nowInstant = clock.instant();
+
+        // 구역 쌍 -> 가장 빠른 필요 시점 (같은 쌍은 한 번만 계산)
+        Map<String, PrefetchRequest> requests = new HashMap<>();
+        for (RobotWorker robot : robots) {
+            if (robot.getCurrentZoneId() == null || robot.isInDanger()) {
+                continue;
+            }
+
+            if (robot.getSchedule() != null) {
+                RobotWorker.ScheduleTransition transition = upcomingTransition(robot.getSchedule(), now, horizon);
+                if (transition != null) {
+                    addRequest(requests, robot, transition.getState(), secondsUntil(now, transition.getTime()), nowInstant);
+                }
+            }
+
+            // 곧 배터리 부족으로 충전하러 갈 로봇
+            if (robot.getBattery() != null && !robot.needsCharging()
+                    && robot.getBattery().getLevel() < LOW_BATTERY_LEVEL + CHARGE_PREFETCH_MARGIN) {
+                addRequest(requests, robot, RobotWorker.RobotState.RESTING, 0, nowInstant);
+            }
+        }
+
+        List<PrefetchRequest> ordered = new ArrayList<>(requests.values());
+        ordered.sort(Comparator.comparingLong(PrefetchRequest::secondsUntil));
+
+        int computed = 0;
+        for (PrefetchRequest request : ordered) {
+            if (computed >= maxPerTick) {
+                break;
+            }
+            Optional<PathService.PathResult> result = pathService.findPath(request.startZoneId(), request.goalZoneId());
+            computed++;
+            if (result.isPresent()) {
+                prefetched.put(request.key(), nowInstant);
+            }
+        }
+
+        prefetchCount.addAndGet(computed);
+        if (computed > 0) {
+            log.debug("경로 미리 계산 - 계산: {}, 대기: {}", computed, ordered.size() - computed);
+        }
+        return computed;
+    }
+
+    /**
+     * 실제 이동 시점의 구역 간 경로 요청 (히트율 집계)
+     */
+    public Optional<PathService.PathResult> findPath(String startZoneId, String goalZoneId) {
+        demandCount.incrementAndGet();
+        Optional<PathService.PathResult> result = pathService.findPath(startZoneId, goalZoneId);
+
+        if (result.isPresent() && result.get().isCached() && isFresh(buildKey(startZoneId, goalZoneId), clock.instant())) {
+            hitCount.incrementAndGet();
+        }
+        return result;
+    }
+
+    /**
+     * 미리 계산 히트율 (실제 요청 중 미리 계산된 캐시로 처리된 비율)
+     */
+    public double getHitRate() {
+        long demand = demandCount.get();
+        return demand == 0 ? 0.0 : (double) hitCount.get() / demand;
+    }
+
+    public long getPrefetchCount() {
+        return prefetchCount.get();
+    }
+
+    public long getDemandCount() {
+        return demandCount.get();
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    /**
+     * 맵 변경 등으로 경로 캐시가 무효화되었을 때 호출
+     */
+    public void reset() {
+        prefetched.clear();
+    }
+
+    /**
+     * 맵 스냅샷 연동
+     * CachedPathService.invalidateOnMapChange와 같은 관리자를 넘기면, 새 스냅샷 배포로 캐시가 비워질 때
+     * 미리 계산 기록도 초기화하여 다음 틱부터 바로 다시 채움
+     */
+    public void resetOnMapChange(MapSnapshotManager snapshots) {
+        this.snapshots = snapshots;
+        snapshots.addListener(snapshot -> {
+            log.info("맵 스냅샷 v{} 배포 - 미리 계산 기록 초기화", snapshot.getVersion());
+            reset();
+        });
+    }
+
+    /**
+     * now ~ horizon 사이의 다음 스케줄 전환 (없으면 null)
+     * horizon이 자정을 넘기면 다음 날 새벽의 전환까지 확인
+     */
+    private static RobotWorker.ScheduleTransition upcomingTransition(RobotWorker.RobotSchedule schedule,
+                                                                     LocalTime now, LocalTime horizon) {
+        RobotWorker.ScheduleTransition transition = schedule.nextTransition(now);
+        if (transition == null && horizon.isBefore(now)) {
+            transition = schedule.nextTransition(LocalTime.MIDNIGHT);
+        }
+        return transition != null && isWithin(transition.getTime(), now, horizon) ? transition : null;
+    }
+
+    /**
+     * time이 [now, horizon] 구간 안인지 (자정을 넘기면 time >= now 또는 time <= horizon)
+     */
+    static boolean isWithin(LocalTime time, LocalTime now, LocalTime horizon) {
+        if (horizon.isBefore(now)) {
+            return !time.isBefore(now) || !time.isAfter(horizon);
+        }
+        return !time.isBefore(now) && !time.isAfter(horizon);
+    }
+
+    /**
+     * now부터 time까지 남은 초 (time이 now보다 이르면 다음 날로 봄)
+     */
+    private static long secondsUntil(LocalTime now, LocalTime time) {
+        return Math.floorMod(Duration.between(now, time).getSeconds(), Duration.ofDays(1).getSeconds());
+    }
+
+    private void addRequest(Map<String, PrefetchRequest> requests, RobotWorker robot,
+                            RobotWorker.RobotState nextState, long secondsUntil, Instant now) {
+        String goalZoneId = RobotBehaviorSimulator.targetZoneFor(robot, nextState);
+        if (goalZoneId == null || goalZoneId.equals(robot.getCurrentZoneId())) {
+            return;
+        }
+
+        String key = buildKey(robot.getCurrentZoneId(), goalZoneId);
+        if (isFresh(key, now)) {
+            return;  // 이미 캐시에 있음
+        }
+
+        requests.merge(key,
+                new PrefetchRequest(key, robot.getCurrentZoneId(), goalZoneId, secondsUntil),
+                (a, b) -> a.secondsUntil() <= b.secondsUntil() ? a : b);
+    }
+
+    private boolean isFresh(String key, Instant now) {
+        Instant prefetchedAt = prefetched.get(key);
+        return prefetchedAt != null && Duration.between(prefetchedAt, now).compareTo(cacheTtl) < 0;
+    }
+
+    private String buildKey(String startZoneId, String goalZoneId) {
+        MapSnapshotManager current = snapshots;
+        if (current != null) {
+            return "v" + current.getVersion() + ":" + startZoneId + ":" + goalZoneId;
+        }
+        return startZoneId + ":" + goalZoneId;
+    }
+
+    /**
+     * 미리 계산 요청 (구역 쌍, 필요 시점까지 남은 초)
+     */
+    private record PrefetchRequest(String key, String startZoneId, String goalZoneId, long secondsUntil) {
+    }
+}
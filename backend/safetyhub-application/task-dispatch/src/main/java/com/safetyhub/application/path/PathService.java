@@ -36,6 +36,18 @@ public interface PathService {
      */
     Optional<Double> estimateTravelTime(Location start, Location goal, double speedMeterPerSecond);
 
+    /**
+     * 이동 시간의 하한 추정 (경로 탐색 없음)
+     * ALT 랜드마크로 격자 경로 길이의 하한을 구해 속도로 나눈 값
+     * 실제 격자 경로의 이동 시간보다 항상 작거나 같으므로 후보 가지치기에 사용
+     *
+     * @param start 시작 위치
+     * @param goal 목표 위치
+     * @param speedMeterPerSecond 속도 (미터/초)
+     * @return 이동 시간 하한 (초), 랜드마크가 없거나 도달 불가능하면 Optional.empty()
+     */
+    Optional<Double> estimateMinTravelTime(Location start, Location goal, double speedMeterPerSecond);
+
     /**
      * 경로 캐시 무효화
      * @param startZoneId 시작 구역 ID
@@ -1,7 +1,9 @@
 package com.safetyhub.application.path;
 
 import com.safetyhub.core.domain.GridMap;
+import com.safetyhub.core.domain.LandmarkHeuristic;
 import com.safetyhub.core.domain.Location;
+import com.safetyhub.core.domain.MapSnapshotManager;
 import com.safetyhub.core.domain.PathFinder;
 import lombok.extern.slf4j.Slf4j;
 
@@ -14,8 +16,15 @@ import java.util.Optional;
 @Slf4j
 public class PathServiceImpl implements PathService {
 
+    /**
+     * 기본 랜드마크 수 (ALT 전처리)
+     */
+    private static final int DEFAULT_LANDMARK_COUNT = 8;
+
     private final PathFinder pathFinder;
     private final ZoneLocationProvider zoneLocationProvider;
+    private final LandmarkHeuristic landmarks;  // null이면 하한 추정 불가
+    private final MapSnapshotManager snapshots;  // null이 아니면 요청마다 현재 스냅샷 사용
 
     /**
      * 생성자
@@ -23,6 +32,16 @@ public class PathServiceImpl implements PathService {
      * @param zoneLocationProvider Zone 위치 제공자
      */
     public PathServiceImpl(GridMap gridMap, ZoneLocationProvider zoneLocationProvider) {
+        this(gridMap, zoneLocationProvider, DEFAULT_LANDMARK_COUNT);
+    }
+
+    /**
+     * 랜드마크 수를 지정하는 생성자
+     * @param gridMap 그리드 맵
+     * @param zoneLocationProvider Zone 위치 제공자
+     * @param landmarkCount ALT 랜드마크 수 (많을수록 하한이 타이트하지만 메모리 = K x 셀 수)
+     */
+    public PathServiceImpl(GridMap gridMap, ZoneLocationProvider zoneLocationProvider, int landmarkCount) {
         if (gridMap == null) {
             throw new IllegalArgumentException("gridMap은 null일 수 없습니다");
         }
@@ -30,7 +49,33 @@ public class PathServiceImpl implements PathService {
             throw new IllegalArgumentException("zoneLocationProvider는 null일 수 없습니다");
         }
 
-        this.pathFinder = new PathFinder(gridMap);
+        long startTime = System.currentTimeMillis();
+        this.landmarks = LandmarkHeuristic.build(gridMap, landmarkCount);
+        this.pathFinder = new PathFinder(gridMap, landmarks);
+        this.zoneLocationProvider = zoneLocationProvider;
+        this.snapshots = null;
+
+        log.info("ALT 랜드마크 전처리 완료. Landmarks: {}, Time: {}ms",
+                landmarks.getLandmarkCount(), System.currentTimeMillis() - startTime);
+    }
+
+    /**
+     * 맵 스냅샷 기반 생성자
+     * 요청마다 현재 스냅샷을 한 번 읽어 그 버전의 경로 탐색기/랜드마크를 사용 (맵 교체 중에도 일관됨)
+     * @param snapshots 맵 스냅샷 관리자
+     * @param zoneLocationProvider Zone 위치 제공자
+     */
+    public PathServiceImpl(MapSnapshotManager snapshots, ZoneLocationProvider zoneLocationProvider) {
+        if (snapshots == null) {
+            throw new IllegalArgumentException("snapshots는 null일 수 없습니다");
+        }
+        if (zoneLocationProvider == null) {
+            throw new IllegalArgumentException("zoneLocationProvider는 null일 수 없습니다");
+        }
+
+        this.pathFinder = null;
+        this.landmarks = null;
+        this.snapshots = snapshots;
         this.zoneLocationProvider = zoneLocationProvider;
     }
 
@@ -47,6 +92,8 @@ public class PathServiceImpl implements PathService {
 
         this.pathFinder = pathFinder;
         this.zoneLocationProvider = zoneLocationProvider;
+        this.landmarks = null;
+        this.snapshots = null;
     }
 
     @Override
@@ -61,8 +108,10 @@ public class PathServiceImpl implements PathService {
         long startTime = System.currentTimeMillis();
 
         try {
-            // PathFinder로 경로 찾기
-            PathFinder.PathInfo pathInfo = pathFinder.findPathWithInfo(start, goal);
+            // PathFinder로 경로 찾기 (스냅샷 모드면 현재 버전으로 끝까지 탐색)
+            PathFinder.PathInfo pathInfo = snapshots != null
+                    ? snapshots.current().findPathWithInfo(start, goal)
+                    : pathFinder.findPathWithInfo(start, goal);
 
             // 경로 계산 시간 측정 종료
             long calculationTime = System.currentTimeMillis() - startTime;
@@ -145,6 +194,24 @@ public class PathServiceImpl implements PathService {
         return Optional.of(travelTime);
     }
 
+    @Override
+    public Optional<Double> estimateMinTravelTime(Location start, Location goal, double speedMeterPerSecond) {
+        LandmarkHeuristic currentLandmarks = snapshots != null ? snapshots.current().getLandmarks() : landmarks;
+        if (start == null || goal == null || speedMeterPerSecond <= 0 || currentLandmarks == null) {
+            return Optional.empty();
+        }
+        if (start.getLatitude() == null || start.getLongitude() == null
+                || goal.getLatitude() == null || goal.getLongitude() == null) {
+            return Optional.empty();
+        }
+
+        double minTravelTime = currentLandmarks.lowerBoundTravelTime(start, goal, speedMeterPerSecond);
+        if (Double.isInfinite(minTravelTime)) {
+            return Optional.empty();
+        }
+        return Optional.of(minTravelTime);
+    }
+
     @Override
     public void invalidateCache(String startZoneId, String goalZoneId) {
         // 기본 구현에서는 캐시가 없으므로 아무것도 하지 않음
@@ -0,0 +1,226 @@
+package com.safetyhub.application.dispatch;
+
+import com.safetyhub.application.path.PathService;
+import com.safetyhub.application.path.SimplePathResult;
+import com.safetyhub.core.domain.Location;
+import com.safetyhub.core.domain.Task;
+import com.safetyhub.core.domain.TaskPriority;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("NearestRobotStrategy 테스트")
+class NearestRobotStrategyTest {
+
+    private GridPathService pathService;
+    private NearestRobotStrategy strategy;
+
+    @BeforeEach
+    void setUp() {
+        pathService = new GridPathService();
+        strategy = new NearestRobotStrategy(pathService, 1.0, 1.0);
+    }
+
+    @Test
+    @DisplayName("전략 정보 조회")
+    void getStrategyInfo() {
+        // when & then
+        assertEquals("Nearest-Robot", strategy.getName());
+        assertNotNull(strategy.getDescription());
+    }
+
+    @Test
+    @DisplayName("이동 시간이 가장 짧은 로봇 선택, 먼 후보는 가지치기")
+    void assignNearestRobot() {
+        // given
+        List<DispatchStrategy.RobotInfo> robots = List.of(
+                createRobotInfo("robot-001", 0, 0, 0),
+                createRobotInfo("robot-002", 8, 9, 0),
+                createRobotInfo("robot-003", 40, 40, 0),
+                createRobotInfo("robot-004", 60, 0, 0));
+
+        // when
+        Optional<String> assigned = strategy.assignTask(createTask(10, 10), robots);
+
+        // then
+        assertEquals(Optional.of("robot-002"), assigned);
+        assertEquals(1, strategy.getExactEvaluations());
+        assertEquals(3, strategy.getPrunedCandidates());
+    }
+
+    @Test
+    @DisplayName("이동 시간이 같으면 할당된 작업이 적은 로봇 선택")
+    void tieBreakByAssignedTaskCount() {
+        // given
+        List<DispatchStrategy.RobotInfo> robots = List.of(
+                createRobotInfo("robot-001", 5, 10, 2),
+                createRobotInfo("robot-002", 15, 10, 0));
+
+        // when
+        Optional<String> assigned = strategy.assignTask(createTask(10, 10), robots);
+
+        // then
+        assertEquals(Optional.of("robot-002"), assigned);
+        assertEquals(2, strategy.getExactEvaluations());
+    }
+
+    @Test
+    @DisplayName("이동 시간과 작업 수가 같으면 입력 순서와 무관하게 robotId 순으로 선택")
+    void tieBreakByRobotId() {
+        // given
+        DispatchStrategy.RobotInfo west = createRobotInfo("robot-002", 5, 10, 1);
+        DispatchStrategy.RobotInfo east = createRobotInfo("robot-001", 15, 10, 1);
+
+        // when
+        Optional<String> forward = strategy.assignTask(createTask(10, 10), List.of(west, east));
+        Optional<String> reversed = strategy.assignTask(createTask(10, 10), List.of(east, west));
+
+        // then
+        assertEquals(Optional.of("robot-001"), forward);
+        assertEquals(Optional.of("robot-001"), reversed);
+    }
+
+    @Test
+    @DisplayName("사용 가능한 로봇이 없으면 할당하지 않음")
+    void noAvailableRobot() {
+        // given
+        List<DispatchStrategy.RobotInfo> unavailable = new ArrayList<>();
+        unavailable.add(SimpleRobotInfo.builder()
+                .robotId("robot-001")
+                .name("Robot robot-001")
+                .state("OFFLINE")
+                .currentLocation(location(9, 10))
+                .batteryLevel(80)
+                .assignedTaskCount(0)
+                .build());
+        unavailable.add(SimpleRobotInfo.builder()
+                .robotId("robot-002")
+                .name("Robot robot-002")
+                .state("WORKING")
+                .currentLocation(location(11, 10))
+                .batteryLevel(10)
+                .assignedTaskCount(0)
+                .build());
+
+        // when & then
+        assertTrue(strategy.assignTask(createTask(10, 10), unavailable).isEmpty());
+        assertTrue(strategy.assignTask(createTask(10, 10), new ArrayList<>()).isEmpty());
+        assertTrue(strategy.assignTask(createTask(10, 10), null).isEmpty());
+        assertEquals(0, strategy.getExactEvaluations());
+    }
+
+    @Test
+    @DisplayName("작업 위치에 도달할 수 있는 로봇이 없으면 할당하지 않음")
+    void noReachableRobot() {
+        // given
+        pathService.block(location(10, 10));
+        List<DispatchStrategy.RobotInfo> robots = List.of(
+                createRobotInfo("robot-001", 0, 0, 0),
+                createRobotInfo("robot-002", 20, 20, 0));
+
+        // when
+        Optional<String> assigned = strategy.assignTask(createTask(10, 10), robots);
+
+        // then
+        assertTrue(assigned.isEmpty());
+        assertEquals(2, strategy.getExactEvaluations());
+    }
+
+    @Test
+    @DisplayName("잘못된 생성 인자는 예외")
+    void invalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new NearestRobotStrategy(null, 1.0, 1.0));
+        assertThrows(IllegalArgumentException.class, () -> new NearestRobotStrategy(pathService, 0, 1.0));
+        assertThrows(IllegalArgumentException.class, () -> new NearestRobotStrategy(pathService, 1.0, 0));
+    }
+
+    // 테스트 헬퍼 메서드
+    private DispatchStrategy.RobotInfo createRobotInfo(String robotId, double x, double y, int taskCount) {
+        return SimpleRobotInfo.builder()
+                .robotId(robotId)
+                .name("Robot " + robotId)
+                .state("WORKING")
+                .currentLocation(location(x, y))
+                .currentZoneId("zone-001")
+                .batteryLevel(80)
+                .assignedTaskCount(taskCount)
+                .build();
+    }
+
+    private Task createTask(double x, double y) {
+        return Task.builder()
+                .taskType(Task.TaskType.PATROL)
+                .priority(TaskPriority.CRITICAL)
+                .targetZoneId("zone-001")
+                .targetLocation(location(x, y))
+                .description("테스트 작업")
+                .build();
+    }
+
+    private static Location location(double x, double y) {
+        return Location.builder().latitude(y).longitude(x).build();
+    }
+
+    /**
+     * 장애물 없는 격자 경로 서비스 (이동 거리 = 맨해튼 거리, 하한 = 유클리드 거리)
+     */
+    private static class GridPathService implements PathService {
+
+        private final Set<String> blocked = new HashSet<>();
+
+        void block(Location location) {
+            blocked.add(key(location));
+        }
+
+        @Override
+        public Optional<PathResult> findPath(Location start, Location goal) {
+            if (blocked.contains(key(goal))) {
+                return Optional.empty();
+            }
+            int cells = (int) (Math.abs(goal.getLongitude() - start.getLongitude())
+                    + Math.abs(goal.getLatitude() - start.getLatitude()));
+            return Optional.of(SimplePathResult.builder()
+                    .path(List.of(start, goal))
+                    .totalDistance(cells)
+                    .steps(cells + 1)
+                    .build());
+        }
+
+        @Override
+        public Optional<PathResult> findPath(String startZoneId, String goalZoneId) {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<Double> estimateTravelTime(Location start, Location goal, double speedMeterPerSecond) {
+            return findPath(start, goal).map(result -> result.getTotalDistance() / speedMeterPerSecond);
+        }
+
+        @Override
+        public Optional<Double> estimateMinTravelTime(Location start, Location goal, double speedMeterPerSecond) {
+            double dx = goal.getLongitude() - start.getLongitude();
+            double dy = goal.getLatitude() - start.getLatitude();
+            return Optional.of(Math.sqrt(dx * dx + dy * dy) / speedMeterPerSecond);
+        }
+
+        @Override
+        public void invalidateCache(String startZoneId, String goalZoneId) {
+        }
+
+        @Override
+        public void invalidateAllCache() {
+        }
+
+        private static String key(Location location) {
+            return location.getLongitude() + "," + location.getLatitude();
+        }
+    }
+}
@@ -9,6 +9,7 @@ import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -300,6 +301,27 @@ class TaskDispatcherTest {
         assertEquals(1, dispatcher.getQueueSize()); // 큐에 다시 추가됨
     }
 
+    @Test
+    @DisplayName("우선순위별 전략이 지정된 작업은 해당 전략으로 할당")
+    void dispatchWithPriorityStrategy() {
+        // given
+        dispatcher = new TaskDispatcher(new PriorityTaskQueue(), new RoundRobinStrategy(),
+                Map.of(TaskPriority.CRITICAL, new FixedRobotStrategy("robot-003")));
+        dispatcher.submitTask(createTask(TaskPriority.NORMAL));
+        dispatcher.submitTask(createTask(TaskPriority.CRITICAL));
+
+        // when
+        Task critical = dispatcher.dispatch(robots).orElse(null);
+        Task normal = dispatcher.dispatch(robots).orElse(null);
+
+        // then
+        assertNotNull(critical);
+        assertNotNull(normal);
+        assertEquals(TaskPriority.CRITICAL, critical.getPriority());
+        assertEquals("robot-003", critical.getAssignedRobotId());
+        assertEquals("robot-001", normal.getAssignedRobotId());
+    }
+
     // 테스트 헬퍼 메서드
     private List<DispatchStrategy.RobotInfo> createTestRobots(int count) {
         List<DispatchStrategy.RobotInfo> robotList = new ArrayList<>();
@@ -326,4 +348,30 @@ class TaskDispatcherTest {
                 .description("테스트 작업")
                 .build();
     }
+
+    /**
+     * 항상 같은 로봇을 고르는 전략
+     */
+    private static class FixedRobotStrategy implements DispatchStrategy {
+        private final String robotId;
+
+        FixedRobotStrategy(String robotId) {
+            this.robotId = robotId;
+        }
+
+        @Override
+        public String getName() {
+            return "Fixed";
+        }
+
+        @Override
+        public String getDescription() {
+            return "항상 같은 로봇에 할당합니다.";
+        }
+
+        @Override
+        public Optional<String> assignTask(Task task, List<RobotInfo> availableRobots) {
+            return Optional.of(robotId);
+        }
+    }
 }
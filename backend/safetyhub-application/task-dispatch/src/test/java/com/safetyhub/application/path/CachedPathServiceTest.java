@@ -1,6 +1,8 @@
 package com.safetyhub.application.path;
 
+import com.safetyhub.core.domain.GridMap;
 import com.safetyhub.core.domain.Location;
+import com.safetyhub.core.domain.MapSnapshotManager;
 import com.safetyhub.infrastructure.cache.CacheService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -10,7 +12,10 @@ import org.mockito.ArgumentCaptor;
 import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -232,6 +237,45 @@ class CachedPathServiceTest {
         assertEquals("path:zone-001:zone-002", keyCaptor.getValue());
     }
 
+    @Test
+    @DisplayName("계산 도중 맵 스냅샷이 교체되면 이전 버전 경로는 새 버전에서 조회되지 않음")
+    void snapshotSwapBetweenComputeAndPut() throws Exception {
+        // given - 메모리 캐시처럼 동작하는 cacheService
+        Map<String, Object> store = new ConcurrentHashMap<>();
+        doAnswer(invocation -> store.put(invocation.getArgument(0), invocation.getArgument(1)))
+                .when(cacheService).put(anyString(), any(), any(Duration.class));
+        when(cacheService.get(anyString(), eq(CachedPathResult.class)))
+                .thenAnswer(invocation -> Optional.ofNullable((CachedPathResult) store.get(invocation.getArgument(0))));
+        doAnswer(invocation -> {
+            store.clear();
+            return null;
+        }).when(cacheService).deleteByPattern(anyString());
+
+        try (MapSnapshotManager snapshots = new MapSnapshotManager(GridMap.createDefault(), 2)) {
+            cachedPathService.invalidateOnMapChange(snapshots);
+
+            // v1으로 계산하는 도중 v2가 배포되고 리스너가 캐시를 비움
+            when(delegateService.findPath("zone-001", "zone-002"))
+                    .thenAnswer(invocation -> {
+                        snapshots.update(map -> map.setCellType(10, 10, GridMap.CellType.OBSTACLE))
+                                .get(5, TimeUnit.SECONDS);
+                        return Optional.of(createMockResult());
+                    })
+                    .thenReturn(Optional.of(createMockResult()));
+
+            // when
+            cachedPathService.findPath("zone-001", "zone-002");
+            Optional<PathService.PathResult> afterSwap = cachedPathService.findPath("zone-001", "zone-002");
+
+            // then - v1 키로 저장되었으므로 v2에서는 다시 계산
+            assertTrue(store.containsKey("path:v1:zone-001:zone-002"));
+            assertTrue(afterSwap.isPresent());
+            assertFalse(afterSwap.get().isCached());
+            verify(delegateService, times(2)).findPath("zone-001", "zone-002");
+            verify(cacheService).get(eq("path:v2:zone-001:zone-002"), eq(CachedPathResult.class));
+        }
+    }
+
     // 테스트용 mock 결과 생성
     private PathService.PathResult createMockResult() {
         List<Location> path = Arrays.asList(
@@ -0,0 +1,313 @@
+package com.safetyhub.application.path;
+
+import com.safetyhub.core.domain.GridMap;
+import com.safetyhub.core.domain.Location;
+import com.safetyhub.core.domain.MapSnapshotManager;
+import com.safetyhub.core.domain.RobotBehaviorSimulator;
+import com.safetyhub.core.domain.RobotWorker;
+import com.safetyhub.core.domain.VirtualWorld;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.*;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PathPrefetchService 테스트")
+class PathPrefetchServiceTest {
+
+    private SimulatedClock clock;
+    private CountingPathService pathService;
+    private PathPrefetchService prefetchService;
+
+    @BeforeEach
+    void setUp() {
+        clock = new SimulatedClock(LocalTime.of(11, 50));
+        pathService = new CountingPathService();
+        prefetchService = new PathPrefetchService(
+                pathService, clock, Duration.ofMinutes(5), Duration.ofMinutes(5), 2);
+    }
+
+    @Test
+    @DisplayName("점심 전환 직전에 미리 계산하면 전환 시점 요청이 모두 캐시 히트")
+    void prefetchBeforeLunch() {
+        // given - ZONE_A에서 일하는 로봇 20대
+        List<RobotWorker> robots = createRobots(20, "ZONE_A");
+
+        // when - 11:50 (lookahead 밖) -> 미리 계산 없음
+        int early = prefetchService.prefetch(robots);
+
+        // 11:56 (점심 4분 전) -> ZONE_A -> ZONE_F 한 번만 계산
+        clock.set(LocalTime.of(11, 56));
+        int computed = prefetchService.prefetch(robots);
+
+        // 12:00 전환 시점 - 로봇마다 경로 요청
+        clock.set(LocalTime.of(12, 0));
+        for (RobotWorker robot : robots) {
+            prefetchService.findPath(robot.getCurrentZoneId(), "ZONE_F");
+        }
+
+        // then
+        assertEquals(0, early);
+        assertEquals(1, computed);
+        assertEquals(1, pathService.computations);
+        assertEquals(20, prefetchService.getDemandCount());
+        assertEquals(1.0, prefetchService.getHitRate(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("틱당 계산 수 제한 - 여러 유휴 틱에 나누어 계산")
+    void prefetchIsSpreadOverTicks() {
+        // given - 서로 다른 구역의 로봇
+        List<RobotWorker> robots = new ArrayList<>();
+        robots.addAll(createRobots(3, "ZONE_A"));
+        robots.addAll(createRobots(3, "ZONE_B"));
+        robots.addAll(createRobots(3, "ZONE_C"));
+        clock.set(LocalTime.of(11, 57));
+
+        // when
+        int first = prefetchService.prefetch(robots);
+        int second = prefetchService.prefetch(robots);
+        int third = prefetchService.prefetch(robots);
+
+        // then
+        assertEquals(2, first);
+        assertEquals(1, second);
+        assertEquals(0, third);
+        assertEquals(3, prefetchService.getPrefetchCount());
+    }
+
+    @Test
+    @DisplayName("미리 계산하지 않은 경로는 히트로 집계되지 않음")
+    void demandWithoutPrefetch() {
+        // given
+        clock.set(LocalTime.of(12, 0));
+
+        // when
+        prefetchService.findPath("ZONE_A", "ZONE_F");
+        prefetchService.findPath("ZONE_A", "ZONE_F");
+
+        // then - 두 번째는 캐시에서 나오지만 미리 계산된 것이 아님
+        assertEquals(2, prefetchService.getDemandCount());
+        assertEquals(0, prefetchService.getHitCount());
+        assertEquals(0.0, prefetchService.getHitRate());
+    }
+
+    @Test
+    @DisplayName("배터리 부족 예정 로봇은 충전 구역 경로를 미리 계산")
+    void prefetchChargingRoute() {
+        // given - 10:30 (다음 전환까지 여유), 배터리 52%
+        clock.set(LocalTime.of(10, 30));
+        RobotWorker robot = createRobots(1, "ZONE_B").get(0);
+        robot.getBattery().setLevel(52);
+        robot.getBattery().updateStatus();
+
+        // when
+        int computed = prefetchService.prefetch(List.of(robot));
+
+        // then
+        assertEquals(1, computed);
+        assertTrue(pathService.requested.contains("ZONE_B:ZONE_E"));
+    }
+
+    @Test
+    @DisplayName("이미 미리 계산한 구역 쌍은 다시 계산하지 않고, 다음 전환은 새로 계산")
+    void prefetchOnlyNewPairs() {
+        // given
+        List<RobotWorker> robots = createRobots(5, "ZONE_A");
+        clock.set(LocalTime.of(11, 56));
+        prefetchService.prefetch(robots);
+
+        // when - TTL 안에서는 다시 계산하지 않음
+        clock.set(LocalTime.of(11, 58));
+        int again = prefetchService.prefetch(robots);
+
+        // then
+        assertEquals(0, again);
+
+        // 오후 휴식 전 (ZONE_A -> ZONE_E)
+        clock.set(LocalTime.of(14, 56));
+        assertEquals(1, prefetchService.prefetch(robots));
+    }
+
+    @Test
+    @DisplayName("맵 스냅샷이 교체되면 TTL 안이라도 다시 미리 계산")
+    void prefetchAgainAfterSnapshotSwap() throws Exception {
+        // given
+        List<RobotWorker> robots = createRobots(5, "ZONE_A");
+        try (MapSnapshotManager snapshots = new MapSnapshotManager(GridMap.createDefault(), 1)) {
+            prefetchService.resetOnMapChange(snapshots);
+            clock.set(LocalTime.of(11, 56));
+            assertEquals(1, prefetchService.prefetch(robots));
+            assertEquals(0, prefetchService.prefetch(robots));
+
+            // when - 경로 캐시가 비워지는 스냅샷 교체
+            snapshots.update(map -> map.setCellType(0, 0, GridMap.CellType.OBSTACLE)).get(5, TimeUnit.SECONDS);
+            clock.set(LocalTime.of(11, 57));
+
+            // then
+            assertEquals(1, prefetchService.prefetch(robots));
+            assertEquals(2, prefetchService.getPrefetchCount());
+        }
+    }
+
+    @Test
+    @DisplayName("자정을 넘는 lookahead - 다음 날 새벽 전환은 포함하고 몇 시간 뒤 전환은 제외")
+    void prefetchAcrossMidnight() {
+        // given - 23:59, lookahead 5분 (00:04까지)
+        clock.set(LocalTime.of(23, 59));
+        RobotWorker nightShift = createRobots(1, "ZONE_E").get(0);
+        nightShift.setAssignedZoneId("ZONE_A");
+        nightShift.setSchedule(RobotWorker.RobotSchedule.builder()
+                .workStartTime(LocalTime.of(0, 2))
+                .workEndTime(LocalTime.of(9, 0))
+                .morningBreakStart(LocalTime.of(3, 0))
+                .morningBreakEnd(LocalTime.of(3, 15))
+                .lunchBreakStart(LocalTime.of(5, 0))
+                .lunchBreakEnd(LocalTime.of(5, 30))
+                .afternoonBreakStart(LocalTime.of(7, 0))
+                .afternoonBreakEnd(LocalTime.of(7, 15))
+                .build());
+        RobotWorker dayShift = createRobots(1, "ZONE_B").get(0);  // 다음 전환 08:00
+
+        // when
+        int computed = prefetchService.prefetch(List.of(nightShift, dayShift));
+
+        // then
+        assertEquals(1, computed);
+        assertEquals(Set.of("ZONE_E:ZONE_A"), pathService.requested);
+    }
+
+    @Test
+    @DisplayName("lookahead 구간 판정 - 자정을 넘으면 now 이후 또는 horizon 이전")
+    void lookaheadWindow() {
+        LocalTime now = LocalTime.of(23, 59);
+        LocalTime horizon = LocalTime.of(0, 4);
+
+        assertTrue(PathPrefetchService.isWithin(LocalTime.of(23, 59, 30), now, horizon));
+        assertTrue(PathPrefetchService.isWithin(LocalTime.of(0, 3), now, horizon));
+        assertFalse(PathPrefetchService.isWithin(LocalTime.of(0, 5), now, horizon));
+        assertFalse(PathPrefetchService.isWithin(LocalTime.of(12, 0), now, horizon));
+        assertFalse(PathPrefetchService.isWithin(LocalTime.of(23, 58), now, horizon));
+
+        assertTrue(PathPrefetchService.isWithin(LocalTime.of(12, 0), LocalTime.of(11, 56), LocalTime.of(12, 1)));
+        assertFalse(PathPrefetchService.isWithin(LocalTime.of(12, 2), LocalTime.of(11, 56), LocalTime.of(12, 1)));
+    }
+
+    @Test
+    @DisplayName("시뮬레이터에 연결하면 틱마다 미리 계산")
+    void prefetchOnSimulatorTick() {
+        // given
+        VirtualWorld world = VirtualWorld.createDefault();
+        // 위치가 없으면 작업 중 무작위 이동을 하지 않으므로 구역이 그대로 유지됨
+        RobotWorker robot = createRobots(1, "ZONE_A").get(0);
+        world.addRobot(robot);
+        RobotBehaviorSimulator simulator = new RobotBehaviorSimulator(world);
+        prefetchService.attachTo(simulator);
+
+        // when - 점심 4분 전 틱
+        clock.set(LocalTime.of(11, 56));
+        simulator.simulateTick(LocalTime.of(11, 56));
+
+        // then
+        assertEquals(1, prefetchService.getPrefetchCount());
+        assertTrue(pathService.requested.contains("ZONE_A:ZONE_F"));
+    }
+
+    private List<RobotWorker> createRobots(int count, String zoneId) {
+        List<RobotWorker> robots = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            robots.add(RobotWorker.builder()
+                    .robotId(zoneId + "-ROBOT-" + i)
+                    .state(RobotWorker.RobotState.WORKING)
+                    .currentZoneId(zoneId)
+                    .assignedZoneId(zoneId)
+                    .schedule(RobotWorker.RobotSchedule.createDefaultSchedule())
+                    .health(RobotWorker.HealthSimulation.createNormal())
+                    .battery(RobotWorker.BatterySimulation.createFull())
+                    .build());
+        }
+        return robots;
+    }
+
+    /**
+     * 시뮬레이션 시계 (테스트에서 시각을 직접 지정)
+     */
+    private static class SimulatedClock extends Clock {
+        private static final LocalDate DAY = LocalDate.of(2024, 1, 15);
+        private Instant instant;
+
+        SimulatedClock(LocalTime time) {
+            set(time);
+        }
+
+        void set(LocalTime time) {
+            this.instant = LocalDateTime.of(DAY, time).toInstant(ZoneOffset.UTC);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+
+    /**
+     * 캐시를 흉내내는 경로 서비스 (처음 계산한 구역 쌍은 이후 cached=true)
+     */
+    private static class CountingPathService implements PathService {
+        private final Set<String> requested = new HashSet<>();
+        private int computations;
+
+        @Override
+        public Optional<PathResult> findPath(String startZoneId, String goalZoneId) {
+            boolean cached = !requested.add(startZoneId + ":" + goalZoneId);
+            if (!cached) {
+                computations++;
+            }
+            return Optional.of(SimplePathResult.builder()
+                    .path(List.of(Location.builder().latitude(0.0).longitude(0.0).build()))
+                    .totalDistance(10.0)
+                    .steps(1)
+                    .cached(cached)
+                    .calculationTimeMs(1)
+                    .build());
+        }
+
+        @Override
+        public Optional<PathResult> findPath(Location start, Location goal) {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<Double> estimateTravelTime(Location start, Location goal, double speedMeterPerSecond) {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<Double> estimateMinTravelTime(Location start, Location goal, double speedMeterPerSecond) {
+            return Optional.empty();
+        }
+
+        @Override
+        public void invalidateCache(String startZoneId, String goalZoneId) {
+        }
+
+        @Override
+        public void invalidateAllCache() {
+            requested.clear();
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.safetyhub.core.domain;
+
+import java.util.Arrays;
+
+/**
+ * 광역 충돌 감지기 (Broad-phase)
+ * 매 틱마다 근접한 엔티티 쌍(같은 셀, 일정 거리 이내)을 찾아냄
+ *
+ * 특징:
+ * - 균일 그리드 + 카운팅 정렬로 O(n + k) (k = 결과 쌍 수)
+ * - 셀 크기는 max(반경, 밀도 기반 크기)로 정해 셀 수가 엔티티 수에 비례
+ * - 인접 셀 중 절반만 검사하여 중복 쌍 없이 보고
+ * - 내부 버퍼를 재사용하여 틱당 할당 없음
+ *
+ * 스레드 안전하지 않음 - 시뮬레이션 루프 하나당 인스턴스 하나를 사용
+ */
+public class BroadPhaseDetector {
+
+    /**
+     * 근접 쌍 수신 콜백
+     * i, j는 입력 배열의 인덱스 (i != j, 각 쌍은 한 번만 보고)
+     */
+    @FunctionalInterface
+    public interface PairConsumer {
+        void accept(int i, int j, double distanceSquared);
+    }
+
+    // 인접 셀 오프셋 (자기 자신 + 절반 이웃)
+    private static final int[][] HALF_NEIGHBORS = {
+            {0, 0}, {1, 0}, {-1, 1}, {0, 1}, {1, 1}
+    };
+
+    private int[] cellOf = new int[0];
+    private int[] sorted = new int[0];
+    private double[] sortedX = new double[0];
+    private double[] sortedY = new double[0];
+    private int[] cellStart = new int[1];
+
+    /**
+     * 반경 이내 쌍 감지
+     *
+     * @param xs     x 좌표 배열
+     * @param ys     y 좌표 배열
+     * @param count  유효 엔티티 수 (배열 앞쪽 count개)
+     * @param radius 근접 판정 반경 (같은 위치는 거리 0으로 보고)
+     * @param consumer 쌍 수신 콜백
+     * @return 보고된 쌍 수
+     */
+    public int detect(double[] xs, double[] ys, int count, double radius, PairConsumer consumer) {
+        if (count < 2 || radius < 0) {
+            return 0;
+        }
+
+        // 1. 경계 상자 계산
+        double minX = Double.POSITIVE_INFINITY, minY = Double.POSITIVE_INFINITY;
+        double maxX = Double.NEGATIVE_INFINITY, maxY = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < count; i++) {
+            minX = Math.min(minX, xs[i]);
+            minY = Math.min(minY, ys[i]);
+            maxX = Math.max(maxX, xs[i]);
+            maxY = Math.max(maxY, ys[i]);
+        }
+
+        // 2. 셀 크기 결정 (셀 수가 엔티티 수에 비례하도록)
+        double extentX = maxX - minX;
+        double extentY = maxY - minY;
+        double cellSize = Math.max(Math.max(radius, 1e-9), Math.sqrt(extentX * extentY / count));
+        cellSize = Math.max(cellSize, Math.max(extentX, extentY) / count);
+        int gridW = (int) (extentX / cellSize) + 1;
+        int gridH = (int) (extentY / cellSize) + 1;
+        int cellCount = gridW * gridH;
+
+        ensureCapacity(count, cellCount);
+
+        // 3. 카운팅 정렬로 셀별 엔티티 배치
+        Arrays.fill(cellStart, 0, cellCount + 1, 0);
+        for (int i = 0; i < count; i++) {
+            int cx = (int) ((xs[i] - minX) / cellSize);
+            int cy = (int) ((ys[i] - minY) / cellSize);
+            int cell = cy * gridW + cx;
+            cellOf[i] = cell;
+            cellStart[cell + 1]++;
+        }
+        for (int c = 0; c < cellCount; c++) {
+            cellStart[c + 1] += cellStart[c];
+        }
+        // cellStart[c]를 채우기 커서로 사용한 뒤 복원
+        for (int i = 0; i < count; i++) {
+            int slot = cellStart[cellOf[i]]++;
+            sorted[slot] = i;
+            sortedX[slot] = xs[i];
+            sortedY[slot] = ys[i];
+        }
+        for (int c = cellCount; c > 0; c--) {
+            cellStart[c] = cellStart[c - 1];
+        }
+        cellStart[0] = 0;
+
+        // 4. 같은 셀 + 절반 이웃 셀 검사 (정렬된 좌표 배열을 순차 접근)
+        double radiusSquared = radius * radius;
+        int pairs = 0;
+
+        for (int cy = 0; cy < gridH; cy++) {
+            for (int cx = 0; cx < gridW; cx++) {
+                int cell = cy * gridW + cx;
+                int start = cellStart[cell];
+                int end = cellStart[cell + 1];
+                if (start == end) continue;
+
+                for (int[] offset : HALF_NEIGHBORS) {
+                    int nx = cx + offset[0];
+                    int ny = cy + offset[1];
+                    if (nx < 0 || nx >= gridW || ny >= gridH) continue;
+
+                    int neighbor = ny * gridW + nx;
+                    boolean sameCell = neighbor == cell;
+                    int nStart = cellStart[neighbor];
+                    int nEnd = cellStart[neighbor + 1];
+
+                    for (int a = start; a < end; a++) {
+                        double ax = sortedX[a];
+                        double ay = sortedY[a];
+                        for (int b = sameCell ? a + 1 : nStart; b < nEnd; b++) {
+                            double dx = ax - sortedX[b];
+                            double dy = ay - sortedY[b];
+                            double distanceSquared = dx * dx + dy * dy;
+                            if (distanceSquared <= radiusSquared) {
+                                consumer.accept(sorted[a], sorted[b], distanceSquared);
+                                pairs++;
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return pairs;
+    }
+
+    private void ensureCapacity(int count, int cellCount) {
+        if (cellOf.length < count) {
+            int capacity = Math.max(count, cellOf.length * 2);
+            cellOf = new int[capacity];
+            sorted = new int[capacity];
+            sortedX = new double[capacity];
+            sortedY = new double[capacity];
+        }
+        if (cellStart.length < cellCount + 1) {
+            cellStart = new int[Math.max(cellCount + 1, cellStart.length * 2)];
+        }
+    }
+}
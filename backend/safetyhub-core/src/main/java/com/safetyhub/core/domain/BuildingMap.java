@@ -0,0 +1,321 @@
+package com.safetyhub.core.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 다층 건물 맵
+ * 층별 GridMap을 쌓고 계단/엘리베이터 연결 통로로 층을 연결한 계층형 그리드
+ *
+ * 저장 방식:
+ * - 층별로 독립된 GridMap 보관 (정의된 층만 저장, 층마다 크기가 달라도 됨)
+ * - 연결 통로는 (층, 셀) 키로 색인
+ * - 모든 층은 같은 평면 좌표계(x = longitude / cellSize, y = latitude / cellSize)를 공유
+ *
+ * Location의 층 결정: floor 필드가 숫자면 우선 사용, 없으면 altitude / floorHeight
+ */
+public class BuildingMap {
+
+    /**
+     * 층 번호 -> 층 맵 (정의된 층만)
+     */
+    private final NavigableMap<Integer, GridMap> floors = new ConcurrentSkipListMap<>();
+
+    /**
+     * (층, 셀) 키 -> 연결 통로 목록
+     */
+    private final Map<Long, List<FloorConnector>> connectorIndex = new ConcurrentHashMap<>();
+
+    private final Map<String, FloorConnector> connectors = new ConcurrentHashMap<>();
+
+    /**
+     * 층 번호 -> 위험 거리장 (설정된 층만)
+     */
+    private final Map<Integer, HazardField> hazardFields = new ConcurrentHashMap<>();
+
+    @Getter
+    private final double floorHeight;  // 층 높이 (미터)
+
+    /**
+     * 긴급 모드 (엘리베이터 사용 불가)
+     */
+    @Getter
+    private volatile boolean emergencyMode;
+
+    public BuildingMap(double floorHeight) {
+        if (floorHeight <= 0) {
+            throw new IllegalArgumentException("층 높이는 0보다 커야 합니다");
+        }
+        this.floorHeight = floorHeight;
+    }
+
+    /**
+     * 층/셀 좌표
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class FloorCoordinate {
+        private int floor;
+        private int x;
+        private int y;
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            FloorCoordinate that = (FloorCoordinate) o;
+            return floor == that.floor && x == that.x && y == that.y;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(floor, x, y);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("(%dF, %d, %d)", floor, x, y);
+        }
+    }
+
+    /**
+     * 층 추가 (같은 번호가 있으면 교체)
+     * 기본 설정의 위험 거리장을 함께 만들어 셀 변경 시 자동 갱신
+     */
+    public void addFloor(int floor, GridMap gridMap) {
+        if (gridMap == null) {
+            throw new IllegalArgumentException("층 맵은 null일 수 없습니다");
+        }
+        floors.put(floor, gridMap);
+        setHazardField(floor, new HazardField(gridMap));
+    }
+
+    public GridMap getFloor(int floor) {
+        return floors.get(floor);
+    }
+
+    public Set<Integer> getFloorNumbers() {
+        return Collections.unmodifiableSet(floors.keySet());
+    }
+
+    public int getFloorCount() {
+        return floors.size();
+    }
+
+    /**
+     * 연결 통로 추가
+     * 양쪽 끝 셀이 모두 정의된 층의 이동 가능한 셀이어야 함
+     */
+    public void addConnector(FloorConnector connector) {
+        GridMap a = floors.get(connector.getFloorA());
+        GridMap b = floors.get(connector.getFloorB());
+        if (a == null || b == null) {
+            throw new IllegalArgumentException("정의되지 않은 층의 연결 통로입니다: " + connector.getConnectorId());
+        }
+        if (!a.isWalkable(connector.getCellA().getX(), connector.getCellA().getY())
+                || !b.isWalkable(connector.getCellB().getX(), connector.getCellB().getY())) {
+            throw new IllegalArgumentException("연결 통로 끝이 이동 불가 셀입니다: " + connector.getConnectorId());
+        }
+
+        connectors.put(connector.getConnectorId(), connector);
+        connectorIndex.computeIfAbsent(
+                key(connector.getFloorA(), connector.getCellA().getX(), connector.getCellA().getY()),
+                k -> new CopyOnWriteArrayList<>()).add(connector);
+        connectorIndex.computeIfAbsent(
+                key(connector.getFloorB(), connector.getCellB().getX(), connector.getCellB().getY()),
+                k -> new CopyOnWriteArrayList<>()).add(connector);
+    }
+
+    public FloorConnector getConnector(String connectorId) {
+        return connectors.get(connectorId);
+    }
+
+    public Collection<FloorConnector> getConnectors() {
+        return Collections.unmodifiableCollection(connectors.values());
+    }
+
+    /**
+     * 특정 셀에 연결된 통로 목록
+     */
+    public List<FloorConnector> getConnectorsAt(int floor, int x, int y) {
+        return connectorIndex.getOrDefault(key(floor, x, y), Collections.emptyList());
+    }
+
+    /**
+     * 현재 모드에서 사용 가능한 통로 중 한 층 이동 최소 비용 (없으면 무한대)
+     */
+    public double minCostPerFloor() {
+        double min = Double.POSITIVE_INFINITY;
+        for (FloorConnector connector : connectors.values()) {
+            if (connector.isUsable(emergencyMode)) {
+                min = Math.min(min, connector.costPerFloor());
+            }
+        }
+        return min;
+    }
+
+    /**
+     * 층별 위험 거리장 교체 (경로 탐색/대피 흐름장에서 가산 비용으로 사용, 이전 거리장은 갱신 해제)
+     */
+    public void setHazardField(int floor, HazardField hazardField) {
+        if (!floors.containsKey(floor)) {
+            throw new IllegalArgumentException("정의되지 않은 층입니다: " + floor);
+        }
+        HazardField previous = hazardField != null
+                ? hazardFields.put(floor, hazardField)
+                : hazardFields.remove(floor);
+        if (previous != null && previous != hazardField) {
+            previous.detach();
+        }
+    }
+
+    public HazardField getHazardField(int floor) {
+        return hazardFields.get(floor);
+    }
+
+    /**
+     * 셀의 위험 가산 비용 (위험 거리장이 없으면 0)
+     */
+    public double hazardPenalty(int floor, int x, int y) {
+        HazardField field = hazardFields.get(floor);
+        return field != null ? field.penaltyAt(x, y) : 0.0;
+    }
+
+    /**
+     * 긴급 모드 설정 (엘리베이터 비활성화)
+     */
+    public void setEmergencyMode(boolean emergencyMode) {
+        this.emergencyMode = emergencyMode;
+    }
+
+    /**
+     * 이동 가능 여부 (정의되지 않은 층은 이동 불가)
+     */
+    public boolean isWalkable(int floor, int x, int y) {
+        GridMap gridMap = floors.get(floor);
+        return gridMap != null && gridMap.isWalkable(x, y);
+    }
+
+    /**
+     * 위치가 속한 층 번호
+     */
+    public int floorOf(Location location) {
+        if (location.getFloor() != null) {
+            try {
+                return Integer.parseInt(location.getFloor().trim());
+            } catch (NumberFormatException ignored) {
+                // 숫자가 아니면 고도로 판단
+            }
+        }
+        double altitude = location.getAltitude() != null ? location.getAltitude() : 0.0;
+        return (int) Math.floor(altitude / floorHeight + 0.5);
+    }
+
+    /**
+     * Location -> 층/셀 좌표 (정의되지 않은 층이면 null)
+     */
+    public FloorCoordinate toFloorCoordinate(Location location) {
+        if (location == null) {
+            return null;
+        }
+        int floor = floorOf(location);
+        GridMap gridMap = floors.get(floor);
+        if (gridMap == null) {
+            return null;
+        }
+        GridMap.GridCoordinate coord = gridMap.toGridCoordinate(location);
+        return new FloorCoordinate(floor, coord.getX(), coord.getY());
+    }
+
+    /**
+     * 층/셀 좌표 -> Location (altitude, floor 포함)
+     */
+    public Location toLocation(FloorCoordinate coord) {
+        GridMap gridMap = floors.get(coord.getFloor());
+        double cellSize = gridMap != null ? gridMap.getCellSize() : 1.0;
+        return Location.builder()
+                .latitude(coord.getY() * cellSize)
+                .longitude(coord.getX() * cellSize)
+                .altitude(coord.getFloor() * floorHeight)
+                .floor(String.valueOf(coord.getFloor()))
+                .build();
+    }
+
+    /**
+     * 위치가 속한 구역 찾기 (해당 층의 구역만 검색)
+     */
+    public Zone findZoneAt(Location location) {
+        if (location == null) {
+            return null;
+        }
+        GridMap gridMap = floors.get(floorOf(location));
+        return gridMap != null ? gridMap.findZoneAt(location) : null;
+    }
+
+    /**
+     * 모든 층에서 구역 ID로 구역 찾기
+     */
+    public Optional<Zone> getZone(String zoneId) {
+        for (GridMap gridMap : floors.values()) {
+            Zone zone = gridMap.getZone(zoneId);
+            if (zone != null) {
+                return Optional.of(zone);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 구역 중심 위치 (구역이 있는 층의 floor/altitude 포함, 없으면 empty)
+     */
+    public Optional<Location> getZoneCenter(String zoneId) {
+        for (Map.Entry<Integer, GridMap> entry : floors.entrySet()) {
+            Zone zone = entry.getValue().getZone(zoneId);
+            if (zone != null && zone.getCenterLocation() != null) {
+                Location center = zone.getCenterLocation();
+                return Optional.of(Location.builder()
+                        .latitude(center.getLatitude())
+                        .longitude(center.getLongitude())
+                        .altitude(entry.getKey() * floorHeight)
+                        .floor(String.valueOf(entry.getKey()))
+                        .build());
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * from 셀에서 to 셀(다른 층)로 건너가는 연결 통로 중 현재 모드에서 운영 중인 것
+     */
+    public Optional<FloorConnector> findEnabledConnector(FloorCoordinate from, FloorCoordinate to) {
+        for (FloorConnector connector : getConnectorsAt(from.getFloor(), from.getX(), from.getY())) {
+            Integer otherFloor = connector.otherFloor(from.getFloor(), from.getX(), from.getY());
+            if (otherFloor == null || otherFloor != to.getFloor() || !connector.isEnabled(emergencyMode)) {
+                continue;
+            }
+            GridMap.GridCoordinate cell = connector.cellOn(otherFloor);
+            if (cell.getX() == to.getX() && cell.getY() == to.getY()) {
+                return Optional.of(connector);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * (층, x, y)를 하나의 long 키로 압축 (층 16비트, x/y 각 24비트)
+     */
+    static long key(int floor, int x, int y) {
+        return ((long) (floor & 0xFFFF) << 48) | ((long) (x & 0xFFFFFF) << 24) | (y & 0xFFFFFF);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("BuildingMap[floors=%s, connectors=%d, emergency=%s]",
+                floors.keySet(), connectors.size(), emergencyMode);
+    }
+}
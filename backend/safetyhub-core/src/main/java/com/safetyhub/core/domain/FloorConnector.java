@@ -0,0 +1,127 @@
+package com.safetyhub.core.domain;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 층간 연결 통로 (계단, 엘리베이터)
+ * 두 층의 셀을 연결하며 통과 비용과 동시 수용 인원을 가짐
+ *
+ * - 양방향 연결 (floorA <-> floorB)
+ * - 엘리베이터는 긴급 상황에서 사용 불가
+ * - 수용 인원이 다 차면 경로 탐색에서 제외
+ */
+@Getter
+public class FloorConnector {
+
+    private final String connectorId;
+    private final ConnectorType type;
+    private final int floorA;
+    private final GridMap.GridCoordinate cellA;
+    private final int floorB;
+    private final GridMap.GridCoordinate cellB;
+    private final double traversalCost;  // 통과 비용 (셀 이동 1회 = 1.0 기준)
+    private final int capacity;          // 동시 사용 가능 인원
+
+    private final AtomicInteger occupancy = new AtomicInteger(0);
+
+    public enum ConnectorType {
+        STAIRS,     // 계단
+        ELEVATOR    // 엘리베이터 (긴급 시 사용 불가)
+    }
+
+    @Builder
+    public FloorConnector(String connectorId, ConnectorType type,
+                          int floorA, GridMap.GridCoordinate cellA,
+                          int floorB, GridMap.GridCoordinate cellB,
+                          double traversalCost, int capacity) {
+        if (floorA == floorB) {
+            throw new IllegalArgumentException("연결 통로는 서로 다른 층을 연결해야 합니다");
+        }
+        if (traversalCost <= 0) {
+            throw new IllegalArgumentException("통과 비용은 0보다 커야 합니다");
+        }
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("수용 인원은 1 이상이어야 합니다");
+        }
+        this.connectorId = connectorId;
+        this.type = type;
+        this.floorA = floorA;
+        this.cellA = cellA;
+        this.floorB = floorB;
+        this.cellB = cellB;
+        this.traversalCost = traversalCost;
+        this.capacity = capacity;
+    }
+
+    /**
+     * 운영 여부 (긴급 상황에서는 엘리베이터 중지)
+     */
+    public boolean isEnabled(boolean emergency) {
+        return !(emergency && type == ConnectorType.ELEVATOR);
+    }
+
+    /**
+     * 현재 상황에서 사용 가능한지 확인 (운영 중이고 수용 인원 여유가 있음)
+     */
+    public boolean isUsable(boolean emergency) {
+        return isEnabled(emergency) && occupancy.get() < capacity;
+    }
+
+    /**
+     * 통로 진입 (수용 인원 초과 시 실패)
+     */
+    public boolean tryEnter() {
+        while (true) {
+            int current = occupancy.get();
+            if (current >= capacity) {
+                return false;
+            }
+            if (occupancy.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 통로 진출
+     */
+    public void leave() {
+        occupancy.updateAndGet(current -> Math.max(0, current - 1));
+    }
+
+    /**
+     * 한 층을 이동하는 데 드는 최소 비용 (휴리스틱용)
+     * 양 끝 셀의 평면 위치가 다르면 그만큼의 맨해튼 거리를 비용에서 제외해야 admissible
+     */
+    public double costPerFloor() {
+        int horizontalShift = Math.abs(cellA.getX() - cellB.getX()) + Math.abs(cellA.getY() - cellB.getY());
+        return Math.max(0.0, traversalCost - horizontalShift) / Math.abs(floorB - floorA);
+    }
+
+    public int getOccupancy() {
+        return occupancy.get();
+    }
+
+    /**
+     * 주어진 층/셀에서 반대편 끝의 층 (연결되지 않으면 null)
+     */
+    public Integer otherFloor(int floor, int x, int y) {
+        if (floor == floorA && cellA.getX() == x && cellA.getY() == y) {
+            return floorB;
+        }
+        if (floor == floorB && cellB.getX() == x && cellB.getY() == y) {
+            return floorA;
+        }
+        return null;
+    }
+
+    /**
+     * 주어진 층 쪽 끝의 셀
+     */
+    public GridMap.GridCoordinate cellOn(int floor) {
+        return floor == floorA ? cellA : cellB;
+    }
+}
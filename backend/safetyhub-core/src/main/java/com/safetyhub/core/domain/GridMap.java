@@ -1,11 +1,14 @@
 package com.safetyhub.core.domain;
 
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * 2D 그리드 맵
@@ -22,6 +25,10 @@ public class GridMap {
     private CellType[][] cells;      // 셀 타입 배열
     private Map<String, Zone> zones; // 구역 맵 (zoneId -> Zone)
 
+    @Getter(AccessLevel.NONE)
+    @Builder.Default
+    private List<CellChangeListener> cellChangeListeners = new CopyOnWriteArrayList<>();  // 복사본에는 넘기지 않음
+
     /**
      * 셀 타입 정의
      */
@@ -35,6 +42,14 @@ public class GridMap {
         ASSEMBLY_POINT  // 집결지
     }
 
+    /**
+     * 셀 타입 변경 리스너 (위험 거리장 갱신 등)
+     */
+    @FunctionalInterface
+    public interface CellChangeListener {
+        void onCellChanged(int x, int y, CellType oldType, CellType newType);
+    }
+
     /**
      * 그리드 좌표
      */
@@ -136,14 +151,28 @@ public class GridMap {
     }
 
     /**
-     * 특정 좌표의 셀 타입 설정
+     * 특정 좌표의 셀 타입 설정 (바뀐 경우 리스너에 통지)
      */
     public void setCellType(int x, int y, CellType type) {
         if (x >= 0 && x < width && y >= 0 && y < height) {
+            CellType oldType = cells[y][x];
             cells[y][x] = type;
+            if (oldType != type) {
+                for (CellChangeListener listener : cellChangeListeners) {
+                    listener.onCellChanged(x, y, oldType, type);
+                }
+            }
         }
     }
 
+    public void addCellChangeListener(CellChangeListener listener) {
+        cellChangeListeners.add(listener);
+    }
+
+    public void removeCellChangeListener(CellChangeListener listener) {
+        cellChangeListeners.remove(listener);
+    }
+
     /**
      * 특정 좌표가 이동 가능한지 확인
      */
@@ -240,6 +269,24 @@ public class GridMap {
         return zones.get(zoneId);
     }
 
+    /**
+     * 깊은 복사 (셀 배열과 구역 맵을 새로 만듦, Zone 객체는 공유)
+     * 맵 스냅샷의 다음 버전을 편집할 때 사용
+     */
+    public GridMap copy() {
+        CellType[][] copiedCells = new CellType[height][];
+        for (int y = 0; y < height; y++) {
+            copiedCells[y] = cells[y].clone();
+        }
+        return GridMap.builder()
+                .width(width)
+                .height(height)
+                .cellSize(cellSize)
+                .cells(copiedCells)
+                .zones(new HashMap<>(zones))
+                .build();
+    }
+
     /**
      * 맵 정보 출력
      */
@@ -0,0 +1,266 @@
+package com.safetyhub.core.domain;
+
+import lombok.Getter;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.PriorityQueue;
+
+/**
+ * 위험 거리장 (Distance-to-hazard field)
+ * 각 셀에서 가장 가까운 위험 셀(DANGER_ZONE, OBSTACLE)까지의 유클리드 거리와
+ * 그에 따른 경로 탐색 가산 비용(penalty)을 미리 계산해 둠
+ *
+ * 갱신 방식 (dynamic brushfire):
+ * - 위험 추가: 해당 셀에서 거리 감소 파동(lower wave)만 전파
+ * - 위험 제거: 그 셀을 가장 가까운 위험으로 삼던 셀만 초기화(raise wave) 후 경계에서 재전파
+ * - maxDistance 밖으로는 전파하지 않으므로 갱신 비용은 영향 범위에 비례
+ *
+ * 경로 탐색은 penalty 배열을 읽기만 하므로 탐색 비용은 위험 수와 무관
+ * 생성 시 GridMap의 셀 변경 리스너로 등록되어 setCellType마다 자동 갱신 (detach()로 해제)
+ * 시뮬레이션 틱 스레드에서만 갱신 (스레드 안전하지 않음)
+ */
+public class HazardField {
+
+    private static final int NO_SOURCE = -1;
+
+    /**
+     * 기본 영향 거리(셀)와 위험 셀 바로 옆 가산 비용
+     */
+    public static final double DEFAULT_MAX_DISTANCE = 5.0;
+    public static final double DEFAULT_WEIGHT = 3.0;
+
+    private static final int[][] NEIGHBORS = {
+            {0, 1}, {1, 0}, {0, -1}, {-1, 0},
+            {1, 1}, {1, -1}, {-1, 1}, {-1, -1}
+    };
+
+    private final GridMap gridMap;
+    private final int width;
+    private final int height;
+
+    /**
+     * 이 거리(셀) 이상 떨어지면 가산 비용 없음
+     */
+    @Getter
+    private final double maxDistance;
+
+    /**
+     * 위험 셀 바로 옆의 가산 비용 (셀 이동 1회 = 1.0 기준)
+     */
+    @Getter
+    private final double weight;
+
+    private final boolean[] hazard;
+    private final double[] distance;
+    private final int[] source;  // 가장 가까운 위험 셀 인덱스
+    private final double[] penalty;
+
+    private final GridMap.CellChangeListener listener = (x, y, oldType, newType) -> refresh(x, y);
+
+    /**
+     * 위험 변경 시마다 증가 (캐시 무효화용)
+     */
+    @Getter
+    private long version;
+
+    public HazardField(GridMap gridMap) {
+        this(gridMap, DEFAULT_MAX_DISTANCE, DEFAULT_WEIGHT);
+    }
+
+    public HazardField(GridMap gridMap, double maxDistance, double weight) {
+        if (maxDistance <= 0) {
+            throw new IllegalArgumentException("maxDistance는 0보다 커야 합니다");
+        }
+        if (weight < 0) {
+            throw new IllegalArgumentException("weight는 0 이상이어야 합니다");
+        }
+        this.gridMap = gridMap;
+        this.width = gridMap.getWidth();
+        this.height = gridMap.getHeight();
+        this.maxDistance = maxDistance;
+        this.weight = weight;
+
+        int size = width * height;
+        this.hazard = new boolean[size];
+        this.distance = new double[size];
+        this.source = new int[size];
+        this.penalty = new double[size];
+        rebuild();
+        gridMap.addCellChangeListener(listener);
+    }
+
+    /**
+     * GridMap 셀 변경 리스너 해제 (이 거리장을 더 이상 쓰지 않을 때)
+     */
+    public void detach() {
+        gridMap.removeCellChangeListener(listener);
+    }
+
+    /**
+     * GridMap 전체를 다시 읽어 처음부터 계산
+     */
+    public void rebuild() {
+        Arrays.fill(hazard, false);
+        Arrays.fill(distance, Double.POSITIVE_INFINITY);
+        Arrays.fill(source, NO_SOURCE);
+        Arrays.fill(penalty, 0.0);
+
+        PriorityQueue<double[]> queue = new PriorityQueue<>((a, b) -> Double.compare(a[0], b[0]));
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                if (isHazardCell(x, y)) {
+                    int cell = y * width + x;
+                    seed(cell);
+                    queue.add(new double[]{0.0, cell});
+                }
+            }
+        }
+        lower(queue);
+        version++;
+    }
+
+    /**
+     * 셀 변경 반영 (GridMap.setCellType에서 자동 호출)
+     */
+    public void refresh(int x, int y) {
+        if (!isInside(x, y)) return;
+
+        int cell = y * width + x;
+        boolean nowHazard = isHazardCell(x, y);
+        if (nowHazard == hazard[cell]) return;
+
+        if (nowHazard) {
+            addHazard(cell);
+        } else {
+            removeHazard(cell);
+        }
+        version++;
+    }
+
+    /**
+     * 사각 영역의 셀 변경 반영
+     */
+    public void refreshRect(int x1, int y1, int x2, int y2) {
+        for (int y = Math.min(y1, y2); y <= Math.max(y1, y2); y++) {
+            for (int x = Math.min(x1, x2); x <= Math.max(x1, x2); x++) {
+                refresh(x, y);
+            }
+        }
+    }
+
+    /**
+     * 가장 가까운 위험 셀까지의 거리 (셀 단위, maxDistance 밖이면 무한대)
+     */
+    public double distanceAt(int x, int y) {
+        return isInside(x, y) ? distance[y * width + x] : Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * 경로 탐색 가산 비용: weight × (1 - 거리 / maxDistance), maxDistance 이상이면 0
+     */
+    public double penaltyAt(int x, int y) {
+        return isInside(x, y) ? penalty[y * width + x] : 0.0;
+    }
+
+    public double penaltyAt(GridMap.GridCoordinate coord) {
+        return penaltyAt(coord.getX(), coord.getY());
+    }
+
+    public boolean isHazard(int x, int y) {
+        return isInside(x, y) && hazard[y * width + x];
+    }
+
+    private void addHazard(int cell) {
+        seed(cell);
+        PriorityQueue<double[]> queue = new PriorityQueue<>((a, b) -> Double.compare(a[0], b[0]));
+        queue.add(new double[]{0.0, cell});
+        lower(queue);
+    }
+
+    /**
+     * 제거된 위험 셀을 근원으로 하던 셀을 모두 초기화한 뒤,
+     * 인접한 유효 셀들을 시작점으로 다시 전파
+     */
+    private void removeHazard(int removed) {
+        hazard[removed] = false;
+
+        ArrayDeque<Integer> raise = new ArrayDeque<>();
+        PriorityQueue<double[]> queue = new PriorityQueue<>((a, b) -> Double.compare(a[0], b[0]));
+
+        reset(removed);
+        raise.add(removed);
+        while (!raise.isEmpty()) {
+            int cell = raise.poll();
+            int x = cell % width;
+            int y = cell / width;
+            for (int[] dir : NEIGHBORS) {
+                int nx = x + dir[0];
+                int ny = y + dir[1];
+                if (!isInside(nx, ny)) continue;
+
+                int neighbor = ny * width + nx;
+                if (source[neighbor] == removed) {
+                    reset(neighbor);
+                    raise.add(neighbor);
+                } else if (source[neighbor] != NO_SOURCE) {
+                    queue.add(new double[]{distance[neighbor], neighbor});  // 경계에서 재전파
+                }
+            }
+        }
+        lower(queue);
+    }
+
+    /**
+     * 거리 감소 파동 전파 (가까운 셀부터 처리)
+     */
+    private void lower(PriorityQueue<double[]> queue) {
+        while (!queue.isEmpty()) {
+            double[] entry = queue.poll();
+            int cell = (int) entry[1];
+            if (entry[0] > distance[cell]) continue;  // 이미 더 가까운 값으로 갱신됨
+
+            int src = source[cell];
+            int sx = src % width;
+            int sy = src / width;
+            int x = cell % width;
+            int y = cell / width;
+            for (int[] dir : NEIGHBORS) {
+                int nx = x + dir[0];
+                int ny = y + dir[1];
+                if (!isInside(nx, ny)) continue;
+
+                double d = Math.hypot(nx - sx, ny - sy);
+                int neighbor = ny * width + nx;
+                if (d < distance[neighbor] && d < maxDistance) {
+                    distance[neighbor] = d;
+                    source[neighbor] = src;
+                    penalty[neighbor] = weight * (1.0 - d / maxDistance);
+                    queue.add(new double[]{d, neighbor});
+                }
+            }
+        }
+    }
+
+    private void seed(int cell) {
+        hazard[cell] = true;
+        distance[cell] = 0.0;
+        source[cell] = cell;
+        penalty[cell] = weight;
+    }
+
+    private void reset(int cell) {
+        distance[cell] = Double.POSITIVE_INFINITY;
+        source[cell] = NO_SOURCE;
+        penalty[cell] = 0.0;
+    }
+
+    private boolean isHazardCell(int x, int y) {
+        GridMap.CellType type = gridMap.getCellType(x, y);
+        return type == GridMap.CellType.DANGER_ZONE || type == GridMap.CellType.OBSTACLE;
+    }
+
+    private boolean isInside(int x, int y) {
+        return x >= 0 && x < width && y >= 0 && y < height;
+    }
+}
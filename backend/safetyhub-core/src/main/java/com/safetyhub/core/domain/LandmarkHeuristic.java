@@ -0,0 +1,266 @@
+package com.safetyhub.core.domain;
+
+import lombok.Getter;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+
+/**
+ * ALT (A*, Landmarks, Triangle inequality) 휴리스틱
+ * K개의 랜드마크에서 모든 셀까지의 실제 최단 거리를 미리 계산해 두고,
+ * 삼각 부등식으로 두 셀 사이 거리의 하한을 탐색 없이 구함
+ *
+ *   d(a, b) >= |d(L, a) - d(L, b)|  (모든 랜드마크 L에 대해)
+ *
+ * 용도:
+ * - A* 휴리스틱 (맨해튼보다 타이트하면서 admissible)
+ * - 작업 분배 시 로봇-작업 쌍의 이동 시간 하한 추정 (후보 가지치기)
+ *
+ * PathFinder와 동일하게 4방향 이동, 셀당 비용 1로 계산
+ * 맵이 변경되면 새로 생성해야 함 (불변 객체)
+ */
+public class LandmarkHeuristic {
+
+    private static final int UNREACHABLE = Integer.MAX_VALUE;
+
+    private static final int[][] DIRECTIONS = {
+            {0, 1}, {1, 0}, {0, -1}, {-1, 0}
+    };
+
+    private final int width;
+    private final int height;
+
+    @Getter
+    private final double cellSize;
+
+    /**
+     * 랜드마크 좌표 (셀 인덱스 = y * width + x)
+     */
+    @Getter
+    private final int[] landmarks;
+
+    /**
+     * distances[k][cell] = 랜드마크 k에서 cell까지의 최단 거리 (셀 수)
+     */
+    private final int[][] distances;
+
+    /**
+     * 셀별 연결 요소 번호 (이동 불가 셀은 -1)
+     */
+    private final int[] components;
+
+    private LandmarkHeuristic(int width, int height, double cellSize,
+                              int[] landmarks, int[][] distances, int[] components) {
+        this.width = width;
+        this.height = height;
+        this.cellSize = cellSize;
+        this.landmarks = landmarks;
+        this.distances = distances;
+        this.components = components;
+    }
+
+    /**
+     * 랜드마크 전처리
+     * 첫 랜드마크는 임의의 이동 가능 셀에서 가장 먼 셀, 이후는 기존 랜드마크들로부터
+     * 가장 먼 셀을 선택 (farthest-point 선택 - 맵 외곽에 골고루 분포)
+     *
+     * @param gridMap 그리드 맵
+     * @param count   랜드마크 수 (K)
+     */
+    public static LandmarkHeuristic build(GridMap gridMap, int count) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("랜드마크 수는 1 이상이어야 합니다");
+        }
+
+        int width = gridMap.getWidth();
+        int height = gridMap.getHeight();
+        boolean[] walkable = new boolean[width * height];
+        int firstWalkable = -1;
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                walkable[y * width + x] = gridMap.isWalkable(x, y);
+                if (firstWalkable < 0 && walkable[y * width + x]) {
+                    firstWalkable = y * width + x;
+                }
+            }
+        }
+
+        int[] components = labelComponents(walkable, width, height);
+
+        if (firstWalkable < 0) {
+            return new LandmarkHeuristic(width, height, gridMap.getCellSize(),
+                    new int[0], new int[0][], components);
+        }
+
+        int[] landmarks = new int[count];
+        int[][] distances = new int[count][];
+
+        // 최소 거리 (각 셀에서 가장 가까운 랜드마크까지)
+        int[] minDistance = bfs(walkable, width, height, firstWalkable);
+        int next = farthest(minDistance);
+        Arrays.fill(minDistance, UNREACHABLE);
+
+        int built = 0;
+        for (int k = 0; k < count; k++) {
+            landmarks[k] = next;
+            distances[k] = bfs(walkable, width, height, next);
+            built++;
+
+            for (int i = 0; i < minDistance.length; i++) {
+                minDistance[i] = Math.min(minDistance[i], distances[k][i]);
+            }
+            next = farthest(minDistance);
+            if (next < 0 || minDistance[next] == 0) {
+                break;  // 더 이상 새로운 랜드마크 후보가 없음
+            }
+        }
+
+        return new LandmarkHeuristic(width, height, gridMap.getCellSize(),
+                Arrays.copyOf(landmarks, built), Arrays.copyOf(distances, built), components);
+    }
+
+    /**
+     * 두 셀 사이 최단 거리의 하한 (셀 수)
+     * 맨해튼 거리와 랜드마크 하한 중 큰 값, 서로 도달 불가능하면 무한대
+     */
+    public double lowerBound(int ax, int ay, int bx, int by) {
+        int manhattan = Math.abs(ax - bx) + Math.abs(ay - by);
+        if (!isInside(ax, ay) || !isInside(bx, by)) {
+            return manhattan;
+        }
+
+        int a = ay * width + ax;
+        int b = by * width + bx;
+
+        // 둘 다 이동 가능한 셀인데 연결 요소가 다르면 도달 불가
+        if (components[a] >= 0 && components[b] >= 0 && components[a] != components[b]) {
+            return Double.POSITIVE_INFINITY;
+        }
+
+        int best = manhattan;
+        for (int[] fromLandmark : distances) {
+            int da = fromLandmark[a];
+            int db = fromLandmark[b];
+            if (da == UNREACHABLE || db == UNREACHABLE) {
+                continue;  // 이동 불가 셀 또는 다른 연결 요소의 랜드마크
+            }
+            best = Math.max(best, Math.abs(da - db));
+        }
+        return best;
+    }
+
+    public double lowerBound(GridMap.GridCoordinate a, GridMap.GridCoordinate b) {
+        return lowerBound(a.getX(), a.getY(), b.getX(), b.getY());
+    }
+
+    /**
+     * 두 위치 사이 이동 거리의 하한 (미터)
+     */
+    public double lowerBoundDistance(Location start, Location goal) {
+        int ax = toCell(start.getLongitude(), width);
+        int ay = toCell(start.getLatitude(), height);
+        int bx = toCell(goal.getLongitude(), width);
+        int by = toCell(goal.getLatitude(), height);
+        return lowerBound(ax, ay, bx, by) * cellSize;
+    }
+
+    /**
+     * 이동 시간 하한 (초)
+     */
+    public double lowerBoundTravelTime(Location start, Location goal, double speedMeterPerSecond) {
+        return lowerBoundDistance(start, goal) / speedMeterPerSecond;
+    }
+
+    /**
+     * 랜드마크 수
+     */
+    public int getLandmarkCount() {
+        return landmarks.length;
+    }
+
+    /**
+     * 단위 비용 그리드에서 BFS로 단일 출발 최단 거리 계산
+     */
+    private static int[] bfs(boolean[] walkable, int width, int height, int source) {
+        int[] dist = new int[walkable.length];
+        Arrays.fill(dist, UNREACHABLE);
+        dist[source] = 0;
+
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        queue.add(source);
+        while (!queue.isEmpty()) {
+            int cell = queue.poll();
+            int x = cell % width;
+            int y = cell / width;
+            for (int[] dir : DIRECTIONS) {
+                int nx = x + dir[0];
+                int ny = y + dir[1];
+                if (nx < 0 || nx >= width || ny < 0 || ny >= height) continue;
+
+                int neighbor = ny * width + nx;
+                if (walkable[neighbor] && dist[neighbor] == UNREACHABLE) {
+                    dist[neighbor] = dist[cell] + 1;
+                    queue.add(neighbor);
+                }
+            }
+        }
+        return dist;
+    }
+
+    /**
+     * 연결 요소 번호 매기기
+     */
+    private static int[] labelComponents(boolean[] walkable, int width, int height) {
+        int[] components = new int[walkable.length];
+        Arrays.fill(components, -1);
+
+        int label = 0;
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        for (int start = 0; start < walkable.length; start++) {
+            if (!walkable[start] || components[start] >= 0) continue;
+
+            components[start] = label;
+            queue.add(start);
+            while (!queue.isEmpty()) {
+                int cell = queue.poll();
+                int x = cell % width;
+                int y = cell / width;
+                for (int[] dir : DIRECTIONS) {
+                    int nx = x + dir[0];
+                    int ny = y + dir[1];
+                    if (nx < 0 || nx >= width || ny < 0 || ny >= height) continue;
+
+                    int neighbor = ny * width + nx;
+                    if (walkable[neighbor] && components[neighbor] < 0) {
+                        components[neighbor] = label;
+                        queue.add(neighbor);
+                    }
+                }
+            }
+            label++;
+        }
+        return components;
+    }
+
+    private static int farthest(int[] dist) {
+        int best = -1;
+        for (int i = 0; i < dist.length; i++) {
+            if (dist[i] != UNREACHABLE && (best < 0 || dist[i] > dist[best])) {
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    private boolean isInside(int x, int y) {
+        return x >= 0 && x < width && y >= 0 && y < height;
+    }
+
+    /**
+     * GridMap.toGridCoordinate와 같은 규칙으로 좌표 변환 (범위 밖은 경계로 보정)
+     */
+    private int toCell(Double value, int size) {
+        int cell = (int) (value / cellSize);
+        return Math.max(0, Math.min(size - 1, cell));
+    }
+}
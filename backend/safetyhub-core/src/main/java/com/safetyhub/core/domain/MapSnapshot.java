@@ -0,0 +1,171 @@
+package com.safetyhub.core.domain;
+
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * 불변 맵 스냅샷
+ * 특정 버전의 GridMap 복사본과 그 버전에서 파생된 구조(구역 래스터, 랜드마크 거리표, 위험 거리장, 경로 탐색기)를 묶음
+ *
+ * - 생성 후 셀/구역이 바뀌지 않음 (원본 GridMap은 외부에 노출하지 않음)
+ * - 파생 구조는 생성 시점에 모두 계산되므로 항상 같은 버전끼리 일관됨
+ * - 탐색 중에 새 버전이 배포되어도 이 스냅샷으로 시작한 탐색은 끝까지 이 버전을 사용
+ *
+ * 맵 변경은 MapSnapshotManager.update()로 새 스냅샷을 만들어 교체
+ */
+public final class MapSnapshot {
+
+    private static final short NO_ZONE = -1;
+
+    @Getter
+    private final long version;
+
+    @Getter
+    private final Instant builtAt;
+
+    private final GridMap gridMap;  // 이 스냅샷 전용 복사본 (외부 노출 금지)
+
+    /**
+     * 셀별 구역 인덱스 (zoneIds 배열 인덱스, 없으면 -1)
+     */
+    private final short[] zoneRaster;
+    private final String[] zoneIds;
+
+    @Getter
+    private final LandmarkHeuristic landmarks;
+
+    /**
+     * 위험 거리장 (경로 탐색 가산 비용, 스냅샷이 불변이므로 생성 시 한 번만 계산)
+     */
+    private final HazardField hazardField;
+
+    private final PathFinder pathFinder;
+
+    private MapSnapshot(long version, GridMap gridMap, int landmarkCount) {
+        this.version = version;
+        this.gridMap = gridMap;
+        this.zoneIds = gridMap.getZones().keySet().stream().sorted().toArray(String[]::new);
+        this.zoneRaster = buildZoneRaster(gridMap, zoneIds);
+        this.landmarks = LandmarkHeuristic.build(gridMap, landmarkCount);
+        this.hazardField = new HazardField(gridMap);
+        this.pathFinder = new PathFinder(gridMap, landmarks, hazardField);
+        this.builtAt = Instant.now();
+    }
+
+    /**
+     * 스냅샷 생성 (source를 복사하므로 이후 source를 수정해도 영향 없음)
+     * 랜드마크 계산이 포함되어 있으므로 틱 스레드가 아닌 곳에서 호출
+     */
+    public static MapSnapshot build(long version, GridMap source, int landmarkCount) {
+        return new MapSnapshot(version, source.copy(), landmarkCount);
+    }
+
+    /**
+     * 다음 버전 편집용 복사본
+     */
+    public GridMap toMutableCopy() {
+        return gridMap.copy();
+    }
+
+    public int getWidth() {
+        return gridMap.getWidth();
+    }
+
+    public int getHeight() {
+        return gridMap.getHeight();
+    }
+
+    public double getCellSize() {
+        return gridMap.getCellSize();
+    }
+
+    public GridMap.CellType getCellType(int x, int y) {
+        return gridMap.getCellType(x, y);
+    }
+
+    public boolean isWalkable(int x, int y) {
+        return gridMap.isWalkable(x, y);
+    }
+
+    public GridMap.GridCoordinate toGridCoordinate(Location location) {
+        return gridMap.toGridCoordinate(location);
+    }
+
+    /**
+     * 셀이 속한 구역 ID (래스터 조회, 없으면 null)
+     */
+    public String zoneIdAt(int x, int y) {
+        if (x < 0 || x >= gridMap.getWidth() || y < 0 || y >= gridMap.getHeight()) {
+            return null;
+        }
+        short index = zoneRaster[y * gridMap.getWidth() + x];
+        return index == NO_ZONE ? null : zoneIds[index];
+    }
+
+    public String zoneIdAt(Location location) {
+        GridMap.GridCoordinate coord = gridMap.toGridCoordinate(location);
+        return coord == null ? null : zoneIdAt(coord.getX(), coord.getY());
+    }
+
+    /**
+     * 가장 가까운 위험 셀까지의 거리 (셀 단위, 영향 거리 밖이나 맵 밖이면 무한대)
+     */
+    public double hazardDistanceAt(int x, int y) {
+        return hazardField.distanceAt(x, y);
+    }
+
+    public Zone getZone(String zoneId) {
+        return gridMap.getZone(zoneId);
+    }
+
+    public Set<String> getZoneIds() {
+        return Set.of(zoneIds);
+    }
+
+    /**
+     * 이 버전의 맵으로 경로 탐색 (ALT 휴리스틱, 위험 가산 비용 사용)
+     */
+    public List<Location> findPath(Location start, Location goal) {
+        return pathFinder.findPath(start, goal);
+    }
+
+    public PathFinder.PathInfo findPathWithInfo(Location start, Location goal) {
+        return pathFinder.findPathWithInfo(start, goal);
+    }
+
+    /**
+     * 구역 래스터 생성 (GridMap.markZoneArea와 같은 원형 범위, 겹치면 ID 순서상 먼저인 구역)
+     */
+    private static short[] buildZoneRaster(GridMap gridMap, String[] zoneIds) {
+        int width = gridMap.getWidth();
+        int height = gridMap.getHeight();
+        short[] raster = new short[width * height];
+        Arrays.fill(raster, NO_ZONE);
+
+        for (short i = (short) (zoneIds.length - 1); i >= 0; i--) {
+            Zone zone = gridMap.getZone(zoneIds[i]);
+            if (zone.getCenterLocation() == null || zone.getRadius() == null) continue;
+
+            GridMap.GridCoordinate center = gridMap.toGridCoordinate(zone.getCenterLocation());
+            int radiusCells = (int) (zone.getRadius() / gridMap.getCellSize());
+            for (int y = Math.max(0, center.getY() - radiusCells); y <= Math.min(height - 1, center.getY() + radiusCells); y++) {
+                for (int x = Math.max(0, center.getX() - radiusCells); x <= Math.min(width - 1, center.getX() + radiusCells); x++) {
+                    int dx = x - center.getX();
+                    int dy = y - center.getY();
+                    if (dx * dx + dy * dy <= radiusCells * radiusCells) {
+                        raster[y * width + x] = i;
+                    }
+                }
+            }
+        }
+        return raster;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("MapSnapshot[v%d, %dx%d, zones=%d, landmarks=%d]",
+                version, gridMap.getWidth(), gridMap.getHeight(), zoneIds.length, landmarks.getLandmarkCount());
+    }
+}
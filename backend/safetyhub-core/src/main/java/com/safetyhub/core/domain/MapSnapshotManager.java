@@ -0,0 +1,98 @@
+package com.safetyhub.core.domain;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * 맵 스냅샷 관리자
+ * 현재 MapSnapshot을 AtomicReference로 보관하고, 맵 변경은 백그라운드에서 새 버전을 만든 뒤 한 번에 교체
+ *
+ * 변경 절차 (update):
+ * 1. 전용 빌더 스레드에서 현재 스냅샷의 복사본에 편집 적용
+ * 2. 파생 구조(구역 래스터, 랜드마크, 경로 탐색기)를 모두 계산한 새 스냅샷 생성
+ * 3. 참조 교체 후 리스너 호출 (경로 캐시 무효화 등)
+ *
+ * 읽는 쪽은 current()로 스냅샷을 한 번 얻어 끝까지 사용하면 됨 (잠금 없음)
+ * 변경은 빌더 스레드 하나에서 순서대로 처리되므로 동시 편집이 서로를 덮어쓰지 않음
+ */
+@Slf4j
+public class MapSnapshotManager implements AutoCloseable {
+
+    private final AtomicReference<MapSnapshot> current;
+    private final ExecutorService builder;
+    private final List<Consumer<MapSnapshot>> listeners = new CopyOnWriteArrayList<>();
+    private final int landmarkCount;
+
+    public MapSnapshotManager(GridMap initialMap, int landmarkCount) {
+        if (initialMap == null) {
+            throw new IllegalArgumentException("초기 맵은 null일 수 없습니다");
+        }
+        this.landmarkCount = landmarkCount;
+        this.current = new AtomicReference<>(MapSnapshot.build(1, initialMap, landmarkCount));
+        this.builder = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "map-snapshot-builder");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 현재 스냅샷
+     */
+    public MapSnapshot current() {
+        return current.get();
+    }
+
+    public long getVersion() {
+        return current.get().getVersion();
+    }
+
+    /**
+     * 맵 변경 요청
+     *
+     * @param editor 다음 버전 복사본을 편집하는 함수 (빌더 스레드에서 실행)
+     * @return 새 스냅샷이 배포되면 완료되는 Future
+     */
+    public CompletableFuture<MapSnapshot> update(Consumer<GridMap> editor) {
+        return CompletableFuture.supplyAsync(() -> {
+            MapSnapshot base = current.get();
+            GridMap next = base.toMutableCopy();
+            editor.accept(next);
+
+            long startTime = System.nanoTime();
+            MapSnapshot snapshot = MapSnapshot.build(base.getVersion() + 1, next, landmarkCount);
+            long buildMicros = (System.nanoTime() - startTime) / 1000;
+
+            current.set(snapshot);
+            log.info("맵 스냅샷 교체: v{} -> v{} (빌드 {}μs)", base.getVersion(), snapshot.getVersion(), buildMicros);
+
+            for (Consumer<MapSnapshot> listener : listeners) {
+                try {
+                    listener.accept(snapshot);
+                } catch (Exception e) {
+                    log.error("맵 스냅샷 리스너 오류: v{}", snapshot.getVersion(), e);
+                }
+            }
+            return snapshot;
+        }, builder);
+    }
+
+    /**
+     * 새 스냅샷 배포 시 호출될 리스너 등록 (빌더 스레드에서 호출됨)
+     */
+    public void addListener(Consumer<MapSnapshot> listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public void close() {
+        builder.shutdown();
+    }
+}
@@ -0,0 +1,312 @@
+package com.safetyhub.core.domain;
+
+import lombok.Getter;
+
+import java.util.*;
+
+/**
+ * 다층 A* 경로 탐색
+ * BuildingMap의 (층, x, y) 공간에서 층 내 4방향 이동 + 연결 통로 이동으로 최단 경로를 찾음
+ *
+ * - 층 내 이동 비용 1, 연결 통로는 traversalCost, 도착 셀의 위험 가산 비용 추가
+ * - 긴급 모드에서는 엘리베이터 제외, 수용 인원이 찬 통로 제외
+ * - 휴리스틱: 맨해튼 거리 + 층 차이 × 한 층 이동 최소 비용 (admissible)
+ * - 탐색 상태는 해시 맵에 필요한 셀만 저장 (층 수 × 면적 배열을 만들지 않음)
+ */
+public class MultiFloorPathFinder {
+
+    private static final int[][] DIRECTIONS = {
+            {0, 1}, {1, 0}, {0, -1}, {-1, 0}
+    };
+
+    @Getter
+    private final BuildingMap buildingMap;
+
+    public MultiFloorPathFinder(BuildingMap buildingMap) {
+        this.buildingMap = buildingMap;
+    }
+
+    /**
+     * 층을 넘나드는 경로 찾기
+     *
+     * @return 경로 (altitude/floor가 채워진 Location 리스트), 경로가 없으면 빈 리스트
+     */
+    public List<Location> findPath(Location start, Location goal) {
+        BuildingMap.FloorCoordinate startCoord = buildingMap.toFloorCoordinate(start);
+        BuildingMap.FloorCoordinate goalCoord = buildingMap.toFloorCoordinate(goal);
+        if (startCoord == null || goalCoord == null) {
+            return Collections.emptyList();
+        }
+
+        List<Location> path = new ArrayList<>();
+        for (BuildingMap.FloorCoordinate coord : findPath(startCoord, goalCoord)) {
+            path.add(buildingMap.toLocation(coord));
+        }
+        return path;
+    }
+
+    /**
+     * 층/셀 좌표 기준 경로 찾기
+     */
+    public List<BuildingMap.FloorCoordinate> findPath(BuildingMap.FloorCoordinate start,
+                                                      BuildingMap.FloorCoordinate goal) {
+        if (!buildingMap.isWalkable(goal.getFloor(), goal.getX(), goal.getY())) {
+            return Collections.emptyList();
+        }
+
+        boolean emergency = buildingMap.isEmergencyMode();
+        double floorCost = buildingMap.minCostPerFloor();
+        if (start.getFloor() != goal.getFloor() && Double.isInfinite(floorCost)) {
+            return Collections.emptyList();  // 사용 가능한 연결 통로 없음
+        }
+
+        PriorityQueue<Node> openList = new PriorityQueue<>(Comparator.comparingDouble((Node n) -> n.f));
+        Map<Long, Double> bestG = new HashMap<>();
+        Map<Long, Long> parents = new HashMap<>();
+        Set<Long> closed = new HashSet<>();
+
+        long startKey = BuildingMap.key(start.getFloor(), start.getX(), start.getY());
+        long goalKey = BuildingMap.key(goal.getFloor(), goal.getX(), goal.getY());
+        openList.add(new Node(start.getFloor(), start.getX(), start.getY(), 0.0,
+                heuristic(start.getFloor(), start.getX(), start.getY(), goal, floorCost)));
+        bestG.put(startKey, 0.0);
+
+        while (!openList.isEmpty()) {
+            Node current = openList.poll();
+            long currentKey = BuildingMap.key(current.floor, current.x, current.y);
+            if (currentKey == goalKey) {
+                return reconstructPath(parents, goalKey, current);
+            }
+            if (!closed.add(currentKey)) {
+                continue;  // 이미 더 짧은 비용으로 처리됨
+            }
+
+            // 층 내 이동
+            for (int[] dir : DIRECTIONS) {
+                int nx = current.x + dir[0];
+                int ny = current.y + dir[1];
+                if (buildingMap.isWalkable(current.floor, nx, ny)) {
+                    relax(openList, bestG, parents, closed, current, currentKey,
+                            current.floor, nx, ny, 1.0, goal, floorCost);
+                }
+            }
+
+            // 연결 통로 이동
+            for (FloorConnector connector : buildingMap.getConnectorsAt(current.floor, current.x, current.y)) {
+                if (!connector.isUsable(emergency)) {
+                    continue;
+                }
+                Integer otherFloor = connector.otherFloor(current.floor, current.x, current.y);
+                if (otherFloor == null) {
+                    continue;
+                }
+                GridMap.GridCoordinate cell = connector.cellOn(otherFloor);
+                relax(openList, bestG, parents, closed, current, currentKey,
+                        otherFloor, cell.getX(), cell.getY(), connector.getTraversalCost(), goal, floorCost);
+            }
+        }
+
+        return Collections.emptyList();
+    }
+
+    /**
+     * 대피 흐름장 계산
+     * 집결지(targets)에서 역방향 Dijkstra로 모든 셀의 최단 대피 거리를 구함
+     * (이동 비용 = 기본 비용 + 도착 셀의 위험 가산 비용, 위험 구역을 멀리 돌아가는 대피 경로)
+     * 층별로 해당 층 크기만큼의 배열만 할당
+     *
+     * @param targets 대피 목표 셀 (집결지, 비상구 등)
+     */
+    public EvacuationField computeEvacuationField(Collection<BuildingMap.FloorCoordinate> targets) {
+        boolean emergency = buildingMap.isEmergencyMode();
+
+        Map<Integer, double[]> distances = new HashMap<>();
+        for (Integer floor : buildingMap.getFloorNumbers()) {
+            GridMap gridMap = buildingMap.getFloor(floor);
+            double[] dist = new double[gridMap.getWidth() * gridMap.getHeight()];
+            Arrays.fill(dist, Double.POSITIVE_INFINITY);
+            distances.put(floor, dist);
+        }
+
+        PriorityQueue<Node> queue = new PriorityQueue<>(Comparator.comparingDouble((Node n) -> n.g));
+        for (BuildingMap.FloorCoordinate target : targets) {
+            if (!buildingMap.isWalkable(target.getFloor(), target.getX(), target.getY())) {
+                continue;
+            }
+            int width = buildingMap.getFloor(target.getFloor()).getWidth();
+            distances.get(target.getFloor())[target.getY() * width + target.getX()] = 0.0;
+            queue.add(new Node(target.getFloor(), target.getX(), target.getY(), 0.0, 0.0));
+        }
+
+        while (!queue.isEmpty()) {
+            Node current = queue.poll();
+            int width = buildingMap.getFloor(current.floor).getWidth();
+            if (current.g > distances.get(current.floor)[current.y * width + current.x]) {
+                continue;
+            }
+
+            for (int[] dir : DIRECTIONS) {
+                int nx = current.x + dir[0];
+                int ny = current.y + dir[1];
+                if (buildingMap.isWalkable(current.floor, nx, ny)) {
+                    relaxField(queue, distances, current, current.floor, nx, ny, 1.0);
+                }
+            }
+
+            // 흐름장은 통로 점유와 무관하게 운영 여부만 반영
+            for (FloorConnector connector : buildingMap.getConnectorsAt(current.floor, current.x, current.y)) {
+                Integer otherFloor = connector.otherFloor(current.floor, current.x, current.y);
+                if (otherFloor == null || !connector.isEnabled(emergency)) {
+                    continue;
+                }
+                GridMap.GridCoordinate cell = connector.cellOn(otherFloor);
+                relaxField(queue, distances, current, otherFloor, cell.getX(), cell.getY(),
+                        connector.getTraversalCost());
+            }
+        }
+
+        return new EvacuationField(buildingMap, distances, emergency);
+    }
+
+    private void relax(PriorityQueue<Node> openList, Map<Long, Double> bestG, Map<Long, Long> parents,
+                       Set<Long> closed, Node current, long currentKey,
+                       int floor, int x, int y, double cost,
+                       BuildingMap.FloorCoordinate goal, double floorCost) {
+        long key = BuildingMap.key(floor, x, y);
+        if (closed.contains(key)) {
+            return;
+        }
+        double g = current.g + cost + buildingMap.hazardPenalty(floor, x, y);
+        Double known = bestG.get(key);
+        if (known == null || g < known) {
+            bestG.put(key, g);
+            parents.put(key, currentKey);
+            openList.add(new Node(floor, x, y, g, g + heuristic(floor, x, y, goal, floorCost)));
+        }
+    }
+
+    private void relaxField(PriorityQueue<Node> queue, Map<Integer, double[]> distances, Node current,
+                            int floor, int x, int y, double cost) {
+        int width = buildingMap.getFloor(floor).getWidth();
+        double[] dist = distances.get(floor);
+        double g = current.g + cost + buildingMap.hazardPenalty(current.floor, current.x, current.y);
+        if (g < dist[y * width + x]) {
+            dist[y * width + x] = g;
+            queue.add(new Node(floor, x, y, g, g));
+        }
+    }
+
+    private double heuristic(int floor, int x, int y, BuildingMap.FloorCoordinate goal, double floorCost) {
+        double h = Math.abs(x - goal.getX()) + Math.abs(y - goal.getY());
+        int floorDiff = Math.abs(floor - goal.getFloor());
+        return floorDiff == 0 ? h : h + floorDiff * floorCost;
+    }
+
+    private List<BuildingMap.FloorCoordinate> reconstructPath(Map<Long, Long> parents, long goalKey, Node goal) {
+        LinkedList<BuildingMap.FloorCoordinate> path = new LinkedList<>();
+        path.addFirst(new BuildingMap.FloorCoordinate(goal.floor, goal.x, goal.y));
+
+        Long key = parents.get(goalKey);
+        while (key != null) {
+            path.addFirst(decode(key));
+            key = parents.get(key);
+        }
+        return new ArrayList<>(path);
+    }
+
+    private static BuildingMap.FloorCoordinate decode(long key) {
+        int floor = (short) (key >>> 48);
+        int x = (int) ((key >>> 24) & 0xFFFFFF);
+        int y = (int) (key & 0xFFFFFF);
+        return new BuildingMap.FloorCoordinate(floor, x, y);
+    }
+
+    /**
+     * 탐색 노드 (g: 시작점부터 비용, f: g + h)
+     */
+    private static class Node {
+        final int floor;
+        final int x;
+        final int y;
+        final double g;
+        final double f;
+
+        Node(int floor, int x, int y, double g, double f) {
+            this.floor = floor;
+            this.x = x;
+            this.y = y;
+            this.g = g;
+            this.f = f;
+        }
+    }
+
+    /**
+     * 대피 흐름장
+     * 각 셀에서 가장 가까운 대피 목표까지의 거리와 다음 이동 셀을 제공
+     * 맵이나 긴급 모드가 바뀌면 다시 계산해야 함
+     */
+    public static class EvacuationField {
+
+        private final BuildingMap buildingMap;
+        private final Map<Integer, double[]> distances;
+
+        @Getter
+        private final boolean emergency;
+
+        EvacuationField(BuildingMap buildingMap, Map<Integer, double[]> distances, boolean emergency) {
+            this.buildingMap = buildingMap;
+            this.distances = distances;
+            this.emergency = emergency;
+        }
+
+        /**
+         * 셀에서 대피 목표까지의 거리 (도달 불가 시 무한대)
+         */
+        public double distanceAt(int floor, int x, int y) {
+            double[] dist = distances.get(floor);
+            GridMap gridMap = buildingMap.getFloor(floor);
+            if (dist == null || gridMap == null
+                    || x < 0 || x >= gridMap.getWidth() || y < 0 || y >= gridMap.getHeight()) {
+                return Double.POSITIVE_INFINITY;
+            }
+            return dist[y * gridMap.getWidth() + x];
+        }
+
+        /**
+         * 다음 이동 셀 (이동 비용 + 남은 거리가 최소인 이웃, 목표이거나 도달 불가면 empty)
+         */
+        public Optional<BuildingMap.FloorCoordinate> nextStep(BuildingMap.FloorCoordinate from) {
+            double current = distanceAt(from.getFloor(), from.getX(), from.getY());
+            if (current == 0.0 || Double.isInfinite(current)) {
+                return Optional.empty();
+            }
+
+            BuildingMap.FloorCoordinate best = null;
+            double bestDistance = Double.POSITIVE_INFINITY;
+            for (int[] dir : DIRECTIONS) {
+                int nx = from.getX() + dir[0];
+                int ny = from.getY() + dir[1];
+                double d = distanceAt(from.getFloor(), nx, ny) + 1.0
+                        + buildingMap.hazardPenalty(from.getFloor(), nx, ny);
+                if (d < bestDistance) {
+                    bestDistance = d;
+                    best = new BuildingMap.FloorCoordinate(from.getFloor(), nx, ny);
+                }
+            }
+            for (FloorConnector connector : buildingMap.getConnectorsAt(from.getFloor(), from.getX(), from.getY())) {
+                Integer otherFloor = connector.otherFloor(from.getFloor(), from.getX(), from.getY());
+                if (otherFloor == null || !connector.isEnabled(emergency)) {
+                    continue;
+                }
+                GridMap.GridCoordinate cell = connector.cellOn(otherFloor);
+                double d = distanceAt(otherFloor, cell.getX(), cell.getY()) + connector.getTraversalCost()
+                        + buildingMap.hazardPenalty(otherFloor, cell.getX(), cell.getY());
+                if (d < bestDistance) {
+                    bestDistance = d;
+                    best = new BuildingMap.FloorCoordinate(otherFloor, cell.getX(), cell.getY());
+                }
+            }
+            return Optional.ofNullable(best);
+        }
+    }
+}
@@ -12,9 +12,29 @@ import java.util.*;
 public class PathFinder {
 
     private final GridMap gridMap;
+    private final LandmarkHeuristic landmarks;  // null이면 맨해튼 휴리스틱만 사용
+    private final HazardField hazardField;      // null이면 위험 가산 비용 없음
 
     public PathFinder(GridMap gridMap) {
+        this(gridMap, null, null);
+    }
+
+    /**
+     * ALT 랜드마크 휴리스틱을 사용하는 PathFinder
+     */
+    public PathFinder(GridMap gridMap, LandmarkHeuristic landmarks) {
+        this(gridMap, landmarks, null);
+    }
+
+    /**
+     * 위험 거리장을 가산 비용으로 사용하는 PathFinder
+     * 위험 셀에 가까울수록 비용이 커져 화재/가스 누출 지점과 거리를 두는 경로를 선택
+     * (가산 비용은 0 이상이므로 휴리스틱은 그대로 admissible)
+     */
+    public PathFinder(GridMap gridMap, LandmarkHeuristic landmarks, HazardField hazardField) {
         this.gridMap = gridMap;
+        this.landmarks = landmarks;
+        this.hazardField = hazardField;
     }
 
     /**
@@ -56,6 +76,11 @@ public class PathFinder {
             GridMap.GridCoordinate start,
             GridMap.GridCoordinate goal) {
 
+        // 랜드마크로 도달 불가능이 확인되면 탐색 생략
+        if (Double.isInfinite(heuristic(start, goal))) {
+            return Collections.emptyList();
+        }
+
         // 열린 목록 (탐색할 노드)
         PriorityQueue<Node> openList = new PriorityQueue<>(Comparator.comparingDouble(Node::getF));
 
@@ -91,7 +116,7 @@ public class PathFinder {
                 }
 
                 // 새로운 g 값 계산
-                double tentativeG = current.g + distance(current.coord, neighbor);
+                double tentativeG = current.g + distance(current.coord, neighbor) + hazardCost(neighbor);
 
                 Node neighborNode = nodeMap.get(neighbor);
 
@@ -186,9 +211,12 @@ public class PathFinder {
     }
 
     /**
-     * 휴리스틱 함수 (맨해튼 거리)
+     * 휴리스틱 함수 (맨해튼 거리, 랜드마크가 있으면 ALT 하한과 맨해튼 중 큰 값)
      */
     private double heuristic(GridMap.GridCoordinate a, GridMap.GridCoordinate b) {
+        if (landmarks != null) {
+            return landmarks.lowerBound(a, b);
+        }
         return Math.abs(a.getX() - b.getX()) + Math.abs(a.getY() - b.getY());
     }
 
@@ -215,6 +243,13 @@ public class PathFinder {
         return 1.0;  // 직선
     }
 
+    /**
+     * 위험 가산 비용 (위험 거리장이 없으면 0)
+     */
+    private double hazardCost(GridMap.GridCoordinate coord) {
+        return hazardField != null ? hazardField.penaltyAt(coord) : 0.0;
+    }
+
     /**
      * 경로 재구성
      */
@@ -1,9 +1,20 @@
 package com.safetyhub.core.domain;
 
+import com.safetyhub.core.event.NearMissDetectedEvent;
+import com.safetyhub.core.port.out.EventPublisher;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * 로봇 행동 시뮬레이터
@@ -14,6 +25,30 @@ public class RobotBehaviorSimulator {
     private final VirtualWorld world;
     private final Random random;
 
+    // 근접 감지 (니어미스/같은 셀 점유)
+    private static final double NEAR_MISS_DISTANCE = 1.0;  // 미터
+    private final BroadPhaseDetector proximityDetector = new BroadPhaseDetector();
+    private double[] xs = new double[0];
+    private double[] ys = new double[0];
+    private int[] floors = new int[0];
+    private List<NearMiss> lastNearMisses = Collections.emptyList();
+    private Set<String> activePairs = new HashSet<>();  // 직전 틱의 근접 쌍 (robotIdA|robotIdB 또는 robotId|W:workerId)
+
+    // 새로 근접한 쌍을 NearMissDetectedEvent로 발행 (없으면 기록만)
+    private final EventPublisher eventPublisher;
+
+    // 다층 건물 경로 탐색 (world에 건물이 연결된 경우, 연결된 건물이 바뀌면 다시 생성)
+    private MultiFloorPathFinder multiFloorPathFinder;
+
+    // 단층 대피 경로 탐색 (world의 위험 거리장을 가산 비용으로 사용)
+    private final PathFinder evacuationPathFinder;
+
+    // 틱 종료 리스너 (경로 미리 계산 등)
+    private final List<TickListener> tickListeners = new CopyOnWriteArrayList<>();
+
+    // 계단/엘리베이터를 통과 중인 로봇 (robotId -> 통과 상태)
+    private final Map<String, ConnectorTransit> transits = new HashMap<>();
+
     // 각 상태별 목표 구역 매핑
     private static final Map<RobotWorker.RobotState, String> STATE_ZONE_MAP = new HashMap<>();
 
@@ -26,8 +61,14 @@ public class RobotBehaviorSimulator {
     }
 
     public RobotBehaviorSimulator(VirtualWorld world) {
+        this(world, null);
+    }
+
+    public RobotBehaviorSimulator(VirtualWorld world, EventPublisher eventPublisher) {
         this.world = world;
+        this.evacuationPathFinder = new PathFinder(world.getMap(), null, world.getHazardField());
         this.random = new Random();
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -63,6 +104,149 @@ public class RobotBehaviorSimulator {
             // 건강 상태 업데이트
             updateHealthStatus(robot);
         });
+
+        // 이동 완료 후 근접 쌍 감지, 직전 틱에 없던 쌍만 발행 (이벤트 폭주 방지)
+        lastNearMisses = detectNearMisses();
+        publishNewNearMisses();
+
+        if (!tickListeners.isEmpty()) {
+            List<RobotWorker> robots = world.getAllRobots();
+            for (TickListener listener : tickListeners) {
+                listener.afterTick(currentTime, robots);
+            }
+        }
+    }
+
+    /**
+     * 틱 종료 리스너
+     */
+    @FunctionalInterface
+    public interface TickListener {
+        /**
+         * 모든 로봇의 이동과 근접 감지가 끝난 뒤 호출
+         */
+        void afterTick(LocalTime currentTime, List<RobotWorker> robots);
+    }
+
+    public void addTickListener(TickListener listener) {
+        tickListeners.add(listener);
+    }
+
+    public void removeTickListener(TickListener listener) {
+        tickListeners.remove(listener);
+    }
+
+    /**
+     * 직전 틱에서 감지된 근접 쌍
+     */
+    public List<NearMiss> getLastNearMisses() {
+        return lastNearMisses;
+    }
+
+    private void publishNewNearMisses() {
+        Set<String> currentPairs = new HashSet<>();
+        for (NearMiss nearMiss : lastNearMisses) {
+            String key = nearMiss.involvesWorker()
+                    ? nearMiss.getRobotIdA() + "|W:" + nearMiss.getWorkerId()
+                    : nearMiss.getRobotIdA() + "|" + nearMiss.getRobotIdB();
+            currentPairs.add(key);
+            if (eventPublisher != null && !activePairs.contains(key)) {
+                RobotWorker robot = world.getRobot(nearMiss.getRobotIdA());
+                String zoneId = robot != null ? robot.getCurrentZoneId() : null;
+                Location location = robot != null ? robot.getCurrentLocation() : null;
+                eventPublisher.publish(nearMiss.involvesWorker()
+                        ? NearMissDetectedEvent.createWithWorker(
+                                nearMiss.getRobotIdA(), nearMiss.getWorkerId(), zoneId, location,
+                                nearMiss.getDistance(), nearMiss.isSameCell())
+                        : NearMissDetectedEvent.create(
+                                nearMiss.getRobotIdA(), nearMiss.getRobotIdB(), zoneId, location,
+                                nearMiss.getDistance(), nearMiss.isSameCell()));
+            }
+        }
+        activePairs = currentPairs;
+    }
+
+    /**
+     * 광역 근접 감지 (같은 셀 점유 + 니어미스 거리 이내)
+     * 로봇과 근무 중인 작업자(밴드 위치)를 한 번에 넣고, 작업자끼리의 쌍은 버림
+     * 광역 감지는 평면 좌표만 보므로 층이 다른 쌍(위아래로 겹친 위치)도 버림
+     * 로봇-로봇 쌍은 robotId 순, 로봇-작업자 쌍은 robotIdA에 로봇을 기록
+     */
+    private List<NearMiss> detectNearMisses() {
+        List<RobotWorker> robots = new ArrayList<>();
+        for (RobotWorker robot : world.getAllRobots()) {
+            if (hasPlanarLocation(robot.getCurrentLocation())) {
+                robots.add(robot);
+            }
+        }
+        List<Worker> workers = new ArrayList<>();
+        for (Worker worker : world.getAllWorkers()) {
+            if (worker.getStatus() != Worker.WorkerStatus.OFF_DUTY && hasPlanarLocation(worker.getCurrentLocation())) {
+                workers.add(worker);
+            }
+        }
+
+        int robotCount = robots.size();
+        int count = robotCount + workers.size();
+        if (xs.length < count) {
+            xs = new double[count];
+            ys = new double[count];
+            floors = new int[count];
+        }
+        for (int i = 0; i < count; i++) {
+            Location location = i < robotCount
+                    ? robots.get(i).getCurrentLocation()
+                    : workers.get(i - robotCount).getCurrentLocation();
+            xs[i] = location.getLongitude();
+            ys[i] = location.getLatitude();
+            floors[i] = world.floorOf(location);
+        }
+
+        double cellSize = world.getMap().getCellSize();
+        List<NearMiss> nearMisses = new ArrayList<>();
+        proximityDetector.detect(xs, ys, count, NEAR_MISS_DISTANCE, (i, j, distanceSquared) -> {
+            if ((i >= robotCount && j >= robotCount) || floors[i] != floors[j]) {
+                return;  // 작업자끼리 또는 다른 층
+            }
+            boolean sameCell = Math.floor(xs[i] / cellSize) == Math.floor(xs[j] / cellSize)
+                    && Math.floor(ys[i] / cellSize) == Math.floor(ys[j] / cellSize);
+            double distance = Math.sqrt(distanceSquared);
+
+            if (i >= robotCount || j >= robotCount) {
+                int robot = Math.min(i, j);
+                int worker = Math.max(i, j) - robotCount;
+                nearMisses.add(new NearMiss(
+                        robots.get(robot).getRobotId(), null, workers.get(worker).getWorkerId(), distance, sameCell));
+                return;
+            }
+
+            String a = robots.get(i).getRobotId();
+            String b = robots.get(j).getRobotId();
+            boolean ordered = a.compareTo(b) < 0;
+            nearMisses.add(new NearMiss(ordered ? a : b, ordered ? b : a, null, distance, sameCell));
+        });
+        return nearMisses;
+    }
+
+    private static boolean hasPlanarLocation(Location location) {
+        return location != null && location.getLatitude() != null && location.getLongitude() != null;
+    }
+
+    /**
+     * 근접 쌍 정보 (로봇-작업자 쌍이면 robotIdB 대신 workerId)
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class NearMiss {
+        private final String robotIdA;
+        private final String robotIdB;
+        private final String workerId;
+        private final double distance;
+        private final boolean sameCell;  // 같은 셀 점유 (충돌)
+
+        public boolean involvesWorker() {
+            return workerId != null;
+        }
     }
 
     /**
@@ -84,6 +268,13 @@ public class RobotBehaviorSimulator {
      * 상태에 따른 목표 구역 결정
      */
     private String getTargetZoneForState(RobotWorker robot, RobotWorker.RobotState state) {
+        return targetZoneFor(robot, state);
+    }
+
+    /**
+     * 상태 전환 시 로봇이 이동할 구역 (경로 미리 계산 등 외부에서도 사용)
+     */
+    public static String targetZoneFor(RobotWorker robot, RobotWorker.RobotState state) {
         if (state == RobotWorker.RobotState.WORKING) {
             return robot.getAssignedZoneId();  // 할당된 작업 구역
         }
@@ -94,6 +285,11 @@ public class RobotBehaviorSimulator {
      * 특정 구역으로 이동 시작
      */
     private void startMovingToZone(RobotWorker robot, String targetZoneId) {
+        if (world.getBuildingMap() != null) {
+            startMovingInBuilding(robot, world.getBuildingMap(), targetZoneId);
+            return;
+        }
+
         Zone targetZone = world.getMap().getZone(targetZoneId);
         if (targetZone == null) return;
 
@@ -110,10 +306,106 @@ public class RobotBehaviorSimulator {
         robot.setPath(path);
     }
 
+    /**
+     * 다층 건물에서 구역으로 이동 시작 (층을 넘나드는 A* 경로)
+     * 같은 목표로 이동 중이면 기존 경로 유지 (통로 통과 중인 로봇이 틱마다 다시 계획하지 않도록)
+     * 경로가 없으면 상태를 바꾸지 않음
+     */
+    private void startMovingInBuilding(RobotWorker robot, BuildingMap building, String targetZoneId) {
+        Location targetLocation = building.getZoneCenter(targetZoneId).orElse(null);
+        Location currentLocation = robot.getCurrentLocation();
+        if (targetLocation == null || currentLocation == null) return;
+
+        List<Location> plannedPath = robot.getPlannedPath();
+        if (plannedPath != null && !plannedPath.isEmpty()
+                && sameCell(building, plannedPath.get(plannedPath.size() - 1), targetLocation)) {
+            robot.changeState(RobotWorker.RobotState.MOVING);
+            return;
+        }
+
+        List<Location> path = pathFinder(building).findPath(currentLocation, targetLocation);
+        if (path.isEmpty()) return;
+
+        cancelTransit(robot);
+        robot.changeState(RobotWorker.RobotState.MOVING);
+        robot.setPath(new ArrayList<>(path.subList(1, path.size())));  // 시작 셀 제외
+    }
+
+    private MultiFloorPathFinder pathFinder(BuildingMap building) {
+        if (multiFloorPathFinder == null || multiFloorPathFinder.getBuildingMap() != building) {
+            multiFloorPathFinder = new MultiFloorPathFinder(building);
+        }
+        return multiFloorPathFinder;
+    }
+
+    private static boolean sameCell(BuildingMap building, Location a, Location b) {
+        BuildingMap.FloorCoordinate coordA = building.toFloorCoordinate(a);
+        return coordA != null && coordA.equals(building.toFloorCoordinate(b));
+    }
+
+    /**
+     * 연결 통로 통과 (계단, 엘리베이터)
+     * 진입한 틱부터 통과 시간(traversalCost / 속도, 최소 1틱) 동안 수용 인원 한 자리를 차지하고 반대편 층에 도착하면 반납
+     * 수용 인원이 다 찼으면 진입하지 못하고 대기, 통로가 중지되었으면(예: 긴급 상황의 엘리베이터) 경로를 다시 계획
+     *
+     * @return 이번 틱에 반대편 층에 도착했으면 true
+     */
+    private boolean traverseConnector(RobotWorker robot, BuildingMap building, Location from, Location to) {
+        ConnectorTransit transit = transits.get(robot.getRobotId());
+        if (transit == null) {
+            BuildingMap.FloorCoordinate fromCoord = building.toFloorCoordinate(from);
+            BuildingMap.FloorCoordinate toCoord = building.toFloorCoordinate(to);
+            FloorConnector connector = fromCoord != null && toCoord != null
+                    ? building.findEnabledConnector(fromCoord, toCoord).orElse(null)
+                    : null;
+            if (connector == null) {
+                replanInBuilding(robot, building);
+                return false;
+            }
+            if (!connector.tryEnter()) {
+                return false;
+            }
+            double speed = robot.getSpeed() != null ? robot.getSpeed() : 1.0;
+            int ticks = Math.max(1, (int) Math.ceil(connector.getTraversalCost() / speed));
+            transits.put(robot.getRobotId(), new ConnectorTransit(connector, ticks));
+            return false;
+        }
+
+        if (--transit.remainingTicks > 0) {
+            return false;
+        }
+        transits.remove(robot.getRobotId());
+        transit.connector.leave();
+        return true;
+    }
+
+    /**
+     * 남은 경로의 목적지까지 다시 계획 (경로가 없으면 경로를 비워 목표 상태로 복귀)
+     */
+    private void replanInBuilding(RobotWorker robot, BuildingMap building) {
+        List<Location> plannedPath = robot.getPlannedPath();
+        Location destination = plannedPath.get(plannedPath.size() - 1);
+        List<Location> path = pathFinder(building).findPath(robot.getCurrentLocation(), destination);
+        robot.setPath(path.isEmpty() ? new ArrayList<>() : new ArrayList<>(path.subList(1, path.size())));
+    }
+
+    /**
+     * 통로 통과를 중단하고 자리 반납 (이동 중이 아니게 되었거나 목표가 바뀐 경우)
+     */
+    private void cancelTransit(RobotWorker robot) {
+        ConnectorTransit transit = transits.remove(robot.getRobotId());
+        if (transit != null) {
+            transit.connector.leave();
+        }
+    }
+
     /**
      * 현재 상태에 따른 행동 수행
      */
     private void performBehavior(RobotWorker robot) {
+        if (robot.getState() != RobotWorker.RobotState.MOVING) {
+            cancelTransit(robot);
+        }
         switch (robot.getState()) {
             case WORKING:
                 performWorking(robot);
@@ -211,6 +503,17 @@ public class RobotBehaviorSimulator {
         Location targetLocation = robot.getPlannedPath().get(0);
         Location currentLocation = robot.getCurrentLocation();
 
+        // 다른 층으로 가는 구간은 연결 통로를 통과해야 함
+        BuildingMap building = world.getBuildingMap();
+        if (building != null && currentLocation != null
+                && building.floorOf(currentLocation) != building.floorOf(targetLocation)) {
+            if (traverseConnector(robot, building, currentLocation, targetLocation)) {
+                world.updateRobotLocation(robot.getRobotId(), targetLocation);
+                robot.getPlannedPath().remove(0);
+            }
+            return;
+        }
+
         if (currentLocation == null) {
             // 현재 위치가 없으면 목표 위치로 바로 이동
             world.updateRobotLocation(robot.getRobotId(), targetLocation);
@@ -218,8 +521,11 @@ public class RobotBehaviorSimulator {
             return;
         }
 
-        // 목표 위치까지의 거리 계산
-        double distance = currentLocation.distanceTo(targetLocation);
+        // 목표 위치까지의 거리 계산 (건물 좌표는 미터 단위 평면 좌표)
+        double distance = building != null
+                ? Math.hypot(targetLocation.getLatitude() - currentLocation.getLatitude(),
+                        targetLocation.getLongitude() - currentLocation.getLongitude())
+                : currentLocation.distanceTo(targetLocation);
         double speed = robot.getSpeed() != null ? robot.getSpeed() : 1.0;  // 기본 속도 1m/s
 
         if (distance <= speed) {
@@ -244,6 +550,7 @@ public class RobotBehaviorSimulator {
                     .latitude(newLat)
                     .longitude(newLon)
                     .altitude(currentLocation.getAltitude())
+                    .floor(currentLocation.getFloor())
                     .build();
 
             world.updateRobotLocation(robot.getRobotId(), newLocation);
@@ -276,13 +583,34 @@ public class RobotBehaviorSimulator {
      * 대피 행동
      */
     private void performEvacuating(RobotWorker robot) {
-        // 대피소로 이동
+        // 대피소로 이동 (단층 맵은 위험 구역과 거리를 두는 경로, 경로가 없으면 직선 이동)
         if (!"ZONE_H".equals(robot.getCurrentZoneId())) {
-            startMovingToZone(robot, "ZONE_H");
+            if (world.getBuildingMap() != null || !startEvacuationRoute(robot, "ZONE_H")) {
+                startMovingToZone(robot, "ZONE_H");
+            }
         }
         // 대피소에 도착하면 대기
     }
 
+    /**
+     * 위험 거리장을 가산 비용으로 쓰는 A* 대피 경로 설정
+     *
+     * @return 경로를 찾아 설정했으면 true
+     */
+    private boolean startEvacuationRoute(RobotWorker robot, String shelterZoneId) {
+        Zone shelter = world.getMap().getZone(shelterZoneId);
+        if (shelter == null || shelter.getCenterLocation() == null || robot.getCurrentLocation() == null) {
+            return false;
+        }
+
+        List<Location> path = evacuationPathFinder.findPath(robot.getCurrentLocation(), shelter.getCenterLocation());
+        if (path.isEmpty()) {
+            return false;
+        }
+        robot.setPath(new ArrayList<>(path.subList(1, path.size())));  // 시작 셀 제외
+        return true;
+    }
+
     /**
      * 건강 상태 업데이트
      */
@@ -354,4 +682,17 @@ public class RobotBehaviorSimulator {
                 .createdAt(java.time.LocalDateTime.now())
                 .build();
     }
+
+    /**
+     * 연결 통로 통과 상태
+     */
+    private static class ConnectorTransit {
+        private final FloorConnector connector;
+        private int remainingTicks;
+
+        ConnectorTransit(FloorConnector connector, int remainingTicks) {
+            this.connector = connector;
+            this.remainingTicks = remainingTicks;
+        }
+    }
 }
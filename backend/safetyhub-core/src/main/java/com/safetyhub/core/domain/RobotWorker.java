@@ -88,6 +88,31 @@ public class RobotWorker {
             return !time.isBefore(start) && !time.isAfter(end);
         }
 
+        /**
+         * from 이후 처음으로 상태가 바뀌는 시점 (같은 날 안에서, 없으면 null)
+         * 종료 시각은 포함 구간이므로 1초 뒤를 전환 시점으로 봄
+         */
+        public ScheduleTransition nextTransition(LocalTime from) {
+            RobotState current = getStateAtTime(from);
+            LocalTime[] boundaries = {
+                    workStartTime, morningBreakStart, lunchBreakStart, afternoonBreakStart,
+                    morningBreakEnd.plusSeconds(1), lunchBreakEnd.plusSeconds(1),
+                    afternoonBreakEnd.plusSeconds(1), workEndTime.plusSeconds(1)
+            };
+
+            ScheduleTransition next = null;
+            for (LocalTime boundary : boundaries) {
+                if (!boundary.isAfter(from) || (next != null && !boundary.isBefore(next.getTime()))) {
+                    continue;
+                }
+                RobotState state = getStateAtTime(boundary);
+                if (state != current) {
+                    next = new ScheduleTransition(boundary, state);
+                }
+            }
+            return next;
+        }
+
         /**
          * 기본 스케줄 생성
          */
@@ -105,6 +130,16 @@ public class RobotWorker {
         }
     }
 
+    /**
+     * 스케줄 상태 전환 (시점, 전환 후 상태)
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class ScheduleTransition {
+        private LocalTime time;
+        private RobotState state;
+    }
+
     /**
      * 건강 상태 시뮬레이션
      */
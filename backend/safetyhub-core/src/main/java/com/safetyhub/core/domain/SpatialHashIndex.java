@@ -0,0 +1,355 @@
+package com.safetyhub.core.domain;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Predicate;
+
+/**
+ * 균일 그리드 공간 해시 인덱스
+ * 이동하는 엔티티(로봇, 작업자)를 버킷 단위로 색인하여 근접 질의를 빠르게 처리
+ *
+ * 특징:
+ * - 위치 변경 시 해당 엔티티만 제자리 갱신 (버킷이 바뀔 때만 이동)
+ * - 반경/사각형 질의는 겹치는 버킷만 탐색하므로 결과 크기에 비례
+ * - k-최근접 질의는 가까운 버킷 링부터 확장 탐색
+ * - ConcurrentHashMap 기반으로 스레드 안전성 보장
+ *
+ * 좌표계는 GridMap과 동일하게 x = longitude, y = latitude (미터 단위)를 사용
+ */
+public class SpatialHashIndex {
+
+    /**
+     * 버킷 한 변의 길이 (미터)
+     */
+    @Getter
+    private final double bucketSize;
+
+    /**
+     * 버킷 키 -> 버킷 내 엔티티 ID 집합
+     */
+    private final Map<Long, Set<String>> buckets = new ConcurrentHashMap<>();
+
+    /**
+     * 엔티티 ID -> 현재 위치
+     */
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * 버킷 열/행 좌표 -> 비어있지 않은 버킷 수 (k-최근접 링 확장의 상한)
+     * 가장자리 버킷이 비면 해당 좌표가 빠지므로 범위는 현재 점유 버킷만 감쌈
+     */
+    private final ConcurrentSkipListMap<Integer, Integer> occupiedColumns = new ConcurrentSkipListMap<>();
+    private final ConcurrentSkipListMap<Integer, Integer> occupiedRows = new ConcurrentSkipListMap<>();
+
+    public SpatialHashIndex(double bucketSize) {
+        if (bucketSize <= 0) {
+            throw new IllegalArgumentException("bucketSize는 0보다 커야 합니다");
+        }
+        this.bucketSize = bucketSize;
+    }
+
+    /**
+     * 엔티티 위치 등록 또는 갱신
+     */
+    public void update(String id, double x, double y) {
+        if (id == null) {
+            return;
+        }
+        long newKey = bucketKey(bucketCoord(x), bucketCoord(y));
+
+        entries.compute(id, (k, previous) -> {
+            if (previous == null) {
+                addToBucket(newKey, id);
+            } else if (previous.bucketKey != newKey) {
+                removeFromBucket(previous.bucketKey, id);
+                addToBucket(newKey, id);
+            }
+            return new Entry(id, x, y, newKey);
+        });
+    }
+
+    /**
+     * Location 기반 위치 갱신 (위치가 없으면 인덱스에서 제거)
+     */
+    public void update(String id, Location location) {
+        if (location == null || location.getLatitude() == null || location.getLongitude() == null) {
+            remove(id);
+            return;
+        }
+        update(id, location.getLongitude(), location.getLatitude());
+    }
+
+    /**
+     * 엔티티 제거
+     */
+    public void remove(String id) {
+        if (id == null) {
+            return;
+        }
+        entries.computeIfPresent(id, (k, previous) -> {
+            removeFromBucket(previous.bucketKey, id);
+            return null;
+        });
+    }
+
+    /**
+     * 엔티티의 현재 위치 조회
+     */
+    public Optional<Entry> get(String id) {
+        return Optional.ofNullable(entries.get(id));
+    }
+
+    /**
+     * 색인된 엔티티 수
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * 전체 초기화
+     */
+    public synchronized void clear() {
+        entries.clear();
+        buckets.clear();
+        occupiedColumns.clear();
+        occupiedRows.clear();
+    }
+
+    /**
+     * 반경 내 엔티티 찾기 (예: 가스 누출 지점 5m 이내 작업자)
+     */
+    public List<String> findWithinRadius(double x, double y, double radius) {
+        if (radius < 0) {
+            return Collections.emptyList();
+        }
+
+        double radiusSquared = radius * radius;
+        List<String> result = new ArrayList<>();
+
+        int minBx = bucketCoord(x - radius);
+        int maxBx = bucketCoord(x + radius);
+        int minBy = bucketCoord(y - radius);
+        int maxBy = bucketCoord(y + radius);
+
+        for (int by = minBy; by <= maxBy; by++) {
+            for (int bx = minBx; bx <= maxBx; bx++) {
+                Set<String> bucket = buckets.get(bucketKey(bx, by));
+                if (bucket == null) continue;
+
+                for (String id : bucket) {
+                    Entry entry = entries.get(id);
+                    if (entry != null && entry.distanceSquaredTo(x, y) <= radiusSquared) {
+                        result.add(id);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 사각형 영역 내 엔티티 찾기
+     */
+    public List<String> findInRect(double minX, double minY, double maxX, double maxY) {
+        List<String> result = new ArrayList<>();
+
+        for (int by = bucketCoord(minY); by <= bucketCoord(maxY); by++) {
+            for (int bx = bucketCoord(minX); bx <= bucketCoord(maxX); bx++) {
+                Set<String> bucket = buckets.get(bucketKey(bx, by));
+                if (bucket == null) continue;
+
+                for (String id : bucket) {
+                    Entry entry = entries.get(id);
+                    if (entry != null
+                            && entry.x >= minX && entry.x <= maxX
+                            && entry.y >= minY && entry.y <= maxY) {
+                        result.add(id);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 가장 가까운 k개 엔티티 찾기 (가까운 순 정렬)
+     */
+    public List<String> findNearest(double x, double y, int k) {
+        return findNearest(x, y, k, id -> true);
+    }
+
+    /**
+     * 조건을 만족하는 가장 가까운 k개 엔티티 찾기 (예: 가장 가까운 대기 로봇)
+     *
+     * 중심 버킷부터 링 단위로 확장하며, 다음 링까지의 최소 거리가
+     * 현재 k번째 후보보다 멀어지면 탐색을 종료
+     * 탐색 중 다른 스레드가 엔티티를 옮기거나 지워도 끝나도록 링은 점유 버킷 범위까지만 확장
+     */
+    public List<String> findNearest(double x, double y, int k, Predicate<String> filter) {
+        if (k <= 0 || entries.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        // 최대 힙 (가장 먼 후보가 맨 앞)
+        PriorityQueue<Entry> candidates = new PriorityQueue<>(
+                Comparator.comparingDouble((Entry e) -> e.distanceSquaredTo(x, y)).reversed());
+
+        int cx = bucketCoord(x);
+        int cy = bucketCoord(y);
+        int visitedBuckets = 0;
+
+        for (int ring = 0; visitedBuckets < buckets.size() && ring <= maxRing(cx, cy); ring++) {
+            if (candidates.size() >= k) {
+                // 이 링에 있는 점까지의 최소 거리
+                double ringDistance = (ring - 1) * bucketSize;
+                double worst = candidates.peek().distanceSquaredTo(x, y);
+                if (ringDistance > 0 && ringDistance * ringDistance > worst) {
+                    break;
+                }
+            }
+            visitedBuckets += scanRing(cx, cy, ring, x, y, k, filter, candidates);
+        }
+
+        List<Entry> sorted = new ArrayList<>(candidates);
+        sorted.sort(Comparator.comparingDouble(e -> e.distanceSquaredTo(x, y)));
+
+        List<String> result = new ArrayList<>(sorted.size());
+        for (Entry entry : sorted) {
+            result.add(entry.id);
+        }
+        return result;
+    }
+
+    /**
+     * 조건을 만족하는 가장 가까운 엔티티 하나 찾기
+     */
+    public Optional<String> findNearestOne(double x, double y, Predicate<String> filter) {
+        List<String> nearest = findNearest(x, y, 1, filter);
+        return nearest.isEmpty() ? Optional.empty() : Optional.of(nearest.get(0));
+    }
+
+    /**
+     * 중심 버킷에서 ring 거리(체비쇼프)만큼 떨어진 버킷 테두리 탐색
+     *
+     * @return 방문한 비어있지 않은 버킷 수
+     */
+    private int scanRing(int cx, int cy, int ring, double x, double y, int k,
+                         Predicate<String> filter, PriorityQueue<Entry> candidates) {
+        int visited = 0;
+        for (int by = cy - ring; by <= cy + ring; by++) {
+            boolean edgeRow = by == cy - ring || by == cy + ring;
+            int step = edgeRow || ring == 0 ? 1 : 2 * ring;
+
+            for (int bx = cx - ring; bx <= cx + ring; bx += step) {
+                Set<String> bucket = buckets.get(bucketKey(bx, by));
+                if (bucket == null) continue;
+                visited++;
+
+                for (String id : bucket) {
+                    Entry entry = entries.get(id);
+                    if (entry == null || !filter.test(id)) continue;
+
+                    if (candidates.size() < k) {
+                        candidates.add(entry);
+                    } else if (entry.distanceSquaredTo(x, y) < candidates.peek().distanceSquaredTo(x, y)) {
+                        candidates.poll();
+                        candidates.add(entry);
+                    }
+                }
+            }
+        }
+        return visited;
+    }
+
+    /**
+     * 중심 버킷에서 점유 버킷 범위의 가장 먼 모서리까지의 링 거리 (비어 있으면 -1)
+     */
+    private int maxRing(int cx, int cy) {
+        Map.Entry<Integer, Integer> minColumn = occupiedColumns.firstEntry();
+        Map.Entry<Integer, Integer> maxColumn = occupiedColumns.lastEntry();
+        Map.Entry<Integer, Integer> minRow = occupiedRows.firstEntry();
+        Map.Entry<Integer, Integer> maxRow = occupiedRows.lastEntry();
+        if (minColumn == null || maxColumn == null || minRow == null || maxRow == null) {
+            return -1;
+        }
+        long ring = Math.max(
+                Math.max((long) cx - minColumn.getKey(), (long) maxColumn.getKey() - cx),
+                Math.max((long) cy - minRow.getKey(), (long) maxRow.getKey() - cy));
+        return (int) Math.min(Math.max(ring, 0), Integer.MAX_VALUE - 1);
+    }
+
+    /**
+     * 테스트용: 해당 위치에서 점유 버킷 범위까지의 링 거리
+     */
+    int occupiedRing(double x, double y) {
+        return maxRing(bucketCoord(x), bucketCoord(y));
+    }
+
+    private void addToBucket(long key, String id) {
+        buckets.compute(key, (k, bucket) -> {
+            Set<String> target = bucket;
+            if (target == null) {
+                target = ConcurrentHashMap.newKeySet();
+                occupiedColumns.merge((int) (k >> 32), 1, Integer::sum);
+                occupiedRows.merge((int) (long) k, 1, Integer::sum);
+            }
+            target.add(id);
+            return target;
+        });
+    }
+
+    private void removeFromBucket(long key, String id) {
+        buckets.computeIfPresent(key, (k, bucket) -> {
+            bucket.remove(id);
+            if (!bucket.isEmpty()) {
+                return bucket;
+            }
+            occupiedColumns.computeIfPresent((int) (k >> 32), (c, count) -> count > 1 ? count - 1 : null);
+            occupiedRows.computeIfPresent((int) (long) k, (r, count) -> count > 1 ? count - 1 : null);
+            return null;
+        });
+    }
+
+    private int bucketCoord(double value) {
+        return (int) Math.floor(value / bucketSize);
+    }
+
+    private static long bucketKey(int bx, int by) {
+        return ((long) bx << 32) | (by & 0xFFFFFFFFL);
+    }
+
+    /**
+     * 색인 항목 (불변)
+     */
+    @Getter
+    public static class Entry {
+        private final String id;
+        private final double x;
+        private final double y;
+        private final long bucketKey;
+
+        Entry(String id, double x, double y, long bucketKey) {
+            this.id = id;
+            this.x = x;
+            this.y = y;
+            this.bucketKey = bucketKey;
+        }
+
+        double distanceSquaredTo(double px, double py) {
+            double dx = x - px;
+            double dy = y - py;
+            return dx * dx + dy * dy;
+        }
+    }
+}
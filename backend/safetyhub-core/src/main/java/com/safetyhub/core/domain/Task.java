@@ -1,12 +1,13 @@
 package com.safetyhub.core.domain;
 
+import com.safetyhub.core.support.CoarseClock;
+import com.safetyhub.core.support.IdGenerator;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.ToString;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
-import java.util.UUID;
 
 /**
  * 작업(Task) 도메인 모델
@@ -113,12 +114,12 @@ public class Task {
      */
     public static class TaskBuilder {
         public Task build() {
-            // 기본값 설정
+            // 기본값 설정 (ID는 시간 순 UUID 형식)
             if (id == null || id.isEmpty()) {
-                id = UUID.randomUUID().toString();
+                id = IdGenerator.nextId();
             }
             if (createdAt == null) {
-                createdAt = LocalDateTime.now();
+                createdAt = CoarseClock.localDateTime();
             }
             if (status == null) {
                 status = TaskStatus.PENDING;
@@ -153,7 +154,7 @@ public class Task {
         if (assignedAt != null) {
             return Duration.between(createdAt, assignedAt).getSeconds();
         }
-        return Duration.between(createdAt, LocalDateTime.now()).getSeconds();
+        return Duration.between(createdAt, CoarseClock.localDateTime()).getSeconds();
     }
 
     /**
@@ -164,7 +165,7 @@ public class Task {
         if (startedAt == null) {
             return 0;
         }
-        LocalDateTime endTime = completedAt != null ? completedAt : LocalDateTime.now();
+        LocalDateTime endTime = completedAt != null ? completedAt : CoarseClock.localDateTime();
         return Duration.between(startedAt, endTime).getSeconds();
     }
 
@@ -173,7 +174,7 @@ public class Task {
      * @return 생성부터 완료까지의 시간 (초)
      */
     public long getTotalTimeSeconds() {
-        LocalDateTime endTime = completedAt != null ? completedAt : LocalDateTime.now();
+        LocalDateTime endTime = completedAt != null ? completedAt : CoarseClock.localDateTime();
         return Duration.between(createdAt, endTime).getSeconds();
     }
 
@@ -232,7 +233,7 @@ public class Task {
                 .targetZoneId(targetZoneId)
                 .description(description)
                 .createdAt(createdAt)
-                .assignedAt(LocalDateTime.now())
+                .assignedAt(CoarseClock.localDateTime())
                 .startedAt(startedAt)
                 .completedAt(completedAt)
                 .failureReason(failureReason)
@@ -259,7 +260,7 @@ public class Task {
                 .description(description)
                 .createdAt(createdAt)
                 .assignedAt(assignedAt)
-                .startedAt(LocalDateTime.now())
+                .startedAt(CoarseClock.localDateTime())
                 .completedAt(completedAt)
                 .failureReason(failureReason)
                 .build();
@@ -286,7 +287,7 @@ public class Task {
                 .createdAt(createdAt)
                 .assignedAt(assignedAt)
                 .startedAt(startedAt)
-                .completedAt(LocalDateTime.now())
+                .completedAt(CoarseClock.localDateTime())
                 .failureReason(failureReason)
                 .build();
     }
@@ -313,7 +314,7 @@ public class Task {
                 .createdAt(createdAt)
                 .assignedAt(assignedAt)
                 .startedAt(startedAt)
-                .completedAt(LocalDateTime.now())
+                .completedAt(CoarseClock.localDateTime())
                 .failureReason(reason)
                 .build();
     }
@@ -339,7 +340,7 @@ public class Task {
                 .createdAt(createdAt)
                 .assignedAt(assignedAt)
                 .startedAt(startedAt)
-                .completedAt(LocalDateTime.now())
+                .completedAt(CoarseClock.localDateTime())
                 .failureReason(failureReason)
                 .build();
     }
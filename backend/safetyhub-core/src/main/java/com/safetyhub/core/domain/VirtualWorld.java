@@ -20,25 +20,47 @@ public class VirtualWorld {
     private final GridMap map;
     private final Map<String, RobotWorker> robots;  // robotId -> RobotWorker
     private final Map<String, List<String>> zoneRobots;  // zoneId -> List<robotId>
+    private final SpatialHashIndex robotIndex;  // 로봇 위치 공간 색인
+    private final Map<String, Worker> workers;  // workerId -> Worker (LifeGuard Band 착용 작업자)
+    private final SpatialHashIndex workerIndex;  // 작업자 위치 공간 색인
+    private final HazardField hazardField;  // 위험 거리장 (맵 셀 변경 시 자동 갱신, 대피 경로 가산 비용)
+    private BuildingMap buildingMap;  // 다층 건물 맵 (단층이면 null)
     private WorldStatus status;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
+    /**
+     * 공간 색인 버킷 크기 (미터) - 구역 반경과 비슷한 크기로 설정
+     */
+    private static final double DEFAULT_INDEX_BUCKET_SIZE = 5.0;
+
     /**
      * 세계 상태
+     * 상태마다 엘리베이터 운영 여부를 명시 (null이면 이전 상태 유지)
      */
     public enum WorldStatus {
-        IDLE,       // 대기 중
-        RUNNING,    // 실행 중
-        PAUSED,     // 일시 정지
-        EMERGENCY,  // 긴급 상황
-        STOPPED     // 중지됨
+        IDLE(true),         // 대기 중
+        RUNNING(true),      // 실행 중
+        PAUSED(null),       // 일시 정지 (엘리베이터 상태 유지)
+        EMERGENCY(false),   // 긴급 상황 (엘리베이터 중지)
+        MAINTENANCE(false), // 설비 점검 (엘리베이터 중지)
+        STOPPED(false);     // 중지됨
+
+        private final Boolean elevatorsEnabled;
+
+        WorldStatus(Boolean elevatorsEnabled) {
+            this.elevatorsEnabled = elevatorsEnabled;
+        }
     }
 
     public VirtualWorld(GridMap map) {
         this.map = map;
         this.robots = new ConcurrentHashMap<>();
         this.zoneRobots = new ConcurrentHashMap<>();
+        this.robotIndex = new SpatialHashIndex(DEFAULT_INDEX_BUCKET_SIZE);
+        this.workers = new ConcurrentHashMap<>();
+        this.workerIndex = new SpatialHashIndex(DEFAULT_INDEX_BUCKET_SIZE);
+        this.hazardField = new HazardField(map);
         this.status = WorldStatus.IDLE;
         this.createdAt = LocalDateTime.now();
         this.updatedAt = LocalDateTime.now();
@@ -191,6 +213,7 @@ public class VirtualWorld {
     public void addRobot(RobotWorker robot) {
         if (robot != null && robot.getRobotId() != null) {
             robots.put(robot.getRobotId(), robot);
+            robotIndex.update(robot.getRobotId(), robot.getCurrentLocation());
 
             // 로봇이 속한 구역에 추가
             if (robot.getCurrentZoneId() != null) {
@@ -206,6 +229,7 @@ public class VirtualWorld {
      */
     public void removeRobot(String robotId) {
         RobotWorker robot = robots.remove(robotId);
+        robotIndex.remove(robotId);
         if (robot != null && robot.getCurrentZoneId() != null) {
             removeRobotFromZone(robotId, robot.getCurrentZoneId());
         }
@@ -240,6 +264,119 @@ public class VirtualWorld {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 특정 위치 반경 내 로봇 가져오기 (같은 층만)
+     */
+    public List<RobotWorker> findRobotsWithinRadius(Location center, double radius) {
+        int floor = floorOf(center);
+        return toRobots(robotIndex.findWithinRadius(
+                center.getLongitude(), center.getLatitude(), radius)).stream()
+                .filter(robot -> isOnFloor(robot.getCurrentLocation(), floor))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 특정 위치에서 가장 가까운 로봇 k개 가져오기 (같은 층만)
+     */
+    public List<RobotWorker> findNearestRobots(Location center, int k) {
+        int floor = floorOf(center);
+        return toRobots(robotIndex.findNearest(center.getLongitude(), center.getLatitude(), k, id -> {
+            RobotWorker robot = robots.get(id);
+            return robot != null && isOnFloor(robot.getCurrentLocation(), floor);
+        }));
+    }
+
+    /**
+     * 특정 위치에서 조건을 만족하는 가장 가까운 로봇 가져오기 (같은 층만)
+     */
+    public RobotWorker findNearestRobot(Location center, java.util.function.Predicate<RobotWorker> condition) {
+        int floor = floorOf(center);
+        return robotIndex.findNearestOne(center.getLongitude(), center.getLatitude(), id -> {
+                    RobotWorker robot = robots.get(id);
+                    return robot != null && isOnFloor(robot.getCurrentLocation(), floor) && condition.test(robot);
+                })
+                .map(robots::get)
+                .orElse(null);
+    }
+
+    private List<RobotWorker> toRobots(List<String> robotIds) {
+        return robotIds.stream()
+                .map(robots::get)
+                .filter(r -> r != null)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 위치가 속한 층 (건물이 연결되지 않은 단층 세계는 모두 0층)
+     * 공간 색인은 평면 좌표만 보므로 층이 다른 결과는 이 값으로 걸러냄
+     */
+    public int floorOf(Location location) {
+        return buildingMap != null && location != null ? buildingMap.floorOf(location) : 0;
+    }
+
+    private boolean isOnFloor(Location location, int floor) {
+        return buildingMap == null || (location != null && buildingMap.floorOf(location) == floor);
+    }
+
+    /**
+     * 작업자 추가 (밴드가 보고한 현재 위치로 색인)
+     */
+    public void addWorker(Worker worker) {
+        if (worker != null && worker.getWorkerId() != null) {
+            workers.put(worker.getWorkerId(), worker);
+            workerIndex.update(worker.getWorkerId(), worker.getCurrentLocation());
+            updatedAt = LocalDateTime.now();
+        }
+    }
+
+    /**
+     * 작업자 제거
+     */
+    public void removeWorker(String workerId) {
+        workers.remove(workerId);
+        workerIndex.remove(workerId);
+        updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 작업자 가져오기
+     */
+    public Worker getWorker(String workerId) {
+        return workers.get(workerId);
+    }
+
+    /**
+     * 모든 작업자 가져오기
+     */
+    public List<Worker> getAllWorkers() {
+        return new ArrayList<>(workers.values());
+    }
+
+    /**
+     * 작업자 위치 업데이트 (밴드 위치 보고)
+     */
+    public void updateWorkerLocation(String workerId, Location newLocation) {
+        Worker worker = workers.get(workerId);
+        if (worker == null) return;
+
+        Zone zone = newLocation == null ? null
+                : buildingMap != null ? buildingMap.findZoneAt(newLocation) : map.findZoneAt(newLocation);
+        worker.updateLocation(newLocation, zone != null ? zone.getZoneId() : null);
+        workerIndex.update(workerId, newLocation);
+        updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 특정 위치 반경 내 작업자 가져오기 (같은 층만, 예: 가스 누출 지점 5m 이내 작업자)
+     */
+    public List<Worker> findWorkersWithinRadius(Location center, double radius) {
+        int floor = floorOf(center);
+        return workerIndex.findWithinRadius(center.getLongitude(), center.getLatitude(), radius).stream()
+                .map(workers::get)
+                .filter(w -> w != null && isOnFloor(w.getCurrentLocation(), floor))
+                .collect(Collectors.toList());
+    }
+
     /**
      * 로봇을 구역에 추가
      */
@@ -268,7 +405,7 @@ public class VirtualWorld {
         if (robot == null) return;
 
         String oldZoneId = robot.getCurrentZoneId();
-        Zone newZone = map.findZoneAt(newLocation);
+        Zone newZone = buildingMap != null ? buildingMap.findZoneAt(newLocation) : map.findZoneAt(newLocation);
         String newZoneId = newZone != null ? newZone.getZoneId() : null;
 
         // 구역 변경 시 처리
@@ -282,47 +419,61 @@ public class VirtualWorld {
         }
 
         robot.updateLocation(newLocation, newZoneId);
+        robotIndex.update(robotId, newLocation);
         updatedAt = LocalDateTime.now();
     }
 
     /**
-     * 세계 상태 변경
+     * 다층 건물 맵 연결
+     * 로봇 이동 경로와 구역 조회가 층을 넘나들고, 현재 상태에 맞게 엘리베이터 운영 여부를 맞춤
+     */
+    public void attachBuilding(BuildingMap buildingMap) {
+        this.buildingMap = buildingMap;
+        applyElevatorPolicy();
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 세계 상태 변경 (상태에 정해진 대로 엘리베이터 운영/중지)
      */
     public void changeStatus(WorldStatus newStatus) {
         this.status = newStatus;
+        applyElevatorPolicy();
         this.updatedAt = LocalDateTime.now();
     }
 
+    private void applyElevatorPolicy() {
+        if (buildingMap != null && status.elevatorsEnabled != null) {
+            buildingMap.setEmergencyMode(!status.elevatorsEnabled);
+        }
+    }
+
     /**
      * 시작
      */
     public void start() {
-        this.status = WorldStatus.RUNNING;
-        this.updatedAt = LocalDateTime.now();
+        changeStatus(WorldStatus.RUNNING);
     }
 
     /**
      * 일시 정지
      */
     public void pause() {
-        this.status = WorldStatus.PAUSED;
-        this.updatedAt = LocalDateTime.now();
+        changeStatus(WorldStatus.PAUSED);
     }
 
     /**
      * 중지
      */
     public void stop() {
-        this.status = WorldStatus.STOPPED;
-        this.updatedAt = LocalDateTime.now();
+        changeStatus(WorldStatus.STOPPED);
     }
 
     /**
      * 긴급 상황 선언
      */
     public void declareEmergency() {
-        this.status = WorldStatus.EMERGENCY;
-        this.updatedAt = LocalDateTime.now();
+        changeStatus(WorldStatus.EMERGENCY);
 
         // 모든 로봇을 대피 상태로 전환
         robots.values().forEach(RobotWorker::startEvacuation);
@@ -0,0 +1,92 @@
+package com.safetyhub.core.event;
+
+import com.safetyhub.core.domain.Location;
+import com.safetyhub.core.support.CoarseClock;
+import com.safetyhub.core.support.IdGenerator;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 근접 감지 이벤트 (같은 셀 점유 또는 니어미스)
+ * 로봇-로봇 쌍은 robotIdA/robotIdB, 로봇-작업자 쌍은 robotIdA/workerId로 기록
+ * 같은 셀 점유는 충돌로 보고 우선순위를 높이고, 작업자가 관련되면 한 단계 더 높임
+ */
+@Getter
+@Builder
+public class NearMissDetectedEvent implements DomainEvent {
+
+    private final String eventId;
+    private final String robotIdA;
+    private final String robotIdB;
+    private final String workerId;
+    private final String zoneId;
+    private final Location location;
+    private final double distance;
+    private final boolean collision;
+    private final LocalDateTime occurredAt;
+
+    public static NearMissDetectedEvent create(
+            String robotIdA,
+            String robotIdB,
+            String zoneId,
+            Location location,
+            double distance,
+            boolean collision) {
+
+        return NearMissDetectedEvent.builder()
+                .eventId(IdGenerator.nextId())
+                .robotIdA(robotIdA)
+                .robotIdB(robotIdB)
+                .zoneId(zoneId)
+                .location(location)
+                .distance(distance)
+                .collision(collision)
+                .occurredAt(CoarseClock.localDateTime())
+                .build();
+    }
+
+    /**
+     * 로봇-작업자 근접 이벤트 생성
+     */
+    public static NearMissDetectedEvent createWithWorker(
+            String robotId,
+            String workerId,
+            String zoneId,
+            Location location,
+            double distance,
+            boolean collision) {
+
+        return NearMissDetectedEvent.builder()
+                .eventId(IdGenerator.nextId())
+                .robotIdA(robotId)
+                .workerId(workerId)
+                .zoneId(zoneId)
+                .location(location)
+                .distance(distance)
+                .collision(collision)
+                .occurredAt(CoarseClock.localDateTime())
+                .build();
+    }
+
+    public boolean involvesWorker() {
+        return workerId != null;
+    }
+
+    @Override
+    public String getEventType() {
+        if (involvesWorker()) {
+            return collision ? "WORKER_COLLISION_DETECTED" : "WORKER_NEAR_MISS_DETECTED";
+        }
+        return collision ? "COLLISION_DETECTED" : "NEAR_MISS_DETECTED";
+    }
+
+    @Override
+    public EventPriority getPriority() {
+        if (involvesWorker()) {
+            return collision ? EventPriority.CRITICAL : EventPriority.HIGH;
+        }
+        return collision ? EventPriority.HIGH : EventPriority.NORMAL;
+    }
+}
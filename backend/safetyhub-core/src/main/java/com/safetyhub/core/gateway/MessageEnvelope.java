@@ -1,6 +1,8 @@
 package com.safetyhub.core.gateway;
 
 import com.safetyhub.core.event.EventPriority;
+import com.safetyhub.core.support.CoarseClock;
+import com.safetyhub.core.support.IdGenerator;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.ToString;
@@ -8,7 +10,6 @@ import lombok.ToString;
 import java.time.Instant;
 import java.util.Map;
 import java.util.Objects;
-import java.util.UUID;
 
 /**
  * 통합 메시지 봉투 (Envelope)
@@ -138,14 +139,14 @@ public class MessageEnvelope {
                 );
             }
 
-            // messageId 자동 생성 (없을 경우)
+            // messageId 자동 생성 (없을 경우, 시간 순 UUID 형식)
             if (messageId == null) {
-                messageId = UUID.randomUUID().toString();
+                messageId = IdGenerator.nextId();
             }
 
-            // timestamp 자동 생성 (없을 경우)
+            // timestamp 자동 생성 (없을 경우, 1ms 단위 캐시 시계)
             if (timestamp == null) {
-                timestamp = Instant.now();
+                timestamp = CoarseClock.instant();
             }
 
             return new MessageEnvelope(
@@ -172,7 +173,7 @@ public class MessageEnvelope {
      */
     public MessageEnvelope createResponse(byte[] responsePayload) {
         return MessageEnvelope.builder()
-            .messageId(UUID.randomUUID().toString())
+            .messageId(IdGenerator.nextId())
             .correlationId(this.messageId) // 원본 messageId를 correlationId로
             .messageType(MessageType.RESPONSE)
             .protocol(this.protocol)
@@ -0,0 +1,84 @@
+package com.safetyhub.core.support;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 거친(coarse) 시계
+ *
+ * 백그라운드 데몬 스레드가 1ms마다 현재 시각을 갱신하고, 호출자는 캐시된 값을 읽기만 함
+ * - Instant.now() / LocalDateTime.now()와 달리 호출마다 객체 생성이나 시간대 변환이 없음
+ * - 정밀도는 약 1ms (메시지/이벤트 타임스탬프 용도)
+ * - 시스템 시계가 뒤로 가도 값은 줄어들지 않음 (단조 증가)
+ *
+ * 갱신 스레드는 처음 사용할 때 시작됨
+ */
+public final class CoarseClock {
+
+    private static final long TICK_NANOS = 1_000_000L;
+
+    private CoarseClock() {
+    }
+
+    /**
+     * 현재 시각 (epoch 밀리초)
+     */
+    public static long currentTimeMillis() {
+        return Ticker.INSTANCE.snapshot.millis;
+    }
+
+    /**
+     * 현재 시각 (UTC Instant)
+     */
+    public static Instant instant() {
+        return Ticker.INSTANCE.snapshot.instant;
+    }
+
+    /**
+     * 현재 시각 (시스템 기본 시간대 LocalDateTime)
+     */
+    public static LocalDateTime localDateTime() {
+        return Ticker.INSTANCE.snapshot.localDateTime;
+    }
+
+    /**
+     * 한 시점의 값 묶음 (세 값이 항상 같은 시각을 가리키도록 한 번에 교체)
+     */
+    private record Snapshot(long millis, Instant instant, LocalDateTime localDateTime) {
+
+        static Snapshot of(long millis, ZoneId zone) {
+            Instant instant = Instant.ofEpochMilli(millis);
+            return new Snapshot(millis, instant, LocalDateTime.ofInstant(instant, zone));
+        }
+    }
+
+    /**
+     * 갱신 스레드 (클래스 지연 초기화로 처음 사용할 때 시작)
+     */
+    private static final class Ticker implements Runnable {
+
+        private static final Ticker INSTANCE = new Ticker();
+
+        private final ZoneId zone = ZoneId.systemDefault();
+        private volatile Snapshot snapshot = Snapshot.of(System.currentTimeMillis(), zone);
+
+        private Ticker() {
+            Thread thread = new Thread(this, "coarse-clock");
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        @Override
+        public void run() {
+            while (true) {
+                LockSupport.parkNanos(TICK_NANOS);
+                long now = System.currentTimeMillis();
+                if (now > snapshot.millis) {
+                    snapshot = Snapshot.of(now, zone);
+                }
+            }
+        }
+    }
+}
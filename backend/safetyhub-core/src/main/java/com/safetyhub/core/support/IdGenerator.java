@@ -0,0 +1,67 @@
+package com.safetyhub.core.support;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 시간 순 128비트 ID 생성기
+ *
+ * UUID.randomUUID()는 호출마다 SecureRandom을 거쳐 경합이 생기므로
+ * 스레드별 카운터와 CoarseClock으로 UUID 버전 7 형식의 ID를 만듦
+ *
+ * 비트 구성 (RFC 9562 UUIDv7 호환):
+ * - 상위 48비트: epoch 밀리초 (CoarseClock)
+ * - 4비트: 버전 (7)
+ * - 42비트: 스레드별 순번 (12비트 + 변형 2비트 뒤 30비트)
+ * - 하위 32비트: 스레드별 임의 값 (스레드 간 충돌 방지)
+ *
+ * 같은 스레드에서 만든 ID는 항상 증가하고, 스레드가 달라도 밀리초 단위로는 시간 순으로 정렬됨
+ * 문자열은 표준 UUID 형식이므로 기존에 UUID 문자열을 받던 쪽은 그대로 사용 가능
+ */
+public final class IdGenerator {
+
+    private static final long VERSION_7 = 0x7000L;
+    private static final long VARIANT_RFC = 0x8000_0000_0000_0000L;
+    private static final long SEQUENCE_LOW_MASK = (1L << 30) - 1;
+
+    private static final ThreadLocal<ThreadState> STATE = ThreadLocal.withInitial(ThreadState::new);
+
+    private IdGenerator() {
+    }
+
+    /**
+     * 다음 ID (UUID)
+     */
+    public static UUID nextUuid() {
+        ThreadState state = STATE.get();
+        long sequence = state.sequence++;
+        long millis = CoarseClock.currentTimeMillis();
+
+        long mostSigBits = (millis << 16) | VERSION_7 | ((sequence >>> 30) & 0xFFFL);
+        long leastSigBits = VARIANT_RFC | ((sequence & SEQUENCE_LOW_MASK) << 32) | state.node;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    /**
+     * 다음 ID (표준 UUID 문자열)
+     */
+    public static String nextId() {
+        return nextUuid().toString();
+    }
+
+    /**
+     * ID에 기록된 생성 시각 (epoch 밀리초)
+     */
+    public static long timestampOf(UUID id) {
+        return id.getMostSignificantBits() >>> 16;
+    }
+
+    /**
+     * 스레드별 상태
+     * 순번은 41비트 범위의 임의 값에서 시작하므로 42비트를 넘기 전까지 최소 2^41개를 만들 수 있음
+     */
+    private static final class ThreadState {
+        private final long node = ThreadLocalRandom.current().nextLong() & 0xFFFF_FFFFL;
+        private long sequence = ThreadLocalRandom.current().nextLong(1L << 41);
+    }
+}
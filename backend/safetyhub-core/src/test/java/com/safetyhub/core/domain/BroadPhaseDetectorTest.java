@@ -0,0 +1,121 @@
+package com.safetyhub.core.domain;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * BroadPhaseDetector 테스트
+ */
+class BroadPhaseDetectorTest {
+
+    private BroadPhaseDetector detector;
+
+    @BeforeEach
+    void setUp() {
+        detector = new BroadPhaseDetector();
+    }
+
+    @Test
+    @DisplayName("같은 위치와 반경 이내 쌍 감지")
+    void testDetectPairs() {
+        double[] xs = {0.0, 0.0, 0.8, 10.0};
+        double[] ys = {0.0, 0.0, 0.0, 10.0};
+        Set<String> pairs = new HashSet<>();
+
+        int count = detector.detect(xs, ys, 4, 1.0, (i, j, d) -> pairs.add(key(i, j)));
+
+        assertEquals(3, count);
+        assertEquals(Set.of("0-1", "0-2", "1-2"), pairs);
+    }
+
+    @Test
+    @DisplayName("엔티티가 하나 이하이면 쌍 없음")
+    void testNoPairsForSingleEntity() {
+        assertEquals(0, detector.detect(new double[]{1.0}, new double[]{1.0}, 1, 5.0, (i, j, d) -> fail()));
+    }
+
+    @Test
+    @DisplayName("감지 결과가 전수 비교와 일치")
+    void testMatchesBruteForce() {
+        Random random = new Random(7);
+        int n = 2000;
+        double[] xs = new double[n];
+        double[] ys = new double[n];
+        for (int i = 0; i < n; i++) {
+            xs[i] = random.nextInt(100);
+            ys[i] = random.nextInt(50);
+        }
+
+        Set<String> detected = new HashSet<>();
+        detector.detect(xs, ys, n, 1.5, (i, j, d) -> assertTrue(detected.add(key(i, j))));
+
+        Set<String> expected = new HashSet<>();
+        for (int i = 0; i < n; i++) {
+            for (int j = i + 1; j < n; j++) {
+                double dx = xs[i] - xs[j];
+                double dy = ys[i] - ys[j];
+                if (dx * dx + dy * dy <= 1.5 * 1.5) {
+                    expected.add(key(i, j));
+                }
+            }
+        }
+
+        assertEquals(expected, detected);
+    }
+
+    @Test
+    @DisplayName("일직선 배치에서도 정상 동작")
+    void testCollinearEntities() {
+        int n = 1000;
+        double[] xs = new double[n];
+        double[] ys = new double[n];
+        for (int i = 0; i < n; i++) {
+            xs[i] = i * 1000.0;
+        }
+
+        assertEquals(0, detector.detect(xs, ys, n, 1.0, (i, j, d) -> fail()));
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("10,000개 엔티티 감지가 틱당 2ms 이내")
+    void testPerformance() {
+        Random random = new Random(42);
+        int n = 10_000;
+        double[] xs = new double[n];
+        double[] ys = new double[n];
+        for (int i = 0; i < n; i++) {
+            xs[i] = random.nextDouble() * 500;
+            ys[i] = random.nextDouble() * 500;
+        }
+
+        // 워밍업
+        for (int i = 0; i < 200; i++) {
+            detector.detect(xs, ys, n, 1.5, (a, b, d) -> { });
+        }
+
+        // 10틱 묶음 평균 중 가장 빠른 값으로 판정 (공유 장비의 일시적인 지연을 거름)
+        double bestAvgMs = Double.MAX_VALUE;
+        for (int round = 0; round < 10; round++) {
+            long start = System.nanoTime();
+            for (int i = 0; i < 10; i++) {
+                detector.detect(xs, ys, n, 1.5, (a, b, d) -> { });
+            }
+            bestAvgMs = Math.min(bestAvgMs, (System.nanoTime() - start) / 1_000_000.0 / 10);
+        }
+
+        assertTrue(bestAvgMs < 2.0, "틱당 감지 시간: " + bestAvgMs + "ms");
+    }
+
+    private static String key(int i, int j) {
+        return Math.min(i, j) + "-" + Math.max(i, j);
+    }
+}
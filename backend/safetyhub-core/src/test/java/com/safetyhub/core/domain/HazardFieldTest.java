@@ -0,0 +1,173 @@
+package com.safetyhub.core.domain;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * HazardField (위험 거리장) 테스트
+ */
+class HazardFieldTest {
+
+    private static final double MAX_DISTANCE = 8.0;
+
+    private GridMap gridMap;
+
+    @BeforeEach
+    void setUp() {
+        gridMap = GridMap.createDefault();
+    }
+
+    @Test
+    @DisplayName("위험 셀까지의 거리 계산")
+    void testDistanceToNearestHazard() {
+        gridMap.setCellType(10, 10, GridMap.CellType.DANGER_ZONE);
+        HazardField field = new HazardField(gridMap, MAX_DISTANCE, 5.0);
+
+        assertEquals(0.0, field.distanceAt(10, 10));
+        assertEquals(3.0, field.distanceAt(13, 10), 1e-9);
+        assertEquals(5.0, field.distanceAt(13, 14), 1e-9);
+        assertEquals(Double.POSITIVE_INFINITY, field.distanceAt(30, 30));
+
+        assertEquals(5.0, field.penaltyAt(10, 10), 1e-9);
+        assertEquals(0.0, field.penaltyAt(30, 30));
+        assertTrue(field.penaltyAt(11, 10) > field.penaltyAt(14, 10));
+    }
+
+    @Test
+    @DisplayName("무작위 위험 배치에서 브루트포스 거리와 일치")
+    void testMatchesBruteForce() {
+        Random random = new Random(11);
+        for (int i = 0; i < 30; i++) {
+            gridMap.setCellType(random.nextInt(50), random.nextInt(50), GridMap.CellType.DANGER_ZONE);
+        }
+        HazardField field = new HazardField(gridMap, MAX_DISTANCE, 1.0);
+
+        assertMatchesBruteForce(field);
+    }
+
+    @Test
+    @DisplayName("위험 추가/제거 후 증분 갱신 결과가 전체 재계산과 같음")
+    void testIncrementalUpdate() {
+        Random random = new Random(3);
+        HazardField field = new HazardField(gridMap, MAX_DISTANCE, 1.0);
+        List<int[]> hazards = new ArrayList<>();
+
+        for (int step = 0; step < 200; step++) {
+            if (hazards.isEmpty() || random.nextDouble() < 0.6) {
+                int[] cell = {random.nextInt(50), random.nextInt(50)};
+                gridMap.setCellType(cell[0], cell[1], GridMap.CellType.DANGER_ZONE);
+                field.refresh(cell[0], cell[1]);
+                hazards.add(cell);
+            } else {
+                int[] cell = hazards.remove(random.nextInt(hazards.size()));
+                gridMap.setCellType(cell[0], cell[1], GridMap.CellType.EMPTY);
+                field.refresh(cell[0], cell[1]);
+            }
+        }
+
+        assertMatchesBruteForce(field);
+    }
+
+    @Test
+    @DisplayName("변경이 있을 때만 버전 증가")
+    void testVersion() {
+        HazardField field = new HazardField(gridMap, MAX_DISTANCE, 1.0);
+        long version = field.getVersion();
+
+        field.refresh(5, 5);  // 변경 없음
+        assertEquals(version, field.getVersion());
+
+        gridMap.setCellType(5, 5, GridMap.CellType.DANGER_ZONE);
+        field.refresh(5, 5);
+        assertEquals(version + 1, field.getVersion());
+        assertTrue(field.isHazard(5, 5));
+    }
+
+    @Test
+    @DisplayName("GridMap 셀 변경 시 자동 갱신, 해제 후에는 갱신하지 않음")
+    void testRefreshOnCellChange() {
+        HazardField field = new HazardField(gridMap, MAX_DISTANCE, 1.0);
+
+        gridMap.setCellType(20, 20, GridMap.CellType.DANGER_ZONE);
+        assertTrue(field.isHazard(20, 20));
+        assertEquals(2.0, field.distanceAt(22, 20), 1e-9);
+
+        gridMap.setCellType(20, 20, GridMap.CellType.EMPTY);
+        assertFalse(field.isHazard(20, 20));
+        assertEquals(Double.POSITIVE_INFINITY, field.distanceAt(22, 20));
+
+        field.detach();
+        gridMap.setCellType(20, 20, GridMap.CellType.DANGER_ZONE);
+        assertFalse(field.isHazard(20, 20));
+    }
+
+    @Test
+    @DisplayName("맵 밖 좌표는 위험 셀이 아니며 거리는 무한대")
+    void testOutOfBounds() {
+        HazardField field = new HazardField(gridMap, MAX_DISTANCE, 1.0);
+
+        assertEquals(Double.POSITIVE_INFINITY, field.distanceAt(-1, 0));
+        assertEquals(Double.POSITIVE_INFINITY, field.distanceAt(50, 10));
+        assertEquals(0.0, field.penaltyAt(-1, 0));
+        assertFalse(field.isHazard(-1, 0));
+    }
+
+    @Test
+    @DisplayName("위험 가산 비용을 사용하면 위험 구역에서 떨어진 경로 선택")
+    void testPathFinderKeepsClearance() {
+        // 위험 구역 (가스 누출) - 통과 가능하지만 피해야 함
+        for (int y = 20; y <= 22; y++) {
+            for (int x = 24; x <= 26; x++) {
+                gridMap.setCellType(x, y, GridMap.CellType.DANGER_ZONE);
+            }
+        }
+        HazardField field = new HazardField(gridMap, MAX_DISTANCE, 5.0);
+
+        Location start = Location.builder().latitude(10.0).longitude(25.0).build();
+        Location goal = Location.builder().latitude(32.0).longitude(25.0).build();
+
+        List<Location> plain = new PathFinder(gridMap).findPath(start, goal);
+        List<Location> safe = new PathFinder(gridMap, null, field).findPath(start, goal);
+
+        assertFalse(safe.isEmpty());
+        assertTrue(minClearance(plain, field) < 1.0);
+        assertTrue(minClearance(safe, field) >= 3.0);
+    }
+
+    private double minClearance(List<Location> path, HazardField field) {
+        double min = Double.POSITIVE_INFINITY;
+        for (Location location : path) {
+            GridMap.GridCoordinate coord = gridMap.toGridCoordinate(location);
+            min = Math.min(min, field.distanceAt(coord.getX(), coord.getY()));
+        }
+        return min;
+    }
+
+    private void assertMatchesBruteForce(HazardField field) {
+        for (int y = 0; y < 50; y++) {
+            for (int x = 0; x < 50; x++) {
+                double expected = Double.POSITIVE_INFINITY;
+                for (int hy = 0; hy < 50; hy++) {
+                    for (int hx = 0; hx < 50; hx++) {
+                        if (gridMap.getCellType(hx, hy) == GridMap.CellType.DANGER_ZONE) {
+                            expected = Math.min(expected, Math.hypot(hx - x, hy - y));
+                        }
+                    }
+                }
+                if (expected >= MAX_DISTANCE) {
+                    assertEquals(Double.POSITIVE_INFINITY, field.distanceAt(x, y), "(" + x + "," + y + ")");
+                } else {
+                    // 전파 방식 거리 변환은 드물게 약간 큰 값을 낼 수 있음
+                    assertEquals(expected, field.distanceAt(x, y), 0.25, "(" + x + "," + y + ")");
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.safetyhub.core.domain;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * LandmarkHeuristic (ALT 하한) 테스트
+ */
+class LandmarkHeuristicTest {
+
+    private GridMap gridMap;
+
+    /**
+     * 50x50 맵에 x=25 세로 벽 (y=0..44), 아래쪽 5칸만 통로
+     */
+    @BeforeEach
+    void setUp() {
+        gridMap = GridMap.createDefault();
+        for (int y = 0; y < 45; y++) {
+            gridMap.setCellType(25, y, GridMap.CellType.OBSTACLE);
+        }
+    }
+
+    @Test
+    @DisplayName("하한은 실제 최단 거리를 넘지 않음 (admissible)")
+    void testLowerBoundIsAdmissible() {
+        LandmarkHeuristic heuristic = LandmarkHeuristic.build(gridMap, 8);
+        Random random = new Random(7);
+
+        for (int i = 0; i < 50; i++) {
+            int sx = random.nextInt(50);
+            int sy = random.nextInt(50);
+            if (!gridMap.isWalkable(sx, sy)) continue;
+
+            int[] exact = bfs(sx, sy);
+            for (int j = 0; j < 50; j++) {
+                int gx = random.nextInt(50);
+                int gy = random.nextInt(50);
+                if (!gridMap.isWalkable(gx, gy)) continue;
+
+                double bound = heuristic.lowerBound(sx, sy, gx, gy);
+                assertTrue(bound <= exact[gy * 50 + gx],
+                        "하한 초과: (" + sx + "," + sy + ") -> (" + gx + "," + gy + ")");
+                assertTrue(bound >= Math.abs(sx - gx) + Math.abs(sy - gy));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("벽을 돌아가야 하는 경우 맨해튼보다 타이트한 하한")
+    void testTighterThanManhattan() {
+        LandmarkHeuristic heuristic = LandmarkHeuristic.build(gridMap, 8);
+
+        // 벽 양쪽 (맨해튼 2, 실제 약 90)
+        double bound = heuristic.lowerBound(24, 0, 26, 0);
+        int exact = bfs(24, 0)[26];
+
+        assertTrue(bound > 2);
+        assertTrue(bound <= exact);
+    }
+
+    @Test
+    @DisplayName("연결되지 않은 영역은 무한대")
+    void testUnreachableIsInfinite() {
+        // 통로 막기 -> 좌우 분리
+        for (int y = 45; y < 50; y++) {
+            gridMap.setCellType(25, y, GridMap.CellType.OBSTACLE);
+        }
+        LandmarkHeuristic heuristic = LandmarkHeuristic.build(gridMap, 4);
+
+        assertEquals(Double.POSITIVE_INFINITY, heuristic.lowerBound(10, 10, 40, 10));
+        assertTrue(Double.isFinite(heuristic.lowerBound(10, 10, 20, 20)));
+    }
+
+    @Test
+    @DisplayName("이동 시간 하한 계산")
+    void testLowerBoundTravelTime() {
+        LandmarkHeuristic heuristic = LandmarkHeuristic.build(gridMap, 8);
+        Location start = Location.builder().latitude(5.0).longitude(5.0).build();
+        Location goal = Location.builder().latitude(5.0).longitude(15.0).build();
+
+        // 장애물 없는 직선 10칸, 셀 1m, 2m/s
+        assertEquals(10.0, heuristic.lowerBoundDistance(start, goal), 1e-9);
+        assertEquals(5.0, heuristic.lowerBoundTravelTime(start, goal, 2.0), 1e-9);
+    }
+
+    @Test
+    @DisplayName("랜드마크 휴리스틱을 사용해도 같은 길이의 최단 경로")
+    void testPathFinderWithLandmarks() {
+        LandmarkHeuristic heuristic = LandmarkHeuristic.build(gridMap, 8);
+        PathFinder plain = new PathFinder(gridMap);
+        PathFinder alt = new PathFinder(gridMap, heuristic);
+
+        Location start = Location.builder().latitude(10.0).longitude(20.0).build();
+        Location goal = Location.builder().latitude(10.0).longitude(30.0).build();
+
+        List<Location> plainPath = plain.findPath(start, goal);
+        List<Location> altPath = alt.findPath(start, goal);
+
+        assertFalse(altPath.isEmpty());
+        assertEquals(plainPath.size(), altPath.size());
+    }
+
+    @Test
+    @DisplayName("잘못된 랜드마크 수")
+    void testInvalidLandmarkCount() {
+        assertThrows(IllegalArgumentException.class, () -> LandmarkHeuristic.build(gridMap, 0));
+    }
+
+    /**
+     * 검증용 BFS (4방향, 셀당 비용 1)
+     */
+    private int[] bfs(int sx, int sy) {
+        int[] dist = new int[50 * 50];
+        Arrays.fill(dist, Integer.MAX_VALUE);
+        dist[sy * 50 + sx] = 0;
+
+        ArrayDeque<int[]> queue = new ArrayDeque<>();
+        queue.add(new int[]{sx, sy});
+        int[][] directions = {{0, 1}, {1, 0}, {0, -1}, {-1, 0}};
+        while (!queue.isEmpty()) {
+            int[] cell = queue.poll();
+            for (int[] dir : directions) {
+                int nx = cell[0] + dir[0];
+                int ny = cell[1] + dir[1];
+                if (!gridMap.isWalkable(nx, ny) || dist[ny * 50 + nx] != Integer.MAX_VALUE) continue;
+                dist[ny * 50 + nx] = dist[cell[1] * 50 + cell[0]] + 1;
+                queue.add(new int[]{nx, ny});
+            }
+        }
+        return dist;
+    }
+}
@@ -0,0 +1,200 @@
+package com.safetyhub.core.domain;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * MapSnapshotManager (맵 스냅샷 교체) 테스트
+ */
+class MapSnapshotManagerTest {
+
+    private static final int WALL_ROWS = 45;  // y=0..44 벽, 45..49 통로
+
+    private MapSnapshotManager manager;
+
+    /**
+     * 버전 v의 맵은 x = 5 + (v - 1) % 40 열에만 벽이 있음
+     */
+    @BeforeEach
+    void setUp() {
+        GridMap map = GridMap.createDefault();
+        setWall(map, 5, GridMap.CellType.OBSTACLE);
+        map.addZone(Zone.builder()
+                .zoneId("ZONE_A")
+                .type(Zone.ZoneType.WORK_AREA)
+                .centerLocation(Location.builder().latitude(40.0).longitude(45.0).build())
+                .radius(3.0)
+                .build());
+        manager = new MapSnapshotManager(map, 4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        manager.close();
+    }
+
+    @Test
+    @DisplayName("맵 변경 후 새 버전으로 교체되고 이전 스냅샷은 그대로 유지")
+    void testUpdateSwapsSnapshot() throws Exception {
+        MapSnapshot before = manager.current();
+
+        MapSnapshot after = manager.update(this::moveWall).get(5, TimeUnit.SECONDS);
+
+        assertEquals(1, before.getVersion());
+        assertEquals(2, after.getVersion());
+        assertSame(after, manager.current());
+        assertFalse(before.isWalkable(5, 0));
+        assertTrue(before.isWalkable(6, 0));
+        assertTrue(after.isWalkable(5, 0));
+        assertFalse(after.isWalkable(6, 0));
+    }
+
+    @Test
+    @DisplayName("구역 래스터와 랜드마크가 스냅샷과 함께 계산됨")
+    void testDerivedStructures() {
+        MapSnapshot snapshot = manager.current();
+
+        assertEquals("ZONE_A", snapshot.zoneIdAt(45, 40));
+        assertEquals("ZONE_A", snapshot.zoneIdAt(47, 40));
+        assertNull(snapshot.zoneIdAt(10, 10));
+        assertTrue(snapshot.getLandmarks().getLandmarkCount() > 0);
+
+        // 벽을 돌아가는 경로 (맨해튼 2, 실제 90 이상)
+        assertTrue(snapshot.getLandmarks().lowerBound(4, 0, 6, 0) > 2);
+    }
+
+    @Test
+    @DisplayName("위험 구역이 추가된 버전의 스냅샷 경로는 위험 구역과 거리를 둠")
+    void testSnapshotPathKeepsHazardClearance() throws Exception {
+        Location start = Location.builder().latitude(10.0).longitude(30.0).build();
+        Location goal = Location.builder().latitude(30.0).longitude(30.0).build();
+
+        MapSnapshot after = manager.update(map -> {
+            for (int y = 19; y <= 21; y++) {
+                for (int x = 29; x <= 31; x++) {
+                    map.setCellType(x, y, GridMap.CellType.DANGER_ZONE);
+                }
+            }
+        }).get(5, TimeUnit.SECONDS);
+
+        List<Location> path = after.findPath(start, goal);
+        assertFalse(path.isEmpty());
+        double minClearance = Double.POSITIVE_INFINITY;
+        for (Location location : path) {
+            GridMap.GridCoordinate coord = after.toGridCoordinate(location);
+            minClearance = Math.min(minClearance, after.hazardDistanceAt(coord.getX(), coord.getY()));
+        }
+        assertTrue(minClearance >= 2.0, "최소 거리: " + minClearance);
+        assertEquals(Double.POSITIVE_INFINITY, after.hazardDistanceAt(-1, 0));
+    }
+
+    @Test
+    @DisplayName("리스너는 새 스냅샷 배포 후 호출")
+    void testListener() throws Exception {
+        List<Long> versions = new CopyOnWriteArrayList<>();
+        manager.addListener(snapshot -> {
+            assertSame(snapshot, manager.current());
+            versions.add(snapshot.getVersion());
+        });
+
+        manager.update(this::moveWall);
+        manager.update(this::moveWall).get(5, TimeUnit.SECONDS);
+
+        assertEquals(List.of(2L, 3L), versions);
+    }
+
+    @Test
+    @DisplayName("동시 읽기 중 교체 - 찢어진 읽기 없음, 진행 중 탐색은 이전 버전으로 완료")
+    void testConcurrentReadersSeeConsistentSnapshots() throws Exception {
+        int readers = 4;
+        int updates = 60;
+        ExecutorService pool = Executors.newFixedThreadPool(readers);
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicLong checks = new AtomicLong();
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int r = 0; r < readers; r++) {
+            futures.add(pool.submit(() -> {
+                long lastVersion = 0;
+                Location start = Location.builder().latitude(10.0).longitude(1.0).build();
+                Location goal = Location.builder().latitude(10.0).longitude(48.0).build();
+
+                while (running.get()) {
+                    MapSnapshot snapshot = manager.current();
+                    assertTrue(snapshot.getVersion() >= lastVersion, "버전이 역행함");
+                    lastVersion = snapshot.getVersion();
+
+                    // 모든 셀이 같은 버전의 패턴과 일치해야 함
+                    int wallX = wallColumn(snapshot.getVersion());
+                    for (int y = 0; y < 50; y++) {
+                        for (int x = 0; x < 50; x++) {
+                            boolean expectedWall = x == wallX && y < WALL_ROWS;
+                            assertEquals(expectedWall, !snapshot.isWalkable(x, y),
+                                    "v" + snapshot.getVersion() + " (" + x + "," + y + ")");
+                        }
+                    }
+
+                    // 탐색 도중 교체되어도 경로는 시작 시점의 스냅샷 기준으로 유효
+                    List<Location> path = snapshot.findPath(start, goal);
+                    assertFalse(path.isEmpty());
+                    for (Location location : path) {
+                        GridMap.GridCoordinate coord = snapshot.toGridCoordinate(location);
+                        assertTrue(snapshot.isWalkable(coord.getX(), coord.getY()));
+                    }
+                    checks.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+
+        CompletableFuture<MapSnapshot> last = null;
+        for (int i = 0; i < updates; i++) {
+            last = manager.update(this::moveWall);
+            Thread.sleep(1);
+        }
+        last.get(10, TimeUnit.SECONDS);
+        running.set(false);
+
+        for (Future<?> future : futures) {
+            future.get(10, TimeUnit.SECONDS);  // 읽기 스레드의 assert 실패는 여기서 전파됨
+        }
+        pool.shutdown();
+
+        assertEquals(updates + 1, manager.getVersion());
+        assertTrue(checks.get() > 0);
+    }
+
+    private static int wallColumn(long version) {
+        return 5 + (int) ((version - 1) % 40);
+    }
+
+    /**
+     * 벽을 오른쪽으로 한 열 이동 (45열 다음은 5열)
+     */
+    private void moveWall(GridMap map) {
+        int current = -1;
+        for (int x = 0; x < map.getWidth() && current < 0; x++) {
+            if (!map.isWalkable(x, 0)) {
+                current = x;
+            }
+        }
+        setWall(map, current, GridMap.CellType.EMPTY);
+        setWall(map, current == 44 ? 5 : current + 1, GridMap.CellType.OBSTACLE);
+    }
+
+    private static void setWall(GridMap map, int x, GridMap.CellType type) {
+        for (int y = 0; y < WALL_ROWS; y++) {
+            map.setCellType(x, y, type);
+        }
+    }
+}
@@ -0,0 +1,311 @@
+package com.safetyhub.core.domain;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 다층 건물 맵 / 경로 탐색 테스트
+ */
+class MultiFloorPathFinderTest {
+
+    private BuildingMap building;
+    private MultiFloorPathFinder pathFinder;
+
+    /**
+     * 0층: 30x30, 1층: 10x10 (층마다 크기가 다름)
+     * 엘리베이터 (8,8) 비용 3, 계단 (1,1) 비용 6
+     */
+    @BeforeEach
+    void setUp() {
+        building = new BuildingMap(4.0);
+        building.addFloor(0, createFloor(30, 30));
+        building.addFloor(1, createFloor(10, 10));
+
+        building.addConnector(FloorConnector.builder()
+                .connectorId("ELEVATOR-1")
+                .type(FloorConnector.ConnectorType.ELEVATOR)
+                .floorA(0).cellA(new GridMap.GridCoordinate(8, 8))
+                .floorB(1).cellB(new GridMap.GridCoordinate(8, 8))
+                .traversalCost(3.0)
+                .capacity(4)
+                .build());
+        building.addConnector(FloorConnector.builder()
+                .connectorId("STAIRS-1")
+                .type(FloorConnector.ConnectorType.STAIRS)
+                .floorA(0).cellA(new GridMap.GridCoordinate(1, 1))
+                .floorB(1).cellB(new GridMap.GridCoordinate(1, 1))
+                .traversalCost(6.0)
+                .capacity(20)
+                .build());
+
+        pathFinder = new MultiFloorPathFinder(building);
+    }
+
+    @Test
+    @DisplayName("같은 층 내 경로")
+    void testSameFloorPath() {
+        List<BuildingMap.FloorCoordinate> path = pathFinder.findPath(
+                new BuildingMap.FloorCoordinate(0, 2, 2),
+                new BuildingMap.FloorCoordinate(0, 12, 7));
+
+        assertEquals(16, path.size());  // 맨해튼 15 + 시작점
+        assertTrue(path.stream().allMatch(c -> c.getFloor() == 0));
+    }
+
+    @Test
+    @DisplayName("평상시에는 엘리베이터로 층 이동")
+    void testUsesElevatorNormally() {
+        List<BuildingMap.FloorCoordinate> path = pathFinder.findPath(
+                new BuildingMap.FloorCoordinate(0, 8, 9),
+                new BuildingMap.FloorCoordinate(1, 8, 7));
+
+        assertEquals(List.of(
+                new BuildingMap.FloorCoordinate(0, 8, 9),
+                new BuildingMap.FloorCoordinate(0, 8, 8),
+                new BuildingMap.FloorCoordinate(1, 8, 8),
+                new BuildingMap.FloorCoordinate(1, 8, 7)), path);
+    }
+
+    @Test
+    @DisplayName("긴급 모드에서는 엘리베이터 대신 계단 사용")
+    void testEmergencyAvoidsElevator() {
+        building.setEmergencyMode(true);
+
+        List<BuildingMap.FloorCoordinate> path = pathFinder.findPath(
+                new BuildingMap.FloorCoordinate(0, 8, 9),
+                new BuildingMap.FloorCoordinate(1, 8, 7));
+
+        assertFalse(path.isEmpty());
+        int stairsIndex = path.indexOf(new BuildingMap.FloorCoordinate(0, 1, 1));
+        assertTrue(stairsIndex >= 0);
+        assertEquals(new BuildingMap.FloorCoordinate(1, 1, 1), path.get(stairsIndex + 1));
+        assertEquals(1, path.stream().filter(c -> c.getFloor() == 1).findFirst()
+                .map(c -> path.indexOf(c) - stairsIndex).orElseThrow());
+    }
+
+    @Test
+    @DisplayName("수용 인원이 찬 통로는 경로에서 제외")
+    void testFullConnectorIsSkipped() {
+        FloorConnector elevator = building.getConnector("ELEVATOR-1");
+        for (int i = 0; i < elevator.getCapacity(); i++) {
+            assertTrue(elevator.tryEnter());
+        }
+        assertFalse(elevator.tryEnter());
+
+        List<BuildingMap.FloorCoordinate> path = pathFinder.findPath(
+                new BuildingMap.FloorCoordinate(0, 8, 9),
+                new BuildingMap.FloorCoordinate(1, 8, 7));
+        assertTrue(path.contains(new BuildingMap.FloorCoordinate(1, 1, 1)));
+
+        elevator.leave();
+        path = pathFinder.findPath(
+                new BuildingMap.FloorCoordinate(0, 8, 9),
+                new BuildingMap.FloorCoordinate(1, 8, 7));
+        assertEquals(4, path.size());
+    }
+
+    @Test
+    @DisplayName("Location 경로에 층과 고도가 포함됨")
+    void testLocationPathCarriesFloor() {
+        Location start = Location.builder().latitude(9.0).longitude(8.0).altitude(0.0).build();
+        Location goal = Location.builder().latitude(7.0).longitude(8.0).floor("1").build();
+
+        List<Location> path = pathFinder.findPath(start, goal);
+
+        assertEquals(4, path.size());
+        assertEquals("0", path.get(0).getFloor());
+        assertEquals("1", path.get(path.size() - 1).getFloor());
+        assertEquals(4.0, path.get(path.size() - 1).getAltitude());
+    }
+
+    @Test
+    @DisplayName("정의되지 않은 층은 경로 없음")
+    void testUndefinedFloor() {
+        Location goal = Location.builder().latitude(1.0).longitude(1.0).floor("5").build();
+        Location start = Location.builder().latitude(1.0).longitude(1.0).floor("0").build();
+
+        assertTrue(pathFinder.findPath(start, goal).isEmpty());
+    }
+
+    @Test
+    @DisplayName("대피 흐름장을 따라가면 집결지에 도착")
+    void testEvacuationField() {
+        building.setEmergencyMode(true);
+        BuildingMap.FloorCoordinate assembly = new BuildingMap.FloorCoordinate(0, 25, 25);
+        MultiFloorPathFinder.EvacuationField field = pathFinder.computeEvacuationField(List.of(assembly));
+
+        BuildingMap.FloorCoordinate from = new BuildingMap.FloorCoordinate(1, 8, 7);
+        double expected = pathFinder.findPath(from, assembly).size() - 1 + (6.0 - 1.0);  // 계단 비용 6
+        assertEquals(expected, field.distanceAt(1, 8, 7), 1e-9);
+
+        BuildingMap.FloorCoordinate current = from;
+        for (int i = 0; i < 200 && !current.equals(assembly); i++) {
+            Optional<BuildingMap.FloorCoordinate> next = field.nextStep(current);
+            assertTrue(next.isPresent());
+            current = next.get();
+        }
+        assertEquals(assembly, current);
+    }
+
+    @Test
+    @DisplayName("대피 흐름장은 위험 구역에서 떨어져 이동")
+    void testEvacuationFieldAvoidsHazard() {
+        GridMap ground = building.getFloor(0);
+        for (int x = 14; x <= 16; x++) {
+            ground.setCellType(x, 20, GridMap.CellType.DANGER_ZONE);
+        }
+        building.setHazardField(0, new HazardField(ground, 6.0, 5.0));
+
+        BuildingMap.FloorCoordinate assembly = new BuildingMap.FloorCoordinate(0, 15, 28);
+        MultiFloorPathFinder.EvacuationField field = pathFinder.computeEvacuationField(List.of(assembly));
+
+        BuildingMap.FloorCoordinate current = new BuildingMap.FloorCoordinate(0, 15, 12);
+        double minClearance = Double.POSITIVE_INFINITY;
+        for (int i = 0; i < 200 && !current.equals(assembly); i++) {
+            current = field.nextStep(current).orElseThrow();
+            minClearance = Math.min(minClearance,
+                    building.getHazardField(0).distanceAt(current.getX(), current.getY()));
+        }
+
+        assertEquals(assembly, current);
+        assertTrue(minClearance >= 2.0);
+    }
+
+    @Test
+    @DisplayName("층별 구역 조회")
+    void testZoneLookupPerFloor() {
+        building.getFloor(1).addZone(Zone.builder()
+                .zoneId("ZONE_2F")
+                .type(Zone.ZoneType.WORK_AREA)
+                .centerLocation(Location.builder().latitude(5.0).longitude(5.0).build())
+                .radius(1.0)
+                .build());
+
+        Location upstairs = Location.builder().latitude(5.0).longitude(5.0).floor("1").build();
+        Location downstairs = Location.builder().latitude(5.0).longitude(5.0).altitude(0.0).build();
+
+        assertEquals("ZONE_2F", building.findZoneAt(upstairs).getZoneId());
+        assertNull(building.findZoneAt(downstairs));
+        assertTrue(building.getZone("ZONE_2F").isPresent());
+    }
+
+    @Test
+    @DisplayName("같은 층을 잇는 통로는 생성 불가")
+    void testInvalidConnector() {
+        assertThrows(IllegalArgumentException.class, () -> FloorConnector.builder()
+                .connectorId("BAD")
+                .type(FloorConnector.ConnectorType.STAIRS)
+                .floorA(0).cellA(new GridMap.GridCoordinate(1, 1))
+                .floorB(0).cellB(new GridMap.GridCoordinate(2, 2))
+                .traversalCost(1.0)
+                .capacity(1)
+                .build());
+    }
+
+    @Test
+    @DisplayName("세계 상태마다 엘리베이터 운영 여부가 정해지고 일시 정지는 유지")
+    void testElevatorsFollowWorldStatus() {
+        VirtualWorld world = new VirtualWorld(building.getFloor(0));
+        world.attachBuilding(building);
+        assertFalse(building.isEmergencyMode());
+
+        world.changeStatus(VirtualWorld.WorldStatus.MAINTENANCE);
+        assertTrue(building.isEmergencyMode());
+        world.pause();
+        assertTrue(building.isEmergencyMode());
+        world.start();
+        assertFalse(building.isEmergencyMode());
+
+        world.declareEmergency();
+        assertTrue(building.isEmergencyMode());
+        world.pause();
+        assertTrue(building.isEmergencyMode());
+        world.stop();
+        assertTrue(building.isEmergencyMode());
+    }
+
+    @Test
+    @DisplayName("건물이 연결된 세계의 로봇은 엘리베이터로 층을 넘어 구역까지 이동하고 수용 인원을 지킴")
+    void testRobotsRouteAcrossFloorsWithinCapacity() {
+        BuildingMap tower = new BuildingMap(4.0);
+        tower.addFloor(0, createFloor(20, 20));
+        tower.addFloor(1, createFloor(20, 20));
+        tower.getFloor(1).addZone(Zone.builder()
+                .zoneId("ZONE_2F")
+                .type(Zone.ZoneType.WORK_AREA)
+                .centerLocation(Location.builder().latitude(15.0).longitude(15.0).build())
+                .radius(2.0)
+                .build());
+        tower.addConnector(FloorConnector.builder()
+                .connectorId("ELEVATOR-1")
+                .type(FloorConnector.ConnectorType.ELEVATOR)
+                .floorA(0).cellA(new GridMap.GridCoordinate(5, 5))
+                .floorB(1).cellB(new GridMap.GridCoordinate(5, 5))
+                .traversalCost(2.0)
+                .capacity(1)
+                .build());
+
+        VirtualWorld world = new VirtualWorld(tower.getFloor(0));
+        world.attachBuilding(tower);
+        RobotWorker first = RobotBehaviorSimulator.createRobot("ROBOT_A", "A", "ZONE_2F");
+        RobotWorker second = RobotBehaviorSimulator.createRobot("ROBOT_B", "B", "ZONE_2F");
+        first.setCurrentLocation(Location.builder().latitude(4.0).longitude(5.0).floor("0").build());
+        second.setCurrentLocation(Location.builder().latitude(5.0).longitude(4.0).floor("0").build());
+        world.addRobot(first);
+        world.addRobot(second);
+
+        RobotBehaviorSimulator simulator = new RobotBehaviorSimulator(world);
+        FloorConnector elevator = tower.getConnector("ELEVATOR-1");
+        int maxOccupancy = 0;
+        int waitedTicks = 0;
+        for (int tick = 0; tick < 60 && !(arrived(first) && arrived(second)); tick++) {
+            simulator.simulateTick(LocalTime.of(9, 30));
+            maxOccupancy = Math.max(maxOccupancy, elevator.getOccupancy());
+            if (elevator.getOccupancy() == 1 && atElevator(first) && atElevator(second)) {
+                waitedTicks++;  // 한 로봇은 엘리베이터 안, 다른 로봇은 앞에서 대기
+            }
+        }
+
+        assertTrue(arrived(first), "ROBOT_A 위치: " + first.getCurrentLocation().getFloor());
+        assertTrue(arrived(second), "ROBOT_B 위치: " + second.getCurrentLocation().getFloor());
+        assertEquals("ZONE_2F", first.getCurrentZoneId());
+        assertEquals("ZONE_2F", second.getCurrentZoneId());
+        assertEquals(1, maxOccupancy);
+        assertTrue(waitedTicks > 0);
+        assertEquals(0, elevator.getOccupancy());
+    }
+
+    private static boolean arrived(RobotWorker robot) {
+        return "1".equals(robot.getCurrentLocation().getFloor())
+                && (robot.getPlannedPath() == null || robot.getPlannedPath().isEmpty());
+    }
+
+    private static boolean atElevator(RobotWorker robot) {
+        Location location = robot.getCurrentLocation();
+        return "0".equals(location.getFloor()) && location.getLatitude() == 5.0 && location.getLongitude() == 5.0;
+    }
+
+    private GridMap createFloor(int width, int height) {
+        GridMap.CellType[][] cells = new GridMap.CellType[height][width];
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                cells[y][x] = GridMap.CellType.EMPTY;
+            }
+        }
+        return GridMap.builder()
+                .width(width)
+                .height(height)
+                .cellSize(1.0)
+                .cells(cells)
+                .zones(new HashMap<>())
+                .build();
+    }
+}
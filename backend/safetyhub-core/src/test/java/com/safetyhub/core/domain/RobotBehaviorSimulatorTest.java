@@ -1,10 +1,15 @@
 package com.safetyhub.core.domain;
 
+import com.safetyhub.core.event.DomainEvent;
+import com.safetyhub.core.event.NearMissDetectedEvent;
+import com.safetyhub.core.port.out.EventPublisher;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.BeforeEach;
 
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -312,4 +317,179 @@ class RobotBehaviorSimulatorTest {
         assertTrue(testRobot.getState() == RobotWorker.RobotState.EVACUATING ||
                    testRobot.getState() == RobotWorker.RobotState.MOVING);
     }
+
+    @Test
+    @DisplayName("대피 경로는 나중에 생긴 위험 구역과 거리를 둠")
+    void testEvacuationRouteKeepsHazardClearance() {
+        // 월드 생성 후 ZONE_A -> ZONE_H 대각선 위에 화재 발생
+        for (int y = 18; y <= 22; y++) {
+            for (int x = 18; x <= 22; x++) {
+                world.getMap().setCellType(x, y, GridMap.CellType.DANGER_ZONE);
+            }
+        }
+        testRobot.startEvacuation();
+
+        simulator.simulateTick(LocalTime.of(9, 0));
+
+        List<Location> path = testRobot.getPlannedPath();
+        assertFalse(path.isEmpty());
+        Location last = path.get(path.size() - 1);
+        assertEquals(35.0, last.getLatitude());
+        assertEquals(35.0, last.getLongitude());
+        for (Location location : path) {
+            double dx = Math.max(0, Math.max(18 - location.getLongitude(), location.getLongitude() - 22));
+            double dy = Math.max(0, Math.max(18 - location.getLatitude(), location.getLatitude() - 22));
+            assertTrue(Math.hypot(dx, dy) >= 2.0, "화재 지점과 너무 가까움: " + location.getLongitude() + "," + location.getLatitude());
+        }
+    }
+
+    @Test
+    @DisplayName("새로 가까워진 로봇 쌍만 근접 이벤트로 발행")
+    void testNearMissPublishedOncePerEncounter() {
+        List<DomainEvent> published = new ArrayList<>();
+        RobotBehaviorSimulator publishing = new RobotBehaviorSimulator(world, new EventPublisher() {
+            @Override
+            public void publish(DomainEvent event) {
+                published.add(event);
+            }
+
+            @Override
+            public void publish(String topic, DomainEvent event) {
+                published.add(event);
+            }
+        });
+        RobotWorker a = RobotBehaviorSimulator.createRobot("ROBOT_NEAR_B", "Near B", "ZONE_B");
+        RobotWorker b = RobotBehaviorSimulator.createRobot("ROBOT_NEAR_A", "Near A", "ZONE_B");
+        a.setCurrentLocation(Location.builder().latitude(20.0).longitude(21.3).build());
+        a.setCurrentZoneId("ZONE_B");
+        b.setCurrentLocation(Location.builder().latitude(20.0).longitude(20.8).build());
+        b.setCurrentZoneId("ZONE_B");
+        world.addRobot(a);
+        world.addRobot(b);
+
+        // 출근 전이라 움직이지 않음, 근접 상태가 이어지는 동안 다시 발행하지 않음
+        publishing.simulateTick(LocalTime.of(7, 0));
+        publishing.simulateTick(LocalTime.of(7, 0));
+
+        assertEquals(1, published.size());
+        NearMissDetectedEvent event = (NearMissDetectedEvent) published.get(0);
+        assertEquals("ROBOT_NEAR_A", event.getRobotIdA());
+        assertEquals("ROBOT_NEAR_B", event.getRobotIdB());
+        assertEquals("NEAR_MISS_DETECTED", event.getEventType());
+        assertEquals(0.5, event.getDistance(), 1e-9);
+        assertEquals(1, publishing.getLastNearMisses().size());
+
+        // 멀어졌다가 다시 가까워지면 다시 발행 (이번엔 같은 셀이라 충돌)
+        a.setCurrentLocation(Location.builder().latitude(40.0).longitude(40.0).build());
+        publishing.simulateTick(LocalTime.of(7, 0));
+        a.setCurrentLocation(Location.builder().latitude(20.0).longitude(20.5).build());
+        publishing.simulateTick(LocalTime.of(7, 0));
+
+        assertEquals(2, published.size());
+        assertEquals("COLLISION_DETECTED", published.get(1).getEventType());
+        assertEquals(DomainEvent.EventPriority.HIGH, published.get(1).getPriority());
+    }
+
+    @Test
+    @DisplayName("로봇과 작업자(밴드 위치)가 가까워지면 작업자 근접 이벤트로 발행")
+    void testRobotWorkerNearMissPublished() {
+        List<DomainEvent> published = new ArrayList<>();
+        RobotBehaviorSimulator publishing = new RobotBehaviorSimulator(world, new EventPublisher() {
+            @Override
+            public void publish(DomainEvent event) {
+                published.add(event);
+            }
+
+            @Override
+            public void publish(String topic, DomainEvent event) {
+                published.add(event);
+            }
+        });
+        RobotWorker robot = RobotBehaviorSimulator.createRobot("ROBOT_NEAR_W", "Near W", "ZONE_B");
+        robot.setCurrentLocation(Location.builder().latitude(20.0).longitude(20.5).build());
+        robot.setCurrentZoneId("ZONE_B");
+        world.addRobot(robot);
+        world.addWorker(Worker.builder()
+                .workerId("WORKER_001")
+                .status(Worker.WorkerStatus.ON_DUTY)
+                .currentLocation(Location.builder().latitude(20.0).longitude(21.2).build())
+                .build());
+        // 작업자끼리 가까운 것은 근접으로 보지 않음
+        world.addWorker(Worker.builder()
+                .workerId("WORKER_002")
+                .status(Worker.WorkerStatus.ON_DUTY)
+                .currentLocation(Location.builder().latitude(20.0).longitude(21.9).build())
+                .build());
+
+        publishing.simulateTick(LocalTime.of(7, 0));
+
+        assertEquals(1, published.size());
+        NearMissDetectedEvent event = (NearMissDetectedEvent) published.get(0);
+        assertEquals("ROBOT_NEAR_W", event.getRobotIdA());
+        assertEquals("WORKER_001", event.getWorkerId());
+        assertNull(event.getRobotIdB());
+        assertEquals("WORKER_NEAR_MISS_DETECTED", event.getEventType());
+        assertEquals(DomainEvent.EventPriority.HIGH, event.getPriority());
+        assertEquals(0.7, event.getDistance(), 1e-9);
+
+        // 작업자가 로봇과 같은 셀로 들어오면 작업자 충돌 (최우선)
+        world.updateWorkerLocation("WORKER_001", Location.builder().latitude(40.0).longitude(40.0).build());
+        publishing.simulateTick(LocalTime.of(7, 0));
+        world.updateWorkerLocation("WORKER_001", Location.builder().latitude(20.0).longitude(20.6).build());
+        publishing.simulateTick(LocalTime.of(7, 0));
+
+        assertEquals(2, published.size());
+        assertEquals("WORKER_COLLISION_DETECTED", published.get(1).getEventType());
+        assertEquals(DomainEvent.EventPriority.CRITICAL, published.get(1).getPriority());
+    }
+
+    @Test
+    @DisplayName("위아래 층에 겹쳐 있는 로봇은 근접으로 보지 않고 공간 질의도 같은 층만 반환")
+    void testStackedRobotsOnDifferentFloors() {
+        BuildingMap building = new BuildingMap(4.0);
+        building.addFloor(0, world.getMap());
+        building.addFloor(1, GridMap.createDefault());
+        world.attachBuilding(building);
+
+        List<DomainEvent> published = new ArrayList<>();
+        RobotBehaviorSimulator publishing = new RobotBehaviorSimulator(world, new EventPublisher() {
+            @Override
+            public void publish(DomainEvent event) {
+                published.add(event);
+            }
+
+            @Override
+            public void publish(String topic, DomainEvent event) {
+                published.add(event);
+            }
+        });
+        RobotWorker lower = RobotBehaviorSimulator.createRobot("ROBOT_FLOOR_0", "Floor 0", "ZONE_B");
+        lower.setCurrentLocation(Location.builder().latitude(20.0).longitude(20.5).floor("0").build());
+        RobotWorker upper = RobotBehaviorSimulator.createRobot("ROBOT_FLOOR_1", "Floor 1", "ZONE_B");
+        upper.setCurrentLocation(Location.builder().latitude(20.0).longitude(20.5).floor("1").build());
+        world.addRobot(lower);
+        world.addRobot(upper);
+        world.addWorker(Worker.builder()
+                .workerId("WORKER_FLOOR_1")
+                .status(Worker.WorkerStatus.ON_DUTY)
+                .currentLocation(Location.builder().latitude(20.0).longitude(20.9).floor("1").build())
+                .build());
+
+        publishing.simulateTick(LocalTime.of(7, 0));
+
+        // 같은 평면 좌표지만 층이 달라 충돌 아님, 작업자는 같은 층 로봇과만 근접
+        assertEquals(1, published.size());
+        NearMissDetectedEvent event = (NearMissDetectedEvent) published.get(0);
+        assertEquals("ROBOT_FLOOR_1", event.getRobotIdA());
+        assertEquals("WORKER_FLOOR_1", event.getWorkerId());
+
+        Location groundFloor = Location.builder().latitude(20.0).longitude(20.5).floor("0").build();
+        Location upperFloor = Location.builder().latitude(20.0).longitude(20.5).floor("1").build();
+        List<RobotWorker> nearby = world.findRobotsWithinRadius(groundFloor, 1.0);
+        assertEquals(1, nearby.size());
+        assertEquals("ROBOT_FLOOR_0", nearby.get(0).getRobotId());
+        assertEquals("ROBOT_FLOOR_1", world.findNearestRobots(upperFloor, 1).get(0).getRobotId());
+        assertTrue(world.findWorkersWithinRadius(groundFloor, 5.0).isEmpty());
+        assertEquals(1, world.findWorkersWithinRadius(upperFloor, 5.0).size());
+    }
 }
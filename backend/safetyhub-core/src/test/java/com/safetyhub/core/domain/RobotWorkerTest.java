@@ -311,4 +311,23 @@ class RobotWorkerTest {
         robot.getBattery().updateStatus();
         assertTrue(robot.needsCharging());
     }
+
+    @Test
+    @DisplayName("다음 스케줄 전환 시점 테스트")
+    void testNextTransition() {
+        RobotWorker.RobotSchedule schedule = robot.getSchedule();
+
+        RobotWorker.ScheduleTransition lunch = schedule.nextTransition(LocalTime.of(11, 0));
+        assertEquals(LocalTime.of(12, 0), lunch.getTime());
+        assertEquals(RobotWorker.RobotState.EATING, lunch.getState());
+
+        RobotWorker.ScheduleTransition backToWork = schedule.nextTransition(LocalTime.of(12, 30));
+        assertEquals(LocalTime.of(13, 0, 1), backToWork.getTime());
+        assertEquals(RobotWorker.RobotState.WORKING, backToWork.getState());
+
+        RobotWorker.ScheduleTransition start = schedule.nextTransition(LocalTime.of(7, 0));
+        assertEquals(LocalTime.of(8, 0), start.getTime());
+
+        assertNull(schedule.nextTransition(LocalTime.of(18, 0)));
+    }
 }
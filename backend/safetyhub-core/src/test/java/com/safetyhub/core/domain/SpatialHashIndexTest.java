@@ -0,0 +1,179 @@
+package com.safetyhub.core.domain;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * SpatialHashIndex 테스트
+ */
+class SpatialHashIndexTest {
+
+    private SpatialHashIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new SpatialHashIndex(5.0);
+    }
+
+    @Test
+    @DisplayName("반경 내 엔티티 검색")
+    void testFindWithinRadius() {
+        index.update("W1", 10.0, 10.0);
+        index.update("W2", 13.0, 14.0);   // 거리 5.0
+        index.update("W3", 16.0, 10.0);   // 거리 6.0
+        index.update("W4", -3.0, -3.0);
+
+        List<String> result = index.findWithinRadius(10.0, 10.0, 5.0);
+
+        assertEquals(Set.of("W1", "W2"), new HashSet<>(result));
+    }
+
+    @Test
+    @DisplayName("위치 갱신 시 버킷 이동")
+    void testUpdateMovesBucket() {
+        index.update("R1", 1.0, 1.0);
+        index.update("R1", 42.0, 42.0);
+
+        assertEquals(1, index.size());
+        assertTrue(index.findWithinRadius(1.0, 1.0, 3.0).isEmpty());
+        assertEquals(List.of("R1"), index.findWithinRadius(42.0, 42.0, 1.0));
+    }
+
+    @Test
+    @DisplayName("엔티티 제거")
+    void testRemove() {
+        index.update("R1", 1.0, 1.0);
+        index.remove("R1");
+
+        assertEquals(0, index.size());
+        assertTrue(index.findWithinRadius(1.0, 1.0, 10.0).isEmpty());
+        assertTrue(index.get("R1").isEmpty());
+    }
+
+    @Test
+    @DisplayName("사각형 영역 검색")
+    void testFindInRect() {
+        index.update("R1", 5.0, 5.0);
+        index.update("R2", 20.0, 5.0);
+        index.update("R3", 5.0, 20.0);
+
+        List<String> result = index.findInRect(0.0, 0.0, 20.0, 10.0);
+
+        assertEquals(Set.of("R1", "R2"), new HashSet<>(result));
+    }
+
+    @Test
+    @DisplayName("k-최근접 검색은 가까운 순서로 반환")
+    void testFindNearest() {
+        index.update("FAR", 100.0, 100.0);
+        index.update("NEAR", 1.0, 0.0);
+        index.update("MID", 7.0, 0.0);
+
+        List<String> result = index.findNearest(0.0, 0.0, 2);
+
+        assertEquals(List.of("NEAR", "MID"), result);
+        assertEquals(List.of("FAR"), index.findNearest(0.0, 0.0, 1, id -> id.equals("FAR")));
+    }
+
+    @Test
+    @DisplayName("k-최근접 결과가 전수 탐색과 일치")
+    void testFindNearestMatchesBruteForce() {
+        Random random = new Random(42);
+        double[][] points = new double[500][2];
+        for (int i = 0; i < points.length; i++) {
+            points[i][0] = random.nextDouble() * 200;
+            points[i][1] = random.nextDouble() * 200;
+            index.update("E" + i, points[i][0], points[i][1]);
+        }
+
+        double qx = 73.0;
+        double qy = 121.0;
+        List<String> result = index.findNearest(qx, qy, 10);
+
+        List<String> expected = IntStream.range(0, points.length)
+                .boxed()
+                .sorted(Comparator.comparingDouble(i ->
+                        Math.hypot(points[i][0] - qx, points[i][1] - qy)))
+                .limit(10)
+                .map(i -> "E" + i)
+                .toList();
+
+        assertEquals(expected, result);
+    }
+
+    @Test
+    @DisplayName("동시 갱신 후 색인 일관성 유지")
+    void testConcurrentUpdates() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        for (int t = 0; t < 4; t++) {
+            int thread = t;
+            executor.submit(() -> {
+                Random random = new Random(thread);
+                for (int i = 0; i < 2000; i++) {
+                    String id = "R" + (thread * 100 + i % 100);
+                    index.update(id, random.nextDouble() * 100, random.nextDouble() * 100);
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertEquals(400, index.size());
+        assertEquals(400, index.findInRect(0.0, 0.0, 100.0, 100.0).size());
+    }
+
+    @Test
+    @DisplayName("탐색 중 엔티티가 이미 지난 빈 버킷으로 옮겨져도 k-최근접 탐색이 끝남")
+    void testFindNearestTerminatesWhenEntityMovesBehindScan() {
+        index.update("A", 2.0, 2.0);      // 중심 버킷 (0, 0)
+        index.update("C", 7.0, 2.0);      // 링 1 버킷 (1, 0)
+        index.update("B", 102.0, 2.0);    // 링 20 버킷 (20, 0)
+
+        // 링 1은 (-1, 0)을 (1, 0)보다 먼저 보므로, C를 볼 때 B를 (-1, 0)으로 옮기면
+        // 방문한 버킷 수가 전체 버킷 수에 영영 닿지 않음
+        boolean[] moved = {false};
+        List<String> result = assertTimeoutPreemptively(Duration.ofSeconds(2),
+                () -> index.findNearest(2.0, 2.0, 1, id -> {
+                    if (id.equals("C") && !moved[0]) {
+                        moved[0] = true;
+                        index.update("B", -3.0, 2.0);
+                    }
+                    return false;
+                }));
+
+        assertTrue(moved[0]);
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    @DisplayName("가장자리 버킷이 비면 k-최근접 탐색 범위가 줄어듦")
+    void testOccupiedBoundsShrinkWhenEdgeBucketsEmpty() {
+        index.update("R1", 2.0, 2.0);
+        index.update("R2", 502.0, 2.0);     // 버킷 (100, 0)
+        index.update("R3", 2.0, -498.0);    // 버킷 (0, -100)
+        assertEquals(100, index.occupiedRing(2.0, 2.0));
+
+        // 먼 로봇이 떠나면 범위도 중심 근처로 돌아옴
+        index.update("R2", 7.0, 2.0);
+        index.remove("R3");
+        assertEquals(1, index.occupiedRing(2.0, 2.0));
+
+        index.remove("R1");
+        index.remove("R2");
+        assertEquals(-1, index.occupiedRing(2.0, 2.0));
+    }
+}
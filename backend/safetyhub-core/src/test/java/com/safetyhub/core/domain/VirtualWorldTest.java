@@ -293,6 +293,51 @@ class VirtualWorldTest {
         assertEquals(0, robots.size());
     }
 
+    @Test
+    @DisplayName("반경 내 로봇 검색 테스트")
+    void testFindRobotsWithinRadius() {
+        world.addRobot(testRobot);
+
+        Location near = Location.builder().latitude(6.0).longitude(6.0).build();
+        Location far = Location.builder().latitude(35.0).longitude(35.0).build();
+
+        assertEquals(1, world.findRobotsWithinRadius(near, 3.0).size());
+        assertEquals(0, world.findRobotsWithinRadius(far, 3.0).size());
+
+        // 이동 후 색인 갱신 확인
+        world.updateRobotLocation("ROBOT_TEST_001", far);
+        assertEquals(0, world.findRobotsWithinRadius(near, 3.0).size());
+        assertEquals("ROBOT_TEST_001", world.findNearestRobots(far, 1).get(0).getRobotId());
+    }
+
+    @Test
+    @DisplayName("반경 내 작업자 검색 테스트 (가스 누출 지점 5m 이내)")
+    void testFindWorkersWithinRadius() {
+        world.addWorker(Worker.builder()
+                .workerId("WORKER_001")
+                .status(Worker.WorkerStatus.ON_DUTY)
+                .currentLocation(Location.builder().latitude(5.0).longitude(5.0).build())
+                .build());
+        world.addWorker(Worker.builder()
+                .workerId("WORKER_002")
+                .status(Worker.WorkerStatus.ON_DUTY)
+                .currentLocation(Location.builder().latitude(5.0).longitude(25.0).build())
+                .build());
+
+        Location gasLeak = Location.builder().latitude(5.0).longitude(8.0).build();
+        List<Worker> nearby = world.findWorkersWithinRadius(gasLeak, 5.0);
+        assertEquals(1, nearby.size());
+        assertEquals("WORKER_001", nearby.get(0).getWorkerId());
+
+        // 밴드 위치 보고 후 색인 갱신
+        world.updateWorkerLocation("WORKER_002", Location.builder().latitude(6.0).longitude(9.0).build());
+        assertEquals(2, world.findWorkersWithinRadius(gasLeak, 5.0).size());
+
+        world.removeWorker("WORKER_001");
+        assertEquals(1, world.findWorkersWithinRadius(gasLeak, 5.0).size());
+        assertTrue(world.findRobotsWithinRadius(gasLeak, 5.0).isEmpty());
+    }
+
     @Test
     @DisplayName("toString 메서드 테스트")
     void testToString() {
@@ -0,0 +1,44 @@
+package com.safetyhub.core.support;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CoarseClock 테스트
+ */
+class CoarseClockTest {
+
+    @Test
+    @DisplayName("시스템 시계와 수 밀리초 이내로 일치")
+    void testCloseToSystemClock() {
+        long coarse = CoarseClock.currentTimeMillis();
+        long system = System.currentTimeMillis();
+
+        assertTrue(Math.abs(system - coarse) < 50, "차이: " + (system - coarse) + "ms");
+    }
+
+    @Test
+    @DisplayName("시간이 흐르면 갱신되고 줄어들지 않음")
+    void testAdvancesMonotonically() throws InterruptedException {
+        long first = CoarseClock.currentTimeMillis();
+        Thread.sleep(20);
+        long second = CoarseClock.currentTimeMillis();
+
+        assertTrue(second > first);
+        assertFalse(CoarseClock.instant().toEpochMilli() < second);
+    }
+
+    @Test
+    @DisplayName("Instant와 LocalDateTime은 같은 시각을 가리킴")
+    void testViewsAreConsistent() {
+        LocalDateTime local = CoarseClock.localDateTime();
+        long millis = local.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+
+        assertTrue(Math.abs(CoarseClock.currentTimeMillis() - millis) < 50);
+    }
+}
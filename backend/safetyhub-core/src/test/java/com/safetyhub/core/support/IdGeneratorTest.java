@@ -0,0 +1,83 @@
+package com.safetyhub.core.support;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * IdGenerator 테스트
+ */
+class IdGeneratorTest {
+
+    @Test
+    @DisplayName("표준 UUID 형식(버전 7, RFC 변형)으로 만들어짐")
+    void testUuidCompatible() {
+        String id = IdGenerator.nextId();
+        UUID parsed = UUID.fromString(id);
+
+        assertEquals(id, parsed.toString());
+        assertEquals(7, parsed.version());
+        assertEquals(2, parsed.variant());
+    }
+
+    @Test
+    @DisplayName("같은 스레드에서 만든 ID는 항상 증가")
+    void testMonotonicWithinThread() {
+        UUID previous = IdGenerator.nextUuid();
+        for (int i = 0; i < 100_000; i++) {
+            UUID next = IdGenerator.nextUuid();
+            assertTrue(Long.compareUnsigned(next.getMostSignificantBits(), previous.getMostSignificantBits()) > 0
+                    || (next.getMostSignificantBits() == previous.getMostSignificantBits()
+                    && Long.compareUnsigned(next.getLeastSignificantBits(), previous.getLeastSignificantBits()) > 0));
+            assertTrue(next.toString().compareTo(previous.toString()) > 0, "문자열 순서도 생성 순서와 같아야 함");
+            previous = next;
+        }
+    }
+
+    @Test
+    @DisplayName("여러 스레드에서 동시에 만들어도 중복 없음")
+    void testUniqueAcrossThreads() throws Exception {
+        int threads = 8;
+        int perThread = 20_000;
+        Set<String> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            tasks.add(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    ids.add(IdGenerator.nextId());
+                }
+                return null;
+            });
+        }
+        for (Future<Void> future : executor.invokeAll(tasks)) {
+            future.get();
+        }
+        executor.shutdown();
+
+        assertEquals(threads * perThread, ids.size());
+    }
+
+    @Test
+    @DisplayName("ID에서 생성 시각을 읽을 수 있음")
+    void testTimestampOf() {
+        long before = CoarseClock.currentTimeMillis();
+        UUID id = IdGenerator.nextUuid();
+        long after = CoarseClock.currentTimeMillis();
+
+        assertTrue(IdGenerator.timestampOf(id) >= before);
+        assertTrue(IdGenerator.timestampOf(id) <= after);
+    }
+}
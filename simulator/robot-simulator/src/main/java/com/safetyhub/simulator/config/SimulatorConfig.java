@@ -1,16 +1,25 @@
 package com.safetyhub.simulator.config;
 
 import com.safetyhub.simulator.event.EventGenerator;
+import com.safetyhub.simulator.publisher.AsyncMqttEventPublisher;
 import com.safetyhub.simulator.publisher.CompositeEventPublisher;
+import com.safetyhub.simulator.publisher.EventPublisher;
+import com.safetyhub.simulator.publisher.EventRecordingManager;
 import com.safetyhub.simulator.publisher.KafkaEventPublisher;
 import com.safetyhub.simulator.publisher.MqttEventPublisher;
 import com.safetyhub.simulator.scenario.ScenarioEngine;
 import com.safetyhub.simulator.scenario.ScenarioLoader;
+import com.safetyhub.simulator.shard.ProcessShardLauncher;
+import com.safetyhub.simulator.shard.ShardLauncher;
 import com.safetyhub.simulator.world.VirtualWorld;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.nio.file.Path;
+import java.util.List;
+
 /**
  * 시뮬레이터 설정
  */
@@ -35,12 +44,48 @@ public class SimulatorConfig {
     @Value("${mqtt.topic-prefix:safetyhub/simulator}")
     private String mqttTopicPrefix;
 
+    @Value("${mqtt.async.enabled:true}")
+    private boolean mqttAsync;
+
+    @Value("${mqtt.async.max-inflight:64}")
+    private int mqttMaxInflight;
+
+    @Value("${mqtt.async.queue-capacity:10000}")
+    private int mqttQueueCapacity;
+
+    @Value("${mqtt.async.batch-size:1}")
+    private int mqttBatchSize;
+
+    @Value("${mqtt.async.linger-ms:20}")
+    private long mqttLingerMillis;
+
     @Value("${kafka.bootstrap-servers:localhost:9092}")
     private String kafkaBootstrapServers;
 
     @Value("${kafka.topic-prefix:safetyhub-simulator}")
     private String kafkaTopicPrefix;
 
+    @Value("${simulator.publisher.mqtt.queue-capacity:10000}")
+    private int mqttSinkCapacity;
+
+    @Value("${simulator.publisher.mqtt.overflow:DROP_OLDEST}")
+    private CompositeEventPublisher.OverflowPolicy mqttSinkOverflow;
+
+    @Value("${simulator.publisher.kafka.queue-capacity:50000}")
+    private int kafkaSinkCapacity;
+
+    @Value("${simulator.publisher.kafka.overflow:BLOCK}")
+    private CompositeEventPublisher.OverflowPolicy kafkaSinkOverflow;
+
+    @Value("${simulator.event.wearable-devices:500}")
+    private int wearableDevices;
+
+    @Value("${simulator.shard.jvm-options:-Xmx512m}")
+    private List<String> shardJvmOptions;
+
+    @Value("${simulator.recording.directory:recordings}")
+    private String recordingDirectory;
+
     @Bean
     public VirtualWorld virtualWorld() {
         return VirtualWorld.createStandardFactory("factory-1", worldName);
@@ -48,7 +93,11 @@ public class SimulatorConfig {
 
     @Bean
     public EventGenerator eventGenerator() {
-        return new EventGenerator();
+        EventGenerator generator = new EventGenerator();
+        if (wearableDevices > 0) {
+            generator.enableWearableStream(wearableDevices, System.nanoTime());
+        }
+        return generator;
     }
 
     @Bean
@@ -62,7 +111,11 @@ public class SimulatorConfig {
     }
 
     @Bean
-    public MqttEventPublisher mqttEventPublisher() {
+    public EventPublisher mqttEventPublisher() {
+        if (mqttAsync) {
+            return new AsyncMqttEventPublisher(mqttBrokerUrl, mqttClientId, mqttTopicPrefix,
+                    mqttMaxInflight, mqttQueueCapacity, mqttBatchSize, mqttLingerMillis);
+        }
         return new MqttEventPublisher(mqttBrokerUrl, mqttClientId, mqttTopicPrefix);
     }
 
@@ -73,11 +126,24 @@ public class SimulatorConfig {
 
     @Bean
     public CompositeEventPublisher compositeEventPublisher(
-            MqttEventPublisher mqttPublisher,
+            @Qualifier("mqttEventPublisher") EventPublisher mqttPublisher,
             KafkaEventPublisher kafkaPublisher) {
         CompositeEventPublisher composite = new CompositeEventPublisher();
-        composite.addPublisher(mqttPublisher);
-        composite.addPublisher(kafkaPublisher);
+        composite.addPublisher("mqtt", mqttPublisher, mqttSinkCapacity, mqttSinkOverflow);
+        composite.addPublisher("kafka", kafkaPublisher, kafkaSinkCapacity, kafkaSinkOverflow);
         return composite;
     }
+
+    @Bean
+    public EventRecordingManager eventRecordingManager(CompositeEventPublisher compositeEventPublisher) {
+        return new EventRecordingManager(compositeEventPublisher, Path.of(recordingDirectory));
+    }
+
+    @Bean
+    public ShardLauncher shardLauncher() {
+        // 샤드 워커는 각자 MQTT로 이벤트를 발행
+        return new ProcessShardLauncher(shardJvmOptions, List.of(
+                "--mqtt.broker-url=" + mqttBrokerUrl,
+                "--mqtt.topic-prefix=" + mqttTopicPrefix));
+    }
 }
@@ -1,13 +1,21 @@
 package com.safetyhub.simulator.controller;
 
 import com.safetyhub.simulator.core.RobotWorker;
+import com.safetyhub.simulator.publisher.CompositeEventPublisher;
+import com.safetyhub.simulator.publisher.EventRecordingManager;
 import com.safetyhub.simulator.scenario.Scenario;
 import com.safetyhub.simulator.scenario.ScenarioEngine;
 import com.safetyhub.simulator.scenario.ScenarioLoader;
+import com.safetyhub.simulator.shard.ShardCoordinator;
+import com.safetyhub.simulator.shard.ShardLauncher;
 import com.safetyhub.simulator.world.VirtualWorld;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -23,11 +31,20 @@ public class SimulatorController {
     private final ScenarioEngine scenarioEngine;
     private final ScenarioLoader scenarioLoader;
     private final VirtualWorld world;
+    private final ShardLauncher shardLauncher;
+    private final EventRecordingManager recordingManager;
+    private final CompositeEventPublisher publisher;
+    private ShardCoordinator shardCoordinator;
 
-    public SimulatorController(ScenarioEngine scenarioEngine, ScenarioLoader scenarioLoader, VirtualWorld world) {
+    public SimulatorController(ScenarioEngine scenarioEngine, ScenarioLoader scenarioLoader, VirtualWorld world,
+                               ShardLauncher shardLauncher, EventRecordingManager recordingManager,
+                               CompositeEventPublisher publisher) {
         this.scenarioEngine = scenarioEngine;
         this.scenarioLoader = scenarioLoader;
         this.world = world;
+        this.shardLauncher = shardLauncher;
+        this.recordingManager = recordingManager;
+        this.publisher = publisher;
     }
 
     @GetMapping("/status")
@@ -39,6 +56,7 @@ public class SimulatorController {
         status.put("simulationTime", world.getSimulationTime().toString());
         status.put("emergencyMode", world.isEmergencyMode());
         status.put("zoneOccupancy", world.getZoneOccupancy());
+        status.put("scheduling", scenarioEngine.getSchedulingStats());
 
         Scenario current = scenarioEngine.getCurrentScenario();
         if (current != null) {
@@ -82,6 +100,117 @@ public class SimulatorController {
         return ResponseEntity.ok(Map.of("message", "Scenario resumed"));
     }
 
+    /**
+     * 현재 월드 스냅샷 (실행 중이면 틱 사이 시점)
+     */
+    @GetMapping(value = "/snapshot", produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<byte[]> getSnapshot() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        scenarioEngine.captureSnapshot(bytes);
+        return ResponseEntity.ok()
+                .header("Content-Disposition", "attachment; filename=\"world-snapshot.bin\"")
+                .body(bytes.toByteArray());
+    }
+
+    /**
+     * 스냅샷 복원 (중지 상태에서만, 이후 같은 시나리오로 start하면 이어서 실행)
+     */
+    @PostMapping(value = "/snapshot", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<Map<String, String>> restoreSnapshot(@RequestBody byte[] snapshot) {
+        try {
+            scenarioEngine.restoreSnapshot(new ByteArrayInputStream(snapshot));
+            return ResponseEntity.ok(Map.of("message", "Snapshot restored: " + world.getRobotCount() + " robots"));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(Map.of("error", String.valueOf(e.getMessage())));
+        }
+    }
+
+    @PostMapping("/shards/start/{scenarioId}")
+    public synchronized ResponseEntity<Map<String, String>> startShards(
+            @PathVariable String scenarioId,
+            @RequestParam(defaultValue = "4") int count) {
+        if (shardCoordinator != null && shardCoordinator.isRunning()) {
+            return ResponseEntity.badRequest().body(Map.of("error", "Sharded scenario is already running"));
+        }
+        try {
+            Scenario scenario = scenarioLoader.loadFromResource("scenarios/" + scenarioId + ".yaml");
+            shardCoordinator = new ShardCoordinator(scenario, count, shardLauncher);
+            shardCoordinator.start();
+            return ResponseEntity.ok(Map.of("message", "Sharded scenario started: " + scenarioId + " on " + count + " shards"));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(Map.of("error", String.valueOf(e.getMessage())));
+        }
+    }
+
+    @PostMapping("/shards/stop")
+    public synchronized ResponseEntity<Map<String, String>> stopShards() {
+        if (shardCoordinator != null) {
+            shardCoordinator.stop();
+        }
+        return ResponseEntity.ok(Map.of("message", "Sharded scenario stopped"));
+    }
+
+    @GetMapping("/shards/status")
+    public synchronized ResponseEntity<Map<String, Object>> getShardStatus() {
+        if (shardCoordinator == null) {
+            return ResponseEntity.ok(Map.of("running", false));
+        }
+        return ResponseEntity.ok(shardCoordinator.getMetrics());
+    }
+
+    @PostMapping("/recording/start/{name}")
+    public ResponseEntity<Map<String, String>> startRecording(@PathVariable String name) {
+        try {
+            return ResponseEntity.ok(Map.of("message", "Recording to " + recordingManager.startRecording(name)));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(Map.of("error", String.valueOf(e.getMessage())));
+        }
+    }
+
+    @PostMapping("/recording/stop")
+    public ResponseEntity<Map<String, Object>> stopRecording() {
+        try {
+            return ResponseEntity.ok(recordingManager.stopRecording());
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(Map.of("error", String.valueOf(e.getMessage())));
+        }
+    }
+
+    /**
+     * 기록한 이벤트 로그 재생 (speed: 1 = 기록 속도, N = N배속, 0 = 최대 속도)
+     */
+    @PostMapping("/replay/{name}")
+    public ResponseEntity<Map<String, String>> startReplay(
+            @PathVariable String name,
+            @RequestParam(defaultValue = "1") double speed,
+            @RequestParam(defaultValue = "1") int parallelism) {
+        try {
+            recordingManager.startReplay(name, speed, parallelism);
+            return ResponseEntity.ok(Map.of("message", "Replay started: " + name));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(Map.of("error", String.valueOf(e.getMessage())));
+        }
+    }
+
+    @PostMapping("/replay/stop")
+    public ResponseEntity<Map<String, String>> stopReplay() {
+        recordingManager.stopReplay();
+        return ResponseEntity.ok(Map.of("message", "Replay stop requested"));
+    }
+
+    @GetMapping("/recording/status")
+    public ResponseEntity<Map<String, Object>> getRecordingStatus() {
+        return ResponseEntity.ok(recordingManager.getStatus());
+    }
+
+    /**
+     * 퍼블리셔별 발행 메트릭 (큐, in-flight, 응답 지연 등)
+     */
+    @GetMapping("/publishers")
+    public ResponseEntity<Map<String, Object>> getPublisherMetrics() {
+        return ResponseEntity.ok(publisher.getMetrics());
+    }
+
     @GetMapping("/robots")
     public ResponseEntity<List<Map<String, Object>>> getRobots(
             @RequestParam(required = false) String zoneId,
@@ -142,7 +271,7 @@ public class SimulatorController {
                     "name", zone.getName(),
                     "type", zone.getType().name(),
                     "capacity", zone.getCapacity(),
-                    "occupancy", world.getRobotsInZone(id).size(),
+                    "occupancy", world.getZoneOccupancy(id),
                     "hazardous", zone.isHazardous()
             ));
         });
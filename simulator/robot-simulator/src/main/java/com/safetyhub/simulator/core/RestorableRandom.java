@@ -0,0 +1,50 @@
+package com.safetyhub.simulator.core;
+
+import java.util.Random;
+
+/**
+ * 내부 상태를 읽고 되돌릴 수 있는 난수 생성기 (스냅샷용)
+ * java.util.Random과 같은 48비트 선형 합동 생성기이므로 같은 시드에서 같은 수열을 만듦
+ *
+ * Random과 달리 스레드 안전하지 않음 (로봇 하나의 난수는 틱 스레드에서만 사용)
+ * nextGaussian의 캐시된 두 번째 값은 상태에 포함되지 않음
+ */
+public class RestorableRandom extends Random {
+    private static final long MULTIPLIER = 0x5DEECE66DL;
+    private static final long ADDEND = 0xBL;
+    private static final long MASK = (1L << 48) - 1;
+
+    // 초기화 식을 두지 않음: 상위 생성자가 호출하는 setSeed의 값이 그대로 남아야 함
+    private long state;
+
+    public RestorableRandom() {
+        super();
+    }
+
+    public RestorableRandom(long seed) {
+        super(seed);
+    }
+
+    @Override
+    public synchronized void setSeed(long seed) {
+        super.setSeed(seed);
+        this.state = (seed ^ MULTIPLIER) & MASK;
+    }
+
+    @Override
+    protected int next(int bits) {
+        state = (state * MULTIPLIER + ADDEND) & MASK;
+        return (int) (state >>> (48 - bits));
+    }
+
+    /**
+     * 현재 내부 상태 (48비트)
+     */
+    public long getState() {
+        return state;
+    }
+
+    public void setState(long state) {
+        this.state = state & MASK;
+    }
+}
@@ -3,7 +3,6 @@ package com.safetyhub.simulator.core;
 import java.time.Instant;
 import java.time.LocalTime;
 import java.util.List;
-import java.util.Random;
 import java.util.UUID;
 import java.util.concurrent.CopyOnWriteArrayList;
 
@@ -24,7 +23,7 @@ public class RobotWorker {
     private Instant lastUpdate;
     private List<Location> currentPath;
     private int pathIndex;
-    private final Random random = new Random();
+    private final RestorableRandom random = new RestorableRandom();
 
     public RobotWorker(String id, String name, Location initialLocation) {
         this.id = id;
@@ -145,6 +144,30 @@ public class RobotWorker {
         this.heartRate = 150 + random.nextInt(30);
     }
 
+    /**
+     * 저장된 상태로 복원 (샤드 간 이동, 스냅샷 복원용)
+     * setPath와 달리 상태를 바꾸지 않고 남은 경로만 설정
+     */
+    public void restore(RobotState state, HealthStatus healthStatus, int batteryLevel,
+                        int heartRate, double bodyTemperature, List<Location> remainingPath) {
+        this.state = state;
+        this.healthStatus = healthStatus;
+        this.batteryLevel = batteryLevel;
+        this.heartRate = heartRate;
+        this.bodyTemperature = bodyTemperature;
+        this.currentPath = new CopyOnWriteArrayList<>(remainingPath);
+        this.pathIndex = 0;
+    }
+
+    /**
+     * 아직 이동하지 않은 경로
+     */
+    public List<Location> getRemainingPath() {
+        List<Location> path = currentPath;
+        int index = pathIndex;
+        return index < path.size() ? List.copyOf(path.subList(index, path.size())) : List.of();
+    }
+
     public void startEvacuation(List<Location> evacuationPath) {
         this.state = RobotState.EVACUATING;
         setPath(evacuationPath);
@@ -173,6 +196,7 @@ public class RobotWorker {
     public double getBodyTemperature() { return bodyTemperature; }
     public Instant getLastUpdate() { return lastUpdate; }
     public RobotSchedule getSchedule() { return schedule; }
+    public long getRandomState() { return random.getState(); }
 
     // Setters
     public void setLocation(Location location) { this.location = location; }
@@ -180,6 +204,7 @@ public class RobotWorker {
     public void setHealthStatus(HealthStatus healthStatus) { this.healthStatus = healthStatus; }
     public void setSchedule(RobotSchedule schedule) { this.schedule = schedule; }
     public void setBatteryLevel(int batteryLevel) { this.batteryLevel = batteryLevel; }
+    public void setRandomState(long state) { random.setState(state); }
 
     @Override
     public String toString() {
@@ -0,0 +1,104 @@
+package com.safetyhub.simulator.core;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * RobotWorker 바이너리 직렬화
+ * 프로세스 간 로봇 이동(샤드 핸드오프)과 스냅샷에서 같은 형식을 사용
+ *
+ * 형식: id, name, 위치, 상태, 건강 상태, 배터리, 심박수, 체온, 난수 상태, 남은 경로, 스케줄
+ * 문자열은 modified UTF-8, null 가능한 문자열은 앞에 boolean
+ */
+public final class RobotWorkerCodec {
+
+    private RobotWorkerCodec() {
+    }
+
+    public static void write(DataOutput out, RobotWorker robot) throws IOException {
+        out.writeUTF(robot.getId());
+        out.writeUTF(robot.getName());
+        writeLocation(out, robot.getLocation());
+        out.writeByte(robot.getState().ordinal());
+        out.writeByte(robot.getHealthStatus().ordinal());
+        out.writeShort(robot.getBatteryLevel());
+        out.writeShort(robot.getHeartRate());
+        out.writeDouble(robot.getBodyTemperature());
+        out.writeLong(robot.getRandomState());
+
+        List<Location> path = robot.getRemainingPath();
+        out.writeInt(path.size());
+        for (Location location : path) {
+            writeLocation(out, location);
+        }
+
+        List<RobotSchedule.ScheduleEntry> entries = robot.getSchedule().getEntries();
+        out.writeShort(entries.size());
+        for (RobotSchedule.ScheduleEntry entry : entries) {
+            out.writeInt(entry.getStartTime().toSecondOfDay());
+            out.writeInt(entry.getEndTime().toSecondOfDay());
+            out.writeByte(entry.getState().ordinal());
+            writeNullableString(out, entry.getZoneId());
+        }
+    }
+
+    public static RobotWorker read(DataInput in) throws IOException {
+        String id = in.readUTF();
+        String name = in.readUTF();
+        Location location = readLocation(in);
+        RobotState state = RobotState.values()[in.readByte()];
+        HealthStatus healthStatus = HealthStatus.values()[in.readByte()];
+        int batteryLevel = in.readShort();
+        int heartRate = in.readShort();
+        double bodyTemperature = in.readDouble();
+        long randomState = in.readLong();
+
+        int pathLength = in.readInt();
+        List<Location> path = new ArrayList<>(pathLength);
+        for (int i = 0; i < pathLength; i++) {
+            path.add(readLocation(in));
+        }
+
+        RobotSchedule schedule = new RobotSchedule();
+        int entryCount = in.readShort();
+        for (int i = 0; i < entryCount; i++) {
+            LocalTime start = LocalTime.ofSecondOfDay(in.readInt());
+            LocalTime end = LocalTime.ofSecondOfDay(in.readInt());
+            RobotState entryState = RobotState.values()[in.readByte()];
+            schedule.addEntry(start, end, entryState, readNullableString(in));
+        }
+
+        RobotWorker robot = new RobotWorker(id, name, location);
+        robot.setSchedule(schedule);
+        robot.restore(state, healthStatus, batteryLevel, heartRate, bodyTemperature, path);
+        robot.setRandomState(randomState);
+        return robot;
+    }
+
+    private static void writeLocation(DataOutput out, Location location) throws IOException {
+        out.writeShort(location.getX());
+        out.writeShort(location.getY());
+        writeNullableString(out, location.getZoneId());
+    }
+
+    private static Location readLocation(DataInput in) throws IOException {
+        int x = in.readShort();
+        int y = in.readShort();
+        return new Location(x, y, readNullableString(in));
+    }
+
+    public static void writeNullableString(DataOutput out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    public static String readNullableString(DataInput in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+}
@@ -5,6 +5,9 @@ import com.safetyhub.simulator.core.RobotState;
 import com.safetyhub.simulator.core.RobotWorker;
 import com.safetyhub.simulator.world.VirtualWorld;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -20,9 +23,18 @@ public class EventGenerator {
     private final AtomicLong tickCounter = new AtomicLong(0);
     private int locationUpdateInterval = 10;  // 10틱마다 위치 업데이트
     private int heartbeatInterval = 50;       // 50틱마다 하트비트
+    private static final int REDUCED_EMISSION_FACTOR = 5;  // 감축 모드에서 주기 이벤트 간격 배수
+    private volatile boolean reducedEmission;
+
+    // 하트비트 측정값으로 작업자별 기준선을 학습하고 벗어나면 VITAL_ANOMALY 발생
+    private final VitalBaselineTracker vitalBaselines = new VitalBaselineTracker(this::onVitalAnomaly);
+
+    // 밴드 가속도 스트림으로 낙상 패턴을 판정하고 FALL_DETECTED 발생 (켜지 않으면 null)
+    private WearableStream wearables;
 
     public void generateEvents(VirtualWorld world) {
         long tick = tickCounter.incrementAndGet();
+        int factor = reducedEmission ? REDUCED_EMISSION_FACTOR : 1;
 
         for (RobotWorker robot : world.getAllRobots()) {
             // 상태 변경 감지
@@ -38,15 +50,42 @@ public class EventGenerator {
             }
 
             // 주기적 위치 업데이트
-            if (tick % locationUpdateInterval == 0) {
+            if (tick % ((long) locationUpdateInterval * factor) == 0) {
                 generateLocationEvent(robot);
             }
 
             // 주기적 하트비트
-            if (tick % heartbeatInterval == 0) {
+            if (tick % ((long) heartbeatInterval * factor) == 0) {
                 generateHeartbeatEvent(robot);
             }
         }
+
+        // 밴드 신호 1초 진행 (틱당 1초)
+        if (wearables != null) {
+            wearables.advance(world);
+        }
+    }
+
+    /**
+     * 밴드 생체 신호 스트림 사용 (낙상을 가속도 패턴으로 판정)
+     *
+     * @param deviceCount 밴드 수 (먼저 나타난 로봇부터 배정)
+     */
+    public void enableWearableStream(int deviceCount, long seed) {
+        this.wearables = new WearableStream(deviceCount, seed, this::onFallDetected);
+    }
+
+    /**
+     * 작업자 낙상 발생 - 밴드 가속도에 낙상 패턴을 시작하고, 판정되면 FALL_DETECTED 발생
+     */
+    public void onWorkerFall(String robotId) {
+        if (wearables != null) {
+            wearables.triggerFall(robotId);
+        }
+    }
+
+    private void onFallDetected(String robotId, long timestampMillis, int peakMilliG) {
+        notifyListeners(SimulatorEvent.fallDetected(robotId, new SimulatorEvent.FallData(timestampMillis, peakMilliG)));
     }
 
     private void generateLocationEvent(RobotWorker robot) {
@@ -69,6 +108,19 @@ public class EventGenerator {
                 )
         );
         notifyListeners(event);
+
+        int worker = vitalBaselines.register(robot.getId());
+        vitalBaselines.update(worker, VitalBaselineTracker.Channel.HEART_RATE, robot.getHeartRate());
+        vitalBaselines.update(worker, VitalBaselineTracker.Channel.BODY_TEMPERATURE, robot.getBodyTemperature());
+    }
+
+    private void onVitalAnomaly(int worker, VitalBaselineTracker.Channel channel,
+                                double value, double baseline, double zScore) {
+        SimulatorEvent event = SimulatorEvent.vitalAnomaly(
+                vitalBaselines.getWorkerId(worker),
+                new SimulatorEvent.VitalAnomalyData(channel.name(), value, baseline, zScore)
+        );
+        notifyListeners(event);
     }
 
     private void generateEmergencyEvent(RobotWorker robot) {
@@ -123,6 +175,73 @@ public class EventGenerator {
         this.heartbeatInterval = interval;
     }
 
+    /**
+     * 감축 모드 (실시간보다 늦어졌을 때 주기 위치/하트비트 이벤트 간격을 늘림, 상태/긴급 이벤트는 그대로)
+     */
+    public void setReducedEmission(boolean reducedEmission) {
+        this.reducedEmission = reducedEmission;
+    }
+
+    /**
+     * 스냅샷용 상태 기록 (틱 카운터, 로봇별 직전 상태)
+     * 바이탈 기준선은 포함하지 않음 (복원 후 하트비트로 다시 학습)
+     */
+    public void writeState(DataOutput out) throws IOException {
+        out.writeLong(tickCounter.get());
+        Map<String, RobotState> states = Map.copyOf(previousStates);
+        out.writeInt(states.size());
+        for (Map.Entry<String, RobotState> entry : states.entrySet()) {
+            out.writeUTF(entry.getKey());
+            out.writeByte(entry.getValue().ordinal());
+        }
+    }
+
+    public void readState(DataInput in) throws IOException {
+        tickCounter.set(in.readLong());
+        previousStates.clear();
+        int count = in.readInt();
+        for (int i = 0; i < count; i++) {
+            previousStates.put(in.readUTF(), RobotState.values()[in.readByte()]);
+        }
+    }
+
+    /**
+     * 로봇 하나의 상태 기록 (직전 상태, 바이탈 기준선)
+     * 로봇을 다른 샤드로 넘길 때 함께 보내 받는 쪽에서 UNKNOWN 상태 변경이나 기준선 재학습이 없도록 함
+     */
+    public void writeRobotState(DataOutput out, String robotId) throws IOException {
+        RobotState previousState = previousStates.get(robotId);
+        out.writeByte(previousState != null ? previousState.ordinal() : -1);
+        vitalBaselines.writeWorker(out, robotId);
+    }
+
+    public void readRobotState(DataInput in, String robotId) throws IOException {
+        int ordinal = in.readByte();
+        if (ordinal >= 0) {
+            previousStates.put(robotId, RobotState.values()[ordinal]);
+        }
+        vitalBaselines.readWorker(in, robotId);
+    }
+
+    /**
+     * 월드에서 빠진 로봇의 상태 제거
+     */
+    public void removeRobot(String robotId) {
+        previousStates.remove(robotId);
+        vitalBaselines.remove(robotId);
+        if (wearables != null) {
+            wearables.release(robotId);
+        }
+    }
+
+    public VitalBaselineTracker getVitalBaselines() {
+        return vitalBaselines;
+    }
+
+    public WearableStream getWearables() {
+        return wearables;
+    }
+
     public interface EventListener {
         void onEvent(SimulatorEvent event);
     }
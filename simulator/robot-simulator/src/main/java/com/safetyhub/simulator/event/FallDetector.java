@@ -0,0 +1,250 @@
+package com.safetyhub.simulator.event;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * 스트리밍 낙상 감지기
+ * 100Hz 가속도 샘플을 장치별로 받아 자유낙하 → 충격 → 움직임 없음 순서가 모두 나타날 때만 낙상으로 판정
+ *
+ * 단일 샘플 임계값 판정(AccelerometerData.isFallDetected)은 부딪힘에도 반응하고
+ * 충격 뒤 일어선 경우와 쓰러진 경우를 구분하지 못하므로 패턴 전체를 확인함
+ *
+ * 구조:
+ * - 장치별 단계(대기, 자유낙하 확인, 충격 후 관찰)와 카운터는 장치 번호로 접근하는 기본형 배열
+ * - 움직임 없음 판정용 슬라이딩 윈도우는 축별 short 링 버퍼와 합계/제곱합을 정수로 유지
+ *   (샘플마다 빠지는 값을 빼고 들어오는 값을 더하므로 O(1), 누적 오차 없음)
+ * - 샘플 객체를 만들지 않으며 장치당 메모리는 윈도우 크기에 비례하는 고정 크기
+ *
+ * 스레드 안전하지 않음 (한 스레드에서 샘플 입력)
+ */
+public class FallDetector {
+
+    public static final int SAMPLE_RATE_HZ = VitalStreamGenerator.SAMPLE_RATE_HZ;
+
+    // 자유낙하: 합성 가속도가 0.6g 미만인 샘플이 0.08초 이상 연속
+    private static final int FREE_FALL_MILLI_G = 600;
+    private static final int FREE_FALL_MIN_SAMPLES = 8;
+
+    // 충격: 자유낙하 확인 후 1초 이내 2.5g 이상
+    private static final int IMPACT_MILLI_G = 2500;
+    private static final int IMPACT_WAIT_SAMPLES = 100;
+
+    // 움직임 없음: 충격 후 0.5초 안정 구간을 지나 1초 윈도우의 흔들림(표준편차)이 30mg 미만, 3초까지 관찰
+    private static final int SETTLE_SAMPLES = 50;
+    private static final int WINDOW_SAMPLES = 100;
+    private static final int STILL_STD_MILLI_G = 30;
+    private static final int STILL_WAIT_SAMPLES = 300;
+
+    private static final long FREE_FALL_SQ = (long) FREE_FALL_MILLI_G * FREE_FALL_MILLI_G;
+    private static final long IMPACT_SQ = (long) IMPACT_MILLI_G * IMPACT_MILLI_G;
+    private static final long STILL_VARIANCE_SCALED =
+            (long) STILL_STD_MILLI_G * STILL_STD_MILLI_G * WINDOW_SAMPLES * WINDOW_SAMPLES;
+
+    // 단계
+    private static final byte IDLE = 0;
+    private static final byte FREE_FALL = 1;
+    private static final byte POST_IMPACT = 2;
+
+    /**
+     * 낙상 감지 수신자
+     */
+    @FunctionalInterface
+    public interface FallListener {
+        /**
+         * @param device          장치 번호
+         * @param timestampMillis 판정 시점 샘플 시각
+         * @param peakMilliG      충격 최대 합성 가속도 (mg)
+         */
+        void onFall(int device, long timestampMillis, int peakMilliG);
+    }
+
+    private final int deviceCount;
+    private final FallListener listener;
+
+    // 장치별 단계
+    private final byte[] stage;
+    private final int[] counter;       // IDLE: 연속 자유낙하 샘플 수, 그 외: 단계 진입 후 샘플 수
+    private final long[] peakSq;       // 충격 최대 합성 가속도 제곱
+
+    // 장치별 슬라이딩 윈도우 (장치 i의 샘플은 [i * WINDOW_SAMPLES, (i + 1) * WINDOW_SAMPLES))
+    private final short[] windowX;
+    private final short[] windowY;
+    private final short[] windowZ;
+    private final int[] windowPosition;
+    private final long[] sumX;
+    private final long[] sumY;
+    private final long[] sumZ;
+    private final long[] sumSquares;   // x² + y² + z² 합
+
+    private long detections;
+
+    public FallDetector(int deviceCount, FallListener listener) {
+        if (deviceCount <= 0) {
+            throw new IllegalArgumentException("deviceCount must be positive");
+        }
+        this.deviceCount = deviceCount;
+        this.listener = listener;
+
+        this.stage = new byte[deviceCount];
+        this.counter = new int[deviceCount];
+        this.peakSq = new long[deviceCount];
+
+        this.windowX = new short[deviceCount * WINDOW_SAMPLES];
+        this.windowY = new short[deviceCount * WINDOW_SAMPLES];
+        this.windowZ = new short[deviceCount * WINDOW_SAMPLES];
+        this.windowPosition = new int[deviceCount];
+        this.sumX = new long[deviceCount];
+        this.sumY = new long[deviceCount];
+        this.sumZ = new long[deviceCount];
+        this.sumSquares = new long[deviceCount];
+    }
+
+    /**
+     * VitalStreamGenerator 프레임의 가속도 샘플을 모두 입력
+     *
+     * @return 이 프레임에서 감지한 낙상 수
+     */
+    public int onFrame(ByteBuffer frame) {
+        ByteBuffer buffer = frame.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        int start = buffer.position();
+        int device = buffer.getInt(start);
+        long timestamp = buffer.getLong(start + 8);
+        int samples = buffer.getShort(start + 18);
+
+        int x = start + VitalStreamGenerator.HEADER_BYTES + samples * 2;  // PPG 블록 다음
+        int y = x + samples * 2;
+        int z = y + samples * 2;
+        int detected = 0;
+        for (int i = 0; i < samples; i++) {
+            int offset = i * 2;
+            if (onSample(device, timestamp + i * 1000L / SAMPLE_RATE_HZ,
+                    buffer.getShort(x + offset), buffer.getShort(y + offset), buffer.getShort(z + offset))) {
+                detected++;
+            }
+        }
+        return detected;
+    }
+
+    /**
+     * 가속도 샘플 하나 입력 (mg)
+     *
+     * @return 이 샘플에서 낙상 패턴이 완성되었으면 true
+     */
+    public boolean onSample(int device, long timestampMillis, int x, int y, int z) {
+        slide(device, x, y, z);
+        long magnitudeSq = (long) x * x + (long) y * y + (long) z * z;
+
+        switch (stage[device]) {
+            case IDLE -> {
+                counter[device] = magnitudeSq < FREE_FALL_SQ ? counter[device] + 1 : 0;
+                if (counter[device] >= FREE_FALL_MIN_SAMPLES) {
+                    enter(device, FREE_FALL);
+                }
+            }
+            case FREE_FALL -> {
+                if (magnitudeSq >= IMPACT_SQ) {
+                    enter(device, POST_IMPACT);
+                    peakSq[device] = magnitudeSq;
+                } else if (++counter[device] > IMPACT_WAIT_SAMPLES) {
+                    enter(device, IDLE);
+                }
+            }
+            case POST_IMPACT -> {
+                int elapsed = ++counter[device];
+                if (elapsed < SETTLE_SAMPLES) {
+                    peakSq[device] = Math.max(peakSq[device], magnitudeSq);
+                } else if (elapsed >= SETTLE_SAMPLES + WINDOW_SAMPLES) {
+                    // 윈도우가 안정 구간 이후 샘플로만 채워진 뒤부터 판정
+                    if (isStill(device)) {
+                        int peak = (int) Math.sqrt(peakSq[device]);
+                        enter(device, IDLE);
+                        detections++;
+                        if (listener != null) {
+                            listener.onFall(device, timestampMillis, peak);
+                        }
+                        return true;
+                    }
+                    if (elapsed >= SETTLE_SAMPLES + STILL_WAIT_SAMPLES) {
+                        enter(device, IDLE);  // 충격 후 계속 움직임 (부딪힘, 점프 등)
+                    }
+                }
+            }
+            default -> throw new IllegalStateException("Unknown stage: " + stage[device]);
+        }
+        return false;
+    }
+
+    /**
+     * 장치 상태 초기화 (장치 재할당 시)
+     */
+    public void reset(int device) {
+        enter(device, IDLE);
+        int base = device * WINDOW_SAMPLES;
+        for (int i = 0; i < WINDOW_SAMPLES; i++) {
+            windowX[base + i] = 0;
+            windowY[base + i] = 0;
+            windowZ[base + i] = 0;
+        }
+        windowPosition[device] = 0;
+        sumX[device] = 0;
+        sumY[device] = 0;
+        sumZ[device] = 0;
+        sumSquares[device] = 0;
+    }
+
+    /**
+     * 충격 이후 움직임 없음을 기다리는 중인지
+     */
+    public boolean isAwaitingStillness(int device) {
+        return stage[device] == POST_IMPACT;
+    }
+
+    public int getDeviceCount() {
+        return deviceCount;
+    }
+
+    public long getDetections() {
+        return detections;
+    }
+
+    private void enter(int device, byte next) {
+        stage[device] = next;
+        counter[device] = 0;
+        peakSq[device] = 0;
+    }
+
+    /**
+     * 윈도우에 샘플 추가 (가장 오래된 샘플을 빼고 합계 갱신)
+     */
+    private void slide(int device, int x, int y, int z) {
+        int position = windowPosition[device];
+        int slot = device * WINDOW_SAMPLES + position;
+        int oldX = windowX[slot];
+        int oldY = windowY[slot];
+        int oldZ = windowZ[slot];
+
+        sumX[device] += x - oldX;
+        sumY[device] += y - oldY;
+        sumZ[device] += z - oldZ;
+        sumSquares[device] += ((long) x * x + (long) y * y + (long) z * z)
+                - ((long) oldX * oldX + (long) oldY * oldY + (long) oldZ * oldZ);
+
+        windowX[slot] = (short) x;
+        windowY[slot] = (short) y;
+        windowZ[slot] = (short) z;
+        windowPosition[device] = position + 1 == WINDOW_SAMPLES ? 0 : position + 1;
+    }
+
+    /**
+     * 윈도우의 세 축 분산 합이 기준 미만인지
+     * N² × 분산 = N × Σ(v²) - (Σv)² 이므로 나눗셈 없이 정수로 비교
+     */
+    private boolean isStill(int device) {
+        long x = sumX[device];
+        long y = sumY[device];
+        long z = sumZ[device];
+        long scaledVariance = WINDOW_SAMPLES * sumSquares[device] - (x * x + y * y + z * z);
+        return scaledVariance < STILL_VARIANCE_SCALED;
+    }
+}
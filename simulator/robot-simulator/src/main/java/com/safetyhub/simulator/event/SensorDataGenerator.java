@@ -127,7 +127,7 @@ public class SensorDataGenerator {
         }
 
         public boolean isFallDetected() {
-            // 자유낙하 감지: 총 가속도가 0.5G 미만
+            // 자유낙하 감지: 총 가속도가 0.5G 미만 (단일 샘플 기준, 낙상 판정은 FallDetector 사용)
             return magnitude() < 0.5;
         }
     }
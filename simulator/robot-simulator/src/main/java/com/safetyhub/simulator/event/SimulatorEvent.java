@@ -19,10 +19,18 @@ public class SimulatorEvent {
     }
 
     public SimulatorEvent(String type, String robotId, Object payload, EventPriority priority) {
-        this.id = UUID.randomUUID().toString();
+        this(UUID.randomUUID().toString(), type, robotId, Instant.now(), payload, priority);
+    }
+
+    /**
+     * ID와 발생 시각을 지정하여 생성 (기록된 이벤트 재생용)
+     */
+    public SimulatorEvent(String id, String type, String robotId, Instant timestamp, Object payload,
+                          EventPriority priority) {
+        this.id = id;
         this.type = type;
         this.robotId = robotId;
-        this.timestamp = Instant.now();
+        this.timestamp = timestamp;
         this.payload = payload;
         this.priority = priority;
     }
@@ -39,6 +47,14 @@ public class SimulatorEvent {
         return new SimulatorEvent("EMERGENCY", robotId, emergency, EventPriority.CRITICAL);
     }
 
+    public static SimulatorEvent fallDetected(String robotId, FallData fall) {
+        return new SimulatorEvent("FALL_DETECTED", robotId, fall, EventPriority.CRITICAL);
+    }
+
+    public static SimulatorEvent vitalAnomaly(String robotId, VitalAnomalyData anomaly) {
+        return new SimulatorEvent("VITAL_ANOMALY", robotId, anomaly, EventPriority.HIGH);
+    }
+
     public static SimulatorEvent stateChange(String robotId, StateChangeData stateChange) {
         return new SimulatorEvent("STATE_CHANGE", robotId, stateChange, EventPriority.HIGH);
     }
@@ -55,5 +71,7 @@ public class SimulatorEvent {
     public record LocationData(int x, int y, String zoneId) {}
     public record VitalsData(int heartRate, double temperature, int batteryLevel, String state) {}
     public record EmergencyData(String type, String healthStatus, int heartRate, double temperature, String zoneId) {}
+    public record FallData(long detectedAtMillis, int peakImpactMilliG) {}
+    public record VitalAnomalyData(String vital, double value, double baseline, double zScore) {}
     public record StateChangeData(String previousState, String newState, String reason) {}
 }
@@ -0,0 +1,306 @@
+package com.safetyhub.simulator.event;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 작업자별 생체 신호 기준선 추적기
+ * 고정 임계값 대신 작업자 자신의 평균/분산 기준으로 벗어난 정도(z-score)가 크면 이상으로 판정
+ *
+ * 기준선 계산:
+ * - 처음 warmup개 샘플은 Welford 방식으로 정확한 평균/분산을 구함 (이 구간은 판정하지 않음)
+ * - 이후에는 지수 가중 이동 평균/분산(EWMA)으로 천천히 따라가므로 작업자 상태 변화에 적응
+ * - 표준편차가 너무 작아 사소한 변화에 반응하지 않도록 채널별 최소 표준편차를 둠
+ *
+ * 알림은 |z|가 기준을 넘는 순간 한 번 발생하고, 기준의 절반 아래로 돌아오면 다시 발생 가능
+ *
+ * 작업자는 register로 받은 연속 번호로 접근하며 상태는 [작업자 × 채널] 기본형 배열에 보관
+ * 작업자당 메모리는 채널 수에 비례하는 고정 크기
+ * remove는 마지막 작업자를 빈 자리로 옮기므로 번호는 remove 전까지만 유효
+ *
+ * 작업자 하나의 기준선은 writeWorker/readWorker로 다른 추적기(다른 샤드)에 옮길 수 있음
+ *
+ * 스레드 안전하지 않음 (한 스레드에서 update 호출)
+ */
+public class VitalBaselineTracker {
+
+    public static final int DEFAULT_WARMUP_SAMPLES = 20;
+    public static final double DEFAULT_ALPHA = 0.05;
+    public static final double DEFAULT_Z_THRESHOLD = 3.0;
+
+    // 알림 해제 기준 (임계값 대비 비율)
+    private static final double RESET_RATIO = 0.5;
+    private static final int INITIAL_CAPACITY = 64;
+
+    public enum Channel {
+        HEART_RATE(2.0),        // bpm
+        BODY_TEMPERATURE(0.1);  // °C
+
+        private final double minStdDev;
+
+        Channel(double minStdDev) {
+            this.minStdDev = minStdDev;
+        }
+
+        public double getMinStdDev() {
+            return minStdDev;
+        }
+    }
+
+    private static final int CHANNEL_COUNT = Channel.values().length;
+
+    /**
+     * 이상 감지 수신자
+     */
+    @FunctionalInterface
+    public interface AnomalyListener {
+        /**
+         * @param worker   작업자 번호
+         * @param value    측정값
+         * @param baseline 판정 시점의 기준 평균
+         * @param zScore   (value - baseline) / 표준편차
+         */
+        void onAnomaly(int worker, Channel channel, double value, double baseline, double zScore);
+    }
+
+    private final int warmupSamples;
+    private final double alpha;
+    private final double zThreshold;
+    private final AnomalyListener listener;
+
+    private final Map<String, Integer> indexById = new HashMap<>();
+    private String[] workerIds = new String[INITIAL_CAPACITY];
+    private int workerCount;
+
+    // [worker * CHANNEL_COUNT + channel]
+    private double[] mean = new double[INITIAL_CAPACITY * CHANNEL_COUNT];
+    private double[] spread = new double[INITIAL_CAPACITY * CHANNEL_COUNT];  // 워밍업 중 M2(편차 제곱합), 이후 분산
+    private int[] count = new int[INITIAL_CAPACITY * CHANNEL_COUNT];
+    private boolean[] alerting = new boolean[INITIAL_CAPACITY * CHANNEL_COUNT];
+
+    private long updates;
+    private long alerts;
+
+    public VitalBaselineTracker(AnomalyListener listener) {
+        this(DEFAULT_WARMUP_SAMPLES, DEFAULT_ALPHA, DEFAULT_Z_THRESHOLD, listener);
+    }
+
+    /**
+     * @param warmupSamples 판정 전에 모을 샘플 수
+     * @param alpha         워밍업 이후 EWMA 가중치 (클수록 빨리 적응)
+     * @param zThreshold    알림 기준 |z|
+     */
+    public VitalBaselineTracker(int warmupSamples, double alpha, double zThreshold, AnomalyListener listener) {
+        if (warmupSamples < 2) {
+            throw new IllegalArgumentException("warmupSamples must be at least 2");
+        }
+        if (alpha <= 0 || alpha >= 1) {
+            throw new IllegalArgumentException("alpha must be in (0, 1): " + alpha);
+        }
+        if (zThreshold <= 0) {
+            throw new IllegalArgumentException("zThreshold must be positive");
+        }
+        this.warmupSamples = warmupSamples;
+        this.alpha = alpha;
+        this.zThreshold = zThreshold;
+        this.listener = listener;
+    }
+
+    /**
+     * 작업자 등록 (이미 등록된 작업자면 기존 번호 반환)
+     *
+     * @return 0부터 시작하는 연속 번호
+     */
+    public int register(String workerId) {
+        Integer existing = indexById.get(workerId);
+        if (existing != null) {
+            return existing;
+        }
+        if (workerCount == workerIds.length) {
+            grow();
+        }
+        int index = workerCount++;
+        workerIds[index] = workerId;
+        indexById.put(workerId, index);
+        return index;
+    }
+
+    /**
+     * 등록된 작업자 번호 (없으면 -1)
+     */
+    public int indexOf(String workerId) {
+        Integer index = indexById.get(workerId);
+        return index != null ? index : -1;
+    }
+
+    /**
+     * 작업자 제거 (마지막 작업자를 빈 번호로 옮김)
+     *
+     * @return 등록되어 있었으면 true
+     */
+    public boolean remove(String workerId) {
+        Integer removed = indexById.remove(workerId);
+        if (removed == null) {
+            return false;
+        }
+        int last = --workerCount;
+        if (removed != last) {
+            String moved = workerIds[last];
+            workerIds[removed] = moved;
+            indexById.put(moved, removed);
+            System.arraycopy(mean, last * CHANNEL_COUNT, mean, removed * CHANNEL_COUNT, CHANNEL_COUNT);
+            System.arraycopy(spread, last * CHANNEL_COUNT, spread, removed * CHANNEL_COUNT, CHANNEL_COUNT);
+            System.arraycopy(count, last * CHANNEL_COUNT, count, removed * CHANNEL_COUNT, CHANNEL_COUNT);
+            System.arraycopy(alerting, last * CHANNEL_COUNT, alerting, removed * CHANNEL_COUNT, CHANNEL_COUNT);
+        }
+        workerIds[last] = null;
+        Arrays.fill(mean, last * CHANNEL_COUNT, (last + 1) * CHANNEL_COUNT, 0.0);
+        Arrays.fill(spread, last * CHANNEL_COUNT, (last + 1) * CHANNEL_COUNT, 0.0);
+        Arrays.fill(count, last * CHANNEL_COUNT, (last + 1) * CHANNEL_COUNT, 0);
+        Arrays.fill(alerting, last * CHANNEL_COUNT, (last + 1) * CHANNEL_COUNT, false);
+        return true;
+    }
+
+    /**
+     * 작업자 하나의 기준선 기록 (등록 여부 + 채널별 평균, 분산, 샘플 수, 알림 상태)
+     */
+    public void writeWorker(DataOutput out, String workerId) throws IOException {
+        int worker = indexOf(workerId);
+        out.writeBoolean(worker >= 0);
+        if (worker < 0) {
+            return;
+        }
+        for (int slot = worker * CHANNEL_COUNT; slot < (worker + 1) * CHANNEL_COUNT; slot++) {
+            out.writeDouble(mean[slot]);
+            out.writeDouble(spread[slot]);
+            out.writeInt(count[slot]);
+            out.writeBoolean(alerting[slot]);
+        }
+    }
+
+    /**
+     * writeWorker로 기록한 기준선을 이 추적기의 작업자로 복원 (워밍업을 다시 하지 않음)
+     */
+    public void readWorker(DataInput in, String workerId) throws IOException {
+        if (!in.readBoolean()) {
+            return;
+        }
+        int worker = register(workerId);
+        for (int slot = worker * CHANNEL_COUNT; slot < (worker + 1) * CHANNEL_COUNT; slot++) {
+            mean[slot] = in.readDouble();
+            spread[slot] = in.readDouble();
+            count[slot] = in.readInt();
+            alerting[slot] = in.readBoolean();
+        }
+    }
+
+    public String getWorkerId(int worker) {
+        return workerIds[worker];
+    }
+
+    /**
+     * 측정값 반영
+     *
+     * @return 기준선 대비 z-score (워밍업 중이면 NaN)
+     */
+    public double update(int worker, Channel channel, double value) {
+        int slot = slot(worker, channel);
+        updates++;
+
+        int n = count[slot];
+        if (n < warmupSamples) {
+            // Welford
+            n++;
+            double delta = value - mean[slot];
+            mean[slot] += delta / n;
+            spread[slot] += delta * (value - mean[slot]);
+            if (n == warmupSamples) {
+                spread[slot] /= n - 1;  // M2 → 표본 분산
+            }
+            count[slot] = n;
+            return Double.NaN;
+        }
+
+        double baseline = mean[slot];
+        double stdDev = Math.max(Math.sqrt(spread[slot]), channel.minStdDev);
+        double z = (value - baseline) / stdDev;
+        checkAlert(worker, channel, slot, value, baseline, z);
+
+        // EWMA 평균/분산
+        double diff = value - baseline;
+        double increment = alpha * diff;
+        mean[slot] = baseline + increment;
+        spread[slot] = (1 - alpha) * (spread[slot] + diff * increment);
+        if (n < Integer.MAX_VALUE) {
+            count[slot] = n + 1;
+        }
+        return z;
+    }
+
+    private void checkAlert(int worker, Channel channel, int slot, double value, double baseline, double z) {
+        double magnitude = Math.abs(z);
+        if (!alerting[slot]) {
+            if (magnitude >= zThreshold) {
+                alerting[slot] = true;
+                alerts++;
+                if (listener != null) {
+                    listener.onAnomaly(worker, channel, value, baseline, z);
+                }
+            }
+        } else if (magnitude < zThreshold * RESET_RATIO) {
+            alerting[slot] = false;
+        }
+    }
+
+    public double getMean(int worker, Channel channel) {
+        return mean[slot(worker, channel)];
+    }
+
+    /**
+     * 현재 기준 표준편차 (워밍업 중이면 NaN)
+     */
+    public double getStdDev(int worker, Channel channel) {
+        int slot = slot(worker, channel);
+        return count[slot] < warmupSamples ? Double.NaN : Math.sqrt(spread[slot]);
+    }
+
+    public int getSampleCount(int worker, Channel channel) {
+        return count[slot(worker, channel)];
+    }
+
+    public boolean isAlerting(int worker, Channel channel) {
+        return alerting[slot(worker, channel)];
+    }
+
+    public int getWorkerCount() {
+        return workerCount;
+    }
+
+    public long getUpdateCount() {
+        return updates;
+    }
+
+    public long getAlertCount() {
+        return alerts;
+    }
+
+    private int slot(int worker, Channel channel) {
+        if (worker < 0 || worker >= workerCount) {
+            throw new IndexOutOfBoundsException("Unknown worker index: " + worker);
+        }
+        return worker * CHANNEL_COUNT + channel.ordinal();
+    }
+
+    private void grow() {
+        int capacity = workerIds.length * 2;
+        workerIds = Arrays.copyOf(workerIds, capacity);
+        mean = Arrays.copyOf(mean, capacity * CHANNEL_COUNT);
+        spread = Arrays.copyOf(spread, capacity * CHANNEL_COUNT);
+        count = Arrays.copyOf(count, capacity * CHANNEL_COUNT);
+        alerting = Arrays.copyOf(alerting, capacity * CHANNEL_COUNT);
+    }
+}
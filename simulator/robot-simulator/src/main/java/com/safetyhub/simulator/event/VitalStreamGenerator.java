@@ -0,0 +1,358 @@
+package com.safetyhub.simulator.event;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * 생체 신호 스트리밍 생성기
+ * 여러 LifeGuard 밴드의 PPG(100Hz)와 3축 가속도(100Hz) 샘플을 연속으로 생성
+ *
+ * 구조:
+ * - 장치별 상태(위상, 심박수, 활동, 낙상 진행, 난수 상태)는 장치 번호로 접근하는 기본형 배열
+ * - 샘플은 채널별 short 링 버퍼(장치당 2프레임 분량)에 기록하고, 샘플 객체는 만들지 않음
+ * - 모든 장치가 같은 속도로 진행하므로 프레임 길이만큼 쌓일 때마다 장치별 고정 크기 프레임을 내보냄
+ * - 프레임은 재사용 ByteBuffer에 기록되며 FrameSink 호출 동안만 유효함
+ *
+ * 단일 코어 기준 5,000대 × 100Hz(초당 50만 샘플 × 4채널)를 실시간보다 빠르게 생성하도록
+ * PPG 파형은 미리 계산한 한 주기 테이블을 보간하고, 잡음은 장치별 xorshift 상태로 만듦
+ *
+ * 스레드 안전하지 않음 (한 스레드에서 advance 호출)
+ */
+public class VitalStreamGenerator {
+
+    public static final int SAMPLE_RATE_HZ = 100;
+
+    /**
+     * 프레임 레이아웃 (리틀 엔디언, 고정 크기)
+     * [0] int 장치 번호, [4] int 프레임 순번, [8] long 첫 샘플 시각(epoch ms),
+     * [16] short 심박수(bpm), [18] short 샘플 수, [20] PPG short × n, 이어서 가속도 x, y, z short × n (mg)
+     */
+    public static final int HEADER_BYTES = 20;
+
+    private static final int PPG_TABLE_SIZE = 256;
+    private static final float[] PPG_WAVE = buildPpgWave();
+
+    private static final short ONE_G = 1000;  // 가속도 단위: mg
+
+    // 낙상 단계 길이 (샘플 수, 100Hz)
+    private static final int FREE_FALL_SAMPLES = 30;   // 0.3초 자유낙하
+    private static final int IMPACT_SAMPLES = 5;       // 0.05초 충격
+    private static final int LYING_SAMPLES = 500;      // 5초 움직임 없음
+
+    public enum Activity {
+        REST(20),
+        WORK(80),
+        MOVE(250);
+
+        private final int noiseMilliG;
+
+        Activity(int noiseMilliG) {
+            this.noiseMilliG = noiseMilliG;
+        }
+    }
+
+    private static final Activity[] ACTIVITIES = Activity.values();
+
+    /**
+     * 프레임 수신자
+     */
+    @FunctionalInterface
+    public interface FrameSink {
+        /**
+         * @param frame 프레임 (position=0, limit=프레임 크기), 호출이 끝나면 재사용되므로 보관하려면 복사
+         */
+        void onFrame(ByteBuffer frame);
+    }
+
+    private final int deviceCount;
+    private final int frameSamples;
+    private final int ringSamples;
+    private final long startEpochMillis;
+
+    // 장치별 상태
+    private final double[] phase;        // 심장 주기 위상 [0, 1)
+    private final short[] heartRate;     // bpm
+    private final byte[] activity;       // Activity.ordinal
+    private final int[] fallStep;        // 낙상 진행 샘플 (-1이면 없음)
+    private final long[] rngState;       // xorshift64 상태
+
+    // 채널별 링 버퍼 (장치 i의 샘플은 [i * ringSamples, (i + 1) * ringSamples))
+    private final short[] ppgRing;
+    private final short[] accelX;
+    private final short[] accelY;
+    private final short[] accelZ;
+
+    private long samplesWritten;  // 장치당 누적 샘플 수
+    private final ByteBuffer frame;
+    private final int[] frameSequence;
+
+    /**
+     * @param deviceCount  장치 수
+     * @param frameSeconds 프레임 길이 (초)
+     * @param seed         난수 시드 (같은 시드면 같은 신호)
+     */
+    public VitalStreamGenerator(int deviceCount, int frameSeconds, long seed, long startEpochMillis) {
+        if (deviceCount <= 0) {
+            throw new IllegalArgumentException("deviceCount must be positive");
+        }
+        if (frameSeconds <= 0) {
+            throw new IllegalArgumentException("frameSeconds must be positive");
+        }
+        this.deviceCount = deviceCount;
+        this.frameSamples = frameSeconds * SAMPLE_RATE_HZ;
+        this.ringSamples = frameSamples * 2;
+        this.startEpochMillis = startEpochMillis;
+
+        this.phase = new double[deviceCount];
+        this.heartRate = new short[deviceCount];
+        this.activity = new byte[deviceCount];
+        this.fallStep = new int[deviceCount];
+        this.rngState = new long[deviceCount];
+        this.frameSequence = new int[deviceCount];
+
+        this.ppgRing = new short[deviceCount * ringSamples];
+        this.accelX = new short[deviceCount * ringSamples];
+        this.accelY = new short[deviceCount * ringSamples];
+        this.accelZ = new short[deviceCount * ringSamples];
+
+        this.frame = ByteBuffer.allocate(frameBytes()).order(ByteOrder.LITTLE_ENDIAN);
+
+        long mix = seed;
+        for (int i = 0; i < deviceCount; i++) {
+            mix = mix * 6364136223846793005L + 1442695040888963407L;
+            rngState[i] = mix == 0 ? 1 : mix;
+            phase[i] = (nextRandom(i) & 0xFFFF) / 65536.0;
+            heartRate[i] = (short) (65 + (nextRandom(i) & 0xF));  // 65-80 bpm
+            activity[i] = (byte) Activity.WORK.ordinal();
+            fallStep[i] = -1;
+        }
+    }
+
+    /**
+     * 프레임 하나의 바이트 크기
+     */
+    public int frameBytes() {
+        return HEADER_BYTES + frameSamples * 2 * 4;
+    }
+
+    public int getDeviceCount() {
+        return deviceCount;
+    }
+
+    public int getFrameSamples() {
+        return frameSamples;
+    }
+
+    public long getSamplesWritten() {
+        return samplesWritten;
+    }
+
+    public void setHeartRate(int device, int bpm) {
+        heartRate[device] = (short) bpm;
+    }
+
+    public void setActivity(int device, Activity value) {
+        activity[device] = (byte) value.ordinal();
+    }
+
+    /**
+     * 낙상 패턴 시작 (자유낙하 → 충격 → 움직임 없음)
+     */
+    public void triggerFall(int device) {
+        fallStep[device] = 0;
+    }
+
+    /**
+     * 진행 중인 낙상 패턴 취소 (장치 재할당 시)
+     */
+    public void cancelFall(int device) {
+        fallStep[device] = -1;
+    }
+
+    public boolean isFalling(int device) {
+        return fallStep[device] >= 0;
+    }
+
+    /**
+     * 모든 장치의 신호를 samples개씩 진행하고 완성된 프레임을 내보냄
+     */
+    public void advance(int samples, FrameSink sink) {
+        int remaining = samples;
+        while (remaining > 0) {
+            // 프레임 경계까지만 생성 (장치 단위로 연속 기록하여 캐시 지역성 유지)
+            int offsetInFrame = (int) (samplesWritten % frameSamples);
+            int chunk = Math.min(remaining, frameSamples - offsetInFrame);
+            int ringStart = (int) (samplesWritten % ringSamples);
+            for (int device = 0; device < deviceCount; device++) {
+                generate(device, ringStart, chunk);
+            }
+            samplesWritten += chunk;
+            remaining -= chunk;
+
+            if (samplesWritten % frameSamples == 0 && sink != null) {
+                emitFrames(sink);
+            }
+        }
+    }
+
+    /**
+     * 최근 가속도 샘플 복사 (링 버퍼에 남은 최근 2프레임 이내)
+     *
+     * @return 복사한 샘플 수
+     */
+    public int copyRecentAccel(int device, int count, short[] x, short[] y, short[] z) {
+        int available = (int) Math.min(count, Math.min(samplesWritten, ringSamples));
+        int base = device * ringSamples;
+        long first = samplesWritten - available;
+        for (int i = 0; i < available; i++) {
+            int slot = base + (int) ((first + i) % ringSamples);
+            x[i] = accelX[slot];
+            y[i] = accelY[slot];
+            z[i] = accelZ[slot];
+        }
+        return available;
+    }
+
+    private void generate(int device, int ringStart, int count) {
+        int base = device * ringSamples;
+        double step = heartRate[device] / 60.0 / SAMPLE_RATE_HZ;
+        double p = phase[device];
+        int noise = ACTIVITIES[activity[device]].noiseMilliG;
+
+        // 한 번에 생성하는 구간은 프레임 경계를 넘지 않으므로 링 끝을 넘지 않음 (링 = 2프레임)
+        for (int i = 0; i < count; i++) {
+            int slot = base + ringStart + i;
+
+            // PPG: 한 주기 테이블 선형 보간 + 잡음, 12비트 ADC 범위
+            double position = p * PPG_TABLE_SIZE;
+            int index = (int) position;
+            double frac = position - index;
+            double wave = PPG_WAVE[index] + (PPG_WAVE[(index + 1) & (PPG_TABLE_SIZE - 1)] - PPG_WAVE[index]) * frac;
+            int ppg = (int) (1024 + wave * 2048) + signedNoise(device, 24);
+            ppgRing[slot] = (short) Math.max(0, Math.min(4095, ppg));
+            p += step;
+            if (p >= 1.0) {
+                p -= 1.0;
+            }
+
+            // 가속도: 중력(z) + 활동 잡음, 낙상 중이면 단계별 패턴
+            int fall = fallStep[device];
+            if (fall >= 0) {
+                writeFallSample(device, slot, fall);
+                fallStep[device] = fall + 1 < FREE_FALL_SAMPLES + IMPACT_SAMPLES + LYING_SAMPLES ? fall + 1 : -1;
+            } else {
+                accelX[slot] = (short) signedNoise(device, noise);
+                accelY[slot] = (short) signedNoise(device, noise);
+                accelZ[slot] = (short) (ONE_G + signedNoise(device, noise));
+            }
+        }
+        phase[device] = p;
+    }
+
+    private void writeFallSample(int device, int slot, int step) {
+        if (step < FREE_FALL_SAMPLES) {
+            // 자유낙하: 합성 가속도 0.1~0.3g
+            accelX[slot] = (short) signedNoise(device, 80);
+            accelY[slot] = (short) signedNoise(device, 80);
+            accelZ[slot] = (short) (150 + signedNoise(device, 50));
+        } else if (step < FREE_FALL_SAMPLES + IMPACT_SAMPLES) {
+            // 충격: 3~4g
+            accelX[slot] = (short) (1500 + signedNoise(device, 300));
+            accelY[slot] = (short) (1200 + signedNoise(device, 300));
+            accelZ[slot] = (short) (2800 + signedNoise(device, 300));
+        } else {
+            // 쓰러진 뒤 정지: 중력은 옆 방향(x), 잡음 작음
+            accelX[slot] = (short) (ONE_G + signedNoise(device, 10));
+            accelY[slot] = (short) signedNoise(device, 10);
+            accelZ[slot] = (short) signedNoise(device, 10);
+        }
+    }
+
+    private void emitFrames(FrameSink sink) {
+        long firstSample = samplesWritten - frameSamples;
+        int ringStart = (int) (firstSample % ringSamples);
+        long timestamp = startEpochMillis + firstSample * 1000 / SAMPLE_RATE_HZ;
+
+        for (int device = 0; device < deviceCount; device++) {
+            int base = device * ringSamples + ringStart;  // 프레임은 링 경계를 넘지 않음 (링 = 2프레임)
+            frame.clear();
+            frame.putInt(device);
+            frame.putInt(frameSequence[device]++);
+            frame.putLong(timestamp);
+            frame.putShort(heartRate[device]);
+            frame.putShort((short) frameSamples);
+            putShorts(ppgRing, base);
+            putShorts(accelX, base);
+            putShorts(accelY, base);
+            putShorts(accelZ, base);
+            frame.flip();
+            sink.onFrame(frame);
+        }
+    }
+
+    private void putShorts(short[] source, int offset) {
+        frame.asShortBuffer().put(source, offset, frameSamples);
+        frame.position(frame.position() + frameSamples * 2);
+    }
+
+    /**
+     * [-amplitude, amplitude] 범위의 삼각 분포 잡음 (균등 난수 두 개의 합)
+     */
+    private int signedNoise(int device, int amplitude) {
+        long r = nextRandom(device);
+        int a = (int) (r & 0xFFFF);
+        int b = (int) ((r >>> 16) & 0xFFFF);
+        return (a + b - 0xFFFF) * amplitude / 0xFFFF;
+    }
+
+    private long nextRandom(int device) {
+        long x = rngState[device];
+        x ^= x << 13;
+        x ^= x >>> 7;
+        x ^= x << 17;
+        rngState[device] = x;
+        return x;
+    }
+
+    /**
+     * PPG 한 주기 파형 (수축기 피크 + 중복맥 노치 이후 이완기 피크), 0~1 범위
+     */
+    private static float[] buildPpgWave() {
+        float[] wave = new float[PPG_TABLE_SIZE];
+        for (int i = 0; i < PPG_TABLE_SIZE; i++) {
+            double t = (double) i / PPG_TABLE_SIZE;
+            double systolic = Math.exp(-Math.pow((t - 0.2) / 0.07, 2));
+            double diastolic = 0.45 * Math.exp(-Math.pow((t - 0.45) / 0.1, 2));
+            wave[i] = (float) Math.min(1.0, systolic + diastolic);
+        }
+        return wave;
+    }
+
+    /**
+     * 프레임 디코딩 (소비자/테스트용, 핫 패스에서는 ByteBuffer를 직접 읽음)
+     */
+    public static DecodedFrame decode(ByteBuffer frame) {
+        ByteBuffer buffer = frame.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        int device = buffer.getInt();
+        int sequence = buffer.getInt();
+        long timestamp = buffer.getLong();
+        int heartRate = buffer.getShort();
+        int samples = buffer.getShort();
+        short[] ppg = new short[samples];
+        short[] x = new short[samples];
+        short[] y = new short[samples];
+        short[] z = new short[samples];
+        buffer.asShortBuffer().get(ppg);
+        buffer.position(buffer.position() + samples * 2);
+        buffer.asShortBuffer().get(x);
+        buffer.position(buffer.position() + samples * 2);
+        buffer.asShortBuffer().get(y);
+        buffer.position(buffer.position() + samples * 2);
+        buffer.asShortBuffer().get(z);
+        return new DecodedFrame(device, sequence, timestamp, heartRate, ppg, x, y, z);
+    }
+
+    public record DecodedFrame(int device, int sequence, long timestampMillis, int heartRate,
+                               short[] ppg, short[] accelX, short[] accelY, short[] accelZ) {
+    }
+}
@@ -0,0 +1,144 @@
+package com.safetyhub.simulator.event;
+
+import com.safetyhub.simulator.core.RobotWorker;
+import com.safetyhub.simulator.world.VirtualWorld;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 로봇 작업자가 찬 LifeGuard 밴드의 생체 신호 스트림
+ * VitalStreamGenerator로 100Hz 신호를 만들고 가속도 프레임을 FallDetector에 넣어 낙상 패턴을 판정
+ *
+ * - 밴드 수는 고정, 월드에 처음 나타난 로봇부터 빈 밴드를 배정 (모자라면 배정하지 않음)
+ * - 틱마다 로봇의 심박수와 상태(활동 강도)를 밴드에 반영한 뒤 1초분 샘플을 진행
+ * - triggerFall로 낙상 가속도 패턴을 시작하면 이후 틱의 프레임에서 판정됨 (가속도만으로 판정)
+ * - 로봇이 빠지면 밴드를 반납하고 진행 중인 패턴과 판정 상태를 지움
+ *
+ * 스냅샷에는 포함하지 않음 (복원 후 다시 배정)
+ * 스레드 안전하지 않음 (EventGenerator와 같은 스레드에서 호출)
+ */
+public class WearableStream {
+
+    /**
+     * 낙상 감지 수신자
+     */
+    @FunctionalInterface
+    public interface FallListener {
+        void onFall(String robotId, long timestampMillis, int peakMilliG);
+    }
+
+    private final VitalStreamGenerator generator;
+    private final FallDetector detector;
+    private final FallListener listener;
+
+    private final Map<String, Integer> deviceByRobot = new HashMap<>();
+    private final String[] robotByDevice;
+    private final int[] freeDevices;
+    private int freeCount;
+
+    /**
+     * @param deviceCount 밴드 수
+     * @param seed        신호 난수 시드
+     */
+    public WearableStream(int deviceCount, long seed, FallListener listener) {
+        this.generator = new VitalStreamGenerator(deviceCount, 1, seed, System.currentTimeMillis());
+        this.detector = new FallDetector(deviceCount, this::onFall);
+        this.listener = listener;
+        this.robotByDevice = new String[deviceCount];
+        this.freeDevices = new int[deviceCount];
+        for (int device = deviceCount - 1; device >= 0; device--) {
+            freeDevices[freeCount++] = device;
+        }
+    }
+
+    /**
+     * 밴드 배정과 상태 반영 후 1초분 신호 진행
+     */
+    public void advance(VirtualWorld world) {
+        for (RobotWorker robot : world.getAllRobots()) {
+            int device = assign(robot.getId());
+            if (device < 0) continue;
+            generator.setHeartRate(device, robot.getHeartRate());
+            generator.setActivity(device, activityOf(robot));
+        }
+        generator.advance(VitalStreamGenerator.SAMPLE_RATE_HZ, detector::onFrame);
+    }
+
+    /**
+     * 로봇의 밴드에 낙상 가속도 패턴 시작 (밴드가 없으면 무시)
+     *
+     * @return 밴드가 있어 패턴을 시작했으면 true
+     */
+    public boolean triggerFall(String robotId) {
+        int device = assign(robotId);
+        if (device < 0) {
+            return false;
+        }
+        generator.triggerFall(device);
+        return true;
+    }
+
+    /**
+     * 로봇의 밴드 반납
+     */
+    public void release(String robotId) {
+        Integer device = deviceByRobot.remove(robotId);
+        if (device == null) {
+            return;
+        }
+        robotByDevice[device] = null;
+        generator.cancelFall(device);
+        detector.reset(device);
+        freeDevices[freeCount++] = device;
+    }
+
+    /**
+     * 로봇의 밴드 번호 (없으면 -1)
+     */
+    public int deviceOf(String robotId) {
+        Integer device = deviceByRobot.get(robotId);
+        return device != null ? device : -1;
+    }
+
+    public int getAssignedCount() {
+        return deviceByRobot.size();
+    }
+
+    public int getDeviceCount() {
+        return generator.getDeviceCount();
+    }
+
+    public long getDetections() {
+        return detector.getDetections();
+    }
+
+    private int assign(String robotId) {
+        Integer existing = deviceByRobot.get(robotId);
+        if (existing != null) {
+            return existing;
+        }
+        if (freeCount == 0) {
+            return -1;
+        }
+        int device = freeDevices[--freeCount];
+        deviceByRobot.put(robotId, device);
+        robotByDevice[device] = robotId;
+        return device;
+    }
+
+    private void onFall(int device, long timestampMillis, int peakMilliG) {
+        String robotId = robotByDevice[device];
+        if (robotId != null && listener != null) {
+            listener.onFall(robotId, timestampMillis, peakMilliG);
+        }
+    }
+
+    private static VitalStreamGenerator.Activity activityOf(RobotWorker robot) {
+        return switch (robot.getState()) {
+            case WORKING -> VitalStreamGenerator.Activity.WORK;
+            case MOVING, EVACUATING -> VitalStreamGenerator.Activity.MOVE;
+            default -> VitalStreamGenerator.Activity.REST;
+        };
+    }
+}
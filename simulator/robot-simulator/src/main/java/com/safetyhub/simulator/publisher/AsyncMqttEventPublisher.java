@@ -0,0 +1,434 @@
+package com.safetyhub.simulator.publisher;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.safetyhub.simulator.event.SimulatorEvent;
+import org.eclipse.paho.client.mqttv3.IMqttActionListener;
+import org.eclipse.paho.client.mqttv3.IMqttDeliveryToken;
+import org.eclipse.paho.client.mqttv3.IMqttToken;
+import org.eclipse.paho.client.mqttv3.MqttAsyncClient;
+import org.eclipse.paho.client.mqttv3.MqttCallbackExtended;
+import org.eclipse.paho.client.mqttv3.MqttConnectOptions;
+import org.eclipse.paho.client.mqttv3.MqttException;
+import org.eclipse.paho.client.mqttv3.MqttMessage;
+import org.eclipse.paho.client.mqttv3.persist.MemoryPersistence;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 비동기 MQTT 이벤트 퍼블리셔
+ *
+ * 발행 호출(틱 스레드)은 QoS별 큐에 넣기만 하고, 전송 스레드 하나가 직렬화와 전송을 맡음
+ * - 응답(PUBACK/PUBCOMP, QoS 0은 전송 완료)을 기다리는 메시지는 in-flight 창 크기까지만 유지
+ *   창이 가득 차면 전송 스레드가 완료 콜백을 기다리고 큐에 쌓임 (브로커가 느려도 틱은 기다리지 않음)
+ * - 전송 순서: QoS 2(긴급) > QoS 1 > QoS 0(텔레메트리)
+ * - QoS 0 텔레메트리 묶음은 선택 사항 (기본 batchSize 1 - 이벤트별 토픽으로 발행)
+ *   batchSize를 2 이상으로 주면 batchSize개 또는 lingerMillis 단위로 묶어 JSON 배열 한 메시지로 발행
+ *   ({topicPrefix}/telemetry/batch, 하나뿐이면 이벤트별 토픽)
+ *   백엔드 MQTT 어댑터는 이벤트별 토픽만 구독하므로 묶음 토픽을 받는 쪽이 있을 때만 켤 것
+ *
+ * 큐가 가득 찼을 때:
+ * - QoS 0 - 가장 오래된 텔레메트리를 버리고 넣음
+ * - QoS 1/2 - 최대 RELIABLE_OFFER_TIMEOUT_MS까지 기다린 뒤 버리고 기록
+ */
+public class AsyncMqttEventPublisher implements EventPublisher {
+    private static final Logger log = LoggerFactory.getLogger(AsyncMqttEventPublisher.class);
+
+    public static final int DEFAULT_MAX_INFLIGHT = 64;
+    public static final int DEFAULT_QUEUE_CAPACITY = 10_000;
+    public static final int DEFAULT_BATCH_SIZE = 1;
+    public static final long DEFAULT_LINGER_MILLIS = 20;
+
+    private static final long RELIABLE_OFFER_TIMEOUT_MS = 1000;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long DRAIN_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(5);
+    private static final long CONNECT_TIMEOUT_MS = 15_000;
+
+    private final String brokerUrl;
+    private final String clientId;
+    private final String topicPrefix;
+    private final int maxInflight;
+    private final int batchSize;
+    private final long lingerNanos;
+    private final ObjectMapper objectMapper;
+
+    // QoS별 큐 (인덱스 = QoS)
+    private final List<BlockingQueue<Pending>> queues = new ArrayList<>(3);
+    private final Semaphore window;
+
+    // 메트릭 (인덱스 = QoS)
+    private final AtomicLong[] delivered = newCounters();
+    private final AtomicLong[] dropped = newCounters();
+    private final AtomicLong[] failed = newCounters();
+    private final LatencyStats[] queueWait = {new LatencyStats(), new LatencyStats(), new LatencyStats()};
+    private final LatencyStats[] ackLatency = {new LatencyStats(), new LatencyStats(), new LatencyStats()};
+    private final AtomicLong inFlight = new AtomicLong();
+    private final AtomicLong maxInFlight = new AtomicLong();
+    private final AtomicLong batches = new AtomicLong();
+    private final AtomicLong batchedEvents = new AtomicLong();
+
+    private MqttAsyncClient mqttClient;
+    private Thread sender;
+    private volatile boolean running = false;
+    private volatile long drainDeadline;
+
+    public AsyncMqttEventPublisher(String brokerUrl, String clientId, String topicPrefix) {
+        this(brokerUrl, clientId, topicPrefix, DEFAULT_MAX_INFLIGHT, DEFAULT_QUEUE_CAPACITY,
+                DEFAULT_BATCH_SIZE, DEFAULT_LINGER_MILLIS);
+    }
+
+    /**
+     * @param maxInflight   응답을 기다리는 최대 메시지 수
+     * @param queueCapacity QoS별 큐 크기
+     * @param batchSize     QoS 0 텔레메트리를 한 메시지로 묶는 최대 이벤트 수 (1이면 묶지 않음)
+     * @param lingerMillis  QoS 0 텔레메트리를 묶기 위해 기다리는 최대 시간
+     */
+    public AsyncMqttEventPublisher(String brokerUrl, String clientId, String topicPrefix,
+                                   int maxInflight, int queueCapacity, int batchSize, long lingerMillis) {
+        if (maxInflight < 1 || queueCapacity < 1 || batchSize < 1 || lingerMillis < 0) {
+            throw new IllegalArgumentException("maxInflight, queueCapacity and batchSize must be >= 1, linger >= 0");
+        }
+        this.brokerUrl = brokerUrl;
+        this.clientId = clientId;
+        this.topicPrefix = topicPrefix;
+        this.maxInflight = maxInflight;
+        this.batchSize = batchSize;
+        this.lingerNanos = TimeUnit.MILLISECONDS.toNanos(lingerMillis);
+        this.window = new Semaphore(maxInflight);
+        for (int qos = 0; qos < 3; qos++) {
+            queues.add(new ArrayBlockingQueue<>(queueCapacity));
+        }
+        this.objectMapper = new ObjectMapper();
+        this.objectMapper.registerModule(new JavaTimeModule());
+    }
+
+    private record Pending(SimulatorEvent event, long enqueuedNanos) {}
+
+    @Override
+    public synchronized void connect() {
+        if (running) {
+            return;
+        }
+        try {
+            mqttClient = new MqttAsyncClient(brokerUrl, clientId, new MemoryPersistence());
+            MqttConnectOptions options = new MqttConnectOptions();
+            options.setAutomaticReconnect(true);
+            options.setCleanSession(true);
+            options.setConnectionTimeout(10);
+            options.setMaxInflight(maxInflight);
+
+            mqttClient.setCallback(new MqttCallbackExtended() {
+                @Override
+                public void connectComplete(boolean reconnect, String serverURI) {
+                    if (reconnect) {
+                        log.info("Reconnected to MQTT broker: {}", serverURI);
+                        LockSupport.unpark(sender);
+                    }
+                }
+
+                @Override
+                public void connectionLost(Throwable cause) {
+                    log.warn("MQTT connection lost", cause);
+                }
+
+                @Override
+                public void messageArrived(String topic, MqttMessage message) {}
+
+                @Override
+                public void deliveryComplete(IMqttDeliveryToken token) {
+                    // 메시지별 완료는 발행 시 넘긴 Delivery 리스너에서 집계
+                }
+            });
+
+            mqttClient.connect(options).waitForCompletion(CONNECT_TIMEOUT_MS);
+            running = true;
+            sender = new Thread(this::sendLoop, "mqtt-sender-" + clientId);
+            sender.setDaemon(true);
+            sender.start();
+            log.info("Connected to MQTT broker: {} (async, window {}, batch {})", brokerUrl, maxInflight, batchSize);
+        } catch (MqttException e) {
+            log.error("Failed to connect to MQTT broker", e);
+        }
+    }
+
+    /**
+     * 큐에 남은 이벤트와 응답 대기 메시지를 최대 5초까지 보낸 뒤 연결 종료
+     */
+    @Override
+    public synchronized void disconnect() {
+        if (!running) {
+            return;
+        }
+        drainDeadline = System.nanoTime() + DRAIN_TIMEOUT_NANOS;
+        running = false;
+        LockSupport.unpark(sender);
+        try {
+            sender.join(TimeUnit.NANOSECONDS.toMillis(DRAIN_TIMEOUT_NANOS) + 1000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        long remaining = 0;
+        for (int qos = 0; qos < 3; qos++) {
+            remaining += queues.get(qos).size();
+            queues.get(qos).clear();
+        }
+        if (remaining > 0 || inFlight.get() > 0) {
+            log.warn("MQTT publisher stopped with {} queued and {} in-flight messages", remaining, inFlight.get());
+        }
+        try {
+            if (mqttClient.isConnected()) {
+                mqttClient.disconnect().waitForCompletion(CONNECT_TIMEOUT_MS);
+            }
+            mqttClient.close();
+            log.info("Disconnected from MQTT broker");
+        } catch (MqttException e) {
+            log.error("Error disconnecting from MQTT broker", e);
+        }
+    }
+
+    @Override
+    public void publish(SimulatorEvent event) {
+        if (!running) {
+            return;
+        }
+        int qos = getQos(event.getPriority());
+        BlockingQueue<Pending> queue = queues.get(qos);
+        Pending pending = new Pending(event, System.nanoTime());
+        if (qos == 0) {
+            while (!queue.offer(pending)) {
+                if (queue.poll() != null) {
+                    dropped[0].incrementAndGet();
+                }
+            }
+            // 묶음이 찼을 때만 깨움 (그 전에는 linger 시간에 맞춰 전송 스레드가 스스로 깸)
+            if (queue.size() >= batchSize) {
+                LockSupport.unpark(sender);
+            }
+            return;
+        }
+        LockSupport.unpark(sender);
+        try {
+            if (!queue.offer(pending, RELIABLE_OFFER_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+                if (dropped[qos].getAndIncrement() == 0) {
+                    log.warn("MQTT QoS {} queue full, dropping events", qos);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            dropped[qos].incrementAndGet();
+        }
+    }
+
+    /**
+     * 전송 스레드: 창이 허락하는 만큼 QoS 2 > 1 > 0 순으로 보내고, 보낼 것이 없으면 대기
+     */
+    private void sendLoop() {
+        while (running || (hasWork() && System.nanoTime() - drainDeadline < 0)) {
+            long parkNanos = IDLE_PARK_NANOS;
+            boolean sent = false;
+            if (mqttClient.isConnected()) {
+                sent = sendReliable(2) | sendReliable(1);
+                long telemetryWait = sendTelemetry();
+                if (telemetryWait == 0) {
+                    sent = true;
+                } else {
+                    parkNanos = Math.min(parkNanos, telemetryWait);
+                }
+            }
+            if (!sent) {
+                LockSupport.parkNanos(this, parkNanos);
+            }
+        }
+    }
+
+    private boolean hasWork() {
+        return inFlight.get() > 0 || !queues.get(0).isEmpty() || !queues.get(1).isEmpty() || !queues.get(2).isEmpty();
+    }
+
+    private boolean sendReliable(int qos) {
+        BlockingQueue<Pending> queue = queues.get(qos);
+        boolean sent = false;
+        while (!queue.isEmpty() && window.tryAcquire()) {
+            Pending pending = queue.poll();
+            if (pending == null) {
+                window.release();
+                break;
+            }
+            long now = System.nanoTime();
+            queueWait[qos].record(now - pending.enqueuedNanos());
+            send(buildTopic(pending.event()), pending.event(), qos, 1, now);
+            sent = true;
+        }
+        return sent;
+    }
+
+    /**
+     * QoS 0 텔레메트리 묶음 전송
+     *
+     * @return 0이면 보냈음, 그 외에는 다음 묶음까지 기다릴 시간(ns)
+     */
+    private long sendTelemetry() {
+        BlockingQueue<Pending> queue = queues.get(0);
+        Pending oldest = queue.peek();
+        if (oldest == null) {
+            return IDLE_PARK_NANOS;
+        }
+        long now = System.nanoTime();
+        long lingerLeft = oldest.enqueuedNanos() + lingerNanos - now;
+        if (queue.size() < batchSize && lingerLeft > 0 && running) {
+            return lingerLeft;
+        }
+        if (!window.tryAcquire()) {
+            return IDLE_PARK_NANOS;
+        }
+
+        List<SimulatorEvent> batch = new ArrayList<>(Math.min(batchSize, queue.size()));
+        Pending pending;
+        while (batch.size() < batchSize && (pending = queue.poll()) != null) {
+            queueWait[0].record(now - pending.enqueuedNanos());
+            batch.add(pending.event());
+        }
+        if (batch.isEmpty()) {
+            window.release();
+            return IDLE_PARK_NANOS;
+        }
+        if (batch.size() == 1) {
+            send(buildTopic(batch.get(0)), batch.get(0), 0, 1, now);
+        } else {
+            batches.incrementAndGet();
+            batchedEvents.addAndGet(batch.size());
+            send(topicPrefix + "/telemetry/batch", batch, 0, batch.size(), now);
+        }
+        return 0;
+    }
+
+    /**
+     * 창 허가를 하나 얻은 상태에서 호출 (완료/실패 콜백에서 반납)
+     */
+    private void send(String topic, Object payload, int qos, int events, long sentNanos) {
+        long current = inFlight.incrementAndGet();
+        maxInFlight.accumulateAndGet(current, Math::max);
+        try {
+            byte[] bytes = objectMapper.writeValueAsBytes(payload);
+            mqttClient.publish(topic, bytes, qos, false, null, new Delivery(qos, events, sentNanos));
+        } catch (Exception e) {
+            complete();
+            if (failed[qos].getAndAdd(events) == 0) {
+                log.error("Failed to publish event", e);
+            }
+        }
+    }
+
+    private void complete() {
+        inFlight.decrementAndGet();
+        window.release();
+        LockSupport.unpark(sender);
+    }
+
+    /**
+     * 메시지별 전달 완료 콜백 (QoS 1은 PUBACK, QoS 2는 PUBCOMP, QoS 0은 전송 완료 시점)
+     */
+    private class Delivery implements IMqttActionListener {
+        private final int qos;
+        private final int events;
+        private final long sentNanos;
+
+        Delivery(int qos, int events, long sentNanos) {
+            this.qos = qos;
+            this.events = events;
+            this.sentNanos = sentNanos;
+        }
+
+        @Override
+        public void onSuccess(IMqttToken token) {
+            ackLatency[qos].record(System.nanoTime() - sentNanos);
+            delivered[qos].addAndGet(events);
+            complete();
+        }
+
+        @Override
+        public void onFailure(IMqttToken token, Throwable cause) {
+            if (failed[qos].getAndAdd(events) == 0) {
+                log.warn("MQTT delivery failed (QoS {}): {}", qos, cause != null ? cause.getMessage() : "unknown");
+            }
+            complete();
+        }
+    }
+
+    private String buildTopic(SimulatorEvent event) {
+        return String.format("%s/%s/%s", topicPrefix, event.getType().toLowerCase(), event.getRobotId());
+    }
+
+    private int getQos(SimulatorEvent.EventPriority priority) {
+        return switch (priority) {
+            case CRITICAL -> 2;
+            case HIGH -> 1;
+            default -> 0;
+        };
+    }
+
+    @Override
+    public boolean isConnected() {
+        return running && mqttClient != null && mqttClient.isConnected();
+    }
+
+    @Override
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("window", maxInflight);
+        metrics.put("inFlight", inFlight.get());
+        metrics.put("maxInFlight", maxInFlight.get());
+        metrics.put("batches", batches.get());
+        metrics.put("avgBatchSize", batches.get() > 0 ? batchedEvents.get() / batches.get() : 0);
+        for (int qos = 0; qos < 3; qos++) {
+            Map<String, Object> perQos = new LinkedHashMap<>();
+            perQos.put("queued", queues.get(qos).size());
+            perQos.put("delivered", delivered[qos].get());
+            perQos.put("dropped", dropped[qos].get());
+            perQos.put("failed", failed[qos].get());
+            perQos.put("queueWait", queueWait[qos].toMap());
+            perQos.put("ackLatency", ackLatency[qos].toMap());
+            metrics.put("qos" + qos, perQos);
+        }
+        return metrics;
+    }
+
+    private static AtomicLong[] newCounters() {
+        return new AtomicLong[]{new AtomicLong(), new AtomicLong(), new AtomicLong()};
+    }
+
+    /**
+     * 지연 시간 집계 (건수, 평균, 최대 - 마이크로초)
+     */
+    private static class LatencyStats {
+        private final AtomicLong count = new AtomicLong();
+        private final AtomicLong totalNanos = new AtomicLong();
+        private final AtomicLong maxNanos = new AtomicLong();
+
+        void record(long nanos) {
+            count.incrementAndGet();
+            totalNanos.addAndGet(nanos);
+            maxNanos.accumulateAndGet(nanos, Math::max);
+        }
+
+        Map<String, Object> toMap() {
+            long n = count.get();
+            return Map.of(
+                    "count", n,
+                    "avgMicros", n > 0 ? totalNanos.get() / n / 1000 : 0,
+                    "maxMicros", maxNanos.get() / 1000
+            );
+        }
+    }
+}
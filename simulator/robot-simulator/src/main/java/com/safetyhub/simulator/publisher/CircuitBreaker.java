@@ -0,0 +1,81 @@
+package com.safetyhub.simulator.publisher;
+
+/**
+ * 발행 대상별 회로 차단기
+ *
+ * - CLOSED - 정상 발행, 연속 실패가 failureThreshold에 이르면 OPEN
+ * - OPEN - openNanos 동안 발행하지 않고 버림 (죽은 대상에 매번 시간을 쓰지 않음)
+ * - HALF_OPEN - 대기 시간이 지나면 한 건만 시도, 성공하면 CLOSED, 실패하면 다시 OPEN
+ */
+final class CircuitBreaker {
+
+    enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final long openNanos;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openUntil;
+    private long openedCount;
+
+    CircuitBreaker(int failureThreshold, long openNanos) {
+        if (failureThreshold < 1) {
+            throw new IllegalArgumentException("failureThreshold must be >= 1");
+        }
+        this.failureThreshold = failureThreshold;
+        this.openNanos = openNanos;
+    }
+
+    /**
+     * 지금 발행을 시도해도 되는지 (OPEN 대기 시간이 지났으면 HALF_OPEN으로 한 건 허용)
+     */
+    synchronized boolean allow(long nowNanos) {
+        return switch (state) {
+            case CLOSED -> true;
+            case HALF_OPEN -> false;
+            case OPEN -> {
+                if (nowNanos - openUntil >= 0) {
+                    state = State.HALF_OPEN;
+                    yield true;
+                }
+                yield false;
+            }
+        };
+    }
+
+    /**
+     * 지금 시도하면 거절되는지 (상태는 바꾸지 않음, 대기 시간이 지난 OPEN은 시험 발행을 허용하므로 false)
+     */
+    synchronized boolean isRejecting(long nowNanos) {
+        return state == State.HALF_OPEN || state == State.OPEN && nowNanos - openUntil < 0;
+    }
+
+    synchronized void onSuccess() {
+        consecutiveFailures = 0;
+        state = State.CLOSED;
+    }
+
+    synchronized void onFailure(long nowNanos) {
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            if (state != State.OPEN) {
+                openedCount++;
+            }
+            state = State.OPEN;
+            openUntil = nowNanos + openNanos;
+        }
+    }
+
+    synchronized State getState() {
+        return state;
+    }
+
+    synchronized long getOpenedCount() {
+        return openedCount;
+    }
+}
@@ -6,64 +6,183 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
 
 /**
  * 복합 이벤트 퍼블리셔
  * 여러 퍼블리셔(MQTT, Kafka, WebSocket)를 동시에 사용
+ *
+ * 퍼블리셔마다 고정 크기 큐와 전달 스레드를 두어 발행 쪽(틱 스레드)은 큐에 넣기만 함
+ * 느린 퍼블리셔는 자기 큐만 밀리고, 예외나 지연이 다른 퍼블리셔를 기다리게 하지 않음
+ *
+ * 퍼블리셔별 설정:
+ * - 큐가 가득 찼을 때 정책 - DROP_OLDEST(가장 오래된 텔레메트리를 버림) 또는 BLOCK(최대 대기 후 버림)
+ * - 회로 차단기 - 연속 실패(예외 또는 SLOW_CALL_NANOS를 넘는 발행)가 쌓이면 잠시 텔레메트리를 발행하지 않고 버림
+ *
+ * CRITICAL 이벤트는 텔레메트리 큐를 거치지 않고 퍼블리셔별 긴급 큐로 들어가 먼저 전달됨
+ * - 회로가 열려 있는 동안은 버리지 않고 긴급 큐에 남겨 두었다가 HALF_OPEN 시험 발행부터 순서대로 다시 보냄
+ * - 발행이 실패하면 긴급 큐 맨 앞으로 되돌려 MAX_CRITICAL_ATTEMPTS번까지 시도
+ * - 긴급 큐가 가득 차면 정책과 관계없이 최대 대기 후 버림 (회로가 열려 있으면 큐가 줄지 않으므로 기다리지 않음)
+ * - 퍼블리셔를 제거할 때까지 전달하지 못한 이벤트도 버림
+ *
+ * 버리는 이벤트는 모두 퍼블리셔 이름과 사유를 로그로 남김 (텔레메트리는 큐 초과와 회로 차단 각각 첫 건만)
  */
 public class CompositeEventPublisher implements EventPublisher, EventGenerator.EventListener {
     private static final Logger log = LoggerFactory.getLogger(CompositeEventPublisher.class);
 
-    private final List<EventPublisher> publishers = new ArrayList<>();
+    public enum OverflowPolicy {
+        DROP_OLDEST,
+        BLOCK
+    }
+
+    public static final int DEFAULT_QUEUE_CAPACITY = 10_000;
+    private static final int CRITICAL_QUEUE_CAPACITY = 1024;
+    private static final int MAX_CRITICAL_ATTEMPTS = 3;
+
+    // BLOCK 정책과 긴급 큐의 최대 대기 시간
+    private static final long BLOCK_TIMEOUT_MS = 1000;
+    // 이보다 오래 걸린 발행은 실패로 셈
+    private static final long SLOW_CALL_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final int BREAKER_FAILURE_THRESHOLD = 5;
+    private static final long BREAKER_OPEN_NANOS = TimeUnit.SECONDS.toNanos(5);
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long DRAIN_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(5);
+
+    // 실행 중에도 기록기 등을 붙이고 뗄 수 있도록 (발행 스레드와 동시 수정)
+    private final List<Sink> sinks = new CopyOnWriteArrayList<>();
+    private final long breakerOpenNanos;
+
+    public CompositeEventPublisher() {
+        this(BREAKER_OPEN_NANOS);
+    }
 
+    /**
+     * 회로가 열린 뒤 다시 시도하기까지의 시간 지정 (테스트용)
+     */
+    CompositeEventPublisher(long breakerOpenNanos) {
+        this.breakerOpenNanos = breakerOpenNanos;
+    }
+
+    /**
+     * 퍼블리셔 추가 (기본 큐 크기, 가득 차면 가장 오래된 텔레메트리를 버림)
+     */
     public void addPublisher(EventPublisher publisher) {
-        publishers.add(publisher);
+        addPublisher(publisher.getClass().getSimpleName(), publisher, DEFAULT_QUEUE_CAPACITY,
+                OverflowPolicy.DROP_OLDEST);
+    }
+
+    /**
+     * 퍼블리셔 추가
+     *
+     * @param name     퍼블리셔 이름 (메트릭 키, 스레드 이름에 사용)
+     * @param capacity 텔레메트리 큐 크기
+     * @param policy   큐가 가득 찼을 때 정책
+     */
+    public void addPublisher(String name, EventPublisher publisher, int capacity, OverflowPolicy policy) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be >= 1");
+        }
+        Sink sink = new Sink(name, publisher, capacity, policy, breakerOpenNanos);
+        sinks.add(sink);
+        sink.worker.start();
     }
 
+    /**
+     * 퍼블리셔 제거 (큐에 남은 이벤트는 최대 5초까지 전달한 뒤 제거)
+     */
     public void removePublisher(EventPublisher publisher) {
-        publishers.remove(publisher);
+        for (Sink sink : sinks) {
+            if (sink.publisher == publisher && sinks.remove(sink)) {
+                sink.stop();
+            }
+        }
     }
 
     @Override
     public void publish(SimulatorEvent event) {
-        for (EventPublisher publisher : publishers) {
-            try {
-                if (publisher.isConnected()) {
-                    publisher.publish(event);
-                }
-            } catch (Exception e) {
-                log.error("Publisher failed: {}", publisher.getClass().getSimpleName(), e);
+        for (Sink sink : sinks) {
+            sink.enqueue(event);
+        }
+    }
+
+    /**
+     * 이름이 excludedName인 퍼블리셔만 빼고 발행 (재생한 이벤트가 기록기로 다시 들어가지 않도록)
+     */
+    public void publishExcept(String excludedName, SimulatorEvent event) {
+        for (Sink sink : sinks) {
+            if (!sink.name.equals(excludedName)) {
+                sink.enqueue(event);
             }
         }
     }
 
     @Override
     public void connect() {
-        for (EventPublisher publisher : publishers) {
+        for (Sink sink : sinks) {
             try {
-                publisher.connect();
-                log.info("Connected: {}", publisher.getClass().getSimpleName());
+                sink.publisher.connect();
+                log.info("Connected: {}", sink.name);
             } catch (Exception e) {
-                log.error("Failed to connect: {}", publisher.getClass().getSimpleName(), e);
+                log.error("Failed to connect: {}", sink.name, e);
             }
         }
     }
 
+    /**
+     * 큐에 남은 이벤트를 최대 5초까지 전달한 뒤 연결 종료
+     */
     @Override
     public void disconnect() {
-        for (EventPublisher publisher : publishers) {
+        flush(DRAIN_TIMEOUT_NANOS);
+        for (Sink sink : sinks) {
             try {
-                publisher.disconnect();
+                sink.publisher.disconnect();
             } catch (Exception e) {
-                log.error("Failed to disconnect: {}", publisher.getClass().getSimpleName(), e);
+                log.error("Failed to disconnect: {}", sink.name, e);
+            }
+        }
+    }
+
+    /**
+     * 지금까지 넣은 이벤트가 모든 퍼블리셔에 전달(또는 버려짐)될 때까지 대기
+     *
+     * @return 시간 안에 모두 처리되었으면 true
+     */
+    public boolean flush(long timeoutNanos) {
+        long deadline = System.nanoTime() + timeoutNanos;
+        for (Sink sink : sinks) {
+            if (!sink.awaitDrained(deadline)) {
+                return false;
             }
         }
+        return true;
     }
 
     @Override
     public boolean isConnected() {
-        return publishers.stream().anyMatch(EventPublisher::isConnected);
+        return sinks.stream().anyMatch(sink -> sink.publisher.isConnected());
+    }
+
+    /**
+     * 퍼블리셔별 메트릭 (큐, 회로 차단기, 전달 지연 + 퍼블리셔 자체 메트릭)
+     */
+    @Override
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        for (Sink sink : sinks) {
+            metrics.put(sink.name, sink.getMetrics());
+        }
+        return metrics;
     }
 
     @Override
@@ -72,6 +191,238 @@ public class CompositeEventPublisher implements EventPublisher, EventGenerator.E
     }
 
     public List<EventPublisher> getPublishers() {
-        return new ArrayList<>(publishers);
+        List<EventPublisher> publishers = new ArrayList<>(sinks.size());
+        for (Sink sink : sinks) {
+            publishers.add(sink.publisher);
+        }
+        return publishers;
+    }
+
+    /**
+     * 퍼블리셔 하나의 큐, 전달 스레드, 회로 차단기, 메트릭
+     */
+    private static class Sink {
+        private final String name;
+        private final EventPublisher publisher;
+        private final OverflowPolicy policy;
+        private final BlockingQueue<SimulatorEvent> telemetry;
+        private final BlockingDeque<SimulatorEvent> critical = new LinkedBlockingDeque<>(CRITICAL_QUEUE_CAPACITY);
+        private final CircuitBreaker breaker;
+        private final Thread worker;
+        private volatile boolean running = true;
+
+        // 넣었지만 아직 처리(전달/실패/차단)되지 않은 이벤트 수
+        private final AtomicLong pending = new AtomicLong();
+        private final AtomicLong delivered = new AtomicLong();
+        private final AtomicLong criticalDelivered = new AtomicLong();
+        private final AtomicLong dropped = new AtomicLong();
+        private final AtomicLong failed = new AtomicLong();
+        private final AtomicLong rejected = new AtomicLong();
+        private final AtomicLong skipped = new AtomicLong();
+        private final AtomicLong totalPublishNanos = new AtomicLong();
+        private final AtomicLong maxPublishNanos = new AtomicLong();
+
+        // 전달 스레드에서만 사용 - 다시 시도 중인 CRITICAL 이벤트와 시도 횟수, 회로 차단 로그를 남긴 열림 횟수
+        private SimulatorEvent retrying;
+        private int attempts;
+        private long rejectionLoggedAt;
+
+        Sink(String name, EventPublisher publisher, int capacity, OverflowPolicy policy, long breakerOpenNanos) {
+            this.name = name;
+            this.publisher = publisher;
+            this.policy = policy;
+            this.breaker = new CircuitBreaker(BREAKER_FAILURE_THRESHOLD, breakerOpenNanos);
+            this.telemetry = new ArrayBlockingQueue<>(capacity);
+            this.worker = new Thread(this::run, "event-sink-" + name);
+            this.worker.setDaemon(true);
+        }
+
+        void enqueue(SimulatorEvent event) {
+            boolean isCritical = event.getPriority() == SimulatorEvent.EventPriority.CRITICAL;
+            BlockingQueue<SimulatorEvent> queue = isCritical ? critical : telemetry;
+            pending.incrementAndGet();
+            boolean queued;
+            if (!isCritical && policy == OverflowPolicy.DROP_OLDEST) {
+                while (!queue.offer(event)) {
+                    if (queue.poll() != null) {
+                        pending.decrementAndGet();
+                        dropped.incrementAndGet();
+                    }
+                }
+                queued = true;
+            } else if (isCritical && breaker.isRejecting(System.nanoTime())) {
+                queued = queue.offer(event);
+            } else {
+                queued = queue.offer(event) || offerBlocking(queue, event);
+            }
+            if (!queued) {
+                pending.decrementAndGet();
+                if (dropped.getAndIncrement() == 0 || isCritical) {
+                    deadLetter(event, "queue full");
+                }
+            }
+            LockSupport.unpark(worker);
+        }
+
+        private boolean offerBlocking(BlockingQueue<SimulatorEvent> queue, SimulatorEvent event) {
+            LockSupport.unpark(worker);
+            try {
+                return queue.offer(event, BLOCK_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+
+        private void run() {
+            while (running || pending.get() > 0) {
+                // 회로가 열려 있으면 CRITICAL 이벤트는 꺼내지 않고 시험 발행을 할 수 있을 때까지 둠
+                SimulatorEvent event = breaker.isRejecting(System.nanoTime()) ? null : critical.poll();
+                if (event == null) {
+                    event = telemetry.poll();
+                }
+                if (event == null) {
+                    if (!running) {
+                        discardCritical();
+                        return;
+                    }
+                    LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                    continue;
+                }
+                try {
+                    deliver(event);
+                } finally {
+                    pending.decrementAndGet();
+                }
+            }
+        }
+
+        private void deliver(SimulatorEvent event) {
+            // 연결 확인을 먼저 해야 HALF_OPEN 시험 발행이 건너뛰기로 끝나 회로가 멈춰 버리지 않음
+            if (!publisher.isConnected()) {
+                skipped.incrementAndGet();
+                return;
+            }
+            boolean isCritical = event.getPriority() == SimulatorEvent.EventPriority.CRITICAL;
+            long start = System.nanoTime();
+            if (!breaker.allow(start)) {
+                if (isCritical && requeueCritical(event)) {
+                    return;
+                }
+                rejected.incrementAndGet();
+                long opened = breaker.getOpenedCount();
+                if (rejectionLoggedAt != opened || isCritical) {
+                    rejectionLoggedAt = opened;
+                    deadLetter(event, "circuit open");
+                }
+                return;
+            }
+            try {
+                publisher.publish(event);
+            } catch (Exception e) {
+                breaker.onFailure(System.nanoTime());
+                if (failed.getAndIncrement() == 0 || breaker.getState() == CircuitBreaker.State.OPEN) {
+                    log.error("Publisher failed: {} (circuit {})", name, breaker.getState(), e);
+                }
+                if (isCritical) {
+                    retryCritical(event);
+                }
+                return;
+            }
+            long end = System.nanoTime();
+            long elapsed = end - start;
+            totalPublishNanos.addAndGet(elapsed);
+            maxPublishNanos.accumulateAndGet(elapsed, Math::max);
+            delivered.incrementAndGet();
+            if (isCritical) {
+                criticalDelivered.incrementAndGet();
+            }
+            if (elapsed > SLOW_CALL_NANOS) {
+                breaker.onFailure(end);
+                log.warn("Slow publisher: {} took {} ms (circuit {})", name, elapsed / 1_000_000, breaker.getState());
+            } else {
+                breaker.onSuccess();
+            }
+        }
+
+        /**
+         * 실패한 CRITICAL 이벤트를 긴급 큐 맨 앞으로 되돌림 (MAX_CRITICAL_ATTEMPTS번 실패하면 버림)
+         */
+        private void retryCritical(SimulatorEvent event) {
+            attempts = event == retrying ? attempts + 1 : 1;
+            retrying = event;
+            if (attempts < MAX_CRITICAL_ATTEMPTS && requeueCritical(event)) {
+                return;
+            }
+            retrying = null;
+            deadLetter(event, "publish failed " + attempts + " times");
+        }
+
+        private boolean requeueCritical(SimulatorEvent event) {
+            if (!critical.offerFirst(event)) {
+                return false;
+            }
+            pending.incrementAndGet();  // run()에서 처리 후 줄이는 몫을 다시 채움
+            return true;
+        }
+
+        /**
+         * 전달 스레드 종료 시 회로가 열려 남아 있던 CRITICAL 이벤트를 버림
+         */
+        private void discardCritical() {
+            SimulatorEvent event;
+            while ((event = critical.poll()) != null) {
+                pending.decrementAndGet();
+                dropped.incrementAndGet();
+                deadLetter(event, "publisher removed");
+            }
+        }
+
+        private void deadLetter(SimulatorEvent event, String reason) {
+            log.warn("Dropping {} {} event {} for publisher {} ({})",
+                    event.getPriority(), event.getType(), event.getId(), name, reason);
+        }
+
+        boolean awaitDrained(long deadline) {
+            while (pending.get() > 0) {
+                if (System.nanoTime() - deadline >= 0 || !worker.isAlive()) {
+                    return false;
+                }
+                LockSupport.unpark(worker);
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+            }
+            return true;
+        }
+
+        void stop() {
+            if (!awaitDrained(System.nanoTime() + DRAIN_TIMEOUT_NANOS)) {
+                log.warn("Publisher removed with {} undelivered events: {}", pending.get(), name);
+            }
+            running = false;
+            LockSupport.unpark(worker);
+        }
+
+        Map<String, Object> getMetrics() {
+            long count = delivered.get();
+            Map<String, Object> metrics = new LinkedHashMap<>();
+            metrics.put("policy", policy.name());
+            metrics.put("queued", telemetry.size());
+            metrics.put("criticalQueued", critical.size());
+            metrics.put("delivered", count);
+            metrics.put("criticalDelivered", criticalDelivered.get());
+            metrics.put("dropped", dropped.get());
+            metrics.put("failed", failed.get());
+            metrics.put("rejected", rejected.get());
+            metrics.put("skipped", skipped.get());
+            metrics.put("circuit", breaker.getState().name());
+            metrics.put("circuitOpened", breaker.getOpenedCount());
+            metrics.put("avgPublishMicros", count > 0 ? totalPublishNanos.get() / count / 1000 : 0);
+            metrics.put("maxPublishMicros", maxPublishNanos.get() / 1000);
+            Map<String, Object> publisherMetrics = publisher.getMetrics();
+            if (!publisherMetrics.isEmpty()) {
+                metrics.put("publisher", publisherMetrics);
+            }
+            return metrics;
+        }
     }
 }
@@ -0,0 +1,131 @@
+package com.safetyhub.simulator.publisher;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 이벤트 로그 바이너리 형식 공통 요소 (EventLogRecorder, EventLogReader)
+ *
+ * 파일: 헤더(MAGIC, VERSION, 기록 시작 시각 epoch ms) 뒤에 레코드를 이어 붙임
+ * 레코드: 본문 길이(varint) + 본문 (마지막 레코드가 잘려 있으면 읽기에서 버림)
+ *
+ * 반복되는 문자열(이벤트 타입, 로봇 ID, 구역 ID)은 로그 안의 사전으로 처음 한 번만 기록
+ * 사전 참조 varint: 0 = null, 1 = 사전에 넣지 않은 문자열, 2 = 새 사전 항목, 3 이상 = 사전 인덱스 + 3
+ */
+final class EventLogFormat {
+
+    /** 파일 시작 표시 ("SHEL") */
+    static final int MAGIC = 0x5348454C;
+    static final int VERSION = 1;
+
+    /** 사전 최대 크기 (넘으면 문자열을 그대로 기록) */
+    static final int MAX_TABLE_SIZE = 1 << 16;
+
+    private static final int NULL_STRING = 0;
+    private static final int RAW_STRING = 1;
+    private static final int NEW_ENTRY = 2;
+    private static final int FIRST_INDEX = 3;
+
+    private EventLogFormat() {
+    }
+
+    static void writeVarLong(DataOutput out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    static long readVarLong(DataInput in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint");
+    }
+
+    /**
+     * 부호 있는 값 (zigzag, 작은 음수도 짧게)
+     */
+    static void writeSignedVarLong(DataOutput out, long value) throws IOException {
+        writeVarLong(out, (value << 1) ^ (value >> 63));
+    }
+
+    static long readSignedVarLong(DataInput in) throws IOException {
+        long value = readVarLong(in);
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * 기록용 문자열 사전
+     */
+    static final class StringTableWriter {
+        private final Map<String, Integer> indexes = new HashMap<>();
+
+        void write(DataOutput out, String value) throws IOException {
+            if (value == null) {
+                writeVarLong(out, NULL_STRING);
+                return;
+            }
+            Integer index = indexes.get(value);
+            if (index != null) {
+                writeVarLong(out, index + FIRST_INDEX);
+            } else if (indexes.size() < MAX_TABLE_SIZE) {
+                indexes.put(value, indexes.size());
+                writeVarLong(out, NEW_ENTRY);
+                out.writeUTF(value);
+            } else {
+                writeVarLong(out, RAW_STRING);
+                out.writeUTF(value);
+            }
+        }
+
+        /**
+         * 레코드 본문 기록이 실패했을 때 그 레코드에서 추가한 항목을 되돌림 (파일에 남지 않으므로)
+         */
+        void truncate(int size) {
+            indexes.values().removeIf(index -> index >= size);
+        }
+
+        int size() {
+            return indexes.size();
+        }
+    }
+
+    /**
+     * 읽기용 문자열 사전
+     */
+    static final class StringTableReader {
+        private final List<String> values = new ArrayList<>();
+
+        String read(DataInput in) throws IOException {
+            long code = readVarLong(in);
+            if (code == NULL_STRING) {
+                return null;
+            }
+            if (code == RAW_STRING) {
+                return in.readUTF();
+            }
+            if (code == NEW_ENTRY) {
+                String value = in.readUTF();
+                values.add(value);
+                return value;
+            }
+            long index = code - FIRST_INDEX;
+            if (index >= values.size()) {
+                throw new IOException("Unknown string table index: " + index);
+            }
+            return values.get((int) index);
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.safetyhub.simulator.publisher;
+
+import com.safetyhub.simulator.event.SimulatorEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * EventLogRecorder가 남긴 로그를 순서대로 읽음
+ * 기록 중 프로세스가 죽어 마지막 레코드가 잘려 있으면 그 레코드만 버리고 끝으로 처리
+ */
+public class EventLogReader implements Closeable {
+    private static final Logger log = LoggerFactory.getLogger(EventLogReader.class);
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    /**
+     * 기록된 이벤트
+     *
+     * @param offsetNanos 기록 시작 후 수신 시각 (ns)
+     * @param event       이벤트 (ID, 발생 시각 포함 원본 그대로)
+     */
+    public record Entry(long offsetNanos, SimulatorEvent event) {}
+
+    private final DataInputStream in;
+    private final Instant recordingStart;
+    private final EventLogFormat.StringTableReader strings = new EventLogFormat.StringTableReader();
+    private final SimulatorEvent.EventPriority[] priorities = SimulatorEvent.EventPriority.values();
+
+    private byte[] body = new byte[256];
+    private long offsetNanos;
+    private long timestampNanos;
+    private long readEvents;
+    private boolean truncated;
+
+    public EventLogReader(Path path) throws IOException {
+        this(Files.newInputStream(path));
+    }
+
+    public EventLogReader(InputStream input) throws IOException {
+        this.in = new DataInputStream(new BufferedInputStream(input, BUFFER_SIZE));
+        try {
+            int magic = in.readInt();
+            if (magic != EventLogFormat.MAGIC) {
+                throw new IOException("Not an event log: " + Integer.toHexString(magic));
+            }
+            int version = in.readShort();
+            if (version != EventLogFormat.VERSION) {
+                throw new IOException("Unsupported event log version: " + version);
+            }
+            this.recordingStart = Instant.ofEpochMilli(in.readLong());
+        } catch (IOException e) {
+            in.close();
+            throw e;
+        }
+    }
+
+    /**
+     * 다음 이벤트 (끝이면 null)
+     */
+    public Entry next() throws IOException {
+        int length;
+        try {
+            length = (int) EventLogFormat.readVarLong(in);
+        } catch (EOFException e) {
+            return null;
+        }
+        if (body.length < length) {
+            body = new byte[Math.max(length, body.length * 2)];
+        }
+        try {
+            in.readFully(body, 0, length);
+        } catch (EOFException e) {
+            truncated = true;
+            log.warn("Event log ends with a truncated record after {} events", readEvents);
+            return null;
+        }
+
+        DataInputStream record = new DataInputStream(new ByteArrayInputStream(body, 0, length));
+        offsetNanos += EventLogFormat.readVarLong(record);
+        String id = readId(record);
+        String type = strings.read(record);
+        String robotId = strings.read(record);
+        timestampNanos += EventLogFormat.readSignedVarLong(record);
+        SimulatorEvent.EventPriority priority = priorities[record.readByte()];
+        Object payload = readPayload(record);
+
+        readEvents++;
+        Instant timestamp = Instant.ofEpochSecond(Math.floorDiv(timestampNanos, 1_000_000_000L),
+                Math.floorMod(timestampNanos, 1_000_000_000L));
+        return new Entry(offsetNanos, new SimulatorEvent(id, type, robotId, timestamp, payload, priority));
+    }
+
+    private static String readId(DataInputStream record) throws IOException {
+        int tag = record.readByte();
+        return switch (tag) {
+            case EventLogRecorder.ID_UUID -> new UUID(record.readLong(), record.readLong()).toString();
+            case EventLogRecorder.ID_TEXT -> record.readUTF();
+            default -> throw new IOException("Unknown id tag: " + tag);
+        };
+    }
+
+    private Object readPayload(DataInputStream record) throws IOException {
+        int tag = record.readByte();
+        return switch (tag) {
+            case EventLogRecorder.PAYLOAD_NONE -> null;
+            case EventLogRecorder.PAYLOAD_LOCATION -> new SimulatorEvent.LocationData(
+                    readInt(record), readInt(record), strings.read(record));
+            case EventLogRecorder.PAYLOAD_VITALS -> new SimulatorEvent.VitalsData(
+                    readInt(record), record.readDouble(), readInt(record), strings.read(record));
+            case EventLogRecorder.PAYLOAD_EMERGENCY -> new SimulatorEvent.EmergencyData(
+                    strings.read(record), strings.read(record), readInt(record), record.readDouble(),
+                    strings.read(record));
+            case EventLogRecorder.PAYLOAD_FALL -> new SimulatorEvent.FallData(
+                    record.readLong(), readInt(record));
+            case EventLogRecorder.PAYLOAD_VITAL_ANOMALY -> new SimulatorEvent.VitalAnomalyData(
+                    strings.read(record), record.readDouble(), record.readDouble(), record.readDouble());
+            case EventLogRecorder.PAYLOAD_STATE_CHANGE -> new SimulatorEvent.StateChangeData(
+                    strings.read(record), strings.read(record), strings.read(record));
+            default -> throw new IOException("Unknown payload tag: " + tag);
+        };
+    }
+
+    private static int readInt(DataInputStream record) throws IOException {
+        return (int) EventLogFormat.readSignedVarLong(record);
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    public Instant getRecordingStart() { return recordingStart; }
+    public long getReadEvents() { return readEvents; }
+    public boolean isTruncated() { return truncated; }
+}
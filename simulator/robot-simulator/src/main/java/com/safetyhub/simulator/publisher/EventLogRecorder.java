@@ -0,0 +1,249 @@
+package com.safetyhub.simulator.publisher;
+
+import com.safetyhub.simulator.event.EventGenerator;
+import com.safetyhub.simulator.event.SimulatorEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 이벤트 기록 퍼블리셔
+ * 발행되는 모든 이벤트를 수신 시각과 함께 추가 전용 바이너리 로그로 기록 (EventLogReplayer로 재생)
+ * CompositeEventPublisher에 다른 퍼블리셔와 함께 붙이면 실제로 나간 트래픽을 그대로 남김
+ *
+ * 레코드 본문: 이전 레코드와의 수신 시각 차이(ns), ID, 타입, 로봇 ID, 이벤트 시각 차이(ns), 우선순위, 페이로드
+ * 여러 스레드에서 호출해도 되며 레코드 단위로 직렬화됨
+ */
+public class EventLogRecorder implements EventPublisher, EventGenerator.EventListener, Closeable {
+    private static final Logger log = LoggerFactory.getLogger(EventLogRecorder.class);
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    // 페이로드 태그
+    static final int PAYLOAD_NONE = 0;
+    static final int PAYLOAD_LOCATION = 1;
+    static final int PAYLOAD_VITALS = 2;
+    static final int PAYLOAD_EMERGENCY = 3;
+    static final int PAYLOAD_FALL = 4;
+    static final int PAYLOAD_VITAL_ANOMALY = 5;
+    static final int PAYLOAD_STATE_CHANGE = 6;
+
+    // ID 태그 (UUID 문자열은 16바이트로)
+    static final int ID_UUID = 0;
+    static final int ID_TEXT = 1;
+
+    private final Path path;
+    private final ByteArrayOutputStream body = new ByteArrayOutputStream(256);
+    private final DataOutputStream bodyOut = new DataOutputStream(body);
+
+    private DataOutputStream out;
+    private EventLogFormat.StringTableWriter strings;
+    private long startNanos;
+    private long lastOffsetNanos;
+    private long lastTimestampNanos;
+    private long recordedEvents;
+    private long recordedBytes;
+
+    public EventLogRecorder(Path path) {
+        this.path = path;
+    }
+
+    /**
+     * 로그 파일 생성 (이미 있으면 덮어씀)
+     */
+    @Override
+    public synchronized void connect() {
+        if (out != null) {
+            return;
+        }
+        try {
+            OutputStream file = Files.newOutputStream(path);
+            out = new DataOutputStream(new BufferedOutputStream(file, BUFFER_SIZE));
+            out.writeInt(EventLogFormat.MAGIC);
+            out.writeShort(EventLogFormat.VERSION);
+            out.writeLong(System.currentTimeMillis());
+            strings = new EventLogFormat.StringTableWriter();
+            startNanos = System.nanoTime();
+            lastOffsetNanos = 0;
+            lastTimestampNanos = 0;
+            recordedEvents = 0;
+            recordedBytes = 0;
+            log.info("Recording events to {}", path);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to open event log: " + path, e);
+        }
+    }
+
+    @Override
+    public synchronized void publish(SimulatorEvent event) {
+        if (out == null) {
+            return;
+        }
+        long offsetNanos = Math.max(lastOffsetNanos, System.nanoTime() - startNanos);
+        int tableSize = strings.size();
+        body.reset();
+        try {
+            encode(event, offsetNanos - lastOffsetNanos);
+        } catch (IOException | IllegalArgumentException e) {
+            strings.truncate(tableSize);
+            throw new IllegalArgumentException("Cannot record event " + event.getType() + ": " + e.getMessage(), e);
+        }
+        try {
+            EventLogFormat.writeVarLong(out, body.size());
+            body.writeTo(out);
+        } catch (IOException e) {
+            log.error("Failed to write event log, recording stopped: {}", path, e);
+            closeQuietly();
+            return;
+        }
+        lastOffsetNanos = offsetNanos;
+        lastTimestampNanos = toNanos(event.getTimestamp());
+        recordedEvents++;
+        recordedBytes += body.size();
+    }
+
+    private void encode(SimulatorEvent event, long offsetDeltaNanos) throws IOException {
+        EventLogFormat.writeVarLong(bodyOut, offsetDeltaNanos);
+        writeId(event.getId());
+        strings.write(bodyOut, event.getType());
+        strings.write(bodyOut, event.getRobotId());
+        EventLogFormat.writeSignedVarLong(bodyOut, toNanos(event.getTimestamp()) - lastTimestampNanos);
+        bodyOut.writeByte(event.getPriority().ordinal());
+        writePayload(event.getPayload());
+    }
+
+    private void writeId(String id) throws IOException {
+        UUID uuid = parseUuid(id);
+        if (uuid != null) {
+            bodyOut.writeByte(ID_UUID);
+            bodyOut.writeLong(uuid.getMostSignificantBits());
+            bodyOut.writeLong(uuid.getLeastSignificantBits());
+        } else {
+            bodyOut.writeByte(ID_TEXT);
+            bodyOut.writeUTF(id);
+        }
+    }
+
+    private static UUID parseUuid(String id) {
+        if (id == null || id.length() != 36) {
+            return null;
+        }
+        try {
+            UUID uuid = UUID.fromString(id);
+            // 소문자 표준 표기만 (다시 문자열로 만들었을 때 같아야 함)
+            return uuid.toString().equals(id) ? uuid : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private void writePayload(Object payload) throws IOException {
+        if (payload == null) {
+            bodyOut.writeByte(PAYLOAD_NONE);
+        } else if (payload instanceof SimulatorEvent.LocationData location) {
+            bodyOut.writeByte(PAYLOAD_LOCATION);
+            EventLogFormat.writeSignedVarLong(bodyOut, location.x());
+            EventLogFormat.writeSignedVarLong(bodyOut, location.y());
+            strings.write(bodyOut, location.zoneId());
+        } else if (payload instanceof SimulatorEvent.VitalsData vitals) {
+            bodyOut.writeByte(PAYLOAD_VITALS);
+            EventLogFormat.writeSignedVarLong(bodyOut, vitals.heartRate());
+            bodyOut.writeDouble(vitals.temperature());
+            EventLogFormat.writeSignedVarLong(bodyOut, vitals.batteryLevel());
+            strings.write(bodyOut, vitals.state());
+        } else if (payload instanceof SimulatorEvent.EmergencyData emergency) {
+            bodyOut.writeByte(PAYLOAD_EMERGENCY);
+            strings.write(bodyOut, emergency.type());
+            strings.write(bodyOut, emergency.healthStatus());
+            EventLogFormat.writeSignedVarLong(bodyOut, emergency.heartRate());
+            bodyOut.writeDouble(emergency.temperature());
+            strings.write(bodyOut, emergency.zoneId());
+        } else if (payload instanceof SimulatorEvent.FallData fall) {
+            bodyOut.writeByte(PAYLOAD_FALL);
+            bodyOut.writeLong(fall.detectedAtMillis());
+            EventLogFormat.writeSignedVarLong(bodyOut, fall.peakImpactMilliG());
+        } else if (payload instanceof SimulatorEvent.VitalAnomalyData anomaly) {
+            bodyOut.writeByte(PAYLOAD_VITAL_ANOMALY);
+            strings.write(bodyOut, anomaly.vital());
+            bodyOut.writeDouble(anomaly.value());
+            bodyOut.writeDouble(anomaly.baseline());
+            bodyOut.writeDouble(anomaly.zScore());
+        } else if (payload instanceof SimulatorEvent.StateChangeData stateChange) {
+            bodyOut.writeByte(PAYLOAD_STATE_CHANGE);
+            strings.write(bodyOut, stateChange.previousState());
+            strings.write(bodyOut, stateChange.newState());
+            strings.write(bodyOut, stateChange.reason());
+        } else {
+            throw new IllegalArgumentException("Unsupported payload type: " + payload.getClass().getName());
+        }
+    }
+
+    static long toNanos(Instant instant) {
+        return instant.getEpochSecond() * 1_000_000_000L + instant.getNano();
+    }
+
+    /**
+     * 버퍼에 모인 레코드를 파일에 씀
+     */
+    public synchronized void flush() {
+        if (out != null) {
+            try {
+                out.flush();
+            } catch (IOException e) {
+                log.error("Failed to flush event log: {}", path, e);
+            }
+        }
+    }
+
+    @Override
+    public synchronized void disconnect() {
+        if (out == null) {
+            return;
+        }
+        try {
+            out.close();
+            log.info("Recorded {} events ({} bytes) to {}", recordedEvents, recordedBytes, path);
+        } catch (IOException e) {
+            log.error("Failed to close event log: {}", path, e);
+        }
+        out = null;
+    }
+
+    private void closeQuietly() {
+        try {
+            out.close();
+        } catch (IOException ignored) {
+            // 이미 쓰기에 실패한 상태
+        }
+        out = null;
+    }
+
+    @Override
+    public void close() {
+        disconnect();
+    }
+
+    @Override
+    public synchronized boolean isConnected() {
+        return out != null;
+    }
+
+    @Override
+    public void onEvent(SimulatorEvent event) {
+        publish(event);
+    }
+
+    public Path getPath() { return path; }
+    public synchronized long getRecordedEvents() { return recordedEvents; }
+    public synchronized long getRecordedBytes() { return recordedBytes; }
+}
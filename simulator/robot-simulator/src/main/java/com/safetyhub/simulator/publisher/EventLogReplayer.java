@@ -0,0 +1,199 @@
+package com.safetyhub.simulator.publisher;
+
+import com.safetyhub.simulator.event.SimulatorEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * 기록된 이벤트 로그 재생기
+ * 로그의 이벤트를 기록된 간격대로(1배속), N배속으로, 또는 최대 속도로 대상에 다시 발행
+ * 같은 트래픽을 반복해서 게이트웨이에 넣는 회귀 부하로 사용 (이벤트 ID와 발생 시각은 원본 그대로)
+ * 백엔드 adapter-simulator의 SimulationEventReplayer와 같은 동작 (한쪽을 고치면 다른 쪽도 맞출 것)
+ *
+ * 순서 보장: 같은 발생원(robotId)의 이벤트는 기록된 순서대로 발행
+ * - parallelism이 1이면 호출 스레드에서 전체 순서대로 발행
+ * - 1보다 크면 robotId 해시로 나눈 파티션마다 워커 스레드 하나가 발행 (느린 발행이 다른 발생원을 막지 않음)
+ */
+public class EventLogReplayer {
+    private static final Logger log = LoggerFactory.getLogger(EventLogReplayer.class);
+
+    /** 기록 간격을 무시하고 최대 속도로 재생 */
+    public static final double AS_FAST_AS_POSSIBLE = 0;
+
+    private static final int PARTITION_QUEUE_CAPACITY = 4096;
+    private static final SimulatorEvent END = new SimulatorEvent("END", "END", null, Instant.EPOCH, null,
+            SimulatorEvent.EventPriority.LOW);
+
+    private final double speed;
+    private final int parallelism;
+
+    /**
+     * @param speed       재생 배속 (1 = 기록 속도, 10 = 10배속, AS_FAST_AS_POSSIBLE = 간격 무시)
+     * @param parallelism 발행 파티션 수 (1이면 호출 스레드에서 발행)
+     */
+    public EventLogReplayer(double speed, int parallelism) {
+        if (speed < 0 || Double.isNaN(speed)) {
+            throw new IllegalArgumentException("speed must be >= 0");
+        }
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be >= 1");
+        }
+        this.speed = speed;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * 재생 결과
+     *
+     * @param events     발행한 이벤트 수
+     * @param failed     대상 퍼블리셔가 예외를 던진 이벤트 수
+     * @param elapsedMs  재생에 걸린 시간
+     * @param maxLagMs   예정 시각보다 늦게 꺼낸 최대 지연 (배속 재생에서 대상이 따라가지 못한 정도)
+     * @param truncated  로그 끝 레코드가 잘려 있었는지
+     */
+    public record Report(long events, long failed, long elapsedMs, long maxLagMs, boolean truncated) {
+        public double eventsPerSecond() {
+            return elapsedMs > 0 ? events * 1000.0 / elapsedMs : events;
+        }
+    }
+
+    public Report replay(EventLogReader reader, Consumer<SimulatorEvent> target) throws IOException {
+        AtomicLong failed = new AtomicLong();
+        List<Partition> partitions = new ArrayList<>();
+        if (parallelism > 1) {
+            for (int i = 0; i < parallelism; i++) {
+                Partition partition = new Partition(target, failed);
+                partition.thread = new Thread(partition, "event-replay-" + i);
+                partition.thread.setDaemon(true);
+                partition.thread.start();
+                partitions.add(partition);
+            }
+        }
+
+        long start = System.nanoTime();
+        long events = 0;
+        long maxLagNanos = 0;
+        try {
+            EventLogReader.Entry entry;
+            while ((entry = reader.next()) != null) {
+                if (Thread.currentThread().isInterrupted()) {
+                    throw new InterruptedIOException("Replay interrupted after " + events + " events");
+                }
+                if (speed > 0) {
+                    long due = start + (long) (entry.offsetNanos() / speed);
+                    long wait = due - System.nanoTime();
+                    while (wait > 0) {
+                        LockSupport.parkNanos(wait);
+                        wait = due - System.nanoTime();
+                    }
+                    maxLagNanos = Math.max(maxLagNanos, -wait);
+                }
+
+                SimulatorEvent event = entry.event();
+                if (partitions.isEmpty()) {
+                    publish(target, event, failed);
+                } else {
+                    partitions.get(partitionOf(event)).enqueue(event);
+                }
+                events++;
+            }
+        } finally {
+            for (Partition partition : partitions) {
+                partition.finish();
+            }
+        }
+
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+        Report report = new Report(events, failed.get(), elapsedMs, maxLagNanos / 1_000_000, reader.isTruncated());
+        log.info("Replayed {} events in {} ms ({} events/s, speed {}, max lag {} ms, {} failed)",
+                events, elapsedMs, Math.round(report.eventsPerSecond()),
+                speed > 0 ? speed + "x" : "max", report.maxLagMs(), report.failed());
+        return report;
+    }
+
+    private int partitionOf(SimulatorEvent event) {
+        String source = event.getRobotId();
+        return source != null ? Math.floorMod(source.hashCode(), parallelism) : 0;
+    }
+
+    private static void publish(Consumer<SimulatorEvent> target, SimulatorEvent event, AtomicLong failed) {
+        try {
+            target.accept(event);
+        } catch (Exception e) {
+            if (failed.getAndIncrement() == 0) {
+                log.warn("Replay target failed: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 발생원 파티션 (큐가 가득 차면 읽기를 멈춤 - 이벤트를 버리지 않음)
+     */
+    private static class Partition implements Runnable {
+        private final BlockingQueue<SimulatorEvent> queue = new ArrayBlockingQueue<>(PARTITION_QUEUE_CAPACITY);
+        private final Consumer<SimulatorEvent> target;
+        private final AtomicLong failed;
+        private Thread thread;
+
+        Partition(Consumer<SimulatorEvent> target, AtomicLong failed) {
+            this.target = target;
+            this.failed = failed;
+        }
+
+        void enqueue(SimulatorEvent event) throws InterruptedIOException {
+            try {
+                queue.put(event);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Replay interrupted");
+            }
+        }
+
+        void finish() {
+            // 남은 이벤트를 모두 발행할 때까지 기다림 (중단 요청은 끝난 뒤 다시 설정)
+            boolean interrupted = Thread.interrupted();
+            boolean ended = false;
+            while (!ended) {
+                try {
+                    queue.put(END);
+                    ended = true;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            while (thread.isAlive()) {
+                try {
+                    thread.join();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public void run() {
+            try {
+                SimulatorEvent event;
+                while ((event = queue.take()) != END) {
+                    publish(target, event, failed);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -2,6 +2,8 @@ package com.safetyhub.simulator.publisher;
 
 import com.safetyhub.simulator.event.SimulatorEvent;
 
+import java.util.Map;
+
 /**
  * 이벤트 퍼블리셔 인터페이스
  */
@@ -10,4 +12,11 @@ public interface EventPublisher {
     void connect();
     void disconnect();
     boolean isConnected();
+
+    /**
+     * 발행 메트릭 (없으면 빈 맵)
+     */
+    default Map<String, Object> getMetrics() {
+        return Map.of();
+    }
 }
@@ -0,0 +1,153 @@
+package com.safetyhub.simulator.publisher;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * 이벤트 기록/재생 관리 (REST API용)
+ * 기록은 CompositeEventPublisher에 EventLogRecorder를 붙여 실제로 나가는 이벤트를 남기고,
+ * 재생은 백그라운드 스레드에서 로그를 같은 CompositeEventPublisher로 다시 발행 (MQTT/Kafka를 거쳐 게이트웨이로)
+ * 재생한 이벤트는 기록기를 건너뜀 (재생 중에 기록을 켜도 재생 트래픽이 다시 기록되지 않음)
+ *
+ * 로그 파일은 설정된 디렉터리 안에 이름으로만 지정 (경로를 받지 않음)
+ */
+public class EventRecordingManager {
+    private static final Logger log = LoggerFactory.getLogger(EventRecordingManager.class);
+
+    private static final Pattern NAME_PATTERN = Pattern.compile("[A-Za-z0-9_-]{1,64}");
+    private static final String EXTENSION = ".evlog";
+    private static final int RECORDER_QUEUE_CAPACITY = 1 << 16;
+    private static final String RECORDER_NAME = "recorder";
+
+    private final CompositeEventPublisher composite;
+    private final Path directory;
+
+    private EventLogRecorder recorder;
+    private Thread replayThread;
+    private String replayName;
+    private EventLogReplayer.Report lastReport;
+    private String lastReplayError;
+
+    public EventRecordingManager(CompositeEventPublisher composite, Path directory) {
+        this.composite = composite;
+        this.directory = directory;
+    }
+
+    public synchronized Path startRecording(String name) {
+        if (recorder != null) {
+            throw new IllegalStateException("Recording already in progress: " + recorder.getPath().getFileName());
+        }
+        Path path = resolve(name);
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        EventLogRecorder newRecorder = new EventLogRecorder(path);
+        newRecorder.connect();
+        // 기록은 이벤트를 버리지 않도록 BLOCK (제거할 때 큐에 남은 이벤트까지 기록)
+        composite.addPublisher(RECORDER_NAME, newRecorder, RECORDER_QUEUE_CAPACITY,
+                CompositeEventPublisher.OverflowPolicy.BLOCK);
+        recorder = newRecorder;
+        return path;
+    }
+
+    public synchronized Map<String, Object> stopRecording() {
+        if (recorder == null) {
+            throw new IllegalStateException("No recording in progress");
+        }
+        composite.removePublisher(recorder);
+        recorder.disconnect();
+        Map<String, Object> result = Map.of(
+                "file", recorder.getPath().getFileName().toString(),
+                "events", recorder.getRecordedEvents(),
+                "bytes", recorder.getRecordedBytes());
+        recorder = null;
+        return result;
+    }
+
+    /**
+     * 백그라운드 재생 시작
+     *
+     * @param speed       배속 (0이면 최대 속도)
+     * @param parallelism 발생원 파티션 수
+     */
+    public synchronized void startReplay(String name, double speed, int parallelism) {
+        if (replayThread != null && replayThread.isAlive()) {
+            throw new IllegalStateException("Replay already running: " + replayName);
+        }
+        Path path = resolve(name);
+        if (!Files.isRegularFile(path)) {
+            throw new IllegalArgumentException("Recording not found: " + name);
+        }
+        EventLogReplayer replayer = new EventLogReplayer(speed, parallelism);
+        replayName = name;
+        lastReport = null;
+        lastReplayError = null;
+        replayThread = new Thread(() -> runReplay(replayer, path), "event-replay");
+        replayThread.setDaemon(true);
+        replayThread.start();
+    }
+
+    private void runReplay(EventLogReplayer replayer, Path path) {
+        try (EventLogReader reader = new EventLogReader(path)) {
+            EventLogReplayer.Report report = replayer.replay(reader,
+                    event -> composite.publishExcept(RECORDER_NAME, event));
+            synchronized (this) {
+                lastReport = report;
+            }
+        } catch (IOException | RuntimeException e) {
+            log.error("Replay failed: {}", path, e);
+            synchronized (this) {
+                lastReplayError = String.valueOf(e.getMessage());
+            }
+        }
+    }
+
+    public synchronized void stopReplay() {
+        if (replayThread != null) {
+            replayThread.interrupt();
+        }
+    }
+
+    public synchronized Map<String, Object> getStatus() {
+        Map<String, Object> status = new HashMap<>();
+        status.put("recording", recorder != null);
+        if (recorder != null) {
+            status.put("recordingFile", recorder.getPath().getFileName().toString());
+            status.put("recordedEvents", recorder.getRecordedEvents());
+        }
+        status.put("replaying", replayThread != null && replayThread.isAlive());
+        if (replayName != null) {
+            status.put("replayFile", replayName + EXTENSION);
+        }
+        if (lastReport != null) {
+            status.put("lastReplay", Map.of(
+                    "events", lastReport.events(),
+                    "failed", lastReport.failed(),
+                    "elapsedMs", lastReport.elapsedMs(),
+                    "eventsPerSecond", Math.round(lastReport.eventsPerSecond()),
+                    "maxLagMs", lastReport.maxLagMs(),
+                    "truncated", lastReport.truncated()));
+        }
+        if (lastReplayError != null) {
+            status.put("lastReplayError", lastReplayError);
+        }
+        return status;
+    }
+
+    private Path resolve(String name) {
+        if (name == null || !NAME_PATTERN.matcher(name).matches()) {
+            throw new IllegalArgumentException("Invalid recording name: " + name);
+        }
+        return directory.resolve(name + EXTENSION);
+    }
+}
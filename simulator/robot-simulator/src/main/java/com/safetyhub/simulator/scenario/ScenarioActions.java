@@ -0,0 +1,84 @@
+package com.safetyhub.simulator.scenario;
+
+import com.safetyhub.simulator.core.HealthStatus;
+import com.safetyhub.simulator.core.RobotWorker;
+import com.safetyhub.simulator.world.VirtualWorld;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 시나리오 이벤트를 월드에 적용
+ * 단일 프로세스 엔진(ScenarioEngine)과 샤드 워커가 같은 동작을 사용하도록 분리
+ * (로봇 생성은 실행 방식마다 다르므로 포함하지 않음)
+ */
+public final class ScenarioActions {
+
+    private ScenarioActions() {
+    }
+
+    /**
+     * @param count    적용할 로봇 수 (WORKER_FALL, HEALTH_EMERGENCY)
+     * @param listener 적용 결과 알림 (null 가능)
+     * @return 알려진 이벤트 유형이면 true
+     */
+    public static boolean apply(VirtualWorld world, String eventType, String targetZone, int count,
+                                ScenarioEngine.ScenarioEventListener listener) {
+        switch (eventType) {
+            case "FIRE" -> {
+                world.triggerEmergency(targetZone);
+                notify(listener, "FIRE_DETECTED", targetZone);
+            }
+            case "GAS_LEAK" -> {
+                world.triggerEmergency(targetZone);
+                notify(listener, "GAS_LEAK_DETECTED", targetZone);
+            }
+            case "WORKER_FALL" -> {
+                for (RobotWorker robot : selectRandomRobots(world, targetZone, count)) {
+                    robot.triggerFall();
+                    notify(listener, "WORKER_FALL", robot.getId());
+                }
+            }
+            case "HEALTH_EMERGENCY" -> {
+                for (RobotWorker robot : selectRandomRobots(world, targetZone, count)) {
+                    robot.triggerEmergency(HealthStatus.CRITICAL);
+                    notify(listener, "HEALTH_EMERGENCY", robot.getId());
+                }
+            }
+            case "CLEAR_EMERGENCY" -> {
+                world.clearEmergency();
+                notify(listener, "EMERGENCY_CLEARED", null);
+            }
+            default -> {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 서로 다른 로봇을 최대 count대 무작위 선택 (앞쪽 count개만 섞는 부분 셔플)
+     */
+    static List<RobotWorker> selectRandomRobots(VirtualWorld world, String zoneId, int count) {
+        List<RobotWorker> robots;
+        if (zoneId != null) {
+            robots = world.getRobotsInZone(zoneId);
+        } else {
+            robots = new ArrayList<>(world.getAllRobots());
+        }
+
+        int selected = Math.min(count, robots.size());
+        for (int i = 0; i < selected; i++) {
+            int j = i + (int) (Math.random() * (robots.size() - i));
+            Collections.swap(robots, i, j);
+        }
+        return robots.subList(0, selected);
+    }
+
+    private static void notify(ScenarioEngine.ScenarioEventListener listener, String eventType, Object data) {
+        if (listener != null) {
+            listener.onEvent(eventType, data);
+        }
+    }
+}
@@ -1,23 +1,32 @@
 package com.safetyhub.simulator.scenario;
 
-import com.safetyhub.simulator.core.HealthStatus;
-import com.safetyhub.simulator.core.RobotWorker;
+import com.safetyhub.simulator.core.RobotWorkerCodec;
 import com.safetyhub.simulator.event.EventGenerator;
 import com.safetyhub.simulator.world.VirtualWorld;
+import com.safetyhub.simulator.world.WorldSnapshot;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.Duration;
 import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * 시나리오 실행 엔진
+ * TickScheduler로 100ms마다 틱을 실행하고, 실시간보다 늦어진 틱에서는 주기 이벤트를 줄임
  */
 public class ScenarioEngine {
     private static final Logger log = LoggerFactory.getLogger(ScenarioEngine.class);
@@ -27,9 +36,23 @@ public class ScenarioEngine {
     private Scenario currentScenario;
     private final AtomicInteger elapsedSeconds = new AtomicInteger(0);
     private final AtomicBoolean running = new AtomicBoolean(false);
-    private ScheduledExecutorService scheduler;
+    private TickScheduler scheduler;
+    private ScenarioTimeline timeline;
+    private boolean restored;           // 스냅샷에서 복원된 뒤 아직 시작하지 않음
+    private String restoredScenarioId;  // 복원한 스냅샷의 시나리오 (같은 시나리오로 시작하면 이어서 실행)
     private final List<ScenarioEventListener> listeners = new ArrayList<>();
 
+    private static final Duration TICK_INTERVAL = Duration.ofMillis(100);
+    private static final int MAX_LAG_TICKS = 10;
+    private static final int SNAPSHOT_BUFFER_SIZE = 1 << 16;
+
+    // 스케줄링 통계
+    private final AtomicLong overrunTicks = new AtomicLong(0);
+    private final AtomicLong behindTicks = new AtomicLong(0);
+    private final AtomicLong skippedTicks = new AtomicLong(0);
+    private final AtomicLong lastLagNanos = new AtomicLong(0);
+    private final AtomicLong maxLagNanos = new AtomicLong(0);
+
     public ScenarioEngine(VirtualWorld world, EventGenerator eventGenerator) {
         this.world = world;
         this.eventGenerator = eventGenerator;
@@ -50,30 +73,50 @@ public class ScenarioEngine {
             return;
         }
 
-        // 로봇 생성
-        world.spawnRobots(currentScenario.getRobotCount());
-        log.info("Spawned {} robots", currentScenario.getRobotCount());
+        prepareRun();
 
-        running.set(true);
-        elapsedSeconds.set(0);
-        world.setSimulationTime(LocalTime.of(8, 0));
-
-        scheduler = Executors.newSingleThreadScheduledExecutor();
-        scheduler.scheduleAtFixedRate(this::tick, 0, 100, TimeUnit.MILLISECONDS); // 10x 속도
+        scheduler = new TickScheduler("scenario-tick", TICK_INTERVAL, MAX_LAG_TICKS,
+                this::tick, this::recordScheduling); // 10x 속도
+        scheduler.start();
 
         log.info("Scenario started: {}", currentScenario.getName());
         notifyListeners("SCENARIO_STARTED", null);
     }
 
+    /**
+     * 실행 준비 (타임라인 컴파일, 상태 초기화)
+     * 로봇 생성도 타임라인의 SPAWN_ROBOTS 단계로 처리되어 여러 틱에 나누어 진행됨
+     */
+    synchronized void prepareRun() {
+        if (restored) {
+            restored = false;
+            if (currentScenario.getId().equals(restoredScenarioId)) {
+                // 경과 시간과 시각은 스냅샷 값을 유지하고, 이미 실행한 단계는 건너뜀
+                timeline = ScenarioTimeline.compile(currentScenario);
+                timeline.advance(elapsedSeconds.get(), step -> { });
+                running.set(true);
+                resetSchedulingStats();
+                log.info("Scenario resumed from snapshot at {}s ({} steps remaining)",
+                        elapsedSeconds.get(), timeline.getRemainingSteps());
+                return;
+            }
+            log.warn("Snapshot was taken with scenario {}, starting {} from the first step",
+                    restoredScenarioId, currentScenario.getId());
+        }
+        timeline = ScenarioTimeline.compile(currentScenario);
+        log.info("Scenario compiled: {} steps ({} robots to spawn)",
+                timeline.getStepCount(), currentScenario.getRobotCount());
+
+        running.set(true);
+        elapsedSeconds.set(0);
+        resetSchedulingStats();
+        world.setSimulationTime(LocalTime.of(8, 0));
+    }
+
     public void stop() {
         running.set(false);
         if (scheduler != null) {
-            scheduler.shutdown();
-            try {
-                scheduler.awaitTermination(5, TimeUnit.SECONDS);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-            }
+            scheduler.stop(5, TimeUnit.SECONDS);
         }
         log.info("Scenario stopped");
         notifyListeners("SCENARIO_STOPPED", null);
@@ -89,7 +132,7 @@ public class ScenarioEngine {
         log.info("Scenario resumed");
     }
 
-    private void tick() {
+    synchronized void tick(boolean behind) {
         if (!running.get()) return;
 
         int currentSecond = elapsedSeconds.incrementAndGet();
@@ -97,11 +140,12 @@ public class ScenarioEngine {
         // 월드 업데이트
         world.tick();
 
-        // 이벤트 생성
+        // 이벤트 생성 (늦어진 틱에서는 주기 위치/하트비트 이벤트를 줄임)
+        eventGenerator.setReducedEmission(behind);
         eventGenerator.generateEvents(world);
 
-        // 예약된 시나리오 이벤트 확인
-        checkScheduledEvents(currentSecond);
+        // 실행 시각이 된 시나리오 이벤트 실행
+        timeline.advance(currentSecond, this::executeStep);
 
         // 시나리오 종료 확인
         if (currentSecond >= currentScenario.getDurationMinutes() * 60) {
@@ -110,58 +154,76 @@ public class ScenarioEngine {
         }
     }
 
-    private void checkScheduledEvents(int currentSecond) {
-        for (Scenario.ScenarioEvent event : currentScenario.getEvents()) {
-            if (event.getTriggerTimeSeconds() == currentSecond) {
-                executeEvent(event);
-            }
+    /**
+     * 스냅샷 저장 (틱 사이 시점의 월드, 시나리오 ID, 경과 시간, 이벤트 생성기 상태)
+     * 실행 중에도 호출 가능 (틱과 같은 락)
+     */
+    public synchronized void captureSnapshot(OutputStream output) throws IOException {
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(output, SNAPSHOT_BUFFER_SIZE));
+        WorldSnapshot.write(world, out);
+        RobotWorkerCodec.writeNullableString(out, currentScenario != null ? currentScenario.getId() : null);
+        out.writeInt(elapsedSeconds.get());
+        eventGenerator.writeState(out);
+        out.flush();
+    }
+
+    /**
+     * 스냅샷 복원 (중지 상태에서만)
+     * 다음 start가 스냅샷과 같은 시나리오면 경과 시간 지점부터 이어서 실행
+     */
+    public synchronized void restoreSnapshot(InputStream input) throws IOException {
+        if (running.get()) {
+            throw new IllegalStateException("Stop the scenario before restoring a snapshot");
         }
+        DataInputStream in = new DataInputStream(new BufferedInputStream(input, SNAPSHOT_BUFFER_SIZE));
+        WorldSnapshot.read(world, in);
+        String scenarioId = RobotWorkerCodec.readNullableString(in);
+        int elapsed = in.readInt();
+        eventGenerator.readState(in);
+
+        elapsedSeconds.set(elapsed);
+        restored = true;
+        restoredScenarioId = scenarioId;
+        log.info("Snapshot restored: {} robots at {} ({}s elapsed)",
+                world.getRobotCount(), world.getSimulationTime(), elapsed);
     }
 
-    private void executeEvent(Scenario.ScenarioEvent event) {
-        log.info("Executing event: {} at {}s", event.getEventType(), elapsedSeconds.get());
+    private void recordScheduling(long durationNanos, long lagNanos, boolean overrun,
+                                  boolean behind, long skipped) {
+        if (overrun) overrunTicks.incrementAndGet();
+        if (behind) behindTicks.incrementAndGet();
+        skippedTicks.addAndGet(skipped);
+        lastLagNanos.set(lagNanos);
+        maxLagNanos.accumulateAndGet(lagNanos, Math::max);
+    }
 
-        switch (event.getEventType()) {
-            case "FIRE" -> {
-                world.triggerEmergency(event.getTargetZone());
-                notifyListeners("FIRE_DETECTED", event.getTargetZone());
-            }
-            case "GAS_LEAK" -> {
-                world.triggerEmergency(event.getTargetZone());
-                notifyListeners("GAS_LEAK_DETECTED", event.getTargetZone());
-            }
-            case "WORKER_FALL" -> {
-                RobotWorker robot = selectRandomRobot(event.getTargetZone());
-                if (robot != null) {
-                    robot.triggerFall();
-                    notifyListeners("WORKER_FALL", robot.getId());
-                }
-            }
-            case "HEALTH_EMERGENCY" -> {
-                RobotWorker robot = selectRandomRobot(event.getTargetZone());
-                if (robot != null) {
-                    robot.triggerEmergency(HealthStatus.CRITICAL);
-                    notifyListeners("HEALTH_EMERGENCY", robot.getId());
-                }
-            }
-            case "CLEAR_EMERGENCY" -> {
-                world.clearEmergency();
-                notifyListeners("EMERGENCY_CLEARED", null);
-            }
-            default -> log.warn("Unknown event type: {}", event.getEventType());
-        }
+    private void resetSchedulingStats() {
+        overrunTicks.set(0);
+        behindTicks.set(0);
+        skippedTicks.set(0);
+        lastLagNanos.set(0);
+        maxLagNanos.set(0);
     }
 
-    private RobotWorker selectRandomRobot(String zoneId) {
-        List<RobotWorker> robots;
-        if (zoneId != null) {
-            robots = world.getRobotsInZone(zoneId);
-        } else {
-            robots = new ArrayList<>(world.getAllRobots());
+    private void executeStep(ScenarioTimeline.Step step) {
+        Scenario.ScenarioEvent event = step.event();
+        log.info("Executing event: {} x{} at {}s", event.getEventType(), step.count(), elapsedSeconds.get());
+
+        if (ScenarioTimeline.SPAWN_ROBOTS.equals(event.getEventType())) {
+            world.spawnRobots(step.count());
+            notifyListeners("ROBOTS_SPAWNED", step.count());
+        } else if (!ScenarioActions.apply(world, event.getEventType(), event.getTargetZone(), step.count(),
+                this::onAction)) {
+            log.warn("Unknown event type: {}", event.getEventType());
         }
+    }
 
-        if (robots.isEmpty()) return null;
-        return robots.get((int) (Math.random() * robots.size()));
+    private void onAction(String eventType, Object data) {
+        if ("WORKER_FALL".equals(eventType)) {
+            // 밴드 가속도에 낙상 패턴 시작 (다음 틱부터 판정)
+            eventGenerator.onWorkerFall((String) data);
+        }
+        notifyListeners(eventType, data);
     }
 
     public void addListener(ScenarioEventListener listener) {
@@ -186,5 +248,16 @@ public class ScenarioEngine {
     public boolean isRunning() { return running.get(); }
     public int getElapsedSeconds() { return elapsedSeconds.get(); }
     public Scenario getCurrentScenario() { return currentScenario; }
+    public ScenarioTimeline getTimeline() { return timeline; }
     public VirtualWorld getWorld() { return world; }
+
+    public Map<String, Object> getSchedulingStats() {
+        return Map.of(
+                "overrunTicks", overrunTicks.get(),
+                "behindTicks", behindTicks.get(),
+                "skippedTicks", skippedTicks.get(),
+                "lagMs", lastLagNanos.get() / 1_000_000,
+                "maxLagMs", maxLagNanos.get() / 1_000_000
+        );
+    }
 }
@@ -0,0 +1,132 @@
+package com.safetyhub.simulator.scenario;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * 시간 순으로 컴파일된 시나리오 타임라인
+ * 시나리오 이벤트를 실행 시각 순으로 정렬해 두고 커서로 진행하므로 틱마다 실행할 이벤트만 확인 (O(실행 수))
+ *
+ * 대량 이벤트 처리:
+ * - 시나리오의 robotCount는 1초 시점의 SPAWN_ROBOTS 이벤트로 변환
+ * - data.count가 있는 이벤트는 그 수만큼 적용하고, batchSize를 넘으면 이후 초로 나누어 배치
+ *   (10,000대 생성을 한 틱에 몰아서 하지 않도록)
+ */
+public class ScenarioTimeline {
+
+    public static final String SPAWN_ROBOTS = "SPAWN_ROBOTS";
+    public static final int DEFAULT_BATCH_SIZE = 500;
+
+    /**
+     * 실행 단위
+     *
+     * @param second 실행 시각 (시나리오 시작 후 초)
+     * @param event  원본 시나리오 이벤트
+     * @param count  이번 단계에서 적용할 수 (로봇 수 등)
+     */
+    public record Step(int second, Scenario.ScenarioEvent event, int count) {
+        public String eventType() {
+            return event.getEventType();
+        }
+    }
+
+    private final Step[] steps;
+    private int cursor;
+
+    private ScenarioTimeline(Step[] steps) {
+        this.steps = steps;
+    }
+
+    public static ScenarioTimeline compile(Scenario scenario) {
+        return compile(scenario, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * @param batchSize 한 단계에서 적용할 최대 수
+     */
+    public static ScenarioTimeline compile(Scenario scenario, int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize must be positive");
+        }
+        List<Step> steps = new ArrayList<>();
+
+        if (scenario.getRobotCount() > 0) {
+            Scenario.ScenarioEvent spawn = new Scenario.ScenarioEvent(1, SPAWN_ROBOTS);
+            spawn.setData(Map.of("count", scenario.getRobotCount()));
+            addSteps(steps, spawn, batchSize);
+        }
+        for (Scenario.ScenarioEvent event : scenario.getEvents()) {
+            addSteps(steps, event, batchSize);
+        }
+
+        // 같은 시각이면 시나리오에 적힌 순서 유지 (안정 정렬)
+        steps.sort(Comparator.comparingInt(Step::second));
+        return new ScenarioTimeline(steps.toArray(new Step[0]));
+    }
+
+    private static void addSteps(List<Step> steps, Scenario.ScenarioEvent event, int batchSize) {
+        int remaining = countOf(event);
+        int second = event.getTriggerTimeSeconds();
+        do {
+            int count = Math.min(remaining, batchSize);
+            steps.add(new Step(second++, event, count));
+            remaining -= count;
+        } while (remaining > 0);
+    }
+
+    /**
+     * 이벤트의 data.count (없으면 1)
+     */
+    static int countOf(Scenario.ScenarioEvent event) {
+        Map<String, Object> data = event.getData();
+        Object value = data != null ? data.get("count") : null;
+        int count;
+        if (value instanceof Number number) {
+            count = number.intValue();
+        } else if (value instanceof String text) {
+            count = Integer.parseInt(text.trim());
+        } else {
+            count = 1;
+        }
+        if (count <= 0) {
+            throw new IllegalArgumentException("Event count must be positive: " + event.getEventType() + " " + count);
+        }
+        return count;
+    }
+
+    /**
+     * currentSecond까지 실행 시각이 된 단계를 순서대로 전달하고 커서를 진행
+     *
+     * @return 전달한 단계 수
+     */
+    public int advance(int currentSecond, Consumer<Step> action) {
+        int executed = 0;
+        while (cursor < steps.length && steps[cursor].second() <= currentSecond) {
+            action.accept(steps[cursor++]);
+            executed++;
+        }
+        return executed;
+    }
+
+    public boolean isFinished() {
+        return cursor == steps.length;
+    }
+
+    public int getStepCount() {
+        return steps.length;
+    }
+
+    public int getRemainingSteps() {
+        return steps.length - cursor;
+    }
+
+    /**
+     * 다음 단계의 실행 시각 (남은 단계가 없으면 -1)
+     */
+    public int getNextSecond() {
+        return cursor < steps.length ? steps[cursor].second() : -1;
+    }
+}
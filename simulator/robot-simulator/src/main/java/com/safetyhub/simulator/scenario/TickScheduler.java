@@ -0,0 +1,103 @@
+package com.safetyhub.simulator.scenario;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 실시간 틱 스케줄러
+ * 틱마다 소요 시간과 지연(예정 시각 대비 늦게 시작한 시간)을 측정하고
+ * 지연이 틱 간격을 넘으면 behind=true로, 최대 허용치를 넘으면 밀린 틱을 건너뛰고 실행
+ */
+public class TickScheduler {
+    private static final Logger log = LoggerFactory.getLogger(TickScheduler.class);
+
+    @FunctionalInterface
+    public interface TickTask {
+        void run(boolean behind);
+    }
+
+    @FunctionalInterface
+    public interface TimingListener {
+        void onTick(long durationNanos, long lagNanos, boolean overrun, boolean behind, long skippedTicks);
+    }
+
+    private final String name;
+    private final long intervalNanos;
+    private final long maxLagNanos;
+    private final TickTask task;
+    private final TimingListener listener;
+
+    private volatile boolean running;
+    private Thread thread;
+
+    public TickScheduler(String name, Duration interval, int maxLagTicks, TickTask task, TimingListener listener) {
+        if (interval.isZero() || interval.isNegative()) {
+            throw new IllegalArgumentException("Tick interval must be positive: " + interval);
+        }
+        if (maxLagTicks <= 0) {
+            throw new IllegalArgumentException("maxLagTicks must be positive");
+        }
+        this.name = name;
+        this.intervalNanos = interval.toNanos();
+        this.maxLagNanos = intervalNanos * maxLagTicks;
+        this.task = task;
+        this.listener = listener;
+    }
+
+    public synchronized void start() {
+        if (running) return;
+        running = true;
+        thread = new Thread(this::loop, name);
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    public synchronized void stop(long timeout, TimeUnit unit) {
+        running = false;
+        if (thread == null) return;
+        LockSupport.unpark(thread);
+        if (thread != Thread.currentThread()) {
+            try {
+                thread.join(unit.toMillis(timeout));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        thread = null;
+    }
+
+    private void loop() {
+        long next = System.nanoTime();
+        while (running) {
+            long now = System.nanoTime();
+            if (next - now > 0) {
+                LockSupport.parkNanos(next - now);
+                continue;
+            }
+
+            long lag = now - next;
+            boolean behind = lag > intervalNanos;
+            try {
+                task.run(behind);
+            } catch (Exception e) {
+                log.error("Error in tick {}", name, e);
+            }
+            long duration = System.nanoTime() - now;
+
+            // 너무 밀렸으면 몰아서 실행하지 않고 건너뜀
+            next += intervalNanos;
+            long skipped = 0;
+            long late = System.nanoTime() - next;
+            if (late > maxLagNanos) {
+                skipped = late / intervalNanos;
+                next += skipped * intervalNanos;
+            }
+
+            listener.onTick(duration, lag, duration > intervalNanos, behind, skipped);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.safetyhub.simulator.shard;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarFile;
+
+/**
+ * 샤드 워커를 같은 호스트의 별도 JVM 프로세스로 실행
+ * 현재 JVM의 java와 클래스패스를 그대로 사용하며, Spring Boot 실행 jar로 실행 중이면
+ * PropertiesLauncher로 jar 안의 ShardWorker를 실행
+ */
+public class ProcessShardLauncher implements ShardLauncher {
+    private static final Logger log = LoggerFactory.getLogger(ProcessShardLauncher.class);
+
+    private static final String BOOT_LAUNCHER = "org.springframework.boot.loader.launch.PropertiesLauncher";
+
+    private final List<String> jvmOptions;
+    private final List<String> workerArgs;
+    private final List<Process> processes = new CopyOnWriteArrayList<>();
+
+    /**
+     * @param jvmOptions 워커 JVM 옵션 (예: -Xmx512m)
+     * @param workerArgs 모든 워커에 전달할 인자 (예: --mqtt.broker-url=...)
+     */
+    public ProcessShardLauncher(List<String> jvmOptions, List<String> workerArgs) {
+        this.jvmOptions = List.copyOf(jvmOptions);
+        this.workerArgs = List.copyOf(workerArgs);
+    }
+
+    @Override
+    public void launch(int shardIndex, int coordinatorPort) throws IOException {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(jvmOptions);
+
+        String classPath = System.getProperty("java.class.path");
+        if (isBootJar(classPath)) {
+            command.add("-Dloader.main=" + ShardWorker.class.getName());
+            command.add("-cp");
+            command.add(classPath);
+            command.add(BOOT_LAUNCHER);
+        } else {
+            command.add("-cp");
+            command.add(classPath);
+            command.add(ShardWorker.class.getName());
+        }
+        command.add("--shard=" + shardIndex);
+        command.add("--coordinator-port=" + coordinatorPort);
+        command.addAll(workerArgs);
+
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.INHERIT)
+                .start();
+        processes.add(process);
+        log.info("Shard {} process started (pid {})", shardIndex, process.pid());
+    }
+
+    @Override
+    public void stopAll() {
+        for (Process process : processes) {
+            try {
+                if (!process.waitFor(5, TimeUnit.SECONDS)) {
+                    process.destroy();
+                    if (!process.waitFor(5, TimeUnit.SECONDS)) {
+                        process.destroyForcibly();
+                    }
+                }
+            } catch (InterruptedException e) {
+                process.destroyForcibly();
+                Thread.currentThread().interrupt();
+            }
+        }
+        processes.clear();
+    }
+
+    public int getRunningCount() {
+        return (int) processes.stream().filter(Process::isAlive).count();
+    }
+
+    private static boolean isBootJar(String classPath) {
+        if (classPath.contains(File.pathSeparator) || !classPath.endsWith(".jar")) {
+            return false;
+        }
+        try (JarFile jar = new JarFile(classPath)) {
+            return jar.getEntry("BOOT-INF/classes/") != null;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,451 @@
+package com.safetyhub.simulator.shard;
+
+import com.safetyhub.simulator.core.Location;
+import com.safetyhub.simulator.core.RobotWorker;
+import com.safetyhub.simulator.scenario.Scenario;
+import com.safetyhub.simulator.scenario.ScenarioTimeline;
+import com.safetyhub.simulator.scenario.TickScheduler;
+import com.safetyhub.simulator.world.VirtualWorld;
+import com.safetyhub.simulator.world.Zone;
+import com.safetyhub.simulator.world.ZoneType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 샤드 코디네이터
+ * 구역 단위로 로봇을 N개의 샤드 워커(로컬 프로세스)에 나누어 시뮬레이션
+ *
+ * - 시나리오 타임라인은 코디네이터만 진행하고, 로봇 생성은 배치된 구역을 맡은 샤드로 로봇을 넘겨서 처리
+ * - 틱마다 모든 샤드에 TICK을 보낸 뒤 모든 TICK_DONE을 받을 때까지 기다림 (틱 동기화)
+ * - 샤드가 넘긴 로봇(다른 샤드 구역에 들어간 로봇)은 다음 TICK에 목적지 샤드로 전달
+ * - 구역 지정 명령(WORKER_FALL 등)은 그 구역을 맡은 샤드로, 구역이 없는 명령은 샤드별로 count를 나누어,
+ *   월드 전체 상태(FIRE, CLEAR_EMERGENCY 등)는 모든 샤드로 보냄
+ * - 샤드별 로봇 수, 이벤트 수, 틱 시간과 구역 인원을 모아 하나의 메트릭으로 제공
+ *
+ * 모든 통신은 loopback 주소의 TCP로만 이루어짐
+ * 샤드가 정해진 시간 안에 응답하지 않으면 실패한 것으로 보고 전체를 중지
+ */
+public class ShardCoordinator {
+    private static final Logger log = LoggerFactory.getLogger(ShardCoordinator.class);
+
+    private static final Duration TICK_INTERVAL = Duration.ofMillis(100);
+    private static final int MAX_LAG_TICKS = 10;
+    private static final int JOIN_TIMEOUT_MILLIS = 30_000;
+    private static final int SHARD_TIMEOUT_MILLIS = 10_000;
+    private static final LocalTime START_TIME = LocalTime.of(8, 0);  // VirtualWorld 초기 시각과 같음
+
+    private final Scenario scenario;
+    private final int shardCount;
+    private final ShardLauncher launcher;
+    private final ShardPlan plan;
+    private final List<Zone> workZones;
+    private final int shardTimeoutMillis;
+
+    private ServerSocket serverSocket;
+    private Connection[] connections;
+    private TickScheduler scheduler;
+    private ScenarioTimeline timeline;
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    // 다음 TICK에 보낼 로봇과 명령 (틱 스레드에서만 접근)
+    private List<List<ShardProtocol.Handoff>> inbox;
+    private List<List<ShardProtocol.Command>> commands;
+
+    private int second;
+    private LocalTime simulationTime;
+    private int spawned;
+    private long startedAtNanos;
+
+    // 메트릭
+    private final AtomicLong ticks = new AtomicLong(0);
+    private final AtomicLong totalEvents = new AtomicLong(0);
+    private final AtomicLong handoffs = new AtomicLong(0);
+    private final AtomicLong inTransit = new AtomicLong(0);
+    private final AtomicLong behindTicks = new AtomicLong(0);
+    private final AtomicLong skippedTicks = new AtomicLong(0);
+    private final AtomicLong maxLagNanos = new AtomicLong(0);
+    private final AtomicLongArray shardRobots;
+    private final AtomicLongArray shardEvents;
+    private final AtomicLongArray shardTickNanos;
+    private final Map<String, Integer> zoneOccupancy = new ConcurrentHashMap<>();
+
+    public ShardCoordinator(Scenario scenario, int shardCount, ShardLauncher launcher) {
+        this(scenario, shardCount, launcher, SHARD_TIMEOUT_MILLIS);
+    }
+
+    /**
+     * @param shardTimeoutMillis 샤드 응답 대기 한도 (넘으면 샤드 실패로 처리)
+     */
+    ShardCoordinator(Scenario scenario, int shardCount, ShardLauncher launcher, int shardTimeoutMillis) {
+        if (shardCount <= 0) {
+            throw new IllegalArgumentException("shardCount must be positive");
+        }
+        if (shardTimeoutMillis <= 0) {
+            throw new IllegalArgumentException("shardTimeoutMillis must be positive");
+        }
+        this.scenario = scenario;
+        this.shardCount = shardCount;
+        this.launcher = launcher;
+        this.shardTimeoutMillis = shardTimeoutMillis;
+
+        VirtualWorld layout = VirtualWorld.createStandardFactory("coordinator", "Coordinator");
+        this.plan = ShardPlan.byCapacity(layout.getGridMap().getAllZones().values(), shardCount);
+        this.workZones = layout.getGridMap().getAllZones().values().stream()
+                .filter(zone -> zone.getType() == ZoneType.WORK_AREA)
+                .sorted((a, b) -> a.getId().compareTo(b.getId()))
+                .toList();
+
+        this.shardRobots = new AtomicLongArray(shardCount);
+        this.shardEvents = new AtomicLongArray(shardCount);
+        this.shardTickNanos = new AtomicLongArray(shardCount);
+    }
+
+    /**
+     * 샤드를 실행하고 실시간 틱 시작
+     */
+    public synchronized void start() throws IOException {
+        connect();
+        scheduler = new TickScheduler("shard-coordinator", TICK_INTERVAL, MAX_LAG_TICKS,
+                this::tick, this::recordScheduling);
+        scheduler.start();
+    }
+
+    /**
+     * 샤드 워커를 실행하고 모두 접속할 때까지 대기 (틱은 시작하지 않음)
+     */
+    synchronized void connect() throws IOException {
+        if (running.get()) {
+            throw new IllegalStateException("Coordinator is already running");
+        }
+        serverSocket = new ServerSocket(0, shardCount, InetAddress.getLoopbackAddress());
+        serverSocket.setSoTimeout(JOIN_TIMEOUT_MILLIS);
+        int port = serverSocket.getLocalPort();
+        connections = new Connection[shardCount];
+        try {
+            acceptShards(port);
+        } catch (IOException e) {
+            closeConnections(true);
+            launcher.stopAll();
+            throw e;
+        }
+
+        inbox = new ArrayList<>();
+        commands = new ArrayList<>();
+        for (int shard = 0; shard < shardCount; shard++) {
+            inbox.add(new ArrayList<>());
+            commands.add(new ArrayList<>());
+        }
+        timeline = ScenarioTimeline.compile(scenario);
+        simulationTime = START_TIME;
+        second = 0;
+        spawned = 0;
+        startedAtNanos = System.nanoTime();
+        running.set(true);
+        log.info("Shard coordinator started: {} shards on port {}, zones {}", shardCount, port, plan.getOwners());
+    }
+
+    private void acceptShards(int port) throws IOException {
+        for (int shard = 0; shard < shardCount; shard++) {
+            launcher.launch(shard, port);
+        }
+        for (int joined = 0; joined < shardCount; joined++) {
+            Connection connection = new Connection(serverSocket.accept(), shardTimeoutMillis);
+            ShardProtocol.expect(connection.in, ShardProtocol.JOIN);
+            int shard = connection.in.readInt();
+            if (shard < 0 || shard >= shardCount || connections[shard] != null) {
+                throw new IOException("Invalid shard join: " + shard);
+            }
+            connections[shard] = connection;
+
+            connection.out.writeByte(ShardProtocol.HELLO);
+            ShardProtocol.writePlan(connection.out, plan);
+            connection.out.writeInt(intParameter("locationUpdateInterval", 10));
+            connection.out.writeInt(intParameter("heartbeatInterval", 50));
+            connection.out.flush();
+        }
+    }
+
+    /**
+     * 한 틱 진행 (모든 샤드가 끝날 때까지 대기)
+     */
+    synchronized void tick(boolean behind) {
+        if (!running.get()) return;
+
+        second++;
+        timeline.advance(second, this::dispatch);
+
+        try {
+            for (int shard = 0; shard < shardCount; shard++) {
+                sendTick(shard, behind);
+            }
+            for (int shard = 0; shard < shardCount; shard++) {
+                receiveTickDone(shard);
+            }
+            inTransit.set(inbox.stream().mapToLong(List::size).sum());
+        } catch (SocketTimeoutException e) {
+            log.error("Shard did not answer within {}ms at {}s, stopping", shardTimeoutMillis, second);
+            stop();
+            return;
+        } catch (IOException e) {
+            if (!running.get()) return;  // stop()이 소켓을 닫아 깨운 경우
+            log.error("Shard communication failed at {}s, stopping", second, e);
+            stop();
+            return;
+        }
+
+        simulationTime = simulationTime.plusSeconds(1);
+        ticks.incrementAndGet();
+
+        if (second >= scenario.getDurationMinutes() * 60) {
+            log.info("Sharded scenario completed: {}", scenario.getName());
+            stop();
+        }
+    }
+
+    private void dispatch(ScenarioTimeline.Step step) {
+        String eventType = step.eventType();
+        String targetZone = step.event().getTargetZone();
+
+        switch (eventType) {
+            case ScenarioTimeline.SPAWN_ROBOTS -> spawn(step.count());
+            case "WORKER_FALL", "HEALTH_EMERGENCY" -> {
+                int owner = plan.shardOf(targetZone);
+                if (owner >= 0) {
+                    commands.get(owner).add(new ShardProtocol.Command(eventType, targetZone, step.count()));
+                } else {
+                    // 구역 지정이 없으면 샤드마다 나누어 적용
+                    for (int shard = 0; shard < shardCount; shard++) {
+                        int share = step.count() / shardCount + (shard < step.count() % shardCount ? 1 : 0);
+                        if (share > 0) {
+                            commands.get(shard).add(new ShardProtocol.Command(eventType, targetZone, share));
+                        }
+                    }
+                }
+            }
+            default -> {
+                for (int shard = 0; shard < shardCount; shard++) {
+                    commands.get(shard).add(new ShardProtocol.Command(eventType, targetZone, step.count()));
+                }
+            }
+        }
+        log.info("Dispatched event: {} x{} at {}s", eventType, step.count(), second);
+    }
+
+    /**
+     * 작업 구역에 돌아가며 로봇을 배치하고 그 구역을 맡은 샤드로 보냄
+     */
+    private void spawn(int count) {
+        for (int i = spawned; i < spawned + count; i++) {
+            Zone zone = workZones.get(i % workZones.size());
+            Location location = zone.getRandomLocation();
+            RobotWorker robot = RobotWorker.create("Robot-" + (i + 1), location);
+            inbox.get(plan.shardOf(zone.getId())).add(ShardProtocol.Handoff.spawn(robot));
+        }
+        spawned += count;
+    }
+
+    private void sendTick(int shard, boolean behind) throws IOException {
+        DataOutputStream out = connections[shard].out;
+        out.writeByte(ShardProtocol.TICK);
+        out.writeInt(second);
+        out.writeInt(simulationTime.toSecondOfDay());
+        out.writeBoolean(behind);
+
+        List<ShardProtocol.Handoff> robots = inbox.get(shard);
+        out.writeInt(robots.size());
+        for (ShardProtocol.Handoff robot : robots) {
+            robot.write(out);
+        }
+        robots.clear();
+
+        List<ShardProtocol.Command> pending = commands.get(shard);
+        out.writeInt(pending.size());
+        for (ShardProtocol.Command command : pending) {
+            command.write(out);
+        }
+        pending.clear();
+        out.flush();
+    }
+
+    private void receiveTickDone(int shard) throws IOException {
+        DataInputStream in = connections[shard].in;
+        ShardProtocol.expect(in, ShardProtocol.TICK_DONE);
+        int doneSecond = in.readInt();
+        if (doneSecond != second) {
+            throw new IOException("Shard " + shard + " answered tick " + doneSecond + " for " + second);
+        }
+        shardRobots.set(shard, in.readInt());
+        long events = in.readLong();
+        shardEvents.addAndGet(shard, events);
+        totalEvents.addAndGet(events);
+        shardTickNanos.set(shard, in.readLong());
+
+        int zones = in.readInt();
+        for (int i = 0; i < zones; i++) {
+            zoneOccupancy.put(in.readUTF(), in.readInt());
+        }
+
+        int leaving = in.readInt();
+        for (int i = 0; i < leaving; i++) {
+            int destination = in.readInt();
+            inbox.get(destination).add(ShardProtocol.Handoff.read(in));
+        }
+        handoffs.addAndGet(leaving);
+    }
+
+    private void recordScheduling(long durationNanos, long lagNanos, boolean overrun,
+                                  boolean behind, long skipped) {
+        if (behind) behindTicks.incrementAndGet();
+        skippedTicks.addAndGet(skipped);
+        maxLagNanos.accumulateAndGet(lagNanos, Math::max);
+    }
+
+    /**
+     * 틱 중지, 샤드 연결을 닫고 워커 종료
+     *
+     * 틱 스레드(시나리오 종료, 샤드 실패)에서 부르면 송수신 중이 아니므로 STOP을 보내고 닫음
+     * 다른 스레드에서는 틱이 모니터를 잡은 채 샤드 응답을 기다리고 있을 수 있으므로
+     * 모니터를 잡지 않고 소켓만 닫아 틱을 깨움 (샤드는 연결 종료로 멈춤)
+     */
+    public void stop() {
+        if (!running.compareAndSet(true, false)) {
+            return;
+        }
+        closeConnections(Thread.holdsLock(this));
+        if (scheduler != null) {
+            scheduler.stop(5, TimeUnit.SECONDS);
+        }
+        launcher.stopAll();
+        log.info("Shard coordinator stopped after {} ticks", ticks.get());
+    }
+
+    private void closeConnections(boolean sendStop) {
+        for (Connection connection : connections) {
+            if (connection != null) {
+                connection.close(sendStop);
+            }
+        }
+        try {
+            serverSocket.close();
+        } catch (IOException e) {
+            log.warn("Error closing coordinator socket", e);
+        }
+    }
+
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    public ShardPlan getPlan() {
+        return plan;
+    }
+
+    /**
+     * 샤드에 있는 로봇과 다음 틱에 전달될 로봇의 합
+     */
+    public long getTotalRobots() {
+        long total = inTransit.get();
+        for (int shard = 0; shard < shardCount; shard++) {
+            total += shardRobots.get(shard);
+        }
+        return total;
+    }
+
+    public Map<String, Object> getMetrics() {
+        double elapsedSeconds = Math.max(1e-9, (System.nanoTime() - startedAtNanos) / 1e9);
+        long maxShardTickNanos = 0;
+        List<Map<String, Object>> shards = new ArrayList<>();
+        for (int shard = 0; shard < shardCount; shard++) {
+            maxShardTickNanos = Math.max(maxShardTickNanos, shardTickNanos.get(shard));
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("shard", shard);
+            stats.put("zones", plan.zonesOf(shard));
+            stats.put("robots", shardRobots.get(shard));
+            stats.put("events", shardEvents.get(shard));
+            stats.put("tickMs", shardTickNanos.get(shard) / 1_000_000.0);
+            shards.add(stats);
+        }
+
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("running", running.get());
+        metrics.put("scenario", scenario.getId());
+        metrics.put("shardCount", shardCount);
+        metrics.put("ticks", ticks.get());
+        metrics.put("simulationTime", simulationTime != null ? simulationTime.toString() : null);
+        metrics.put("robots", getTotalRobots());
+        metrics.put("totalEvents", totalEvents.get());
+        metrics.put("eventsPerSecond", Math.round(totalEvents.get() / elapsedSeconds));
+        metrics.put("handoffs", handoffs.get());
+        metrics.put("inTransit", inTransit.get());
+        metrics.put("maxShardTickMs", maxShardTickNanos / 1_000_000.0);
+        metrics.put("behindTicks", behindTicks.get());
+        metrics.put("skippedTicks", skippedTicks.get());
+        metrics.put("maxLagMs", maxLagNanos.get() / 1_000_000);
+        metrics.put("zoneOccupancy", new LinkedHashMap<>(zoneOccupancy));
+        metrics.put("shards", shards);
+        return metrics;
+    }
+
+    private int intParameter(String key, int defaultValue) {
+        Map<String, Object> parameters = scenario.getParameters();
+        Object value = parameters != null ? parameters.get(key) : null;
+        if (value instanceof Number number) {
+            return number.intValue();
+        }
+        return value != null ? Integer.parseInt(value.toString()) : defaultValue;
+    }
+
+    /**
+     * 샤드 하나와의 연결
+     */
+    private static final class Connection {
+        private final Socket socket;
+        private final DataInputStream in;
+        private final DataOutputStream out;
+
+        Connection(Socket socket, int timeoutMillis) throws IOException {
+            this.socket = socket;
+            socket.setTcpNoDelay(true);
+            socket.setSoTimeout(timeoutMillis);
+            this.in = new DataInputStream(new BufferedInputStream(socket.getInputStream(), ShardProtocol.BUFFER_SIZE));
+            this.out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream(), ShardProtocol.BUFFER_SIZE));
+        }
+
+        void close(boolean sendStop) {
+            if (sendStop) {
+                try {
+                    out.writeByte(ShardProtocol.STOP);
+                    out.flush();
+                } catch (IOException e) {
+                    // 이미 끊긴 샤드
+                }
+            }
+            try {
+                socket.close();
+            } catch (IOException e) {
+                // 무시
+            }
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.safetyhub.simulator.shard;
+
+import java.io.IOException;
+
+/**
+ * 샤드 워커 실행 방식
+ */
+public interface ShardLauncher {
+
+    /**
+     * 샤드 워커 시작 (워커는 localhost:coordinatorPort로 접속해 JOIN을 보냄)
+     */
+    void launch(int shardIndex, int coordinatorPort) throws IOException;
+
+    /**
+     * 시작한 워커 모두 종료
+     */
+    void stopAll();
+}
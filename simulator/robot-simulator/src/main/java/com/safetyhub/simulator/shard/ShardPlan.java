@@ -0,0 +1,84 @@
+package com.safetyhub.simulator.shard;
+
+import com.safetyhub.simulator.world.Zone;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 구역 → 샤드 배정
+ * 로봇은 현재 있는 구역을 맡은 샤드에서 시뮬레이션되고, 구역 밖(통로)에 있는 동안은 마지막 샤드에 남음
+ */
+public class ShardPlan {
+
+    private final int shardCount;
+    private final Map<String, Integer> owners;
+
+    private ShardPlan(int shardCount, Map<String, Integer> owners) {
+        this.shardCount = shardCount;
+        this.owners = Collections.unmodifiableMap(owners);
+    }
+
+    /**
+     * 수용 인원이 큰 구역부터 현재 수용 인원 합이 가장 작은 샤드에 배정
+     */
+    public static ShardPlan byCapacity(Collection<Zone> zones, int shardCount) {
+        if (shardCount <= 0) {
+            throw new IllegalArgumentException("shardCount must be positive");
+        }
+        List<Zone> sorted = new ArrayList<>(zones);
+        sorted.sort(Comparator.comparingInt(Zone::getCapacity).reversed().thenComparing(Zone::getId));
+
+        long[] load = new long[shardCount];
+        Map<String, Integer> owners = new LinkedHashMap<>();
+        for (Zone zone : sorted) {
+            int target = 0;
+            for (int shard = 1; shard < shardCount; shard++) {
+                if (load[shard] < load[target]) {
+                    target = shard;
+                }
+            }
+            owners.put(zone.getId(), target);
+            load[target] += zone.getCapacity();
+        }
+        return new ShardPlan(shardCount, owners);
+    }
+
+    public static ShardPlan of(int shardCount, Map<String, Integer> owners) {
+        return new ShardPlan(shardCount, new LinkedHashMap<>(owners));
+    }
+
+    /**
+     * 구역을 맡은 샤드 (구역 밖이거나 모르는 구역이면 -1)
+     */
+    public int shardOf(String zoneId) {
+        if (zoneId == null) {
+            return -1;
+        }
+        Integer owner = owners.get(zoneId);
+        return owner != null ? owner : -1;
+    }
+
+    public List<String> zonesOf(int shard) {
+        List<String> zones = new ArrayList<>();
+        owners.forEach((zoneId, owner) -> {
+            if (owner == shard) {
+                zones.add(zoneId);
+            }
+        });
+        return zones;
+    }
+
+    public int getShardCount() {
+        return shardCount;
+    }
+
+    public Map<String, Integer> getOwners() {
+        return owners;
+    }
+}
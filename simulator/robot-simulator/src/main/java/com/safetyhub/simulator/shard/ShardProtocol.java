@@ -0,0 +1,129 @@
+package com.safetyhub.simulator.shard;
+
+import com.safetyhub.simulator.core.RobotWorker;
+import com.safetyhub.simulator.core.RobotWorkerCodec;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 코디네이터 ↔ 샤드 워커 메시지 (localhost TCP, DataInput/DataOutput)
+ *
+ * 워커 → JOIN(shard)
+ * 코디네이터 → HELLO(shardCount, 구역 배정, 위치/하트비트 주기)
+ * 틱마다:
+ *   코디네이터 → TICK(second, 시뮬레이션 시각, behind, 들어오는 로봇, 시나리오 명령)
+ *   워커 → TICK_DONE(second, 로봇 수, 이벤트 수, 틱 소요 시간, 담당 구역 인원, 나가는 로봇과 목적지)
+ * 코디네이터 → STOP
+ *
+ * 로봇은 RobotWorkerCodec으로 직렬화한 바이트 배열(길이 + 내용)과 보내는 샤드의 이벤트 생성기 상태
+ * (직전 상태, 바이탈 기준선, 새 로봇은 길이 0)를 함께 전달하므로
+ * 코디네이터는 내용을 풀지 않고 목적지 샤드로 그대로 넘김
+ */
+final class ShardProtocol {
+
+    static final byte JOIN = 1;
+    static final byte HELLO = 2;
+    static final byte TICK = 3;
+    static final byte TICK_DONE = 4;
+    static final byte STOP = 5;
+
+    static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * 샤드에 전달하는 시나리오 명령
+     */
+    record Command(String eventType, String targetZone, int count) {
+
+        void write(DataOutput out) throws IOException {
+            out.writeUTF(eventType);
+            RobotWorkerCodec.writeNullableString(out, targetZone);
+            out.writeInt(count);
+        }
+
+        static Command read(DataInput in) throws IOException {
+            return new Command(in.readUTF(), RobotWorkerCodec.readNullableString(in), in.readInt());
+        }
+    }
+
+    /**
+     * 샤드 간에 넘기는 로봇 (직렬화한 로봇 + 이벤트 생성기 상태)
+     */
+    record Handoff(byte[] robot, byte[] eventState) {
+
+        static Handoff spawn(RobotWorker robot) {
+            return new Handoff(encode(robot), new byte[0]);
+        }
+
+        void write(DataOutput out) throws IOException {
+            writeBytes(out, robot);
+            writeBytes(out, eventState);
+        }
+
+        static Handoff read(DataInput in) throws IOException {
+            return new Handoff(readBytes(in), readBytes(in));
+        }
+    }
+
+    private ShardProtocol() {
+    }
+
+    static void expect(DataInput in, byte type) throws IOException {
+        byte actual = in.readByte();
+        if (actual != type) {
+            throw new IOException("Unexpected shard message: " + actual + " (expected " + type + ")");
+        }
+    }
+
+    static void writePlan(DataOutput out, ShardPlan plan) throws IOException {
+        out.writeInt(plan.getShardCount());
+        out.writeInt(plan.getOwners().size());
+        for (Map.Entry<String, Integer> entry : plan.getOwners().entrySet()) {
+            out.writeUTF(entry.getKey());
+            out.writeInt(entry.getValue());
+        }
+    }
+
+    static ShardPlan readPlan(DataInput in) throws IOException {
+        int shardCount = in.readInt();
+        int zones = in.readInt();
+        Map<String, Integer> owners = new LinkedHashMap<>();
+        for (int i = 0; i < zones; i++) {
+            owners.put(in.readUTF(), in.readInt());
+        }
+        return ShardPlan.of(shardCount, owners);
+    }
+
+    static byte[] encode(RobotWorker robot) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            RobotWorkerCodec.write(out, robot);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    static RobotWorker decode(byte[] encoded) throws IOException {
+        return RobotWorkerCodec.read(new DataInputStream(new ByteArrayInputStream(encoded)));
+    }
+
+    static void writeBytes(DataOutput out, byte[] bytes) throws IOException {
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    static byte[] readBytes(DataInput in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,223 @@
+package com.safetyhub.simulator.shard;
+
+import com.safetyhub.simulator.core.RobotWorker;
+import com.safetyhub.simulator.event.EventGenerator;
+import com.safetyhub.simulator.publisher.EventPublisher;
+import com.safetyhub.simulator.publisher.AsyncMqttEventPublisher;
+import com.safetyhub.simulator.scenario.ScenarioActions;
+import com.safetyhub.simulator.world.VirtualWorld;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 샤드 워커
+ * 코디네이터가 배정한 구역의 로봇만 시뮬레이션하고, 틱마다 코디네이터의 TICK을 받아 한 틱 진행 후 결과를 보고
+ *
+ * 월드 지도(구역, 벽)는 모든 샤드가 같은 표준 공장을 사용하고 로봇만 나누어 가짐
+ * 틱이 끝났을 때 다른 샤드가 맡은 구역에 들어간 로봇은 직렬화하여 코디네이터에 넘김 (다음 틱 시작 전에 도착)
+ * 로봇의 직전 상태와 바이탈 기준선도 함께 넘기고 이 샤드에서는 지움
+ *
+ * 별도 프로세스로 실행할 때는 main, 테스트에서는 스레드로 run을 실행
+ */
+public class ShardWorker implements Runnable {
+    private static final Logger log = LoggerFactory.getLogger(ShardWorker.class);
+
+    private final int shardIndex;
+    private final int coordinatorPort;
+    private final EventPublisher publisher;
+    private final VirtualWorld world;
+    private final EventGenerator eventGenerator = new EventGenerator();
+
+    private ShardPlan plan;
+    private long eventsInTick;
+
+    /**
+     * @param publisher 생성한 이벤트를 보낼 퍼블리셔 (null이면 수만 셈)
+     */
+    public ShardWorker(int shardIndex, int coordinatorPort, EventPublisher publisher) {
+        this.shardIndex = shardIndex;
+        this.coordinatorPort = coordinatorPort;
+        this.publisher = publisher;
+        this.world = VirtualWorld.createStandardFactory("shard-" + shardIndex, "Shard " + shardIndex);
+        this.eventGenerator.addListener(event -> {
+            eventsInTick++;
+            if (publisher != null) {
+                publisher.publish(event);
+            }
+        });
+    }
+
+    @Override
+    public void run() {
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), coordinatorPort)) {
+            socket.setTcpNoDelay(true);
+            DataInputStream in = new DataInputStream(
+                    new BufferedInputStream(socket.getInputStream(), ShardProtocol.BUFFER_SIZE));
+            DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(socket.getOutputStream(), ShardProtocol.BUFFER_SIZE));
+
+            out.writeByte(ShardProtocol.JOIN);
+            out.writeInt(shardIndex);
+            out.flush();
+
+            ShardProtocol.expect(in, ShardProtocol.HELLO);
+            plan = ShardProtocol.readPlan(in);
+            eventGenerator.setLocationUpdateInterval(in.readInt());
+            eventGenerator.setHeartbeatInterval(in.readInt());
+            log.info("Shard {} joined: zones {}", shardIndex, plan.zonesOf(shardIndex));
+
+            while (true) {
+                byte type = in.readByte();
+                if (type == ShardProtocol.STOP) {
+                    break;
+                }
+                if (type != ShardProtocol.TICK) {
+                    throw new IOException("Unexpected shard message: " + type);
+                }
+                handleTick(in, out);
+            }
+            log.info("Shard {} stopped ({} robots)", shardIndex, world.getRobotCount());
+        } catch (EOFException e) {
+            log.warn("Shard {} lost coordinator connection", shardIndex);
+        } catch (IOException e) {
+            log.error("Shard {} failed", shardIndex, e);
+        } finally {
+            if (publisher != null) {
+                publisher.disconnect();
+            }
+        }
+    }
+
+    private void handleTick(DataInputStream in, DataOutputStream out) throws IOException {
+        int second = in.readInt();
+        LocalTime simulationTime = LocalTime.ofSecondOfDay(in.readInt());
+        boolean behind = in.readBoolean();
+
+        int inbound = in.readInt();
+        for (int i = 0; i < inbound; i++) {
+            ShardProtocol.Handoff handoff = ShardProtocol.Handoff.read(in);
+            RobotWorker robot = ShardProtocol.decode(handoff.robot());
+            if (handoff.eventState().length > 0) {
+                eventGenerator.readRobotState(
+                        new DataInputStream(new ByteArrayInputStream(handoff.eventState())), robot.getId());
+            }
+            world.addRobot(robot);
+        }
+        int commandCount = in.readInt();
+        List<ShardProtocol.Command> commands = new ArrayList<>(commandCount);
+        for (int i = 0; i < commandCount; i++) {
+            commands.add(ShardProtocol.Command.read(in));
+        }
+
+        long start = System.nanoTime();
+        world.setSimulationTime(simulationTime);
+        world.tick();
+
+        eventsInTick = 0;
+        eventGenerator.setReducedEmission(behind);
+        eventGenerator.generateEvents(world);
+
+        for (ShardProtocol.Command command : commands) {
+            if (!ScenarioActions.apply(world, command.eventType(), command.targetZone(), command.count(), null)) {
+                log.warn("Shard {} ignored unknown event type: {}", shardIndex, command.eventType());
+            }
+        }
+
+        List<RobotWorker> leaving = new ArrayList<>();
+        List<Integer> destinations = new ArrayList<>();
+        for (RobotWorker robot : world.getAllRobots()) {
+            int owner = plan.shardOf(world.getRobotZoneId(robot.getId()));
+            if (owner >= 0 && owner != shardIndex) {
+                leaving.add(robot);
+                destinations.add(owner);
+            }
+        }
+        List<ShardProtocol.Handoff> handoffs = new ArrayList<>(leaving.size());
+        for (RobotWorker robot : leaving) {
+            handoffs.add(new ShardProtocol.Handoff(ShardProtocol.encode(robot), encodeEventState(robot.getId())));
+            world.removeRobot(robot.getId());
+            eventGenerator.removeRobot(robot.getId());
+        }
+        long tickNanos = System.nanoTime() - start;
+
+        out.writeByte(ShardProtocol.TICK_DONE);
+        out.writeInt(second);
+        out.writeInt(world.getRobotCount());
+        out.writeLong(eventsInTick);
+        out.writeLong(tickNanos);
+        List<String> zones = plan.zonesOf(shardIndex);
+        out.writeInt(zones.size());
+        for (String zoneId : zones) {
+            out.writeUTF(zoneId);
+            out.writeInt(world.getZoneOccupancy(zoneId));
+        }
+        out.writeInt(leaving.size());
+        for (int i = 0; i < leaving.size(); i++) {
+            out.writeInt(destinations.get(i));
+            handoffs.get(i).write(out);
+        }
+        out.flush();
+    }
+
+    private byte[] encodeEventState(String robotId) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            eventGenerator.writeRobotState(out, robotId);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * 샤드 프로세스 진입점
+     * --shard=N --coordinator-port=P [--mqtt.broker-url=URL --mqtt.topic-prefix=PREFIX]
+     */
+    public static void main(String[] args) {
+        Map<String, String> options = parseArgs(args);
+        int shard = Integer.parseInt(required(options, "shard"));
+        int port = Integer.parseInt(required(options, "coordinator-port"));
+
+        EventPublisher publisher = null;
+        String brokerUrl = options.get("mqtt.broker-url");
+        if (brokerUrl != null && !brokerUrl.isBlank()) {
+            publisher = new AsyncMqttEventPublisher(brokerUrl, "robot-simulator-shard-" + shard,
+                    options.getOrDefault("mqtt.topic-prefix", "safetyhub/simulator"));
+            publisher.connect();
+        }
+        new ShardWorker(shard, port, publisher).run();
+    }
+
+    private static Map<String, String> parseArgs(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (arg.startsWith("--") && arg.contains("=")) {
+                int separator = arg.indexOf('=');
+                options.put(arg.substring(2, separator), arg.substring(separator + 1));
+            }
+        }
+        return options;
+    }
+
+    private static String required(Map<String, String> options, String key) {
+        String value = options.get(key);
+        if (value == null) {
+            throw new IllegalArgumentException("Missing argument: --" + key);
+        }
+        return value;
+    }
+}
@@ -20,7 +20,9 @@ public class VirtualWorld {
     private final PathFinder pathFinder;
     private final Map<String, RobotWorker> robots;
     private final Map<String, Set<String>> zoneOccupants; // zoneId -> robotIds
+    private final Map<String, String> robotZones;         // robotId -> zoneId (구역 밖이면 없음)
     private LocalTime simulationTime;
+    private long tickCount;
     private boolean emergencyMode;
     private String emergencyZoneId;
 
@@ -31,6 +33,7 @@ public class VirtualWorld {
         this.pathFinder = new PathFinder(gridMap);
         this.robots = new ConcurrentHashMap<>();
         this.zoneOccupants = new ConcurrentHashMap<>();
+        this.robotZones = new ConcurrentHashMap<>();
         this.simulationTime = LocalTime.of(8, 0);
         this.emergencyMode = false;
     }
@@ -87,8 +90,8 @@ public class VirtualWorld {
     public void removeRobot(String robotId) {
         RobotWorker robot = robots.remove(robotId);
         if (robot != null) {
-            String zoneId = robot.getLocation().getZoneId();
-            if (zoneId != null && zoneOccupants.containsKey(zoneId)) {
+            String zoneId = robotZones.remove(robotId);
+            if (zoneId != null) {
                 zoneOccupants.get(zoneId).remove(robotId);
             }
         }
@@ -99,7 +102,9 @@ public class VirtualWorld {
                 .filter(z -> z.getType() == ZoneType.WORK_AREA)
                 .collect(Collectors.toList());
 
-        for (int i = 0; i < count; i++) {
+        // 여러 번 나누어 생성해도 이름과 구역 배치가 이어지도록 현재 로봇 수부터 번호를 매김
+        int offset = robots.size();
+        for (int i = offset; i < offset + count; i++) {
             Zone zone = workZones.get(i % workZones.size());
             Location location = zone.getRandomLocation();
             RobotWorker robot = RobotWorker.create("Robot-" + (i + 1), location);
@@ -109,6 +114,7 @@ public class VirtualWorld {
 
     public void tick() {
         simulationTime = simulationTime.plusSeconds(1);
+        tickCount++;
 
         for (RobotWorker robot : robots.values()) {
             if (!emergencyMode) {
@@ -131,20 +137,28 @@ public class VirtualWorld {
         }
     }
 
+    /**
+     * 로봇의 구역 소속 갱신
+     * 셀-구역 래스터로 현재 구역을 찾고, 기록된 구역과 다를 때(경계를 넘었을 때)만 소속을 옮김
+     */
     private void updateRobotZone(RobotWorker robot) {
         Location loc = robot.getLocation();
         String newZoneId = gridMap.getZoneId(loc);
+        String previousZoneId = robotZones.get(robot.getId());
 
-        // 이전 구역에서 제거
-        for (Map.Entry<String, Set<String>> entry : zoneOccupants.entrySet()) {
-            if (!entry.getKey().equals(newZoneId)) {
-                entry.getValue().remove(robot.getId());
+        if (!Objects.equals(previousZoneId, newZoneId)) {
+            if (previousZoneId != null) {
+                zoneOccupants.get(previousZoneId).remove(robot.getId());
+            }
+            if (newZoneId != null) {
+                zoneOccupants.computeIfAbsent(newZoneId, k -> ConcurrentHashMap.newKeySet()).add(robot.getId());
+                robotZones.put(robot.getId(), newZoneId);
+            } else {
+                robotZones.remove(robot.getId());
             }
         }
 
-        // 새 구역에 추가
-        if (newZoneId != null && zoneOccupants.containsKey(newZoneId)) {
-            zoneOccupants.get(newZoneId).add(robot.getId());
+        if (newZoneId != null && !newZoneId.equals(loc.getZoneId())) {
             robot.setLocation(new Location(loc.getX(), loc.getY(), newZoneId));
         }
     }
@@ -178,6 +192,25 @@ public class VirtualWorld {
         emergencyZoneId = null;
     }
 
+    /**
+     * 스냅샷 복원용: 모든 로봇 제거 (구역 소속도 비움)
+     */
+    void clearRobots() {
+        robots.clear();
+        robotZones.clear();
+        zoneOccupants.values().forEach(Set::clear);
+    }
+
+    /**
+     * 스냅샷 복원용: 시각, 틱 카운터, 비상 상태 설정 (구역의 위험 표시는 호출자가 복원)
+     */
+    void restoreState(LocalTime simulationTime, long tickCount, boolean emergencyMode, String emergencyZoneId) {
+        this.simulationTime = simulationTime;
+        this.tickCount = tickCount;
+        this.emergencyMode = emergencyMode;
+        this.emergencyZoneId = emergencyZoneId;
+    }
+
     public List<RobotWorker> getRobotsInZone(String zoneId) {
         Set<String> robotIds = zoneOccupants.get(zoneId);
         if (robotIds == null) {
@@ -210,11 +243,27 @@ public class VirtualWorld {
     public RobotWorker getRobot(String robotId) { return robots.get(robotId); }
     public int getRobotCount() { return robots.size(); }
     public LocalTime getSimulationTime() { return simulationTime; }
+    public long getTickCount() { return tickCount; }
     public boolean isEmergencyMode() { return emergencyMode; }
     public String getEmergencyZoneId() { return emergencyZoneId; }
 
     public void setSimulationTime(LocalTime time) { this.simulationTime = time; }
 
+    /**
+     * 구역 인원 (소속 집합 크기만 읽음)
+     */
+    public int getZoneOccupancy(String zoneId) {
+        Set<String> robotIds = zoneOccupants.get(zoneId);
+        return robotIds != null ? robotIds.size() : 0;
+    }
+
+    /**
+     * 로봇이 현재 속한 구역 (구역 밖이면 null)
+     */
+    public String getRobotZoneId(String robotId) {
+        return robotZones.get(robotId);
+    }
+
     public Map<String, Integer> getZoneOccupancy() {
         Map<String, Integer> occupancy = new HashMap<>();
         for (Map.Entry<String, Set<String>> entry : zoneOccupants.entrySet()) {
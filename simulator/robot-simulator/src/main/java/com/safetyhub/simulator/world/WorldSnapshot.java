@@ -0,0 +1,273 @@
+package com.safetyhub.simulator.world;
+
+import com.safetyhub.simulator.core.RobotWorker;
+import com.safetyhub.simulator.core.RobotWorkerCodec;
+
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * VirtualWorld 바이너리 스냅샷
+ * 주기적인 체크포인트와, 워밍업된 상태에서 벤치마크 실행을 분기하는 데 사용
+ *
+ * 형식: 헤더, 맵 셀, 시각, 틱 카운터, 비상 상태, 구역 표시(위험/대피), 로봇(RobotWorkerCodec, 난수 상태 포함), 구역 인원
+ * 구역 정의는 포함하지 않으므로 같은 레이아웃으로 만든 월드에 복원해야 함
+ * 구역 소속은 로봇 위치로 다시 계산하고 기록된 구역 인원과 비교하여 레이아웃 불일치를 검출 (불일치면 복원하지 않음)
+ *
+ * 틱과 동시에 호출하면 안 됨 (ScenarioEngine이 틱과 같은 락으로 감쌈)
+ */
+public final class WorldSnapshot {
+
+    /** 스냅샷 시작 표시 ("SHWS") */
+    public static final int MAGIC = 0x53485753;
+    public static final int VERSION = 1;
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private WorldSnapshot() {
+    }
+
+    public static byte[] capture(VirtualWorld world) {
+        ByteArrayOutput bytes = new ByteArrayOutput(BUFFER_SIZE);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            write(world, out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    public static void restore(VirtualWorld world, byte[] snapshot) throws IOException {
+        read(world, new DataInputStream(new ByteArrayInput(snapshot)));
+    }
+
+    public static void write(VirtualWorld world, DataOutput out) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeShort(VERSION);
+
+        GridMap gridMap = world.getGridMap();
+        out.writeInt(gridMap.getWidth());
+        out.writeInt(gridMap.getHeight());
+        byte[] cells = new byte[gridMap.getWidth() * gridMap.getHeight()];
+        for (int x = 0; x < gridMap.getWidth(); x++) {
+            for (int y = 0; y < gridMap.getHeight(); y++) {
+                cells[x * gridMap.getHeight() + y] = (byte) gridMap.getCell(x, y).ordinal();
+            }
+        }
+        out.write(cells);
+
+        out.writeInt(world.getSimulationTime().toSecondOfDay());
+        out.writeLong(world.getTickCount());
+        out.writeBoolean(world.isEmergencyMode());
+        RobotWorkerCodec.writeNullableString(out, world.getEmergencyZoneId());
+
+        Map<String, Zone> zones = gridMap.getAllZones();
+        out.writeInt(zones.size());
+        for (Zone zone : zones.values()) {
+            out.writeUTF(zone.getId());
+            out.writeBoolean(zone.isHazardous());
+            out.writeBoolean(zone.isEvacuationTarget());
+        }
+
+        // 순회 중 로봇이 추가되어도 기록한 수와 내용이 맞도록 먼저 복사
+        List<RobotWorker> robots = new ArrayList<>(world.getAllRobots());
+        out.writeInt(robots.size());
+        for (RobotWorker robot : robots) {
+            RobotWorkerCodec.write(out, robot);
+        }
+
+        Map<String, Integer> occupancy = world.getZoneOccupancy();
+        out.writeInt(occupancy.size());
+        for (Map.Entry<String, Integer> entry : occupancy.entrySet()) {
+            out.writeUTF(entry.getKey());
+            out.writeInt(entry.getValue());
+        }
+    }
+
+    /**
+     * 월드의 로봇과 상태를 스냅샷 내용으로 교체
+     * 스냅샷 전체를 먼저 읽고 검증한 뒤에만 월드를 바꿈 (손상된 스냅샷이면 예외만 던지고 월드는 그대로)
+     */
+    public static void read(VirtualWorld world, DataInput in) throws IOException {
+        int magic = in.readInt();
+        if (magic != MAGIC) {
+            throw new IOException("Not a world snapshot: " + Integer.toHexString(magic));
+        }
+        int version = in.readShort();
+        if (version != VERSION) {
+            throw new IOException("Unsupported world snapshot version: " + version);
+        }
+
+        GridMap gridMap = world.getGridMap();
+        int width = in.readInt();
+        int height = in.readInt();
+        if (width != gridMap.getWidth() || height != gridMap.getHeight()) {
+            throw new IOException("Snapshot map " + width + "x" + height + " does not match world "
+                    + gridMap.getWidth() + "x" + gridMap.getHeight());
+        }
+        byte[] cells = new byte[width * height];
+        in.readFully(cells);
+        GridMap.CellType[] cellTypes = GridMap.CellType.values();
+        for (byte cell : cells) {
+            if (cell < 0 || cell >= cellTypes.length) {
+                throw new IOException("Invalid cell type in snapshot: " + cell);
+            }
+        }
+
+        int secondOfDay = in.readInt();
+        if (secondOfDay < 0 || secondOfDay >= 24 * 60 * 60) {
+            throw new IOException("Invalid simulation time in snapshot: " + secondOfDay);
+        }
+        LocalTime simulationTime = LocalTime.ofSecondOfDay(secondOfDay);
+        long tickCount = in.readLong();
+        boolean emergencyMode = in.readBoolean();
+        String emergencyZoneId = RobotWorkerCodec.readNullableString(in);
+
+        int zoneCount = in.readInt();
+        List<Zone> zones = new ArrayList<>();
+        List<boolean[]> zoneFlags = new ArrayList<>();
+        for (int i = 0; i < zoneCount; i++) {
+            String zoneId = in.readUTF();
+            Zone zone = gridMap.getZone(zoneId);
+            if (zone == null) {
+                throw new IOException("Snapshot zone not found in world: " + zoneId);
+            }
+            zones.add(zone);
+            zoneFlags.add(new boolean[] {in.readBoolean(), in.readBoolean()});
+        }
+
+        int robotCount = in.readInt();
+        Map<String, RobotWorker> robots = new LinkedHashMap<>();
+        Map<String, Integer> actualOccupancy = new HashMap<>();
+        for (int i = 0; i < robotCount; i++) {
+            RobotWorker robot;
+            try {
+                robot = RobotWorkerCodec.read(in);
+            } catch (RuntimeException e) {
+                // 잘못된 열거형 순번이나 시각 값
+                throw new IOException("Corrupt robot record in snapshot at index " + i, e);
+            }
+            if (robots.put(robot.getId(), robot) != null) {
+                throw new IOException("Duplicate robot in snapshot: " + robot.getId());
+            }
+            String zoneId = gridMap.getZoneId(robot.getLocation());
+            if (zoneId != null) {
+                actualOccupancy.merge(zoneId, 1, Integer::sum);
+            }
+        }
+
+        // 구역 소속은 로봇 위치로 다시 계산되므로 적용 전에 기록된 인원과 비교
+        int occupancyCount = in.readInt();
+        for (int i = 0; i < occupancyCount; i++) {
+            String zoneId = in.readUTF();
+            int expected = in.readInt();
+            int actual = actualOccupancy.getOrDefault(zoneId, 0);
+            if (actual != expected) {
+                throw new IOException("Zone occupancy mismatch in snapshot: " + zoneId
+                        + " expected " + expected + " but was " + actual);
+            }
+        }
+
+        // 검증이 끝났으므로 적용
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                gridMap.setCell(x, y, cellTypes[cells[x * height + y]]);
+            }
+        }
+        for (int i = 0; i < zones.size(); i++) {
+            zones.get(i).setHazardous(zoneFlags.get(i)[0]);
+            zones.get(i).setEvacuationTarget(zoneFlags.get(i)[1]);
+        }
+        world.clearRobots();
+        world.restoreState(simulationTime, tickCount, emergencyMode, emergencyZoneId);
+        for (RobotWorker robot : robots.values()) {
+            world.addRobot(robot);
+        }
+    }
+
+    /**
+     * 동기화 없는 바이트 배열 출력
+     * ByteArrayOutputStream은 write마다 락을 잡으므로 값 단위로 쓰는 스냅샷에서는 락 비용이 큼
+     */
+    private static final class ByteArrayOutput extends OutputStream {
+        private byte[] buffer;
+        private int count;
+
+        ByteArrayOutput(int initialCapacity) {
+            this.buffer = new byte[initialCapacity];
+        }
+
+        @Override
+        public void write(int b) {
+            ensureCapacity(count + 1);
+            buffer[count++] = (byte) b;
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) {
+            ensureCapacity(count + length);
+            System.arraycopy(bytes, offset, buffer, count, length);
+            count += length;
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buffer, count);
+        }
+
+        private void ensureCapacity(int required) {
+            if (required > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(required, buffer.length * 2));
+            }
+        }
+    }
+
+    /**
+     * 동기화 없는 바이트 배열 입력 (ByteArrayOutput과 같은 이유)
+     */
+    private static final class ByteArrayInput extends InputStream {
+        private final byte[] buffer;
+        private int position;
+
+        ByteArrayInput(byte[] buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return position < buffer.length ? buffer[position++] & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            int available = buffer.length - position;
+            if (available <= 0) {
+                return -1;
+            }
+            int read = Math.min(length, available);
+            System.arraycopy(buffer, position, bytes, offset, read);
+            position += read;
+            return read;
+        }
+
+        @Override
+        public int available() {
+            return buffer.length - position;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.safetyhub.simulator.core;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * RestorableRandom 테스트
+ */
+class RestorableRandomTest {
+
+    @Test
+    @DisplayName("같은 시드에서 java.util.Random과 같은 수열을 만듦")
+    void testMatchesRandom() {
+        Random expected = new Random(42);
+        RestorableRandom actual = new RestorableRandom(42);
+
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(expected.nextInt(100), actual.nextInt(100));
+            assertEquals(expected.nextDouble(), actual.nextDouble());
+            assertEquals(expected.nextLong(), actual.nextLong());
+        }
+    }
+
+    @Test
+    @DisplayName("저장한 상태로 되돌리면 이후 수열이 같음")
+    void testRestoreState() {
+        RestorableRandom random = new RestorableRandom();
+        random.nextInt();
+        long state = random.getState();
+        int[] first = {random.nextInt(), random.nextInt(), random.nextInt()};
+
+        RestorableRandom restored = new RestorableRandom();
+        restored.setState(state);
+
+        assertArrayEquals(first, new int[]{restored.nextInt(), restored.nextInt(), restored.nextInt()});
+    }
+}
@@ -0,0 +1,149 @@
+package com.safetyhub.simulator.event;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * FallDetector 테스트
+ */
+class FallDetectorTest {
+
+    private final Random random = new Random(42);
+    private long time;
+
+    @Test
+    @DisplayName("생성기의 낙상 신호는 해당 장치에서 한 번만 감지")
+    void testDetectsGeneratedFall() {
+        VitalStreamGenerator generator = new VitalStreamGenerator(20, 1, 5L, 0L);
+        List<int[]> falls = new ArrayList<>();
+        FallDetector detector = new FallDetector(20, (device, timestamp, peak) ->
+                falls.add(new int[]{device, (int) timestamp, peak}));
+
+        generator.advance(300, detector::onFrame);
+        generator.triggerFall(7);  // 3초 시점
+        generator.advance(700, detector::onFrame);
+
+        assertEquals(1, falls.size());
+        assertEquals(7, falls.get(0)[0]);
+        // 충격(0.3초) + 안정(0.5초) + 윈도우(1초) 이후 판정
+        assertTrue(falls.get(0)[1] >= 4_800 && falls.get(0)[1] <= 5_500, "판정 시각: " + falls.get(0)[1]);
+        assertTrue(falls.get(0)[2] > 2_500, "충격 크기: " + falls.get(0)[2]);
+    }
+
+    @Test
+    @DisplayName("평상시 활동 신호에서는 감지하지 않음")
+    void testNoFallDuringActivity() {
+        VitalStreamGenerator generator = new VitalStreamGenerator(30, 1, 9L, 0L);
+        for (int i = 0; i < 30; i++) {
+            generator.setActivity(i, VitalStreamGenerator.Activity.values()[i % 3]);
+        }
+        FallDetector detector = new FallDetector(30, null);
+
+        generator.advance(60 * VitalStreamGenerator.SAMPLE_RATE_HZ, detector::onFrame);
+
+        assertEquals(0, detector.getDetections());
+    }
+
+    @Test
+    @DisplayName("자유낙하 없이 부딪힌 뒤 멈춘 경우는 낙상 아님")
+    void testBumpIsNotFall() {
+        FallDetector detector = new FallDetector(1, null);
+        feed(detector, 200, 0, 0, 1000, 80);      // 작업 중
+        feed(detector, 5, 1500, 1200, 2800, 300);  // 충격
+        feed(detector, 500, 0, 0, 1000, 5);        // 정지
+
+        assertEquals(0, detector.getDetections());
+    }
+
+    @Test
+    @DisplayName("자유낙하와 충격 뒤 계속 움직이면 낙상 아님 (점프, 헛디딤)")
+    void testJumpIsNotFall() {
+        FallDetector detector = new FallDetector(1, null);
+        feed(detector, 200, 0, 0, 1000, 80);
+        feed(detector, 25, 0, 0, 150, 50);         // 자유낙하
+        feed(detector, 5, 1500, 1200, 2800, 300);  // 착지 충격
+        feed(detector, 200, 0, 0, 1000, 80);       // 다시 작업
+
+        assertTrue(detector.isAwaitingStillness(0));
+
+        feed(detector, 300, 0, 0, 1000, 80);
+
+        assertFalse(detector.isAwaitingStillness(0));
+        assertEquals(0, detector.getDetections());
+    }
+
+    @Test
+    @DisplayName("짧은 자유낙하나 충격 없는 자유낙하는 낙상 아님")
+    void testIncompletePatternIsNotFall() {
+        FallDetector detector = new FallDetector(1, null);
+        feed(detector, 200, 0, 0, 1000, 20);
+        feed(detector, 4, 0, 0, 150, 50);          // 0.04초 (잡음 수준)
+        feed(detector, 3, 1500, 1200, 2800, 300);
+        feed(detector, 500, 1000, 0, 0, 5);
+
+        feed(detector, 30, 0, 0, 150, 50);         // 기기를 떨어뜨렸다가 잡음
+        feed(detector, 500, 1000, 0, 0, 5);
+
+        assertEquals(0, detector.getDetections());
+    }
+
+    @Test
+    @DisplayName("전체 패턴이 나타나면 합성 신호에서도 감지")
+    void testDetectsSyntheticFall() {
+        List<Integer> devices = new ArrayList<>();
+        FallDetector detector = new FallDetector(2, (device, timestamp, peak) -> devices.add(device));
+        feed(detector, 200, 0, 0, 1000, 80);
+        feed(detector, 25, 0, 0, 150, 50);
+        feed(detector, 5, 1500, 1200, 2800, 300);
+        feed(detector, 30, 800, 300, 400, 200);    // 충격 직후 흔들림
+        feed(detector, 300, 1000, 0, 0, 5);
+
+        assertEquals(List.of(0), devices);
+        assertFalse(detector.isAwaitingStillness(0));
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("단일 스레드에서 5,000대 × 100Hz를 실시간보다 빠르게 처리")
+    void testThroughputFiveThousandDevices() {
+        VitalStreamGenerator generator = new VitalStreamGenerator(5000, 1, 1L, 0L);
+        FallDetector detector = new FallDetector(5000, null);
+        List<ByteBuffer> frames = new ArrayList<>();
+        generator.advance(10 * VitalStreamGenerator.SAMPLE_RATE_HZ, frame -> {
+            ByteBuffer copy = ByteBuffer.allocate(frame.remaining());
+            copy.put(frame.duplicate()).flip();
+            frames.add(copy);
+        });
+        frames.subList(0, 5000).forEach(detector::onFrame);  // 워밍업
+
+        long start = System.nanoTime();
+        for (int i = 5000; i < frames.size(); i++) {
+            detector.onFrame(frames.get(i));
+        }
+        double millisPerSecond = (System.nanoTime() - start) / 1_000_000.0 / 9;
+
+        assertTrue(millisPerSecond < 1000, "실시간보다 느림: " + millisPerSecond + "ms");
+    }
+
+    /**
+     * 기준값 주변에 ±noise 균등 잡음을 더한 샘플 입력
+     */
+    private void feed(FallDetector detector, int samples, int x, int y, int z, int noise) {
+        for (int i = 0; i < samples; i++) {
+            detector.onSample(0, time, jitter(x, noise), jitter(y, noise), jitter(z, noise));
+            time += 10;
+        }
+    }
+
+    private int jitter(int value, int noise) {
+        return value + random.nextInt(2 * noise + 1) - noise;
+    }
+}
@@ -0,0 +1,185 @@
+package com.safetyhub.simulator.event;
+
+import com.safetyhub.simulator.event.VitalBaselineTracker.Channel;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * VitalBaselineTracker 테스트
+ */
+class VitalBaselineTrackerTest {
+
+    private final Random random = new Random(42);
+
+    @Test
+    @DisplayName("워밍업 구간은 Welford로 정확한 평균과 표본 분산을 계산")
+    void testWarmupMatchesExactStatistics() {
+        VitalBaselineTracker tracker = new VitalBaselineTracker(null);
+        int worker = tracker.register("robot-1");
+        double[] values = new double[VitalBaselineTracker.DEFAULT_WARMUP_SAMPLES];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = 72 + random.nextGaussian() * 3;
+            assertTrue(Double.isNaN(tracker.update(worker, Channel.HEART_RATE, values[i])));
+        }
+
+        double mean = 0;
+        for (double value : values) {
+            mean += value / values.length;
+        }
+        double variance = 0;
+        for (double value : values) {
+            variance += (value - mean) * (value - mean) / (values.length - 1);
+        }
+        assertEquals(mean, tracker.getMean(worker, Channel.HEART_RATE), 1e-9);
+        assertEquals(Math.sqrt(variance), tracker.getStdDev(worker, Channel.HEART_RATE), 1e-9);
+        assertEquals(0, tracker.getSampleCount(worker, Channel.BODY_TEMPERATURE));
+    }
+
+    @Test
+    @DisplayName("작업자마다 자기 기준선으로 판정")
+    void testPerWorkerBaseline() {
+        List<String> alerts = new ArrayList<>();
+        VitalBaselineTracker tracker = new VitalBaselineTracker((worker, channel, value, baseline, z) ->
+                alerts.add(worker + ":" + channel));
+        int athlete = tracker.register("robot-athlete");   // 평소 55bpm
+        int active = tracker.register("robot-active");     // 평소 95bpm
+        for (int i = 0; i < 100; i++) {
+            tracker.update(athlete, Channel.HEART_RATE, 55 + random.nextGaussian() * 2);
+            tracker.update(active, Channel.HEART_RATE, 95 + random.nextGaussian() * 2);
+        }
+        assertTrue(alerts.isEmpty());
+
+        // 둘 다 고정 임계값(130bpm)보다 낮지만 평소 55bpm인 작업자에게 85bpm은 이상
+        double z = tracker.update(athlete, Channel.HEART_RATE, 85);
+        tracker.update(active, Channel.HEART_RATE, 97);
+
+        assertTrue(z > VitalBaselineTracker.DEFAULT_Z_THRESHOLD, "z: " + z);
+        assertEquals(List.of(athlete + ":HEART_RATE"), alerts);
+    }
+
+    @Test
+    @DisplayName("다른 추적기로 옮긴 기준선은 워밍업 없이 바로 판정하고 원래 추적기에서는 지워짐")
+    void testMoveWorkerBaseline() throws IOException {
+        VitalBaselineTracker source = new VitalBaselineTracker(null);
+        int first = source.register("robot-1");
+        int second = source.register("robot-2");
+        for (int i = 0; i < 50; i++) {
+            source.update(first, Channel.HEART_RATE, 60 + random.nextGaussian() * 2);
+            source.update(second, Channel.HEART_RATE, 90 + random.nextGaussian() * 2);
+        }
+        double mean = source.getMean(first, Channel.HEART_RATE);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        source.writeWorker(new DataOutputStream(bytes), "robot-1");
+        assertTrue(source.remove("robot-1"));
+
+        // 마지막 작업자가 빈 번호로 옮겨짐
+        assertEquals(1, source.getWorkerCount());
+        assertEquals(-1, source.indexOf("robot-1"));
+        assertEquals(0, source.indexOf("robot-2"));
+        assertEquals(50, source.getSampleCount(0, Channel.HEART_RATE));
+        assertFalse(source.remove("robot-1"));
+
+        VitalBaselineTracker destination = new VitalBaselineTracker(null);
+        destination.readWorker(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())), "robot-1");
+        int moved = destination.indexOf("robot-1");
+        assertEquals(mean, destination.getMean(moved, Channel.HEART_RATE), 1e-12);
+        assertEquals(50, destination.getSampleCount(moved, Channel.HEART_RATE));
+        assertTrue(destination.update(moved, Channel.HEART_RATE, 100) > VitalBaselineTracker.DEFAULT_Z_THRESHOLD);
+    }
+
+    @Test
+    @DisplayName("이상이 계속되는 동안 알림은 한 번, 정상으로 돌아온 뒤 다시 발생")
+    void testAlertHysteresis() {
+        VitalBaselineTracker tracker = new VitalBaselineTracker(null);
+        int worker = tracker.register("robot-1");
+        for (int i = 0; i < 50; i++) {
+            tracker.update(worker, Channel.BODY_TEMPERATURE, 36.6 + random.nextGaussian() * 0.05);
+        }
+
+        tracker.update(worker, Channel.BODY_TEMPERATURE, 38.2);
+        tracker.update(worker, Channel.BODY_TEMPERATURE, 38.3);
+        tracker.update(worker, Channel.BODY_TEMPERATURE, 38.2);
+        assertEquals(1, tracker.getAlertCount());
+        assertTrue(tracker.isAlerting(worker, Channel.BODY_TEMPERATURE));
+
+        for (int i = 0; i < 100; i++) {
+            tracker.update(worker, Channel.BODY_TEMPERATURE, 36.6 + random.nextGaussian() * 0.05);
+        }
+        assertFalse(tracker.isAlerting(worker, Channel.BODY_TEMPERATURE));
+
+        tracker.update(worker, Channel.BODY_TEMPERATURE, 38.4);
+        assertEquals(2, tracker.getAlertCount());
+    }
+
+    @Test
+    @DisplayName("천천히 변하는 기준선에는 적응하여 알림 없음")
+    void testAdaptsToGradualDrift() {
+        VitalBaselineTracker tracker = new VitalBaselineTracker(null);
+        int worker = tracker.register("robot-1");
+        for (int i = 0; i < 600; i++) {
+            double drift = i * 0.05;  // 600샘플 동안 70 → 100bpm, 잡음 ±3bpm
+            tracker.update(worker, Channel.HEART_RATE, 70 + drift + random.nextDouble() * 6 - 3);
+        }
+
+        assertEquals(0, tracker.getAlertCount());
+        assertEquals(100, tracker.getMean(worker, Channel.HEART_RATE), 3);
+    }
+
+    @Test
+    @DisplayName("등록 번호는 연속이며 용량을 넘으면 배열을 늘림")
+    void testRegisterGrows() {
+        VitalBaselineTracker tracker = new VitalBaselineTracker(null);
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i, tracker.register("robot-" + i));
+        }
+        assertEquals(500, tracker.register("robot-500"));
+        assertEquals(-1, tracker.indexOf("unknown"));
+        assertEquals("robot-999", tracker.getWorkerId(999));
+
+        tracker.update(999, Channel.HEART_RATE, 70);
+        assertEquals(1, tracker.getSampleCount(999, Channel.HEART_RATE));
+        assertThrows(IndexOutOfBoundsException.class, () -> tracker.update(1000, Channel.HEART_RATE, 70));
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("초당 10만 건 이상 갱신")
+    void testThroughput() {
+        int workers = 10_000;
+        VitalBaselineTracker tracker = new VitalBaselineTracker(null);
+        for (int i = 0; i < workers; i++) {
+            tracker.register("robot-" + i);
+        }
+        double[] samples = new double[4096];
+        for (int i = 0; i < samples.length; i++) {
+            samples[i] = 75 + random.nextGaussian() * 5;
+        }
+        runUpdates(tracker, workers, samples, 200_000);  // 워밍업
+
+        int updates = 2_000_000;
+        long start = System.nanoTime();
+        runUpdates(tracker, workers, samples, updates);
+        double perSecond = updates / ((System.nanoTime() - start) / 1e9);
+
+        assertTrue(perSecond > 100_000, "초당 갱신 수: " + perSecond);
+    }
+
+    private static void runUpdates(VitalBaselineTracker tracker, int workers, double[] samples, int updates) {
+        for (int i = 0; i < updates; i++) {
+            tracker.update(i % workers, Channel.HEART_RATE, samples[i & (samples.length - 1)]);
+        }
+    }
+}
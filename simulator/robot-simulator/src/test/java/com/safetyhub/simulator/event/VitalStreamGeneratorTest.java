@@ -0,0 +1,117 @@
+package com.safetyhub.simulator.event;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * VitalStreamGenerator 테스트
+ */
+class VitalStreamGeneratorTest {
+
+    @Test
+    @DisplayName("1초마다 장치별 고정 크기 프레임을 순번과 시각을 붙여 내보냄")
+    void testEmitsFixedSizeFrames() {
+        VitalStreamGenerator generator = new VitalStreamGenerator(3, 1, 42L, 1_000_000L);
+        List<VitalStreamGenerator.DecodedFrame> frames = new ArrayList<>();
+
+        generator.advance(250, frame -> {
+            assertEquals(generator.frameBytes(), frame.remaining());
+            frames.add(VitalStreamGenerator.decode(frame));
+        });
+
+        assertEquals(6, frames.size());  // 2초 분량 × 3대 (남은 0.5초는 다음 프레임)
+        VitalStreamGenerator.DecodedFrame second = frames.get(4);
+        assertEquals(1, second.device());
+        assertEquals(1, second.sequence());
+        assertEquals(1_001_000L, second.timestampMillis());
+        assertEquals(100, second.ppg().length);
+        for (short sample : second.ppg()) {
+            assertTrue(sample >= 0 && sample <= 4095, "12비트 범위: " + sample);
+        }
+    }
+
+    @Test
+    @DisplayName("PPG 피크 간격이 심박수와 일치")
+    void testPpgFollowsHeartRate() {
+        VitalStreamGenerator generator = new VitalStreamGenerator(1, 10, 7L, 0L);
+        generator.setHeartRate(0, 90);
+        short[][] ppg = new short[1][];
+        generator.advance(1000, frame -> ppg[0] = VitalStreamGenerator.decode(frame).ppg());
+
+        // 상승 구간에서 중간값을 넘는 횟수 = 박동 수
+        int beats = 0;
+        for (int i = 1; i < ppg[0].length; i++) {
+            if (ppg[0][i - 1] < 2300 && ppg[0][i] >= 2300) {
+                beats++;
+            }
+        }
+        assertTrue(Math.abs(beats - 15) <= 1, "10초 동안 90bpm: " + beats);
+    }
+
+    @Test
+    @DisplayName("낙상 패턴은 자유낙하, 충격, 정지 순서로 나타남")
+    void testFallPattern() {
+        VitalStreamGenerator generator = new VitalStreamGenerator(2, 1, 3L, 0L);
+        generator.advance(100, null);
+        generator.triggerFall(1);
+        generator.advance(100, null);
+
+        short[] x = new short[100];
+        short[] y = new short[100];
+        short[] z = new short[100];
+        assertEquals(100, generator.copyRecentAccel(1, 100, x, y, z));
+
+        assertTrue(magnitude(x, y, z, 10) < 400);    // 자유낙하
+        assertTrue(magnitude(x, y, z, 32) > 2500);   // 충격
+        assertTrue(Math.abs(magnitude(x, y, z, 80) - 1000) < 100);  // 정지 (중력만)
+        assertTrue(generator.isFalling(1));
+        assertFalse(generator.isFalling(0));
+    }
+
+    @Test
+    @DisplayName("같은 시드면 같은 신호")
+    void testDeterministic() {
+        assertEquals(firstFrame(11L), firstFrame(11L));
+        assertNotEquals(firstFrame(11L), firstFrame(12L));
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("단일 스레드에서 5,000대 × 100Hz를 실시간보다 빠르게 생성")
+    void testThroughputFiveThousandDevices() {
+        VitalStreamGenerator generator = new VitalStreamGenerator(5000, 1, 1L, 0L);
+        long[] bytes = new long[1];
+        VitalStreamGenerator.FrameSink sink = frame -> bytes[0] += frame.remaining();
+        generator.advance(500, sink);  // 워밍업
+
+        int seconds = 10;
+        long start = System.nanoTime();
+        generator.advance(seconds * VitalStreamGenerator.SAMPLE_RATE_HZ, sink);
+        double millisPerSecond = (System.nanoTime() - start) / 1_000_000.0 / seconds;
+
+        assertTrue(millisPerSecond < 1000, "실시간보다 느림: " + millisPerSecond + "ms");
+        assertEquals(15L * 5000 * generator.frameBytes(), bytes[0]);
+    }
+
+    private static String firstFrame(long seed) {
+        VitalStreamGenerator generator = new VitalStreamGenerator(2, 1, seed, 0L);
+        StringBuilder result = new StringBuilder();
+        generator.advance(100, frame -> {
+            ByteBuffer copy = ByteBuffer.allocate(frame.remaining());
+            copy.put(frame.duplicate());
+            result.append(java.util.Arrays.toString(copy.array()));
+        });
+        return result.toString();
+    }
+
+    private static double magnitude(short[] x, short[] y, short[] z, int i) {
+        return Math.sqrt((double) x[i] * x[i] + (double) y[i] * y[i] + (double) z[i] * z[i]);
+    }
+}
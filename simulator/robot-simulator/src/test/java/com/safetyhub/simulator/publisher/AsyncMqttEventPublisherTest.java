@@ -0,0 +1,201 @@
+package com.safetyhub.simulator.publisher;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.safetyhub.simulator.event.SimulatorEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 비동기 MQTT 퍼블리셔 테스트 (내장 브로커)
+ */
+class AsyncMqttEventPublisherTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private EmbeddedMqttBroker broker;
+    private AsyncMqttEventPublisher publisher;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        broker = new EmbeddedMqttBroker();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (publisher != null) {
+            publisher.disconnect();
+        }
+        broker.close();
+    }
+
+    @Test
+    @DisplayName("QoS별 이벤트가 모두 브로커에 전달되고 완료 콜백으로 집계됨")
+    void testDeliversAllQosLevels() throws IOException {
+        publisher = connect(8, 1, 5);
+
+        for (int i = 0; i < 5; i++) {
+            publisher.publish(SimulatorEvent.emergency("robot-" + i,
+                    new SimulatorEvent.EmergencyData("FIRE", "DANGER", 150, 38.5, "ZONE_A")));
+            publisher.publish(SimulatorEvent.stateChange("robot-" + i,
+                    new SimulatorEvent.StateChangeData("WORKING", "EVACUATING", "emergency")));
+        }
+        for (int i = 0; i < 100; i++) {
+            publisher.publish(SimulatorEvent.location("robot-" + (i % 10), new SimulatorEvent.LocationData(i, i, "ZONE_A")));
+        }
+        // QoS 0은 보낸 시점에 완료되므로 브로커가 모두 읽을 때까지 기다림
+        awaitCondition(() -> broker.messages(0).size() >= 100);
+        publisher.disconnect();
+
+        assertEquals(5, broker.messages(2).size());
+        assertEquals(5, broker.messages(1).size());
+        assertEquals("safetyhub/test/emergency/robot-0", broker.messages(2).get(0).topic());
+        assertEquals(100, telemetryEvents().size());
+
+        Map<String, Object> metrics = publisher.getMetrics();
+        assertEquals(5L, qos(metrics, 2).get("delivered"));
+        assertEquals(5L, qos(metrics, 1).get("delivered"));
+        assertEquals(100L, qos(metrics, 0).get("delivered"));
+        assertEquals(0L, metrics.get("inFlight"));
+        for (int level = 0; level < 3; level++) {
+            assertEquals(0L, qos(metrics, level).get("failed"));
+            assertEquals(0L, qos(metrics, level).get("dropped"));
+        }
+        @SuppressWarnings("unchecked")
+        Map<String, Object> ack = (Map<String, Object>) qos(metrics, 2).get("ackLatency");
+        assertEquals(5L, ack.get("count"));
+    }
+
+    @Test
+    @DisplayName("응답이 밀려도 발행 호출은 기다리지 않고 in-flight는 창 크기를 넘지 않음")
+    void testWindowBoundsInFlight() {
+        publisher = connect(4, 50, 5);
+        broker.holdAcks();
+
+        long start = System.nanoTime();
+        for (int i = 0; i < 50; i++) {
+            publisher.publish(SimulatorEvent.stateChange("robot-" + i,
+                    new SimulatorEvent.StateChangeData("IDLE", "WORKING", "shift")));
+        }
+        long publishMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        awaitCondition(() -> broker.messages(1).size() >= 4);
+        sleep(100);
+        assertEquals(4, broker.messages(1).size());
+        assertEquals(4L, publisher.getMetrics().get("inFlight"));
+        assertEquals(46, qos(publisher.getMetrics(), 1).get("queued"));
+        assertTrue(publishMillis < 500, "발행 시간: " + publishMillis + "ms");
+
+        broker.releaseAcks();
+        awaitCondition(() -> (Long) qos(publisher.getMetrics(), 1).get("delivered") == 50L);
+        assertEquals(50, broker.messages(1).size());
+        assertTrue((Long) publisher.getMetrics().get("maxInFlight") <= 4);
+
+        // 발생원별 순서 유지
+        List<String> topics = broker.messages(1).stream().map(EmbeddedMqttBroker.Message::topic).toList();
+        assertEquals("safetyhub/test/state_change/robot-0", topics.get(0));
+        assertEquals("safetyhub/test/state_change/robot-49", topics.get(49));
+    }
+
+    @Test
+    @DisplayName("기본 설정은 텔레메트리를 묶지 않고 이벤트별 토픽으로 발행")
+    void testDefaultPublishesPerEventTopics() {
+        publisher = new AsyncMqttEventPublisher(broker.url(), "test-client", "safetyhub/test");
+        publisher.connect();
+        assertTrue(publisher.isConnected());
+
+        for (int i = 0; i < 20; i++) {
+            publisher.publish(SimulatorEvent.location("robot-" + i, new SimulatorEvent.LocationData(i, 0, "ZONE_A")));
+        }
+        // QoS 0은 보낸 시점에 완료되므로 브로커가 모두 읽을 때까지 기다림
+        awaitCondition(() -> broker.messages(0).size() >= 20);
+        publisher.disconnect();
+
+        List<EmbeddedMqttBroker.Message> telemetry = broker.messages(0);
+        assertEquals(20, telemetry.size());
+        for (int i = 0; i < telemetry.size(); i++) {
+            assertEquals("safetyhub/test/location_update/robot-" + i, telemetry.get(i).topic());
+            assertTrue(telemetry.get(i).text().startsWith("{"));
+        }
+        assertEquals(0L, publisher.getMetrics().get("batches"));
+    }
+
+    @Test
+    @DisplayName("QoS 0 텔레메트리는 묶음 크기만큼 한 메시지로 발행되고 순서가 유지됨")
+    void testBatchesTelemetry() throws IOException {
+        publisher = connect(8, 50, 10_000);
+
+        for (int i = 0; i < 200; i++) {
+            publisher.publish(SimulatorEvent.location("robot-1", new SimulatorEvent.LocationData(i, 0, "ZONE_B")));
+        }
+        awaitCondition(() -> broker.messages(0).size() >= 4);
+        publisher.disconnect();
+
+        List<EmbeddedMqttBroker.Message> telemetry = broker.messages(0);
+        assertEquals(4, telemetry.size());
+        for (EmbeddedMqttBroker.Message message : telemetry) {
+            assertEquals("safetyhub/test/telemetry/batch", message.topic());
+            assertEquals(50, objectMapper.readTree(message.payload()).size());
+        }
+        List<JsonNode> events = telemetryEvents();
+        for (int i = 0; i < events.size(); i++) {
+            assertEquals(i, events.get(i).path("payload").path("x").asInt());
+        }
+        assertEquals(4L, publisher.getMetrics().get("batches"));
+    }
+
+    private AsyncMqttEventPublisher connect(int window, int batchSize, long lingerMillis) {
+        AsyncMqttEventPublisher connected = new AsyncMqttEventPublisher(broker.url(), "test-client",
+                "safetyhub/test", window, 1000, batchSize, lingerMillis);
+        connected.connect();
+        assertTrue(connected.isConnected());
+        return connected;
+    }
+
+    /**
+     * QoS 0 메시지를 이벤트 단위로 펼침 (묶음은 JSON 배열)
+     */
+    private List<JsonNode> telemetryEvents() throws IOException {
+        List<JsonNode> events = new ArrayList<>();
+        for (EmbeddedMqttBroker.Message message : broker.messages(0)) {
+            JsonNode node = objectMapper.readTree(message.payload());
+            if (node.isArray()) {
+                node.forEach(events::add);
+            } else {
+                events.add(node);
+            }
+        }
+        return events;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> qos(Map<String, Object> metrics, int level) {
+        return (Map<String, Object>) metrics.get("qos" + level);
+    }
+
+    private static void awaitCondition(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "조건을 기다리다 시간 초과");
+            sleep(5);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.safetyhub.simulator.publisher;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 회로 차단기 상태 전이 테스트
+ */
+class CircuitBreakerTest {
+
+    private static final long OPEN_NANOS = 1_000;
+
+    @Test
+    @DisplayName("연속 실패가 임계치에 이르면 열리고, 대기 후 한 건 시도에 성공하면 닫힘")
+    void testOpenThenClose() {
+        CircuitBreaker breaker = new CircuitBreaker(3, OPEN_NANOS);
+
+        breaker.onFailure(0);
+        breaker.onSuccess();  // 성공하면 연속 실패 초기화
+        breaker.onFailure(0);
+        breaker.onFailure(0);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        breaker.onFailure(10);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+
+        assertFalse(breaker.allow(500));
+        assertTrue(breaker.isRejecting(500));
+        assertFalse(breaker.isRejecting(1_010), "대기 시간이 지나면 시험 발행 가능");
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertTrue(breaker.allow(1_010));
+        assertTrue(breaker.isRejecting(1_011));
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        assertFalse(breaker.allow(1_011), "HALF_OPEN에서는 한 건만 시도");
+
+        breaker.onSuccess();
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertEquals(1, breaker.getOpenedCount());
+    }
+
+    @Test
+    @DisplayName("HALF_OPEN 시도가 실패하면 바로 다시 열림")
+    void testHalfOpenFailureReopens() {
+        CircuitBreaker breaker = new CircuitBreaker(1, OPEN_NANOS);
+        breaker.onFailure(0);
+        assertTrue(breaker.allow(1_000));
+
+        breaker.onFailure(1_000);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertFalse(breaker.allow(1_500));
+        assertTrue(breaker.allow(2_000));
+        assertEquals(2, breaker.getOpenedCount());
+    }
+}
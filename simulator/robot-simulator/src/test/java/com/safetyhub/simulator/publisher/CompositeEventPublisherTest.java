@@ -0,0 +1,291 @@
+package com.safetyhub.simulator.publisher;
+
+import com.safetyhub.simulator.event.SimulatorEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CompositeEventPublisher (퍼블리셔별 큐) 테스트
+ */
+class CompositeEventPublisherTest {
+
+    private static final long FLUSH_TIMEOUT = TimeUnit.SECONDS.toNanos(10);
+
+    private final CompositeEventPublisher composite = new CompositeEventPublisher();
+
+    @AfterEach
+    void tearDown() {
+        for (EventPublisher publisher : composite.getPublishers()) {
+            composite.removePublisher(publisher);
+        }
+    }
+
+    @Test
+    @DisplayName("느린 퍼블리셔가 있어도 발행은 기다리지 않고 다른 퍼블리셔는 모두 순서대로 받음")
+    void testSlowSinkIsIsolated() {
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> fast = new CopyOnWriteArrayList<>();
+        composite.addPublisher("slow", new TestPublisher(event -> await(release)), 4,
+                CompositeEventPublisher.OverflowPolicy.DROP_OLDEST);
+        composite.addPublisher("fast", new TestPublisher(event -> fast.add(event.getRobotId())), 1000,
+                CompositeEventPublisher.OverflowPolicy.BLOCK);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < 100; i++) {
+            composite.publish(location("robot-" + i));
+        }
+        long publishMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        release.countDown();
+        assertTrue(composite.flush(FLUSH_TIMEOUT));
+
+        assertTrue(publishMillis < 1000, "발행 시간: " + publishMillis + "ms");
+        assertEquals(100, fast.size());
+        assertEquals("robot-0", fast.get(0));
+        assertEquals("robot-99", fast.get(99));
+
+        Map<String, Object> slow = metricsOf("slow");
+        assertTrue((Long) slow.get("dropped") > 0);
+        assertEquals(100L, (Long) slow.get("dropped") + (Long) slow.get("delivered"));
+        assertEquals(0L, metricsOf("fast").get("dropped"));
+    }
+
+    @Test
+    @DisplayName("계속 실패하는 퍼블리셔는 회로가 열려 발행을 건너뛰고 다른 퍼블리셔는 영향 없음")
+    void testCircuitBreakerOpensOnFailures() {
+        List<String> healthy = new CopyOnWriteArrayList<>();
+        composite.addPublisher("broken", new TestPublisher(event -> {
+            throw new IllegalStateException("broker down");
+        }), 100, CompositeEventPublisher.OverflowPolicy.BLOCK);
+        composite.addPublisher("healthy", new TestPublisher(event -> healthy.add(event.getId())), 100,
+                CompositeEventPublisher.OverflowPolicy.BLOCK);
+
+        for (int i = 0; i < 20; i++) {
+            composite.publish(location("robot-1"));
+        }
+        assertTrue(composite.flush(FLUSH_TIMEOUT));
+
+        Map<String, Object> broken = metricsOf("broken");
+        assertEquals("OPEN", broken.get("circuit"));
+        assertEquals(5L, broken.get("failed"));
+        assertEquals(15L, broken.get("rejected"));
+        assertEquals(20, healthy.size());
+        assertEquals("CLOSED", metricsOf("healthy").get("circuit"));
+    }
+
+    @Test
+    @DisplayName("회로가 열린 동안 연결이 끊겨도 재연결 후 시험 발행으로 회로가 닫힘")
+    void testDisconnectedPublisherDoesNotStrandHalfOpenCircuit() {
+        CompositeEventPublisher shortBreaker = new CompositeEventPublisher(TimeUnit.MILLISECONDS.toNanos(50));
+        AtomicBoolean connected = new AtomicBoolean(true);
+        AtomicBoolean failing = new AtomicBoolean(true);
+        List<String> received = new CopyOnWriteArrayList<>();
+        TestPublisher flaky = new TestPublisher(event -> {
+            if (failing.get()) {
+                throw new IllegalStateException("broker down");
+            }
+            received.add(event.getId());
+        }) {
+            @Override public boolean isConnected() { return connected.get(); }
+        };
+        shortBreaker.addPublisher("flaky", flaky, 100, CompositeEventPublisher.OverflowPolicy.BLOCK);
+
+        try {
+            for (int i = 0; i < 5; i++) {
+                shortBreaker.publish(location("robot-1"));
+            }
+            assertTrue(shortBreaker.flush(FLUSH_TIMEOUT));
+            assertEquals("OPEN", metricsOf(shortBreaker, "flaky").get("circuit"));
+
+            // 대기 시간이 지난 뒤 끊긴 상태에서 들어온 이벤트는 시험 발행을 쓰지 않고 건너뜀
+            connected.set(false);
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(100));
+            shortBreaker.publish(location("robot-1"));
+            assertTrue(shortBreaker.flush(FLUSH_TIMEOUT));
+            assertEquals(1L, metricsOf(shortBreaker, "flaky").get("skipped"));
+            assertEquals("OPEN", metricsOf(shortBreaker, "flaky").get("circuit"));
+
+            connected.set(true);
+            failing.set(false);
+            shortBreaker.publish(location("robot-1"));
+            shortBreaker.publish(location("robot-1"));
+            assertTrue(shortBreaker.flush(FLUSH_TIMEOUT));
+
+            assertEquals(2, received.size());
+            assertEquals("CLOSED", metricsOf(shortBreaker, "flaky").get("circuit"));
+        } finally {
+            shortBreaker.removePublisher(flaky);
+        }
+    }
+
+    @Test
+    @DisplayName("회로가 열린 동안 CRITICAL 이벤트는 버리지 않고 남겨 두었다가 시험 발행으로 전달")
+    void testCriticalEventsWaitForHalfOpenTrial() {
+        CompositeEventPublisher shortBreaker = new CompositeEventPublisher(TimeUnit.MILLISECONDS.toNanos(300));
+        AtomicBoolean failing = new AtomicBoolean(true);
+        List<String> received = new CopyOnWriteArrayList<>();
+        TestPublisher flaky = new TestPublisher(event -> {
+            if (failing.get()) {
+                throw new IllegalStateException("broker down");
+            }
+            received.add(event.getType());
+        });
+        shortBreaker.addPublisher("flaky", flaky, 100, CompositeEventPublisher.OverflowPolicy.BLOCK);
+
+        try {
+            for (int i = 0; i < 5; i++) {
+                shortBreaker.publish(location("robot-1"));
+            }
+            assertTrue(shortBreaker.flush(FLUSH_TIMEOUT));
+            assertEquals("OPEN", metricsOf(shortBreaker, "flaky").get("circuit"));
+
+            shortBreaker.publish(emergency("robot-7"));
+            shortBreaker.publish(location("robot-1"));
+            assertFalse(shortBreaker.flush(TimeUnit.MILLISECONDS.toNanos(50)), "CRITICAL 이벤트는 긴급 큐에 남아 있어야 함");
+            assertEquals(1, metricsOf(shortBreaker, "flaky").get("criticalQueued"));
+
+            failing.set(false);
+            assertTrue(shortBreaker.flush(FLUSH_TIMEOUT));
+
+            Map<String, Object> metrics = metricsOf(shortBreaker, "flaky");
+            assertEquals(List.of("EMERGENCY"), received);
+            assertEquals(1L, metrics.get("criticalDelivered"));
+            assertEquals(1L, metrics.get("rejected"));
+            assertEquals(0L, metrics.get("dropped"));
+            assertEquals("CLOSED", metrics.get("circuit"));
+        } finally {
+            shortBreaker.removePublisher(flaky);
+        }
+    }
+
+    @Test
+    @DisplayName("발행이 계속 실패하는 CRITICAL 이벤트는 정해진 횟수만 다시 시도한 뒤 버림")
+    void testFailingCriticalEventIsRetriedThenDropped() {
+        composite.addPublisher("broken", new TestPublisher(event -> {
+            throw new IllegalStateException("bad payload");
+        }), 100, CompositeEventPublisher.OverflowPolicy.BLOCK);
+
+        composite.publish(emergency("robot-7"));
+        assertTrue(composite.flush(FLUSH_TIMEOUT));
+
+        Map<String, Object> broken = metricsOf("broken");
+        assertEquals(3L, broken.get("failed"));
+        assertEquals(0, broken.get("criticalQueued"));
+        assertEquals("CLOSED", broken.get("circuit"));
+    }
+
+    @Test
+    @DisplayName("CRITICAL 이벤트는 밀린 텔레메트리보다 먼저 전달됨")
+    void testCriticalBypassesTelemetryQueue() {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> received = new CopyOnWriteArrayList<>();
+        composite.addPublisher("sink", new TestPublisher(event -> {
+            started.countDown();
+            await(release);
+            received.add(event.getType());
+        }), 1000, CompositeEventPublisher.OverflowPolicy.BLOCK);
+
+        composite.publish(location("robot-0"));
+        await(started);
+        for (int i = 0; i < 50; i++) {
+            composite.publish(location("robot-" + i));
+        }
+        composite.publish(emergency("robot-7"));
+        release.countDown();
+        assertTrue(composite.flush(FLUSH_TIMEOUT));
+
+        assertEquals(52, received.size());
+        assertEquals("LOCATION_UPDATE", received.get(0));
+        assertEquals("EMERGENCY", received.get(1));
+        assertEquals(1L, metricsOf("sink").get("criticalDelivered"));
+    }
+
+    @Test
+    @DisplayName("BLOCK 정책은 큐가 작아도 이벤트를 잃지 않음")
+    void testBlockPolicyDoesNotDrop() {
+        List<String> received = new CopyOnWriteArrayList<>();
+        composite.addPublisher("sink", new TestPublisher(event -> {
+            LockSupport.parkNanos(100_000);
+            received.add(event.getId());
+        }), 2, CompositeEventPublisher.OverflowPolicy.BLOCK);
+
+        for (int i = 0; i < 200; i++) {
+            composite.publish(location("robot-" + i));
+        }
+        assertTrue(composite.flush(FLUSH_TIMEOUT));
+
+        assertEquals(200, received.size());
+        assertEquals(0L, metricsOf("sink").get("dropped"));
+    }
+
+    @Test
+    @DisplayName("퍼블리셔를 제거하면 큐에 남은 이벤트까지 전달한 뒤 제거됨")
+    void testRemoveDrainsQueue() {
+        List<String> received = new CopyOnWriteArrayList<>();
+        TestPublisher sink = new TestPublisher(event -> {
+            LockSupport.parkNanos(100_000);
+            received.add(event.getId());
+        });
+        composite.addPublisher("sink", sink, 1000, CompositeEventPublisher.OverflowPolicy.BLOCK);
+
+        for (int i = 0; i < 100; i++) {
+            composite.publish(location("robot-" + i));
+        }
+        composite.removePublisher(sink);
+
+        assertEquals(100, received.size());
+        assertTrue(composite.getPublishers().isEmpty());
+    }
+
+    private Map<String, Object> metricsOf(String name) {
+        return metricsOf(composite, name);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> metricsOf(CompositeEventPublisher publisher, String name) {
+        return (Map<String, Object>) publisher.getMetrics().get(name);
+    }
+
+    private static SimulatorEvent location(String robotId) {
+        return SimulatorEvent.location(robotId, new SimulatorEvent.LocationData(1, 2, "ZONE_A"));
+    }
+
+    private static SimulatorEvent emergency(String robotId) {
+        return SimulatorEvent.emergency(robotId,
+                new SimulatorEvent.EmergencyData("FIRE", "DANGER", 150, 38.5, "ZONE_A"));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static class TestPublisher implements EventPublisher {
+        private final Consumer<SimulatorEvent> consumer;
+
+        TestPublisher(Consumer<SimulatorEvent> consumer) {
+            this.consumer = consumer;
+        }
+
+        @Override public void publish(SimulatorEvent event) { consumer.accept(event); }
+        @Override public void connect() { }
+        @Override public void disconnect() { }
+        @Override public boolean isConnected() { return true; }
+    }
+}
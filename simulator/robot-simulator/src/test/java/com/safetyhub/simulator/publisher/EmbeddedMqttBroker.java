@@ -0,0 +1,173 @@
+package com.safetyhub.simulator.publisher;
+
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 테스트용 내장 MQTT 3.1.1 브로커 (발행 수신 전용)
+ * CONNECT, PUBLISH(QoS 0/1/2), PUBREL, PINGREQ, DISCONNECT만 처리하고 받은 메시지를 기록
+ * holdAcks()로 PUBACK/PUBREC를 붙잡아 느린 브로커를 흉내낼 수 있음
+ */
+class EmbeddedMqttBroker implements AutoCloseable {
+
+    record Message(String topic, int qos, byte[] payload) {
+        String text() {
+            return new String(payload, StandardCharsets.UTF_8);
+        }
+    }
+
+    private final ServerSocket server;
+    private final List<Message> messages = new CopyOnWriteArrayList<>();
+    private final List<Socket> clients = new CopyOnWriteArrayList<>();
+    private final List<Runnable> heldAcks = new ArrayList<>();
+    private boolean holdAcks;
+
+    EmbeddedMqttBroker() throws IOException {
+        server = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        Thread acceptor = new Thread(this::acceptLoop, "mqtt-broker-accept");
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+    String url() {
+        return "tcp://127.0.0.1:" + server.getLocalPort();
+    }
+
+    List<Message> messages() {
+        return messages;
+    }
+
+    List<Message> messages(int qos) {
+        return messages.stream().filter(message -> message.qos() == qos).toList();
+    }
+
+    synchronized void holdAcks() {
+        holdAcks = true;
+    }
+
+    void releaseAcks() {
+        List<Runnable> acks;
+        synchronized (this) {
+            holdAcks = false;
+            acks = new ArrayList<>(heldAcks);
+            heldAcks.clear();
+        }
+        acks.forEach(Runnable::run);
+    }
+
+    private void acceptLoop() {
+        while (!server.isClosed()) {
+            try {
+                Socket socket = server.accept();
+                clients.add(socket);
+                Thread handler = new Thread(() -> handle(socket), "mqtt-broker-client");
+                handler.setDaemon(true);
+                handler.start();
+            } catch (IOException e) {
+                return;
+            }
+        }
+    }
+
+    private void handle(Socket socket) {
+        try (socket) {
+            DataInputStream in = new DataInputStream(socket.getInputStream());
+            OutputStream out = socket.getOutputStream();
+            while (true) {
+                int header = in.read();
+                if (header < 0) {
+                    return;
+                }
+                byte[] body = new byte[readRemainingLength(in)];
+                in.readFully(body);
+                switch (header >> 4) {
+                    case 1 -> write(out, 0x20, 0x02, 0x00, 0x00);               // CONNACK
+                    case 3 -> onPublish(out, header, body);
+                    case 6 -> write(out, 0x70, 0x02, body[0], body[1]);         // PUBREL -> PUBCOMP
+                    case 12 -> write(out, 0xD0, 0x00);                          // PINGRESP
+                    case 14 -> { return; }
+                    default -> { }
+                }
+            }
+        } catch (IOException e) {
+            // 연결 종료
+        }
+    }
+
+    private void onPublish(OutputStream out, int header, byte[] body) {
+        int qos = (header >> 1) & 0x03;
+        int topicLength = ((body[0] & 0xFF) << 8) | (body[1] & 0xFF);
+        String topic = new String(body, 2, topicLength, StandardCharsets.UTF_8);
+        int offset = 2 + topicLength;
+        int packetIdHigh = 0;
+        int packetIdLow = 0;
+        if (qos > 0) {
+            packetIdHigh = body[offset];
+            packetIdLow = body[offset + 1];
+            offset += 2;
+        }
+        messages.add(new Message(topic, qos, Arrays.copyOfRange(body, offset, body.length)));
+
+        if (qos > 0) {
+            int ackType = qos == 1 ? 0x40 : 0x50;  // PUBACK / PUBREC
+            int high = packetIdHigh;
+            int low = packetIdLow;
+            Runnable ack = () -> write(out, ackType, 0x02, high, low);
+            synchronized (this) {
+                if (holdAcks) {
+                    heldAcks.add(ack);
+                    return;
+                }
+            }
+            ack.run();
+        }
+    }
+
+    private static int readRemainingLength(DataInputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 28; shift += 7) {
+            int b = in.read();
+            if (b < 0) {
+                throw new EOFException();
+            }
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed remaining length");
+    }
+
+    private static void write(OutputStream out, int... bytes) {
+        byte[] packet = new byte[bytes.length];
+        for (int i = 0; i < bytes.length; i++) {
+            packet[i] = (byte) bytes[i];
+        }
+        synchronized (out) {
+            try {
+                out.write(packet);
+                out.flush();
+            } catch (IOException ignored) {
+                // 클라이언트가 이미 끊김
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        server.close();
+        for (Socket client : clients) {
+            client.close();
+        }
+    }
+}
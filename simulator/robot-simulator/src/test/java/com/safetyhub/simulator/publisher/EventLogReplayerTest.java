@@ -0,0 +1,227 @@
+package com.safetyhub.simulator.publisher;
+
+import com.safetyhub.simulator.event.EventGenerator;
+import com.safetyhub.simulator.event.SimulatorEvent;
+import com.safetyhub.simulator.world.VirtualWorld;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 이벤트 로그 기록/재생 테스트
+ */
+class EventLogReplayerTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("기록한 이벤트를 읽으면 ID, 시각, 페이로드까지 원본과 같음")
+    void testRoundTrip() throws IOException {
+        Path log = directory.resolve("round-trip.evlog");
+        List<SimulatorEvent> published = new ArrayList<>();
+
+        EventLogRecorder recorder = new EventLogRecorder(log);
+        recorder.connect();
+        EventGenerator generator = new EventGenerator();
+        generator.addListener(published::add);
+        generator.addListener(recorder);
+        VirtualWorld world = VirtualWorld.createStandardFactory("test", "테스트 공장");
+        world.spawnRobots(50);
+        for (int i = 0; i < 120; i++) {
+            world.tick();
+            generator.generateEvents(world);
+        }
+        List<SimulatorEvent> synthetic = List.of(
+                SimulatorEvent.emergency("robot-x", new SimulatorEvent.EmergencyData("FIRE", "DANGER", 150, 38.2, "ZONE_A")),
+                SimulatorEvent.fallDetected("robot-x", new SimulatorEvent.FallData(1_700_000_000_000L, 3200)),
+                SimulatorEvent.vitalAnomaly("robot-x", new SimulatorEvent.VitalAnomalyData("HEART_RATE", 140, 80, 4.5)),
+                new SimulatorEvent("custom-id", "CUSTOM", null, java.time.Instant.EPOCH, null,
+                        SimulatorEvent.EventPriority.LOW));
+        for (SimulatorEvent event : synthetic) {
+            recorder.publish(event);
+            published.add(event);
+        }
+        recorder.disconnect();
+
+        List<SimulatorEvent> read = readAll(log);
+        assertEquals(published.size(), read.size());
+        for (int i = 0; i < published.size(); i++) {
+            assertEquals(describe(published.get(i)), describe(read.get(i)), "event " + i);
+        }
+        double bytesPerEvent = (double) Files.size(log) / published.size();
+        assertTrue(bytesPerEvent < 40, "이벤트당 " + bytesPerEvent + " bytes");
+    }
+
+    @Test
+    @DisplayName("여러 파티션으로 재생해도 발생원별 순서는 기록 순서와 같음")
+    void testPerSourceOrdering() throws IOException {
+        Path log = directory.resolve("ordering.evlog");
+        Map<String, List<String>> expected = new LinkedHashMap<>();
+        try (EventLogRecorder recorder = new EventLogRecorder(log)) {
+            recorder.connect();
+            for (int i = 0; i < 5_000; i++) {
+                String robotId = "robot-" + (i % 37);
+                SimulatorEvent event = SimulatorEvent.location(robotId, new SimulatorEvent.LocationData(i, i % 100, "ZONE_A"));
+                recorder.publish(event);
+                expected.computeIfAbsent(robotId, k -> new ArrayList<>()).add(event.getId());
+            }
+        }
+
+        Map<String, List<String>> replayed = new LinkedHashMap<>();
+        Consumer<SimulatorEvent> target = event -> {
+            if (ThreadLocalRandom.current().nextInt(200) == 0) {
+                LockSupport.parkNanos(100_000);  // 느린 발행 흉내
+            }
+            synchronized (replayed) {
+                replayed.computeIfAbsent(event.getRobotId(), k -> new ArrayList<>()).add(event.getId());
+            }
+        };
+        EventLogReplayer.Report report;
+        try (EventLogReader reader = new EventLogReader(log)) {
+            report = new EventLogReplayer(EventLogReplayer.AS_FAST_AS_POSSIBLE, 4).replay(reader, target);
+        }
+
+        assertEquals(5_000, report.events());
+        assertEquals(0, report.failed());
+        assertEquals(expected, replayed);
+    }
+
+    @Test
+    @DisplayName("재생을 중단하면 파티션에 넘긴 이벤트까지 발행하고 중단 상태를 남긴 채 끝남")
+    void testInterruptDrainsPartitions() throws IOException {
+        Path log = directory.resolve("interrupt.evlog");
+        Map<String, List<String>> expected = new LinkedHashMap<>();
+        try (EventLogRecorder recorder = new EventLogRecorder(log)) {
+            recorder.connect();
+            for (int i = 0; i < 20_000; i++) {
+                String robotId = "robot-" + (i % 7);
+                SimulatorEvent event = SimulatorEvent.location(robotId, new SimulatorEvent.LocationData(i, 0, "ZONE_A"));
+                recorder.publish(event);
+                expected.computeIfAbsent(robotId, k -> new ArrayList<>()).add(event.getId());
+            }
+        }
+
+        // 파티션 큐(2 x 4096)보다 많이 기록했으므로 첫 발행에서 건 중단은 읽기가 끝나기 전에 보임
+        Thread caller = Thread.currentThread();
+        AtomicInteger published = new AtomicInteger();
+        Map<String, List<String>> replayed = new LinkedHashMap<>();
+        Consumer<SimulatorEvent> target = event -> {
+            if (published.incrementAndGet() == 1) {
+                caller.interrupt();
+            }
+            synchronized (replayed) {
+                replayed.computeIfAbsent(event.getRobotId(), k -> new ArrayList<>()).add(event.getId());
+            }
+        };
+        try (EventLogReader reader = new EventLogReader(log)) {
+            assertThrows(InterruptedIOException.class,
+                    () -> new EventLogReplayer(EventLogReplayer.AS_FAST_AS_POSSIBLE, 2).replay(reader, target));
+            assertTrue(Thread.interrupted());
+        }
+
+        assertTrue(published.get() < 20_000);
+        replayed.forEach((robotId, ids) -> assertEquals(expected.get(robotId).subList(0, ids.size()), ids));
+    }
+
+    @Test
+    @DisplayName("배속 재생은 기록된 간격을 배속만큼 줄여 따름")
+    void testSpeed() throws IOException {
+        Path log = directory.resolve("speed.evlog");
+        try (EventLogRecorder recorder = new EventLogRecorder(log)) {
+            recorder.connect();
+            for (int i = 0; i < 5; i++) {
+                recorder.publish(SimulatorEvent.location("robot-1", new SimulatorEvent.LocationData(i, 0, null)));
+                LockSupport.parkNanos(50_000_000);  // 50ms 간격
+            }
+        }
+
+        long recordedMs = readOffsetsMs(log);
+        assertTrue(recordedMs >= 190, "기록된 마지막 오프셋: " + recordedMs);
+
+        EventLogReplayer.Report realTime = replay(log, 1);
+        EventLogReplayer.Report fast = replay(log, 4);
+        EventLogReplayer.Report max = replay(log, EventLogReplayer.AS_FAST_AS_POSSIBLE);
+
+        assertTrue(realTime.elapsedMs() >= recordedMs - 5, "1배속: " + realTime.elapsedMs());
+        assertTrue(fast.elapsedMs() >= recordedMs / 4 - 5, "4배속: " + fast.elapsedMs());
+        assertTrue(fast.elapsedMs() < realTime.elapsedMs(), "4배속이 1배속보다 빨라야 함");
+        assertTrue(max.elapsedMs() < fast.elapsedMs(), "최대 속도: " + max.elapsedMs());
+    }
+
+    @Test
+    @DisplayName("마지막 레코드가 잘린 로그는 완전한 레코드까지만 재생")
+    void testTruncatedTail() throws IOException {
+        Path log = directory.resolve("truncated.evlog");
+        try (EventLogRecorder recorder = new EventLogRecorder(log)) {
+            recorder.connect();
+            for (int i = 0; i < 10; i++) {
+                recorder.publish(SimulatorEvent.location("robot-" + i, new SimulatorEvent.LocationData(i, i, "ZONE_B")));
+            }
+        }
+        byte[] bytes = Files.readAllBytes(log);
+        Files.write(log, java.util.Arrays.copyOf(bytes, bytes.length - 3));
+
+        List<SimulatorEvent> received = Collections.synchronizedList(new ArrayList<>());
+        EventLogReplayer.Report report;
+        try (EventLogReader reader = new EventLogReader(log)) {
+            report = new EventLogReplayer(EventLogReplayer.AS_FAST_AS_POSSIBLE, 1)
+                    .replay(reader, received::add);
+        }
+
+        assertEquals(9, report.events());
+        assertTrue(report.truncated());
+        assertEquals("robot-8", received.get(8).getRobotId());
+    }
+
+    private static EventLogReplayer.Report replay(Path log, double speed) throws IOException {
+        try (EventLogReader reader = new EventLogReader(log)) {
+            return new EventLogReplayer(speed, 1).replay(reader, event -> { });
+        }
+    }
+
+    private static long readOffsetsMs(Path log) throws IOException {
+        long last = 0;
+        try (EventLogReader reader = new EventLogReader(log)) {
+            EventLogReader.Entry entry;
+            while ((entry = reader.next()) != null) {
+                assertTrue(entry.offsetNanos() >= last);
+                last = entry.offsetNanos();
+            }
+        }
+        return last / 1_000_000;
+    }
+
+    private static List<SimulatorEvent> readAll(Path log) throws IOException {
+        List<SimulatorEvent> events = new ArrayList<>();
+        try (EventLogReader reader = new EventLogReader(log)) {
+            EventLogReader.Entry entry;
+            while ((entry = reader.next()) != null) {
+                events.add(entry.event());
+            }
+            assertFalse(reader.isTruncated());
+        }
+        return events;
+    }
+
+    private static String describe(SimulatorEvent event) {
+        return event.getId() + " " + event.getType() + " " + event.getRobotId() + " " + event.getTimestamp()
+                + " " + event.getPriority() + " " + event.getPayload();
+    }
+}
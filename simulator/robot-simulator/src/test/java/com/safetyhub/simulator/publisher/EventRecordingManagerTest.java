@@ -0,0 +1,84 @@
+package com.safetyhub.simulator.publisher;
+
+import com.safetyhub.simulator.event.SimulatorEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 이벤트 기록/재생 관리 테스트
+ */
+class EventRecordingManagerTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("기록 중에 재생해도 재생한 이벤트는 다시 기록되지 않고 다른 퍼블리셔에는 발행됨")
+    void testReplayIsNotRecorded() {
+        CompositeEventPublisher composite = new CompositeEventPublisher();
+        List<String> downstream = new CopyOnWriteArrayList<>();
+        TestPublisher sink = new TestPublisher(downstream);
+        composite.addPublisher("downstream", sink, 1000, CompositeEventPublisher.OverflowPolicy.BLOCK);
+        EventRecordingManager manager = new EventRecordingManager(composite, directory);
+
+        try {
+            manager.startRecording("source");
+            for (int i = 0; i < 10; i++) {
+                composite.publish(location("robot-" + i));
+            }
+            assertEquals(10L, manager.stopRecording().get("events"));
+
+            manager.startRecording("during-replay");
+            manager.startReplay("source", EventLogReplayer.AS_FAST_AS_POSSIBLE, 1);
+            awaitReplay(manager);
+            composite.publish(location("robot-live"));
+            assertTrue(composite.flush(TimeUnit.SECONDS.toNanos(10)));
+
+            // 재생한 10건은 빠지고 실시간 이벤트 1건만 기록됨
+            assertEquals(1L, manager.stopRecording().get("events"));
+            assertEquals(21, downstream.size());
+            assertEquals("robot-live", downstream.get(20));
+        } finally {
+            composite.removePublisher(sink);
+        }
+    }
+
+    private static void awaitReplay(EventRecordingManager manager) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (Boolean.TRUE.equals(manager.getStatus().get("replaying"))) {
+            assertTrue(System.nanoTime() < deadline, "재생이 끝나지 않음");
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(5));
+        }
+        @SuppressWarnings("unchecked")
+        Map<String, Object> report = (Map<String, Object>) manager.getStatus().get("lastReplay");
+        assertNotNull(report);
+        assertEquals(10L, report.get("events"));
+    }
+
+    private static SimulatorEvent location(String robotId) {
+        return SimulatorEvent.location(robotId, new SimulatorEvent.LocationData(1, 2, "ZONE_A"));
+    }
+
+    private static class TestPublisher implements EventPublisher {
+        private final List<String> received;
+
+        TestPublisher(List<String> received) {
+            this.received = received;
+        }
+
+        @Override public void publish(SimulatorEvent event) { received.add(event.getRobotId()); }
+        @Override public void connect() { }
+        @Override public void disconnect() { }
+        @Override public boolean isConnected() { return true; }
+    }
+}
@@ -0,0 +1,184 @@
+package com.safetyhub.simulator.scenario;
+
+import com.safetyhub.simulator.core.RobotWorker;
+import com.safetyhub.simulator.event.EventGenerator;
+import com.safetyhub.simulator.event.SimulatorEvent;
+import com.safetyhub.simulator.world.VirtualWorld;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ScenarioEngine 테스트 (스케줄러 없이 틱을 직접 실행)
+ */
+class ScenarioEngineTest {
+
+    @Test
+    @DisplayName("load_test.yaml은 10,000대를 여러 틱에 나누어 생성하고 count만큼 이벤트를 적용")
+    void testLoadTestScenario() {
+        Scenario scenario = new ScenarioLoader().loadFromResource("scenarios/load_test.yaml");
+        VirtualWorld world = VirtualWorld.createStandardFactory("test", "테스트 공장");
+        ScenarioEngine engine = new ScenarioEngine(world, new EventGenerator());
+        Map<String, Integer> notified = new HashMap<>();
+        List<Integer> spawnedPerTick = new ArrayList<>();
+        engine.addListener((type, data) -> {
+            notified.merge(type, 1, Integer::sum);
+            if (type.equals("ROBOTS_SPAWNED")) {
+                spawnedPerTick.add((Integer) data);
+            }
+        });
+
+        engine.loadScenario(scenario);
+        engine.prepareRun();
+        for (int second = 1; second <= 600; second++) {
+            engine.tick(false);
+        }
+
+        assertEquals(10_000, world.getRobotCount());
+        assertEquals(20, spawnedPerTick.size());
+        assertTrue(spawnedPerTick.stream().allMatch(count -> count <= ScenarioTimeline.DEFAULT_BATCH_SIZE));
+        assertEquals(10, notified.get("HEALTH_EMERGENCY"));
+        assertEquals(10, world.getRobotsInEmergency().stream().map(RobotWorker::getId).distinct().count());
+        assertEquals(3, engine.getTimeline().getRemainingSteps());  // FIRE, CLEAR_EMERGENCY, WORKER_FALL
+    }
+
+    @Test
+    @DisplayName("WORKER_FALL은 밴드 가속도 스트림의 낙상 판정을 거쳐 넘어진 작업자의 FALL_DETECTED로 발행")
+    void testWorkerFallDetectedFromWearableStream() {
+        Scenario scenario = new Scenario("test", "테스트", "", 40, 10);
+        Scenario.ScenarioEvent fall = new Scenario.ScenarioEvent(5, "WORKER_FALL");
+        fall.setData(Map.of("count", 3));
+        scenario.addEvent(fall);
+
+        VirtualWorld world = VirtualWorld.createStandardFactory("test", "테스트 공장");
+        EventGenerator eventGenerator = new EventGenerator();
+        eventGenerator.enableWearableStream(40, 7L);
+        List<SimulatorEvent> detected = new ArrayList<>();
+        eventGenerator.addListener(event -> {
+            if (event.getType().equals("FALL_DETECTED")) {
+                detected.add(event);
+            }
+        });
+        ScenarioEngine engine = new ScenarioEngine(world, eventGenerator);
+        List<Object> fallen = new ArrayList<>();
+        engine.addListener((type, data) -> {
+            if (type.equals("WORKER_FALL")) {
+                fallen.add(data);
+            }
+        });
+
+        engine.loadScenario(scenario);
+        engine.prepareRun();
+        for (int second = 1; second <= 5; second++) {
+            engine.tick(false);
+        }
+        assertEquals(3, fallen.size());
+        assertTrue(detected.isEmpty(), "낙상 전 오탐: " + detected.size());
+
+        // 자유낙하 → 충격 → 움직임 없음이 모두 지나도록 몇 초 진행
+        for (int second = 6; second <= 10; second++) {
+            engine.tick(false);
+        }
+        assertEquals(40, eventGenerator.getWearables().getAssignedCount());
+        assertEquals(Set.copyOf(fallen), detected.stream().map(SimulatorEvent::getRobotId).collect(Collectors.toSet()));
+        assertEquals(3, detected.size());
+        for (SimulatorEvent event : detected) {
+            SimulatorEvent.FallData data = (SimulatorEvent.FallData) event.getPayload();
+            assertTrue(data.peakImpactMilliG() >= 2500, "충격: " + data.peakImpactMilliG());
+            assertEquals(SimulatorEvent.EventPriority.CRITICAL, event.getPriority());
+        }
+    }
+
+    @Test
+    @DisplayName("대상 구역 인원보다 count가 크면 있는 만큼만 적용")
+    void testCountLimitedByZonePopulation() {
+        Scenario scenario = new Scenario("test", "테스트", "", 3, 10);
+        Scenario.ScenarioEvent fall = new Scenario.ScenarioEvent(5, "WORKER_FALL");
+        fall.setTargetZone("ZONE_A");
+        fall.setData(Map.of("count", 50));
+        scenario.addEvent(fall);
+
+        VirtualWorld world = VirtualWorld.createStandardFactory("test", "테스트 공장");
+        ScenarioEngine engine = new ScenarioEngine(world, new EventGenerator());
+        List<Object> fallen = new ArrayList<>();
+        engine.addListener((type, data) -> {
+            if (type.equals("WORKER_FALL")) {
+                fallen.add(data);
+            }
+        });
+
+        engine.loadScenario(scenario);
+        engine.prepareRun();
+        for (int second = 1; second <= 5; second++) {
+            engine.tick(false);
+        }
+
+        assertEquals(world.getZoneOccupancy("ZONE_A"), fallen.size());
+        assertEquals(fallen.size(), fallen.stream().distinct().count());
+        assertTrue(engine.getTimeline().isFinished());
+    }
+
+    @Test
+    @DisplayName("스냅샷을 복원한 뒤 같은 시나리오로 시작하면 경과 시간 지점부터 남은 단계만 실행")
+    void testResumeFromSnapshot() throws IOException {
+        Scenario scenario = new Scenario("test", "테스트", "", 40, 10);
+        Scenario.ScenarioEvent fire = new Scenario.ScenarioEvent(5, "FIRE");
+        fire.setTargetZone("ZONE_A");
+        scenario.addEvent(fire);
+        scenario.addEvent(new Scenario.ScenarioEvent(20, "CLEAR_EMERGENCY"));
+
+        VirtualWorld world = VirtualWorld.createStandardFactory("test", "테스트 공장");
+        ScenarioEngine engine = new ScenarioEngine(world, new EventGenerator());
+        engine.loadScenario(scenario);
+        engine.prepareRun();
+        for (int second = 1; second <= 10; second++) {
+            engine.tick(false);
+        }
+        ByteArrayOutputStream snapshot = new ByteArrayOutputStream();
+        engine.captureSnapshot(snapshot);
+
+        VirtualWorld forkWorld = VirtualWorld.createStandardFactory("test", "테스트 공장");
+        ScenarioEngine fork = new ScenarioEngine(forkWorld, new EventGenerator());
+        fork.loadScenario(scenario);
+        fork.restoreSnapshot(new ByteArrayInputStream(snapshot.toByteArray()));
+        fork.prepareRun();
+
+        assertEquals(10, fork.getElapsedSeconds());
+        assertEquals(world.getSimulationTime(), forkWorld.getSimulationTime());
+        assertEquals(40, forkWorld.getRobotCount());
+        assertTrue(forkWorld.isEmergencyMode());
+        assertEquals(1, fork.getTimeline().getRemainingSteps());  // CLEAR_EMERGENCY
+
+        for (int second = 11; second <= 20; second++) {
+            fork.tick(false);
+        }
+        assertFalse(forkWorld.isEmergencyMode());
+        assertTrue(fork.getTimeline().isFinished());
+    }
+
+    @Test
+    @DisplayName("실행 중에는 스냅샷을 복원할 수 없음")
+    void testRestoreWhileRunning() throws IOException {
+        VirtualWorld world = VirtualWorld.createStandardFactory("test", "테스트 공장");
+        ScenarioEngine engine = new ScenarioEngine(world, new EventGenerator());
+        engine.loadScenario(new Scenario("test", "테스트", "", 3, 5));
+        ByteArrayOutputStream snapshot = new ByteArrayOutputStream();
+        engine.captureSnapshot(snapshot);
+
+        engine.prepareRun();
+
+        assertThrows(IllegalStateException.class,
+                () -> engine.restoreSnapshot(new ByteArrayInputStream(snapshot.toByteArray())));
+    }
+}
@@ -0,0 +1,69 @@
+package com.safetyhub.simulator.scenario;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ScenarioTimeline 테스트
+ */
+class ScenarioTimelineTest {
+
+    @Test
+    @DisplayName("이벤트는 시각 순으로, 같은 시각이면 적힌 순서대로 실행")
+    void testStepsAreTimeOrdered() {
+        Scenario scenario = new Scenario("test", "테스트", "", 0, 10);
+        scenario.addEvent(new Scenario.ScenarioEvent(30, "CLEAR_EMERGENCY"));
+        scenario.addEvent(new Scenario.ScenarioEvent(10, "FIRE"));
+        scenario.addEvent(new Scenario.ScenarioEvent(10, "GAS_LEAK"));
+
+        ScenarioTimeline timeline = ScenarioTimeline.compile(scenario);
+        List<String> executed = new ArrayList<>();
+
+        assertEquals(0, timeline.advance(9, step -> executed.add(step.eventType())));
+        assertEquals(2, timeline.advance(10, step -> executed.add(step.eventType())));
+        assertEquals(30, timeline.getNextSecond());
+        assertEquals(1, timeline.advance(45, step -> executed.add(step.eventType())));
+
+        assertEquals(List.of("FIRE", "GAS_LEAK", "CLEAR_EMERGENCY"), executed);
+        assertTrue(timeline.isFinished());
+        assertEquals(-1, timeline.getNextSecond());
+    }
+
+    @Test
+    @DisplayName("robotCount는 배치 크기로 나뉜 SPAWN_ROBOTS 단계가 됨")
+    void testRobotCountSplitIntoBatches() {
+        Scenario scenario = new Scenario("test", "테스트", "", 1_200, 10);
+
+        ScenarioTimeline timeline = ScenarioTimeline.compile(scenario, 500);
+        List<ScenarioTimeline.Step> steps = new ArrayList<>();
+        timeline.advance(100, steps::add);
+
+        assertEquals(3, steps.size());
+        assertEquals(List.of(1, 2, 3), steps.stream().map(ScenarioTimeline.Step::second).toList());
+        assertEquals(List.of(500, 500, 200), steps.stream().map(ScenarioTimeline.Step::count).toList());
+        assertTrue(steps.stream().allMatch(step -> step.eventType().equals(ScenarioTimeline.SPAWN_ROBOTS)));
+    }
+
+    @Test
+    @DisplayName("data.count를 반영하고 없으면 1")
+    void testEventCount() {
+        Scenario.ScenarioEvent fall = new Scenario.ScenarioEvent(5, "WORKER_FALL");
+        fall.setData(Map.of("count", 5, "message", "낙상"));
+        Scenario.ScenarioEvent text = new Scenario.ScenarioEvent(5, "WORKER_FALL");
+        text.setData(Map.of("count", "3"));
+        Scenario.ScenarioEvent single = new Scenario.ScenarioEvent(5, "FIRE");
+        Scenario.ScenarioEvent invalid = new Scenario.ScenarioEvent(5, "FIRE");
+        invalid.setData(Map.of("count", 0));
+
+        assertEquals(5, ScenarioTimeline.countOf(fall));
+        assertEquals(3, ScenarioTimeline.countOf(text));
+        assertEquals(1, ScenarioTimeline.countOf(single));
+        assertThrows(IllegalArgumentException.class, () -> ScenarioTimeline.countOf(invalid));
+    }
+}
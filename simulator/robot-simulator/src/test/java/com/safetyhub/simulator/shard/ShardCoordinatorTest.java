@@ -0,0 +1,271 @@
+package com.safetyhub.simulator.shard;
+
+import com.safetyhub.simulator.event.SimulatorEvent;
+import com.safetyhub.simulator.publisher.EventPublisher;
+import com.safetyhub.simulator.scenario.Scenario;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ShardCoordinator 테스트
+ */
+class ShardCoordinatorTest {
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("로봇이 구역을 맡은 샤드에 나뉘고 대피로 구역을 옮기면 다른 샤드로 넘어감")
+    void testSpawnAndHandoff() throws IOException {
+        Scenario scenario = new Scenario("shard-test", "샤드 테스트", "", 2000, 1);
+        Scenario.ScenarioEvent fire = new Scenario.ScenarioEvent(5, "FIRE");
+        fire.setTargetZone("ZONE_A");
+        scenario.addEvent(fire);
+
+        ThreadShardLauncher launcher = new ThreadShardLauncher(shard -> null);
+        ShardCoordinator coordinator = new ShardCoordinator(scenario, 3, launcher);
+        coordinator.connect();
+        try {
+            for (int i = 0; i < 4; i++) {
+                coordinator.tick(false);  // 500대씩 4초에 걸쳐 생성
+            }
+            assertEquals(2000, coordinator.getTotalRobots());
+            assertOccupancyOwnedByShards(coordinator);
+
+            for (int i = 0; i < 56; i++) {
+                coordinator.tick(false);
+            }
+            Map<String, Object> metrics = coordinator.getMetrics();
+
+            assertEquals(2000, coordinator.getTotalRobots());
+            assertEquals(60L, metrics.get("ticks"));
+            assertEquals(3, metrics.get("shardCount"));
+            assertEquals("08:01", metrics.get("simulationTime"));
+            assertTrue((Long) metrics.get("handoffs") > 0, "handoffs: " + metrics.get("handoffs"));
+            assertTrue((Long) metrics.get("totalEvents") > 0);
+            assertFalse(coordinator.isRunning(), "1분 시나리오는 60틱 후 종료");
+
+            // 샤드별 수치의 합이 전체와 같음
+            List<Map<String, Object>> shards = (List<Map<String, Object>>) metrics.get("shards");
+            assertEquals(3, shards.size());
+            assertEquals(2000L, shards.stream().mapToLong(shard -> (Long) shard.get("robots")).sum()
+                    + (Long) metrics.get("inTransit"));
+            assertEquals(metrics.get("totalEvents"), shards.stream().mapToLong(shard -> (Long) shard.get("events")).sum());
+            assertTrue((Double) metrics.get("maxShardTickMs") > 0);
+        } finally {
+            coordinator.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("다른 샤드로 넘어간 로봇은 직전 상태를 가져가므로 UNKNOWN 상태 변경이 다시 발생하지 않음")
+    void testHandoffKeepsEventState() throws IOException {
+        Scenario scenario = new Scenario("shard-handoff-test", "샤드 이관 테스트", "", 600, 1);
+        Scenario.ScenarioEvent fire = new Scenario.ScenarioEvent(3, "FIRE");
+        fire.setTargetZone("ZONE_A");
+        scenario.addEvent(fire);
+
+        List<SimulatorEvent> stateChanges = new CopyOnWriteArrayList<>();
+        ThreadShardLauncher launcher = new ThreadShardLauncher(shard -> new StateChangeCollector(stateChanges));
+        ShardCoordinator coordinator = new ShardCoordinator(scenario, 3, launcher);
+        coordinator.connect();
+        try {
+            for (int i = 0; i < 30; i++) {
+                coordinator.tick(false);
+            }
+            assertTrue((Long) coordinator.getMetrics().get("handoffs") > 0);
+        } finally {
+            coordinator.stop();
+        }
+
+        // 생성될 때 한 번씩만 UNKNOWN에서 시작
+        Map<String, Long> unknownByRobot = stateChanges.stream()
+                .filter(event -> "UNKNOWN".equals(((SimulatorEvent.StateChangeData) event.getPayload()).previousState()))
+                .collect(Collectors.groupingBy(SimulatorEvent::getRobotId, Collectors.counting()));
+        assertEquals(600, unknownByRobot.size());
+        assertTrue(unknownByRobot.values().stream().allMatch(count -> count == 1), "중복 UNKNOWN 상태 변경");
+    }
+
+    @Test
+    @DisplayName("정해진 시간 안에 틱에 응답하지 않는 샤드는 실패로 보고 중지")
+    void testUnresponsiveShardTimesOut() throws IOException {
+        Scenario scenario = new Scenario("shard-timeout-test", "샤드 응답 없음", "", 10, 1);
+        SilentShardLauncher launcher = new SilentShardLauncher();
+        ShardCoordinator coordinator = new ShardCoordinator(scenario, 2, launcher, 200);
+        coordinator.connect();
+        try {
+            long start = System.nanoTime();
+            coordinator.tick(false);
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+            assertFalse(coordinator.isRunning());
+            assertEquals(0L, coordinator.getMetrics().get("ticks"));
+            assertTrue(elapsedMillis < 5000, "틱 대기 시간: " + elapsedMillis + "ms");
+        } finally {
+            coordinator.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("샤드 응답을 기다리는 틱을 다른 스레드의 stop이 깨움")
+    void testStopInterruptsBlockedTick() throws Exception {
+        Scenario scenario = new Scenario("shard-stop-test", "샤드 중지", "", 10, 1);
+        SilentShardLauncher launcher = new SilentShardLauncher();
+        ShardCoordinator coordinator = new ShardCoordinator(scenario, 2, launcher, 60_000);
+        coordinator.connect();
+
+        Thread ticker = new Thread(() -> coordinator.tick(false), "blocked-tick");
+        ticker.start();
+        launcher.awaitTick();
+
+        coordinator.stop();
+        ticker.join(5000);
+        assertFalse(ticker.isAlive(), "stop 이후에도 틱이 샤드 응답을 기다림");
+        assertFalse(coordinator.isRunning());
+        assertEquals(0L, coordinator.getMetrics().get("ticks"));
+    }
+
+    @Test
+    @DisplayName("샤드 워커를 별도 프로세스로 실행")
+    void testProcessLauncher() throws IOException {
+        Scenario scenario = new Scenario("shard-process-test", "프로세스 샤드 테스트", "", 200, 1);
+        ProcessShardLauncher launcher = new ProcessShardLauncher(List.of("-Xmx128m"), List.of());
+        ShardCoordinator coordinator = new ShardCoordinator(scenario, 2, launcher);
+        coordinator.connect();
+        try {
+            for (int i = 0; i < 5; i++) {
+                coordinator.tick(false);
+            }
+            assertEquals(200, coordinator.getTotalRobots());
+            assertEquals(2, launcher.getRunningCount());
+        } finally {
+            coordinator.stop();
+        }
+        assertEquals(0, launcher.getRunningCount());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void assertOccupancyOwnedByShards(ShardCoordinator coordinator) {
+        Map<String, Integer> occupancy = (Map<String, Integer>) coordinator.getMetrics().get("zoneOccupancy");
+        assertEquals(coordinator.getPlan().getOwners().keySet(), occupancy.keySet());
+        assertEquals(2000, occupancy.values().stream().mapToInt(Integer::intValue).sum());
+    }
+
+    /**
+     * 같은 JVM의 스레드로 샤드 워커 실행
+     */
+    private static class ThreadShardLauncher implements ShardLauncher {
+        private final List<Thread> threads = new ArrayList<>();
+        private final IntFunction<EventPublisher> publishers;
+
+        ThreadShardLauncher(IntFunction<EventPublisher> publishers) {
+            this.publishers = publishers;
+        }
+
+        @Override
+        public void launch(int shardIndex, int coordinatorPort) {
+            Thread thread = new Thread(new ShardWorker(shardIndex, coordinatorPort, publishers.apply(shardIndex)),
+                    "shard-" + shardIndex);
+            thread.setDaemon(true);
+            thread.start();
+            threads.add(thread);
+        }
+
+        @Override
+        public void stopAll() {
+            for (Thread thread : threads) {
+                try {
+                    thread.join(5000);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+
+    /**
+     * 접속만 하고 TICK에 응답하지 않는 샤드
+     */
+    private static class SilentShardLauncher implements ShardLauncher {
+        private final List<Socket> sockets = new CopyOnWriteArrayList<>();
+        private final CountDownLatch ticked = new CountDownLatch(1);
+
+        @Override
+        public void launch(int shardIndex, int coordinatorPort) {
+            Thread thread = new Thread(() -> {
+                try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), coordinatorPort)) {
+                    sockets.add(socket);
+                    DataOutputStream out = new DataOutputStream(socket.getOutputStream());
+                    out.writeByte(ShardProtocol.JOIN);
+                    out.writeInt(shardIndex);
+                    out.flush();
+                    DataInputStream in = new DataInputStream(socket.getInputStream());
+                    ShardProtocol.expect(in, ShardProtocol.HELLO);
+                    ShardProtocol.readPlan(in);
+                    in.readInt();  // 위치 업데이트 주기
+                    in.readInt();  // 하트비트 주기
+                    ShardProtocol.expect(in, ShardProtocol.TICK);
+                    ticked.countDown();
+                    while (in.read() >= 0) {
+                        // 응답하지 않고 연결이 닫힐 때까지 읽기만 함
+                    }
+                } catch (IOException e) {
+                    // 코디네이터가 연결을 닫음
+                }
+            }, "silent-shard-" + shardIndex);
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        void awaitTick() throws InterruptedException {
+            assertTrue(ticked.await(10, TimeUnit.SECONDS), "TICK을 받지 못함");
+        }
+
+        @Override
+        public void stopAll() {
+            for (Socket socket : sockets) {
+                try {
+                    socket.close();
+                } catch (IOException e) {
+                    // 무시
+                }
+            }
+        }
+    }
+
+    /**
+     * 상태 변경 이벤트만 모으는 퍼블리셔
+     */
+    private static class StateChangeCollector implements EventPublisher {
+        private final List<SimulatorEvent> stateChanges;
+
+        StateChangeCollector(List<SimulatorEvent> stateChanges) {
+            this.stateChanges = stateChanges;
+        }
+
+        @Override
+        public void publish(SimulatorEvent event) {
+            if ("STATE_CHANGE".equals(event.getType())) {
+                stateChanges.add(event);
+            }
+        }
+
+        @Override public void connect() { }
+        @Override public void disconnect() { }
+        @Override public boolean isConnected() { return true; }
+    }
+}
@@ -0,0 +1,54 @@
+package com.safetyhub.simulator.shard;
+
+import com.safetyhub.simulator.world.VirtualWorld;
+import com.safetyhub.simulator.world.Zone;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ShardPlan 테스트
+ */
+class ShardPlanTest {
+
+    private final Collection<Zone> zones =
+            VirtualWorld.createStandardFactory("test", "테스트 공장").getGridMap().getAllZones().values();
+
+    @Test
+    @DisplayName("모든 구역이 정확히 한 샤드에 배정되고 수용 인원이 고르게 나뉨")
+    void testBalancedByCapacity() {
+        ShardPlan plan = ShardPlan.byCapacity(zones, 3);
+
+        Set<String> assigned = new HashSet<>();
+        long[] load = new long[3];
+        for (int shard = 0; shard < 3; shard++) {
+            for (String zoneId : plan.zonesOf(shard)) {
+                assertTrue(assigned.add(zoneId), "중복 배정: " + zoneId);
+                load[shard] += zones.stream().filter(z -> z.getId().equals(zoneId)).findFirst().orElseThrow().getCapacity();
+            }
+        }
+        assertEquals(zones.size(), assigned.size());
+
+        int maxCapacity = zones.stream().mapToInt(Zone::getCapacity).max().orElseThrow();
+        long min = Math.min(load[0], Math.min(load[1], load[2]));
+        long max = Math.max(load[0], Math.max(load[1], load[2]));
+        assertTrue(max - min <= maxCapacity, "샤드별 수용 인원: " + load[0] + ", " + load[1] + ", " + load[2]);
+    }
+
+    @Test
+    @DisplayName("구역 밖이나 모르는 구역은 -1")
+    void testUnknownZone() {
+        ShardPlan plan = ShardPlan.of(2, Map.of("ZONE_A", 1));
+
+        assertEquals(1, plan.shardOf("ZONE_A"));
+        assertEquals(-1, plan.shardOf("ZONE_X"));
+        assertEquals(-1, plan.shardOf(null));
+        assertTrue(plan.zonesOf(0).isEmpty());
+    }
+}
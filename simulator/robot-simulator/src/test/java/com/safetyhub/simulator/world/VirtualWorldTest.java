@@ -0,0 +1,95 @@
+package com.safetyhub.simulator.world;
+
+import com.safetyhub.simulator.core.Location;
+import com.safetyhub.simulator.core.RobotWorker;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalTime;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * VirtualWorld 테스트
+ */
+class VirtualWorldTest {
+
+    @Test
+    @DisplayName("틱이 진행되는 동안 구역 인원은 위치로 다시 센 값과 항상 같음")
+    void testOccupancyMatchesRecount() {
+        VirtualWorld world = VirtualWorld.createStandardFactory("test", "테스트 공장");
+        world.spawnRobots(200);
+        world.setSimulationTime(LocalTime.of(11, 50));  // 점심 이동이 일어나는 시간대
+
+        for (int i = 0; i < 1200; i++) {
+            world.tick();
+            if (i % 100 == 0) {
+                assertEquals(recount(world), nonZero(world.getZoneOccupancy()), "tick " + i);
+            }
+        }
+        assertEquals(recount(world), nonZero(world.getZoneOccupancy()));
+    }
+
+    @Test
+    @DisplayName("로봇 추가/제거 시 기록된 구역에서 인원이 갱신됨")
+    void testAddAndRemoveRobot() {
+        VirtualWorld world = VirtualWorld.createStandardFactory("test", "테스트 공장");
+        RobotWorker robot = RobotWorker.create("Robot-1", new Location(10, 10));
+
+        world.addRobot(robot);
+
+        assertEquals(1, world.getZoneOccupancy("ZONE_A"));
+        assertEquals("ZONE_A", world.getRobotZoneId(robot.getId()));
+        assertEquals("ZONE_A", robot.getLocation().getZoneId());
+
+        world.removeRobot(robot.getId());
+
+        assertEquals(0, world.getZoneOccupancy("ZONE_A"));
+        assertNull(world.getRobotZoneId(robot.getId()));
+    }
+
+    @Test
+    @DisplayName("구역 밖에 있는 로봇은 어느 구역에도 세지 않음")
+    void testRobotOutsideZones() {
+        VirtualWorld world = VirtualWorld.createStandardFactory("test", "테스트 공장");
+        RobotWorker robot = RobotWorker.create("Robot-1", new Location(27, 40));
+
+        world.addRobot(robot);
+
+        assertNull(world.getRobotZoneId(robot.getId()));
+        assertEquals(0, world.getZoneOccupancy().values().stream().mapToInt(Integer::intValue).sum());
+        assertEquals(0, world.getZoneOccupancy("UNKNOWN"));
+    }
+
+    @Test
+    @DisplayName("로봇 10,000대로 여러 틱 돌려도 구역 인원이 위치로 다시 센 값과 같음")
+    void testTenThousandRobotTick() {
+        VirtualWorld world = VirtualWorld.createStandardFactory("test", "테스트 공장");
+        world.spawnRobots(10_000);
+        world.setSimulationTime(LocalTime.of(10, 0));  // 작업 시간 (이동 없음)
+        for (int i = 0; i < 70; i++) {
+            world.tick();
+        }
+
+        assertEquals(recount(world), nonZero(world.getZoneOccupancy()));
+    }
+
+    private static Map<String, Integer> recount(VirtualWorld world) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (RobotWorker robot : world.getAllRobots()) {
+            String zoneId = world.getGridMap().getZoneId(robot.getLocation());
+            if (zoneId != null) {
+                counts.merge(zoneId, 1, Integer::sum);
+            }
+        }
+        return counts;
+    }
+
+    private static Map<String, Integer> nonZero(Map<String, Integer> occupancy) {
+        Map<String, Integer> result = new HashMap<>(occupancy);
+        result.values().removeIf(count -> count == 0);
+        return result;
+    }
+}
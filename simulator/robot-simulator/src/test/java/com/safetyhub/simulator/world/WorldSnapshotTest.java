@@ -0,0 +1,149 @@
+package com.safetyhub.simulator.world;
+
+import com.safetyhub.simulator.core.RobotWorker;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * WorldSnapshot 테스트
+ */
+class WorldSnapshotTest {
+
+    @Test
+    @DisplayName("복원한 월드는 로봇, 경로, 배터리, 구역 인원, 틱 카운터가 원본과 같음")
+    void testRoundTrip() throws IOException {
+        VirtualWorld world = VirtualWorld.createStandardFactory("test", "테스트 공장");
+        world.spawnRobots(300);
+        world.setSimulationTime(LocalTime.of(9, 30));
+        world.getGridMap().setWall(40, 30, 45, 30);
+        for (int i = 0; i < 20; i++) {
+            world.tick();
+        }
+        world.triggerEmergency("ZONE_B");
+        world.tick();
+
+        VirtualWorld restored = VirtualWorld.createStandardFactory("test", "테스트 공장");
+        restored.spawnRobots(5);
+        WorldSnapshot.restore(restored, WorldSnapshot.capture(world));
+
+        assertEquals(describe(world), describe(restored));
+        assertEquals(world.getZoneOccupancy(), restored.getZoneOccupancy());
+        assertEquals(world.getTickCount(), restored.getTickCount());
+        assertEquals(world.getSimulationTime(), restored.getSimulationTime());
+        assertTrue(restored.isEmergencyMode());
+        assertEquals("ZONE_B", restored.getEmergencyZoneId());
+        assertTrue(restored.getGridMap().getZone("ZONE_B").isHazardous());
+        assertEquals(GridMap.CellType.WALL, restored.getGridMap().getCell(42, 30));
+    }
+
+    @Test
+    @DisplayName("복원한 월드에서 이어 실행하면 원본을 계속 실행한 것과 같음 (경로, 난수 상태 포함)")
+    void testDeterministicContinuation() throws IOException {
+        VirtualWorld world = VirtualWorld.createStandardFactory("test", "테스트 공장");
+        world.spawnRobots(200);
+        for (int i = 0; i < 10; i++) {
+            world.tick();
+        }
+        world.triggerEmergency("ZONE_A");  // 대피 경로를 따라 이동 중인 상태에서 저장
+        world.tick();
+
+        VirtualWorld fork = VirtualWorld.createStandardFactory("test", "테스트 공장");
+        WorldSnapshot.restore(fork, WorldSnapshot.capture(world));
+
+        for (int i = 0; i < 60; i++) {
+            world.tick();
+            fork.tick();
+        }
+
+        assertEquals(describe(world), describe(fork));
+        assertEquals(world.getZoneOccupancy(), fork.getZoneOccupancy());
+        assertTrue(fork.getEvacuatedCount() > 0, "대피소에 도착한 로봇이 있어야 함");
+    }
+
+    @Test
+    @DisplayName("다른 크기의 맵에는 복원할 수 없음")
+    void testMapSizeMismatch() {
+        VirtualWorld world = VirtualWorld.createStandardFactory("test", "테스트 공장");
+        byte[] snapshot = WorldSnapshot.capture(world);
+
+        assertThrows(IOException.class,
+                () -> WorldSnapshot.restore(new VirtualWorld("small", "작은 공장", 50, 50), snapshot));
+        assertThrows(IOException.class,
+                () -> WorldSnapshot.restore(world, new byte[]{0, 0, 0, 0, 0, 0}));
+    }
+
+    @Test
+    @DisplayName("잘리거나 손상된 스냅샷은 예외만 던지고 월드를 바꾸지 않음")
+    void testCorruptSnapshotLeavesWorldUntouched() {
+        VirtualWorld source = VirtualWorld.createStandardFactory("test", "테스트 공장");
+        source.spawnRobots(100);
+        source.tick();
+        byte[] snapshot = WorldSnapshot.capture(source);
+
+        VirtualWorld target = VirtualWorld.createStandardFactory("test", "테스트 공장");
+        target.spawnRobots(20);
+        target.setSimulationTime(LocalTime.of(7, 0));
+        Map<String, String> before = describe(target);
+        Map<String, Integer> occupancyBefore = target.getZoneOccupancy();
+
+        // 구역 인원 직전에서 잘림 (로봇까지는 읽을 수 있음)
+        assertThrows(IOException.class,
+                () -> WorldSnapshot.restore(target, Arrays.copyOf(snapshot, snapshot.length - 8)));
+        // 마지막 구역 인원 값을 바꿈 (레이아웃 불일치)
+        byte[] mismatched = snapshot.clone();
+        mismatched[mismatched.length - 1] ^= 0x7F;
+        assertThrows(IOException.class, () -> WorldSnapshot.restore(target, mismatched));
+
+        assertEquals(before, describe(target));
+        assertEquals(occupancyBefore, target.getZoneOccupancy());
+        assertEquals(LocalTime.of(7, 0), target.getSimulationTime());
+        assertFalse(target.isEmergencyMode());
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("로봇 10,000대 스냅샷 저장+복원이 100ms 이내")
+    void testTenThousandRobots() throws IOException {
+        VirtualWorld world = VirtualWorld.createStandardFactory("test", "테스트 공장");
+        world.spawnRobots(10_000);
+        world.tick();
+        VirtualWorld restored = VirtualWorld.createStandardFactory("test", "테스트 공장");
+        for (int i = 0; i < 20; i++) {  // 워밍업 (JIT 컴파일)
+            WorldSnapshot.restore(restored, WorldSnapshot.capture(world));
+        }
+
+        // 앞선 테스트가 남긴 객체의 GC가 섞이지 않도록 정리하고 여러 번 중 가장 빠른 시간으로 판정
+        System.gc();
+        long bestNanos = Long.MAX_VALUE;
+        for (int i = 0; i < 10; i++) {
+            long start = System.nanoTime();
+            WorldSnapshot.restore(restored, WorldSnapshot.capture(world));
+            bestNanos = Math.min(bestNanos, System.nanoTime() - start);
+        }
+
+        assertEquals(10_000, restored.getRobotCount());
+        assertEquals(world.getZoneOccupancy(), restored.getZoneOccupancy());
+        assertTrue(bestNanos / 1_000_000 < 100, "저장+복원 시간(ms): " + bestNanos / 1_000_000);
+    }
+
+    private static Map<String, String> describe(VirtualWorld world) {
+        Map<String, String> robots = new TreeMap<>();
+        for (RobotWorker robot : world.getAllRobots()) {
+            robots.put(robot.getId(), robot.getName() + " " + robot.getLocation().getX() + "," + robot.getLocation().getY()
+                    + " " + robot.getLocation().getZoneId() + " " + robot.getState() + " " + robot.getHealthStatus()
+                    + " battery=" + robot.getBatteryLevel() + " hr=" + robot.getHeartRate()
+                    + " temp=" + robot.getBodyTemperature() + " path=" + robot.getRemainingPath()
+                    + " random=" + robot.getRandomState());
+        }
+        return robots;
+    }
+}